@@ -0,0 +1,209 @@
+package org.project.monewping.domain.article.batch;
+
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.project.monewping.domain.article.dto.response.ArticleRestoreJobDto;
+import org.project.monewping.domain.article.exception.ArticleRestoreJobNotFoundException;
+import org.project.monewping.domain.article.exception.ArticleRestoreJobStateException;
+import org.project.monewping.domain.article.service.ArticleRestoreService;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.job.builder.SimpleJobBuilder;
+import org.springframework.batch.core.launch.support.TaskExecutorJobLauncher;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * 날짜 범위 뉴스 기사 복구를 Spring Batch Job으로 비동기 실행하고 진행 상황을 조회합니다.
+ *
+ * <p>Job은 요청마다 날짜별 Step으로 구성되며, 각 Step은 {@link ArticleRestoreTasklet}으로
+ * 청크 단위 커밋을 합니다. 중지는 청크 경계에서 반영되고, 재시작 시 같은 Job 파라미터로 다시 실행하여
+ * 완료된 날짜는 건너뛰고 중단된 날짜의 마지막 커밋 이후부터 이어서 복구합니다.</p>
+ */
+@Slf4j
+@Component
+public class ArticleRestoreJobLauncher {
+
+    static final String JOB_NAME = "articleRestoreJob";
+    private static final String STEP_NAME_PREFIX = "articleRestoreStep-";
+
+    private final ArticleRestoreService restoreService;
+    private final JobRepository jobRepository;
+    private final JobExplorer jobExplorer;
+    private final PlatformTransactionManager transactionManager;
+    private final int chunkSize;
+    private final TaskExecutorJobLauncher jobLauncher;
+
+    public ArticleRestoreJobLauncher(
+        ArticleRestoreService restoreService,
+        JobRepository jobRepository,
+        JobExplorer jobExplorer,
+        PlatformTransactionManager transactionManager,
+        @Value("${monewping.backup.restore.chunk-size:500}") int chunkSize
+    ) throws Exception {
+        this.restoreService = restoreService;
+        this.jobRepository = jobRepository;
+        this.jobExplorer = jobExplorer;
+        this.transactionManager = transactionManager;
+        this.chunkSize = chunkSize;
+
+        this.jobLauncher = new TaskExecutorJobLauncher();
+        this.jobLauncher.setJobRepository(jobRepository);
+        this.jobLauncher.setTaskExecutor(new SimpleAsyncTaskExecutor("article-restore-job-"));
+        this.jobLauncher.afterPropertiesSet();
+    }
+
+    /**
+     * 날짜 범위 복구 작업을 백그라운드에서 시작합니다.
+     *
+     * @param from 복구 시작일 (포함)
+     * @param to 복구 종료일 (포함)
+     * @return 시작된 복구 작업 정보
+     * @throws IllegalArgumentException 시작일이 종료일보다 늦을 경우
+     */
+    public ArticleRestoreJobDto launch(LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("복구 시작일(from)은 종료일(to)보다 빠르거나 같아야 합니다.");
+        }
+
+        // 같은 범위도 다시 복구할 수 있도록 요청 시각을 식별 파라미터에 포함
+        JobParameters params = new JobParametersBuilder()
+            .addLocalDate("from", from)
+            .addLocalDate("to", to)
+            .addLong("requestedAt", System.currentTimeMillis())
+            .toJobParameters();
+
+        return run(params);
+    }
+
+    /**
+     * 복구 작업의 진행 상황을 조회합니다.
+     *
+     * @param jobExecutionId 배치 실행 ID
+     * @throws ArticleRestoreJobNotFoundException 복구 작업이 없는 경우
+     */
+    public ArticleRestoreJobDto getJob(Long jobExecutionId) {
+        return toDto(findExecution(jobExecutionId));
+    }
+
+    /**
+     * 실행 중인 복구 작업에 중지를 요청합니다. 진행 중인 청크가 커밋된 뒤 STOPPED 상태가 됩니다.
+     *
+     * @param jobExecutionId 배치 실행 ID
+     * @throws ArticleRestoreJobStateException 실행 중이 아닌 경우
+     */
+    public ArticleRestoreJobDto stop(Long jobExecutionId) {
+        JobExecution execution = findExecution(jobExecutionId);
+        if (execution.getStatus() != BatchStatus.STARTING && execution.getStatus() != BatchStatus.STARTED) {
+            throw new ArticleRestoreJobStateException(jobExecutionId, execution.getStatus().name(), "중지");
+        }
+
+        execution.setStatus(BatchStatus.STOPPING);
+        jobRepository.update(execution);
+        log.info("[Restore] 복구 작업 중지 요청 - executionId: {}", jobExecutionId);
+
+        return toDto(execution);
+    }
+
+    /**
+     * 중지되었거나 실패한 복구 작업을 마지막으로 커밋된 청크 이후부터 다시 실행합니다.
+     *
+     * @param jobExecutionId 배치 실행 ID
+     * @return 새로 시작된 실행 정보
+     * @throws ArticleRestoreJobStateException 중지 또는 실패 상태가 아닌 경우
+     */
+    public ArticleRestoreJobDto restart(Long jobExecutionId) {
+        JobExecution execution = findExecution(jobExecutionId);
+        if (execution.getStatus() != BatchStatus.STOPPED && execution.getStatus() != BatchStatus.FAILED) {
+            throw new ArticleRestoreJobStateException(jobExecutionId, execution.getStatus().name(), "재시작");
+        }
+
+        return run(execution.getJobParameters());
+    }
+
+    private ArticleRestoreJobDto run(JobParameters params) {
+        LocalDate from = params.getLocalDate("from");
+        LocalDate to = params.getLocalDate("to");
+
+        try {
+            JobExecution execution = jobLauncher.run(buildJob(from, to), params);
+            log.info("[Restore] 복구 작업 시작 - from: {}, to: {}, executionId: {}", from, to, execution.getId());
+            return toDto(execution);
+        } catch (Exception e) {
+            log.error("[Restore] 복구 작업 시작 실패 - from: {}, to: {}", from, to, e);
+            throw new IllegalStateException("복구 작업을 시작할 수 없습니다: " + from + " ~ " + to, e);
+        }
+    }
+
+    // 재시작 시에도 같은 Step 이름이 만들어지도록 날짜로 Step 이름을 정함
+    private Job buildJob(LocalDate from, LocalDate to) {
+        List<Step> steps = from.datesUntil(to.plusDays(1))
+            .map(date -> new StepBuilder(STEP_NAME_PREFIX + date, jobRepository)
+                .tasklet(new ArticleRestoreTasklet(date, restoreService, chunkSize), transactionManager)
+                .build())
+            .toList();
+
+        SimpleJobBuilder builder = new JobBuilder(JOB_NAME, jobRepository).start(steps.get(0));
+        steps.stream().skip(1).forEach(builder::next);
+        return builder.build();
+    }
+
+    private JobExecution findExecution(Long jobExecutionId) {
+        JobExecution execution = jobExplorer.getJobExecution(jobExecutionId);
+        if (execution == null || !JOB_NAME.equals(execution.getJobInstance().getJobName())) {
+            throw new ArticleRestoreJobNotFoundException(jobExecutionId);
+        }
+        return execution;
+    }
+
+    // 같은 Job 인스턴스의 모든 실행을 모아 날짜별 최신 Step 실행 기준으로 진행 상황 계산
+    private ArticleRestoreJobDto toDto(JobExecution execution) {
+        List<JobExecution> executions = jobExplorer.getJobExecutions(execution.getJobInstance());
+        JobExecution latest = executions.stream()
+            .max(Comparator.comparing(JobExecution::getId))
+            .orElse(execution);
+
+        Map<String, StepExecution> latestSteps = new HashMap<>();
+        executions.stream()
+            .flatMap(e -> e.getStepExecutions().stream())
+            .forEach(step -> latestSteps.merge(step.getStepName(), step,
+                (a, b) -> a.getId() > b.getId() ? a : b));
+
+        int completedDays = (int) latestSteps.values().stream()
+            .filter(step -> step.getStatus() == BatchStatus.COMPLETED)
+            .count();
+        long restoredCount = latestSteps.values().stream()
+            .mapToLong(step -> step.getExecutionContext().getLong(ArticleRestoreTasklet.RESTORED_COUNT_KEY, 0L))
+            .sum();
+
+        LocalDate from = latest.getJobParameters().getLocalDate("from");
+        LocalDate to = latest.getJobParameters().getLocalDate("to");
+
+        return new ArticleRestoreJobDto(
+            latest.getId(),
+            latest.getStatus().name(),
+            from,
+            to,
+            (int) from.datesUntil(to.plusDays(1)).count(),
+            completedDays,
+            restoredCount,
+            latest.getStartTime(),
+            latest.getEndTime()
+        );
+    }
+}
@@ -0,0 +1,69 @@
+package org.project.monewping.domain.article.batch;
+
+import java.time.LocalDate;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.project.monewping.domain.article.dto.data.ArticleBackupDto;
+import org.project.monewping.domain.article.service.ArticleRestoreService;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.repeat.RepeatStatus;
+
+/**
+ * 하루치 백업을 청크 단위로 복구하는 Tasklet.
+ *
+ * <p>한 번의 {@code execute} 호출이 한 청크를 Step 트랜잭션 안에서 저장하며, 누적 복구 건수는
+ * Step 실행 컨텍스트에 함께 커밋됩니다. 재시작 시에는 이미 저장된 기사가 복구 후보에서 빠지므로
+ * 마지막으로 커밋된 청크 이후부터 이어서 진행됩니다.</p>
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class ArticleRestoreTasklet implements Tasklet {
+
+    static final String RESTORED_COUNT_KEY = "restore.restoredCount";
+
+    private final LocalDate date;
+    private final ArticleRestoreService restoreService;
+    private final int chunkSize;
+
+    private List<ArticleBackupDto> candidates;
+    private int position;
+
+    @Override
+    public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) {
+        ExecutionContext context = chunkContext.getStepContext().getStepExecution().getExecutionContext();
+
+        // 첫 청크에서 복구 후보를 한 번만 로드
+        if (candidates == null) {
+            candidates = restoreService.loadRestoreCandidates(date);
+            log.info("[Restore] 뉴스 기사 복구 시작 - 날짜 : {}, 복구 후보 : {}건", date, candidates.size());
+        }
+
+        if (position >= candidates.size()) {
+            return finish(context);
+        }
+
+        List<ArticleBackupDto> chunk = candidates.subList(position, Math.min(position + chunkSize, candidates.size()));
+        List<String> restoredIds = restoreService.restoreArticles(chunk);
+        position += chunk.size();
+
+        contribution.incrementReadCount();
+        contribution.incrementWriteCount(restoredIds.size());
+        context.putLong(RESTORED_COUNT_KEY, context.getLong(RESTORED_COUNT_KEY, 0L) + restoredIds.size());
+
+        if (position < candidates.size()) {
+            return RepeatStatus.CONTINUABLE;
+        }
+        return finish(context);
+    }
+
+    private RepeatStatus finish(ExecutionContext context) {
+        log.info("[Restore] 뉴스 기사 복구 완료 - 날짜 : {}, 복구 건수 : {}",
+            date, context.getLong(RESTORED_COUNT_KEY, 0L));
+        candidates = List.of();
+        return RepeatStatus.FINISHED;
+    }
+}
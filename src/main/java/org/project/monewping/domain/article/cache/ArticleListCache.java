@@ -0,0 +1,184 @@
+package org.project.monewping.domain.article.cache;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.project.monewping.domain.article.dto.data.ArticleDto;
+import org.project.monewping.domain.article.dto.request.ArticleSearchRequest;
+import org.project.monewping.domain.article.event.ArticleListChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 뉴스 기사 목록 첫 페이지 캐시.
+ *
+ * <p>검색어와 커서가 없는 첫 페이지 요청은 대부분의 클라이언트가 동일하게 호출하므로,
+ * 사용자 ID를 제외한 검색 조건을 키로 하여 {@link ArticleDto} 목록과 페이지 정보를 보관합니다.
+ * {@code viewedByMe}는 사용자마다 다르므로 캐시에는 항상 {@code false}로 저장하고,
+ * 조회 시점에 서비스에서 병합합니다.</p>
+ *
+ * <p>기사 수집, 논리/물리 삭제, 백업 복구, 파티션 보관 시 {@link ArticleListChangedEvent}가 커밋된 후 전체 무효화하며,
+ * 조회수·댓글 수 같은 카운터 변경은 TTL 만료로 반영됩니다.
+ * 트랜잭션 안에서 무효화하면 커밋 전의 목록이 다시 캐시될 수 있으므로 커밋 후에만 무효화합니다.
+ * 또한 무효화 전에 조회를 시작한 요청이 무효화 후에 예전 목록을 저장하지 않도록,
+ * 무효화마다 세대를 올리고 조회 시작 시점의 세대가 그대로일 때만 저장합니다.</p>
+ */
+@Slf4j
+@Component
+public class ArticleListCache {
+
+    private final Map<Key, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+    private final Duration ttl;
+    private final int maxEntries;
+    private final Clock clock;
+
+    public ArticleListCache(
+        @Value("${monewping.article.list-cache.ttl:PT30S}") Duration ttl,
+        @Value("${monewping.article.list-cache.max-entries:256}") int maxEntries
+    ) {
+        this(ttl, maxEntries, Clock.systemUTC());
+    }
+
+    ArticleListCache(Duration ttl, int maxEntries, Clock clock) {
+        this.ttl = ttl;
+        this.maxEntries = maxEntries;
+        this.clock = clock;
+    }
+
+    /**
+     * 캐시 대상 요청인지 판단합니다.
+     * 검색어, 커서, after 값이 모두 비어 있는 첫 페이지 요청만 캐시합니다.
+     *
+     * @param request 검색 요청
+     * @return 캐시 대상 여부
+     */
+    public boolean isCacheable(ArticleSearchRequest request) {
+        return (request.keyword() == null || request.keyword().isBlank())
+            && request.cursor() == null
+            && request.after() == null;
+    }
+
+    /**
+     * 캐시된 첫 페이지를 조회합니다. 만료된 항목은 제거 후 빈 값을 반환합니다.
+     *
+     * @param request 검색 요청
+     * @return 캐시된 페이지 (없거나 만료되면 empty)
+     */
+    public Optional<CachedPage> get(ArticleSearchRequest request) {
+        if (!isCacheable(request)) {
+            return Optional.empty();
+        }
+        Key key = Key.from(request);
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return Optional.empty();
+        }
+        if (entry.expiresAt().isBefore(clock.instant())) {
+            entries.remove(key, entry);
+            return Optional.empty();
+        }
+        return Optional.of(entry.page());
+    }
+
+    /**
+     * 현재 캐시 세대를 반환합니다. DB 조회 전에 읽어 {@link #put}에 전달합니다.
+     */
+    public long generation() {
+        return generation.get();
+    }
+
+    /**
+     * 첫 페이지 결과를 캐시에 저장합니다.
+     * 조회를 시작한 뒤 무효화가 있었다면 저장하지 않으며, 저장 한도를 넘으면 전체를 비운 뒤 저장합니다.
+     *
+     * @param request    검색 요청
+     * @param page       사용자별 정보가 제거된 페이지
+     * @param generation 조회 시작 전에 읽은 캐시 세대
+     */
+    public void put(ArticleSearchRequest request, CachedPage page, long generation) {
+        if (!isCacheable(request) || generation != this.generation.get()) {
+            return;
+        }
+        if (entries.size() >= maxEntries) {
+            log.debug("[ArticleListCache] 최대 항목 수 초과로 캐시 초기화 - size: {}", entries.size());
+            entries.clear();
+        }
+        entries.put(Key.from(request), new Entry(page, clock.instant().plus(ttl)));
+        // 저장과 무효화가 엇갈렸으면 방금 저장한 항목을 제거
+        if (generation != this.generation.get()) {
+            entries.remove(Key.from(request));
+        }
+    }
+
+    /**
+     * 기사 목록 구성이 바뀐 트랜잭션이 커밋되면 캐시 전체를 무효화합니다.
+     * 트랜잭션 밖에서 발행되면 즉시 실행됩니다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onArticleListChanged(ArticleListChangedEvent event) {
+        invalidateAll();
+    }
+
+    /**
+     * 캐시 전체를 무효화합니다.
+     */
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        if (!entries.isEmpty()) {
+            log.debug("[ArticleListCache] 캐시 무효화 - size: {}", entries.size());
+            entries.clear();
+        }
+    }
+
+    /**
+     * 캐시되는 페이지 정보. {@code content}의 {@code viewedByMe}는 항상 {@code false}입니다.
+     */
+    public record CachedPage(
+        List<ArticleDto> content,
+        String nextCursor,
+        String nextAfter,
+        long totalElements,
+        boolean hasNext
+    ) {
+
+    }
+
+    private record Entry(CachedPage page, Instant expiresAt) {
+
+    }
+
+    /**
+     * 사용자 ID를 제외하고 정규화한 검색 조건 키.
+     * 출처 목록은 순서와 중복에 무관하도록 정렬·중복 제거합니다.
+     */
+    private record Key(
+        UUID interestId,
+        List<String> sourceIn,
+        LocalDateTime publishDateFrom,
+        LocalDateTime publishDateTo,
+        String orderBy,
+        String direction,
+        int limit
+    ) {
+
+        static Key from(ArticleSearchRequest request) {
+            List<String> sources = request.sourceIn() == null
+                ? List.of()
+                : request.sourceIn().stream().distinct().sorted().toList();
+            String orderBy = request.orderBy() == null ? "publishDate" : request.orderBy();
+            String direction = request.direction() == null ? "DESC" : request.direction().toUpperCase();
+            return new Key(request.interestId(), sources, request.publishDateFrom(),
+                request.publishDateTo(), orderBy, direction, request.limit());
+        }
+    }
+}
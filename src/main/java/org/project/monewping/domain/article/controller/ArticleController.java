@@ -9,12 +9,16 @@ import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.project.monewping.domain.article.batch.ArticleRestoreJobLauncher;
 import org.project.monewping.domain.article.dto.data.ArticleDto;
 import org.project.monewping.domain.article.dto.data.ArticleViewDto;
 import org.project.monewping.domain.article.dto.request.ArticleSearchRequest;
-import org.project.monewping.domain.article.dto.response.ArticleRestoreResultDto;
+import org.project.monewping.domain.article.dto.response.ArticleBackupVerificationDto;
+import org.project.monewping.domain.article.dto.response.ArticleRestoreJobDto;
 import org.project.monewping.domain.article.exception.ArticleNotFoundException;
-import org.project.monewping.domain.article.service.ArticleRestoreService;
+import org.project.monewping.domain.article.exception.ArticleRestoreJobNotFoundException;
+import org.project.monewping.domain.article.exception.ArticleRestoreJobStateException;
+import org.project.monewping.domain.article.service.ArticleBackupVerificationService;
 import org.project.monewping.domain.article.service.ArticleViewsService;
 import org.project.monewping.domain.article.service.ArticlesService;
 import org.project.monewping.global.dto.CursorPageResponse;
@@ -43,7 +47,8 @@ public class ArticleController {
 
     private final ArticleViewsService articleViewsService;
     private final ArticlesService articlesService;
-    private final ArticleRestoreService articleRestoreService;
+    private final ArticleRestoreJobLauncher articleRestoreJobLauncher;
+    private final ArticleBackupVerificationService articleBackupVerificationService;
 
     /**
      * 특정 뉴스 기사에 대해 사용자의 조회 기록을 등록한다.
@@ -137,21 +142,41 @@ public class ArticleController {
     }
 
     /**
-     * 유실된 뉴스 기사 데이터를 지정된 날짜 범위(from ~ to) 내에서 복구합니다.
+     * 지정된 날짜 범위(from ~ to)의 뉴스 기사 백업을 매니페스트와 대조하여 무결성을 검증합니다.
      *
-     * <p>요청 파라미터는 ISO 8601 형식의 문자열(예: {@code 2025-07-25T00:00:00})을 받으며,
-     * 서버 내부에서 날짜(LocalDate) 단위로 변환되어 처리됩니다.
+     * @param fromRaw 검증 시작 날짜/시간 문자열 (예: {@code 2025-07-25T00:00:00})
+     * @param toRaw   검증 종료 날짜/시간 문자열 (예: {@code 2025-07-27T23:59:59})
+     * @return 날짜별 검증 결과 리스트 (VALID, CORRUPTED, MISSING, ERROR).
+     *         파라미터가 잘못되었거나 순서가 잘못되면 400 Bad Request 반환.
+     */
+    @GetMapping("/backup/verify")
+    public ResponseEntity<List<ArticleBackupVerificationDto>> verifyBackups(
+        @RequestParam("from") String fromRaw,
+        @RequestParam("to") String toRaw) {
+
+        LocalDate from = parseToLocalDate(fromRaw);
+        LocalDate to = parseToLocalDate(toRaw);
+
+        if (from == null || to == null || from.isAfter(to)) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        return ResponseEntity.ok(articleBackupVerificationService.verifyBackups(from, to));
+    }
+
+    /**
+     * 지정된 날짜 범위(from ~ to)의 뉴스 기사 복구를 배치 작업으로 시작하고 바로 응답합니다.
      *
-     * <p>범위 내 날짜별로 백업된 JSON 파일을 S3에서 로드하고,
-     * DB에 존재하지 않는 기사만 필터링하여 복구합니다.
+     * <p>범위가 넓어 요청 시간 안에 끝나지 않는 복구에 사용하며,
+     * 반환된 {@code jobExecutionId}로 진행 상황을 조회하거나 중지/재시작할 수 있습니다.
      *
      * @param fromRaw 복구 시작 날짜/시간 문자열 (예: {@code 2025-07-25T00:00:00})
      * @param toRaw   복구 종료 날짜/시간 문자열 (예: {@code 2025-07-27T23:59:59})
-     * @return 날짜별 복구 결과 리스트. 각 요소는 복구된 날짜, 기사 ID 목록, 복구 건수를 포함.
+     * @return HTTP 202 (Accepted)와 시작된 복구 작업 정보.
      *         파라미터가 잘못되었거나 순서가 잘못되면 400 Bad Request 반환.
      */
-    @GetMapping("/restore")
-    public ResponseEntity<List<ArticleRestoreResultDto>> restoreArticles(
+    @PostMapping("/restore/jobs")
+    public ResponseEntity<ArticleRestoreJobDto> startRestoreJob(
         @RequestParam("from") String fromRaw,
         @RequestParam("to") String toRaw) {
 
@@ -162,9 +187,46 @@ public class ArticleController {
             return ResponseEntity.badRequest().build();
         }
 
-        List<ArticleRestoreResultDto> restoreResults = articleRestoreService.restoreArticlesByRange(from, to);
+        log.info("뉴스 기사 복구 작업 시작 요청 : from = {}, to = {}", from, to);
+        return ResponseEntity.accepted().body(articleRestoreJobLauncher.launch(from, to));
+    }
+
+    /**
+     * 뉴스 기사 복구 작업의 진행 상황을 조회합니다.
+     *
+     * @param jobExecutionId 복구 작업 실행 ID
+     * @return 완료 일수와 누적 복구 건수를 포함한 복구 작업 정보
+     * @throws ArticleRestoreJobNotFoundException 복구 작업이 없을 경우 404 반환
+     */
+    @GetMapping("/restore/jobs/{jobExecutionId}")
+    public ResponseEntity<ArticleRestoreJobDto> getRestoreJob(@PathVariable Long jobExecutionId) {
+        return ResponseEntity.ok(articleRestoreJobLauncher.getJob(jobExecutionId));
+    }
+
+    /**
+     * 실행 중인 뉴스 기사 복구 작업을 중지합니다. 진행 중인 청크까지 커밋한 뒤 멈춥니다.
+     *
+     * @param jobExecutionId 복구 작업 실행 ID
+     * @return HTTP 202 (Accepted)와 복구 작업 정보
+     * @throws ArticleRestoreJobStateException 실행 중이 아닐 경우 409 반환
+     */
+    @PostMapping("/restore/jobs/{jobExecutionId}/stop")
+    public ResponseEntity<ArticleRestoreJobDto> stopRestoreJob(@PathVariable Long jobExecutionId) {
+        log.info("뉴스 기사 복구 작업 중지 요청 : jobExecutionId = {}", jobExecutionId);
+        return ResponseEntity.accepted().body(articleRestoreJobLauncher.stop(jobExecutionId));
+    }
 
-        return ResponseEntity.ok(restoreResults);
+    /**
+     * 중지되었거나 실패한 뉴스 기사 복구 작업을 마지막으로 커밋된 청크 이후부터 다시 실행합니다.
+     *
+     * @param jobExecutionId 복구 작업 실행 ID
+     * @return HTTP 202 (Accepted)와 새로 시작된 실행 정보
+     * @throws ArticleRestoreJobStateException 중지 또는 실패 상태가 아닐 경우 409 반환
+     */
+    @PostMapping("/restore/jobs/{jobExecutionId}/restart")
+    public ResponseEntity<ArticleRestoreJobDto> restartRestoreJob(@PathVariable Long jobExecutionId) {
+        log.info("뉴스 기사 복구 작업 재시작 요청 : jobExecutionId = {}", jobExecutionId);
+        return ResponseEntity.accepted().body(articleRestoreJobLauncher.restart(jobExecutionId));
     }
 
     /**
@@ -0,0 +1,41 @@
+package org.project.monewping.domain.article.dto.data;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 뉴스 기사 백업 파일에 기록되는 DTO 입니다.
+ *
+ * <p>필드 이름은 {@link ArticleDto}와 같게 유지하여 이전 백업 파일도 그대로 읽을 수 있으며,
+ * 이전 백업에 없는 {@code deleted}, {@code updatedAt}, {@code interestId}는 각각 {@code false}, {@code null}, {@code null}로 읽힙니다.</p>
+ *
+ * @param id           뉴스 기사 고유 식별자(UUID)
+ * @param source       뉴스 출처명
+ * @param sourceUrl    뉴스 기사 원본 링크(URL)
+ * @param title        뉴스 기사 제목
+ * @param publishDate  뉴스 기사 발행일시
+ * @param summary      뉴스 기사 요약
+ * @param commentCount 댓글 수
+ * @param viewCount    조회 수
+ * @param deleted      논리 삭제 여부
+ * @param updatedAt    마지막 변경 시각 (변경분 병합 시 최신 판별에 사용)
+ * @param interestId   기사가 속한 관심사 ID (복구 시 관심사 재연결에 사용)
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record ArticleBackupDto(
+    UUID id,
+    String source,
+    String sourceUrl,
+    String title,
+    LocalDateTime publishDate,
+    String summary,
+    Long commentCount,
+    Long viewCount,
+    boolean deleted,
+    Instant updatedAt,
+    UUID interestId
+) {
+
+}
@@ -0,0 +1,46 @@
+package org.project.monewping.domain.article.dto.response;
+
+import java.time.LocalDate;
+
+/**
+ * 날짜별 뉴스 기사 백업 무결성 검증 결과 DTO입니다.
+ *
+ * @param date     백업 날짜
+ * @param status   검증 결과
+ * @param rowCount 매니페스트에 기록된 기사 수, 매니페스트가 없으면 0
+ * @param detail   실패 사유 (정상이면 null)
+ */
+public record ArticleBackupVerificationDto(
+    LocalDate date,
+    Status status,
+    long rowCount,
+    String detail
+) {
+
+    public enum Status {
+        /** 크기, SHA-256, 기사 수가 매니페스트와 일치 */
+        VALID,
+        /** 백업 파일이 없거나 매니페스트와 일치하지 않음 */
+        CORRUPTED,
+        /** 매니페스트가 없음 (백업이 없거나 매니페스트 도입 이전 백업) */
+        MISSING,
+        /** 저장소 접근 실패로 검증하지 못함 */
+        ERROR
+    }
+
+    public static ArticleBackupVerificationDto valid(LocalDate date, long rowCount) {
+        return new ArticleBackupVerificationDto(date, Status.VALID, rowCount, null);
+    }
+
+    public static ArticleBackupVerificationDto corrupted(LocalDate date, long rowCount, String detail) {
+        return new ArticleBackupVerificationDto(date, Status.CORRUPTED, rowCount, detail);
+    }
+
+    public static ArticleBackupVerificationDto missing(LocalDate date) {
+        return new ArticleBackupVerificationDto(date, Status.MISSING, 0, "매니페스트가 없습니다.");
+    }
+
+    public static ArticleBackupVerificationDto error(LocalDate date, String detail) {
+        return new ArticleBackupVerificationDto(date, Status.ERROR, 0, detail);
+    }
+}
@@ -0,0 +1,34 @@
+package org.project.monewping.domain.article.dto.response;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 비동기 뉴스 기사 복구 작업의 진행 상황을 나타내는 DTO입니다.
+ *
+ * <p>재시작된 작업은 가장 최근 실행의 ID와 상태를 반환하며,
+ * 완료 일수와 복구 건수는 이전 실행에서 커밋된 청크까지 합산합니다.</p>
+ *
+ * @param jobExecutionId      가장 최근 배치 실행 ID
+ * @param status              배치 실행 상태 (STARTING, STARTED, STOPPING, STOPPED, FAILED, COMPLETED 등)
+ * @param from                복구 시작일
+ * @param to                  복구 종료일
+ * @param totalDays           전체 복구 대상 일수
+ * @param completedDays       복구를 마친 일수
+ * @param restoredArticleCount 지금까지 복구된 기사 수
+ * @param startTime           가장 최근 실행 시작 시각
+ * @param endTime             가장 최근 실행 종료 시각 (실행 중이면 null)
+ */
+public record ArticleRestoreJobDto(
+    Long jobExecutionId,
+    String status,
+    LocalDate from,
+    LocalDate to,
+    int totalDays,
+    int completedDays,
+    long restoredArticleCount,
+    LocalDateTime startTime,
+    LocalDateTime endTime
+) {
+
+}
@@ -6,6 +6,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -21,7 +22,13 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 @NoArgsConstructor
 @Entity
-@Table(name = "article_views")
+@Table(
+    name = "article_views",
+    indexes = {
+        @Index(name = "idx_article_views_user_article", columnList = "user_id, article_id"),
+        @Index(name = "idx_article_views_article", columnList = "article_id")
+    }
+)
 public class ArticleViews {
 
     @Id
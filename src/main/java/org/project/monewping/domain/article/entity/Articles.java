@@ -4,24 +4,37 @@ package org.project.monewping.domain.article.entity;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import java.time.LocalDateTime;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.DynamicUpdate;
 import org.project.monewping.domain.interest.entity.Interest;
-import org.project.monewping.global.base.BaseEntity;
+import org.project.monewping.global.base.BaseUpdatableEntity;
 
+// 댓글 수는 원자적 UPDATE로만 바뀌므로, 엔티티 수정 시 변경된 컬럼만 갱신하여 댓글 수를 덮어쓰지 않음
 @Entity
+@DynamicUpdate
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
 @SuperBuilder
-@Table
-public class Articles extends BaseEntity {
+// 파티션 테이블의 유니크 제약은 파티션 키(published_at)를 포함해야 하므로 원본 링크 전역 유일성은
+// article_links 테이블과 기사 INSERT 트리거가 보장 (V7 마이그레이션)
+@Table(
+    uniqueConstraints = @UniqueConstraint(name = "uk_article_link", columnNames = {"original_link", "published_at"}),
+    indexes = {
+        @Index(name = "idx_articles_interest_published", columnList = "interest_id, published_at"),
+        @Index(name = "idx_articles_published", columnList = "published_at"),
+        @Index(name = "idx_articles_updated", columnList = "updated_at")
+    })
+public class Articles extends BaseUpdatableEntity {
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "interest_id", nullable = false)
@@ -30,7 +43,7 @@ public class Articles extends BaseEntity {
     @Column(nullable = false, length = 30)
     private String source;
 
-    @Column(name = "original_link", nullable = false, length = 500, unique = true)
+    @Column(name = "original_link", nullable = false, length = 500)
     private String originalLink;
 
     @Column(nullable = false, length = 100)
@@ -63,12 +76,4 @@ public class Articles extends BaseEntity {
         this.viewCount++;
     }
 
-    public void increaseCommentCount() {
-        this.commentCount++;
-    }
-
-    public void decreaseCommentCount() {
-        this.commentCount--;
-    }
-
 }
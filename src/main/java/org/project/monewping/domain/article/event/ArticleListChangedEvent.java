@@ -0,0 +1,8 @@
+package org.project.monewping.domain.article.event;
+
+/**
+ * 기사 수집, 논리/물리 삭제로 기사 목록 구성이 바뀌었음을 알리는 이벤트입니다.
+ * 트랜잭션 커밋 후 기사 목록 캐시가 전체 무효화됩니다.
+ */
+public record ArticleListChangedEvent() {
+}
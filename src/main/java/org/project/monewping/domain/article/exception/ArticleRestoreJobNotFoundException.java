@@ -0,0 +1,9 @@
+package org.project.monewping.domain.article.exception;
+
+// 존재하지 않는 뉴스 기사 복구 작업을 조회할 때 발생하는 예외
+public class ArticleRestoreJobNotFoundException extends RuntimeException {
+
+    public ArticleRestoreJobNotFoundException(Long jobExecutionId) {
+        super("해당 뉴스 기사 복구 작업을 찾을 수 없습니다. [ jobExecutionId : " + jobExecutionId + " ]");
+    }
+}
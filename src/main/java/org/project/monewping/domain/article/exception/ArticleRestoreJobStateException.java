@@ -0,0 +1,10 @@
+package org.project.monewping.domain.article.exception;
+
+// 현재 상태에서 허용되지 않는 복구 작업 중지/재시작 요청 시 발생하는 예외
+public class ArticleRestoreJobStateException extends RuntimeException {
+
+    public ArticleRestoreJobStateException(Long jobExecutionId, String status, String action) {
+        super("복구 작업을 " + action + "할 수 없는 상태입니다. [ jobExecutionId : " + jobExecutionId
+            + ", status : " + status + " ]");
+    }
+}
@@ -0,0 +1,11 @@
+package org.project.monewping.domain.article.exception;
+
+import java.nio.file.Path;
+
+// 로컬 파일 시스템에서 백업 데이터를 불러오다가 실패했을 때 발생하는 예외
+public class LocalBackupLoadException extends RuntimeException {
+
+    public LocalBackupLoadException(Path path, Throwable cause) {
+        super("로컬 백업 데이터를 불러오는데 실패함 : path = " + path, cause);
+    }
+}
@@ -0,0 +1,11 @@
+package org.project.monewping.domain.article.exception;
+
+import java.nio.file.Path;
+
+// 로컬 파일 시스템에 백업 데이터 저장 중 실패 시 발생 예외
+public class LocalBackupSaveException extends RuntimeException {
+
+    public LocalBackupSaveException(Path path, Throwable cause) {
+        super("로컬 백업 데이터 저장 실패 : path = " + path, cause);
+    }
+}
@@ -4,6 +4,7 @@ import java.time.LocalDateTime;
 import org.mapstruct.InjectionStrategy;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
+import org.project.monewping.domain.article.dto.data.ArticleBackupDto;
 import org.project.monewping.domain.article.dto.data.ArticleDto;
 import org.project.monewping.domain.article.dto.request.ArticleSaveRequest;
 import org.project.monewping.domain.article.entity.Articles;
@@ -24,12 +25,19 @@ public interface ArticlesMapper {
     @Mapping(target = "withViewedByMe", ignore = true)
     ArticleDto toDto(Articles article);
 
+    @Mapping(source = "originalLink", target = "sourceUrl")
+    @Mapping(source = "publishedAt", target = "publishDate")
+    @Mapping(source = "interest.id", target = "interestId")
+    ArticleBackupDto toBackupDto(Articles article);
+
+    // 복구 시 사용하며, 새 ID로 저장되도록 식별자는 매핑하지 않음 (일괄 INSERT 대상)
+    @Mapping(target = "id", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
-    @Mapping(target = "deleted", ignore = true)
+    @Mapping(target = "updatedAt", ignore = true)
     @Mapping(target = "publishedAt", source = "publishDate")
     @Mapping(target = "originalLink", source = "sourceUrl")
     @Mapping(target = "interest", ignore = true)
-    Articles toEntity(ArticleDto dto);
+    Articles toEntity(ArticleBackupDto dto);
 
     // ⬇️ null-safe 변환용 default 메서드 추가
     default Articles safeToEntity(ArticleSaveRequest request, Interest interest) {
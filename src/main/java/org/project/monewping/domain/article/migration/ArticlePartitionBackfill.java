@@ -0,0 +1,53 @@
+package org.project.monewping.domain.article.migration;
+
+import org.project.monewping.global.migration.Backfill;
+import org.springframework.stereotype.Component;
+
+/**
+ * V3 에서 만든 월별 파티션 테이블로 기존 기사와 조회 기록을 복사한 뒤 기존 테이블과 교체하는 백필.
+ *
+ * <p>기사 id 청크마다 기사와 그 기사의 조회 기록을 함께 복사합니다. 복사 중 기존 테이블에 일어난 변경은
+ * V3 동기화 트리거가 새 테이블에 반영하며, 복사할 행을 {@code FOR SHARE}로 잠가 동시에 수정된 행의
+ * 이전 값이 새 테이블에 남지 않도록 합니다. 이미 복사된 행은 {@code ON CONFLICT DO NOTHING}으로 건너뜁니다.
+ * 모든 청크를 복사하면 {@code articles_partition_swap()}(V8)으로 교체합니다.
+ * 기존 데이터가 없어 V8 에서 이미 교체된 DB 에서는 실행할 필요가 없습니다.</p>
+ */
+@Component
+public class ArticlePartitionBackfill implements Backfill {
+
+    @Override
+    public String name() {
+        return "articles-partition";
+    }
+
+    @Override
+    public String selectChunkSql() {
+        // 동기화 트리거로 이미 옮겨진 기사도 이전 조회 기록은 복사해야 하므로 복사 여부로 거르지 않음
+        return "SELECT id FROM articles WHERE id > :lastId ORDER BY id LIMIT :limit";
+    }
+
+    @Override
+    public String updateSql() {
+        return """
+            WITH views AS (
+                INSERT INTO article_views_partitioned (id, viewed_at, user_id, article_id)
+                SELECT id, viewed_at, user_id, article_id
+                FROM article_views WHERE article_id IN (:ids)
+                FOR SHARE
+                ON CONFLICT DO NOTHING
+            )
+            INSERT INTO articles_partitioned (id, source, original_link, title, summary, published_at,
+                                              comment_count, view_count, is_deleted, created_at, updated_at, interest_id)
+            SELECT id, source, original_link, title, summary, published_at,
+                   comment_count, view_count, is_deleted, created_at, updated_at, interest_id
+            FROM articles WHERE id IN (:ids)
+            FOR SHARE
+            ON CONFLICT DO NOTHING
+            """;
+    }
+
+    @Override
+    public String completeSql() {
+        return "SELECT articles_partition_swap()";
+    }
+}
@@ -0,0 +1,26 @@
+package org.project.monewping.domain.article.migration;
+
+import org.project.monewping.global.migration.Backfill;
+import org.springframework.stereotype.Component;
+
+/**
+ * V4 이전에 저장된 기사의 {@code updated_at}을 {@code created_at}으로 채우는 백필.
+ */
+@Component
+public class ArticleUpdatedAtBackfill implements Backfill {
+
+    @Override
+    public String name() {
+        return "articles-updated-at";
+    }
+
+    @Override
+    public String selectChunkSql() {
+        return "SELECT id FROM articles WHERE id > :lastId AND updated_at IS NULL ORDER BY id LIMIT :limit";
+    }
+
+    @Override
+    public String updateSql() {
+        return "UPDATE articles SET updated_at = created_at WHERE id IN (:ids) AND updated_at IS NULL";
+    }
+}
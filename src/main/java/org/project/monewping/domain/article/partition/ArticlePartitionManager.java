@@ -0,0 +1,229 @@
+package org.project.monewping.domain.article.partition;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import lombok.extern.slf4j.Slf4j;
+import org.project.monewping.domain.article.event.ArticleListChangedEvent;
+import org.project.monewping.domain.article.service.ArticleBackupService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * articles / article_views 월별 파티션을 관리합니다.
+ *
+ * <p>파티션 이름은 {@code <부모 테이블>_pYYYYMM} 형식이며, 월 경계는 {@code zone} 기준 자정입니다.
+ * (V3 마이그레이션과 같은 기준을 사용해야 범위가 겹치지 않습니다.)
+ * 기존 테이블을 옮기는 중에는 새 파티션 테이블({@code <부모 테이블>_partitioned})에 파티션을 만들고,
+ * 교체 전에는 분리할 파티션이 없으므로 보관하지 않습니다.</p>
+ *
+ * <ul>
+ *     <li>앞으로 {@code months-ahead}개월의 파티션을 미리 생성합니다.</li>
+ *     <li>{@code retention-months}보다 오래된 기사 파티션은 날짜별로 백업한 뒤 부모 테이블에서 분리하며,
+ *     같은 달의 조회 기록 파티션도 함께 분리합니다. {@code drop-after-archive}가 true이면 분리 후 삭제합니다.</li>
+ * </ul>
+ *
+ * <p>파티션 분리는 행 삭제가 아니어서 기사 삭제 트리거(V7)가 실행되지 않으므로, 분리하는 트랜잭션에서
+ * 해당 월 기사의 원본 링크({@code article_links}), 댓글, 조회 기록을 직접 삭제합니다.
+ * 링크가 남으면 보관한 기사를 복구하거나 다시 수집할 때 링크 중복으로 저장이 거부됩니다.
+ * 분리가 커밋되면 {@link ArticleListChangedEvent}를 발행하여 기사 목록 캐시를 무효화합니다.</p>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "monewping.article.partition.enabled", havingValue = "true")
+public class ArticlePartitionManager {
+
+    static final String ARTICLES = "articles";
+    static final String ARTICLE_VIEWS = "article_views";
+    private static final DateTimeFormatter SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+    private static final Pattern IDENTIFIER = Pattern.compile("[a-z_][a-z0-9_]*");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ArticleBackupService articleBackupService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final String schema;
+    private final ZoneId zone;
+    private final int monthsAhead;
+    private final int retentionMonths;
+    private final boolean dropAfterArchive;
+
+    public ArticlePartitionManager(
+        JdbcTemplate jdbcTemplate,
+        TransactionTemplate transactionTemplate,
+        ArticleBackupService articleBackupService,
+        ApplicationEventPublisher eventPublisher,
+        @Value("${monewping.article.partition.schema:public}") String schema,
+        @Value("${monewping.article.partition.zone:Asia/Seoul}") ZoneId zone,
+        @Value("${monewping.article.partition.months-ahead:3}") int monthsAhead,
+        @Value("${monewping.article.partition.retention-months:0}") int retentionMonths,
+        @Value("${monewping.article.partition.drop-after-archive:false}") boolean dropAfterArchive
+    ) {
+        if (!IDENTIFIER.matcher(schema).matches()) {
+            throw new IllegalArgumentException("잘못된 스키마 이름입니다: " + schema);
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.articleBackupService = articleBackupService;
+        this.eventPublisher = eventPublisher;
+        this.schema = schema;
+        this.zone = zone;
+        this.monthsAhead = monthsAhead;
+        this.retentionMonths = retentionMonths;
+        this.dropAfterArchive = dropAfterArchive;
+    }
+
+    /**
+     * 기준 월부터 {@code months-ahead}개월 뒤까지의 파티션을 생성합니다. 이미 있으면 건너뜁니다.
+     *
+     * @param current 기준 월
+     * @return 생성 시도한 파티션 이름 목록
+     */
+    public List<String> createUpcomingPartitions(YearMonth current) {
+        List<String> created = new ArrayList<>();
+        for (int i = 0; i <= monthsAhead; i++) {
+            YearMonth month = current.plusMonths(i);
+            for (String parent : List.of(ARTICLES, ARTICLE_VIEWS)) {
+                String partition = partitionName(parent, month);
+                try {
+                    jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS %s PARTITION OF %s FOR VALUES FROM ('%s') TO ('%s')"
+                        .formatted(qualified(partition), qualified(partitionedParent(parent)),
+                            lowerBound(month), lowerBound(month.plusMonths(1))));
+                    created.add(partition);
+                } catch (Exception e) {
+                    // DEFAULT 파티션에 해당 월 데이터가 이미 있으면 생성이 거부됨
+                    log.error("[ArticlePartition] 파티션 생성 실패 - partition: {}", partition, e);
+                }
+            }
+        }
+        log.info("[ArticlePartition] 파티션 생성 확인 완료 - {}", created);
+        return created;
+    }
+
+    /**
+     * 보관 기간이 지난 월의 파티션을 백업 후 분리합니다. {@code retention-months}가 0 이하이면 수행하지 않습니다.
+     *
+     * @param current 기준 월
+     * @return 분리된 기사 파티션 이름 목록
+     */
+    public List<String> archiveExpiredPartitions(YearMonth current) {
+        if (retentionMonths <= 0) {
+            return List.of();
+        }
+        YearMonth oldestKept = current.minusMonths(retentionMonths);
+
+        List<String> archived = new ArrayList<>();
+        for (YearMonth month : attachedMonths(ARTICLES)) {
+            if (!month.isBefore(oldestKept)) {
+                continue;
+            }
+            try {
+                backupMonth(month);
+                detach(ARTICLES, month);
+                if (attachedMonths(ARTICLE_VIEWS).contains(month)) {
+                    detach(ARTICLE_VIEWS, month);
+                }
+                archived.add(partitionName(ARTICLES, month));
+            } catch (Exception e) {
+                // 백업이 실패한 달은 분리하지 않고 다음 실행에서 다시 시도
+                log.error("[ArticlePartition] 파티션 보관 실패 - month: {}", month, e);
+            }
+        }
+        log.info("[ArticlePartition] 파티션 보관 완료 - {}", archived);
+        return archived;
+    }
+
+    /**
+     * 부모 테이블에 연결된 월별 파티션의 월 목록 (DEFAULT 파티션 제외)
+     */
+    List<YearMonth> attachedMonths(String parent) {
+        Pattern namePattern = Pattern.compile(Pattern.quote(parent) + "_p(\\d{6})");
+        List<String> names = jdbcTemplate.queryForList("""
+            SELECT c.relname
+            FROM pg_inherits i
+            JOIN pg_class c ON c.oid = i.inhrelid
+            JOIN pg_class p ON p.oid = i.inhparent
+            JOIN pg_namespace n ON n.oid = p.relnamespace
+            WHERE n.nspname = ? AND p.relname = ?
+            ORDER BY c.relname
+            """, String.class, schema, parent);
+
+        List<YearMonth> months = new ArrayList<>();
+        for (String name : names) {
+            Matcher matcher = namePattern.matcher(name);
+            if (matcher.matches()) {
+                months.add(YearMonth.parse(matcher.group(1), SUFFIX));
+            }
+        }
+        return months;
+    }
+
+    // 기존 테이블을 파티션 테이블로 옮기는 중(V3 ~ V8 교체 전)에는 새 파티션 테이블이 _partitioned 이름으로 존재
+    private String partitionedParent(String parent) {
+        String migrating = parent + "_partitioned";
+        Boolean exists = jdbcTemplate.queryForObject(
+            "SELECT to_regclass(?) IS NOT NULL", Boolean.class, qualified(migrating));
+        return Boolean.TRUE.equals(exists) ? migrating : parent;
+    }
+
+    private void backupMonth(YearMonth month) {
+        for (LocalDate day = month.atDay(1); !day.isAfter(month.atEndOfMonth()); day = day.plusDays(1)) {
+            articleBackupService.backupArticlesByDate(day);
+        }
+    }
+
+    private void detach(String parent, YearMonth month) {
+        String partition = qualified(partitionName(parent, month));
+        // DEFAULT 파티션이 있어 CONCURRENTLY 분리는 불가하므로, 잠금 대기 시간을 제한하여 조회가 밀리지 않도록 함
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.execute("SET LOCAL lock_timeout = '5s'");
+            if (ARTICLES.equals(parent)) {
+                deleteArticleDependants(partition);
+            }
+            jdbcTemplate.execute("ALTER TABLE %s DETACH PARTITION %s".formatted(qualified(parent), partition));
+        });
+        if (ARTICLES.equals(parent)) {
+            // 트랜잭션 밖에서 발행하므로 분리가 커밋된 뒤 바로 캐시 무효화
+            eventPublisher.publishEvent(new ArticleListChangedEvent());
+        }
+        if (dropAfterArchive) {
+            jdbcTemplate.execute("DROP TABLE IF EXISTS " + partition);
+        }
+        log.info("[ArticlePartition] 파티션 분리 - partition: {}, dropped: {}", partition, dropAfterArchive);
+    }
+
+    // 분리할 기사 파티션의 기사를 참조하는 링크, 댓글(좋아요는 외래 키로 연쇄 삭제), 조회 기록 삭제
+    private void deleteArticleDependants(String partition) {
+        int links = jdbcTemplate.update("""
+            DELETE FROM %s l USING %s a
+            WHERE l.original_link = a.original_link AND l.article_id = a.id
+            """.formatted(qualified("article_links"), partition));
+        int comments = jdbcTemplate.update("DELETE FROM %s WHERE article_id IN (SELECT id FROM %s)"
+            .formatted(qualified("comments"), partition));
+        int views = jdbcTemplate.update("DELETE FROM %s WHERE article_id IN (SELECT id FROM %s)"
+            .formatted(qualified(ARTICLE_VIEWS), partition));
+        log.info("[ArticlePartition] 보관 기사 연관 데이터 삭제 - partition: {}, links: {}, comments: {}, views: {}",
+            partition, links, comments, views);
+    }
+
+    private String lowerBound(YearMonth month) {
+        return month.atDay(1).atStartOfDay(zone).toOffsetDateTime().toString();
+    }
+
+    static String partitionName(String parent, YearMonth month) {
+        return parent + "_p" + month.format(SUFFIX);
+    }
+
+    private String qualified(String table) {
+        return schema + "." + table;
+    }
+}
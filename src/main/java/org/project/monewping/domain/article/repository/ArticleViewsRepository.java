@@ -5,6 +5,9 @@ import java.util.Optional;
 import java.util.UUID;
 import org.project.monewping.domain.article.entity.ArticleViews;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface ArticleViewsRepository extends JpaRepository<ArticleViews, UUID> {
 
@@ -14,4 +17,9 @@ public interface ArticleViewsRepository extends JpaRepository<ArticleViews, UUID
 
     // 사용자가 본 기사들(articleId 리스트)에 해당하는 조회 기록 전체를 조회하는 메서드
     List<ArticleViews> findAllByViewedByAndArticleIdIn(UUID viewedBy, List<UUID> articleIds);
+
+    // 파티션 테이블은 articles 외래 키가 없으므로 기사 물리 삭제 시 직접 정리
+    @Modifying
+    @Query("DELETE FROM ArticleViews av WHERE av.article.id = :articleId")
+    int deleteAllByArticleId(@Param("articleId") UUID articleId);
 }
@@ -1,12 +1,18 @@
 package org.project.monewping.domain.article.repository;
 
+import jakarta.persistence.QueryHint;
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
 import org.project.monewping.domain.article.entity.Articles;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
 public interface ArticlesRepository extends JpaRepository<Articles, UUID>, ArticlesRepositoryCustom {
 
@@ -18,9 +24,68 @@ public interface ArticlesRepository extends JpaRepository<Articles, UUID>, Artic
     @Query("SELECT a.originalLink FROM Articles a WHERE a.originalLink IN :originalLinks")
     List<String> findExistingOriginalLinks(List<String> originalLinks);
 
-    List<Articles> findByPublishedAtBetweenAndDeletedFalse(LocalDateTime from, LocalDateTime to);
+    /**
+     * 발행일시가 [from, to) 구간인 삭제되지 않은 기사를 DB 커서로 스트리밍 조회합니다.
+     * 읽기 전용 트랜잭션 안에서 호출하고, 스트림은 반드시 닫아야 합니다.
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT a FROM Articles a WHERE a.publishedAt >= :from AND a.publishedAt < :to AND a.deleted = false")
+    Stream<Articles> streamByPublishedAtRange(LocalDateTime from, LocalDateTime to);
+
+    /**
+     * 마지막 변경 시각이 [from, to) 구간인 기사를 논리 삭제 여부와 무관하게 DB 커서로 스트리밍 조회합니다.
+     * 읽기 전용 트랜잭션 안에서 호출하고, 스트림은 반드시 닫아야 합니다.
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT a FROM Articles a WHERE a.updatedAt >= :from AND a.updatedAt < :to")
+    Stream<Articles> streamByUpdatedAtRange(Instant from, Instant to);
+
+    // 삭제 여부와 무관하게 발행일시가 [from, to) 구간인 기사의 원본 링크 조회
+    @Query("SELECT a.originalLink FROM Articles a WHERE a.publishedAt >= :from AND a.publishedAt < :to")
+    List<String> findOriginalLinksByPublishedAtRange(LocalDateTime from, LocalDateTime to);
 
     // 논리 삭제 메서드
     Optional<Articles> findByIdAndDeletedFalse(UUID id);
 
+    // 댓글 목록의 전체 개수 (댓글을 세지 않고 기사에 유지되는 댓글 수를 읽음)
+    @Query("SELECT a.commentCount FROM Articles a WHERE a.id = :articleId")
+    Optional<Long> findCommentCountById(UUID articleId);
+
+    // 활동 내역에 기록할 기사 제목 (엔티티를 영속성 컨텍스트에 올리지 않음)
+    @Query("SELECT a.title FROM Articles a WHERE a.id = :articleId")
+    Optional<String> findTitleById(UUID articleId);
+
+    /**
+     * 기사 댓글 수를 1 증가시킵니다.
+     * 기사를 읽어 수정하지 않고 UPDATE 한 번으로 반영하므로 동시에 등록된 댓글의 증가분이 유실되지 않습니다.
+     */
+    @Modifying
+    @Query("UPDATE Articles a SET a.commentCount = a.commentCount + 1, a.updatedAt = CURRENT_TIMESTAMP WHERE a.id = :articleId")
+    int increaseCommentCount(UUID articleId);
+
+    /**
+     * 기사 댓글 수를 1 감소시킵니다. 0 미만으로 내려가지 않습니다.
+     */
+    @Modifying
+    @Query("UPDATE Articles a SET a.commentCount = a.commentCount - 1, a.updatedAt = CURRENT_TIMESTAMP "
+        + "WHERE a.id = :articleId AND a.commentCount > 0")
+    int decreaseCommentCount(UUID articleId);
+
+    /**
+     * 기사 조회수를 1 증가시킵니다.
+     * 동시에 들어온 조회가 같은 값을 읽어 덮어쓰지 않도록 UPDATE 한 번으로 반영합니다.
+     *
+     * @param articleId 기사 ID
+     * @return 갱신된 행 수 (기사가 없으면 0)
+     */
+    @Modifying
+    @Query("UPDATE Articles a SET a.viewCount = a.viewCount + 1, a.updatedAt = CURRENT_TIMESTAMP WHERE a.id = :articleId")
+    int increaseViewCount(UUID articleId);
+
 }
\ No newline at end of file
@@ -1,15 +1,21 @@
 package org.project.monewping.domain.article.scheduler;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.project.monewping.domain.article.service.ArticleBackupService;
+import org.project.monewping.domain.article.service.ArticleBackupVerificationService;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 /**
  * 뉴스 기사 백업을 일정 주기로 실행하는 스케줄러 클래스입니다.
- * 매일 자정(00:00)에 전일 데이터를 백업합니다.
+ * 매일 자정(00:00)에 전일 데이터를 백업하고, 매시 직전 한 시간의 변경분을 백업하며,
+ * 매일 00:30에 전일 변경분을 전체 백업에 병합하고, 01:00에 최근 백업의 무결성을 검증합니다.
  */
 @Slf4j
 @Component
@@ -17,14 +23,22 @@ import org.springframework.stereotype.Component;
 public class ArticleBackupScheduler {
 
     private final ArticleBackupService articleBackupService;
+    private final ArticleBackupVerificationService articleBackupVerificationService;
+
+    @Value("${monewping.backup.verify.days:7}")
+    private int verifyDays;
+
+    // 백업 날짜와 변경 구간의 기준 시간대 (백업 서비스와 같은 설정)
+    @Value("${monewping.backup.zone:Asia/Seoul}")
+    private ZoneId zone = ZoneId.of("Asia/Seoul");
 
     /**
      * 매일 00시 00분 00초에 실행됩니다.
      * 전날 뉴스 기사를 백업합니다.
      */
-    @Scheduled(cron = "0 0 0 * * *")
+    @Scheduled(cron = "0 0 0 * * *", zone = "${monewping.backup.zone:Asia/Seoul}")
     public void backupYesterdayArticles() {
-        LocalDate yesterday = LocalDate.now().minusDays(1);
+        LocalDate yesterday = LocalDate.now(zone).minusDays(1);
         log.info("백업 스케줄러 실행 - 날짜 : {}", yesterday);
 
         try {
@@ -35,4 +49,53 @@ public class ArticleBackupScheduler {
         }
     }
 
-}
\ No newline at end of file
+    /**
+     * 매시 5분에 실행됩니다.
+     * 직전 한 시간 동안 변경된 뉴스 기사를 변경분으로 백업합니다.
+     * 정시 직전에 시작해 늦게 커밋된 트랜잭션도 포함되도록 5분 뒤에 실행합니다.
+     */
+    @Scheduled(cron = "0 5 * * * *", zone = "${monewping.backup.zone:Asia/Seoul}")
+    public void backupLastHourChanges() {
+        LocalDateTime hour = LocalDateTime.now(zone).truncatedTo(ChronoUnit.HOURS).minusHours(1);
+
+        try {
+            articleBackupService.backupChanges(hour);
+        } catch (Exception e) {
+            log.error("변경분 백업 실패 - 구간 : {}", hour, e);
+        }
+    }
+
+    /**
+     * 매일 00시 30분에 실행됩니다.
+     * 전날 기록된 변경분을 발행일별 전체 백업에 병합합니다.
+     */
+    @Scheduled(cron = "0 30 0 * * *", zone = "${monewping.backup.zone:Asia/Seoul}")
+    public void compactYesterdayChanges() {
+        LocalDate yesterday = LocalDate.now(zone).minusDays(1);
+        log.info("변경분 병합 스케줄러 실행 - 날짜 : {}", yesterday);
+
+        try {
+            articleBackupService.compactChanges(yesterday);
+            log.info("변경분 병합 성공 - 날짜 : {}", yesterday);
+        } catch (Exception e) {
+            log.error("변경분 병합 실패 - 날짜 : {}", yesterday, e);
+        }
+    }
+
+    /**
+     * 매일 01시 00분에 실행됩니다.
+     * 변경분 병합으로 다시 기록된 백업을 포함해 최근 {@code verifyDays}일의 백업을 매니페스트와 대조합니다.
+     */
+    @Scheduled(cron = "0 0 1 * * *", zone = "${monewping.backup.zone:Asia/Seoul}")
+    public void verifyRecentBackups() {
+        LocalDate to = LocalDate.now(zone).minusDays(1);
+        LocalDate from = to.minusDays(verifyDays - 1L);
+
+        try {
+            articleBackupVerificationService.verifyBackups(from, to);
+        } catch (Exception e) {
+            log.error("백업 검증 실패 - {} ~ {}", from, to, e);
+        }
+    }
+
+}
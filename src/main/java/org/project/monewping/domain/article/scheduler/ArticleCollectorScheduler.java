@@ -7,9 +7,8 @@ import lombok.extern.slf4j.Slf4j;
 import org.project.monewping.domain.article.dto.request.ArticleSaveRequest;
 import org.project.monewping.domain.article.fetcher.ArticleFetcher;
 import org.project.monewping.domain.article.service.ArticlesService;
-import org.project.monewping.domain.interest.entity.Interest;
-import org.project.monewping.domain.interest.repository.InterestRepository;
-import org.project.monewping.domain.interest.repository.KeywordRepository;
+import org.project.monewping.domain.interest.catalog.InterestCatalog;
+import org.project.monewping.domain.interest.catalog.InterestCatalogEntry;
 import org.project.monewping.domain.notification.service.NotificationService;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
@@ -30,16 +29,16 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class ArticleCollectorScheduler {
 
-    private final InterestRepository interestRepository;
+    private final InterestCatalog interestCatalog;
     private final List<ArticleFetcher> articleFetchers;
     private final ArticlesService articlesService;
-    private final KeywordRepository keywordRepository;
     private final NotificationService notificationService;
 
     /**
      * 등록된 모든 관심사에 대해 뉴스 기사 수집을 수행하는 스케줄러 메서드입니다.
      *
-     * <p>관심사별로 키워드를 조회한 뒤, 모든 {@link ArticleFetcher}를 사용해
+     * <p>관심사와 키워드는 {@link InterestCatalog} 스냅샷에서 읽어 DB를 조회하지 않으며,
+     * 관심사별로 모든 {@link ArticleFetcher}를 사용해
      * 기사 데이터를 수집하고 {@link ArticlesService#saveAll(List)}를 통해 저장합니다.</p>
      *
      * <p>수집 및 저장 결과는 전체 수와 관심사별 저장 수로 로그에 출력됩니다.</p>
@@ -50,15 +49,14 @@ public class ArticleCollectorScheduler {
     public void collectArticlesByInterest() {
         log.info("[ 뉴스 기사 수집 배치 시작 ]");
 
-        List<Interest> interests = interestRepository.findAll();
         int totalSaved = 0;
 
         // 모든 관심사에 대해 기사 수집 시도
-        for (Interest interest : interests) {
+        for (InterestCatalogEntry interest : interestCatalog.snapshot().all()) {
             int saved = collectForInterest(interest);
             totalSaved += saved;
 
-            notificationService.createNewArticleNotification(interest, saved);
+            notificationService.createNewArticleNotification(interest.id(), interest.name(), saved);
         }
 
         log.info("[ 수집 완료 ] 전체 저장된 기사 수 : {}", totalSaved);
@@ -73,14 +71,13 @@ public class ArticleCollectorScheduler {
      * @param interest 수집 대상 관심사
      * @return 해당 관심사에 대해 최종적으로 저장된 기사 수
      */
-    private int collectForInterest(Interest interest) {
-        UUID interestId = interest.getId();
-        // 관심사에 연결된 키워드 리스트 조회
-        List<String> keywords = keywordRepository.findNamesByInterestId(interestId);
+    private int collectForInterest(InterestCatalogEntry interest) {
+        UUID interestId = interest.id();
+        List<String> keywords = interest.keywords();
 
         int savedCount = 0;
 
-        log.info("관심사 '{}' ({}) 수집 시작 - 키워드 개수 : {}", interest.getName(), interestId, keywords.size());
+        log.info("관심사 '{}' ({}) 수집 시작 - 키워드 개수 : {}", interest.name(), interestId, keywords.size());
 
         for (String keyword : keywords) {
             for (ArticleFetcher fetcher : articleFetchers) {
@@ -99,17 +96,17 @@ public class ArticleCollectorScheduler {
                     savedCount += saveNum;
 
                     log.info("'{}' - 키워드 '{}' - {}개 기사 저장 (Fetcher: {})",
-                        interest.getName(), keyword, saveNum, fetcher.getClass().getSimpleName());
+                        interest.name(), keyword, saveNum, fetcher.getClass().getSimpleName());
 
                 } catch (Exception e) {
                     // 수집 실패 시 에러 로그 남기고 다음 fetcher로 진행
                     log.warn("'{}' - fetcher '{}' 키워드 '{}' 에러: {}",
-                        interest.getName(), fetcher.getClass().getSimpleName(), keyword, e.getMessage(), e);
+                        interest.name(), fetcher.getClass().getSimpleName(), keyword, e.getMessage(), e);
                 }
             }
         }
 
-        log.info("관심사 '{}' 수집 완료 - 저장된 기사 수: {}", interest.getName(), savedCount);
+        log.info("관심사 '{}' 수집 완료 - 저장된 기사 수: {}", interest.name(), savedCount);
         return savedCount;
     }
 }
@@ -0,0 +1,33 @@
+package org.project.monewping.domain.article.scheduler;
+
+import java.time.YearMonth;
+import java.time.ZoneId;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.project.monewping.domain.article.partition.ArticlePartitionManager;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 기사 / 조회 기록 월별 파티션을 관리하는 스케줄러입니다.
+ * 매일 00시 30분에 다음 달 파티션을 미리 만들고, 보관 기간이 지난 파티션을 백업 후 분리합니다.
+ * 전일 기사 백업(00:00) 이후에 실행됩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "monewping.article.partition.enabled", havingValue = "true")
+public class ArticlePartitionScheduler {
+
+    private final ArticlePartitionManager articlePartitionManager;
+
+    @Scheduled(cron = "0 30 0 * * *", zone = "Asia/Seoul")
+    public void maintainPartitions() {
+        YearMonth current = YearMonth.now(ZoneId.of("Asia/Seoul"));
+        log.info("파티션 관리 스케줄러 실행 - 기준 월 : {}", current);
+
+        articlePartitionManager.createUpcomingPartitions(current);
+        articlePartitionManager.archiveExpiredPartitions(current);
+    }
+}
@@ -1,9 +1,14 @@
 package org.project.monewping.domain.article.service;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 
 public interface ArticleBackupService {
 
     void backupArticlesByDate(LocalDate date);
 
+    void backupChanges(LocalDateTime hour);
+
+    void compactChanges(LocalDate changeDate);
+
 }
@@ -0,0 +1,16 @@
+package org.project.monewping.domain.article.service;
+
+import java.time.LocalDate;
+import java.util.List;
+import org.project.monewping.domain.article.dto.response.ArticleBackupVerificationDto;
+
+public interface ArticleBackupVerificationService {
+
+    /**
+     * 날짜 범위의 전체 백업을 매니페스트와 대조합니다.
+     *
+     * @return 날짜 오름차순 검증 결과
+     */
+    List<ArticleBackupVerificationDto> verifyBackups(LocalDate from, LocalDate to);
+
+}
@@ -2,10 +2,23 @@ package org.project.monewping.domain.article.service;
 
 import java.time.LocalDate;
 import java.util.List;
+import org.project.monewping.domain.article.dto.data.ArticleBackupDto;
 import org.project.monewping.domain.article.dto.response.ArticleRestoreResultDto;
 
 public interface ArticleRestoreService {
 
     List<ArticleRestoreResultDto> restoreArticlesByRange(LocalDate from, LocalDate to);
 
+    /**
+     * 해당 날짜 백업에서 같은 날짜에 이미 저장된 기사를 제외한 복구 후보를 읽습니다.
+     */
+    List<ArticleBackupDto> loadRestoreCandidates(LocalDate date);
+
+    /**
+     * 복구 후보 중 DB에 없는 기사만 저장합니다. 호출한 쪽의 트랜잭션에 참여합니다.
+     *
+     * @return 저장된 기사 ID 목록
+     */
+    List<String> restoreArticles(List<ArticleBackupDto> candidates);
+
 }
@@ -1,23 +1,40 @@
 package org.project.monewping.domain.article.service.impl;
 
+import jakarta.persistence.EntityManager;
+import java.time.Instant;
 import java.time.LocalDate;
-import java.util.List;
-import java.util.stream.Collectors;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.project.monewping.domain.article.dto.data.ArticleDto;
+import org.project.monewping.domain.article.dto.data.ArticleBackupDto;
 import org.project.monewping.domain.article.entity.Articles;
 import org.project.monewping.domain.article.mapper.ArticlesMapper;
 import org.project.monewping.domain.article.repository.ArticlesRepository;
 import org.project.monewping.domain.article.service.ArticleBackupService;
 import org.project.monewping.domain.article.storage.ArticleBackupStorage;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 
 /**
  * 특정 날짜 기준으로 뉴스 기사를 백업하는 서비스 구현체입니다.
- * 향후 AWS S3로의 리팩토링을 고려하여 작성되었습니다.
+ * DB 커서로 읽은 기사를 한 건씩 DTO로 변환해 저장소로 흘려보내며,
+ * 변환이 끝난 엔티티는 영속성 컨텍스트에서 분리하여 메모리 사용량을 일정하게 유지합니다.
+ *
+ * <p>발행일 기준 일별 전체 백업 이후의 늦게 수집된 기사, 논리 삭제, 카운터 변경은
+ * {@code updated_at} 기준 시간별 변경분 세그먼트로 기록하고, 하루치 세그먼트를 발행일별 전체 백업에
+ * 병합(compaction)합니다. 병합 시 같은 원본 링크는 {@code updatedAt}이 가장 최신인 값을 남기고
+ * 논리 삭제된 기사는 전체 백업에서 제외합니다.</p>
+ *
+ * <p>병합은 변경분을 원본 링크별 최신 값으로만 모으고, 전체 백업은 블록 단위로 읽으며 바로 다시 기록하므로
+ * 하루치 변경분 목록이나 발행일 전체 백업을 메모리에 올리지 않습니다.
+ * 변경 구간과 발행일은 {@code monewping.backup.zone}(기본 Asia/Seoul) 기준입니다.</p>
  */
 @Service
 @RequiredArgsConstructor
@@ -28,6 +45,10 @@ public class ArticleBackupServiceImpl implements ArticleBackupService {
     private final ArticlesRepository articlesRepository;
     private final ArticleBackupStorage backupStorage;
     private final ArticlesMapper articlesMapper;
+    private final EntityManager entityManager;
+
+    @Value("${monewping.backup.zone:Asia/Seoul}")
+    private ZoneId zone = ZoneId.of("Asia/Seoul");
 
     /**
      * 지정된 날짜의 뉴스를 백업합니다.
@@ -38,20 +59,101 @@ public class ArticleBackupServiceImpl implements ArticleBackupService {
     public void backupArticlesByDate(LocalDate date) {
         log.info("뉴스 기사 백업 시작 = 날짜 : {}", date);
 
-        // 해당 날짜에 삭제되지 않은 기사 목록 조회
-        List<Articles> articles = articlesRepository.findByPublishedAtBetweenAndDeletedFalse(
-            date.atStartOfDay(), date.plusDays(1).atStartOfDay()
-        );
+        // 해당 날짜에 삭제되지 않은 기사를 커서로 읽어 DTO 스트림으로 백업 저장소에 저장
+        try (Stream<Articles> articles = articlesRepository.streamByPublishedAtRange(
+            date.atStartOfDay(), date.plusDays(1).atStartOfDay())) {
+
+            long count = backupStorage.save(date, articles.map(this::toDetachedDto));
+
+            log.info("뉴스 기사 백업 완료 = 날짜 : {}, 건수 : {}", date, count);
+        }
+    }
+
+    /**
+     * 마지막 변경 시각이 지정한 한 시간 구간에 속하는 기사를 변경분 세그먼트로 백업합니다.
+     * 논리 삭제된 기사도 포함합니다.
+     *
+     * @param hour 변경 구간 시작 시각 (정시)
+     */
+    @Override
+    public void backupChanges(LocalDateTime hour) {
+        Instant from = hour.atZone(zone).toInstant();
+        Instant to = hour.plusHours(1).atZone(zone).toInstant();
+
+        try (Stream<Articles> articles = articlesRepository.streamByUpdatedAtRange(from, to)) {
+            long count = backupStorage.saveChanges(hour, articles.map(this::toDetachedDto));
 
-        // 엔티티 → DTO 변환
-        List<ArticleDto> dtos = articles.stream()
-            .map(articlesMapper::toDto)
-            .collect(Collectors.toList());
+            log.info("뉴스 기사 변경분 백업 완료 = 구간 : {}, 건수 : {}", hour, count);
+        }
+    }
 
-        // DTO 리스트를 백업 저장소에 저장
-        backupStorage.save(date, dtos);
+    /**
+     * 지정한 날짜에 기록된 변경분 세그먼트를 발행일별 전체 백업에 병합한 뒤 세그먼트를 삭제합니다.
+     * 병합은 여러 번 실행해도 결과가 같으므로, 도중에 실패하면 다시 실행하면 됩니다.
+     *
+     * <p>전체 백업이 없는 발행일에 변경분만 기록하면 일부 기사만 담긴 백업이 완전한 백업처럼 매니페스트와 함께
+     * 기록되므로, 그 발행일은 변경분 대신 DB에서 전체 백업을 새로 만듭니다.
+     * 변경된 기사가 DB에 있으므로 그 발행일의 파티션도 DB에 남아 있습니다.</p>
+     *
+     * @param changeDate 변경분이 기록된 날짜
+     */
+    @Override
+    public void compactChanges(LocalDate changeDate) {
+        // 변경된 기사를 발행일별로 묶되, 같은 기사의 변경은 최신 값 하나만 보관
+        Map<LocalDate, Map<String, ArticleBackupDto>> changesByPublishDate = new TreeMap<>();
+        try (Stream<ArticleBackupDto> changes = backupStorage.streamChanges(changeDate)) {
+            changes.forEach(article -> changesByPublishDate
+                .computeIfAbsent(article.publishDate().toLocalDate(), date -> new LinkedHashMap<>())
+                .merge(article.sourceUrl(), article, ArticleBackupServiceImpl::latest));
+        }
+        if (changesByPublishDate.isEmpty()) {
+            log.info("병합할 변경분 없음 = 날짜 : {}", changeDate);
+            return;
+        }
+
+        changesByPublishDate.forEach((publishDate, dayChanges) -> {
+            if (backupStorage.loadManifest(publishDate).isEmpty()) {
+                log.info("전체 백업이 없어 DB에서 전체 백업 = 발행일 : {}, 변경 건수 : {}", publishDate, dayChanges.size());
+                backupArticlesByDate(publishDate);
+                return;
+            }
+
+            int changeCount = dayChanges.size();
+            try (Stream<ArticleBackupDto> snapshot = backupStorage.stream(publishDate)) {
+                // 전체 백업을 한 블록씩 읽으며 변경된 기사를 교체하고, 전체 백업에 없던 기사는 마지막에 추가
+                Stream<ArticleBackupDto> merged = Stream.concat(
+                    snapshot.map(article -> {
+                        ArticleBackupDto change = dayChanges.remove(article.sourceUrl());
+                        return change == null ? article : latest(article, change);
+                    }),
+                    // 전체 백업을 모두 읽은 뒤에 평가되도록 지연
+                    Stream.of(dayChanges).flatMap(remaining -> remaining.values().stream()));
+
+                long count = backupStorage.save(publishDate, merged.filter(article -> !article.deleted()));
+                log.info("뉴스 기사 변경분 병합 완료 = 발행일 : {}, 변경 건수 : {}, 전체 건수 : {}",
+                    publishDate, changeCount, count);
+            }
+        });
+
+        backupStorage.deleteChanges(changeDate);
+    }
+
+    // 변경 시각이 더 최신인 쪽 선택 (시각이 같으면 나중에 기록된 변경분 우선, 변경 시각이 없는 이전 백업은 가장 오래된 것으로 취급)
+    private static ArticleBackupDto latest(ArticleBackupDto current, ArticleBackupDto candidate) {
+        if (candidate.updatedAt() == null) {
+            return current;
+        }
+        if (current.updatedAt() == null) {
+            return candidate;
+        }
+        return candidate.updatedAt().isBefore(current.updatedAt()) ? current : candidate;
+    }
 
-        log.info("뉴스 기사 백업 완료 = 날짜 : {}, 건수 : {}", date, dtos.size());
+    // 엔티티 → DTO 변환 후 영속성 컨텍스트에서 분리
+    private ArticleBackupDto toDetachedDto(Articles article) {
+        ArticleBackupDto dto = articlesMapper.toBackupDto(article);
+        entityManager.detach(article);
+        return dto;
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,78 @@
+package org.project.monewping.domain.article.service.impl;
+
+import jakarta.annotation.PreDestroy;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.project.monewping.domain.article.dto.response.ArticleBackupVerificationDto;
+import org.project.monewping.domain.article.dto.response.ArticleBackupVerificationDto.Status;
+import org.project.monewping.domain.article.service.ArticleBackupVerificationService;
+import org.project.monewping.domain.article.storage.ArticleBackupStorage;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+/**
+ * 날짜별 전체 백업 파일을 매니페스트와 대조하여 무결성을 검증합니다.
+ *
+ * <p>검증은 백업 파일을 한 번 순차적으로 읽으며 SHA-256을 계산하므로 파일 크기와 관계없이
+ * 메모리 사용량이 일정하며, 날짜별 검증은 최대 {@code parallelism}개 스레드에서 병렬로 진행합니다.</p>
+ */
+@Slf4j
+@Service
+public class ArticleBackupVerificationServiceImpl implements ArticleBackupVerificationService {
+
+    private final ArticleBackupStorage backupStorage;
+    private final ExecutorService executor;
+
+    public ArticleBackupVerificationServiceImpl(
+        ArticleBackupStorage backupStorage,
+        @Value("${monewping.backup.verify.parallelism:4}") int parallelism
+    ) {
+        this.backupStorage = backupStorage;
+        this.executor = Executors.newFixedThreadPool(parallelism, new CustomizableThreadFactory("article-verify-"));
+    }
+
+    /**
+     * 지정된 날짜 범위(from, to)의 백업을 병렬로 검증합니다.
+     *
+     * @param from 검증 시작일 (포함)
+     * @param to 검증 종료일 (포함)
+     * @return 날짜 오름차순 검증 결과
+     * @throws IllegalArgumentException 시작일이 종료일보다 늦을 경우 발생.
+     */
+    @Override
+    public List<ArticleBackupVerificationDto> verifyBackups(LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("검증 시작일(from)은 종료일(to)보다 빠르거나 같아야 합니다.");
+        }
+
+        // 저장소 구현은 접근 실패를 ERROR 결과로 돌려주므로 한 날짜의 실패가 나머지 검증을 막지 않음
+        List<CompletableFuture<ArticleBackupVerificationDto>> futures = from.datesUntil(to.plusDays(1))
+            .map(date -> CompletableFuture.supplyAsync(() -> backupStorage.verify(date), executor))
+            .toList();
+
+        List<ArticleBackupVerificationDto> results = futures.stream().map(CompletableFuture::join).toList();
+
+        results.stream()
+            .filter(result -> result.status() == Status.CORRUPTED || result.status() == Status.ERROR)
+            .forEach(result -> log.warn("뉴스 기사 백업 검증 실패 - 날짜 : {}, 상태 : {}, 사유 : {}",
+                result.date(), result.status(), result.detail()));
+
+        Map<Status, Long> counts = results.stream()
+            .collect(Collectors.groupingBy(ArticleBackupVerificationDto::status, Collectors.counting()));
+        log.info("뉴스 기사 백업 검증 완료 - {} ~ {}, 결과 : {}", from, to, counts);
+
+        return results;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -1,38 +1,92 @@
 package org.project.monewping.domain.article.service.impl;
 
+import jakarta.annotation.PreDestroy;
 import java.time.LocalDate;
-import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
 import java.util.stream.Collectors;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.project.monewping.domain.article.dto.data.ArticleDto;
+import org.project.monewping.domain.article.dto.data.ArticleBackupDto;
 import org.project.monewping.domain.article.dto.response.ArticleRestoreResultDto;
 import org.project.monewping.domain.article.entity.Articles;
+import org.project.monewping.domain.article.event.ArticleListChangedEvent;
 import org.project.monewping.domain.article.mapper.ArticlesMapper;
 import org.project.monewping.domain.article.repository.ArticlesRepository;
 import org.project.monewping.domain.article.service.ArticleRestoreService;
+import org.project.monewping.domain.article.storage.ArticleBackupManifest;
 import org.project.monewping.domain.article.storage.ArticleBackupStorage;
 import org.project.monewping.domain.interest.entity.Interest;
+import org.project.monewping.domain.interest.repository.InterestRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 /**
  * 로컬 또는 외부 백업 소스로부터 백업 데이터를 불러와,
  * DB에 존재하지 않는 기사만 복원합니다.
+ *
+ * <p>날짜별 복구는 최대 {@code parallelism}개 스레드에서 병렬로 진행되며,
+ * 날짜마다 별도 트랜잭션으로 저장하므로 한 날짜의 실패가 이미 끝난 날짜의 복구를 되돌리지 않습니다.
+ * 기존 기사 여부는 원본 링크를 {@code existenceChunkSize}개씩 나눠 조회합니다.
+ * 백업 매니페스트의 건수와 링크 해시 합이 같은 날짜 DB 기사와 일치하면 이미 모두 복구된 날짜로 보고
+ * 백업 파일을 내려받지 않습니다.</p>
+ *
+ * <p>복구한 기사는 백업에 기록된 관심사 ID로 관심사를 다시 연결하며, 관심사는 한 번의 조회로
+ * 불러와 ID별 맵에서 찾습니다. 관심사 ID가 없는 이전 형식 백업이나 관심사가 삭제된 기사는
+ * {@code interest_id}를 채울 수 없으므로 복구하지 않고 건수만 기록합니다.</p>
+ *
+ * <p>기사를 복구하면 {@link ArticleListChangedEvent}를 발행하여, 복구 트랜잭션이 커밋된 후 기사 목록 캐시를 무효화합니다.</p>
  */
-@Service
-@RequiredArgsConstructor
-@Transactional
 @Slf4j
+@Service
 public class ArticleRestoreServiceImpl implements ArticleRestoreService {
 
     private final ArticleBackupStorage backupStorage;
     private final ArticlesRepository articlesRepository;
     private final ArticlesMapper articlesMapper;
+    private final InterestRepository interestRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final ExecutorService executor;
+    private final int existenceChunkSize;
+
+    public ArticleRestoreServiceImpl(
+        ArticleBackupStorage backupStorage,
+        ArticlesRepository articlesRepository,
+        ArticlesMapper articlesMapper,
+        InterestRepository interestRepository,
+        ApplicationEventPublisher eventPublisher,
+        PlatformTransactionManager transactionManager,
+        @Value("${monewping.backup.restore.parallelism:4}") int parallelism,
+        @Value("${monewping.backup.restore.existence-chunk-size:1000}") int existenceChunkSize
+    ) {
+        this.backupStorage = backupStorage;
+        this.articlesRepository = articlesRepository;
+        this.articlesMapper = articlesMapper;
+        this.interestRepository = interestRepository;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.executor = Executors.newFixedThreadPool(parallelism, new CustomizableThreadFactory("article-restore-"));
+        this.existenceChunkSize = existenceChunkSize;
+    }
 
     /**
-     * 지정된 날짜 범위(from, to) 내의 백업 데이터를 일별로 로드하여,
+     * 지정된 날짜 범위(from, to) 내의 백업 데이터를 일별로 병렬 로드하여,
      * 현재 DB에 존재하지 않는 뉴스 기사만 필터링 후 저장합니다.
      *
      * @param from 복구 시작일 (포함)
@@ -46,58 +100,121 @@ public class ArticleRestoreServiceImpl implements ArticleRestoreService {
             throw new IllegalArgumentException("복구 시작일(from)은 종료일(to)보다 빠르거나 같아야 합니다.");
         }
 
-        List<ArticleRestoreResultDto> result = new ArrayList<>();
+        List<LocalDate> dates = from.datesUntil(to.plusDays(1)).toList();
+        AtomicInteger completedDays = new AtomicInteger();
+        AtomicLong restoredCount = new AtomicLong();
+
+        // 날짜별 복구를 병렬로 실행하고 완료될 때마다 진행률 기록
+        List<CompletableFuture<ArticleRestoreResultDto>> futures = dates.stream()
+            .map(date -> CompletableFuture.supplyAsync(() -> {
+                ArticleRestoreResultDto result = restoreDay(date);
+                log.info("뉴스 기사 복구 진행 - {}/{}일 완료, 누적 복구 건수 : {}",
+                    completedDays.incrementAndGet(), dates.size(),
+                    restoredCount.addAndGet(result.restoredArticleCount()));
+                return result;
+            }, executor))
+            .toList();
+
+        // 모든 날짜가 끝날 때까지 기다린 뒤 실패한 날짜가 있으면 예외 전파
+        try {
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
 
-        for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
-            log.info("뉴스 기사 복구 시작 - 날짜 : {}", date);
+        return futures.stream().map(CompletableFuture::join).toList();
+    }
 
-            // 해당 날짜 백업 데이터 로드
-            List<ArticleDto> backup = backupStorage.load(date);
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
 
-            // 백업 데이터가 없으면 빈 결과 추가 후 다음 날짜로 이동
-            if (backup == null || backup.isEmpty()) {
-                log.info("복구할 데이터 없음 - 날짜 : {}", date);
-                result.add(new ArticleRestoreResultDto(date.atStartOfDay(), List.of(), 0));
-                continue;
-            }
+    @Override
+    public List<ArticleBackupDto> loadRestoreCandidates(LocalDate date) {
+        // 같은 날짜에 이미 있는 기사를 제외하고 백업 데이터 로드 (블록 형식은 필요한 블록만 읽음)
+        Set<String> sameDayLinks = new HashSet<>(articlesRepository.findOriginalLinksByPublishedAtRange(
+            date.atStartOfDay(), date.plusDays(1).atStartOfDay()));
+
+        // 매니페스트상 백업의 기사가 모두 DB에 있으면 백업 파일을 읽지 않음
+        Optional<ArticleBackupManifest> manifest = backupStorage.loadManifest(date);
+        if (manifest.isPresent() && manifest.get().matchesLinks(sameDayLinks)) {
+            log.info("백업 기사가 모두 DB에 존재하여 복구 생략 - 날짜 : {}, 건수 : {}", date, manifest.get().rowCount());
+            return List.of();
+        }
 
-            // 백업 데이터의 원본 링크 목록 추출
-            List<String> originalLinks = backup.stream()
-                .map(ArticleDto::sourceUrl)
-                .collect(Collectors.toList());
+        List<ArticleBackupDto> backup = backupStorage.loadExcluding(date, sameDayLinks);
+        return backup == null ? List.of() : backup;
+    }
 
-            // DB에 이미 존재하는 원본 링크 조회
-            List<String> existingLinks = articlesRepository.findExistingOriginalLinks(originalLinks);
+    @Override
+    public List<String> restoreArticles(List<ArticleBackupDto> candidates) {
+        // DB에 이미 존재하는 원본 링크 조회 (발행일시가 바뀐 기사 등)
+        Set<String> existingLinks = findExistingLinks(candidates.stream().map(ArticleBackupDto::sourceUrl).toList());
+
+        List<ArticleBackupDto> missing = candidates.stream()
+            .filter(dto -> !existingLinks.contains(dto.sourceUrl()))
+            .toList();
+
+        // 백업에 기록된 관심사를 한 번에 조회하여 ID별 맵으로 구성
+        Set<UUID> interestIds = missing.stream()
+            .map(ArticleBackupDto::interestId)
+            .filter(Objects::nonNull)
+            .collect(Collectors.toSet());
+        Map<UUID, Interest> interests = interestRepository.findAllById(interestIds).stream()
+            .collect(Collectors.toMap(Interest::getId, Function.identity()));
+
+        // 관심사를 찾을 수 있는 기사만 엔티티로 변환 후 관심사 재연결 (조회수, 댓글 수는 백업 값 유지)
+        List<Articles> entities = missing.stream()
+            .filter(dto -> interests.containsKey(dto.interestId()))
+            .map(dto -> {
+                Articles entity = articlesMapper.toEntity(dto);
+                entity.updateInterest(interests.get(dto.interestId()));
+                return entity;
+            })
+            .toList();
+
+        if (entities.size() < missing.size()) {
+            log.warn("관심사를 찾을 수 없어 복구하지 않은 기사 : {}건", missing.size() - entities.size());
+        }
 
-            // DB에 없는 기사만 필터링
-            List<ArticleDto> toRestore = backup.stream()
-                .filter(dto -> !existingLinks.contains(dto.sourceUrl()))
-                .toList();
+        List<String> restoredIds = articlesRepository.saveAll(entities).stream()
+            .map(e -> e.getId().toString())
+            .toList();
+        if (!restoredIds.isEmpty()) {
+            eventPublisher.publishEvent(new ArticleListChangedEvent());
+        }
+        return restoredIds;
+    }
 
-            // DTO를 엔티티로 변환 후 interest 별도 세팅
-            List<Articles> entities = toRestore.stream()
-                .map(dto -> {
-                    Articles entity = articlesMapper.toEntity(dto);
+    private ArticleRestoreResultDto restoreDay(LocalDate date) {
+        log.info("뉴스 기사 복구 시작 - 날짜 : {}", date);
 
-                    Interest defaultInterest = null;
-                    entity.updateInterest(defaultInterest);
+        List<ArticleBackupDto> candidates = loadRestoreCandidates(date);
 
-                    return entity;
-                })
-                .collect(Collectors.toList());
+        // 백업 데이터가 없으면 빈 결과 반환
+        if (candidates.isEmpty()) {
+            log.info("복구할 데이터 없음 - 날짜 : {}", date);
+            return new ArticleRestoreResultDto(date.atStartOfDay(), List.of(), 0);
+        }
 
-            // DB에 복구 대상 기사 저장
-            articlesRepository.saveAll(entities);
+        // 날짜 단위 트랜잭션으로 일괄 저장
+        List<String> restoredIds = transactionTemplate.execute(status -> restoreArticles(candidates));
 
-            // 복구 결과 리스트에 추가
-            result.add(new ArticleRestoreResultDto(
-                date.atStartOfDay(),
-                entities.stream().map(e -> e.getId().toString()).collect(Collectors.toList()),
-                entities.size()));
+        log.info("뉴스 기사 복구 완료 - 날짜 : {}, 복구 건수 : {}", date, restoredIds.size());
+        return new ArticleRestoreResultDto(date.atStartOfDay(), restoredIds, restoredIds.size());
+    }
 
-            log.info("뉴스 기사 복구 완료 - 날짜 : {}, 복구 건수 : {}", date, entities.size());
+    // 원본 링크를 청크 단위로 나눠 DB에 존재하는 링크 집합 조회
+    private Set<String> findExistingLinks(List<String> links) {
+        Set<String> existing = new HashSet<>();
+        for (int start = 0; start < links.size(); start += existenceChunkSize) {
+            List<String> chunk = links.subList(start, Math.min(start + existenceChunkSize, links.size()));
+            existing.addAll(articlesRepository.findExistingOriginalLinks(chunk));
         }
-
-        return result;
+        return existing;
     }
-}
\ No newline at end of file
+}
@@ -58,14 +58,14 @@ public class ArticleViewsServiceImpl implements ArticleViewsService {
         // 중복 여부 검사
         validateNoDuplicateViewHistory(viewedBy, articleId);
 
-        // 1. 기사 조회
+        // 1. 조회수 증가 (원자적 UPDATE, 갱신된 행이 없으면 기사가 없는 것) 후 기사 조회
+        if (articlesRepository.increaseViewCount(articleId) != 1) {
+            log.warn("존재하지 않는 기사 조회 시도 : articleId = {}", articleId);
+            throw new ArticleNotFoundException(articleId);
+        }
         Articles article = articlesRepository.findById(articleId)
-            .orElseThrow(() -> {
-                log.warn("존재하지 않는 기사 조회 시도 : articleId = {}", articleId);
-                return new ArticleNotFoundException(articleId);
-            });
+            .orElseThrow(() -> new ArticleNotFoundException(articleId));
 
-        article.increaseViewCount();
         log.info("기사 조회수 증가: articleId = {}, newViewCount = {}", articleId, article.getViewCount());
 
         // 2. 엔티티 생성 및 저장
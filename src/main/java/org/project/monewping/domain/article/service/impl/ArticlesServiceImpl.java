@@ -4,25 +4,31 @@ import java.time.Duration;
 import java.time.Instant;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.project.monewping.domain.article.cache.ArticleListCache;
+import org.project.monewping.domain.article.cache.ArticleListCache.CachedPage;
 import org.project.monewping.domain.article.dto.data.ArticleDto;
 import org.project.monewping.domain.article.dto.request.ArticleSaveRequest;
 import org.project.monewping.domain.article.dto.request.ArticleSearchRequest;
 import org.project.monewping.domain.article.entity.Articles;
+import org.project.monewping.domain.article.event.ArticleListChangedEvent;
 import org.project.monewping.domain.article.exception.ArticleNotFoundException;
 import org.project.monewping.domain.article.exception.InterestNotFoundException;
 import org.project.monewping.domain.article.mapper.ArticlesMapper;
 import org.project.monewping.domain.article.repository.ArticleViewsRepository;
 import org.project.monewping.domain.article.repository.ArticlesRepository;
 import org.project.monewping.domain.article.service.ArticlesService;
+import org.project.monewping.domain.comment.repository.CommentRepository;
 import org.project.monewping.domain.interest.entity.Interest;
 import org.project.monewping.domain.interest.repository.InterestRepository;
 import org.project.monewping.domain.notification.entity.Notification;
 import org.project.monewping.domain.notification.repository.NotificationRepository;
 import org.project.monewping.global.dto.CursorPageResponse;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -40,6 +46,9 @@ public class ArticlesServiceImpl implements ArticlesService {
     private final InterestRepository interestRepository;
     private final ArticlesMapper articlesMapper;
     private final NotificationRepository notificationRepository;
+    private final ArticleListCache articleListCache;
+    private final CommentRepository commentRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 중복되지 않은 뉴스 기사 요청을 저장합니다.
@@ -98,6 +107,7 @@ public class ArticlesServiceImpl implements ArticlesService {
 
         // 저장
         articlesRepository.saveAll(articlesToSave);
+        eventPublisher.publishEvent(new ArticleListChangedEvent());
 
         log.info("[saveAll] 뉴스 기사 저장 완료 - count: {}", articlesToSave.size());
         return articlesToSave.size();
@@ -115,49 +125,28 @@ public class ArticlesServiceImpl implements ArticlesService {
             request.keyword(), request.interestId(), request.sourceIn(), request.orderBy(), request.direction(),
             request.cursor(), request.after());
 
-        List<Articles> entities = articlesRepository.searchArticles(request);
-        boolean hasNext = entities.size() > request.limit();
-
-        List<Articles> page = hasNext ? entities.subList(0, request.limit()) : entities;
-
-        // 1) 사용자 ID로 조회한 기사들 ID 목록 획득
-        List<UUID> articleIds = page.stream()
-            .map(Articles::getId)
-            .toList();
-
-        List<UUID> viewedArticleIds = articleViewsRepository.findAllByViewedByAndArticleIdIn(request.requestUserId(), articleIds)
-            .stream()
-            .map(av -> av.getArticle().getId())
-            .toList();
-
-        // 2) DTO 변환 시 viewedByMe 세팅
-        List<ArticleDto> dtoList = page.stream()
-            .map(article -> {
-                boolean viewedByMe = viewedArticleIds.contains(article.getId());
-                return articlesMapper.toDto(article).withViewedByMe(viewedByMe);
-            })
-            .toList();
-
-        String nextCursor = null;
-        String nextAfter = null;
-        if (hasNext) {
-            Articles lastArticle = page.get(page.size() - 1);
-            nextCursor = lastArticle.getId().toString();
-            nextAfter = lastArticle.getPublishedAt().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME);
+        CachedPage cached = articleListCache.get(request).orElse(null);
+        if (cached == null) {
+            long generation = articleListCache.generation();
+            cached = loadPage(request);
+            articleListCache.put(request, cached, generation);
+        } else {
+            log.debug("뉴스 기사 목록 캐시 적중 = 결과 수 : {}", cached.content().size());
         }
 
-        long totalCount = articlesRepository.countArticles(request);
+        // 사용자별 조회 여부는 캐시와 분리하여 매 요청마다 병합
+        List<ArticleDto> dtoList = mergeViewedByMe(cached.content(), request.requestUserId());
 
         log.info("뉴스 기사 목록 조회 완료 = 결과 수 : {}, 총 개수 : {}, 다음 커서 : {}",
-            dtoList.size(), totalCount, nextCursor);
+            dtoList.size(), cached.totalElements(), cached.nextCursor());
 
         return new CursorPageResponse<>(
             dtoList,
-            nextCursor,
-            nextAfter,
+            cached.nextCursor(),
+            cached.nextAfter(),
             dtoList.size(),
-            totalCount,
-            hasNext
+            cached.totalElements(),
+            cached.hasNext()
         );
     }
 
@@ -177,6 +166,7 @@ public class ArticlesServiceImpl implements ArticlesService {
             });
 
         article.softDelete();
+        eventPublisher.publishEvent(new ArticleListChangedEvent());
         log.info("뉴스 기사 논리 삭제 완료. articleId = {}", articleId);
 
         deactivateArticleNotification(article.getInterest().getId(), article.getCreatedAt());
@@ -184,7 +174,9 @@ public class ArticlesServiceImpl implements ArticlesService {
 
     /**
      * 뉴스 기사를 DB에서 완전히 삭제합니다.
-     * 연관된 조회 기록도 함께 삭제되어야 합니다.
+     * 연관된 조회 기록과 댓글도 함께 삭제합니다.
+     * (파티션 테이블인 articles 에는 참조 외래 키를 둘 수 없어 연쇄 삭제를 직접 수행합니다.
+     * 운영 DB에서는 관심사 삭제 등 다른 경로의 기사 삭제도 기사 DELETE 트리거가 같은 정리를 수행합니다.)
      *
      * @param articleId 삭제할 기사 UUID
      * @throws ArticleNotFoundException 해당 ID의 기사가 존재하지 않는 경우
@@ -196,7 +188,10 @@ public class ArticlesServiceImpl implements ArticlesService {
                 return new ArticleNotFoundException(articleId);
             });
 
+        articleViewsRepository.deleteAllByArticleId(articleId);
+        commentRepository.deleteAllByArticleId(articleId);
         articlesRepository.delete(article);
+        eventPublisher.publishEvent(new ArticleListChangedEvent());
         log.info("뉴스 기사 물리 삭제 완료. articleId = {}", articleId);
 
         deactivateArticleNotification(article.getInterest().getId(), article.getCreatedAt());
@@ -204,6 +199,57 @@ public class ArticlesServiceImpl implements ArticlesService {
 
     /* 내부 헬퍼 메서드로 중복 코드 제거 */
 
+    /**
+     * 검색 조건으로 기사 목록과 총 개수를 조회하여 사용자 정보가 없는 페이지로 구성합니다.
+     *
+     * @param request 검색 조건 및 페이지네이션 정보
+     * @return viewedByMe가 모두 false인 페이지
+     */
+    private CachedPage loadPage(ArticleSearchRequest request) {
+        List<Articles> entities = articlesRepository.searchArticles(request);
+        boolean hasNext = entities.size() > request.limit();
+
+        List<Articles> page = hasNext ? entities.subList(0, request.limit()) : entities;
+
+        List<ArticleDto> dtoList = page.stream()
+            .map(articlesMapper::toDto)
+            .toList();
+
+        String nextCursor = null;
+        String nextAfter = null;
+        if (hasNext) {
+            Articles lastArticle = page.get(page.size() - 1);
+            nextCursor = lastArticle.getId().toString();
+            nextAfter = lastArticle.getPublishedAt().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME);
+        }
+
+        long totalCount = articlesRepository.countArticles(request);
+
+        return new CachedPage(dtoList, nextCursor, nextAfter, totalCount, hasNext);
+    }
+
+    /**
+     * 요청 사용자의 조회 기록을 조회하여 각 기사 DTO의 viewedByMe 값을 설정합니다.
+     *
+     * @param content 기사 DTO 목록
+     * @param userId  요청 사용자 ID
+     * @return viewedByMe가 반영된 DTO 목록
+     */
+    private List<ArticleDto> mergeViewedByMe(List<ArticleDto> content, UUID userId) {
+        List<UUID> articleIds = content.stream()
+            .map(ArticleDto::id)
+            .toList();
+
+        Set<UUID> viewedArticleIds = articleViewsRepository.findAllByViewedByAndArticleIdIn(userId, articleIds)
+            .stream()
+            .map(av -> av.getArticle().getId())
+            .collect(Collectors.toSet());
+
+        return content.stream()
+            .map(dto -> dto.withViewedByMe(viewedArticleIds.contains(dto.id())))
+            .toList();
+    }
+
 
     /**
      * 관심사 UUID를 기반으로 Interest 엔티티를 조회합니다.
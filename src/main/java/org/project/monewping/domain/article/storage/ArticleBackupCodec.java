@@ -0,0 +1,508 @@
+package org.project.monewping.domain.article.storage;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.type.CollectionType;
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.DigestInputStream;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import org.project.monewping.domain.article.dto.data.ArticleBackupDto;
+import org.project.monewping.domain.article.storage.ArticleBackupIndex.Block;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 뉴스 기사 백업 파일의 직렬화/역직렬화를 담당합니다.
+ *
+ * <p>{@link ArticleBackupFormat#BLOCKS} 형식의 파일 구조는 다음과 같습니다.</p>
+ * <pre>
+ * [블록 0] ... [블록 n-1]   각 블록은 최대 blockSize건의 NDJSON을 독립된 gzip 멤버로 압축
+ * [푸터]                   {@link ArticleBackupIndex} JSON (블록 위치, 건수, ID 범위, 링크 해시)
+ * [트레일러 12 byte]        푸터 길이(int64) + 매직 "MWB1"
+ * </pre>
+ *
+ * <p>두 형식 모두 Jackson 스트리밍으로 한 건씩 기록하므로 기사 수와 관계없이 메모리 사용량이 일정합니다.
+ * JSON 형식은 gzip 헤더 유무로 압축 여부를 판단하여 기존 비압축 JSON 백업도 그대로 읽습니다.</p>
+ *
+ * <p>전체 백업은 기록과 동시에 SHA-256과 건수를 계산하여 {@link ArticleBackupManifest}를 만들고,
+ * 검증 시에는 파일을 한 번만 순차적으로 읽어 매니페스트와 대조합니다.</p>
+ */
+@Component
+public class ArticleBackupCodec {
+
+    static final int BLOCK_FORMAT_VERSION = 1;
+    static final int TRAILER_SIZE = Long.BYTES + 4;
+
+    private static final byte[] MAGIC = "MWB1".getBytes(StandardCharsets.US_ASCII);
+    private static final int GZIP_BUFFER_SIZE = 64 * 1024;
+
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter articleWriter;
+    private final ObjectReader articleReader;
+    private final CollectionType listType;
+    private final ArticleBackupFormat format;
+    private final int blockSize;
+
+    public ArticleBackupCodec(
+        ObjectMapper objectMapper,
+        @Value("${monewping.backup.format:BLOCKS}") ArticleBackupFormat format,
+        @Value("${monewping.backup.block-size:1000}") int blockSize
+    ) {
+        if (blockSize <= 0) {
+            throw new IllegalArgumentException("블록 크기는 1 이상이어야 합니다 : " + blockSize);
+        }
+        this.objectMapper = objectMapper;
+        this.articleWriter = objectMapper.writerFor(ArticleBackupDto.class)
+            .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.articleReader = objectMapper.readerFor(ArticleBackupDto.class);
+        this.listType = objectMapper.getTypeFactory().constructCollectionType(List.class, ArticleBackupDto.class);
+        this.format = format;
+        this.blockSize = blockSize;
+    }
+
+    /**
+     * @return 새 백업을 기록할 때 사용하는 형식
+     */
+    public ArticleBackupFormat format() {
+        return format;
+    }
+
+    /**
+     * 기사 스트림을 설정된 형식으로 기록합니다. {@code out}은 닫지 않습니다.
+     *
+     * @param articles 기록할 기사 스트림
+     * @param out      출력 대상
+     * @return 기록한 기사 수
+     * @throws IOException 기록 실패 시
+     */
+    public long write(Stream<ArticleBackupDto> articles, OutputStream out) throws IOException {
+        return switch (format) {
+            case BLOCKS -> writeBlocks(articles, out).rowCount();
+            case JSON -> writeJson(articles, out);
+        };
+    }
+
+    /**
+     * 기사 스트림을 설정된 형식으로 기록하면서 파일 크기, SHA-256, 건수, 발행일시 범위, 링크 해시 합을 계산합니다.
+     * {@code out}은 닫지 않습니다.
+     *
+     * @param articles 기록할 기사 스트림
+     * @param out      출력 대상
+     * @return 기록한 파일의 매니페스트
+     * @throws IOException 기록 실패 시
+     */
+    public ArticleBackupManifest writeWithManifest(Stream<ArticleBackupDto> articles, OutputStream out)
+        throws IOException {
+        MessageDigest sha256 = sha256();
+        CountingOutputStream counting = new CountingOutputStream(new DigestOutputStream(out, sha256));
+        ManifestCollector collector = new ManifestCollector();
+
+        long rowCount = write(articles.peek(collector::add), counting);
+        counting.flush();
+
+        return new ArticleBackupManifest(ArticleBackupManifest.VERSION, format, rowCount, counting.count,
+            HexFormat.of().formatHex(sha256.digest()), collector.minPublishedAt, collector.maxPublishedAt,
+            collector.linkDigest, Instant.now());
+    }
+
+    /**
+     * 백업 파일을 처음부터 끝까지 한 번 순차적으로 읽어 매니페스트의 크기, SHA-256, 기사 수와 대조합니다.
+     * JSON 형식은 같은 스트림에서 기사 수를 세고, 블록 형식은 해시 검증 후 푸터의 기사 수를 비교합니다.
+     *
+     * @param source   백업 파일
+     * @param manifest 백업과 함께 기록된 매니페스트
+     * @return 일치하지 않는 항목 설명, 모두 일치하면 빈 값
+     * @throws IOException 읽기 실패 또는 압축 해제, 파싱이 불가능할 만큼 손상된 경우
+     */
+    public Optional<String> verify(ArticleBackupSource source, ArticleBackupManifest manifest) throws IOException {
+        long size = source.size();
+        if (size != manifest.size()) {
+            return Optional.of("파일 크기 불일치 : expected = " + manifest.size() + ", actual = " + size);
+        }
+
+        MessageDigest sha256 = sha256();
+        long rowCount = -1;
+        try (InputStream digesting = new DigestInputStream(source.open(0, size), sha256)) {
+            if (manifest.format() == ArticleBackupFormat.JSON) {
+                try (InputStream json = decompress(digesting)) {
+                    rowCount = countJson(json);
+                    json.transferTo(OutputStream.nullOutputStream());
+                }
+            } else {
+                digesting.transferTo(OutputStream.nullOutputStream());
+            }
+        }
+
+        String actual = HexFormat.of().formatHex(sha256.digest());
+        if (!actual.equals(manifest.sha256())) {
+            return Optional.of("SHA-256 불일치 : expected = " + manifest.sha256() + ", actual = " + actual);
+        }
+        if (manifest.format() == ArticleBackupFormat.BLOCKS) {
+            rowCount = readIndex(source).rowCount();
+        }
+        if (rowCount != manifest.rowCount()) {
+            return Optional.of("기사 수 불일치 : expected = " + manifest.rowCount() + ", actual = " + rowCount);
+        }
+        return Optional.empty();
+    }
+
+    public byte[] writeManifest(ArticleBackupManifest manifest) throws IOException {
+        return objectMapper.writeValueAsBytes(manifest);
+    }
+
+    public ArticleBackupManifest readManifest(InputStream in) throws IOException {
+        return objectMapper.readValue(in, ArticleBackupManifest.class);
+    }
+
+    /**
+     * JSON 형식 백업을 읽어 기사 목록으로 역직렬화합니다. gzip 압축 여부는 자동으로 판단합니다.
+     *
+     * @param in 백업 파일 입력 스트림
+     * @return 기사 목록
+     * @throws IOException 읽기 또는 역직렬화 실패 시
+     */
+    public List<ArticleBackupDto> readJson(InputStream in) throws IOException {
+        return objectMapper.readValue(decompress(in), listType);
+    }
+
+    /**
+     * 블록 형식 백업에서 제외 대상이 아닌 기사만 읽습니다.
+     * 모든 링크가 제외 대상인 블록은 읽지 않으며, 연속한 블록은 한 번의 구간 읽기로 묶습니다.
+     *
+     * @param source        백업 파일
+     * @param excludedLinks 읽지 않을 원본 링크 (이미 DB에 있는 기사 등)
+     * @return 제외 대상이 아닌 기사 목록
+     * @throws IOException 읽기 실패 또는 파일이 손상된 경우
+     */
+    public List<ArticleBackupDto> readBlocks(ArticleBackupSource source, Set<String> excludedLinks) throws IOException {
+        List<Block> blocks = readIndex(source).blocks();
+
+        Set<Long> excludedHashes = new HashSet<>();
+        for (String link : excludedLinks) {
+            excludedHashes.add(linkHash(link));
+        }
+        boolean[] needed = new boolean[blocks.size()];
+        for (int i = 0; i < blocks.size(); i++) {
+            needed[i] = blocks.get(i).hasLinkOutside(excludedHashes);
+        }
+
+        List<ArticleBackupDto> result = new ArrayList<>();
+        int i = 0;
+        while (i < blocks.size()) {
+            if (!needed[i]) {
+                i++;
+                continue;
+            }
+            int end = i;
+            while (end + 1 < blocks.size() && needed[end + 1]) {
+                end++;
+            }
+
+            Block first = blocks.get(i);
+            Block last = blocks.get(end);
+            try (InputStream run = source.open(first.offset(), last.offset() + last.length() - first.offset())) {
+                for (int b = i; b <= end; b++) {
+                    readBlock(run, blocks.get(b), excludedLinks, result);
+                }
+            }
+            i = end + 1;
+        }
+        return result;
+    }
+
+    /**
+     * 블록 형식 백업을 블록 단위로 필요할 때 읽는 스트림을 반환합니다.
+     * 인덱스만 먼저 읽고, 한 번에 한 블록만 메모리에 올리므로 파일 크기와 무관하게 메모리 사용량이 일정합니다.
+     * 블록을 읽다가 실패하면 {@link UncheckedIOException}이 발생합니다.
+     *
+     * @param source 백업 파일 (스트림을 모두 소비할 때까지 열려 있어야 함)
+     * @return 기사 스트림 (기록 순서)
+     * @throws IOException 인덱스 읽기 실패 또는 파일이 손상된 경우
+     */
+    public Stream<ArticleBackupDto> streamBlocks(ArticleBackupSource source) throws IOException {
+        return readIndex(source).blocks().stream()
+            .flatMap(block -> {
+                List<ArticleBackupDto> articles = new ArrayList<>(block.count());
+                try (InputStream in = source.open(block.offset(), block.length())) {
+                    readBlock(in, block, Set.of(), articles);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                return articles.stream();
+            });
+    }
+
+    /**
+     * 블록 형식 백업의 트레일러와 푸터를 읽어 블록 인덱스를 반환합니다.
+     *
+     * @param source 백업 파일
+     * @return 블록 인덱스
+     * @throws IOException 읽기 실패 또는 파일이 손상된 경우
+     */
+    public ArticleBackupIndex readIndex(ArticleBackupSource source) throws IOException {
+        long size = source.size();
+        if (size < TRAILER_SIZE) {
+            throw new IOException("블록 백업 트레일러가 없습니다 : size = " + size);
+        }
+
+        ByteBuffer trailer;
+        try (InputStream in = source.open(size - TRAILER_SIZE, TRAILER_SIZE)) {
+            trailer = ByteBuffer.wrap(in.readNBytes(TRAILER_SIZE));
+        }
+        long footerLength = trailer.getLong();
+        byte[] magic = new byte[MAGIC.length];
+        trailer.get(magic);
+        if (!Arrays.equals(magic, MAGIC) || footerLength <= 0 || footerLength > size - TRAILER_SIZE) {
+            throw new IOException("손상된 블록 백업입니다 : footerLength = " + footerLength);
+        }
+
+        try (InputStream in = source.open(size - TRAILER_SIZE - footerLength, footerLength)) {
+            return objectMapper.readValue(in, ArticleBackupIndex.class);
+        }
+    }
+
+    /**
+     * 원본 링크의 64bit FNV-1a 해시. 블록 인덱스에서 기사 존재 여부를 판단하는 데 사용합니다.
+     */
+    public static long linkHash(String link) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : link.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    private long writeJson(Stream<ArticleBackupDto> articles, OutputStream out) throws IOException {
+        long count = 0;
+        try (GZIPOutputStream gzip = new GZIPOutputStream(new CloseShieldOutputStream(out), GZIP_BUFFER_SIZE);
+            JsonGenerator generator = objectMapper.getFactory().createGenerator(gzip)) {
+
+            generator.writeStartArray();
+            Iterator<ArticleBackupDto> iterator = articles.iterator();
+            while (iterator.hasNext()) {
+                articleWriter.writeValue(generator, iterator.next());
+                count++;
+            }
+            generator.writeEndArray();
+        }
+        return count;
+    }
+
+    private ArticleBackupIndex writeBlocks(Stream<ArticleBackupDto> articles, OutputStream out) throws IOException {
+        CountingOutputStream counting = new CountingOutputStream(out);
+        List<Block> blocks = new ArrayList<>();
+        long rowCount = 0;
+
+        BlockWriter current = null;
+        Iterator<ArticleBackupDto> iterator = articles.iterator();
+        while (iterator.hasNext()) {
+            if (current == null) {
+                current = new BlockWriter(counting);
+            }
+            current.append(iterator.next());
+            rowCount++;
+            if (current.count == blockSize) {
+                blocks.add(current.finish());
+                current = null;
+            }
+        }
+        if (current != null) {
+            blocks.add(current.finish());
+        }
+
+        ArticleBackupIndex index = new ArticleBackupIndex(BLOCK_FORMAT_VERSION, rowCount, blocks);
+        byte[] footer = objectMapper.writeValueAsBytes(index);
+        counting.write(footer);
+        counting.write(ByteBuffer.allocate(TRAILER_SIZE).putLong(footer.length).put(MAGIC).array());
+        counting.flush();
+        return index;
+    }
+
+    private void readBlock(InputStream run, Block block, Set<String> excludedLinks, List<ArticleBackupDto> result)
+        throws IOException {
+        // 블록마다 독립된 gzip 멤버로 해제 (멀티 멤버 연속 해제는 네트워크 스트림에서 조기 종료될 수 있음)
+        byte[] compressed = run.readNBytes(Math.toIntExact(block.length()));
+        if (compressed.length != block.length()) {
+            throw new IOException("블록 데이터가 부족합니다 : offset = " + block.offset());
+        }
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed), GZIP_BUFFER_SIZE);
+            MappingIterator<ArticleBackupDto> articles = articleReader.readValues(in)) {
+            while (articles.hasNext()) {
+                ArticleBackupDto article = articles.next();
+                if (!excludedLinks.contains(article.sourceUrl())) {
+                    result.add(article);
+                }
+            }
+        }
+    }
+
+    // 배열 원소를 역직렬화하지 않고 건너뛰며 개수만 셈 (입력 스트림은 닫지 않음)
+    private long countJson(InputStream in) throws IOException {
+        long count = 0;
+        try (JsonParser parser = objectMapper.getFactory().createParser(in)) {
+            parser.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IOException("JSON 백업이 배열 형식이 아닙니다.");
+            }
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                parser.skipChildren();
+                count++;
+            }
+            if (parser.currentToken() != JsonToken.END_ARRAY) {
+                throw new IOException("JSON 백업 배열이 올바르게 끝나지 않았습니다.");
+            }
+        }
+        return count;
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+
+    private InputStream decompress(InputStream in) throws IOException {
+        BufferedInputStream buffered = new BufferedInputStream(in, GZIP_BUFFER_SIZE);
+        buffered.mark(2);
+        int first = buffered.read();
+        int second = buffered.read();
+        buffered.reset();
+
+        boolean gzipped = first == (GZIPInputStream.GZIP_MAGIC & 0xff)
+            && second == (GZIPInputStream.GZIP_MAGIC >> 8);
+        return gzipped ? new GZIPInputStream(buffered, GZIP_BUFFER_SIZE) : buffered;
+    }
+
+    /**
+     * 하나의 블록을 독립된 gzip 멤버로 기록하며 건수, ID 범위, 링크 해시를 수집합니다.
+     */
+    private class BlockWriter {
+
+        private final CountingOutputStream out;
+        private final long offset;
+        private final GZIPOutputStream gzip;
+        private final long[] linkHashes = new long[blockSize];
+        private int count;
+        private UUID minId;
+        private UUID maxId;
+
+        BlockWriter(CountingOutputStream out) throws IOException {
+            this.out = out;
+            this.offset = out.count;
+            this.gzip = new GZIPOutputStream(new CloseShieldOutputStream(out), GZIP_BUFFER_SIZE);
+        }
+
+        void append(ArticleBackupDto article) throws IOException {
+            gzip.write(articleWriter.writeValueAsBytes(article));
+            gzip.write('\n');
+
+            linkHashes[count++] = linkHash(article.sourceUrl());
+            UUID id = article.id();
+            if (id != null) {
+                minId = minId == null || id.compareTo(minId) < 0 ? id : minId;
+                maxId = maxId == null || id.compareTo(maxId) > 0 ? id : maxId;
+            }
+        }
+
+        Block finish() throws IOException {
+            gzip.close();
+            return new Block(offset, out.count - offset, count, minId, maxId, Arrays.copyOf(linkHashes, count));
+        }
+    }
+
+    /**
+     * 기록되는 기사의 발행일시 범위와 링크 해시 합을 수집합니다.
+     */
+    private static class ManifestCollector {
+
+        private LocalDateTime minPublishedAt;
+        private LocalDateTime maxPublishedAt;
+        private long linkDigest;
+
+        void add(ArticleBackupDto article) {
+            linkDigest += linkHash(article.sourceUrl());
+            LocalDateTime publishedAt = article.publishDate();
+            if (publishedAt != null) {
+                minPublishedAt = minPublishedAt == null || publishedAt.isBefore(minPublishedAt) ? publishedAt : minPublishedAt;
+                maxPublishedAt = maxPublishedAt == null || publishedAt.isAfter(maxPublishedAt) ? publishedAt : maxPublishedAt;
+            }
+        }
+    }
+
+    /**
+     * 기록한 바이트 수를 세어 블록 위치와 파일 크기를 계산하기 위한 래퍼
+     */
+    private static class CountingOutputStream extends FilterOutputStream {
+
+        private long count;
+
+        CountingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            count += len;
+        }
+    }
+
+    /**
+     * 압축 스트림을 닫아 Deflater를 해제하면서도 실제 출력 대상은 열어 두기 위한 래퍼
+     */
+    private static class CloseShieldOutputStream extends FilterOutputStream {
+
+        CloseShieldOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+        }
+
+        @Override
+        public void close() throws IOException {
+            flush();
+        }
+    }
+}
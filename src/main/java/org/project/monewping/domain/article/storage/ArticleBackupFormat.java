@@ -0,0 +1,25 @@
+package org.project.monewping.domain.article.storage;
+
+/**
+ * 뉴스 기사 백업 파일 형식.
+ *
+ * <ul>
+ *     <li>{@link #BLOCKS} - gzip 블록 단위 NDJSON과 블록 인덱스 푸터. 필요한 블록만 범위 읽기가 가능합니다.</li>
+ *     <li>{@link #JSON} - gzip으로 압축한 단일 JSON 배열. 전체를 역직렬화해야 합니다.</li>
+ * </ul>
+ */
+public enum ArticleBackupFormat {
+
+    BLOCKS(".ndjson.gz"),
+    JSON(".json.gz");
+
+    private final String extension;
+
+    ArticleBackupFormat(String extension) {
+        this.extension = extension;
+    }
+
+    public String extension() {
+        return extension;
+    }
+}
@@ -0,0 +1,54 @@
+package org.project.monewping.domain.article.storage;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 블록 형식 백업 파일 끝에 기록되는 블록 인덱스(푸터)입니다.
+ *
+ * @param version  블록 형식 버전
+ * @param rowCount 전체 기사 수
+ * @param blocks   파일 앞쪽부터 순서대로 나열한 블록 정보
+ */
+public record ArticleBackupIndex(
+    int version,
+    long rowCount,
+    List<Block> blocks
+) {
+
+    /**
+     * 독립된 gzip 멤버 하나로 압축된 NDJSON 블록 정보입니다.
+     *
+     * @param offset     파일 내 시작 위치 (byte)
+     * @param length     압축된 블록 크기 (byte)
+     * @param count      블록 내 기사 수
+     * @param minId      블록 내 최소 기사 ID
+     * @param maxId      블록 내 최대 기사 ID
+     * @param linkHashes 블록 내 기사 원본 링크의 64bit 해시 ({@link ArticleBackupCodec#linkHash(String)})
+     */
+    public record Block(
+        long offset,
+        long length,
+        int count,
+        UUID minId,
+        UUID maxId,
+        long[] linkHashes
+    ) {
+
+        /**
+         * 주어진 해시 집합에 없는 링크가 하나라도 있는지 확인합니다.
+         *
+         * @param excludedHashes 제외할 링크 해시 집합
+         * @return 읽어야 할 기사가 있으면 {@code true}
+         */
+        public boolean hasLinkOutside(Set<Long> excludedHashes) {
+            for (long hash : linkHashes) {
+                if (!excludedHashes.contains(hash)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package org.project.monewping.domain.article.storage;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+/**
+ * 날짜별 전체 백업 파일과 함께 기록되는 매니페스트입니다.
+ * 백업 파일을 모두 기록한 뒤 "articles-YYYY-MM-DD.manifest.json"으로 저장하며,
+ * 무결성 검증과 복구 시 다운로드 생략 여부 판단에 사용합니다.
+ *
+ * @param version        매니페스트 형식 버전
+ * @param format         백업 파일 형식
+ * @param rowCount       기사 수
+ * @param size           백업 파일 크기 (byte)
+ * @param sha256         백업 파일 전체의 SHA-256 (16진수 소문자)
+ * @param minPublishedAt 가장 이른 기사 발행일시, 기사가 없으면 {@code null}
+ * @param maxPublishedAt 가장 늦은 기사 발행일시, 기사가 없으면 {@code null}
+ * @param linkDigest     원본 링크 해시({@link ArticleBackupCodec#linkHash(String)})의 합
+ * @param createdAt      기록 시각
+ */
+public record ArticleBackupManifest(
+    int version,
+    ArticleBackupFormat format,
+    long rowCount,
+    long size,
+    String sha256,
+    LocalDateTime minPublishedAt,
+    LocalDateTime maxPublishedAt,
+    long linkDigest,
+    Instant createdAt
+) {
+
+    public static final int VERSION = 1;
+    public static final String EXTENSION = ".manifest.json";
+
+    /**
+     * 주어진 원본 링크 집합이 백업에 기록된 링크 집합과 같은지 확인합니다.
+     * 건수와 순서에 무관한 링크 해시 합을 비교하므로 링크를 모두 내려받지 않고 판단할 수 있습니다.
+     *
+     * @param links 비교할 원본 링크 (중복 없음)
+     * @return 건수와 링크 해시 합이 모두 같으면 {@code true}
+     */
+    public boolean matchesLinks(Collection<String> links) {
+        return links.size() == rowCount && linkDigest(links) == linkDigest;
+    }
+
+    /**
+     * 원본 링크 해시의 합 (overflow 허용). 기록 순서와 무관하게 같은 값을 가집니다.
+     */
+    public static long linkDigest(Iterable<String> links) {
+        long digest = 0;
+        for (String link : links) {
+            digest += ArticleBackupCodec.linkHash(link);
+        }
+        return digest;
+    }
+}
@@ -0,0 +1,25 @@
+package org.project.monewping.domain.article.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * 백업 파일의 임의 구간을 읽기 위한 추상화입니다.
+ * S3는 Range 요청, 로컬 파일은 메모리 매핑으로 구현합니다.
+ */
+public interface ArticleBackupSource {
+
+    /**
+     * @return 백업 파일 전체 크기 (byte)
+     */
+    long size() throws IOException;
+
+    /**
+     * 지정한 구간을 읽는 스트림을 엽니다.
+     *
+     * @param offset 시작 위치 (byte)
+     * @param length 읽을 길이 (byte)
+     * @return 구간 입력 스트림. 호출 측에서 닫아야 합니다.
+     */
+    InputStream open(long offset, long length) throws IOException;
+}
@@ -1,13 +1,85 @@
 package org.project.monewping.domain.article.storage;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
-import org.project.monewping.domain.article.dto.data.ArticleDto;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+import org.project.monewping.domain.article.dto.data.ArticleBackupDto;
+import org.project.monewping.domain.article.dto.response.ArticleBackupVerificationDto;
 
 public interface ArticleBackupStorage {
 
-    List<ArticleDto> load(LocalDate date);
+    List<ArticleBackupDto> load(LocalDate date);
 
-    void save(LocalDate date, List<ArticleDto> articles);
+    /**
+     * 지정한 원본 링크를 제외한 기사만 읽습니다.
+     * 블록 인덱스를 지원하는 구현은 제외 대상만 담긴 블록을 읽지 않습니다.
+     */
+    default List<ArticleBackupDto> loadExcluding(LocalDate date, Set<String> excludedLinks) {
+        return load(date).stream()
+            .filter(article -> !excludedLinks.contains(article.sourceUrl()))
+            .toList();
+    }
 
-}
\ No newline at end of file
+    /**
+     * 해당 날짜의 전체 백업을 순차적으로 읽는 스트림을 반환합니다. 호출 측에서 스트림을 닫아야 합니다.
+     * 블록 형식을 지원하는 구현은 한 번에 한 블록만 읽습니다.
+     */
+    default Stream<ArticleBackupDto> stream(LocalDate date) {
+        return load(date).stream();
+    }
+
+    /**
+     * 기사 스트림을 순차적으로 기록합니다. 스트림은 한 번만 소비하며 닫지 않습니다.
+     * 백업 파일을 모두 기록한 뒤 {@link ArticleBackupManifest}를 기록합니다.
+     *
+     * @return 기록한 기사 수
+     */
+    long save(LocalDate date, Stream<ArticleBackupDto> articles);
+
+    default void save(LocalDate date, List<ArticleBackupDto> articles) {
+        save(date, articles.stream());
+    }
+
+    /**
+     * 한 시간 동안 변경된 기사를 변경분 세그먼트로 기록합니다. 같은 시각의 세그먼트가 있으면 덮어씁니다.
+     *
+     * @param hour 변경 구간 시작 시각 (정시)
+     * @return 기록한 기사 수
+     */
+    long saveChanges(LocalDateTime hour, Stream<ArticleBackupDto> articles);
+
+    /**
+     * 해당 날짜에 기록된 변경분 세그먼트를 시간 순서대로 모두 읽습니다.
+     */
+    List<ArticleBackupDto> loadChanges(LocalDate date);
+
+    /**
+     * 해당 날짜의 변경분 세그먼트를 시간 순서대로 읽는 스트림을 반환합니다. 호출 측에서 스트림을 닫아야 합니다.
+     * 블록 형식을 지원하는 구현은 한 번에 한 블록만 읽습니다.
+     */
+    default Stream<ArticleBackupDto> streamChanges(LocalDate date) {
+        return loadChanges(date).stream();
+    }
+
+    /**
+     * 해당 날짜의 변경분 세그먼트를 삭제합니다. 전체 백업에 병합한 뒤 호출합니다.
+     */
+    void deleteChanges(LocalDate date);
+
+    /**
+     * 해당 날짜의 전체 백업 매니페스트를 읽습니다.
+     *
+     * @return 매니페스트, 백업이 없거나 매니페스트 도입 이전 백업이면 빈 값
+     */
+    Optional<ArticleBackupManifest> loadManifest(LocalDate date);
+
+    /**
+     * 해당 날짜의 전체 백업 파일을 순차적으로 읽어 매니페스트와 대조합니다.
+     * 저장소 접근 자체가 실패하면 예외 대신 {@code ERROR} 결과를 반환합니다.
+     */
+    ArticleBackupVerificationDto verify(LocalDate date);
+
+}
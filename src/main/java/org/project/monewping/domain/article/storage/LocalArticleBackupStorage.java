@@ -0,0 +1,635 @@
+package org.project.monewping.domain.article.storage;
+
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.project.monewping.domain.article.dto.data.ArticleBackupDto;
+import org.project.monewping.domain.article.dto.response.ArticleBackupVerificationDto;
+import org.project.monewping.domain.article.exception.LocalBackupLoadException;
+import org.project.monewping.domain.article.exception.LocalBackupSaveException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 로컬 파일 시스템(NFS 포함)에 뉴스 기사 백업 파일을 저장하는 저장소 구현체입니다.
+ *
+ * <p>{@code aws.storage.type: local}일 때 사용되며, S3와 같은 파일명과 형식을 사용하므로
+ * 파일을 그대로 옮겨 S3 백업과 교차 사용할 수 있습니다.</p>
+ *
+ * <ul>
+ *     <li>저장: 같은 디렉터리의 임시 파일에 기록하고 fsync 후 원자적 이름 변경으로 교체합니다.
+ *         기록 도중 실패해도 기존 백업 파일은 손상되지 않습니다. 백업 파일을 교체한 뒤
+ *         {@code articles-YYYY-MM-DD.manifest.json} 매니페스트도 같은 방식으로 교체합니다.</li>
+ *     <li>복구: 파일 채널을 메모리 매핑하여 읽으며, 블록 형식은 필요한 블록 구간만 매핑합니다.</li>
+ *     <li>디렉터리 인덱스: 날짜별 파일명, 형식, 크기, 건수를 {@value #INDEX_FILE}에 유지하여
+ *         디렉터리를 탐색하지 않고 백업 파일을 찾습니다. 인덱스가 없으면 디렉터리를 스캔해 재구성하며,
+ *         재구성한 인덱스는 다음 저장 시 기록합니다.</li>
+ *     <li>변경분: 시간별 세그먼트를 {@code incremental/YYYY-MM-DD/articles-HH} 파일로 저장하며,
+ *         디렉터리 인덱스에는 포함하지 않습니다.</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "aws.storage.type", havingValue = "local")
+public class LocalArticleBackupStorage implements ArticleBackupStorage {
+
+    static final String INDEX_FILE = "index.json";
+    static final String CHANGES_DIRECTORY = "incremental";
+
+    private static final Pattern BACKUP_FILE =
+        Pattern.compile("articles-(\\d{4}-\\d{2}-\\d{2})(\\.ndjson\\.gz|\\.json\\.gz|\\.json)");
+    private static final String LEGACY_EXTENSION = ".json";
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+
+    private final ArticleBackupCodec codec;
+    private final ObjectMapper objectMapper;
+    private final Path directory;
+    private final NavigableMap<LocalDate, IndexEntry> index = new ConcurrentSkipListMap<>();
+
+    public LocalArticleBackupStorage(
+        ArticleBackupCodec codec,
+        ObjectMapper objectMapper,
+        @Value("${monewping.backup.local.directory:backup}") String directory
+    ) {
+        this.codec = codec;
+        this.objectMapper = objectMapper;
+        this.directory = Path.of(directory).toAbsolutePath().normalize();
+
+        try {
+            Files.createDirectories(this.directory);
+            loadIndex();
+        } catch (IOException e) {
+            throw new IllegalStateException("로컬 백업 디렉터리를 초기화할 수 없습니다 : " + this.directory, e);
+        }
+        log.info("로컬 백업 저장소 초기화 - 경로 : {}, 백업 일수 : {}", this.directory, index.size());
+    }
+
+    /**
+     * 지정된 날짜의 뉴스 기사 백업 파일을 로드합니다.
+     *
+     * @param date 백업 파일의 날짜 (예: 2025-07-23)
+     * @return 해당 날짜에 저장된 뉴스 기사 리스트, 백업 파일이 없으면 빈 리스트
+     * @throws LocalBackupLoadException 파일을 읽는 도중 오류 발생 시
+     */
+    @Override
+    public List<ArticleBackupDto> load(LocalDate date) {
+        return loadExcluding(date, Set.of());
+    }
+
+    /**
+     * 지정된 날짜의 백업에서 제외 대상 링크가 아닌 기사만 메모리 매핑으로 읽습니다.
+     *
+     * @param date 백업 파일의 날짜
+     * @param excludedLinks 로드하지 않을 원본 링크
+     * @return 제외 대상이 아닌 뉴스 기사 리스트, 백업 파일이 없으면 빈 리스트
+     * @throws LocalBackupLoadException 파일을 읽는 도중 오류 발생 시
+     */
+    @Override
+    public List<ArticleBackupDto> loadExcluding(LocalDate date, Set<String> excludedLinks) {
+        Optional<IndexEntry> entry = lookup(date);
+        if (entry.isEmpty()) {
+            log.info("로컬 백업 파일이 존재하지 않습니다 : {}", date);
+            return List.of();
+        }
+
+        Path path = directory.resolve(entry.get().file());
+        try (MappedFileSource source = new MappedFileSource(path)) {
+            if (entry.get().format() == ArticleBackupFormat.BLOCKS) {
+                return codec.readBlocks(source, excludedLinks);
+            }
+            try (InputStream in = source.open(0, source.size())) {
+                return codec.readJson(in).stream()
+                    .filter(article -> !excludedLinks.contains(article.sourceUrl()))
+                    .toList();
+            }
+        } catch (NoSuchFileException e) {
+            // 인덱스 이후 파일이 삭제된 경우
+            log.info("로컬 백업 파일이 존재하지 않습니다 : {}", path);
+            index.remove(date);
+            return List.of();
+        } catch (Exception e) {
+            log.error("로컬 백업 파일 로드 실패 : {}", path, e);
+            throw new LocalBackupLoadException(path, e);
+        }
+    }
+
+    /**
+     * 지정된 날짜의 블록 형식 백업을 블록 단위로 읽는 스트림을 반환합니다.
+     * 스트림을 닫으면 파일도 닫힙니다. 블록 형식이 아니면 전체를 읽어 반환합니다.
+     *
+     * @param date 백업 파일의 날짜
+     * @return 기사 스트림, 백업 파일이 없으면 빈 스트림
+     * @throws LocalBackupLoadException 파일을 여는 도중 오류 발생 시
+     */
+    @Override
+    public Stream<ArticleBackupDto> stream(LocalDate date) {
+        Optional<IndexEntry> entry = lookup(date);
+        if (entry.isEmpty() || entry.get().format() != ArticleBackupFormat.BLOCKS) {
+            return load(date).stream();
+        }
+        return streamBlocks(directory.resolve(entry.get().file()));
+    }
+
+    /**
+     * 기사 스트림을 임시 파일에 기록한 뒤 원자적으로 백업 파일을 교체합니다.
+     *
+     * @param date 백업 파일의 날짜
+     * @param articles 저장할 뉴스 기사 스트림
+     * @return 저장한 기사 수
+     * @throws LocalBackupSaveException 기록 또는 파일 교체 실패 시
+     */
+    @Override
+    public long save(LocalDate date, Stream<ArticleBackupDto> articles) {
+        ArticleBackupFormat format = codec.format();
+        Path target = directory.resolve(fileName(date, format.extension()));
+
+        try {
+            ArticleBackupManifest manifest = writeAtomically(target, articles);
+            writeManifest(date, manifest);
+            deleteOtherFormats(date, target);
+
+            index.put(date, new IndexEntry(target.getFileName().toString(), format, manifest.size(),
+                manifest.rowCount()));
+            persistIndex();
+
+            log.info("뉴스 기사 데이터 로컬 백업 완료 : {}, 건수 : {}", target, manifest.rowCount());
+            return manifest.rowCount();
+        } catch (Exception e) {
+            log.error("로컬 백업 파일 저장 실패 : {}", target, e);
+            throw new LocalBackupSaveException(target, e);
+        }
+    }
+
+    /**
+     * 한 시간 동안 변경된 기사를 변경분 세그먼트 파일로 저장합니다.
+     *
+     * @param hour 변경 구간 시작 시각
+     * @param articles 변경된 뉴스 기사 스트림
+     * @return 저장한 기사 수
+     * @throws LocalBackupSaveException 기록 또는 파일 교체 실패 시
+     */
+    @Override
+    public long saveChanges(LocalDateTime hour, Stream<ArticleBackupDto> articles) {
+        Path target = changesDirectory(hour.toLocalDate())
+            .resolve("articles-" + String.format("%02d", hour.getHour()) + codec.format().extension());
+
+        try {
+            Files.createDirectories(target.getParent());
+            long count = writeAtomically(target, articles).rowCount();
+
+            log.info("뉴스 기사 변경분 로컬 백업 완료 : {}, 건수 : {}", target, count);
+            return count;
+        } catch (Exception e) {
+            log.error("로컬 변경분 백업 파일 저장 실패 : {}", target, e);
+            throw new LocalBackupSaveException(target, e);
+        }
+    }
+
+    /**
+     * 해당 날짜의 변경분 세그먼트를 파일명 순서(시간 순서)대로 모두 읽습니다.
+     *
+     * @param date 변경 날짜
+     * @return 세그먼트에 기록된 뉴스 기사 리스트, 세그먼트가 없으면 빈 리스트
+     * @throws LocalBackupLoadException 파일을 읽는 도중 오류 발생 시
+     */
+    @Override
+    public List<ArticleBackupDto> loadChanges(LocalDate date) {
+        List<ArticleBackupDto> changes = new ArrayList<>();
+        Path path = changesDirectory(date);
+
+        try {
+            for (Path segment : listChanges(date)) {
+                path = segment;
+                try (MappedFileSource source = new MappedFileSource(segment)) {
+                    if (segment.getFileName().toString().endsWith(ArticleBackupFormat.BLOCKS.extension())) {
+                        changes.addAll(codec.readBlocks(source, Set.of()));
+                    } else {
+                        try (InputStream in = source.open(0, source.size())) {
+                            changes.addAll(codec.readJson(in));
+                        }
+                    }
+                }
+            }
+            return changes;
+        } catch (Exception e) {
+            log.error("로컬 변경분 백업 파일 로드 실패 : {}", path, e);
+            throw new LocalBackupLoadException(path, e);
+        }
+    }
+
+    /**
+     * 해당 날짜의 변경분 세그먼트를 파일명 순서(시간 순서)대로 한 블록씩 읽는 스트림을 반환합니다.
+     *
+     * @param date 변경 날짜
+     * @return 세그먼트에 기록된 뉴스 기사 스트림, 세그먼트가 없으면 빈 스트림
+     * @throws LocalBackupLoadException 파일을 읽는 도중 오류 발생 시
+     */
+    @Override
+    public Stream<ArticleBackupDto> streamChanges(LocalDate date) {
+        List<Path> segments;
+        try {
+            segments = listChanges(date);
+        } catch (IOException e) {
+            log.error("로컬 변경분 백업 목록 조회 실패 : {}", changesDirectory(date), e);
+            throw new LocalBackupLoadException(changesDirectory(date), e);
+        }
+        return segments.stream().flatMap(segment -> {
+            if (segment.getFileName().toString().endsWith(ArticleBackupFormat.BLOCKS.extension())) {
+                return streamBlocks(segment);
+            }
+            try (InputStream in = Files.newInputStream(segment)) {
+                return codec.readJson(in).stream();
+            } catch (IOException e) {
+                log.error("로컬 변경분 백업 파일 로드 실패 : {}", segment, e);
+                throw new LocalBackupLoadException(segment, e);
+            }
+        });
+    }
+
+    /**
+     * 해당 날짜의 변경분 세그먼트 디렉터리를 삭제합니다.
+     *
+     * @param date 변경 날짜
+     */
+    @Override
+    public void deleteChanges(LocalDate date) {
+        Path changesDirectory = changesDirectory(date);
+        try {
+            for (Path segment : listChanges(date)) {
+                Files.deleteIfExists(segment);
+            }
+            Files.deleteIfExists(changesDirectory);
+            log.info("로컬 변경분 백업 삭제 완료 : {}", changesDirectory);
+        } catch (IOException e) {
+            log.error("로컬 변경분 백업 삭제 실패 : {}", changesDirectory, e);
+            throw new LocalBackupSaveException(changesDirectory, e);
+        }
+    }
+
+    /**
+     * 해당 날짜의 전체 백업 매니페스트를 읽습니다.
+     *
+     * @param date 백업 파일의 날짜
+     * @return 매니페스트, 매니페스트 파일이 없으면 빈 값
+     * @throws LocalBackupLoadException 파일을 읽는 도중 오류 발생 시
+     */
+    @Override
+    public Optional<ArticleBackupManifest> loadManifest(LocalDate date) {
+        Path path = directory.resolve(fileName(date, ArticleBackupManifest.EXTENSION));
+        try (InputStream in = Files.newInputStream(path)) {
+            return Optional.of(codec.readManifest(in));
+        } catch (NoSuchFileException e) {
+            return Optional.empty();
+        } catch (IOException e) {
+            log.error("로컬 백업 매니페스트 로드 실패 : {}", path, e);
+            throw new LocalBackupLoadException(path, e);
+        }
+    }
+
+    /**
+     * 해당 날짜의 전체 백업 파일을 메모리 매핑으로 순차적으로 읽어 매니페스트와 대조합니다.
+     *
+     * @param date 백업 파일의 날짜
+     * @return 검증 결과
+     */
+    @Override
+    public ArticleBackupVerificationDto verify(LocalDate date) {
+        Optional<ArticleBackupManifest> manifest;
+        try {
+            manifest = loadManifest(date);
+        } catch (LocalBackupLoadException e) {
+            return ArticleBackupVerificationDto.error(date, e.getMessage());
+        }
+        if (manifest.isEmpty()) {
+            return ArticleBackupVerificationDto.missing(date);
+        }
+
+        Path path = directory.resolve(fileName(date, manifest.get().format().extension()));
+        long rowCount = manifest.get().rowCount();
+        try (MappedFileSource source = new MappedFileSource(path)) {
+            return codec.verify(source, manifest.get())
+                .map(detail -> ArticleBackupVerificationDto.corrupted(date, rowCount, detail))
+                .orElseGet(() -> ArticleBackupVerificationDto.valid(date, rowCount));
+        } catch (NoSuchFileException e) {
+            return ArticleBackupVerificationDto.corrupted(date, rowCount, "백업 파일이 없습니다 : " + path);
+        } catch (IOException e) {
+            return ArticleBackupVerificationDto.corrupted(date, rowCount, e.getMessage());
+        } catch (RuntimeException e) {
+            log.error("로컬 백업 검증 실패 : {}", path, e);
+            return ArticleBackupVerificationDto.error(date, e.getMessage());
+        }
+    }
+
+    /**
+     * @return 백업 파일이 있는 날짜 목록 (오름차순)
+     */
+    public NavigableSet<LocalDate> availableDates() {
+        return new TreeSet<>(index.keySet());
+    }
+
+    // 같은 디렉터리의 임시 파일에 기록하고 fsync 후 원자적으로 교체
+    private ArticleBackupManifest writeAtomically(Path target, Stream<ArticleBackupDto> articles)
+        throws IOException {
+        Path temp = Files.createTempFile(target.getParent(), ".articles-", ".tmp");
+
+        try {
+            ArticleBackupManifest manifest;
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                OutputStream out = new BufferedOutputStream(Channels.newOutputStream(channel), WRITE_BUFFER_SIZE);
+                manifest = codec.writeWithManifest(articles, out);
+                out.flush();
+                channel.force(true);
+            }
+            moveAtomically(temp, target);
+            return manifest;
+        } catch (IOException | RuntimeException e) {
+            deleteQuietly(temp);
+            throw e;
+        }
+    }
+
+    // 백업 파일 교체가 끝난 뒤 매니페스트도 임시 파일에 기록하고 fsync 후 원자적으로 교체
+    private void writeManifest(LocalDate date, ArticleBackupManifest manifest) throws IOException {
+        Path temp = Files.createTempFile(directory, ".manifest-", ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                ByteBuffer buffer = ByteBuffer.wrap(codec.writeManifest(manifest));
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                channel.force(true);
+            }
+            moveAtomically(temp, directory.resolve(fileName(date, ArticleBackupManifest.EXTENSION)));
+        } catch (IOException | RuntimeException e) {
+            deleteQuietly(temp);
+            throw e;
+        }
+    }
+
+    // 블록 형식 파일을 블록 단위로 읽는 스트림 (스트림을 닫으면 파일도 닫힘)
+    private Stream<ArticleBackupDto> streamBlocks(Path path) {
+        MappedFileSource source = null;
+        try {
+            source = new MappedFileSource(path);
+            MappedFileSource opened = source;
+            return codec.streamBlocks(source).onClose(() -> closeQuietly(opened));
+        } catch (IOException e) {
+            closeQuietly(source);
+            log.error("로컬 백업 파일 로드 실패 : {}", path, e);
+            throw new LocalBackupLoadException(path, e);
+        }
+    }
+
+    private void closeQuietly(Closeable closeable) {
+        if (closeable == null) {
+            return;
+        }
+        try {
+            closeable.close();
+        } catch (IOException e) {
+            log.warn("로컬 백업 파일 닫기 실패", e);
+        }
+    }
+
+    private Path changesDirectory(LocalDate date) {
+        return directory.resolve(CHANGES_DIRECTORY).resolve(date.format(DateTimeFormatter.ISO_LOCAL_DATE));
+    }
+
+    // 날짜 디렉터리의 변경분 세그먼트 목록 (파일명 오름차순, 임시 파일 제외)
+    private List<Path> listChanges(LocalDate date) throws IOException {
+        Path changesDirectory = changesDirectory(date);
+        if (!Files.isDirectory(changesDirectory)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(changesDirectory)) {
+            return files
+                .filter(path -> path.getFileName().toString().startsWith("articles-"))
+                .sorted(Comparator.comparing(path -> path.getFileName().toString()))
+                .toList();
+        }
+    }
+
+    private Optional<IndexEntry> lookup(LocalDate date) {
+        IndexEntry entry = index.get(date);
+        if (entry != null) {
+            return Optional.of(entry);
+        }
+
+        // 인덱스에 없으면 외부에서 복사된 파일이 있는지 형식별로 확인
+        for (String extension : List.of(ArticleBackupFormat.BLOCKS.extension(),
+            ArticleBackupFormat.JSON.extension(), LEGACY_EXTENSION)) {
+            Path path = directory.resolve(fileName(date, extension));
+            if (Files.isRegularFile(path)) {
+                IndexEntry found = toEntry(path, extension);
+                index.put(date, found);
+                return Optional.of(found);
+            }
+        }
+        return Optional.empty();
+    }
+
+    private void loadIndex() throws IOException {
+        Path indexFile = directory.resolve(INDEX_FILE);
+        if (Files.isRegularFile(indexFile)) {
+            try {
+                Map<LocalDate, IndexEntry> stored = objectMapper.readValue(indexFile.toFile(),
+                    new TypeReference<Map<LocalDate, IndexEntry>>() {});
+                stored.forEach((date, entry) -> {
+                    if (Files.isRegularFile(directory.resolve(entry.file()))) {
+                        index.put(date, entry);
+                    }
+                });
+                return;
+            } catch (IOException e) {
+                log.warn("로컬 백업 인덱스가 손상되어 디렉터리를 다시 스캔합니다 : {}", indexFile, e);
+            }
+        }
+        rebuildIndex();
+    }
+
+    private void rebuildIndex() throws IOException {
+        index.clear();
+        try (Stream<Path> files = Files.list(directory)) {
+            files.forEach(path -> {
+                Matcher matcher = BACKUP_FILE.matcher(path.getFileName().toString());
+                if (!matcher.matches()) {
+                    return;
+                }
+                LocalDate date = LocalDate.parse(matcher.group(1));
+                IndexEntry entry = toEntry(path, matcher.group(2));
+                // 같은 날짜에 여러 형식이 있으면 블록 형식을 우선
+                index.merge(date, entry, (current, candidate) ->
+                    candidate.format() == ArticleBackupFormat.BLOCKS ? candidate : current);
+            });
+        }
+    }
+
+    private synchronized void persistIndex() throws IOException {
+        Path temp = Files.createTempFile(directory, ".index-", ".tmp");
+        try {
+            objectMapper.writeValue(temp.toFile(), index);
+            moveAtomically(temp, directory.resolve(INDEX_FILE));
+        } catch (IOException e) {
+            deleteQuietly(temp);
+            throw e;
+        }
+    }
+
+    private IndexEntry toEntry(Path path, String extension) {
+        ArticleBackupFormat format = ArticleBackupFormat.BLOCKS.extension().equals(extension)
+            ? ArticleBackupFormat.BLOCKS
+            : ArticleBackupFormat.JSON;
+        long size;
+        try {
+            size = Files.size(path);
+        } catch (IOException e) {
+            size = -1;
+        }
+        return new IndexEntry(path.getFileName().toString(), format, size, -1);
+    }
+
+    private void deleteOtherFormats(LocalDate date, Path target) throws IOException {
+        for (String extension : List.of(ArticleBackupFormat.BLOCKS.extension(),
+            ArticleBackupFormat.JSON.extension(), LEGACY_EXTENSION)) {
+            Path path = directory.resolve(fileName(date, extension));
+            if (!path.equals(target)) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+
+    private void moveAtomically(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, ATOMIC_MOVE, REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            // 일부 네트워크 파일 시스템은 원자적 이동을 지원하지 않음
+            log.warn("원자적 파일 이동을 지원하지 않아 일반 이동으로 대체합니다 : {}", target);
+            Files.move(source, target, REPLACE_EXISTING);
+        }
+    }
+
+    private void deleteQuietly(Path path) {
+        if (path == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("임시 파일 삭제 실패 : {}", path, e);
+        }
+    }
+
+    private static String fileName(LocalDate date, String extension) {
+        return "articles-" + date.format(DateTimeFormatter.ISO_LOCAL_DATE) + extension;
+    }
+
+    /**
+     * 디렉터리 인덱스 항목.
+     *
+     * @param file     백업 파일명
+     * @param format   백업 형식 (압축 도입 이전 JSON 포함)
+     * @param size     파일 크기 (byte), 알 수 없으면 -1
+     * @param rowCount 기사 수, 알 수 없으면 -1
+     */
+    record IndexEntry(
+        String file,
+        ArticleBackupFormat format,
+        long size,
+        long rowCount
+    ) {
+
+    }
+
+    /**
+     * 요청한 구간만 읽기 전용으로 메모리 매핑하는 백업 소스
+     */
+    private static class MappedFileSource implements ArticleBackupSource, Closeable {
+
+        private final FileChannel channel;
+
+        MappedFileSource(Path path) throws IOException {
+            this.channel = FileChannel.open(path, StandardOpenOption.READ);
+        }
+
+        @Override
+        public long size() throws IOException {
+            return channel.size();
+        }
+
+        @Override
+        public InputStream open(long offset, long length) throws IOException {
+            return new ByteBufferInputStream(channel.map(MapMode.READ_ONLY, offset, length));
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+    }
+
+    private static class ByteBufferInputStream extends InputStream {
+
+        private final ByteBuffer buffer;
+
+        ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xff : -1;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (len == 0) {
+                return 0;
+            }
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            int length = Math.min(len, buffer.remaining());
+            buffer.get(b, off, length);
+            return length;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+    }
+}
@@ -1,43 +1,74 @@
 package org.project.monewping.domain.article.storage;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.InputStream;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.project.monewping.domain.article.dto.data.ArticleDto;
+import org.project.monewping.domain.article.dto.data.ArticleBackupDto;
+import org.project.monewping.domain.article.dto.response.ArticleBackupVerificationDto;
 import org.project.monewping.domain.article.exception.S3BackupLoadException;
 import org.project.monewping.domain.article.exception.S3BackupSaveException;
 import org.project.monewping.global.config.S3Properties;
+import org.project.monewping.global.storage.S3StreamUploader;
+import org.project.monewping.global.storage.S3UploadStream;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Primary;
 import org.springframework.stereotype.Component;
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.Delete;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Response;
 import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.model.S3Object;
 
 /**
  * AWS S3를 활용하여 뉴스 기사 데이터를 백업 및 복원하는 저장소 구현체입니다.
  *
- * <p>날짜별로 JSON 파일을 S3 버킷 내에 저장하며,
- * 백업 및 복구 시 해당 날짜 기준 파일을 읽고 쓰는 기능을 제공합니다.</p>
+ * <p>날짜별로 {@link ArticleBackupCodec}에 설정된 형식의 파일을 S3 버킷 내에 저장하며,
+ * 백업 및 복구 시 해당 날짜 기준 파일을 읽고 쓰는 기능을 제공합니다.
+ * 저장 시에는 {@link S3StreamUploader}로 직렬화와 동시에 파트 단위로 업로드하여
+ * 하루치 기사 전체를 메모리에 올리지 않고, DB 조회와 네트워크 전송을 겹쳐 실행합니다.
+ * 블록 형식 파일은 Range 요청으로 인덱스와 필요한 블록만 내려받습니다.</p>
  *
- * <p>파일명 패턴은 "articles-YYYY-MM-DD.json" 형식이며,
- * 필요에 따라 {@code baseDirectory}를 접두사로 사용합니다.</p>
+ * <p>파일명 패턴은 "articles-YYYY-MM-DD" + 형식별 확장자({@code .ndjson.gz}, {@code .json.gz})이며,
+ * 필요에 따라 {@code baseDirectory}를 접두사로 사용합니다.
+ * 복구 시에는 블록 형식, JSON 형식, 압축 도입 이전의 "articles-YYYY-MM-DD.json" 순으로 찾습니다.</p>
+ *
+ * <p>전체 백업은 업로드를 마친 뒤 "articles-YYYY-MM-DD.manifest.json"에 {@link ArticleBackupManifest}를
+ * 단일 PUT으로 기록합니다. 매니페스트가 있는 백업만 무결성 검증 대상이 됩니다.</p>
+ *
+ * <p>시간별 변경분 세그먼트는 "incremental/YYYY-MM-DD/articles-HH" + 형식별 확장자로 저장하여
+ * 날짜 접두사로 목록 조회 및 일괄 삭제합니다.</p>
  */
 @Slf4j
 @Primary
 @Component
 @RequiredArgsConstructor
-@ConditionalOnProperty(name = "aws.s3.backup.enabled", havingValue = "true")
+@ConditionalOnProperty(name = "aws.storage.type", havingValue = "s3")
 public class S3ArticleBackupStorage implements ArticleBackupStorage {
 
+    private static final String CONTENT_TYPE = "application/gzip";
+    private static final String MANIFEST_CONTENT_TYPE = "application/json";
+
     private final S3Client s3Client;
     private final S3Properties s3Properties;
-    private final ObjectMapper objectMapper;
+    private final ArticleBackupCodec codec;
+    private final S3StreamUploader uploader;
 
     /**
      * 지정된 날짜에 해당하는 뉴스 기사 백업 데이터를 S3에서 로드합니다.
@@ -48,27 +79,45 @@ public class S3ArticleBackupStorage implements ArticleBackupStorage {
      * @throws S3BackupLoadException S3에서 데이터를 읽는 도중 오류 발생 시
      */
     @Override
-    public List<ArticleDto> load(LocalDate date) {
-        String key = buildKey(date);
+    public List<ArticleBackupDto> load(LocalDate date) {
+        return loadExcluding(date, Set.of());
+    }
+
+    /**
+     * 지정된 날짜의 백업에서 제외 대상 링크가 아닌 기사만 S3에서 로드합니다.
+     * 블록 형식이면 제외 대상만 담긴 블록은 내려받지 않습니다.
+     *
+     * @param date 백업 파일의 날짜 (예: 2025-07-23)
+     * @param excludedLinks 로드하지 않을 원본 링크
+     * @return 제외 대상이 아닌 뉴스 기사 리스트, 백업 파일이 없으면 빈 리스트
+     * @throws S3BackupLoadException S3에서 데이터를 읽는 도중 오류 발생 시
+     */
+    @Override
+    public List<ArticleBackupDto> loadExcluding(LocalDate date, Set<String> excludedLinks) {
+        String key = buildKey(date, ArticleBackupFormat.BLOCKS);
 
         try {
-            // S3 객체 요청 생성
-            var getObjectRequest = GetObjectRequest.builder()
-                .bucket(s3Properties.backup().bucketName())
-                .key(key)
-                .build();
-
-            // S3에서 객체를 스트림으로 읽어 List<ArticleDto> -> JSON 역직렬화
-            try (var s3Object = s3Client.getObject(getObjectRequest)) {
-                return objectMapper.readValue(
-                    s3Object,
-                    objectMapper.getTypeFactory().constructCollectionType(List.class, ArticleDto.class)
-                );
+            try {
+                return codec.readBlocks(new S3BackupSource(key), excludedLinks);
+            } catch (Exception e) {
+                if (!isNotFound(e)) throw e;
             }
-        } catch (NoSuchKeyException e) {
+
+            // 블록 형식이 없으면 JSON 형식, 압축 도입 이전 형식 순으로 재시도
+            for (String jsonKey : List.of(buildKey(date, ArticleBackupFormat.JSON), buildLegacyKey(date))) {
+                key = jsonKey;
+                try {
+                    return readJson(key).stream()
+                        .filter(article -> !excludedLinks.contains(article.sourceUrl()))
+                        .toList();
+                } catch (Exception e) {
+                    if (!isNotFound(e)) throw e;
+                }
+            }
+
             // 해당 키의 파일이 존재하지 않는 경우, 빈 리스트 반환
             log.info("S3 백업 파일이 존재하지 않습니다 : {}", key);
-                return List.of();
+            return List.of();
         } catch (Exception e) {
             // S3 데이터를 읽는 도중 오류 발생 시 커스텀 예외 발생
             log.error("S3 백업 파일 로드 실패 : {}", key, e);
@@ -77,46 +126,299 @@ public class S3ArticleBackupStorage implements ArticleBackupStorage {
     }
 
     /**
-     * 지정된 날짜에 뉴스 기사 목록을 JSON으로 직렬화하여 S3에 저장합니다.
+     * 지정된 날짜의 블록 형식 백업을 블록마다 Range 요청으로 읽는 스트림을 반환합니다.
+     * 블록 형식이 없으면 JSON 형식을 전체 읽어 반환합니다.
+     *
+     * @param date 백업 파일의 날짜
+     * @return 기사 스트림, 백업 파일이 없으면 빈 스트림
+     * @throws S3BackupLoadException 블록 인덱스를 읽는 도중 오류 발생 시
+     */
+    @Override
+    public Stream<ArticleBackupDto> stream(LocalDate date) {
+        String key = buildKey(date, ArticleBackupFormat.BLOCKS);
+        try {
+            return codec.streamBlocks(new S3BackupSource(key));
+        } catch (Exception e) {
+            if (!isNotFound(e)) {
+                log.error("S3 백업 파일 로드 실패 : {}", key, e);
+                throw new S3BackupLoadException(key, e);
+            }
+        }
+        return load(date).stream();
+    }
+
+    /**
+     * 지정된 날짜의 뉴스 기사 스트림을 설정된 형식으로 직렬화하며 S3에 멀티파트 업로드합니다.
+     * 업로드가 완료된 뒤 매니페스트를 기록하므로, 매니페스트는 항상 완전히 업로드된 백업 파일을 가리킵니다.
      *
      * @param date 백업 파일의 날짜 ( ex: 2025-07-23 )
-     * @param articles 저장할 뉴스 기사 목록
+     * @param articles 저장할 뉴스 기사 스트림
+     * @return 저장한 기사 수
      * @throws S3BackupSaveException S3 업로드 실패 또는 Json 직렬화 오류 발생 시
      */
     @Override
-    public void save(LocalDate date, List<ArticleDto> articles) {
-        String key = buildKey(date);
+    public long save(LocalDate date, Stream<ArticleBackupDto> articles) {
+        ArticleBackupManifest manifest = upload(buildKey(date, codec.format()), articles);
+
+        String manifestKey = buildManifestKey(date);
+        try {
+            s3Client.putObject(PutObjectRequest.builder()
+                    .bucket(s3Properties.backup().bucketName())
+                    .key(manifestKey)
+                    .contentType(MANIFEST_CONTENT_TYPE)
+                    .build(),
+                RequestBody.fromBytes(codec.writeManifest(manifest)));
+        } catch (Exception e) {
+            log.error("S3 백업 매니페스트 저장 실패 : {}", manifestKey, e);
+            throw new S3BackupSaveException(manifestKey, e);
+        }
+        return manifest.rowCount();
+    }
+
+    /**
+     * 한 시간 동안 변경된 기사를 변경분 세그먼트로 S3에 업로드합니다.
+     *
+     * @param hour 변경 구간 시작 시각
+     * @param articles 변경된 뉴스 기사 스트림
+     * @return 저장한 기사 수
+     * @throws S3BackupSaveException S3 업로드 실패 또는 직렬화 오류 발생 시
+     */
+    @Override
+    public long saveChanges(LocalDateTime hour, Stream<ArticleBackupDto> articles) {
+        return upload(buildChangesPrefix(hour.toLocalDate())
+            + "articles-" + String.format("%02d", hour.getHour()) + codec.format().extension(), articles).rowCount();
+    }
+
+    /**
+     * 해당 날짜의 변경분 세그먼트를 키 순서(시간 순서)대로 모두 읽습니다.
+     *
+     * @param date 변경 날짜
+     * @return 세그먼트에 기록된 뉴스 기사 리스트, 세그먼트가 없으면 빈 리스트
+     * @throws S3BackupLoadException S3에서 데이터를 읽는 도중 오류 발생 시
+     */
+    @Override
+    public List<ArticleBackupDto> loadChanges(LocalDate date) {
+        List<ArticleBackupDto> changes = new ArrayList<>();
+        String key = buildChangesPrefix(date);
 
         try {
-            // S3 업로드 요청 생성
-            var putObjectRequest = PutObjectRequest.builder()
+            for (S3Object object : listChanges(date)) {
+                key = object.key();
+                if (key.endsWith(ArticleBackupFormat.BLOCKS.extension())) {
+                    changes.addAll(codec.readBlocks(new S3BackupSource(key), Set.of()));
+                } else {
+                    changes.addAll(readJson(key));
+                }
+            }
+            return changes;
+        } catch (Exception e) {
+            log.error("S3 변경분 백업 로드 실패 : {}", key, e);
+            throw new S3BackupLoadException(key, e);
+        }
+    }
+
+    /**
+     * 해당 날짜의 변경분 세그먼트를 키 순서(시간 순서)대로 한 블록씩 읽는 스트림을 반환합니다.
+     *
+     * @param date 변경 날짜
+     * @return 세그먼트에 기록된 뉴스 기사 스트림, 세그먼트가 없으면 빈 스트림
+     * @throws S3BackupLoadException S3에서 데이터를 읽는 도중 오류 발생 시
+     */
+    @Override
+    public Stream<ArticleBackupDto> streamChanges(LocalDate date) {
+        return listChanges(date).stream().flatMap(object -> {
+            String key = object.key();
+            try {
+                if (key.endsWith(ArticleBackupFormat.BLOCKS.extension())) {
+                    return codec.streamBlocks(new S3BackupSource(key));
+                }
+                return readJson(key).stream();
+            } catch (Exception e) {
+                log.error("S3 변경분 백업 로드 실패 : {}", key, e);
+                throw new S3BackupLoadException(key, e);
+            }
+        });
+    }
+
+    /**
+     * 해당 날짜의 변경분 세그먼트를 모두 삭제합니다.
+     *
+     * @param date 변경 날짜
+     */
+    @Override
+    public void deleteChanges(LocalDate date) {
+        List<ObjectIdentifier> keys = listChanges(date).stream()
+            .map(object -> ObjectIdentifier.builder().key(object.key()).build())
+            .toList();
+        if (keys.isEmpty()) {
+            return;
+        }
+
+        // DeleteObjects 요청당 최대 1000개
+        for (int start = 0; start < keys.size(); start += 1000) {
+            s3Client.deleteObjects(DeleteObjectsRequest.builder()
                 .bucket(s3Properties.backup().bucketName())
-                .key(key)
-                .build();
+                .delete(Delete.builder().objects(keys.subList(start, Math.min(start + 1000, keys.size()))).build())
+                .build());
+        }
+        log.info("S3 변경분 백업 삭제 완료 : {}, 세그먼트 수 : {}", buildChangesPrefix(date), keys.size());
+    }
 
-            // ArticleDto 리스트를 Json 바이트 배열로 직렬화
-            byte[] jsonBytes = objectMapper.writeValueAsBytes(articles);
+    /**
+     * 해당 날짜의 전체 백업 매니페스트를 S3에서 읽습니다.
+     *
+     * @param date 백업 파일의 날짜
+     * @return 매니페스트, 매니페스트 객체가 없으면 빈 값
+     * @throws S3BackupLoadException S3에서 데이터를 읽는 도중 오류 발생 시
+     */
+    @Override
+    public Optional<ArticleBackupManifest> loadManifest(LocalDate date) {
+        String key = buildManifestKey(date);
+        var getObjectRequest = GetObjectRequest.builder()
+            .bucket(s3Properties.backup().bucketName())
+            .key(key)
+            .build();
+
+        try (var s3Object = s3Client.getObject(getObjectRequest)) {
+            return Optional.of(codec.readManifest(s3Object));
+        } catch (Exception e) {
+            if (isNotFound(e)) {
+                return Optional.empty();
+            }
+            log.error("S3 백업 매니페스트 로드 실패 : {}", key, e);
+            throw new S3BackupLoadException(key, e);
+        }
+    }
+
+    /**
+     * 해당 날짜의 전체 백업 파일을 한 번의 GET으로 스트리밍하며 매니페스트와 대조합니다.
+     *
+     * @param date 백업 파일의 날짜
+     * @return 검증 결과
+     */
+    @Override
+    public ArticleBackupVerificationDto verify(LocalDate date) {
+        Optional<ArticleBackupManifest> manifest;
+        try {
+            manifest = loadManifest(date);
+        } catch (S3BackupLoadException e) {
+            return ArticleBackupVerificationDto.error(date, e.getMessage());
+        }
+        if (manifest.isEmpty()) {
+            return ArticleBackupVerificationDto.missing(date);
+        }
 
-            // S3에 Json 파일 업로드
-            s3Client.putObject(putObjectRequest, RequestBody.fromBytes(jsonBytes));
+        String key = buildKey(date, manifest.get().format());
+        long rowCount = manifest.get().rowCount();
+        try {
+            return codec.verify(new S3BackupSource(key), manifest.get())
+                .map(detail -> ArticleBackupVerificationDto.corrupted(date, rowCount, detail))
+                .orElseGet(() -> ArticleBackupVerificationDto.valid(date, rowCount));
+        } catch (IOException e) {
+            return ArticleBackupVerificationDto.corrupted(date, rowCount, e.getMessage());
+        } catch (Exception e) {
+            if (isNotFound(e)) {
+                return ArticleBackupVerificationDto.corrupted(date, rowCount, "백업 파일이 없습니다 : " + key);
+            }
+            log.error("S3 백업 검증 실패 : {}", key, e);
+            return ArticleBackupVerificationDto.error(date, e.getMessage());
+        }
+    }
 
-            log.info("뉴스 기사 데이터 S3 백업 완료 : {}", key);
+    private ArticleBackupManifest upload(String key, Stream<ArticleBackupDto> articles) {
+        S3UploadStream out = uploader.open(s3Properties.backup().bucketName(), key, CONTENT_TYPE);
+
+        try {
+            // 기사 스트림을 압축하며 파트 단위로 업로드한 뒤 업로드 완료
+            ArticleBackupManifest manifest = codec.writeWithManifest(articles, out);
+            out.close();
+
+            log.info("뉴스 기사 데이터 S3 백업 완료 : {}, 건수 : {}", key, manifest.rowCount());
+            return manifest;
         } catch (Exception e) {
-            // 업로드 또는 직렬화 실패 시 커스텀 예외 발생
+            // 업로드 또는 직렬화 실패 시 미완료 업로드를 정리하고 커스텀 예외 발생
+            out.abort();
             log.error("S3 백업 파일 저장 실패 : {}", key, e);
             throw new S3BackupSaveException(key, e);
         }
     }
 
+    // 날짜 접두사 아래의 변경분 세그먼트 목록 (키 오름차순)
+    private List<S3Object> listChanges(LocalDate date) {
+        List<S3Object> objects = new ArrayList<>();
+        String continuationToken = null;
+        do {
+            ListObjectsV2Response response = s3Client.listObjectsV2(ListObjectsV2Request.builder()
+                .bucket(s3Properties.backup().bucketName())
+                .prefix(buildChangesPrefix(date))
+                .continuationToken(continuationToken)
+                .build());
+            objects.addAll(response.contents());
+            continuationToken = Boolean.TRUE.equals(response.isTruncated()) ? response.nextContinuationToken() : null;
+        } while (continuationToken != null);
+        return objects;
+    }
+
+    private List<ArticleBackupDto> readJson(String key) throws IOException {
+        // S3 객체 요청 생성
+        var getObjectRequest = GetObjectRequest.builder()
+            .bucket(s3Properties.backup().bucketName())
+            .key(key)
+            .build();
+
+        // S3에서 객체를 스트림으로 읽어 List<ArticleBackupDto> -> JSON 역직렬화
+        try (var s3Object = s3Client.getObject(getObjectRequest)) {
+            return codec.readJson(s3Object);
+        }
+    }
+
+    private boolean isNotFound(Exception e) {
+        return e instanceof NoSuchKeyException
+            || (e instanceof S3Exception s3Exception && s3Exception.statusCode() == 404);
+    }
 
     /**
-     * 날짜를 기준으로 S3 객체 키 생성.
-     * 형식: baseDirectory/articles-YYYY-MM-DD.json
+     * 날짜와 형식을 기준으로 S3 객체 키 생성.
+     * 형식: baseDirectory/articles-YYYY-MM-DD.ndjson.gz 또는 baseDirectory/articles-YYYY-MM-DD.json.gz
      *
      * @param date 기준 날짜
+     * @param format 백업 형식
      * @return S3 저장 키 문자열
      */
-    private String buildKey(LocalDate date) {
+    private String buildKey(LocalDate date, ArticleBackupFormat format) {
+        return buildPrefix(date) + format.extension();
+    }
+
+    /**
+     * 압축 도입 이전 형식의 S3 객체 키 생성.
+     * 형식: baseDirectory/articles-YYYY-MM-DD.json
+     */
+    private String buildLegacyKey(LocalDate date) {
+        return buildPrefix(date) + ".json";
+    }
+
+    /**
+     * 전체 백업 매니페스트의 S3 객체 키 생성.
+     * 형식: baseDirectory/articles-YYYY-MM-DD.manifest.json
+     */
+    private String buildManifestKey(LocalDate date) {
+        return buildPrefix(date) + ArticleBackupManifest.EXTENSION;
+    }
+
+    private String buildPrefix(LocalDate date) {
+        String dateStr = date.format(DateTimeFormatter.ISO_LOCAL_DATE);
+        return baseDirectory() + "articles-" + dateStr;
+    }
+
+    /**
+     * 변경분 세그먼트의 날짜별 S3 접두사 생성.
+     * 형식: baseDirectory/incremental/YYYY-MM-DD/
+     */
+    private String buildChangesPrefix(LocalDate date) {
+        return baseDirectory() + "incremental/" + date.format(DateTimeFormatter.ISO_LOCAL_DATE) + "/";
+    }
+
+    private String baseDirectory() {
 
         String baseDirectory = s3Properties.backup().baseDirectory();
 
@@ -126,7 +428,39 @@ public class S3ArticleBackupStorage implements ArticleBackupStorage {
         // 슬래시 누락 방지
         if (!baseDirectory.isBlank() && !baseDirectory.endsWith("/")) baseDirectory += "/";
 
-        String dateStr = date.format(DateTimeFormatter.ISO_LOCAL_DATE);
-        return baseDirectory + "articles-" + dateStr + ".json";
+        return baseDirectory;
+    }
+
+    /**
+     * S3 객체를 Range 요청으로 구간 단위로 읽는 백업 소스
+     */
+    private class S3BackupSource implements ArticleBackupSource {
+
+        private final String key;
+        private Long size;
+
+        S3BackupSource(String key) {
+            this.key = key;
+        }
+
+        @Override
+        public long size() {
+            if (size == null) {
+                size = s3Client.headObject(HeadObjectRequest.builder()
+                    .bucket(s3Properties.backup().bucketName())
+                    .key(key)
+                    .build()).contentLength();
+            }
+            return size;
+        }
+
+        @Override
+        public InputStream open(long offset, long length) {
+            return s3Client.getObject(GetObjectRequest.builder()
+                .bucket(s3Properties.backup().bucketName())
+                .key(key)
+                .range("bytes=" + offset + "-" + (offset + length - 1))
+                .build());
+        }
     }
 }
@@ -30,8 +30,8 @@ public class CommentController {
      * @param articleId 기사 ID (UUID)
      * @param orderBy 정렬 기준 (createdAt, likeCount)
      * @param direction 정렬 방향 (ASC, DESC)
-     * @param cursor 커서 값 (선택)
-     * @param after after 값 (선택)
+     * @param cursor 커서 값 (선택, 이전 응답의 nextCursor "정렬 값_댓글 ID")
+     * @param after after 값 (선택, 이전 응답의 nextAfter. cursor가 없을 때만 정렬 값으로 사용)
      * @param limit 조회 개수 (기본값 50)
      * @return 커서 기반 댓글 목록 응답
      */
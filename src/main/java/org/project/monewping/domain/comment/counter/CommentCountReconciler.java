@@ -0,0 +1,88 @@
+package org.project.monewping.domain.comment.counter;
+
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 기사에 비정규화된 댓글 수를 실제 댓글 수로 보정하는 작업입니다.
+ *
+ * <p>댓글 목록의 전체 개수는 페이지마다 댓글을 세지 않고 {@code articles.comment_count}를 읽습니다.
+ * 댓글 등록/삭제는 원자적 UPDATE로 댓글 수를 바꾸지만, 댓글 저장과 댓글 수 갱신 사이의 장애나
+ * 직접 수정된 데이터로 어긋난 값은 {@code reconcile-cron}마다 {@code comments}의 삭제되지 않은 댓글 수로 맞춥니다.</p>
+ *
+ * <p>댓글은 대부분 최근 기사에 달리므로 {@code lookback} 이내에 발행된 기사 파티션만 보정합니다.</p>
+ */
+@Slf4j
+@Component
+public class CommentCountReconciler {
+
+    private static final String RECONCILE_SQL = """
+        UPDATE articles
+           SET comment_count = (SELECT COUNT(*) FROM comments c WHERE c.article_id = articles.id AND c.is_deleted = FALSE),
+               updated_at = :now
+         WHERE published_at >= :since
+           AND comment_count <> (SELECT COUNT(*) FROM comments c WHERE c.article_id = articles.id AND c.is_deleted = FALSE)
+        """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Clock clock;
+    private final Duration lookback;
+
+    @Autowired
+    public CommentCountReconciler(
+        NamedParameterJdbcTemplate jdbcTemplate,
+        TransactionTemplate transactionTemplate,
+        @Value("${monewping.comment.count-reconciler.lookback:P30D}") Duration lookback) {
+        this(jdbcTemplate, transactionTemplate, Clock.systemUTC(), lookback);
+    }
+
+    CommentCountReconciler(
+        NamedParameterJdbcTemplate jdbcTemplate,
+        TransactionTemplate transactionTemplate,
+        Clock clock,
+        Duration lookback) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.clock = clock;
+        this.lookback = lookback;
+    }
+
+    /**
+     * 최근 발행된 기사의 댓글 수를 삭제되지 않은 실제 댓글 수로 보정합니다.
+     *
+     * @return 보정된 기사 수
+     */
+    @Scheduled(
+        cron = "${monewping.comment.count-reconciler.cron:0 40 4 * * *}",
+        zone = "Asia/Seoul")
+    public synchronized int reconcile() {
+        Instant now = clock.instant();
+        MapSqlParameterSource params = new MapSqlParameterSource()
+            .addValue("now", Timestamp.from(now))
+            .addValue("since", Timestamp.from(now.minus(lookback)));
+        try {
+            Integer corrected = transactionTemplate.execute(status -> jdbcTemplate.update(RECONCILE_SQL, params));
+            int count = corrected == null ? 0 : corrected;
+            if (count > 0) {
+                log.warn("[CommentCountReconciler] 기사 댓글 수 보정: articles={}", count);
+            } else {
+                log.info("[CommentCountReconciler] 기사 댓글 수 보정 대상 없음");
+            }
+            return count;
+        } catch (Exception e) {
+            log.error("[CommentCountReconciler] 기사 댓글 수 보정 실패", e);
+            return 0;
+        }
+    }
+}
@@ -5,18 +5,28 @@ import java.time.Instant;
 import java.util.UUID;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.DynamicUpdate;
 import org.project.monewping.global.base.BaseUpdatableEntity;
 
 /**
  * 댓글 도메인 엔티티
  * 댓글의 식별자, 내용, 좋아요 수, 작성 시간을 관리합니다.
+ * 좋아요 수는 원자적 UPDATE로만 바뀌므로, 내용 수정/삭제 시 변경된 컬럼만 갱신하여 좋아요 수를 덮어쓰지 않습니다.
  */
 @Entity
+@DynamicUpdate
 @Getter
 @SuperBuilder
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
-@Table(name = "comments")
+@Table(
+    name = "comments",
+    indexes = {
+        @Index(name = "idx_comments_article_created_id", columnList = "article_id, created_at, id"),
+        @Index(name = "idx_comments_article_like_id", columnList = "article_id, like_count, id"),
+        @Index(name = "idx_comments_user", columnList = "user_id")
+    }
+)
 public class Comment extends BaseUpdatableEntity {
 
     @Column(name = "article_id", nullable = false)
@@ -58,14 +68,4 @@ public class Comment extends BaseUpdatableEntity {
     public Boolean isDeleted() {
         return this.isDeleted;
     }
-
-    public void increaseLikeCount() {
-        this.likeCount++;
-    }
-
-    public void decreaseLikeCount() {
-        if (this.likeCount > 0) {
-            this.likeCount--;
-        }
-    }
 }
\ No newline at end of file
@@ -18,7 +18,10 @@ import org.project.monewping.global.base.BaseEntity;
 @Table(
     name = "comment_likes",
     uniqueConstraints = {
-        @UniqueConstraint(columnNames = {"liked_id", "comment_id"})
+        @UniqueConstraint(name = "uk_comment_like", columnNames = {"liked_id", "comment_id"})
+    },
+    indexes = {
+        @Index(name = "idx_comment_likes_comment", columnList = "comment_id")
     }
 )
 @Getter
@@ -12,8 +12,26 @@ import java.util.UUID;
 public interface CommentCustomRepository {
     List<Comment> findComments(UUID articleId, String direction, String afterId, int limit);
 
-    List<Comment> findCommentsByCreatedAtCursor(UUID articleId, Instant afterCreatedAt, int limit);
+    /**
+     * 삭제되지 않은 댓글을 (createdAt, id) 순으로 커서 이후부터 조회합니다.
+     *
+     * @param articleId 기사 ID
+     * @param asc 오름차순 여부
+     * @param afterCreatedAt 커서의 createdAt (없으면 첫 페이지)
+     * @param afterId 커서의 댓글 ID (없으면 createdAt만 비교)
+     * @param limit 조회 개수
+     */
+    List<Comment> findCommentsByCreatedAtCursor(UUID articleId, boolean asc, Instant afterCreatedAt, UUID afterId, int limit);
 
-    List<Comment> findCommentsByLikeCountCursor(UUID articleId, Integer afterLikeCount, int limit);
+    /**
+     * 삭제되지 않은 댓글을 (likeCount, id) 순으로 커서 이후부터 조회합니다.
+     *
+     * @param articleId 기사 ID
+     * @param asc 오름차순 여부
+     * @param afterLikeCount 커서의 좋아요 수 (없으면 첫 페이지)
+     * @param afterId 커서의 댓글 ID (없으면 좋아요 수만 비교)
+     * @param limit 조회 개수
+     */
+    List<Comment> findCommentsByLikeCountCursor(UUID articleId, boolean asc, Integer afterLikeCount, UUID afterId, int limit);
 
 }
\ No newline at end of file
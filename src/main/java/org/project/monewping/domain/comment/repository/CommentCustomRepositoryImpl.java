@@ -2,6 +2,8 @@ package org.project.monewping.domain.comment.repository;
 
 import com.querydsl.core.BooleanBuilder;
 import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.ComparableExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import java.time.Instant;
 import java.util.List;
@@ -11,6 +13,13 @@ import org.project.monewping.domain.comment.entity.Comment;
 import org.project.monewping.domain.comment.entity.QComment;
 import org.springframework.stereotype.Repository;
 
+/**
+ * 댓글 커서 기반 목록 조회를 QueryDSL로 구현하는 Repository입니다.
+ *
+ * <p>정렬 값(createdAt 또는 likeCount) 뒤에 id를 붙여 정렬하고, 커서도 (정렬 값, id) 쌍으로 비교하여
+ * 정렬 값이 같은 댓글을 건너뛰거나 중복 조회하지 않습니다.
+ * (article_id, 정렬 값, id) 복합 인덱스를 정렬 순서대로(DESC는 역방향) 읽으므로 페이지 깊이와 관계없이 limit건만 읽습니다.</p>
+ */
 @Repository
 @RequiredArgsConstructor
 public class CommentCustomRepositoryImpl implements CommentCustomRepository {
@@ -44,43 +53,60 @@ public class CommentCustomRepositoryImpl implements CommentCustomRepository {
     }
 
     @Override
-    public List<Comment> findCommentsByCreatedAtCursor(UUID articleId, Instant afterCreatedAt,
-        int limit) {
+    public List<Comment> findCommentsByCreatedAtCursor(UUID articleId, boolean asc, Instant afterCreatedAt,
+        UUID afterId, int limit) {
         QComment comment = QComment.comment;
 
         BooleanBuilder builder = new BooleanBuilder();
         builder.and(comment.articleId.eq(articleId));
-
+        builder.and(comment.isDeleted.isFalse());
         if (afterCreatedAt != null) {
-            // 내림차순 정렬이므로 afterCreatedAt보다 작거나 같은 조건 (더 최신 댓글들 조회)
-            builder.and(comment.createdAt.lt(afterCreatedAt));
+            builder.and(afterCursor(
+                asc ? comment.createdAt.gt(afterCreatedAt) : comment.createdAt.lt(afterCreatedAt),
+                comment.createdAt.eq(afterCreatedAt),
+                comment.id, afterId, asc));
         }
 
         return queryFactory
             .selectFrom(comment)
             .where(builder)
-            .orderBy(comment.createdAt.desc(), comment.id.desc()) // 보조 정렬 필드로 id 사용
+            .orderBy(asc ? comment.createdAt.asc() : comment.createdAt.desc(), asc ? comment.id.asc() : comment.id.desc())
             .limit(limit)
             .fetch();
     }
 
     @Override
-    public List<Comment> findCommentsByLikeCountCursor(UUID articleId, Integer afterLikeCount,
-        int limit) {
+    public List<Comment> findCommentsByLikeCountCursor(UUID articleId, boolean asc, Integer afterLikeCount,
+        UUID afterId, int limit) {
         QComment comment = QComment.comment;
 
         BooleanBuilder builder = new BooleanBuilder();
         builder.and(comment.articleId.eq(articleId));
-
+        builder.and(comment.isDeleted.isFalse());
         if (afterLikeCount != null) {
-            builder.and(comment.likeCount.lt(afterLikeCount));
+            builder.and(afterCursor(
+                asc ? comment.likeCount.gt(afterLikeCount) : comment.likeCount.lt(afterLikeCount),
+                comment.likeCount.eq(afterLikeCount),
+                comment.id, afterId, asc));
         }
 
         return queryFactory
             .selectFrom(comment)
             .where(builder)
-            .orderBy(comment.likeCount.desc(), comment.id.desc()) // 보조 정렬로 id 내림차순
+            .orderBy(asc ? comment.likeCount.asc() : comment.likeCount.desc(), asc ? comment.id.asc() : comment.id.desc())
             .limit(limit)
             .fetch();
     }
-}
\ No newline at end of file
+
+    /**
+     * 정렬 순서상 (정렬 값, id) 커서보다 뒤인 행 조건.
+     * 커서에 id가 없으면(이전 형식의 커서) 정렬 값만으로 비교합니다.
+     */
+    private static BooleanExpression afterCursor(BooleanExpression beyondValue, BooleanExpression sameValue,
+        ComparableExpression<UUID> idPath, UUID afterId, boolean asc) {
+        if (afterId == null) {
+            return beyondValue;
+        }
+        return beyondValue.or(sameValue.and(asc ? idPath.gt(afterId) : idPath.lt(afterId)));
+    }
+}
@@ -0,0 +1,21 @@
+package org.project.monewping.domain.comment.repository;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * 댓글 좋아요 등록을 JDBC로 처리하는 커스텀 Repository 인터페이스
+ */
+public interface CommentLikeCustomRepository {
+
+    /**
+     * 좋아요가 없으면 등록합니다. 이미 있으면 (liked_id, comment_id) 유니크 제약 충돌로 아무것도 하지 않습니다.
+     *
+     * @param likeId 등록할 좋아요 ID
+     * @param userId 사용자 ID
+     * @param commentId 댓글 ID
+     * @param createdAt 좋아요 시각
+     * @return 새로 등록되었으면 true, 이미 좋아요한 댓글이면 false
+     */
+    boolean insertIfAbsent(UUID likeId, UUID userId, UUID commentId, Instant createdAt);
+}
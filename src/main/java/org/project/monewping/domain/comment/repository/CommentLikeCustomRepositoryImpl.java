@@ -0,0 +1,38 @@
+package org.project.monewping.domain.comment.repository;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 댓글 좋아요 등록을 INSERT ... ON CONFLICT로 구현하는 Repository입니다.
+ *
+ * <p>존재 여부를 조회한 뒤 저장하면 같은 사용자의 동시 요청이 모두 조회를 통과해 유니크 제약 예외가 나므로,
+ * INSERT 한 번으로 등록하고 삽입된 행 수로 중복 여부를 판별합니다.</p>
+ */
+@Repository
+@RequiredArgsConstructor
+public class CommentLikeCustomRepositoryImpl implements CommentLikeCustomRepository {
+
+    private static final String INSERT_SQL = """
+        INSERT INTO comment_likes (id, liked_id, comment_id, created_at)
+        VALUES (:id, :userId, :commentId, :createdAt)
+        ON CONFLICT DO NOTHING
+        """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Override
+    public boolean insertIfAbsent(UUID likeId, UUID userId, UUID commentId, Instant createdAt) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+            .addValue("id", likeId)
+            .addValue("userId", userId)
+            .addValue("commentId", commentId)
+            .addValue("createdAt", Timestamp.from(createdAt));
+        return jdbcTemplate.update(INSERT_SQL, params) > 0;
+    }
+}
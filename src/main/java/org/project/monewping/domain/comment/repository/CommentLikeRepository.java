@@ -1,12 +1,10 @@
 package org.project.monewping.domain.comment.repository;
 
-import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
-import org.project.monewping.domain.comment.entity.Comment;
 import org.project.monewping.domain.comment.entity.CommentLike;
-import org.project.monewping.domain.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -14,13 +12,12 @@ import org.springframework.data.repository.query.Param;
  * 댓글 좋아요 레포지토리
  * 댓글에 대한 사용자의 좋아요 정보를 조회/저장/삭제합니다.
  */
-public interface CommentLikeRepository extends JpaRepository<CommentLike, UUID> {
+public interface CommentLikeRepository extends JpaRepository<CommentLike, UUID>, CommentLikeCustomRepository {
 
-    // 특정 유저가 특정 댓글에 좋아요를 눌렀는지 조회합니다.
-    Optional<CommentLike> findByUserAndComment(User user, Comment comment);
-
-    //특정 유저가 특정 댓글에 좋아요를 눌렀는지 여부를 확인합니다.
-    boolean existsByUserAndComment(User user, Comment comment);
+    // 특정 유저의 특정 댓글 좋아요를 조회 없이 삭제하고, 삭제된 행 수를 반환합니다. (uk_comment_like 사용)
+    @Modifying
+    @Query("DELETE FROM CommentLike cl WHERE cl.user.id = :userId AND cl.comment.id = :commentId")
+    int deleteByUserIdAndCommentId(@Param("userId") UUID userId, @Param("commentId") UUID commentId);
 
     @Query("SELECT cl.comment.id FROM CommentLike cl WHERE cl.user.id = :userId AND cl.comment.articleId = :articleId")
     Set<UUID> findCommentIdsByUserIdAndArticleId(@Param("userId") UUID userId, @Param("articleId") UUID articleId);
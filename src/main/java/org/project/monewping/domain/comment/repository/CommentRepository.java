@@ -4,6 +4,7 @@ import org.project.monewping.domain.comment.entity.Comment;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import java.util.UUID;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -14,4 +15,19 @@ import org.springframework.data.repository.query.Param;
 public interface CommentRepository extends JpaRepository<Comment, UUID>, CommentCustomRepository {
     @Query("SELECT COUNT(c) FROM Comment c WHERE c.articleId = :articleId AND c.isDeleted = false")
     long countByArticleId(@Param("articleId") UUID articleId);
+
+    // 기사 물리 삭제 시 댓글 정리 (comments.article_id 외래 키 없음, 좋아요는 comment_id 외래 키로 연쇄 삭제)
+    @Modifying
+    @Query("DELETE FROM Comment c WHERE c.articleId = :articleId")
+    int deleteAllByArticleId(@Param("articleId") UUID articleId);
+
+    // 좋아요 수 증가 (댓글을 읽어 수정하지 않고 UPDATE 한 번으로 반영하여 동시 좋아요의 증가분 유실 방지)
+    @Modifying
+    @Query("UPDATE Comment c SET c.likeCount = c.likeCount + 1 WHERE c.id = :commentId")
+    int increaseLikeCount(@Param("commentId") UUID commentId);
+
+    // 좋아요 수 감소 (0 미만으로 내려가지 않음)
+    @Modifying
+    @Query("UPDATE Comment c SET c.likeCount = c.likeCount - 1 WHERE c.id = :commentId AND c.likeCount > 0")
+    int decreaseLikeCount(@Param("commentId") UUID commentId);
 }
\ No newline at end of file
@@ -8,7 +8,6 @@ import lombok.extern.slf4j.Slf4j;
 import org.project.monewping.domain.article.entity.Articles;
 import org.project.monewping.domain.article.repository.ArticlesRepository;
 import org.project.monewping.domain.comment.entity.Comment;
-import org.project.monewping.domain.comment.entity.CommentLike;
 import org.project.monewping.domain.comment.repository.CommentLikeRepository;
 import org.project.monewping.domain.comment.repository.CommentRepository;
 import org.project.monewping.domain.notification.entity.Notification;
@@ -23,6 +22,7 @@ import org.springframework.transaction.annotation.Transactional;
 /**
  * 댓글 좋아요 서비스
  * 사용자의 댓글 좋아요 등록 및 취소 비즈니스 로직을 담당합니다.
+ * 좋아요 등록은 INSERT ... ON CONFLICT, 좋아요 수는 원자적 UPDATE로 반영하여 동시 요청에도 증감이 유실되지 않습니다.
  */
 @Slf4j
 @Service
@@ -51,20 +51,18 @@ public class CommentLikeService {
         Comment comment = commentRepository.findById(commentId)
             .orElseThrow(() -> new IllegalArgumentException("댓글을 찾을 수 없습니다."));
 
-        if (commentLikeRepository.existsByUserAndComment(user, comment)) {
-            return; // 중복 좋아요 방지
+        UUID likeId = UUID.randomUUID();
+        Instant likedAt = Instant.now();
+        if (!commentLikeRepository.insertIfAbsent(likeId, userId, commentId, likedAt)) {
+            return; // 중복 좋아요 방지 (유니크 제약 충돌)
         }
 
-        CommentLike newLike = CommentLike.builder()
-            .user(user)
-            .comment(comment)
-            .build();
-
-        commentLikeRepository.save(newLike);
-        comment.increaseLikeCount();
-
-        addCommentLikeToUserActivity(userId, comment, newLike);
+        // 조회한 댓글에는 이번 좋아요가 아직 반영되지 않았으므로 +1한 값을 활동 내역에 기록
+        addCommentLikeToUserActivity(userId, comment, likeId, likedAt, comment.getLikeCount() + 1);
         createNotification(user.getNickname(), comment);
+
+        // 인기 댓글 행 잠금을 커밋 직전까지만 잡도록 좋아요 수 UPDATE를 마지막에 실행
+        commentRepository.increaseLikeCount(commentId);
     }
 
     /**
@@ -74,17 +72,17 @@ public class CommentLikeService {
      * @param commentId 댓글 ID
      */
     public void unlikeComment(UUID userId, UUID commentId) {
-        User user = userRepository.findById(userId)
-            .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
-
-        Comment comment = commentRepository.findById(commentId)
-            .orElseThrow(() -> new IllegalArgumentException("댓글을 찾을 수 없습니다."));
+        if (!userRepository.existsById(userId)) {
+            throw new IllegalArgumentException("사용자를 찾을 수 없습니다.");
+        }
+        if (!commentRepository.existsById(commentId)) {
+            throw new IllegalArgumentException("댓글을 찾을 수 없습니다.");
+        }
 
-        commentLikeRepository.findByUserAndComment(user, comment)
-            .ifPresent(commentLike -> {
-                commentLikeRepository.delete(commentLike);
-                comment.decreaseLikeCount();
-            });
+        // 실제로 삭제된 좋아요가 있을 때만 좋아요 수 감소
+        if (commentLikeRepository.deleteByUserIdAndCommentId(userId, commentId) > 0) {
+            commentRepository.decreaseLikeCount(commentId);
+        }
 
         // 사용자 활동 내역에서 댓글 좋아요 제거
         try {
@@ -96,21 +94,21 @@ public class CommentLikeService {
         }
     }
 
-    private void addCommentLikeToUserActivity(UUID userId, Comment comment, CommentLike commentLike) {
+    private void addCommentLikeToUserActivity(UUID userId, Comment comment, UUID likeId, Instant likedAt, int likeCount) {
         try {
             Articles article = articlesRepository.findById(comment.getArticleId()).orElse(null);
 
             if (article != null) {
                 UserActivityDocument.CommentLikeInfo commentLikeInfo = UserActivityDocument.CommentLikeInfo.builder()
-                    .id(commentLike.getId())
-                    .createdAt(Instant.ofEpochMilli(commentLike.getCreatedAt().toEpochMilli()))
+                    .id(likeId)
+                    .createdAt(Instant.ofEpochMilli(likedAt.toEpochMilli()))
                     .commentId(comment.getId())
                     .articleId(article.getId())
                     .articleTitle(article.getTitle())
                     .commentUserId(comment.getUserId())
                     .commentUserNickname(comment.getUserNickname())
                     .commentContent(comment.getContent())
-                    .commentLikeCount(comment.getLikeCount())
+                    .commentLikeCount(likeCount)
                     .commentCreatedAt(Instant.ofEpochMilli(comment.getCreatedAt().toEpochMilli()))
                     .build();
 
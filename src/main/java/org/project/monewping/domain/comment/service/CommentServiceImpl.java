@@ -1,12 +1,12 @@
 package org.project.monewping.domain.comment.service;
 
 import java.time.Instant;
+import java.time.format.DateTimeParseException;
 import java.util.List;
 import java.util.Set;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.project.monewping.domain.article.entity.Articles;
 import org.project.monewping.domain.article.repository.ArticlesRepository;
 import org.project.monewping.domain.comment.entity.Comment;
 import org.project.monewping.domain.comment.dto.CommentRegisterRequestDto;
@@ -38,6 +38,8 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class CommentServiceImpl implements CommentService {
 
+    private static final String CURSOR_DELIMITER = "_";
+
     private final CommentRepository commentRepository;
     private final CommentMapper commentMapper;
     private final UserRepository userRepository;
@@ -60,44 +62,16 @@ public class CommentServiceImpl implements CommentService {
         if (limit <= 0) limit = 50;
         if (limit > 100) limit = 100;
 
-        List<Comment> comments;
-
-        switch (orderBy) {
-            case "likeCount" -> {
-                Integer afterLikeCount = null;
-                if (after != null && !after.isBlank()) {
-                    try {
-                        afterLikeCount = Integer.valueOf(after);
-                    } catch (NumberFormatException e) {
-                        afterLikeCount = null;
-                    }
-                }
-                comments = commentRepository.findCommentsByLikeCountCursor(articleId, afterLikeCount, limit + 1);
-            }
-            case "createdAt" -> {
-                Instant afterCreatedAt = null;
-                if (after != null && !after.isBlank()) {
-                    try {
-                        afterCreatedAt = Instant.parse(after);
-                    } catch (Exception e) {
-                        afterCreatedAt = null;
-                    }
-                }
-                comments = commentRepository.findCommentsByCreatedAtCursor(articleId, afterCreatedAt, limit + 1);
-            }
-            default -> {
-                // 기본: createdAt 내림차순
-                Instant afterCreatedAt = null;
-                if (after != null && !after.isBlank()) {
-                    try {
-                        afterCreatedAt = Instant.parse(after);
-                    } catch (Exception e) {
-                        afterCreatedAt = null;
-                    }
-                }
-                comments = commentRepository.findCommentsByCreatedAtCursor(articleId, afterCreatedAt, limit + 1);
-            }
-        }
+        // (정렬 값, id) 복합 커서로 정렬 값이 같은 댓글도 누락/중복 없이 이어 조회
+        boolean asc = "ASC".equalsIgnoreCase(direction);
+        boolean byLikeCount = "likeCount".equals(orderBy);
+        CommentCursor commentCursor = decodeCursor(cursor, after);
+
+        List<Comment> comments = byLikeCount
+            ? commentRepository.findCommentsByLikeCountCursor(
+                articleId, asc, commentCursor.likeCount(), commentCursor.id(), limit + 1)
+            : commentRepository.findCommentsByCreatedAtCursor(
+                articleId, asc, commentCursor.createdAt(), commentCursor.id(), limit + 1);
 
         boolean hasNext = comments.size() > limit;
         List<Comment> page = hasNext ? comments.subList(0, limit) : comments;
@@ -109,22 +83,24 @@ public class CommentServiceImpl implements CommentService {
             .toList();
 
         int size = limit;
-        long totalElements = commentRepository.countByArticleId(articleId);
+        // 전체 개수는 댓글을 세지 않고 기사에 유지되는 댓글 수를 사용 (CommentCountReconciler가 주기적으로 보정)
+        long totalElements = articlesRepository.findCommentCountById(articleId).orElse(0L);
 
+        // nextCursor: 마지막 댓글의 "정렬 값_id", nextAfter: 마지막 댓글의 createdAt
+        String nextCursor = null;
         String nextAfter = null;
-        if (!page.isEmpty()) {
+        if (hasNext) {
             Comment last = page.get(page.size() - 1);
-            nextAfter = switch (orderBy) {
-                case "likeCount" -> String.valueOf(last.getLikeCount());
-                case "createdAt" -> last.getCreatedAt().toString();
-                default -> last.getCreatedAt().toString();
-            };
+            nextCursor = byLikeCount
+                ? encodeCursor(last.getLikeCount(), last.getId())
+                : encodeCursor(last.getCreatedAt(), last.getId());
+            nextAfter = last.getCreatedAt().toString();
         }
 
         return new CursorPageResponse<>(
             response,
+            nextCursor,
             nextAfter,
-            nextAfter,  // nextAfter에 커서 값 전달
             size,
             totalElements,
             hasNext
@@ -139,10 +115,10 @@ public class CommentServiceImpl implements CommentService {
                 "해당 사용자를 찾을 수 없습니다. userId: " + requestDto.getUserId()
             ));
 
-        // 🔥 기사 댓글 수 증가
-        Articles article = articlesRepository.findById(requestDto.getArticleId())
-            .orElseThrow(() -> new RuntimeException("해당 기사를 찾을 수 없습니다. articleId: " + requestDto.getArticleId()));
-        article.increaseCommentCount();
+        // 기사 댓글 수 증가 (원자적 UPDATE, 갱신된 행이 없으면 기사가 없는 것)
+        if (articlesRepository.increaseCommentCount(requestDto.getArticleId()) != 1) {
+            throw new RuntimeException("해당 기사를 찾을 수 없습니다. articleId: " + requestDto.getArticleId());
+        }
 
         Comment comment = commentMapper.toEntity(requestDto, user.getNickname());
         Comment saved = commentRepository.save(comment);
@@ -155,7 +131,7 @@ public class CommentServiceImpl implements CommentService {
             UserActivityDocument.CommentInfo commentInfo = UserActivityDocument.CommentInfo.builder()
                 .id(saved.getId())
                 .articleId(requestDto.getArticleId())
-                .articleTitle(article.getTitle())
+                .articleTitle(articlesRepository.findTitleById(requestDto.getArticleId()).orElse(null))
                 .userId(requestDto.getUserId())
                 .userNickname(user.getNickname())
                 .content(saved.getContent())
@@ -193,11 +169,8 @@ public class CommentServiceImpl implements CommentService {
         comment.delete();
         commentRepository.save(comment);
 
-        // 기사 댓글 수 감소
-        Articles article = articlesRepository.findById(comment.getArticleId())
-            .orElseThrow(() -> new RuntimeException("해당 기사를 찾을 수 없습니다. articleId: " + comment.getArticleId()));
-        article.decreaseCommentCount();
-        articlesRepository.save(article);
+        // 기사 댓글 수 감소 (원자적 UPDATE)
+        decreaseCommentCount(comment.getArticleId());
 
         log.info("[CommentService] 댓글 논리 삭제 완료 - commentId: {}, userId: {}", commentId, userId);
 
@@ -230,9 +203,7 @@ public class CommentServiceImpl implements CommentService {
 
         // 기사 댓글 수 감소
         if (shouldDecreaseCount) {
-            Articles article = articlesRepository.findById(comment.getArticleId())
-                .orElseThrow(() -> new RuntimeException("해당 기사를 찾을 수 없습니다. articleId: " + comment.getArticleId()));
-            article.decreaseCommentCount();
+            decreaseCommentCount(comment.getArticleId());
 
             log.info("[CommentService] 댓글 수 감소 (물리 삭제로 인한) - commentId: {}", commentId);
         }
@@ -286,8 +257,76 @@ public class CommentServiceImpl implements CommentService {
         return commentMapper.toResponseDto(comment);
     }
 
+    private void decreaseCommentCount(UUID articleId) {
+        if (articlesRepository.decreaseCommentCount(articleId) == 0) {
+            log.warn("[CommentService] 기사 댓글 수 감소 대상 없음 (기사 없음 또는 댓글 수 0) - articleId: {}", articleId);
+        }
+    }
+
     private String encodeCursor(Object orderValue, UUID id) {
-        return orderValue + "_" + id.toString();
+        return orderValue + CURSOR_DELIMITER + id.toString();
+    }
+
+    /**
+     * cursor("정렬 값_id")를 파싱합니다. cursor가 없으면 이전 형식의 after(정렬 값)만 사용하며,
+     * 구분자나 id 형식이 잘못된 cursor는 무시합니다. 정렬 값은 정렬 기준에 맞춰 조회 시 검사합니다.
+     */
+    private CommentCursor decodeCursor(String cursor, String after) {
+        if (cursor != null && !cursor.isBlank()) {
+            int delimiter = cursor.lastIndexOf(CURSOR_DELIMITER);
+            if (delimiter > 0) {
+                try {
+                    return new CommentCursor(cursor.substring(0, delimiter), UUID.fromString(cursor.substring(delimiter + 1)));
+                } catch (IllegalArgumentException e) {
+                    log.warn("[CommentService] 잘못된 커서 형식 - cursor: {}", cursor);
+                }
+            }
+        }
+        if (after != null && !after.isBlank()) {
+            return new CommentCursor(after, null);
+        }
+        return new CommentCursor(null, null);
+    }
+
+    /**
+     * 댓글 목록 커서
+     *
+     * <p>"정렬 값_id" 커서의 정렬 값이 정렬 기준과 맞지 않으면 {@link IllegalArgumentException}(400)을 던집니다.
+     * 이전 형식의 after만 있는 경우에는 기존처럼 무시하고 첫 페이지부터 조회합니다.</p>
+     *
+     * @param sortValue 마지막 댓글의 정렬 값 (createdAt 또는 likeCount)
+     * @param id 마지막 댓글 ID (이전 형식의 커서면 null)
+     */
+    private record CommentCursor(String sortValue, UUID id) {
+
+        Instant createdAt() {
+            if (sortValue == null) {
+                return null;
+            }
+            try {
+                return Instant.parse(sortValue);
+            } catch (DateTimeParseException e) {
+                return invalid(e);
+            }
+        }
+
+        Integer likeCount() {
+            if (sortValue == null) {
+                return null;
+            }
+            try {
+                return Math.toIntExact(Long.parseLong(sortValue));
+            } catch (NumberFormatException | ArithmeticException e) {
+                return invalid(e);
+            }
+        }
+
+        private <T> T invalid(RuntimeException cause) {
+            if (id == null) {
+                return null;
+            }
+            throw new IllegalArgumentException("잘못된 커서 형식입니다. 입력값: " + sortValue + CURSOR_DELIMITER + id, cause);
+        }
     }
 
     /**
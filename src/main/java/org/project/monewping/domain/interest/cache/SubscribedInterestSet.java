@@ -0,0 +1,91 @@
+package org.project.monewping.domain.interest.cache;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.UUID;
+
+/**
+ * 한 사용자가 구독한 관심사 ID의 불변 집합입니다.
+ *
+ * <p>UUID 객체 대신 상위/하위 64비트를 정렬된 {@code long} 배열 하나에 나란히 담아
+ * 관심사당 16바이트만 사용하고, 포함 여부는 이진 탐색으로 확인합니다.</p>
+ */
+public final class SubscribedInterestSet {
+
+    static final SubscribedInterestSet EMPTY = new SubscribedInterestSet(new long[0]);
+
+    // 상위 비트, 하위 비트 순의 부호 있는 비교 (JDK 버전과 무관하게 정렬과 탐색이 같은 순서를 쓰도록 직접 정의)
+    private static final Comparator<UUID> ORDER = Comparator
+        .comparingLong(UUID::getMostSignificantBits)
+        .thenComparingLong(UUID::getLeastSignificantBits);
+
+    // [msb0, lsb0, msb1, lsb1, ...] (ORDER 순 정렬)
+    private final long[] bits;
+
+    private SubscribedInterestSet(long[] bits) {
+        this.bits = bits;
+    }
+
+    /**
+     * 관심사 ID 목록으로 집합을 만듭니다. 중복 ID는 하나로 합칩니다.
+     * @param interestIds 구독한 관심사 ID 목록
+     * @return 구독 관심사 집합
+     */
+    public static SubscribedInterestSet of(Collection<UUID> interestIds) {
+        UUID[] sorted = interestIds.stream().distinct().sorted(ORDER).toArray(UUID[]::new);
+        if (sorted.length == 0) {
+            return EMPTY;
+        }
+        long[] bits = new long[sorted.length * 2];
+        for (int i = 0; i < sorted.length; i++) {
+            bits[i * 2] = sorted[i].getMostSignificantBits();
+            bits[i * 2 + 1] = sorted[i].getLeastSignificantBits();
+        }
+        return new SubscribedInterestSet(bits);
+    }
+
+    /**
+     * 관심사를 구독했는지 확인합니다.
+     * @param interestId 관심사 ID
+     * @return 구독 여부
+     */
+    public boolean contains(UUID interestId) {
+        long msb = interestId.getMostSignificantBits();
+        long lsb = interestId.getLeastSignificantBits();
+        int low = 0;
+        int high = size() - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int cmp = Long.compare(bits[mid * 2], msb);
+            if (cmp == 0) {
+                cmp = Long.compare(bits[mid * 2 + 1], lsb);
+            }
+            if (cmp < 0) {
+                low = mid + 1;
+            } else if (cmp > 0) {
+                high = mid - 1;
+            } else {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 구독한 관심사 수
+     */
+    public int size() {
+        return bits.length / 2;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof SubscribedInterestSet other && Arrays.equals(bits, other.bits);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(bits);
+    }
+}
@@ -0,0 +1,118 @@
+package org.project.monewping.domain.interest.cache;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.project.monewping.domain.interest.event.SubscriptionChangedEvent;
+import org.project.monewping.domain.interest.repository.SubscriptionRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 사용자별 구독 관심사 집합을 메모리에 보관하는 LRU 캐시입니다.
+ *
+ * <p>관심사 목록의 {@code subscribedByMe} 판별에 쓰이며, 최근에 조회한 {@code max-users}명까지만 보관하고
+ * 가장 오래 조회하지 않은 사용자부터 제거합니다.</p>
+ *
+ * <p>구독/구독 취소/사용자 삭제/관심사 삭제로 {@link SubscriptionChangedEvent}가 커밋되면 해당 사용자를 캐시에서 제거합니다.
+ * 다른 인스턴스의 변경은 {@code ttl}이 지나 다시 읽을 때 반영됩니다.</p>
+ */
+@Slf4j
+@Component
+public class SubscriptionCache {
+
+    private final SubscriptionRepository subscriptionRepository;
+    private final Duration ttl;
+    private final Clock clock;
+
+    // 접근 순서 LinkedHashMap: 가장 오래 조회하지 않은 사용자가 맨 앞
+    private final Map<UUID, Entry> entries;
+
+    // 제거가 일어날 때마다 증가. 적재 중에 제거된 사용자의 이전 집합을 다시 넣지 않기 위해 사용
+    private final AtomicLong evictions = new AtomicLong();
+
+    private record Entry(SubscribedInterestSet interests, Instant loadedAt) {
+    }
+
+    @Autowired
+    public SubscriptionCache(
+        SubscriptionRepository subscriptionRepository,
+        @Value("${monewping.interest.subscription-cache.max-users:10000}") int maxUsers,
+        @Value("${monewping.interest.subscription-cache.ttl:PT1M}") Duration ttl) {
+        this(subscriptionRepository, maxUsers, ttl, Clock.systemUTC());
+    }
+
+    SubscriptionCache(SubscriptionRepository subscriptionRepository, int maxUsers, Duration ttl, Clock clock) {
+        this.subscriptionRepository = subscriptionRepository;
+        this.ttl = ttl;
+        this.clock = clock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<UUID, Entry> eldest) {
+                return size() > maxUsers;
+            }
+        };
+    }
+
+    /**
+     * 사용자가 구독한 관심사 집합을 반환합니다. 캐시에 없거나 만료되었으면 DB에서 읽어 보관합니다.
+     * @param userId 사용자 ID
+     * @return 구독 관심사 집합
+     */
+    public SubscribedInterestSet get(UUID userId) {
+        Instant now = clock.instant();
+        synchronized (entries) {
+            Entry entry = entries.get(userId);
+            if (entry != null && entry.loadedAt().plus(ttl).isAfter(now)) {
+                return entry.interests();
+            }
+        }
+
+        // DB 조회는 잠금 밖에서 수행
+        long stamp = evictions.get();
+        SubscribedInterestSet interests = SubscribedInterestSet.of(subscriptionRepository.findInterestIdsByUserId(userId));
+        synchronized (entries) {
+            if (evictions.get() == stamp) {
+                entries.put(userId, new Entry(interests, now));
+            }
+        }
+        return interests;
+    }
+
+    /**
+     * 사용자를 캐시에서 제거합니다.
+     * @param userId 사용자 ID
+     */
+    public void evict(UUID userId) {
+        synchronized (entries) {
+            evictions.incrementAndGet();
+            entries.remove(userId);
+        }
+    }
+
+    /**
+     * 구독 목록이 바뀐 사용자를 캐시에서 제거합니다.
+     * 트랜잭션 안에서 발행되면 커밋 후, 트랜잭션 밖에서 발행되면 즉시 실행됩니다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSubscriptionChanged(SubscriptionChangedEvent event) {
+        evict(event.userId());
+        log.debug("[SubscriptionCache] 구독 캐시 제거: userId={}", event.userId());
+    }
+
+    /**
+     * 캐시에 보관 중인 사용자 수
+     */
+    int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+}
@@ -0,0 +1,307 @@
+package org.project.monewping.domain.interest.catalog;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.text.similarity.JaroWinklerSimilarity;
+import org.project.monewping.domain.interest.entity.QInterest;
+import org.project.monewping.domain.interest.entity.QKeyword;
+import org.project.monewping.domain.interest.event.InterestChangedEvent;
+import org.project.monewping.domain.interest.event.SubscriberCountsFlushedEvent;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 관심사, 키워드, 구독자 수를 메모리에 보관하는 읽기 전용 카탈로그입니다.
+ *
+ * <p>조회는 불변 {@link Snapshot}을 읽기만 하므로 잠금과 쿼리가 없습니다.
+ * 변경 시에는 새 스냅샷을 만들어 교체(copy-on-write)하고 버전을 올립니다.
+ * 복사 비용이 관심사 수에 비례하므로, 동시에 들어온 변경은 모아서 한 번만 교체합니다.</p>
+ *
+ * <p>스냅샷에는 관심사 이름/키워드의 검색 색인({@link InterestSearchIndex})도 함께 담습니다.
+ * 구독자 수만 바뀐 경우에는 이전 색인을 그대로 재사용합니다.
+ * 관심사 등록 시 유사 이름 검사도 같은 스냅샷의 색인으로 처리하므로, 이름을 따로 보관하는 색인을 두지 않습니다.
+ * 다른 인스턴스에서 마지막 전체 적재 이후 등록한 관심사는 스냅샷에 없으므로, 그 이후 생성된 이름만 DB에서 따로 읽어 함께 비교합니다.</p>
+ *
+ * <p>애플리케이션 시작 시 전체를 적재하고, {@link InterestChangedEvent}가 커밋되면 해당 관심사만 다시 읽어 반영합니다.
+ * 구독자 수는 {@link SubscriberCountsFlushedEvent}로 전달된 반영 결과를 다시 읽지 않고 한 번의 교체로 적용합니다.
+ * 다른 인스턴스의 변경은 {@code refresh-interval}마다 전체를 다시 적재하여 반영합니다.
+ * 관심사를 직접 조회하지 않도록 Repository 대신 {@link JPAQueryFactory} 프로젝션으로 읽습니다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class InterestCatalog {
+
+    public static final double SIMILARITY_THRESHOLD = 0.8; // 80% 유사도 임계값
+    private static final JaroWinklerSimilarity JW = new JaroWinklerSimilarity();
+
+    // 적재 시작 전에 시작해 적재 후 커밋된 트랜잭션과 인스턴스 간 시계 차이를 덮기 위한 여유 시간
+    private static final Duration CREATED_AFTER_LOAD_MARGIN = Duration.ofMinutes(1);
+
+    private final JPAQueryFactory queryFactory;
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    // 커밋됐지만 아직 스냅샷에 반영하지 않은 관심사 ID
+    private final Set<UUID> changedIds = ConcurrentHashMap.newKeySet();
+
+    /**
+     * 관심사 카탈로그의 한 시점 스냅샷. 생성 후 변경되지 않습니다.
+     *
+     * @param version     스냅샷 버전 (변경마다 1씩 증가)
+     * @param interests   관심사 ID별 정보 (생성 순)
+     * @param searchIndex 관심사 이름/키워드 검색 색인
+     * @param loadedAt    마지막 전체 적재를 시작한 시각 (적재 전이면 {@link Instant#EPOCH})
+     */
+    public record Snapshot(long version, Map<UUID, InterestCatalogEntry> interests, InterestSearchIndex searchIndex,
+                           Instant loadedAt) {
+
+        static final Snapshot EMPTY = new Snapshot(0, Map.of(), InterestSearchIndex.EMPTY, Instant.EPOCH);
+
+        public Snapshot(long version, Map<UUID, InterestCatalogEntry> interests) {
+            this(version, interests, InterestSearchIndex.of(interests.values()), Instant.EPOCH);
+        }
+
+        public Optional<InterestCatalogEntry> find(UUID interestId) {
+            return Optional.ofNullable(interests.get(interestId));
+        }
+
+        public Collection<InterestCatalogEntry> all() {
+            return interests.values();
+        }
+    }
+
+    /**
+     * 현재 스냅샷을 반환합니다.
+     */
+    public Snapshot snapshot() {
+        return snapshot;
+    }
+
+    /**
+     * 관심사 정보를 조회합니다.
+     * @param interestId 관심사 ID
+     * @return 카탈로그에 있으면 관심사 정보
+     */
+    public Optional<InterestCatalogEntry> find(UUID interestId) {
+        return snapshot.find(interestId);
+    }
+
+    /**
+     * 주어진 이름과 Jaro-Winkler 유사도가 임계값 이상인 관심사 이름을 찾습니다.
+     *
+     * <p>현재 스냅샷 색인에서 이름 bigram을 공유하는 관심사를 비교하고,
+     * 스냅샷의 마지막 전체 적재 이후 생성된 관심사 이름은 DB에서 읽어 함께 비교합니다.
+     * 전체 적재 주기 동안 등록된 관심사만 읽으므로 조회 건수는 적습니다.</p>
+     *
+     * @param name 새로 등록하려는 관심사 이름
+     * @return 유사도가 0.8 이상인 기존 관심사 이름 리스트 (카탈로그 순, 스냅샷 이후 생성된 이름은 뒤에 생성 순)
+     */
+    public List<String> findSimilarNames(String name) {
+        Snapshot current = snapshot;
+        List<String> similar = new ArrayList<>();
+        Set<UUID> compared = new HashSet<>();
+        for (UUID interestId : current.searchIndex().findNameCandidates(name)) {
+            InterestCatalogEntry entry = current.interests().get(interestId);
+            compared.add(interestId);
+            if (entry != null && JW.apply(name, entry.name()) >= SIMILARITY_THRESHOLD) {
+                similar.add(entry.name());
+            }
+        }
+
+        QInterest interest = QInterest.interest;
+        List<Tuple> created = queryFactory.select(interest.id, interest.name)
+            .from(interest)
+            .where(interest.createdAt.gt(current.loadedAt().minus(CREATED_AFTER_LOAD_MARGIN)))
+            .orderBy(interest.createdAt.asc(), interest.id.asc())
+            .fetch();
+        for (Tuple row : created) {
+            String createdName = row.get(interest.name);
+            if (compared.add(row.get(interest.id)) && JW.apply(name, createdName) >= SIMILARITY_THRESHOLD) {
+                similar.add(createdName);
+            }
+        }
+        return similar;
+    }
+
+    /**
+     * DB의 모든 관심사와 키워드로 스냅샷을 새로 만들어 교체합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        // 적재 전에 비우므로 비운 뒤 커밋된 변경만 다음 반영 대상으로 남음
+        changedIds.clear();
+        Instant loadedAt = Instant.now();
+        Map<UUID, InterestCatalogEntry> interests = load(null);
+        snapshot = new Snapshot(snapshot.version() + 1, Collections.unmodifiableMap(interests),
+            InterestSearchIndex.of(interests.values()), loadedAt);
+        log.info("[InterestCatalog] 관심사 카탈로그 적재 완료: version={}, interests={}",
+            snapshot.version(), interests.size());
+    }
+
+    /**
+     * 다른 인스턴스에서 변경된 관심사를 반영하기 위해 주기적으로 전체를 다시 적재합니다.
+     */
+    @Scheduled(
+        fixedDelayString = "${monewping.interest.catalog.refresh-interval:PT10M}",
+        initialDelayString = "${monewping.interest.catalog.refresh-interval:PT10M}")
+    public void refresh() {
+        try {
+            rebuild();
+        } catch (Exception e) {
+            log.error("[InterestCatalog] 관심사 카탈로그 갱신 실패", e);
+        }
+    }
+
+    /**
+     * 변경된 관심사를 다시 읽어 스냅샷에 반영합니다. 삭제된 관심사는 스냅샷에서 제거합니다.
+     * 트랜잭션 안에서 발행되면 커밋 후, 트랜잭션 밖에서 발행되면 즉시 실행됩니다.
+     *
+     * <p>변경 ID를 먼저 모아 두고 잠금을 얻은 쪽이 그때까지 모인 변경을 한 번의 조회와 한 번의 스냅샷 교체로 반영합니다.
+     * 잠금을 기다리던 다른 변경은 함께 반영되므로, 변경이 몰려도 스냅샷 복사는 변경 건수만큼 일어나지 않습니다.</p>
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onInterestChanged(InterestChangedEvent event) {
+        changedIds.add(event.interestId());
+        try {
+            reloadChanged();
+        } catch (Exception e) {
+            log.error("[InterestCatalog] 관심사 카탈로그 반영 실패: interestId={}", event.interestId(), e);
+        }
+    }
+
+    /**
+     * DB에 반영된 구독자 수를 스냅샷에 한 번에 적용합니다.
+     * 트랜잭션 안에서 발행되면 커밋 후, 트랜잭션 밖에서 발행되면 즉시 실행됩니다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSubscriberCountsFlushed(SubscriberCountsFlushedEvent event) {
+        try {
+            applySubscriberCounts(event.subscriberCounts());
+        } catch (Exception e) {
+            log.error("[InterestCatalog] 구독자 수 반영 실패: interests={}", event.subscriberCounts().size(), e);
+        }
+    }
+
+    // 변화량이 아닌 DB 값을 그대로 적용하므로, 전체 적재와 순서가 엇갈려도 두 번 더해지지 않음
+    // 이름/키워드는 그대로이므로 검색 색인을 재사용
+    synchronized void applySubscriberCounts(Map<UUID, Long> subscriberCounts) {
+        Map<UUID, InterestCatalogEntry> current = snapshot.interests();
+        boolean changed = subscriberCounts.entrySet().stream().anyMatch(count -> {
+            InterestCatalogEntry entry = current.get(count.getKey());
+            return entry != null && entry.subscriberCount() != count.getValue();
+        });
+        if (!changed) {
+            return;
+        }
+
+        Map<UUID, InterestCatalogEntry> interests = new LinkedHashMap<>(current);
+        subscriberCounts.forEach((interestId, count) ->
+            interests.computeIfPresent(interestId, (id, entry) -> entry.withSubscriberCount(count)));
+        snapshot = new Snapshot(snapshot.version() + 1, Collections.unmodifiableMap(interests), snapshot.searchIndex(),
+            snapshot.loadedAt());
+    }
+
+    synchronized void reloadChanged() {
+        // 조회 전에 꺼내므로 꺼낸 뒤 커밋된 변경은 다음 반영 대상으로 남음
+        List<UUID> interestIds = new ArrayList<>();
+        for (Iterator<UUID> it = changedIds.iterator(); it.hasNext(); ) {
+            interestIds.add(it.next());
+            it.remove();
+        }
+        if (interestIds.isEmpty()) {
+            return;
+        }
+
+        Map<UUID, InterestCatalogEntry> loaded;
+        try {
+            loaded = load(interestIds);
+        } catch (RuntimeException e) {
+            changedIds.addAll(interestIds);
+            throw e;
+        }
+
+        Map<UUID, InterestCatalogEntry> interests = new LinkedHashMap<>(snapshot.interests());
+        boolean searchTextChanged = false;
+        for (UUID interestId : interestIds) {
+            InterestCatalogEntry entry = loaded.get(interestId);
+            InterestCatalogEntry previous = entry == null ? interests.remove(interestId) : interests.put(interestId, entry);
+            searchTextChanged |= !sameSearchText(previous, entry);
+        }
+
+        // 이름과 키워드가 모두 그대로면(구독자 수 변경 등) 검색 색인을 재사용
+        InterestSearchIndex searchIndex = searchTextChanged
+            ? InterestSearchIndex.of(interests.values())
+            : snapshot.searchIndex();
+        // 이 인스턴스의 변경만 반영하므로 전체 적재 시각은 유지
+        snapshot = new Snapshot(snapshot.version() + 1, Collections.unmodifiableMap(interests), searchIndex,
+            snapshot.loadedAt());
+    }
+
+    private static boolean sameSearchText(InterestCatalogEntry previous, InterestCatalogEntry current) {
+        if (previous == null || current == null) {
+            return previous == current;
+        }
+        return previous.name().equals(current.name()) && previous.keywords().equals(current.keywords());
+    }
+
+    // 관심사와 키워드를 각각 한 번의 프로젝션 쿼리로 읽음 (interestIds가 null이면 전체)
+    private Map<UUID, InterestCatalogEntry> load(Collection<UUID> interestIds) {
+        QInterest interest = QInterest.interest;
+        QKeyword keyword = QKeyword.keyword;
+
+        BooleanExpression interestCondition = interestIds == null ? null : interest.id.in(interestIds);
+        BooleanExpression keywordCondition = interestIds == null ? null : keyword.interest.id.in(interestIds);
+
+        Map<UUID, List<String>> keywords = queryFactory.select(keyword.interest.id, keyword.name)
+            .from(keyword)
+            .where(keywordCondition)
+            .orderBy(keyword.createdAt.asc(), keyword.id.asc())
+            .fetch()
+            .stream()
+            .collect(Collectors.groupingBy(
+                tuple -> tuple.get(keyword.interest.id),
+                HashMap::new,
+                Collectors.mapping(tuple -> tuple.get(keyword.name), Collectors.toList())));
+
+        List<Tuple> rows = queryFactory.select(interest.id, interest.name, interest.subscriberCount, interest.createdAt)
+            .from(interest)
+            .where(interestCondition)
+            .orderBy(interest.createdAt.asc(), interest.id.asc())
+            .fetch();
+
+        Map<UUID, InterestCatalogEntry> interests = new LinkedHashMap<>();
+        for (Tuple row : rows) {
+            UUID id = row.get(interest.id);
+            interests.put(id, new InterestCatalogEntry(
+                id,
+                row.get(interest.name),
+                keywords.getOrDefault(id, List.of()),
+                row.get(interest.subscriberCount),
+                row.get(interest.createdAt)));
+        }
+        return interests;
+    }
+}
@@ -0,0 +1,35 @@
+package org.project.monewping.domain.interest.catalog;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 관심사 카탈로그에 보관하는 관심사 한 건의 읽기 전용 정보입니다.
+ *
+ * @param id              관심사 ID
+ * @param name            관심사 이름
+ * @param keywords        키워드 이름 목록 (등록 순, 수정 불가)
+ * @param subscriberCount 구독자 수
+ * @param createdAt       생성 시각
+ */
+public record InterestCatalogEntry(
+    UUID id,
+    String name,
+    List<String> keywords,
+    long subscriberCount,
+    Instant createdAt
+) {
+
+    public InterestCatalogEntry {
+        keywords = List.copyOf(keywords);
+    }
+
+    /**
+     * 구독자 수만 바꾼 정보를 반환합니다.
+     * @param subscriberCount 새 구독자 수
+     */
+    public InterestCatalogEntry withSubscriberCount(long subscriberCount) {
+        return new InterestCatalogEntry(id, name, keywords, subscriberCount, createdAt);
+    }
+}
@@ -0,0 +1,270 @@
+package org.project.monewping.domain.interest.catalog;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 관심사 이름과 키워드의 n-gram 역색인과 유사 이름 검사용 이름 2-gram 역색인입니다.
+ *
+ * <p>이름과 키워드를 소문자로 정규화해 3글자 조각(trigram)마다 해당 관심사 번호 목록을 보관합니다.
+ * 검색어의 모든 trigram 목록을 교집합한 후보만 실제 부분일치를 확인하므로,
+ * 관심사마다 {@code LIKE '%검색어%'}를 평가하지 않습니다.
+ * 한국어 관심사는 두 글자 검색어가 흔하므로, 3글자 미만 검색어를 위해 1글자/2글자 조각도 따로 색인해
+ * 해당 조각의 목록을 그대로 후보로 씁니다. (검색어에는 경계 문자가 없으므로 이 조각에는 경계 문자를 붙이지 않습니다)</p>
+ *
+ * <p>유사 이름 검사를 위해 이름만 앞뒤에 경계 문자를 붙인 2글자 조각(bigram)으로도 색인합니다.
+ * bigram을 하나 이상 공유하는 이름만 유사도 비교 후보가 되며, 이 후보는 서로 부분 문자열인 이름을 모두 포함합니다.</p>
+ *
+ * <p>이름/키워드만 담고 구독자 수는 담지 않으므로, 이름과 키워드가 그대로인 관심사의 변경에는 색인을 재사용할 수 있습니다.</p>
+ */
+public final class InterestSearchIndex {
+
+    static final InterestSearchIndex EMPTY = of(List.of());
+
+    private static final int GRAM = 3;
+    private static final char BOUNDARY = '\u0000';
+
+    // 일치 위치별 점수 (높을수록 관련도 높음)
+    private static final int NAME_EXACT = 6;
+    private static final int NAME_PREFIX = 5;
+    private static final int NAME_CONTAINS = 4;
+    private static final int KEYWORD_EXACT = 3;
+    private static final int KEYWORD_PREFIX = 2;
+    private static final int KEYWORD_CONTAINS = 1;
+
+    // 관심사 번호 -> ID / 정규화된 이름 / 정규화된 키워드 (카탈로그 순)
+    private final UUID[] ids;
+    private final String[] names;
+    private final String[][] keywords;
+
+    // trigram -> 해당 trigram을 포함하는 관심사 번호 (오름차순)
+    private final Map<String, int[]> postings;
+
+    // 1글자/2글자 조각 -> 해당 조각을 포함하는 관심사 번호 (오름차순, 3글자 미만 검색어용)
+    private final Map<String, int[]> shortGrams;
+
+    // 이름 bigram(앞뒤 경계 포함) -> 해당 bigram을 포함하는 관심사 번호 (오름차순)
+    private final Map<String, int[]> nameBigrams;
+
+    /**
+     * 검색 결과 한 건
+     *
+     * @param interestId 관심사 ID
+     * @param score      관련도 점수 (이름 일치 > 이름 접두 > 이름 포함 > 키워드 일치 > 키워드 접두 > 키워드 포함)
+     */
+    public record Match(UUID interestId, int score) {
+    }
+
+    private InterestSearchIndex(UUID[] ids, String[] names, String[][] keywords,
+        Map<String, int[]> postings, Map<String, int[]> shortGrams, Map<String, int[]> nameBigrams) {
+        this.ids = ids;
+        this.names = names;
+        this.keywords = keywords;
+        this.postings = postings;
+        this.shortGrams = shortGrams;
+        this.nameBigrams = nameBigrams;
+    }
+
+    /**
+     * 관심사 목록으로 색인을 만듭니다.
+     * @param entries 관심사 목록
+     * @return 검색 색인
+     */
+    public static InterestSearchIndex of(Collection<InterestCatalogEntry> entries) {
+        int size = entries.size();
+        UUID[] ids = new UUID[size];
+        String[] names = new String[size];
+        String[][] keywords = new String[size][];
+        Map<String, List<Integer>> grams = new HashMap<>();
+        Map<String, List<Integer>> shortGrams = new HashMap<>();
+        Map<String, List<Integer>> bigrams = new HashMap<>();
+
+        int ordinal = 0;
+        for (InterestCatalogEntry entry : entries) {
+            ids[ordinal] = entry.id();
+            names[ordinal] = normalize(entry.name());
+            keywords[ordinal] = entry.keywords().stream().map(InterestSearchIndex::normalize).toArray(String[]::new);
+
+            Set<String> entryGrams = new HashSet<>();
+            Set<String> entryShortGrams = new HashSet<>();
+            addGrams(names[ordinal], GRAM, entryGrams);
+            addGrams(names[ordinal], 1, entryShortGrams);
+            addGrams(names[ordinal], 2, entryShortGrams);
+            for (String keyword : keywords[ordinal]) {
+                addGrams(keyword, GRAM, entryGrams);
+                addGrams(keyword, 1, entryShortGrams);
+                addGrams(keyword, 2, entryShortGrams);
+            }
+            for (String gram : entryGrams) {
+                grams.computeIfAbsent(gram, g -> new ArrayList<>()).add(ordinal);
+            }
+            for (String gram : entryShortGrams) {
+                shortGrams.computeIfAbsent(gram, g -> new ArrayList<>()).add(ordinal);
+            }
+            for (String gram : nameBigrams(names[ordinal])) {
+                bigrams.computeIfAbsent(gram, g -> new ArrayList<>()).add(ordinal);
+            }
+            ordinal++;
+        }
+
+        return new InterestSearchIndex(ids, names, keywords, toPostings(grams), toPostings(shortGrams), toPostings(bigrams));
+    }
+
+    /**
+     * 이름 또는 키워드에 검색어를 포함하는 관심사를 찾습니다. (대소문자 무시)
+     * @param query 검색어
+     * @return 관련도 높은 순, 같은 관련도는 카탈로그 순의 검색 결과
+     */
+    public List<Match> search(String query) {
+        String normalized = normalize(query);
+        List<Match> matches = new ArrayList<>();
+        if (normalized.isEmpty()) {
+            return matches;
+        }
+
+        for (int ordinal : candidates(normalized)) {
+            int score = score(ordinal, normalized);
+            if (score > 0) {
+                matches.add(new Match(ids[ordinal], score));
+            }
+        }
+        // 안정 정렬이므로 같은 점수는 카탈로그 순 유지
+        matches.sort(Comparator.comparingInt(Match::score).reversed());
+        return matches;
+    }
+
+    /**
+     * 이름과 bigram(앞뒤 경계 포함)을 하나 이상 공유하는 관심사를 찾습니다. (대소문자 무시)
+     *
+     * <p>유사 이름 검사의 후보입니다. 두 글자 이상인 이름이 다른 이름의 부분 문자열이면 반드시 bigram을 공유하고,
+     * 한 글자 이름은 접두어일 때만 경계 bigram을 공유합니다.
+     * 한 글자 이름이 접두어가 아니면 Jaro-Winkler 유사도가 0.8에 미치지 못하므로 유사 이름 검사 결과는 달라지지 않습니다.</p>
+     *
+     * @param name 관심사 이름
+     * @return 카탈로그 순의 후보 관심사 ID
+     */
+    public List<UUID> findNameCandidates(String name) {
+        Set<Integer> ordinals = new HashSet<>();
+        for (String gram : nameBigrams(normalize(name))) {
+            int[] posting = nameBigrams.get(gram);
+            if (posting != null) {
+                for (int ordinal : posting) {
+                    ordinals.add(ordinal);
+                }
+            }
+        }
+        return ordinals.stream().sorted().map(ordinal -> ids[ordinal]).toList();
+    }
+
+    /**
+     * 색인된 관심사 수
+     */
+    public int size() {
+        return ids.length;
+    }
+
+    // 검색어의 모든 trigram을 포함하는 관심사 번호 (3글자 미만이면 검색어 자체를 조각으로 조회)
+    private int[] candidates(String query) {
+        if (query.length() < GRAM) {
+            return shortGrams.getOrDefault(query, new int[0]);
+        }
+        Set<String> queryGrams = new HashSet<>();
+        addGrams(query, GRAM, queryGrams);
+
+        List<int[]> lists = new ArrayList<>(queryGrams.size());
+        for (String gram : queryGrams) {
+            int[] posting = postings.get(gram);
+            if (posting == null) {
+                return new int[0];
+            }
+            lists.add(posting);
+        }
+        // 가장 짧은 목록부터 교집합
+        lists.sort(Comparator.comparingInt(list -> list.length));
+        int[] result = lists.get(0);
+        for (int i = 1; i < lists.size() && result.length > 0; i++) {
+            result = intersect(result, lists.get(i));
+        }
+        return result;
+    }
+
+    private int score(int ordinal, String query) {
+        String name = names[ordinal];
+        if (name.equals(query)) {
+            return NAME_EXACT;
+        }
+        if (name.startsWith(query)) {
+            return NAME_PREFIX;
+        }
+        if (name.contains(query)) {
+            return NAME_CONTAINS;
+        }
+        int best = 0;
+        for (String keyword : keywords[ordinal]) {
+            if (keyword.equals(query)) {
+                return KEYWORD_EXACT;
+            }
+            if (keyword.startsWith(query)) {
+                best = Math.max(best, KEYWORD_PREFIX);
+            } else if (keyword.contains(query)) {
+                best = Math.max(best, KEYWORD_CONTAINS);
+            }
+        }
+        return best;
+    }
+
+    // 두 오름차순 목록의 교집합
+    private static int[] intersect(int[] a, int[] b) {
+        int[] result = new int[Math.min(a.length, b.length)];
+        int i = 0;
+        int j = 0;
+        int k = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) {
+                i++;
+            } else if (a[i] > b[j]) {
+                j++;
+            } else {
+                result[k++] = a[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(result, k);
+    }
+
+    private static void addGrams(String text, int length, Set<String> grams) {
+        for (int i = 0; i + length <= text.length(); i++) {
+            grams.add(text.substring(i, i + length));
+        }
+    }
+
+    // 앞뒤에 경계 문자를 붙여 2-gram 생성 (한 글자 이름도 gram을 가짐)
+    private static Set<String> nameBigrams(String name) {
+        String bounded = BOUNDARY + name + BOUNDARY;
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + 2 <= bounded.length(); i++) {
+            grams.add(bounded.substring(i, i + 2));
+        }
+        return grams;
+    }
+
+    private static Map<String, int[]> toPostings(Map<String, List<Integer>> grams) {
+        Map<String, int[]> postings = new HashMap<>(grams.size() * 4 / 3 + 1);
+        grams.forEach((gram, ordinals) -> postings.put(gram, ordinals.stream().mapToInt(Integer::intValue).toArray()));
+        return postings;
+    }
+
+    private static String normalize(String text) {
+        return text == null ? "" : text.toLowerCase(Locale.ROOT);
+    }
+}
@@ -7,6 +7,7 @@ import org.project.monewping.domain.interest.dto.InterestDto;
 import org.project.monewping.domain.interest.dto.request.CursorPageRequestSearchInterestDto;
 import org.project.monewping.domain.interest.dto.request.InterestRegisterRequest;
 import org.project.monewping.domain.interest.dto.request.InterestUpdateRequest;
+import org.project.monewping.domain.interest.dto.request.SubscriptionBulkRequest;
 import org.project.monewping.domain.interest.dto.response.CursorPageResponseInterestDto;
 import org.project.monewping.domain.interest.dto.SubscriptionDto;
 import org.project.monewping.domain.interest.exception.DuplicateInterestNameException;
@@ -20,6 +21,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -101,6 +103,42 @@ public class InterestController {
 
     }
 
+    /**
+     * 여러 관심사를 한 번에 구독합니다. 이미 구독 중인 관심사는 건너뜁니다.
+     *
+     * @param request      구독할 관심사 ID 목록
+     * @param subscriberId 구독자(사용자) ID
+     * @return 새로 등록된 구독 정보 DTO 목록
+     */
+    @PostMapping("/subscriptions")
+    public ResponseEntity<List<SubscriptionDto>> subscribeAll(
+            @Valid @RequestBody SubscriptionBulkRequest request,
+            @RequestHeader("Monew-Request-User-ID") UUID subscriberId
+    ) {
+        List<SubscriptionDto> response = subscriptionService.subscribeAll(request.interestIds(), subscriberId);
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .body(response);
+    }
+
+    /**
+     * 여러 관심사 구독을 한 번에 취소합니다. 구독하지 않은 관심사는 건너뜁니다.
+     *
+     * @param interestIds  구독 취소할 관심사 ID 목록
+     * @param subscriberId 구독자(사용자) ID
+     * @return 취소된 구독 정보 DTO 목록
+     */
+    @DeleteMapping("/subscriptions")
+    public ResponseEntity<List<SubscriptionDto>> unsubscribeAll(
+            @RequestParam List<UUID> interestIds,
+            @RequestHeader("Monew-Request-User-ID") UUID subscriberId
+    ) {
+        List<SubscriptionDto> response = subscriptionService.unsubscribeAll(interestIds, subscriberId);
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .body(response);
+    }
+
     /**
      * 관심사의 키워드를 수정합니다.
      *
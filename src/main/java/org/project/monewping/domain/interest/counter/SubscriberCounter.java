@@ -0,0 +1,218 @@
+package org.project.monewping.domain.interest.counter;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.project.monewping.domain.interest.event.SubscriberCountChangedEvent;
+import org.project.monewping.domain.interest.event.SubscriberCountsFlushedEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 관심사 구독자 수 변화량을 메모리에 누적했다가 DB에 일괄 반영하는 카운터입니다.
+ *
+ * <p>구독/구독 취소마다 관심사 엔티티를 수정하면 인기 관심사의 같은 행에 쓰기가 몰려
+ * 갱신이 유실되거나 서로 대기하게 됩니다. 대신 커밋된 변화량을 관심사별 {@link LongAdder}에 더하고,
+ * {@code flush-interval}마다 {@code subscriber_count = subscriber_count + ?} 배치 UPDATE 한 번으로 반영합니다.
+ * 반영 후 구독자 수는 같은 트랜잭션에서 한 번에 읽어 {@link SubscriberCountsFlushedEvent} 하나로 카탈로그에 전달합니다.</p>
+ *
+ * <p>반영 전에 프로세스가 종료되면 누적분이 유실될 수 있으므로,
+ * {@code reconcile-cron}마다 {@code interest_subscriptions}의 실제 구독 수로 보정합니다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SubscriberCounter {
+
+    private static final String FLUSH_SQL = """
+        UPDATE interests
+           SET subscriber_count = GREATEST(subscriber_count + :delta, 0)
+         WHERE id = :interestId
+        """;
+
+    private static final String SELECT_COUNTS_SQL = """
+        SELECT id, subscriber_count FROM interests WHERE id IN (:interestIds)
+        """;
+
+    private static final String RECONCILE_SQL = """
+        UPDATE interests
+           SET subscriber_count = (SELECT COUNT(*) FROM interest_subscriptions s WHERE s.interest_id = interests.id)
+         WHERE subscriber_count <> (SELECT COUNT(*) FROM interest_subscriptions s WHERE s.interest_id = interests.id)
+        """;
+
+    // 관심사 ID -> DB에 아직 반영하지 않은 변화량
+    private final Map<UUID, LongAdder> pending = new ConcurrentHashMap<>();
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 커밋된 구독자 수 변화량을 누적합니다.
+     * 트랜잭션 안에서 발행되면 커밋 후, 트랜잭션 밖에서 발행되면 즉시 실행됩니다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSubscriberCountChanged(SubscriberCountChangedEvent event) {
+        add(event.interestId(), event.delta());
+    }
+
+    /**
+     * 구독자 수 변화량을 누적합니다.
+     * @param interestId 관심사 ID
+     * @param delta 변화량
+     */
+    public void add(UUID interestId, long delta) {
+        LongAdder adder = pending.computeIfAbsent(interestId, id -> new LongAdder());
+        adder.add(delta);
+        // 더하는 사이 drain()이 0인 누적기를 제거했으면, 제거된 누적기에 남은 값을 새 누적기로 옮김
+        if (pending.get(interestId) != adder) {
+            long moved = adder.sumThenReset();
+            if (moved != 0) {
+                add(interestId, moved);
+            }
+        }
+    }
+
+    /**
+     * DB에 아직 반영되지 않은 변화량을 반환합니다.
+     * @param interestId 관심사 ID
+     * @return 누적된 변화량
+     */
+    public long pending(UUID interestId) {
+        LongAdder adder = pending.get(interestId);
+        return adder == null ? 0L : adder.sum();
+    }
+
+    /**
+     * 누적된 변화량을 한 트랜잭션의 배치 UPDATE로 반영합니다.
+     * 반영에 실패하면 꺼낸 변화량을 다시 누적하여 다음 주기에 재시도합니다.
+     *
+     * @return 반영한 관심사 수
+     */
+    @Scheduled(fixedDelayString = "${monewping.interest.subscriber-counter.flush-interval:PT1S}")
+    public synchronized int flush() {
+        List<Delta> deltas = drain();
+        if (deltas.isEmpty()) {
+            return 0;
+        }
+
+        Map<UUID, Long> counts;
+        try {
+            counts = transactionTemplate.execute(status -> apply(deltas));
+        } catch (Exception e) {
+            deltas.forEach(delta -> add(delta.interestId(), delta.amount()));
+            log.error("[SubscriberCounter] 구독자 수 반영 실패, 다음 주기에 재시도: interests={}", deltas.size(), e);
+            return 0;
+        }
+
+        eventPublisher.publishEvent(new SubscriberCountsFlushedEvent(counts));
+        log.debug("[SubscriberCounter] 구독자 수 반영 완료: interests={}", deltas.size());
+        return deltas.size();
+    }
+
+    /**
+     * 구독자 수를 {@code interest_subscriptions}의 실제 구독 수로 보정합니다.
+     *
+     * <p>보정 UPDATE의 COUNT(*)에는 이미 커밋된 구독이 모두 포함되므로, 그 누적분이 보정 후에 다시 더해지면
+     * 두 번 반영됩니다. 그래서 누적분을 꺼내 보정과 같은 트랜잭션에서 먼저 반영한 뒤 보정합니다.
+     * 보정 문장이 실행되는 동안 커밋된 구독의 누적분만 남으며, 그 차이는 다음 보정에서 맞춰집니다.</p>
+     *
+     * <p>다른 인스턴스에 아직 반영되지 않은 누적분은 꺼낼 수 없습니다. 그 구독도 이미 COUNT(*)에 포함되었으므로,
+     * 해당 인스턴스가 보정 후 누적분을 반영하면 그만큼 두 번 더해집니다. 반영 주기({@code flush-interval}) 동안의
+     * 변화량만큼 어긋날 수 있으며, 이 차이는 다음 보정에서 맞춰집니다.</p>
+     *
+     * @return 보정된 관심사 수
+     */
+    @Scheduled(
+        cron = "${monewping.interest.subscriber-counter.reconcile-cron:0 30 4 * * *}",
+        zone = "Asia/Seoul")
+    public synchronized int reconcile() {
+        List<Delta> deltas = drain();
+        int[] corrected = new int[1];
+        Map<UUID, Long> counts;
+        try {
+            counts = transactionTemplate.execute(status -> {
+                apply(deltas);
+                corrected[0] = jdbcTemplate.update(RECONCILE_SQL, Map.of());
+                return currentCounts(deltas);
+            });
+        } catch (Exception e) {
+            deltas.forEach(delta -> add(delta.interestId(), delta.amount()));
+            log.error("[SubscriberCounter] 구독자 수 보정 실패", e);
+            return 0;
+        }
+
+        if (!counts.isEmpty()) {
+            eventPublisher.publishEvent(new SubscriberCountsFlushedEvent(counts));
+        }
+        if (corrected[0] > 0) {
+            log.warn("[SubscriberCounter] 구독자 수 보정: interests={}", corrected[0]);
+        } else {
+            log.info("[SubscriberCounter] 구독자 수 보정 대상 없음");
+        }
+        return corrected[0];
+    }
+
+    // 변화량을 배치 UPDATE로 반영하고 반영 후 구독자 수를 반환 (트랜잭션 안에서 호출)
+    private Map<UUID, Long> apply(List<Delta> deltas) {
+        if (deltas.isEmpty()) {
+            return Map.of();
+        }
+        SqlParameterSource[] batch = deltas.stream()
+            .map(delta -> new MapSqlParameterSource()
+                .addValue("interestId", delta.interestId())
+                .addValue("delta", delta.amount()))
+            .toArray(SqlParameterSource[]::new);
+        jdbcTemplate.batchUpdate(FLUSH_SQL, batch);
+        return currentCounts(deltas);
+    }
+
+    // 변화량이 있던 관심사의 구독자 수를 한 번의 IN 조회로 읽음 (삭제된 관심사는 빠짐)
+    private Map<UUID, Long> currentCounts(List<Delta> deltas) {
+        if (deltas.isEmpty()) {
+            return Map.of();
+        }
+        Map<UUID, Long> counts = new HashMap<>();
+        MapSqlParameterSource params = new MapSqlParameterSource("interestIds",
+            deltas.stream().map(Delta::interestId).toList());
+        jdbcTemplate.query(SELECT_COUNTS_SQL, params, rs -> {
+            counts.put(rs.getObject("id", UUID.class), rs.getLong("subscriber_count"));
+        });
+        return counts;
+    }
+
+    // 관심사별 누적분을 꺼내고 0으로 초기화 (동시에 더해진 값은 다음 주기에 반영)
+    // 누적분이 없던 관심사의 누적기는 제거하여, 한 번이라도 구독된 관심사의 누적기가 계속 쌓이지 않도록 함
+    // 인스턴스 간 행 잠금 순서를 맞추기 위해 관심사 ID 순으로 정렬
+    private List<Delta> drain() {
+        List<Delta> deltas = new ArrayList<>();
+        pending.forEach((interestId, adder) -> {
+            long amount = adder.sumThenReset();
+            if (amount == 0 && pending.remove(interestId, adder)) {
+                // 제거 직전에 더해진 값 (add()가 옮기지 못한 경우)
+                amount = adder.sumThenReset();
+            }
+            if (amount != 0) {
+                deltas.add(new Delta(interestId, amount));
+            }
+        });
+        deltas.sort(Comparator.comparing(Delta::interestId));
+        return deltas;
+    }
+
+    private record Delta(UUID interestId, long amount) {
+    }
+}
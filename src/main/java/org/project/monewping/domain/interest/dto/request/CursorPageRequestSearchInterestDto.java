@@ -6,15 +6,16 @@ import jakarta.validation.constraints.*;
  * 관심사 커서 기반 페이지네이션 요청 DTO입니다.
  *
  * @param keyword 검색어(관심사 이름 또는 키워드)
- * @param orderBy 정렬 속성(name, subscriberCount)
- * @param direction 정렬 방향(ASC, DESC)
- * @param cursor 커서 값(페이징용)
- * @param after 보조 커서(createdAt 등)
+ * @param orderBy 정렬 속성(name, subscriberCount, createdAt, relevance), 없으면 최신순.
+ *                relevance는 검색어 관련도 순(이름 일치 > 이름 포함 > 키워드 일치 > 키워드 포함)이며 검색어가 없으면 최신순
+ * @param direction 정렬 방향(ASC, DESC), 없으면 name/subscriberCount는 ASC, createdAt/relevance는 DESC
+ * @param cursor 커서 값(이전 응답의 nextCursor, "마지막 요소의 정렬 값|ID")
+ * @param after 보조 커서(이전 응답의 nextAfter, 마지막 요소의 createdAt)
  * @param limit 페이지 크기(1~100)
  */
 public record CursorPageRequestSearchInterestDto(
     String keyword,
-    @Pattern(regexp = "name|subscriberCount", message = "정렬 속성은 name 또는 subscriberCount만 허용됩니다.")
+    @Pattern(regexp = "name|subscriberCount|createdAt|relevance", message = "정렬 속성은 name, subscriberCount, createdAt, relevance만 허용됩니다.")
     String orderBy,
     @Pattern(regexp = "ASC|DESC", message = "정렬 방향은 ASC 또는 DESC만 허용됩니다.")
     String direction,
@@ -0,0 +1,17 @@
+package org.project.monewping.domain.interest.dto.request;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 여러 관심사 일괄 구독 요청 DTO입니다.
+ *
+ * @param interestIds 구독할 관심사 ID 목록
+ */
+public record SubscriptionBulkRequest(
+    @NotNull(message = "관심사 ID 목록은 필수입니다.")
+    @Size(min = 1, max = 100, message = "관심사는 1개 이상 100개 이하로 요청해야 합니다.")
+    List<@NotNull(message = "관심사 ID는 null일 수 없습니다.") UUID> interestIds
+) {}
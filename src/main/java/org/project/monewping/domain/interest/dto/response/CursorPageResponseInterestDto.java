@@ -8,7 +8,7 @@ import java.util.List;
  * 관심사 커서 페이지네이션 응답 DTO입니다.
  *
  * @param content 페이지 내용
- * @param nextCursor 다음 페이지 커서
+ * @param nextCursor 다음 페이지 커서(마지막 요소의 정렬 값과 ID를 "|"로 연결)
  * @param nextAfter 다음 보조 커서(마지막 요소의 생성 시간)
  * @param size 페이지 크기
  * @param totalElements 총 요소 수
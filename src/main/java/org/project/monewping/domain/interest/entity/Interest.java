@@ -21,7 +21,14 @@ import java.util.LinkedHashSet;
  * 키워드와의 연관관계를 설정합니다.</p>
  */
 @Entity
-@Table(name = "interests")
+@Table(
+    name = "interests",
+    indexes = {
+        @Index(name = "idx_interests_name", columnList = "name, created_at, id"),
+        @Index(name = "idx_interests_subscriber", columnList = "subscriber_count, created_at, id"),
+        @Index(name = "idx_interests_created", columnList = "created_at, id")
+    }
+)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @SuperBuilder
@@ -44,26 +51,6 @@ public class Interest extends BaseUpdatableEntity {
         this.keywords = keywords != null ? keywords : new ArrayList<>();
     }
 
-    /**
-     * 구독자 수를 1 증가시킵니다.
-     *
-     * <p>관심사에 대한 구독자 수를 증가시킵니다.</p>
-     */
-    public void increaseSubscriber() {
-        this.subscriberCount++;
-    }
-
-    /**
-     * 구독자 수를 1 감소시킵니다.
-     *
-     * <p>구독자 수가 0보다 클 때만 감소합니다.</p>
-     */
-    public void decreaseSubscriber() {
-        if (this.subscriberCount > 0) {
-            this.subscriberCount--;
-        }
-    }
-
     /**
      * 키워드를 추가합니다.
      *
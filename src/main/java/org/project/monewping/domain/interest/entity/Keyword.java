@@ -16,7 +16,10 @@ import org.project.monewping.global.base.BaseEntity;
  * 생성 시점은 BaseEntity에서 자동으로 기록됩니다.</p>
  */
 @Entity
-@Table(name = "keywords")
+@Table(
+    name = "keywords",
+    indexes = @Index(name = "idx_keywords_interest", columnList = "interest_id")
+)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @SuperBuilder
@@ -16,7 +16,8 @@ import org.project.monewping.global.base.BaseEntity;
 @Entity
 @Table(
         name = "interest_subscriptions",
-        uniqueConstraints = @UniqueConstraint(columnNames = {"user_id", "interest_id"})
+        uniqueConstraints = @UniqueConstraint(name = "uk_interest_user", columnNames = {"interest_id", "user_id"}),
+        indexes = @Index(name = "idx_interest_subscriptions_user", columnList = "user_id")
 )
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
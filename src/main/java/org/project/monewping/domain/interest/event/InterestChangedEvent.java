@@ -0,0 +1,12 @@
+package org.project.monewping.domain.interest.event;
+
+import java.util.UUID;
+
+/**
+ * 관심사의 이름, 키워드, 구독자 수가 바뀌었거나 관심사가 등록/삭제되었음을 알리는 이벤트입니다.
+ * 트랜잭션 커밋 후 관심사 카탈로그가 해당 관심사를 다시 읽어 반영합니다.
+ *
+ * @param interestId 변경된 관심사 ID
+ */
+public record InterestChangedEvent(UUID interestId) {
+}
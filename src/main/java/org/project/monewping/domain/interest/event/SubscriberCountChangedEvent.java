@@ -0,0 +1,13 @@
+package org.project.monewping.domain.interest.event;
+
+import java.util.UUID;
+
+/**
+ * 관심사의 구독자 수 변화량을 알리는 이벤트입니다.
+ * 트랜잭션 커밋 후 구독자 수 카운터에 누적되고, 주기적으로 DB에 일괄 반영됩니다.
+ *
+ * @param interestId 관심사 ID
+ * @param delta      구독자 수 변화량 (구독 +1, 구독 취소 -1)
+ */
+public record SubscriberCountChangedEvent(UUID interestId, long delta) {
+}
@@ -0,0 +1,17 @@
+package org.project.monewping.domain.interest.event;
+
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 누적된 구독자 수 변화량이 DB에 반영되었음을 알리는 이벤트입니다.
+ * 관심사 카탈로그는 관심사마다 다시 읽지 않고 반영된 구독자 수를 스냅샷에 한 번에 적용합니다.
+ *
+ * @param subscriberCounts 관심사 ID별 반영 후 구독자 수 (DB 값)
+ */
+public record SubscriberCountsFlushedEvent(Map<UUID, Long> subscriberCounts) {
+
+    public SubscriberCountsFlushedEvent {
+        subscriberCounts = Map.copyOf(subscriberCounts);
+    }
+}
@@ -0,0 +1,12 @@
+package org.project.monewping.domain.interest.event;
+
+import java.util.UUID;
+
+/**
+ * 사용자의 구독 목록이 바뀌었음을 알리는 이벤트입니다. (구독, 구독 취소, 사용자 삭제)
+ * 트랜잭션 커밋 후 해당 사용자의 구독 관심사 캐시를 비웁니다.
+ *
+ * @param userId 구독 목록이 바뀐 사용자 ID
+ */
+public record SubscriptionChangedEvent(UUID userId) {
+}
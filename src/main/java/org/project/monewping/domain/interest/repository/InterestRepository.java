@@ -3,7 +3,6 @@ package org.project.monewping.domain.interest.repository;
 import org.project.monewping.domain.interest.entity.Interest;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
-import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -36,8 +35,4 @@ public interface InterestRepository extends JpaRepository<Interest, UUID>, Inter
      */
     @Query("SELECT i.name FROM Interest i")
     List<String> findAllNames();
-
-    @Query("SELECT i.name FROM Interest i " +
-            "WHERE i.name LIKE %:searchName% OR :searchName LIKE CONCAT('%', i.name, '%')")
-    List<String> findNamesByRoughMatch(@Param("searchName") String searchName);
 } 
\ No newline at end of file
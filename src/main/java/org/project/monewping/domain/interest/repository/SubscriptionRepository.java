@@ -2,18 +2,42 @@ package org.project.monewping.domain.interest.repository;
 
 import org.project.monewping.domain.interest.entity.Subscription;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface SubscriptionRepository extends JpaRepository<Subscription, UUID> {
+public interface SubscriptionRepository extends JpaRepository<Subscription, UUID>, SubscriptionRepositoryCustom {
     @Query("select s.interest.id from Subscription s where s.user.id = :userId")
     List<UUID> findInterestIdsByUserId(UUID userId);
 
+    /**
+     * 구독을 삽입하되, 이미 같은 사용자/관심사 구독이 있으면 유니크 제약(uk_interest_user) 충돌로 건너뜁니다.
+     *
+     * <p>중복 여부를 미리 조회하지 않고 한 번의 INSERT로 판별하므로 동시 요청에서도 구독은 한 건만 생깁니다.</p>
+     *
+     * @param id 구독 ID
+     * @param userId 사용자 ID
+     * @param interestId 관심사 ID
+     * @param createdAt 구독 시각
+     * @return 삽입된 행 수 (이미 구독 중이면 0)
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO interest_subscriptions (id, user_id, interest_id, created_at)
+        VALUES (:id, :userId, :interestId, :createdAt)
+        ON CONFLICT DO NOTHING
+        """, nativeQuery = true)
+    int insertIfAbsent(@Param("id") UUID id, @Param("userId") UUID userId,
+        @Param("interestId") UUID interestId, @Param("createdAt") Instant createdAt);
+
     /**
      * 사용자와 관심사로 구독을 찾습니다.
      *
@@ -34,6 +58,17 @@ public interface SubscriptionRepository extends JpaRepository<Subscription, UUID
     @Query("select count(s) > 0 from Subscription s where s.user.id = :userId and s.interest.id = :interestId")
     boolean existsByUserIdAndInterestId(UUID userId, UUID interestId);
 
+    /**
+     * 사용자가 구독한 관심사 중 주어진 관심사의 구독을 관심사와 함께 조회합니다.
+     *
+     * @param userId 사용자 ID
+     * @param interestIds 관심사 ID 목록
+     * @return 구독 목록 (관심사 fetch join)
+     */
+    @Query("select s from Subscription s join fetch s.interest where s.user.id = :userId and s.interest.id in :interestIds")
+    List<Subscription> findAllByUserIdAndInterestIdIn(@Param("userId") UUID userId,
+        @Param("interestIds") Collection<UUID> interestIds);
+
     /**
      * 특정 관심사에 구독한 사용자 ID 리스트를 조회합니다.
      *
@@ -0,0 +1,37 @@
+package org.project.monewping.domain.interest.repository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 구독 커스텀 레포지토리 인터페이스입니다.
+ *
+ * <p>여러 관심사 구독을 한 번에 처리하는 일괄 기능을 정의합니다.</p>
+ */
+public interface SubscriptionRepositoryCustom {
+
+    /**
+     * 여러 관심사 구독을 하나의 INSERT ... SELECT unnest 문장으로 삽입합니다.
+     * 이미 구독 중인 관심사는 유니크 제약(uk_interest_user) 충돌로 건너뛰며,
+     * RETURNING으로 돌려받은 행만 삽입된 것으로 봅니다.
+     *
+     * @param userId 사용자 ID
+     * @param interestIds 구독할 관심사 ID 목록 (중복 없음)
+     * @param createdAt 구독 시각
+     * @return 실제로 삽입된 관심사 ID별 구독 ID (요청 순서 유지)
+     */
+    Map<UUID, UUID> insertAllIfAbsent(UUID userId, List<UUID> interestIds, Instant createdAt);
+
+    /**
+     * 사용자의 구독 중 주어진 관심사의 구독을 한 번의 DELETE로 삭제합니다.
+     * 동시에 다른 요청이 먼저 삭제한 구독은 RETURNING에 나타나지 않으므로 결과에서 빠집니다.
+     *
+     * @param userId 사용자 ID
+     * @param interestIds 구독 취소할 관심사 ID 목록
+     * @return 이 호출이 실제로 삭제한 구독의 관심사 ID 목록
+     */
+    List<UUID> deleteAllByUserIdAndInterestIdIn(UUID userId, Collection<UUID> interestIds);
+}
@@ -2,22 +2,36 @@ package org.project.monewping.domain.interest.repository.impl;
 
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.ComparableExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
+import org.project.monewping.domain.interest.cache.SubscribedInterestSet;
+import org.project.monewping.domain.interest.cache.SubscriptionCache;
+import org.project.monewping.domain.interest.catalog.InterestCatalog;
+import org.project.monewping.domain.interest.catalog.InterestCatalogEntry;
+import org.project.monewping.domain.interest.catalog.InterestSearchIndex;
 import org.project.monewping.domain.interest.dto.InterestDto;
 import org.project.monewping.domain.interest.dto.request.CursorPageRequestSearchInterestDto;
 import org.project.monewping.domain.interest.dto.response.CursorPageResponseInterestDto;
 import org.project.monewping.domain.interest.entity.Interest;
 import org.project.monewping.domain.interest.entity.QInterest;
 import org.project.monewping.domain.interest.entity.QKeyword;
+import org.project.monewping.domain.interest.entity.QSubscription;
 import org.project.monewping.domain.interest.repository.InterestRepositoryCustom;
-import org.project.monewping.domain.interest.repository.SubscriptionRepository;
 import org.project.monewping.domain.notification.exception.InvalidCursorFormatException;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.stereotype.Repository;
 
 import java.time.Instant;
 import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -26,12 +40,28 @@ import java.util.UUID;
  * <p>검색어(관심사 이름/키워드), 정렬, 커서 페이지네이션 등
  * 실무에서 요구되는 복잡한 동적 쿼리를 처리합니다.
  * 구독 여부(subscribedByMe)도 함께 반환합니다.</p>
+ *
+ * <p>키워드 fetch join과 limit을 함께 쓰면 Hibernate가 모든 결과를 메모리로 읽은 뒤 자르므로,
+ * 먼저 관심사만 페이지 크기만큼 조회합니다.
+ * 키워드는 관심사 카탈로그({@link InterestCatalog}), 구독 여부는 사용자별 구독 캐시({@link SubscriptionCache})에서 읽습니다.</p>
+ *
+ * <p>검색어가 있으면 관심사마다 LIKE/EXISTS를 평가하는 대신 카탈로그의 검색 색인({@link InterestSearchIndex})으로
+ * 일치하는 관심사 ID를 먼저 구해 ID 조건으로 조회합니다. {@code orderBy=relevance}이면 DB 조회 없이
+ * 색인의 관련도 순으로 카탈로그에서 바로 응답합니다. 카탈로그가 아직 적재되지 않았거나 색인에 일치하는 관심사가 없으면
+ * (스냅샷 이후 추가된 관심사일 수 있으므로) LIKE 조건으로 조회합니다.</p>
  */
 @Repository
 @RequiredArgsConstructor
 public class InterestRepositoryCustomImpl implements InterestRepositoryCustom {
+    private static final String CURSOR_DELIMITER = "|";
+    private static final String RELEVANCE = "relevance";
+
+    // 색인 결과가 이보다 많으면 IN 조건 대신 LIKE 조건으로 조회 (흔한 검색어는 LIKE도 limit 안에서 빨리 끝남)
+    private static final int MAX_INDEXED_MATCHES = 1000;
+
     private final JPAQueryFactory queryFactory;
-    private final SubscriptionRepository subscriptionRepository;
+    private final ObjectProvider<InterestCatalog> catalogProvider;
+    private final ObjectProvider<SubscriptionCache> subscriptionCacheProvider;
 
     /**
      * 커서 기반 관심사 목록을 검색/정렬/페이지네이션하여 반환합니다.
@@ -48,67 +78,78 @@ public class InterestRepositoryCustomImpl implements InterestRepositoryCustom {
     @Override
     public CursorPageResponseInterestDto searchWithCursor(CursorPageRequestSearchInterestDto request, UUID monewRequestUserID) {
         QInterest interest = QInterest.interest;
-        QKeyword keyword = QKeyword.keyword;
+
+        // [검색 색인] 검색어가 있고 카탈로그가 적재되어 있으면 색인으로 일치 관심사를 먼저 구함
+        InterestCatalog.Snapshot snapshot = searchableSnapshot(request);
+        List<InterestSearchIndex.Match> matches = snapshot == null
+            ? null
+            : snapshot.searchIndex().search(request.keyword());
+        // 색인에 없으면 스냅샷 이후 추가/수정된 관심사일 수 있으므로 LIKE 조건으로 DB에서 다시 찾음
+        if (matches != null && matches.isEmpty()) {
+            matches = null;
+        }
+        if (matches != null && RELEVANCE.equalsIgnoreCase(request.orderBy())) {
+            return searchByRelevance(request, snapshot, matches, monewRequestUserID);
+        }
 
         // [검색 조건] 관심사 이름/키워드 부분일치
-        BooleanExpression predicate = buildSearchPredicate(request, interest);
+        BooleanExpression predicate = buildSearchPredicate(request, interest, matches);
 
-        // [정렬 조건] orderBy, direction 우선 적용, 동점 방지용 createdAt, id 추가
-        OrderSpecifier<?> primaryOrder = buildPrimaryOrder(request, interest);
-        boolean asc = request.direction() == null || request.direction().equalsIgnoreCase("ASC");
-        OrderSpecifier<?> secondaryOrder = asc ? interest.createdAt.asc() : interest.createdAt.desc();
-        OrderSpecifier<?> idOrder = asc ? interest.id.asc() : interest.id.desc();
+        // [정렬 조건] 정렬 기준, createdAt, id 순으로 모두 같은 방향 정렬 (정렬 기준별 복합 인덱스와 같은 순서)
+        SortKey sortKey = SortKey.from(request.orderBy());
+        boolean asc = sortKey.isAscending(request.direction());
+        OrderSpecifier<?>[] orders = buildOrders(sortKey, asc, interest);
 
-        // [커서 조건] createdAt < cursorCreatedAt or (createdAt = cursorCreatedAt and id < cursorId) (최신순/createdAt 기준)
-        BooleanExpression cursorPredicate = buildCursorPredicate(request, interest);
+        // [커서 조건] 마지막 요소의 (정렬 값, createdAt, id) 이후 행만 조회
+        BooleanExpression cursorPredicate = buildCursorPredicate(request, sortKey, asc, interest);
 
         BooleanExpression where = predicate;
         if (cursorPredicate != null) {
             where = (where == null) ? cursorPredicate : where.and(cursorPredicate);
         }
 
-        // QueryDSL의 JPAQueryFactory를 사용하여 동적 쿼리를 생성합니다.
-        // - selectFrom(interest): Interest 엔티티를 기준으로 조회
-        // - leftJoin(interest.keywords, keyword).fetchJoin(): Interest와 연관된 Keyword를 LEFT JOIN + 즉시 로딩(fetch join)으로 가져옴
-        // - where(where): 검색/커서 조건을 모두 적용
-        // - orderBy(...): 정렬 조건(주/보조/ID) 적용
-        // - limit(request.limit() + 1): 페이지네이션을 위해 요청 개수보다 1개 더 조회(다음 페이지 존재 여부 판별용)
-        // - fetch(): 쿼리 실행 및 결과 리스트 반환
+        // [1단계] 키워드를 조인하지 않고 관심사만 limit+1개 조회 (DB에서 페이지 크기만큼만 읽음)
+        // - 키워드 검색 조건은 exists 서브쿼리(keywords.any())라 관심사 행이 중복되지 않음
+        // - limit+1: 다음 페이지 존재 여부 판별용
         List<Interest> entityList = queryFactory.selectFrom(interest)
-                .leftJoin(interest.keywords, keyword).fetchJoin()
                 .where(where)
-                .orderBy(primaryOrder, secondaryOrder, idOrder)
+                .orderBy(orders)
                 .limit(request.limit() + 1)
                 .fetch();
 
         // entityList에는 limit+1개가 들어있음(다음 페이지 존재 여부 확인용)
         // - hasNext: 다음 페이지가 있는지 여부
-        // - nextCursor/nextAfter: 다음 페이지 요청을 위한 커서 값(마지막 요소의 id/createdAt)
         // - 실제 반환할 데이터는 limit개로 잘라서 반환
+        // - nextCursor/nextAfter: 반환하는 마지막 요소의 "정렬 값|id" / createdAt
         boolean hasNext = entityList.size() > request.limit();
-        String nextCursor = hasNext ? entityList.get(request.limit()).getId().toString() : null;
-        String nextAfter = hasNext ? entityList.get(request.limit()).getCreatedAt().toString() : null;
+        String nextCursor = null;
+        String nextAfter = null;
         if (hasNext) {
-            // entityList를 limit개로 잘라서 반환(마지막 1개는 커서 계산용)
             entityList = entityList.subList(0, request.limit());
+            Interest last = entityList.get(entityList.size() - 1);
+            nextCursor = sortKey.valueOf(last) + CURSOR_DELIMITER + last.getId();
+            nextAfter = last.getCreatedAt().toString();
         }
 
-        List<UUID> subscribedInterestIds = subscriptionRepository.findInterestIdsByUserId(monewRequestUserID);
+        // [2단계] 페이지에 포함된 관심사의 키워드와 구독 여부만 IN 조회
+        List<UUID> interestIds = entityList.stream().map(Interest::getId).toList();
+        Map<UUID, List<String>> keywordsByInterest = findKeywordNames(interestIds);
+        Set<UUID> subscribedInterestIds = findSubscribedInterestIds(monewRequestUserID, interestIds);
+
         List<InterestDto> content = entityList.stream()
             .map(interestObj -> InterestDto.builder()
                 .id(interestObj.getId())
                 .name(interestObj.getName())
-                .keywords(interestObj.getKeywords().stream().map(k -> k.getName()).toList())
+                .keywords(keywordsByInterest.getOrDefault(interestObj.getId(), List.of()))
                 .subscriberCount(interestObj.getSubscriberCount())
                 .subscribedByMe(subscribedInterestIds.contains(interestObj.getId()))
                 .build())
             .toList();
 
-        // 전체 개수 (검색 조건 포함, null-safe)
+        // 전체 개수 (검색 조건만 적용, 키워드를 조인하지 않으므로 관심사당 1건으로 계산)
         Long totalElements = queryFactory.select(interest.count())
                 .from(interest)
-                .leftJoin(interest.keywords, keyword)
-                .where(where)
+                .where(predicate)
                 .fetchOne();
         if (totalElements == null) totalElements = 0L;
 
@@ -122,14 +163,92 @@ public class InterestRepositoryCustomImpl implements InterestRepositoryCustom {
         );
     }
 
+    /**
+     * 관심사 ID 목록에 속한 키워드 이름을 관심사별로 묶어 조회합니다.
+     *
+     * <p>관심사 카탈로그에 있는 관심사는 쿼리 없이 카탈로그의 키워드를 사용하고,
+     * 카탈로그에 아직 반영되지 않은 관심사만 IN 조건으로 조회합니다.</p>
+     *
+     * @param interestIds 관심사 ID 목록
+     * @return 관심사 ID별 키워드 이름 목록 (등록 순)
+     */
+    private Map<UUID, List<String>> findKeywordNames(List<UUID> interestIds) {
+        Map<UUID, List<String>> keywordsByInterest = new HashMap<>();
+        List<UUID> missing = new ArrayList<>();
+
+        InterestCatalog catalog = catalogProvider.getIfAvailable();
+        InterestCatalog.Snapshot snapshot = catalog == null ? null : catalog.snapshot();
+        for (UUID interestId : interestIds) {
+            Optional<InterestCatalogEntry> entry = snapshot == null ? Optional.empty() : snapshot.find(interestId);
+            if (entry.isPresent()) {
+                keywordsByInterest.put(interestId, entry.get().keywords());
+            } else {
+                missing.add(interestId);
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            QKeyword keyword = QKeyword.keyword;
+            queryFactory.select(keyword.interest.id, keyword.name)
+                .from(keyword)
+                .where(keyword.interest.id.in(missing))
+                .orderBy(keyword.createdAt.asc(), keyword.id.asc())
+                .fetch()
+                .forEach(tuple -> keywordsByInterest
+                    .computeIfAbsent(tuple.get(keyword.interest.id), id -> new ArrayList<>())
+                    .add(tuple.get(keyword.name)));
+        }
+        return keywordsByInterest;
+    }
+
+    /**
+     * 관심사 ID 목록 중 사용자가 구독한 관심사 ID를 조회합니다.
+     *
+     * <p>구독 캐시가 있으면 쿼리 없이 캐시의 구독 관심사 집합으로 판별하고,
+     * 없으면 페이지의 관심사만 IN 조건으로 조회합니다.</p>
+     *
+     * @param userId 요청자 ID
+     * @param interestIds 관심사 ID 목록
+     * @return 구독한 관심사 ID 집합
+     */
+    private Set<UUID> findSubscribedInterestIds(UUID userId, List<UUID> interestIds) {
+        if (userId == null || interestIds.isEmpty()) {
+            return Set.of();
+        }
+        SubscriptionCache subscriptionCache = subscriptionCacheProvider.getIfAvailable();
+        if (subscriptionCache != null) {
+            SubscribedInterestSet subscribed = subscriptionCache.get(userId);
+            Set<UUID> result = new HashSet<>();
+            for (UUID interestId : interestIds) {
+                if (subscribed.contains(interestId)) {
+                    result.add(interestId);
+                }
+            }
+            return result;
+        }
+        QSubscription subscription = QSubscription.subscription;
+        return new HashSet<>(queryFactory.select(subscription.interest.id)
+                .from(subscription)
+                .where(subscription.user.id.eq(userId)
+                    .and(subscription.interest.id.in(interestIds)))
+                .fetch());
+    }
+
     /**
      * 검색어(관심사 이름/키워드)에 대한 부분일치 조건을 생성합니다.
      *
+     * <p>검색 색인 결과가 있으면 일치한 관심사 ID 조건을, 없거나 너무 많으면 LIKE 조건을 사용합니다.</p>
+     *
      * @param request 검색 요청 DTO
      * @param interest QInterest 엔티티
+     * @param matches 검색 색인 결과 (색인을 쓸 수 없으면 null)
      * @return 검색 조건(BooleanExpression), 없으면 null
      */
-    private BooleanExpression buildSearchPredicate(CursorPageRequestSearchInterestDto request, QInterest interest) {
+    private BooleanExpression buildSearchPredicate(CursorPageRequestSearchInterestDto request, QInterest interest,
+        List<InterestSearchIndex.Match> matches) {
+        if (matches != null && matches.size() <= MAX_INDEXED_MATCHES) {
+            return interest.id.in(matches.stream().map(InterestSearchIndex.Match::interestId).toList());
+        }
         if (request.keyword() != null && !request.keyword().isBlank()) {
             return interest.name.containsIgnoreCase(request.keyword())
                 .or(interest.keywords.any().name.containsIgnoreCase(request.keyword()));
@@ -138,60 +257,247 @@ public class InterestRepositoryCustomImpl implements InterestRepositoryCustom {
     }
 
     /**
-     * 정렬 기준(orderBy, direction)에 따라 QueryDSL OrderSpecifier를 생성합니다.
+     * 정렬 기준, createdAt, id 순의 정렬 조건을 생성합니다.
      *
-     * @param request 정렬 요청 DTO
+     * @param sortKey 정렬 기준
+     * @param asc 오름차순 여부
      * @param interest QInterest 엔티티
-     * @return 정렬 조건(OrderSpecifier)
+     * @return 정렬 조건(OrderSpecifier) 배열
      */
-    private OrderSpecifier<?> buildPrimaryOrder(CursorPageRequestSearchInterestDto request, QInterest interest) {
-        // 정렬 조건이 없으면 최신순이 기본값
-        if (request.orderBy() == null) {
-            return interest.createdAt.desc();
-        }
-        
-        boolean asc = isAscending(request.direction());
-        String orderBy = request.orderBy().toLowerCase();
-        
-        return switch (orderBy) {
-            case "name" -> asc ? interest.name.asc() : interest.name.desc();
-            case "subscribercount" -> asc ? interest.subscriberCount.asc() : interest.subscriberCount.desc();
-            case "createdat" -> asc ? interest.createdAt.asc() : interest.createdAt.desc();
-            default -> interest.createdAt.desc(); // 알 수 없는 정렬 조건은 최신순
+    private OrderSpecifier<?>[] buildOrders(SortKey sortKey, boolean asc, QInterest interest) {
+        OrderSpecifier<?> createdAtOrder = asc ? interest.createdAt.asc() : interest.createdAt.desc();
+        OrderSpecifier<?> idOrder = asc ? interest.id.asc() : interest.id.desc();
+        return switch (sortKey) {
+            case NAME -> new OrderSpecifier<?>[] {
+                asc ? interest.name.asc() : interest.name.desc(), createdAtOrder, idOrder};
+            case SUBSCRIBER_COUNT -> new OrderSpecifier<?>[] {
+                asc ? interest.subscriberCount.asc() : interest.subscriberCount.desc(), createdAtOrder, idOrder};
+            case CREATED_AT -> new OrderSpecifier<?>[] {createdAtOrder, idOrder};
         };
     }
 
     /**
-     * 정렬 방향이 오름차순인지 확인합니다.
+     * 커서 기반 페이지네이션 조건을 생성합니다.
+     *
+     * <p>cursor는 이전 페이지 마지막 요소의 "정렬 값|id", after는 그 요소의 createdAt입니다.
+     * 정렬 순서상 (정렬 값, createdAt, id)가 커서보다 뒤인 행만 조회합니다.</p>
      *
-     * @param direction 정렬 방향
-     * @return 오름차순이면 true, 내림차순이면 false
+     * @param request 커서/after 정보가 담긴 요청 DTO
+     * @param sortKey 정렬 기준
+     * @param asc 오름차순 여부
+     * @param interest QInterest 엔티티
+     * @return 커서 조건(BooleanExpression), 없으면 null
+     * @throws InvalidCursorFormatException 커서 파싱 실패 시
      */
-    private boolean isAscending(String direction) {
-        return direction == null || direction.equalsIgnoreCase("ASC");
+    private BooleanExpression buildCursorPredicate(CursorPageRequestSearchInterestDto request, SortKey sortKey,
+        boolean asc, QInterest interest) {
+        Cursor cursor = parseCursor(request);
+        if (cursor == null) {
+            return null;
+        }
+        String sortValue = cursor.sortValue();
+        Instant cursorCreatedAt = cursor.createdAt();
+        UUID cursorId = cursor.id();
+
+        // (createdAt, id) 동점 처리 조건
+        BooleanExpression afterCreatedAt = beyond(interest.createdAt, cursorCreatedAt, asc)
+            .or(interest.createdAt.eq(cursorCreatedAt).and(beyond(interest.id, cursorId, asc)));
+
+        return switch (sortKey) {
+            case NAME -> beyond(interest.name, sortValue, asc)
+                .or(interest.name.eq(sortValue).and(afterCreatedAt));
+            case SUBSCRIBER_COUNT -> {
+                long subscriberCount = parseSubscriberCount(sortValue);
+                yield (asc ? interest.subscriberCount.gt(subscriberCount) : interest.subscriberCount.lt(subscriberCount))
+                    .or(interest.subscriberCount.eq(subscriberCount).and(afterCreatedAt));
+            }
+            case CREATED_AT -> afterCreatedAt;
+        };
     }
 
     /**
-     * 커서 기반 페이지네이션 조건을 생성합니다.
+     * 검색 색인의 관련도 순으로 카탈로그에서 바로 페이지를 만듭니다.
      *
-     * @param request 커서/after 정보가 담긴 요청 DTO
-     * @param interest QInterest 엔티티
-     * @return 커서 조건(BooleanExpression), 없으면 null
-     * @throws IllegalArgumentException 커서 파싱 실패 시
+     * <p>(관련도, createdAt, id) 순으로 정렬하며 direction이 없으면 관련도 높은 순(DESC)입니다.
+     * cursor는 "관련도|id", after는 createdAt입니다.</p>
+     *
+     * @param request 검색 요청 DTO
+     * @param snapshot 검색에 사용한 카탈로그 스냅샷
+     * @param matches 검색 색인 결과
+     * @param userId 요청자 ID
+     * @return 커서 페이지네이션 응답 DTO
+     * @throws InvalidCursorFormatException 커서 파싱 실패 시
      */
-    private BooleanExpression buildCursorPredicate(CursorPageRequestSearchInterestDto request, QInterest interest) {
-        if (request.cursor() != null && !request.cursor().isBlank() && request.after() != null && !request.after().isBlank()) {
-            try {
-                Instant cursorCreatedAt = Instant.parse(request.after());
-                UUID cursorId = UUID.fromString(request.cursor());
-                return interest.createdAt.lt(cursorCreatedAt)
-                    .or(interest.createdAt.eq(cursorCreatedAt).and(interest.id.lt(cursorId)));
-            } catch (DateTimeParseException e) {
-                throw new InvalidCursorFormatException("커서의 생성일 형식이 올바르지 않습니다. ISO-8601 형식(예: 2023-12-01T10:15:30Z)을 사용해주세요.", e);
-            } catch (IllegalArgumentException e) {
-                throw new InvalidCursorFormatException("커서 ID 형식이 올바르지 않습니다. 유효한 UUID 형식을 사용해주세요.", e);
+    private CursorPageResponseInterestDto searchByRelevance(CursorPageRequestSearchInterestDto request,
+        InterestCatalog.Snapshot snapshot, List<InterestSearchIndex.Match> matches, UUID userId) {
+        Comparator<RelevanceKey> order = "ASC".equalsIgnoreCase(request.direction())
+            ? RelevanceKey.ORDER
+            : RelevanceKey.ORDER.reversed();
+
+        List<RelevanceKey> ranked = new ArrayList<>(matches.size());
+        for (InterestSearchIndex.Match match : matches) {
+            snapshot.find(match.interestId()).ifPresent(entry ->
+                ranked.add(new RelevanceKey(match.score(), entry.createdAt(), entry.id())));
+        }
+        ranked.sort(order);
+
+        // 커서보다 뒤인 요소부터 limit+1개
+        int from = 0;
+        Cursor cursor = parseCursor(request);
+        if (cursor != null) {
+            RelevanceKey last = new RelevanceKey(parseScore(cursor.sortValue()), cursor.createdAt(), cursor.id());
+            while (from < ranked.size() && order.compare(ranked.get(from), last) <= 0) {
+                from++;
             }
         }
-        return null;
+        List<RelevanceKey> page = ranked.subList(from, Math.min(from + request.limit() + 1, ranked.size()));
+
+        boolean hasNext = page.size() > request.limit();
+        String nextCursor = null;
+        String nextAfter = null;
+        if (hasNext) {
+            page = page.subList(0, request.limit());
+            RelevanceKey last = page.get(page.size() - 1);
+            nextCursor = last.score() + CURSOR_DELIMITER + last.id();
+            nextAfter = last.createdAt().toString();
+        }
+
+        List<UUID> interestIds = page.stream().map(RelevanceKey::id).toList();
+        Set<UUID> subscribedInterestIds = findSubscribedInterestIds(userId, interestIds);
+        List<InterestDto> content = interestIds.stream()
+            .map(id -> snapshot.find(id).orElseThrow())
+            .map(entry -> InterestDto.builder()
+                .id(entry.id())
+                .name(entry.name())
+                .keywords(entry.keywords())
+                .subscriberCount(entry.subscriberCount())
+                .subscribedByMe(subscribedInterestIds.contains(entry.id()))
+                .build())
+            .toList();
+
+        return new CursorPageResponseInterestDto(
+            content,
+            nextCursor,
+            nextAfter,
+            request.limit(),
+            (long) ranked.size(),
+            hasNext
+        );
+    }
+
+    /**
+     * 검색어가 있고 카탈로그가 적재되어 있으면 검색에 사용할 스냅샷을 반환합니다.
+     */
+    private InterestCatalog.Snapshot searchableSnapshot(CursorPageRequestSearchInterestDto request) {
+        if (request.keyword() == null || request.keyword().isBlank()) {
+            return null;
+        }
+        InterestCatalog catalog = catalogProvider.getIfAvailable();
+        if (catalog == null) {
+            return null;
+        }
+        InterestCatalog.Snapshot snapshot = catalog.snapshot();
+        return snapshot.version() > 0 ? snapshot : null;
+    }
+
+    /**
+     * cursor("정렬 값|id")와 after(createdAt)를 파싱합니다.
+     *
+     * @return 커서, cursor나 after가 없으면 null
+     * @throws InvalidCursorFormatException 커서 파싱 실패 시
+     */
+    private static Cursor parseCursor(CursorPageRequestSearchInterestDto request) {
+        if (request.cursor() == null || request.cursor().isBlank() || request.after() == null || request.after().isBlank()) {
+            return null;
+        }
+
+        int delimiter = request.cursor().lastIndexOf(CURSOR_DELIMITER);
+        if (delimiter < 0) {
+            throw new InvalidCursorFormatException(request.cursor(), null);
+        }
+
+        Instant cursorCreatedAt;
+        UUID cursorId;
+        try {
+            cursorCreatedAt = Instant.parse(request.after());
+        } catch (DateTimeParseException e) {
+            throw new InvalidCursorFormatException(request.after(), e);
+        }
+        try {
+            cursorId = UUID.fromString(request.cursor().substring(delimiter + 1));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorFormatException(request.cursor(), e);
+        }
+        return new Cursor(request.cursor().substring(0, delimiter), cursorCreatedAt, cursorId);
+    }
+
+    private record Cursor(String sortValue, Instant createdAt, UUID id) {
+    }
+
+    /** 관련도 정렬 키: 관련도, createdAt, id 순 */
+    private record RelevanceKey(int score, Instant createdAt, UUID id) {
+
+        static final Comparator<RelevanceKey> ORDER = Comparator.comparingInt(RelevanceKey::score)
+            .thenComparing(RelevanceKey::createdAt)
+            .thenComparing(RelevanceKey::id);
+    }
+
+    private static int parseScore(String value) {
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new InvalidCursorFormatException(value, e);
+        }
+    }
+
+    // 정렬 방향상 value보다 뒤인 값 조건
+    private static <T extends Comparable<?>> BooleanExpression beyond(ComparableExpression<T> expression, T value, boolean asc) {
+        return asc ? expression.gt(value) : expression.lt(value);
+    }
+
+    private static long parseSubscriberCount(String value) {
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            throw new InvalidCursorFormatException(value, e);
+        }
+    }
+
+    /**
+     * 관심사 목록 정렬 기준. 정렬 기준마다 (정렬 값, created_at, id) 복합 인덱스가 있습니다.
+     */
+    private enum SortKey {
+        NAME,
+        SUBSCRIBER_COUNT,
+        CREATED_AT;
+
+        /** orderBy 값으로 정렬 기준을 찾고, 없거나 알 수 없으면 생성일 기준을 사용합니다. */
+        static SortKey from(String orderBy) {
+            if (orderBy == null) {
+                return CREATED_AT;
+            }
+            return switch (orderBy.toLowerCase()) {
+                case "name" -> NAME;
+                case "subscribercount" -> SUBSCRIBER_COUNT;
+                default -> CREATED_AT;
+            };
+        }
+
+        /** 정렬 방향이 없으면 이름/구독자 수는 오름차순, 생성일은 최신순 */
+        boolean isAscending(String direction) {
+            if (direction == null) {
+                return this != CREATED_AT;
+            }
+            return direction.equalsIgnoreCase("ASC");
+        }
+
+        /** 커서에 담을 정렬 값 */
+        String valueOf(Interest interest) {
+            return switch (this) {
+                case NAME -> interest.getName();
+                case SUBSCRIBER_COUNT -> String.valueOf(interest.getSubscriberCount());
+                case CREATED_AT -> interest.getCreatedAt().toString();
+            };
+        }
     }
 } 
\ No newline at end of file
@@ -0,0 +1,99 @@
+package org.project.monewping.domain.interest.repository.impl;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.project.monewping.domain.interest.repository.SubscriptionRepositoryCustom;
+import org.springframework.jdbc.core.support.AbstractSqlTypeValue;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 구독 일괄 처리를 PostgreSQL 배열 파라미터로 구현하는 Repository입니다.
+ *
+ * <p>구독마다 엔티티를 저장하면 관심사 수만큼 INSERT 왕복이 생기므로,
+ * 관심사 ID 배열을 unnest 하는 한 문장으로 처리하고 RETURNING 결과로 실제 반영된 행만 판별합니다.
+ * 드라이버의 행별 결과(SUCCESS_NO_INFO 등)에 의존하지 않으므로 동시 요청에서도 결과가 정확합니다.</p>
+ */
+@Repository
+@RequiredArgsConstructor
+public class SubscriptionRepositoryCustomImpl implements SubscriptionRepositoryCustom {
+
+    private static final String INSERT_SQL = """
+        INSERT INTO interest_subscriptions (id, user_id, interest_id, created_at)
+        SELECT t.id, :userId, t.interest_id, :createdAt
+        FROM unnest(:ids, :interestIds) AS t(id, interest_id)
+        ON CONFLICT DO NOTHING
+        RETURNING interest_id, id
+        """;
+
+    private static final String DELETE_SQL = """
+        DELETE FROM interest_subscriptions
+        WHERE user_id = :userId AND interest_id = ANY(:interestIds)
+        RETURNING interest_id
+        """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Override
+    public Map<UUID, UUID> insertAllIfAbsent(UUID userId, List<UUID> interestIds, Instant createdAt) {
+        Map<UUID, UUID> subscriptionIds = new LinkedHashMap<>();
+        if (interestIds.isEmpty()) {
+            return subscriptionIds;
+        }
+
+        UUID[] ids = new UUID[interestIds.size()];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = UUID.randomUUID();
+        }
+        MapSqlParameterSource params = new MapSqlParameterSource()
+            .addValue("userId", userId)
+            .addValue("createdAt", Timestamp.from(createdAt))
+            .addValue("ids", uuidArray(ids), Types.ARRAY)
+            .addValue("interestIds", uuidArray(interestIds.toArray(UUID[]::new)), Types.ARRAY);
+
+        // 이미 구독 중인 관심사는 충돌로 건너뛰므로 RETURNING에 나타나지 않음
+        Map<UUID, UUID> returned = new HashMap<>();
+        jdbcTemplate.query(INSERT_SQL, params, rs -> {
+            returned.put(rs.getObject("interest_id", UUID.class), rs.getObject("id", UUID.class));
+        });
+        for (UUID interestId : interestIds) {
+            UUID subscriptionId = returned.get(interestId);
+            if (subscriptionId != null) {
+                subscriptionIds.put(interestId, subscriptionId);
+            }
+        }
+        return subscriptionIds;
+    }
+
+    @Override
+    public List<UUID> deleteAllByUserIdAndInterestIdIn(UUID userId, Collection<UUID> interestIds) {
+        if (interestIds.isEmpty()) {
+            return List.of();
+        }
+        MapSqlParameterSource params = new MapSqlParameterSource()
+            .addValue("userId", userId)
+            .addValue("interestIds", uuidArray(interestIds.toArray(UUID[]::new)), Types.ARRAY);
+        return jdbcTemplate.query(DELETE_SQL, params, (rs, rowNum) -> rs.getObject("interest_id", UUID.class));
+    }
+
+    private static AbstractSqlTypeValue uuidArray(UUID[] values) {
+        return new AbstractSqlTypeValue() {
+            @Override
+            protected Object createTypeValue(Connection connection, int sqlType, String typeName)
+                throws SQLException {
+                return connection.createArrayOf("uuid", values);
+            }
+        };
+    }
+}
@@ -2,6 +2,7 @@
 package org.project.monewping.domain.interest.service;
 
 import org.project.monewping.domain.interest.dto.SubscriptionDto;
+import java.util.List;
 import java.util.UUID;
 
 public interface SubscriptionService {
@@ -15,4 +16,22 @@ public interface SubscriptionService {
      * @return 구독 취소 정보 DTO
      */
     SubscriptionDto unsubscribe(UUID interestId, UUID subscriberId);
-}
\ No newline at end of file
+
+    /**
+     * 여러 관심사를 한 번에 구독합니다. 이미 구독 중인 관심사는 건너뜁니다.
+     *
+     * @param interestIds 구독할 관심사 ID 목록
+     * @param subscriberId 구독자(사용자) ID
+     * @return 새로 등록된 구독 정보 DTO 목록 (요청 순서)
+     */
+    List<SubscriptionDto> subscribeAll(List<UUID> interestIds, UUID subscriberId);
+
+    /**
+     * 여러 관심사 구독을 한 번에 취소합니다. 구독하지 않은 관심사는 건너뜁니다.
+     *
+     * @param interestIds 구독 취소할 관심사 ID 목록
+     * @param subscriberId 구독자(사용자) ID
+     * @return 취소된 구독 정보 DTO 목록 (요청 순서)
+     */
+    List<SubscriptionDto> unsubscribeAll(List<UUID> interestIds, UUID subscriberId);
+}
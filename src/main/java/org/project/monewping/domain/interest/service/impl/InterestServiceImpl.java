@@ -2,7 +2,7 @@ package org.project.monewping.domain.interest.service.impl;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.text.similarity.JaroWinklerSimilarity;
+import org.project.monewping.domain.interest.catalog.InterestCatalog;
 import org.project.monewping.domain.interest.dto.InterestDto;
 import org.project.monewping.domain.interest.dto.request.CursorPageRequestSearchInterestDto;
 import org.project.monewping.domain.interest.dto.request.InterestRegisterRequest;
@@ -10,6 +10,8 @@ import org.project.monewping.domain.interest.dto.request.InterestUpdateRequest;
 import org.project.monewping.domain.interest.dto.response.CursorPageResponseInterestDto;
 import org.project.monewping.domain.interest.entity.Interest;
 import org.project.monewping.domain.interest.entity.Keyword;
+import org.project.monewping.domain.interest.event.InterestChangedEvent;
+import org.project.monewping.domain.interest.event.SubscriptionChangedEvent;
 import org.project.monewping.domain.interest.exception.DuplicateInterestNameException;
 import org.project.monewping.domain.interest.exception.DuplicateKeywordException;
 import org.project.monewping.domain.interest.exception.InterestCreationException;
@@ -19,8 +21,10 @@ import org.project.monewping.domain.interest.exception.InvalidRequestException;
 import org.project.monewping.domain.interest.exception.SimilarInterestNameException;
 import org.project.monewping.domain.interest.mapper.InterestMapper;
 import org.project.monewping.domain.interest.repository.InterestRepository;
+import org.project.monewping.domain.interest.repository.SubscriptionRepository;
 import org.project.monewping.domain.interest.service.InterestService;
 import org.project.monewping.domain.useractivity.service.UserActivityService;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -47,13 +51,13 @@ import java.util.Set;
 public class InterestServiceImpl implements InterestService {
 
     private final InterestRepository interestRepository;
+    private final SubscriptionRepository subscriptionRepository;
     private final InterestMapper interestMapper;
     private final UserActivityService userActivityService;
+    private final InterestCatalog interestCatalog;
+    private final ApplicationEventPublisher eventPublisher;
     private static final String SERVICE_NAME = "[InterestService] ";
 
-    private static final double SIMILARITY_THRESHOLD = 0.8; // 80% 유사도 임계값
-    private static final JaroWinklerSimilarity JW = new JaroWinklerSimilarity();
-
     /**
      * 관심사를 등록합니다.
      *
@@ -105,6 +109,7 @@ public class InterestServiceImpl implements InterestService {
                 log.info("[InterestService] 관심사 등록 실패(키워드 없음): name={}", savedInterest.getName());
             }
 
+            eventPublisher.publishEvent(new InterestChangedEvent(savedInterest.getId()));
             return interestMapper.toDto(savedInterest);
         } catch (Exception e) {
             log.error("[InterestService] 관심사 등록 실패: name={}, error={}", request.name(), e.getMessage(), e);
@@ -161,28 +166,14 @@ public class InterestServiceImpl implements InterestService {
     /**
      * 입력된 관심사 이름과 유사한 기존 관심사 이름을 찾아 반환합니다.
      *
-     * <p>DB에서 이름 일부가 포함된 후보군만 1차로 조회한 뒤,
-     * Jaro-Winkler 유사도(0.8 이상)로 2차 필터링하여 최종적으로 유사한 이름만 반환합니다.</p>
+     * <p>관심사 카탈로그 스냅샷의 이름 bigram 색인에서 bigram을 공유하는 이름과,
+     * 스냅샷 적재 이후 다른 인스턴스 등에서 생성된 이름만 DB에서 골라 Jaro-Winkler 유사도(0.8 이상)로 필터링합니다.</p>
      *
      * @param newName 새로 등록하려는 관심사 이름
      * @return 유사도가 0.8 이상인 기존 관심사 이름 리스트
      */
     private List<String> findSimilarInterestNames(String newName) {
-        List<String> candidates = interestRepository.findNamesByRoughMatch(newName);
-        
-        return candidates.stream()
-                .filter(existingName -> calculateSimilarity(newName, existingName) >= SIMILARITY_THRESHOLD)
-                .collect(Collectors.toList());
-    }
-
-    /**
-     * Jaro-Winkler 유사도를 계산합니다.
-     * <p>두 문자열 간의 유사도를 0.0~1.0 사이의 값으로 반환합니다.</p>
-     */
-    private double calculateSimilarity(String s1, String s2) {
-        double score = JW.apply(s1, s2);
-        log.info("[InterestService] 유사도 계산: '{}' vs '{}' = {}", s1, s2, score);
-        return score;
+        return interestCatalog.findSimilarNames(newName);
     }
 
     /**
@@ -236,6 +227,7 @@ public class InterestServiceImpl implements InterestService {
             // 키워드 업데이트
             interest.updateKeywords(request.keywords());
             Interest savedInterest = interestRepository.save(interest);
+            eventPublisher.publishEvent(new InterestChangedEvent(interestId));
             
             log.info("[InterestService] 관심사 키워드 수정 성공: interestId={}, keywords={}", 
                     interestId, request.keywords());
@@ -331,7 +323,11 @@ public class InterestServiceImpl implements InterestService {
                     interestId, e.getMessage());
             }
 
+            // 관심사를 삭제하면 구독도 함께 삭제(ON DELETE CASCADE)되므로 구독자 목록을 먼저 읽어 둠
+            List<UUID> subscriberIds = subscriptionRepository.findUserIdsByInterestId(interestId);
             interestRepository.delete(interest);
+            eventPublisher.publishEvent(new InterestChangedEvent(interestId));
+            subscriberIds.forEach(subscriberId -> eventPublisher.publishEvent(new SubscriptionChangedEvent(subscriberId)));
             log.info("[InterestService] 관심사 삭제 성공: interestId={}, name={}", interestId, interest.getName());
         } catch (Exception e) {
             log.error("[InterestService] 관심사 삭제 실패: interestId={}, error={}", interestId, e.getMessage(), e);
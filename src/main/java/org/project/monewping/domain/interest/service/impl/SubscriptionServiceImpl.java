@@ -1,13 +1,21 @@
 package org.project.monewping.domain.interest.service.impl;
 
 import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.project.monewping.domain.interest.catalog.InterestCatalog;
+import org.project.monewping.domain.interest.catalog.InterestCatalogEntry;
+import org.project.monewping.domain.interest.counter.SubscriberCounter;
 import org.project.monewping.domain.interest.dto.SubscriptionDto;
 import org.project.monewping.domain.interest.entity.Interest;
+import org.project.monewping.domain.interest.entity.Keyword;
 import org.project.monewping.domain.interest.entity.Subscription;
 import org.project.monewping.domain.interest.exception.DuplicateSubscriptionException;
 import org.project.monewping.domain.interest.exception.InterestNotFoundException;
+import org.project.monewping.domain.interest.exception.InvalidRequestException;
+import org.project.monewping.domain.interest.event.SubscriberCountChangedEvent;
+import org.project.monewping.domain.interest.event.SubscriptionChangedEvent;
 import org.project.monewping.domain.interest.exception.SubscriptionNotFoundException;
 import org.project.monewping.domain.interest.repository.InterestRepository;
 import org.project.monewping.domain.interest.repository.SubscriptionRepository;
@@ -17,25 +25,44 @@ import org.project.monewping.domain.user.exception.UserNotFoundException;
 import org.project.monewping.domain.user.repository.UserRepository;
 import org.project.monewping.domain.useractivity.document.UserActivityDocument;
 import org.project.monewping.domain.useractivity.service.UserActivityService;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * 구독(Subscription) 관련 서비스 구현체입니다.
  *
- * <p>구독 등록, 중복 구독 방지, 구독자 수 증가 등 구독 도메인 핵심 비즈니스 로직을 처리합니다.</p>
+ * <p>구독 등록, 중복 구독 방지, 구독자 수 증가 등 구독 도메인 핵심 비즈니스 로직을 처리합니다.
+ * 중복 구독은 조회 없이 유니크 제약 충돌로 판별하고, 구독 목록이 바뀌면 {@link SubscriptionChangedEvent}를 발행하여
+ * 사용자별 구독 캐시를 비웁니다.
+ * 관심사 키워드는 {@link InterestCatalog}에서 읽어 지연 로딩 쿼리를 피하고,
+ * 구독자 수는 관심사 엔티티를 수정하지 않고 {@link SubscriberCountChangedEvent}로 {@link SubscriberCounter}에 누적합니다.</p>
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class SubscriptionServiceImpl implements SubscriptionService {
 
+    private static final int MAX_BULK_SIZE = 100;
+
     private final SubscriptionRepository subscriptionRepository;
     private final InterestRepository interestRepository;
     private final UserRepository userRepository;
     private final UserActivityService userActivityService;
+    private final InterestCatalog interestCatalog;
+    private final SubscriberCounter subscriberCounter;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 관심사 구독을 등록합니다.
@@ -58,16 +85,18 @@ public class SubscriptionServiceImpl implements SubscriptionService {
         Interest interest = interestRepository.findById(interestId)
             .orElseThrow(() -> new InterestNotFoundException(interestId));
 
-        // 중복 구독 방지
-        if (subscriptionRepository.findInterestIdsByUserId(user.getId()).contains(interestId)) {
+        // 중복 구독 방지: 구독 목록을 조회하지 않고 유니크 제약 충돌로 판별 (충돌 시 삽입되지 않음)
+        UUID subscriptionId = UUID.randomUUID();
+        Instant createdAt = Instant.now().truncatedTo(ChronoUnit.MICROS);
+        if (subscriptionRepository.insertIfAbsent(subscriptionId, user.getId(), interestId, createdAt) == 0) {
             throw new DuplicateSubscriptionException("이미 구독 중입니다.");
         }
 
-        Subscription subscription = new Subscription(user, interest);
-        Subscription saved = subscriptionRepository.save(subscription);
-
-        // 구독자 수 증가
-        interest.increaseSubscriber();
+        // 구독자 수 증가: 엔티티를 수정하지 않고 커밋 후 카운터에 누적 (주기적으로 일괄 반영)
+        eventPublisher.publishEvent(new SubscriberCountChangedEvent(interestId, 1));
+        eventPublisher.publishEvent(new SubscriptionChangedEvent(subscriberId));
+        long subscriberCount = currentSubscriberCount(interest) + 1;
+        List<String> keywords = findKeywords(interest);
 
         log.info("[SubscriptionService] 구독 등록 완료 - userId: {}, interestId: {}, interestName: {}", 
             subscriberId, interestId, interest.getName());
@@ -75,12 +104,12 @@ public class SubscriptionServiceImpl implements SubscriptionService {
         // 사용자 활동 내역에 구독 정보 추가
         try {
             UserActivityDocument.SubscriptionInfo subscriptionInfo = UserActivityDocument.SubscriptionInfo.builder()
-                .id(saved.getId())
+                .id(subscriptionId)
                 .interestId(interest.getId())
                 .interestName(interest.getName())
-                .interestKeywords(interest.getKeywords().stream().map(k -> k.getName()).toList())
-                .interestSubscriberCount(interest.getSubscriberCount())
-                .createdAt(Instant.ofEpochMilli(saved.getCreatedAt().toEpochMilli()))
+                .interestKeywords(keywords)
+                .interestSubscriberCount(subscriberCount)
+                .createdAt(Instant.ofEpochMilli(createdAt.toEpochMilli()))
                 .build();
 
             userActivityService.addSubscription(subscriberId, subscriptionInfo);
@@ -92,12 +121,12 @@ public class SubscriptionServiceImpl implements SubscriptionService {
         }
 
         return SubscriptionDto.builder()
-            .id(saved.getId())
+            .id(subscriptionId)
             .interestId(interest.getId())
             .interestName(interest.getName())
-            .interestKeywords(interest.getKeywords().stream().map(k -> k.getName()).toList())
-            .interestSubscriberCount(interest.getSubscriberCount())
-            .createdAt(saved.getCreatedAt())
+            .interestKeywords(keywords)
+            .interestSubscriberCount(subscriberCount)
+            .createdAt(createdAt)
             .build();
     }
 
@@ -129,8 +158,11 @@ public class SubscriptionServiceImpl implements SubscriptionService {
         // 구독 삭제
         subscriptionRepository.delete(subscription);
 
-        // 구독자 수 감소
-        interest.decreaseSubscriber();
+        // 구독자 수 감소: 엔티티를 수정하지 않고 커밋 후 카운터에 누적 (주기적으로 일괄 반영)
+        eventPublisher.publishEvent(new SubscriberCountChangedEvent(interestId, -1));
+        eventPublisher.publishEvent(new SubscriptionChangedEvent(subscriberId));
+        long subscriberCount = Math.max(currentSubscriberCount(interest) - 1, 0);
+        List<String> keywords = findKeywords(interest);
 
         log.info("[SubscriptionService] 구독 취소 완료 - userId: {}, interestId: {}, interestName: {}", 
             subscriberId, interestId, interest.getName());
@@ -149,9 +181,181 @@ public class SubscriptionServiceImpl implements SubscriptionService {
             .id(subscription.getId())
             .interestId(interest.getId())
             .interestName(interest.getName())
-            .interestKeywords(interest.getKeywords().stream().map(k -> k.getName()).toList())
-            .interestSubscriberCount(interest.getSubscriberCount())
+            .interestKeywords(keywords)
+            .interestSubscriberCount(subscriberCount)
             .createdAt(subscription.getCreatedAt())
             .build();
     }
-}
\ No newline at end of file
+
+    /**
+     * 여러 관심사를 한 번에 구독합니다.
+     *
+     * <p>관심사 존재 여부는 한 번의 IN 조회로 확인하고, 구독은 하나의 배치 INSERT로 삽입합니다.
+     * 이미 구독 중인 관심사는 유니크 제약 충돌로 건너뛰며, 사용자 활동 내역은 한 번만 갱신합니다.</p>
+     *
+     * @param interestIds 구독할 관심사 ID 목록
+     * @param subscriberId 구독자(사용자) ID
+     * @return 새로 등록된 구독 정보 DTO 목록 (요청 순서)
+     * @throws InvalidRequestException 관심사 ID 목록이 비었거나 100개를 넘을 때
+     * @throws UserNotFoundException 사용자가 존재하지 않을 때
+     * @throws InterestNotFoundException 존재하지 않는 관심사가 포함되었을 때
+     */
+    @Override
+    @Transactional
+    public List<SubscriptionDto> subscribeAll(List<UUID> interestIds, UUID subscriberId) {
+        List<UUID> requestedIds = distinctInterestIds(interestIds);
+        if (!userRepository.existsById(subscriberId)) {
+            throw new UserNotFoundException("사용자 없음");
+        }
+
+        // 관심사 존재 여부를 한 번의 IN 조회로 확인
+        Map<UUID, Interest> interests = interestRepository.findAllById(requestedIds).stream()
+            .collect(Collectors.toMap(Interest::getId, Function.identity()));
+        for (UUID interestId : requestedIds) {
+            if (!interests.containsKey(interestId)) {
+                throw new InterestNotFoundException(interestId);
+            }
+        }
+
+        // 하나의 배치 INSERT로 삽입 (이미 구독 중인 관심사는 충돌로 건너뜀)
+        Instant createdAt = Instant.now().truncatedTo(ChronoUnit.MICROS);
+        Map<UUID, UUID> inserted = subscriptionRepository.insertAllIfAbsent(subscriberId, requestedIds, createdAt);
+
+        List<SubscriptionDto> result = new ArrayList<>();
+        inserted.forEach((interestId, subscriptionId) -> {
+            Interest interest = interests.get(interestId);
+            eventPublisher.publishEvent(new SubscriberCountChangedEvent(interestId, 1));
+            result.add(SubscriptionDto.builder()
+                .id(subscriptionId)
+                .interestId(interestId)
+                .interestName(interest.getName())
+                .interestKeywords(findKeywords(interest))
+                .interestSubscriberCount(currentSubscriberCount(interest) + 1)
+                .createdAt(createdAt)
+                .build());
+        });
+        if (result.isEmpty()) {
+            return result;
+        }
+        eventPublisher.publishEvent(new SubscriptionChangedEvent(subscriberId));
+
+        log.info("[SubscriptionService] 일괄 구독 등록 완료 - userId: {}, requested: {}, subscribed: {}",
+            subscriberId, requestedIds.size(), result.size());
+
+        // 사용자 활동 내역에 한 번에 추가 (단건 구독을 요청 순서대로 한 것과 같도록 마지막 관심사가 맨 앞)
+        try {
+            List<UserActivityDocument.SubscriptionInfo> subscriptionInfos = new ArrayList<>();
+            for (SubscriptionDto dto : result) {
+                subscriptionInfos.add(0, UserActivityDocument.SubscriptionInfo.builder()
+                    .id(dto.id())
+                    .interestId(dto.interestId())
+                    .interestName(dto.interestName())
+                    .interestKeywords(dto.interestKeywords())
+                    .interestSubscriberCount(dto.interestSubscriberCount())
+                    .createdAt(Instant.ofEpochMilli(dto.createdAt().toEpochMilli()))
+                    .build());
+            }
+            userActivityService.addSubscriptions(subscriberId, subscriptionInfos);
+        } catch (Exception e) {
+            log.error("[SubscriptionService] 사용자 활동 내역 일괄 구독 추가 실패 - userId: {}, error: {}",
+                subscriberId, e.getMessage());
+        }
+
+        return result;
+    }
+
+    /**
+     * 여러 관심사 구독을 한 번에 취소합니다.
+     *
+     * <p>구독은 관심사와 함께 한 번의 IN 조회로 읽고 한 번의 DELETE ... RETURNING으로 삭제합니다.
+     * 구독하지 않았거나 동시 요청이 먼저 취소한 관심사는 건너뛰며, 사용자 활동 내역은 한 번만 갱신합니다.</p>
+     *
+     * @param interestIds 구독 취소할 관심사 ID 목록
+     * @param subscriberId 구독자(사용자) ID
+     * @return 취소된 구독 정보 DTO 목록 (요청 순서)
+     * @throws InvalidRequestException 관심사 ID 목록이 비었거나 100개를 넘을 때
+     * @throws UserNotFoundException 사용자가 존재하지 않을 때
+     */
+    @Override
+    @Transactional
+    public List<SubscriptionDto> unsubscribeAll(List<UUID> interestIds, UUID subscriberId) {
+        List<UUID> requestedIds = distinctInterestIds(interestIds);
+        if (!userRepository.existsById(subscriberId)) {
+            throw new UserNotFoundException("사용자 없음");
+        }
+
+        Map<UUID, Subscription> subscriptions = subscriptionRepository
+            .findAllByUserIdAndInterestIdIn(subscriberId, requestedIds).stream()
+            .collect(Collectors.toMap(subscription -> subscription.getInterest().getId(), Function.identity()));
+        if (subscriptions.isEmpty()) {
+            return List.of();
+        }
+        // 동시에 다른 요청이 먼저 삭제한 구독은 RETURNING에 나타나지 않으므로 구독자 수를 두 번 줄이지 않음
+        Set<UUID> deleted = new HashSet<>(
+            subscriptionRepository.deleteAllByUserIdAndInterestIdIn(subscriberId, subscriptions.keySet()));
+        if (deleted.isEmpty()) {
+            return List.of();
+        }
+
+        List<SubscriptionDto> result = new ArrayList<>();
+        for (UUID interestId : requestedIds) {
+            Subscription subscription = subscriptions.get(interestId);
+            if (subscription == null || !deleted.contains(interestId)) {
+                continue;
+            }
+            Interest interest = subscription.getInterest();
+            eventPublisher.publishEvent(new SubscriberCountChangedEvent(interestId, -1));
+            result.add(SubscriptionDto.builder()
+                .id(subscription.getId())
+                .interestId(interestId)
+                .interestName(interest.getName())
+                .interestKeywords(findKeywords(interest))
+                .interestSubscriberCount(Math.max(currentSubscriberCount(interest) - 1, 0))
+                .createdAt(subscription.getCreatedAt())
+                .build());
+        }
+        eventPublisher.publishEvent(new SubscriptionChangedEvent(subscriberId));
+
+        log.info("[SubscriptionService] 일괄 구독 취소 완료 - userId: {}, requested: {}, unsubscribed: {}",
+            subscriberId, requestedIds.size(), result.size());
+
+        // 사용자 활동 내역에서 한 번에 제거
+        try {
+            userActivityService.removeSubscriptions(subscriberId, deleted);
+        } catch (Exception e) {
+            log.error("[SubscriptionService] 사용자 활동 내역 일괄 구독 제거 실패 - userId: {}, error: {}",
+                subscriberId, e.getMessage());
+        }
+
+        return result;
+    }
+
+    /**
+     * 일괄 요청의 관심사 ID 목록을 검증하고 중복을 제거합니다. (요청 순서 유지)
+     */
+    private List<UUID> distinctInterestIds(List<UUID> interestIds) {
+        if (interestIds == null || interestIds.isEmpty() || interestIds.size() > MAX_BULK_SIZE) {
+            throw new InvalidRequestException("관심사는 1개 이상 " + MAX_BULK_SIZE + "개 이하로 요청해야 합니다.");
+        }
+        if (interestIds.stream().anyMatch(Objects::isNull)) {
+            throw new InvalidRequestException("관심사 ID는 null일 수 없습니다.");
+        }
+        return List.copyOf(new LinkedHashSet<>(interestIds));
+    }
+
+    /**
+     * DB의 구독자 수에 아직 반영되지 않은 카운터 누적분을 더한 현재 구독자 수
+     */
+    private long currentSubscriberCount(Interest interest) {
+        return interest.getSubscriberCount() + subscriberCounter.pending(interest.getId());
+    }
+
+    /**
+     * 관심사 키워드를 카탈로그에서 읽고, 카탈로그에 아직 없는 관심사만 엔티티에서 읽습니다.
+     */
+    private List<String> findKeywords(Interest interest) {
+        return interestCatalog.find(interest.getId())
+            .map(InterestCatalogEntry::keywords)
+            .orElseGet(() -> interest.getKeywords().stream().map(Keyword::getName).toList());
+    }
+}
@@ -11,6 +11,8 @@ public interface NotificationService {
 
     void createNewArticleNotification(Interest interest, int newCount);
 
+    void createNewArticleNotification(UUID interestId, String interestName, int newCount);
+
     CursorPageResponseNotificationDto findNotifications(
         @NotNull UUID userId,
         String cursor,
@@ -52,25 +52,38 @@ public class NotificationServiceImpl implements NotificationService {
      */
     @Transactional
     public void createNewArticleNotification(Interest interest, int newCount) {
+        createNewArticleNotification(interest.getId(), interest.getName(), newCount);
+    }
+
+    /**
+     * 관심사 엔티티 없이 관심사 ID와 이름으로 새 기사 알림을 생성합니다.
+     *
+     * @param interestId 알림을 보낼 대상 관심사 ID
+     * @param interestName 알림 내용에 표시할 관심사 이름
+     * @param newCount 해당 관심사에 새로 등록된 기사 개수
+     */
+    @Override
+    @Transactional
+    public void createNewArticleNotification(UUID interestId, String interestName, int newCount) {
         if (newCount <= 0) {
             return;
         }
 
-        List<UUID> subscriberIds = subscriptionRepository.findUserIdsByInterestId(interest.getId());
+        List<UUID> subscriberIds = subscriptionRepository.findUserIdsByInterestId(interestId);
         if (subscriberIds.isEmpty()) {
             return;
         }
 
         String content = String.format(
             "%s와 관련된 기사가 %d건 등록되었습니다.",
-            interest.getName(), newCount
+            interestName, newCount
         );
 
         List<Notification> notifications = subscriberIds.stream()
             .map(userId -> Notification.builder()
                 .userId(userId)
                 .content(content)
-                .resourceId(interest.getId())
+                .resourceId(interestId)
                 .resourceType(RESOURCE_TYPE_ARTICLE)
                 .confirmed(false)
                 .active(true)
@@ -80,7 +93,7 @@ public class NotificationServiceImpl implements NotificationService {
 
         notificationRepository.saveAll(notifications);
 
-        log.debug("[ 관심사별 저장 현황 ] {}와 관련된 알림 생성 완료", interest.getName());
+        log.debug("[ 관심사별 저장 현황 ] {}와 관련된 알림 생성 완료", interestName);
     }
 
     /**
@@ -25,26 +25,20 @@ public class UserDeletionRepositoryImpl implements UserDeletionRepository {
     @Override
     public void deleteSubscriptionsByUserId(UUID userId) {
         try {
-            // 1. 삭제될 구독 정보를 먼저 조회하여 관심사 ID 목록을 얻음
-            @SuppressWarnings("unchecked")
-            List<UUID> interestIds = entityManager.createQuery(
-                    "SELECT s.interest.id FROM org.project.monewping.domain.interest.entity.Subscription s WHERE s.user.id = :userId")
+            // 1. 구독한 관심사의 구독자 수를 한 번의 UPDATE로 감소 (관심사마다 UPDATE를 보내지 않음)
+            int affectedInterests = entityManager.createQuery(
+                    "UPDATE org.project.monewping.domain.interest.entity.Interest i SET i.subscriberCount = i.subscriberCount - 1 "
+                        + "WHERE i.subscriberCount > 0 AND i.id IN ("
+                        + "SELECT s.interest.id FROM org.project.monewping.domain.interest.entity.Subscription s WHERE s.user.id = :userId)")
                     .setParameter("userId", userId)
-                    .getResultList();
-            
+                    .executeUpdate();
+
             // 2. 구독 정보 삭제
             int deletedCount = entityManager.createQuery("DELETE FROM org.project.monewping.domain.interest.entity.Subscription s WHERE s.user.id = :userId")
                     .setParameter("userId", userId)
                     .executeUpdate();
             
-            // 3. 각 관심사의 구독자 수 감소
-            for (UUID interestId : interestIds) {
-                entityManager.createQuery("UPDATE org.project.monewping.domain.interest.entity.Interest i SET i.subscriberCount = i.subscriberCount - 1 WHERE i.id = :interestId AND i.subscriberCount > 0")
-                        .setParameter("interestId", interestId)
-                        .executeUpdate();
-            }
-            
-            // 4. 사용자 활동 내역의 구독 정보도 제거
+            // 3. 사용자 활동 내역의 구독 정보도 제거
             try {
                 userActivityService.removeAllSubscriptionsByUserId(userId);
                 log.debug("사용자 활동 내역 구독 정보 제거 완료: userId={}", userId);
@@ -53,7 +47,7 @@ public class UserDeletionRepositoryImpl implements UserDeletionRepository {
             }
             
             log.debug("사용자 구독 정보 삭제 완료: userId={}, 삭제된 구독 수={}, 영향받은 관심사 수={}", 
-                    userId, deletedCount, interestIds.size());
+                    userId, deletedCount, affectedInterests);
         } catch (Exception e) {
             log.error("사용자 구독 정보 삭제 실패: userId={}, error={}", userId, e.getMessage());
             throw e;
@@ -70,12 +64,15 @@ public class UserDeletionRepositoryImpl implements UserDeletionRepository {
                     .setParameter("userId", userId)
                     .getResultList();
             
-            // 2. 댓글 마스킹 처리
+            // 2. 기사 댓글 수에서 마스킹될 댓글 수만큼 차감
+            decreaseArticleCommentCounts(userId);
+
+            // 3. 댓글 마스킹 처리
             entityManager.createQuery("UPDATE org.project.monewping.domain.comment.entity.Comment c SET c.isDeleted = true, c.content = '삭제한 사용자의 댓글입니다', c.updatedAt = CURRENT_TIMESTAMP WHERE c.userId = :userId AND c.isDeleted = false")
                     .setParameter("userId", userId)
                     .executeUpdate();
             
-            // 3. 사용자 활동 내역의 댓글 정보도 마스킹 처리
+            // 4. 사용자 활동 내역의 댓글 정보도 마스킹 처리
             for (UUID commentId : commentIds) {
                 try {
                     userActivityService.updateComment(userId, commentId, "삭제한 사용자의 댓글입니다");
@@ -94,6 +91,8 @@ public class UserDeletionRepositoryImpl implements UserDeletionRepository {
     @Override
     public void deleteCommentsByUserId(UUID userId) {
         try {
+            // 논리 삭제되지 않은 댓글은 아직 기사 댓글 수에 포함되어 있으므로 먼저 차감
+            decreaseArticleCommentCounts(userId);
             entityManager.createQuery("DELETE FROM org.project.monewping.domain.comment.entity.Comment c WHERE c.userId = :userId")
                     .setParameter("userId", userId)
                     .executeUpdate();
@@ -162,9 +161,9 @@ public class UserDeletionRepositoryImpl implements UserDeletionRepository {
                     .setParameter("userId", userId)
                     .executeUpdate();
             
-            // 3. 각 기사의 조회수 감소
+            // 3. 각 기사의 조회수 감소 (변경분 백업이 updated_at으로 변경을 찾으므로 함께 갱신)
             for (UUID articleId : articleIds) {
-                entityManager.createQuery("UPDATE org.project.monewping.domain.article.entity.Articles a SET a.viewCount = a.viewCount - 1 WHERE a.id = :articleId AND a.viewCount > 0")
+                entityManager.createQuery("UPDATE org.project.monewping.domain.article.entity.Articles a SET a.viewCount = a.viewCount - 1, a.updatedAt = CURRENT_TIMESTAMP WHERE a.id = :articleId AND a.viewCount > 0")
                         .setParameter("articleId", articleId)
                         .executeUpdate();
             }
@@ -176,4 +175,18 @@ public class UserDeletionRepositoryImpl implements UserDeletionRepository {
             throw e;
         }
     }
-} 
\ No newline at end of file
+
+    // 사용자의 삭제되지 않은 댓글 수만큼 기사별 댓글 수를 한 번의 UPDATE로 차감
+    private void decreaseArticleCommentCounts(UUID userId) {
+        int updatedArticles = entityManager.createQuery(
+                "UPDATE org.project.monewping.domain.article.entity.Articles a "
+                    + "SET a.commentCount = GREATEST(a.commentCount - (SELECT COUNT(c) FROM org.project.monewping.domain.comment.entity.Comment c "
+                    + "WHERE c.articleId = a.id AND c.userId = :userId AND c.isDeleted = false), 0), "
+                    + "a.updatedAt = CURRENT_TIMESTAMP "
+                    + "WHERE a.id IN (SELECT c2.articleId FROM org.project.monewping.domain.comment.entity.Comment c2 "
+                    + "WHERE c2.userId = :userId AND c2.isDeleted = false)")
+                .setParameter("userId", userId)
+                .executeUpdate();
+        log.debug("기사 댓글 수 차감 완료: userId={}, 대상 기사 수={}", userId, updatedArticles);
+    }
+}
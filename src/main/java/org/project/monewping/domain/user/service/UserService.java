@@ -1,5 +1,6 @@
 package org.project.monewping.domain.user.service;
 
+import org.project.monewping.domain.interest.event.SubscriptionChangedEvent;
 import org.project.monewping.domain.user.entity.User;
 import org.project.monewping.domain.user.dto.request.LoginRequest;
 import org.project.monewping.domain.user.dto.request.UserRegisterRequest;
@@ -15,6 +16,7 @@ import org.project.monewping.global.exception.LoginFailedException;
 import org.project.monewping.domain.user.exception.UserNotFoundException;
 import org.project.monewping.domain.user.exception.UserDeleteException;
 import org.project.monewping.domain.user.exception.UserAlreadyDeletedException;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -37,6 +39,7 @@ public class UserService {
     private final UserMapper userMapper;
     private final UserActivityService userActivityService;
     private final UserDeletionRepository userDeletionRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 사용자 회원가입을 처리합니다.
@@ -249,6 +252,7 @@ public class UserService {
         // 구독 정보 삭제
         try {
             userDeletionRepository.deleteSubscriptionsByUserId(userId);
+            eventPublisher.publishEvent(new SubscriptionChangedEvent(userId));
             log.info("구독 정보 삭제 완료: userId={}", userId);
         } catch (Exception e) {
             log.error("구독 정보 삭제 실패: userId={}, error={}", userId, e.getMessage());
@@ -328,6 +332,7 @@ public class UserService {
         // 구독 정보 삭제
         try {
             userDeletionRepository.deleteSubscriptionsByUserId(userId);
+            eventPublisher.publishEvent(new SubscriptionChangedEvent(userId));
             log.info("구독 정보 삭제 완료: userId={}", userId);
         } catch (Exception e) {
             log.error("구독 정보 삭제 실패: userId={}, error={}", userId, e.getMessage());
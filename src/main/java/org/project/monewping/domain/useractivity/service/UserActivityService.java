@@ -3,8 +3,9 @@ package org.project.monewping.domain.useractivity.service;
 import org.project.monewping.domain.useractivity.document.UserActivityDocument;
 import org.project.monewping.domain.useractivity.dto.UserActivityDto;
 
-import java.util.UUID;
+import java.util.Collection;
 import java.util.List;
+import java.util.UUID;
 
 /**
  * 사용자 활동 내역 관리 서비스 인터페이스
@@ -83,6 +84,22 @@ public interface UserActivityService {
      */
     void removeSubscription(UUID userId, UUID interestId);
 
+    /**
+     * 여러 구독 정보를 한 번에 추가합니다. 활동 내역 문서는 한 번만 읽고 저장합니다.
+     * 
+     * @param userId            사용자 ID
+     * @param subscriptionInfos 구독 정보 목록 (앞쪽이 최신)
+     */
+    void addSubscriptions(UUID userId, List<UserActivityDocument.SubscriptionInfo> subscriptionInfos);
+
+    /**
+     * 여러 관심사의 구독 정보를 한 번에 삭제합니다. 활동 내역 문서는 한 번만 읽고 저장합니다.
+     * 
+     * @param userId      사용자 ID
+     * @param interestIds 관심사 ID 목록
+     */
+    void removeSubscriptions(UUID userId, Collection<UUID> interestIds);
+
     /**
      * 사용자의 모든 구독 정보를 삭제합니다.
      * 
@@ -14,6 +14,7 @@ import org.springframework.transaction.annotation.Propagation;
 
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -199,6 +200,55 @@ public class UserActivityServiceImpl implements UserActivityService {
         log.debug("구독 정보 삭제 완료. userId: {}, interestId: {}", userId, interestId);
     }
 
+    @Override
+    @Transactional
+    public void addSubscriptions(UUID userId, List<UserActivityDocument.SubscriptionInfo> subscriptionInfos) {
+        if (subscriptionInfos.isEmpty()) {
+            return;
+        }
+        log.debug("구독 정보 일괄 추가 시작. userId: {}, count: {}", userId, subscriptionInfos.size());
+
+        UserActivityDocument document = userActivityRepository.findByUserId(userId)
+                .orElseThrow(() -> new UserActivityNotFoundException(userId));
+
+        List<UserActivityDocument.SubscriptionInfo> subscriptions = new ArrayList<>(subscriptionInfos);
+        if (document.getSubscriptions() != null) {
+            subscriptions.addAll(document.getSubscriptions());
+        }
+
+        // 최대 10개만 유지
+        if (subscriptions.size() > MAX_ACTIVITY_COUNT) {
+            subscriptions = subscriptions.subList(0, MAX_ACTIVITY_COUNT);
+        }
+
+        document.setSubscriptions(subscriptions);
+        document.setUpdatedAt(Instant.now());
+        userActivityRepository.save(document);
+
+        log.debug("구독 정보 일괄 추가 완료. userId: {}, count: {}", userId, subscriptionInfos.size());
+    }
+
+    @Override
+    @Transactional
+    public void removeSubscriptions(UUID userId, Collection<UUID> interestIds) {
+        if (interestIds.isEmpty()) {
+            return;
+        }
+        log.debug("구독 정보 일괄 삭제 시작. userId: {}, count: {}", userId, interestIds.size());
+
+        UserActivityDocument document = userActivityRepository.findByUserId(userId)
+                .orElseThrow(() -> new UserActivityNotFoundException(userId));
+
+        List<UserActivityDocument.SubscriptionInfo> subscriptions = document.getSubscriptions();
+        if (subscriptions != null && subscriptions.removeIf(subscription -> interestIds.contains(subscription.getInterestId()))) {
+            document.setSubscriptions(subscriptions);
+            document.setUpdatedAt(Instant.now());
+            userActivityRepository.save(document);
+        }
+
+        log.debug("구독 정보 일괄 삭제 완료. userId: {}, count: {}", userId, interestIds.size());
+    }
+
     @Override
     @Transactional
     public void removeAllSubscriptionsByUserId(UUID userId) {
@@ -1,17 +1,30 @@
 package org.project.monewping.global.config;
 
+import java.net.URI;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
+import org.springframework.util.unit.DataSize;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
 import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.S3AsyncClientBuilder;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3ClientBuilder;
+import software.amazon.awssdk.services.s3.multipart.MultipartConfiguration;
+import software.amazon.awssdk.transfer.s3.S3TransferManager;
 
 /**
  * AWS S3 클라이언트를 구성하는 설정 클래스
  * {@link S3Client} Bean은 모든 S3 연동 기능(로그, 백업 등)에서 공통 사용
+ *
+ * <p>{@code aws.s3.transfer.mode: async}이면 멀티파트를 지원하는 {@link S3AsyncClient}와
+ * {@link S3TransferManager}를 함께 등록하여 업로드를 비동기로 처리합니다.
+ * {@code aws.s3.endpoint}를 지정하면 MinIO, LocalStack 같은 S3 호환 저장소에 path-style로 연결합니다.</p>
  */
 @Configuration
 @EnableConfigurationProperties(S3Properties.class)
@@ -26,6 +39,15 @@ public class S3Config {
     @Value("${aws.region:ap-northeast-2}")
     private String region;
 
+    @Value("${aws.s3.endpoint:}")
+    private String endpoint;
+
+    @Value("${aws.s3.transfer.part-size:8MB}")
+    private DataSize partSize;
+
+    @Value("${aws.s3.transfer.max-concurrency:4}")
+    private int maxConcurrency;
+
     /**
      * AWS S3Client Bean 생성
      * 이 클라이언트는 StaticCredentialsProvider를 이용하여 accessKey/secretKey 기반 인증을 사용
@@ -37,9 +59,52 @@ public class S3Config {
         AwsBasicCredentials credentials = AwsBasicCredentials.create(accessKey, secretKey);
 
         // S3Client -> 리전 및 인증 설정과 함께 생성
-        return S3Client.builder()
+        S3ClientBuilder builder = S3Client.builder()
+                .region(Region.of(region))
+                .credentialsProvider(StaticCredentialsProvider.create(credentials));
+
+        // S3 호환 저장소 사용 시 엔드포인트 재정의
+        if (StringUtils.hasText(endpoint)) {
+            builder.endpointOverride(URI.create(endpoint)).forcePathStyle(true);
+        }
+        return builder.build();
+    }
+
+    /**
+     * 멀티파트 업로드를 지원하는 비동기 S3 클라이언트 Bean 생성
+     * 파트 크기 이상이면 멀티파트로 나누며, 동시에 전송할 파트 버퍼는 파트 크기 × max-concurrency로 제한
+     * @return 구성된 {@link S3AsyncClient} 인스턴스
+     */
+    @Bean
+    @ConditionalOnProperty(name = "aws.s3.transfer.mode", havingValue = "async")
+    public S3AsyncClient s3AsyncClient() {
+        AwsBasicCredentials credentials = AwsBasicCredentials.create(accessKey, secretKey);
+
+        S3AsyncClientBuilder builder = S3AsyncClient.builder()
                 .region(Region.of(region))
                 .credentialsProvider(StaticCredentialsProvider.create(credentials))
+                .multipartEnabled(true)
+                .multipartConfiguration(MultipartConfiguration.builder()
+                        .minimumPartSizeInBytes(partSize.toBytes())
+                        .thresholdInBytes(partSize.toBytes())
+                        .apiCallBufferSizeInBytes(partSize.toBytes() * maxConcurrency)
+                        .build());
+
+        if (StringUtils.hasText(endpoint)) {
+            builder.endpointOverride(URI.create(endpoint)).forcePathStyle(true);
+        }
+        return builder.build();
+    }
+
+    /**
+     * 비동기 S3 클라이언트 기반 Transfer Manager Bean 생성
+     * @return 구성된 {@link S3TransferManager} 인스턴스
+     */
+    @Bean
+    @ConditionalOnProperty(name = "aws.s3.transfer.mode", havingValue = "async")
+    public S3TransferManager s3TransferManager(S3AsyncClient s3AsyncClient) {
+        return S3TransferManager.builder()
+                .s3Client(s3AsyncClient)
                 .build();
     }
 }
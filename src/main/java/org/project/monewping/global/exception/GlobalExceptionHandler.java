@@ -3,6 +3,8 @@ package org.project.monewping.global.exception;
 import java.time.Instant;
 import java.util.stream.Collectors;
 import org.project.monewping.domain.article.exception.ArticleNotFoundException;
+import org.project.monewping.domain.article.exception.ArticleRestoreJobNotFoundException;
+import org.project.monewping.domain.article.exception.ArticleRestoreJobStateException;
 import org.project.monewping.domain.article.exception.DuplicateArticleViewsException;
 import org.project.monewping.domain.comment.exception.CommentDeleteException;
 import org.project.monewping.domain.comment.exception.CommentNotFoundException;
@@ -493,6 +495,38 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
     }
 
+    /**
+     * 뉴스 기사 복구 작업을 찾을 수 없을 때 발생하는 예외를 처리합니다.
+     *
+     * @param ex 처리할 {@link ArticleRestoreJobNotFoundException}
+     * @return HTTP 404 상태 코드와 오류 메시지를 담은 {@link ResponseEntity<ErrorResponse>}
+     */
+    @ExceptionHandler(ArticleRestoreJobNotFoundException.class)
+    public ResponseEntity<ErrorResponse> handleArticleRestoreJobNotFoundException(ArticleRestoreJobNotFoundException ex) {
+        ErrorResponse errorResponse = ErrorResponse.of(
+            HttpStatus.NOT_FOUND,
+            "RESTORE_JOB_NOT_FOUND",
+            ex.getMessage()
+        );
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
+    }
+
+    /**
+     * 현재 상태에서 중지하거나 재시작할 수 없는 복구 작업 요청을 처리합니다.
+     *
+     * @param ex 처리할 {@link ArticleRestoreJobStateException}
+     * @return HTTP 409 상태 코드와 오류 메시지를 담은 {@link ResponseEntity<ErrorResponse>}
+     */
+    @ExceptionHandler(ArticleRestoreJobStateException.class)
+    public ResponseEntity<ErrorResponse> handleArticleRestoreJobStateException(ArticleRestoreJobStateException ex) {
+        ErrorResponse errorResponse = ErrorResponse.of(
+            HttpStatus.CONFLICT,
+            "INVALID_RESTORE_JOB_STATE",
+            ex.getMessage()
+        );
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
+    }
+
     /**
      * 잘못된 요청 예외를 처리합니다.
      *
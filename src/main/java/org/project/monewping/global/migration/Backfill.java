@@ -0,0 +1,35 @@
+package org.project.monewping.global.migration;
+
+/**
+ * 대용량 테이블의 컬럼 값을 채우는 백필 작업 정의.
+ *
+ * <p>{@link BackfillTasklet}이 id 순서로 청크를 나누어 실행하며, 청크마다 바로 커밋하므로
+ * 작업 도중 재시작되면 마지막 청크가 다시 적용될 수 있습니다. 따라서 {@link #selectChunkSql()}은
+ * 아직 채워지지 않은 행만 고르고 {@link #updateSql()}은 여러 번 실행해도 결과가 같아야 합니다.</p>
+ */
+public interface Backfill {
+
+    /**
+     * 백필 이름. 실행 API 경로와 배치 Job 파라미터로 사용됩니다.
+     */
+    String name();
+
+    /**
+     * 다음 청크의 id 목록을 조회하는 SQL.
+     * {@code :lastId} 보다 큰 id를 오름차순으로 최대 {@code :limit}건 반환해야 합니다.
+     */
+    String selectChunkSql();
+
+    /**
+     * 청크 id 목록({@code :ids})에 대해 값을 채우는 UPDATE SQL.
+     */
+    String updateSql();
+
+    /**
+     * 모든 청크를 처리한 뒤 한 번 실행할 SQL. 없으면 {@code null}을 반환합니다.
+     * 실패하면 Job이 실패하고, 재실행 시 남은 청크가 없어 이 SQL만 다시 실행되므로 여러 번 실행해도 안전해야 합니다.
+     */
+    default String completeSql() {
+        return null;
+    }
+}
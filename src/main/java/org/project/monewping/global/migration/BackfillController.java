@@ -0,0 +1,28 @@
+package org.project.monewping.global.migration;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("/api/admin/backfills")
+public class BackfillController {
+
+    private final BackfillLauncher backfillLauncher;
+
+    /**
+     * 백필 작업을 백그라운드에서 시작합니다.
+     *
+     * @param name 백필 이름
+     * @return 202 Accepted
+     */
+    @PostMapping("/{name}")
+    public ResponseEntity<Void> launch(@PathVariable String name) {
+        backfillLauncher.launch(name);
+        return ResponseEntity.accepted().build();
+    }
+}
@@ -0,0 +1,105 @@
+package org.project.monewping.global.migration;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.launch.support.TaskExecutorJobLauncher;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.support.transaction.ResourcelessTransactionManager;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 등록된 {@link Backfill}을 Spring Batch Job으로 비동기 실행합니다.
+ *
+ * <p>Job 인스턴스는 백필 이름으로 식별되므로, 실패한 백필을 다시 실행하면 저장된 위치부터 이어서 진행하고
+ * 이미 완료된 백필은 다시 실행되지 않습니다.</p>
+ *
+ * <p>Step은 {@link ResourcelessTransactionManager}로 실행하여 UPDATE가 청크마다 즉시 커밋되고,
+ * 청크 사이의 대기 시간 동안 행 잠금을 잡고 있지 않도록 합니다.</p>
+ */
+@Slf4j
+@Component
+public class BackfillLauncher {
+
+    private static final String JOB_NAME = "backfillJob";
+    private static final String STEP_NAME = "backfillStep";
+
+    private final Map<String, Backfill> backfills;
+    private final JobRepository jobRepository;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final int chunkSize;
+    private final Duration pause;
+    private final TaskExecutorJobLauncher jobLauncher;
+
+    public BackfillLauncher(
+        ObjectProvider<Backfill> backfills,
+        JobRepository jobRepository,
+        NamedParameterJdbcTemplate jdbcTemplate,
+        @Value("${monewping.backfill.chunk-size:1000}") int chunkSize,
+        @Value("${monewping.backfill.pause:PT0.2S}") Duration pause
+    ) throws Exception {
+        this.backfills = backfills.orderedStream()
+            .collect(Collectors.toMap(Backfill::name, Function.identity()));
+        this.jobRepository = jobRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.chunkSize = chunkSize;
+        this.pause = pause;
+
+        this.jobLauncher = new TaskExecutorJobLauncher();
+        this.jobLauncher.setJobRepository(jobRepository);
+        this.jobLauncher.setTaskExecutor(new SimpleAsyncTaskExecutor("backfill-"));
+        this.jobLauncher.afterPropertiesSet();
+    }
+
+    /**
+     * 이름에 해당하는 백필을 백그라운드에서 시작합니다.
+     *
+     * @param name 백필 이름
+     * @return 시작된 Job 실행 정보
+     * @throws IllegalArgumentException 등록되지 않은 백필 이름인 경우
+     * @throws IllegalStateException 이미 완료되었거나 실행 중인 경우 등 Job을 시작할 수 없는 경우
+     */
+    public JobExecution launch(String name) {
+        Backfill backfill = backfills.get(name);
+        if (backfill == null) {
+            throw new IllegalArgumentException("등록되지 않은 백필입니다: " + name);
+        }
+
+        JobParameters params = new JobParametersBuilder()
+            .addString("backfill", name)
+            .toJobParameters();
+
+        try {
+            JobExecution execution = jobLauncher.run(buildJob(backfill), params);
+            log.info("[Backfill] 백필 시작 - name: {}, executionId: {}", name, execution.getId());
+            return execution;
+        } catch (Exception e) {
+            log.error("[Backfill] 백필 시작 실패 - name: {}", name, e);
+            throw new IllegalStateException("백필을 시작할 수 없습니다: " + name, e);
+        }
+    }
+
+    private Job buildJob(Backfill backfill) {
+        Step step = new StepBuilder(STEP_NAME, jobRepository)
+            .tasklet(new BackfillTasklet(backfill, jdbcTemplate, chunkSize, pause),
+                new ResourcelessTransactionManager())
+            .build();
+
+        return new JobBuilder(JOB_NAME, jobRepository)
+            .start(step)
+            .build();
+    }
+}
@@ -0,0 +1,66 @@
+package org.project.monewping.global.migration;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+/**
+ * {@link Backfill}을 id 기준 청크 단위로 실행하는 Tasklet.
+ *
+ * <p>한 번의 {@code execute} 호출이 한 청크를 처리하며, 마지막으로 처리한 id를 Step 실행 컨텍스트에 저장하여
+ * 실패 후 재실행 시 이어서 진행합니다. 각 UPDATE는 짧은 트랜잭션으로 바로 커밋되고,
+ * 청크 사이에 {@code pause}만큼 쉬어 운영 중 쓰기 요청이 밀리지 않도록 합니다.
+ * 남은 청크가 없으면 {@link Backfill#completeSql()}을 실행한 뒤 종료합니다.</p>
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class BackfillTasklet implements Tasklet {
+
+    static final String LAST_ID_KEY = "backfill.lastId";
+    private static final UUID MIN_ID = new UUID(0L, 0L);
+
+    private final Backfill backfill;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final int chunkSize;
+    private final Duration pause;
+
+    @Override
+    public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) throws Exception {
+        ExecutionContext context = chunkContext.getStepContext().getStepExecution().getExecutionContext();
+        UUID lastId = context.containsKey(LAST_ID_KEY)
+            ? UUID.fromString(context.getString(LAST_ID_KEY))
+            : MIN_ID;
+
+        List<UUID> ids = jdbcTemplate.queryForList(
+            backfill.selectChunkSql(), Map.of("lastId", lastId, "limit", chunkSize), UUID.class);
+
+        if (ids.isEmpty()) {
+            if (backfill.completeSql() != null) {
+                jdbcTemplate.getJdbcOperations().execute(backfill.completeSql());
+            }
+            log.info("[Backfill] 백필 완료 - name: {}", backfill.name());
+            return RepeatStatus.FINISHED;
+        }
+
+        int updated = jdbcTemplate.update(backfill.updateSql(), Map.of("ids", ids));
+        contribution.incrementWriteCount(updated);
+        context.putString(LAST_ID_KEY, ids.get(ids.size() - 1).toString());
+
+        log.debug("[Backfill] 청크 처리 - name: {}, updated: {}, lastId: {}",
+            backfill.name(), updated, ids.get(ids.size() - 1));
+
+        if (!pause.isZero()) {
+            Thread.sleep(pause.toMillis());
+        }
+        return RepeatStatus.CONTINUABLE;
+    }
+}
@@ -1,31 +1,43 @@
 package org.project.monewping.global.service;
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.project.monewping.global.config.S3Properties;
+import org.project.monewping.global.storage.S3StreamUploader;
+import org.project.monewping.global.storage.S3UploadStream;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
-import software.amazon.awssdk.core.sync.RequestBody;
-import software.amazon.awssdk.services.s3.S3Client;
-import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.Comparator;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
 
 /**
  * 로그 파일을 AWS S3에 업로드하는 서비스 클래스입니다.
  * 
  * <p>이 서비스는 다음과 같은 기능을 제공합니다:</p>
  * <ul>
- *     <li>지정된 날짜의 로그 파일을 로컬에서 찾기</li>
- *     <li>로그 파일을 S3 버킷에 업로드</li>
+ *     <li>지정된 날짜의 로그 파일과 크기 초과로 분할된 세그먼트({@code .%i.log})를 로컬에서 찾기</li>
+ *     <li>로그 파일을 gzip으로 압축하며 S3 멀티파트 업로드로 스트리밍 업로드</li>
  *     <li>업로드 결과 로깅 및 에러 처리</li>
  * </ul>
+ *
+ * <p>파일을 메모리에 올리지 않고 {@link FileChannel}에서 읽는 즉시 압축하여 {@link S3StreamUploader}로
+ * 파트 단위 업로드합니다. 파트 크기와 동시 전송 수는 {@code aws.s3.transfer} 설정을 따르며,
+ * 메모리 사용량은 파일 크기와 관계없이 파트 크기 × 동시 전송 수 정도로 제한됩니다.</p>
  * 
  * <p>주의사항:</p>
  * <ul>
@@ -38,44 +50,52 @@ import java.time.format.DateTimeFormatter;
  * @since 1.0.0
  */
 @Service
-@RequiredArgsConstructor
 @Slf4j
 @ConditionalOnProperty(name = "aws.s3.logs.enabled", havingValue = "true")
 public class LogUploadService {
 
     private static final String SERVICE_NAME = "[LogUploadService] ";
+    private static final String CONTENT_TYPE = "application/gzip";
+    private static final int GZIP_BUFFER_SIZE = 64 * 1024;
 
-    private final S3Client s3Client;
+    private final S3StreamUploader uploader;
     private final S3Properties s3Properties;
-
-    @Value("${logging.file.path: ./logs}")
-    private String logPath;
-
-    @Value("${logging.file.name:monewping}")
-    private String logFileName;
+    private final String logPath;
+    private final String logFileName;
+
+    public LogUploadService(
+        S3StreamUploader uploader,
+        S3Properties s3Properties,
+        @Value("${logging.file.path: ./logs}") String logPath,
+        @Value("${logging.file.name:monewping}") String logFileName
+    ) {
+        this.uploader = uploader;
+        this.s3Properties = s3Properties;
+        this.logPath = logPath;
+        this.logFileName = logFileName;
+    }
 
     /**
      * 지정된 날짜의 모든 로그 파일을 S3에 업로드합니다.
      * 
      * <p>업로드 과정:</p>
      * <ol>
-     *     <li>지정된 날짜의 모든 로그 파일 경로를 생성합니다</li>
-     *     <li>각 파일 존재 여부를 확인합니다</li>
-     *     <li>존재하는 파일들을 S3에 업로드합니다</li>
+     *     <li>로그 타입별로 지정된 날짜의 로그 파일과 분할 세그먼트를 찾습니다</li>
+     *     <li>각 파일을 gzip으로 압축하며 S3에 멀티파트 업로드합니다</li>
      *     <li>업로드 결과를 로그로 기록합니다</li>
      * </ol>
      * 
      * <p>업로드되는 로그 파일들:</p>
      * <ul>
-     *     <li>일반 로그: monewping-{date}.log</li>
-     *     <li>에러 로그: monewping-error-{date}.log</li>
-     *     <li>SQL 로그: monewping-sql-{date}.log</li>
+     *     <li>일반 로그: monewping-{date}.log, monewping-{date}.{i}.log</li>
+     *     <li>에러 로그: monewping-error-{date}.log, monewping-error-{date}.{i}.log</li>
+     *     <li>SQL 로그: monewping-sql-{date}.log, monewping-sql-{date}.{i}.log</li>
      * </ul>
      * 
      * <p>예외 처리:</p>
      * <ul>
-     *     <li>파일이 존재하지 않으면 해당 파일만 건너뜁니다</li>
-     *     <li>IOException 발생 시 에러 로그를 남기고 계속 진행합니다</li>
+     *     <li>파일이 존재하지 않으면 해당 로그 타입만 건너뜁니다</li>
+     *     <li>IOException 발생 시 에러 로그를 남기고 미완료 업로드를 취소한 뒤 다음 파일을 진행합니다</li>
      *     <li>기타 예외 발생 시 에러 로그를 남기고 계속 진행합니다</li>
      *     <li>모든 경우에 애플리케이션은 정상적으로 계속 실행됩니다</li>
      * </ul>
@@ -90,52 +110,48 @@ public class LogUploadService {
 
         log.info(SERVICE_NAME + "S3 설정 - 버킷: {}, 접두사: {}, 로그경로: {}", bucketName, prefix, logPath);
 
-        // 로그 디렉토리 확인
-        Path logDir = Paths.get(logPath);
-        log.info(SERVICE_NAME + "로그 디렉토리 존재 여부: {}", Files.exists(logDir));
-
-        if (Files.exists(logDir)) {
-            try {
-                log.info(SERVICE_NAME + "로그 디렉토리 내용:");
-                Files.list(logDir).forEach(file ->
-                    log.info(SERVICE_NAME + "  - {}", file.getFileName()));
-            } catch (IOException e) {
-                log.error(SERVICE_NAME + "로그 디렉토리 읽기 실패", e);
-            }
-        }
-
         // 업로드할 로그 파일 목록
         String[] logTypes = {"", "-error", "-sql"};
         int uploadedCount = 0;
 
         for (String logType : logTypes) {
-            try {
-                Path logFile = getLogFilePath(date, logType);
-
-                if (!logFileExists(logFile)) {
-                    log.warn(SERVICE_NAME + "업로드할 로그 파일이 존재하지 않습니다: {}", logFile);
-                    continue;
-                }
-
-                String s3Key = generateS3Key(date, logType, prefix);
-                byte[] fileContent = Files.readAllBytes(logFile);
+            String type = logType.isEmpty() ? "general" : logType.substring(1);
 
-                s3Client.putObject(PutObjectRequest.builder()
-                        .bucket(bucketName)
-                        .key(s3Key)
-                        .contentType("text/plain")
-                        .build(), RequestBody.fromBytes(fileContent));
+            List<Path> logFiles;
+            try {
+                logFiles = findLogFiles(date, logType);
+            } catch (IOException e) {
+                log.error(SERVICE_NAME + "로그 디렉토리 읽기 실패: type={}, 날짜={}", type, date, e);
+                continue;
+            }
 
-                log.info(SERVICE_NAME + "로그 파일 S3 업로드 완료: type={}, bucket={}, key={}, size={} bytes",
-                        logType.isEmpty() ? "general" : logType.substring(1), bucketName, s3Key, fileContent.length);
-                uploadedCount++;
+            if (logFiles.isEmpty()) {
+                log.warn(SERVICE_NAME + "업로드할 로그 파일이 존재하지 않습니다: type={}, 날짜={}", type, date);
+                continue;
+            }
 
-            } catch (IOException e) {
-                log.error(SERVICE_NAME + "로그 파일 S3 업로드 실패: type={}, 날짜={}", 
-                        logType.isEmpty() ? "general" : logType.substring(1), date, e);
-            } catch (Exception e) {
-                log.error(SERVICE_NAME + "로그 파일 S3 업로드 중 예외 발생: type={}, 날짜={}", 
-                        logType.isEmpty() ? "general" : logType.substring(1), date, e);
+            for (Path logFile : logFiles) {
+                String s3Key = generateS3Key(date, logFile, prefix);
+                S3UploadStream out = uploader.open(bucketName, s3Key, CONTENT_TYPE);
+
+                try (InputStream in = Channels.newInputStream(FileChannel.open(logFile, StandardOpenOption.READ))) {
+                    // 읽는 즉시 압축하여 파트 단위로 업로드하고, gzip 스트림을 닫으면서 업로드 완료
+                    GZIPOutputStream gzip = new GZIPOutputStream(out, GZIP_BUFFER_SIZE);
+                    long size = in.transferTo(gzip);
+                    gzip.close();
+
+                    log.info(SERVICE_NAME + "로그 파일 S3 업로드 완료: type={}, bucket={}, key={}, size={} bytes",
+                            type, bucketName, s3Key, size);
+                    uploadedCount++;
+
+                } catch (IOException e) {
+                    out.abort();
+                    log.error(SERVICE_NAME + "로그 파일 S3 업로드 실패: type={}, 파일={}, 날짜={}", type, logFile, date, e);
+                } catch (Exception e) {
+                    out.abort();
+                    log.error(SERVICE_NAME + "로그 파일 S3 업로드 중 예외 발생: type={}, 파일={}, 날짜={}",
+                            type, logFile, date, e);
+                }
             }
         }
 
@@ -143,37 +159,47 @@ public class LogUploadService {
     }
 
     /**
-     * 지정된 날짜의 로그 파일 경로를 생성합니다.
+     * 지정된 날짜의 로그 파일과 분할 세그먼트 경로를 찾습니다.
      * 
      * @param date 로그 파일 날짜
      * @param logType 로그 타입 ("", "-error", "-sql")
-     * @return 로그 파일의 전체 경로
+     * @return 로그 파일 경로 목록 (현재 파일, 세그먼트 번호 순)
+     * @throws IOException 로그 디렉토리를 읽을 수 없는 경우
      */
-    private Path getLogFilePath(LocalDate date, String logType) {
+    List<Path> findLogFiles(LocalDate date, String logType) throws IOException {
+        Path logDir = Paths.get(logPath);
+        if (!Files.isDirectory(logDir)) {
+            return List.of();
+        }
+
         String dateStr = date.format(DateTimeFormatter.ofPattern("yyyy-MM-dd"));
-        return Paths.get(logPath, logFileName + logType + "-" + dateStr + ".log");
+        Pattern pattern = Pattern.compile(
+            Pattern.quote(logFileName + logType + "-" + dateStr) + "(?:\\.(\\d+))?\\.log");
+
+        try (Stream<Path> files = Files.list(logDir)) {
+            return files
+                .filter(file -> pattern.matcher(file.getFileName().toString()).matches())
+                .sorted(Comparator.comparingInt(file -> segmentIndex(pattern, file)))
+                .toList();
+        }
+    }
+
+    // 현재 파일은 -1, 분할 세그먼트는 %i 번호
+    private int segmentIndex(Pattern pattern, Path file) {
+        Matcher matcher = pattern.matcher(file.getFileName().toString());
+        return matcher.matches() && matcher.group(1) != null ? Integer.parseInt(matcher.group(1)) : -1;
     }
 
     /**
      * S3에 업로드할 파일의 키(경로)를 생성합니다.
      * 
      * @param date 로그 파일 날짜
-     * @param logType 로그 타입 ("", "-error", "-sql")
+     * @param logFile 로그 파일 경로
      * @param prefix S3 버킷 내 저장 경로 접두사
-     * @return S3 객체 키 (예: application-logs/2025-07-22/monewping-2025-07-22.log)
+     * @return S3 객체 키 (예: application-logs/2025-07-22/monewping-2025-07-22.1.log.gz)
      */
-    private String generateS3Key(LocalDate date, String logType, String prefix) {
+    private String generateS3Key(LocalDate date, Path logFile, String prefix) {
         String dateStr = date.format(DateTimeFormatter.ofPattern("yyyy-MM-dd"));
-        return String.format("%s/%s/%s-%s.log", prefix, dateStr, logFileName + logType, dateStr);
-    }
-
-    /**
-     * 로그 파일의 존재 여부를 확인합니다.
-     * 
-     * @param logFile 확인할 로그 파일 경로
-     * @return 파일이 존재하면 true, 존재하지 않으면 false
-     */
-    private boolean logFileExists(Path logFile) {
-        return Files.exists(logFile);
+        return String.format("%s/%s/%s.gz", prefix, dateStr, logFile.getFileName());
     }
 }
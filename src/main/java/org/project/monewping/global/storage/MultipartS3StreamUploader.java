@@ -0,0 +1,52 @@
+package org.project.monewping.global.storage;
+
+import jakarta.annotation.PreDestroy;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import software.amazon.awssdk.services.s3.S3Client;
+
+/**
+ * 동기 {@link S3Client}로 멀티파트 업로드하는 기본 업로드 구현입니다.
+ *
+ * <p>{@code max-concurrency}가 2 이상이면 가득 찬 파트를 공용 스레드 풀에서 업로드하여
+ * 기록하는 스레드(DB 조회, 압축)와 네트워크 전송을 겹쳐 실행합니다.</p>
+ */
+@Component
+@ConditionalOnProperty(name = "aws.s3.transfer.mode", havingValue = "sync", matchIfMissing = true)
+public class MultipartS3StreamUploader implements S3StreamUploader {
+
+    private final S3Client s3Client;
+    private final int partSize;
+    private final int maxConcurrency;
+    private final ExecutorService executor;
+
+    public MultipartS3StreamUploader(
+        S3Client s3Client,
+        @Value("${aws.s3.transfer.part-size:8MB}") DataSize partSize,
+        @Value("${aws.s3.transfer.max-concurrency:4}") int maxConcurrency
+    ) {
+        this.s3Client = s3Client;
+        this.partSize = Math.toIntExact(partSize.toBytes());
+        this.maxConcurrency = maxConcurrency;
+        this.executor = maxConcurrency > 1
+            ? Executors.newFixedThreadPool(maxConcurrency, new CustomizableThreadFactory("s3-upload-"))
+            : null;
+    }
+
+    @Override
+    public S3UploadStream open(String bucket, String key, String contentType) {
+        return new S3MultipartOutputStream(s3Client, bucket, key, contentType, partSize, executor, maxConcurrency);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+}
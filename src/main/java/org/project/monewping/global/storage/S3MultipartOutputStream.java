@@ -0,0 +1,227 @@
+package org.project.monewping.global.storage;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import lombok.extern.slf4j.Slf4j;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+
+/**
+ * S3 멀티파트 업로드로 기록하는 출력 스트림입니다.
+ *
+ * <p>고정 크기 버퍼가 가득 찰 때마다 한 파트씩 업로드하므로 객체 크기와 관계없이
+ * 버퍼 한 개 분량의 메모리만 사용합니다. 전체 크기가 한 파트보다 작으면 멀티파트를 시작하지 않고
+ * {@code putObject} 한 번으로 업로드합니다.</p>
+ *
+ * <p>{@link Executor}를 지정하면 가득 찬 파트를 백그라운드에서 업로드하고 다음 버퍼에 계속 기록합니다.
+ * 동시에 업로드 중인 파트는 최대 {@code maxInFlightParts}개이며, 한도에 도달하면 가장 먼저 시작한 파트가
+ * 끝날 때까지 기다렸다가 그 버퍼를 재사용하므로 메모리 사용량은 파트 크기 × (한도 + 1)을 넘지 않습니다.</p>
+ *
+ * <p>{@link #close()}에서 업로드를 완료하며, 기록 도중 실패하면 호출 측에서 {@link #abort()}를 호출해
+ * 미완료 파트가 버킷에 남지 않도록 해야 합니다.</p>
+ */
+@Slf4j
+public class S3MultipartOutputStream extends S3UploadStream {
+
+    /** S3 멀티파트 업로드의 최소 파트 크기 (마지막 파트 제외) */
+    public static final int MIN_PART_SIZE = 5 * 1024 * 1024;
+
+    private final S3Client s3Client;
+    private final String bucket;
+    private final String key;
+    private final String contentType;
+    private final Executor executor;
+    private final int maxInFlightParts;
+    private final List<CompletedPart> completedParts = new ArrayList<>();
+    private final Deque<PendingPart> inFlight = new ArrayDeque<>();
+    private final Deque<byte[]> freeBuffers = new ArrayDeque<>();
+
+    private byte[] buffer;
+    private int position;
+    private int partCount;
+    private String uploadId;
+    private boolean closed;
+
+    public S3MultipartOutputStream(S3Client s3Client, String bucket, String key, String contentType, int partSize) {
+        this(s3Client, bucket, key, contentType, partSize, null, 1);
+    }
+
+    /**
+     * @param executor         파트 업로드를 실행할 Executor, {@code null}이면 기록하는 스레드에서 순차 업로드
+     * @param maxInFlightParts 동시에 업로드할 수 있는 최대 파트 수
+     */
+    public S3MultipartOutputStream(S3Client s3Client, String bucket, String key, String contentType, int partSize,
+        Executor executor, int maxInFlightParts) {
+        if (partSize < MIN_PART_SIZE) {
+            throw new IllegalArgumentException("파트 크기는 5MB 이상이어야 합니다 : " + partSize);
+        }
+        if (maxInFlightParts < 1) {
+            throw new IllegalArgumentException("동시 업로드 파트 수는 1 이상이어야 합니다 : " + maxInFlightParts);
+        }
+        this.s3Client = s3Client;
+        this.bucket = bucket;
+        this.key = key;
+        this.contentType = contentType;
+        this.executor = executor;
+        this.maxInFlightParts = maxInFlightParts;
+        this.buffer = new byte[partSize];
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        ensureOpen();
+        if (position == buffer.length) {
+            uploadPart();
+        }
+        buffer[position++] = (byte) b;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        ensureOpen();
+        while (len > 0) {
+            if (position == buffer.length) {
+                uploadPart();
+            }
+            int length = Math.min(len, buffer.length - position);
+            System.arraycopy(b, off, buffer, position, length);
+            position += length;
+            off += length;
+            len -= length;
+        }
+    }
+
+    /**
+     * 남은 버퍼를 업로드하고 업로드를 완료합니다.
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+
+        if (uploadId == null) {
+            s3Client.putObject(
+                PutObjectRequest.builder().bucket(bucket).key(key).contentType(contentType).build(),
+                bufferBody());
+            return;
+        }
+
+        if (position > 0) {
+            uploadPart();
+        }
+        while (!inFlight.isEmpty()) {
+            awaitOldestPart();
+        }
+        s3Client.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+            .bucket(bucket)
+            .key(key)
+            .uploadId(uploadId)
+            .multipartUpload(CompletedMultipartUpload.builder().parts(completedParts).build())
+            .build());
+        log.debug("S3 멀티파트 업로드 완료 : {}, 파트 수 : {}", key, completedParts.size());
+    }
+
+    /**
+     * 진행 중인 멀티파트 업로드를 취소합니다. 업로드 중인 파트가 끝난 뒤 취소하며, 취소 실패는 로그만 남깁니다.
+     */
+    @Override
+    public void abort() {
+        closed = true;
+        if (uploadId == null) {
+            return;
+        }
+        // 취소 이후 파트 업로드가 끝나면 파트가 버킷에 남을 수 있으므로 먼저 완료를 기다림
+        inFlight.forEach(part -> part.result().handle((completed, e) -> null).join());
+        inFlight.clear();
+        try {
+            s3Client.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+                .bucket(bucket)
+                .key(key)
+                .uploadId(uploadId)
+                .build());
+        } catch (Exception e) {
+            log.warn("S3 멀티파트 업로드 취소 실패 : {}, uploadId : {}", key, uploadId, e);
+        }
+    }
+
+    private void uploadPart() throws IOException {
+        if (uploadId == null) {
+            uploadId = s3Client.createMultipartUpload(CreateMultipartUploadRequest.builder()
+                .bucket(bucket)
+                .key(key)
+                .contentType(contentType)
+                .build()).uploadId();
+        }
+
+        int partNumber = ++partCount;
+        byte[] data = buffer;
+        int length = position;
+        position = 0;
+
+        if (executor == null) {
+            completedParts.add(uploadPart(partNumber, data, length));
+            return;
+        }
+
+        // 한도에 도달하면 가장 오래된 파트를 기다려 버퍼를 회수한 뒤 다음 파트를 백그라운드로 업로드
+        while (inFlight.size() >= maxInFlightParts) {
+            awaitOldestPart();
+        }
+        inFlight.add(new PendingPart(
+            CompletableFuture.supplyAsync(() -> uploadPart(partNumber, data, length), executor), data));
+        buffer = freeBuffers.isEmpty() ? new byte[data.length] : freeBuffers.poll();
+    }
+
+    private CompletedPart uploadPart(int partNumber, byte[] data, int length) {
+        String eTag = s3Client.uploadPart(UploadPartRequest.builder()
+            .bucket(bucket)
+            .key(key)
+            .uploadId(uploadId)
+            .partNumber(partNumber)
+            .contentLength((long) length)
+            .build(), RequestBody.fromInputStream(new ByteArrayInputStream(data, 0, length), length)).eTag();
+
+        return CompletedPart.builder().partNumber(partNumber).eTag(eTag).build();
+    }
+
+    // 파트는 시작 순서대로 기다리므로 completedParts는 항상 파트 번호 순서를 유지
+    private void awaitOldestPart() throws IOException {
+        PendingPart part = inFlight.poll();
+        try {
+            completedParts.add(part.result().join());
+        } catch (CompletionException e) {
+            throw new IOException("S3 파트 업로드 실패 : " + key, e.getCause());
+        }
+        freeBuffers.add(part.buffer());
+    }
+
+    private RequestBody bufferBody() {
+        return RequestBody.fromInputStream(new ByteArrayInputStream(buffer, 0, position), position);
+    }
+
+    private void ensureOpen() throws IOException {
+        if (closed) {
+            throw new IOException("이미 닫힌 스트림입니다 : " + key);
+        }
+    }
+
+    private record PendingPart(CompletableFuture<CompletedPart> result, byte[] buffer) {
+
+    }
+}
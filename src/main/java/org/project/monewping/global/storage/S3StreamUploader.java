@@ -0,0 +1,21 @@
+package org.project.monewping.global.storage;
+
+/**
+ * 크기를 모르는 데이터를 스트림으로 기록하며 S3에 업로드합니다.
+ *
+ * <p>{@code aws.s3.transfer.mode}에 따라 동기 {@code S3Client} 멀티파트 업로드
+ * ({@link MultipartS3StreamUploader}) 또는 비동기 Transfer Manager 업로드
+ * ({@link TransferManagerS3StreamUploader}) 구현이 사용됩니다.</p>
+ */
+public interface S3StreamUploader {
+
+    /**
+     * 업로드 스트림을 엽니다. 스트림을 닫으면 업로드가 완료됩니다.
+     *
+     * @param bucket      버킷 이름
+     * @param key         객체 키
+     * @param contentType 객체 Content-Type
+     * @return 업로드 스트림
+     */
+    S3UploadStream open(String bucket, String key, String contentType);
+}
@@ -0,0 +1,17 @@
+package org.project.monewping.global.storage;
+
+import java.io.OutputStream;
+
+/**
+ * S3 객체로 업로드되는 출력 스트림입니다.
+ *
+ * <p>{@link #close()}가 정상적으로 끝나야 객체가 생성되며, 기록 도중 실패하면 호출 측에서
+ * {@link #abort()}를 호출해 미완료 업로드를 정리해야 합니다.</p>
+ */
+public abstract class S3UploadStream extends OutputStream {
+
+    /**
+     * 진행 중인 업로드를 취소합니다. 취소 실패는 예외 대신 로그로만 남깁니다.
+     */
+    public abstract void abort();
+}
@@ -0,0 +1,96 @@
+package org.project.monewping.global.storage;
+
+import java.io.IOException;
+import java.util.concurrent.CompletionException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.core.async.BlockingOutputStreamAsyncRequestBody;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.transfer.s3.S3TransferManager;
+import software.amazon.awssdk.transfer.s3.model.Upload;
+import software.amazon.awssdk.transfer.s3.model.UploadRequest;
+import software.amazon.awssdk.utils.CancellableOutputStream;
+
+/**
+ * {@link S3TransferManager}로 업로드하는 비동기 업로드 구현입니다.
+ *
+ * <p>업로드를 먼저 시작한 뒤 요청 본문 스트림에 기록하므로, 기록하는 스레드는 버퍼가 찰 때만 대기하고
+ * 파트 분할과 병렬 전송은 SDK의 비동기 클라이언트가 담당합니다.
+ * 파트 크기와 동시 전송 버퍼는 {@code S3Config}의 비동기 클라이언트 설정을 따릅니다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "aws.s3.transfer.mode", havingValue = "async")
+public class TransferManagerS3StreamUploader implements S3StreamUploader {
+
+    private final S3TransferManager transferManager;
+
+    @Override
+    public S3UploadStream open(String bucket, String key, String contentType) {
+        // 전체 크기를 모르므로 contentLength 없이 시작 (SDK가 멀티파트로 나누어 업로드)
+        BlockingOutputStreamAsyncRequestBody body = AsyncRequestBody.forBlockingOutputStream(null);
+        Upload upload = transferManager.upload(UploadRequest.builder()
+            .putObjectRequest(PutObjectRequest.builder().bucket(bucket).key(key).contentType(contentType).build())
+            .requestBody(body)
+            .build());
+
+        return new TransferUploadStream(key, body.outputStream(), upload);
+    }
+
+    private static class TransferUploadStream extends S3UploadStream {
+
+        private final String key;
+        private final CancellableOutputStream out;
+        private final Upload upload;
+        private boolean closed;
+
+        TransferUploadStream(String key, CancellableOutputStream out, Upload upload) {
+            this.key = key;
+            this.out = out;
+            this.upload = upload;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+        }
+
+        /**
+         * 요청 본문을 닫고 업로드가 끝날 때까지 기다립니다.
+         */
+        @Override
+        public void close() throws IOException {
+            if (closed) {
+                return;
+            }
+            closed = true;
+
+            out.close();
+            try {
+                upload.completionFuture().join();
+            } catch (CompletionException e) {
+                throw new IOException("S3 업로드 실패 : " + key, e.getCause());
+            }
+        }
+
+        @Override
+        public void abort() {
+            closed = true;
+            try {
+                out.cancel();
+                upload.completionFuture().cancel(true);
+            } catch (Exception e) {
+                log.warn("S3 업로드 취소 실패 : {}", key, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,47 @@
+-- V2 : 조회 경로 보조 인덱스 (ddl.sql 의 Secondary Indexes 와 동일)
+-- CREATE INDEX CONCURRENTLY 는 트랜잭션 밖에서만 실행되므로 이 파일에는 CONCURRENTLY 구문만 둡니다.
+-- (Flyway 가 비트랜잭션 구문만 있는 스크립트로 인식하여 트랜잭션 없이 실행)
+-- 빌드 도중 실패하면 INVALID 인덱스가 남으므로, 재시도 전 해당 인덱스를 DROP INDEX CONCURRENTLY 로 제거해야 합니다.
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_keywords_interest
+    ON keywords (interest_id);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_interest_subscriptions_user
+    ON interest_subscriptions (user_id);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_articles_interest_published
+    ON articles (interest_id, published_at);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_articles_published
+    ON articles (published_at);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_article_views_user_article
+    ON article_views (user_id, article_id);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_article_views_article
+    ON article_views (article_id);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_comments_article_created
+    ON comments (article_id, created_at);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_comments_article_like
+    ON comments (article_id, like_count);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_comments_user
+    ON comments (user_id);
+
+-- 중복 좋아요 방지 (ddl.sql 의 uk_comment_like 제약과 동일한 유니크 인덱스)
+CREATE UNIQUE INDEX CONCURRENTLY IF NOT EXISTS uk_comment_like
+    ON comment_likes (liked_id, comment_id);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_comment_likes_comment
+    ON comment_likes (comment_id);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_notifications_user_confirmed_created
+    ON notifications (user_id, confirmed, created_at);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_notifications_resource_created
+    ON notifications (resource_id, created_at);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_notifications_confirmed_updated
+    ON notifications (confirmed, updated_at);
@@ -0,0 +1,116 @@
+-- V3 : articles / article_views 월 단위 범위 파티셔닝 (1단계 : 새 파티션 테이블 준비)
+--
+-- articles 는 published_at, article_views 는 viewed_at 기준으로 월별 파티션을 둡니다.
+-- 파티션 테이블의 PK / 유니크 제약에는 파티션 키가 포함되어야 하므로
+--   * PK                 : (id, published_at) / (id, viewed_at)
+--   * uk_article_link    : (original_link, published_at)
+-- 로 바뀝니다.
+--
+-- 기존 테이블을 한 트랜잭션에서 복사하면 복사하는 동안 쓰기가 모두 막히므로, 전환은 다음 순서로 진행합니다.
+--   1. (V3) 새 파티션 테이블을 articles_partitioned / article_views_partitioned 이름으로 만들고,
+--      기존 테이블의 INSERT / UPDATE / DELETE 를 새 테이블에 그대로 반영하는 동기화 트리거를 겁니다.
+--      기존 테이블과 외래 키는 그대로 두므로 애플리케이션은 계속 기존 테이블을 사용합니다.
+--   2. articles-partition 백필(ArticlePartitionBackfill)이 기존 행을 청크 단위로 복사합니다.
+--   3. 백필이 끝나면 articles_partition_swap() (V8) 이 짧은 잠금 안에서 기존 테이블을 삭제하고 새 테이블로 교체합니다.
+-- 기존 데이터가 없는 DB 는 V8 에서 바로 교체합니다.
+--
+-- 기존 데이터가 있는 월 + 이후 3개월 파티션을 만들고, 범위를 벗어난 행은 DEFAULT 파티션에 들어갑니다.
+-- 이후 파티션 생성 / 보관(분리) 은 ArticlePartitionScheduler 가 담당합니다.
+-- 월 경계는 애플리케이션 타임존(Asia/Seoul) 기준입니다.
+-- 인덱스 / 제약 이름은 기존 테이블과 겹치지 않도록 임시 이름으로 만들고 교체 시 원래 이름으로 바꿉니다.
+
+SET LOCAL TIME ZONE 'Asia/Seoul';
+
+-- 1. 파티션 부모 테이블 생성
+CREATE TABLE articles_partitioned
+(
+    id            UUID         NOT NULL,
+    source        VARCHAR(30)  NOT NULL,
+    original_link VARCHAR(500) NOT NULL,
+    title         VARCHAR(100) NOT NULL,
+    summary       TEXT         NOT NULL,
+    published_at  TIMESTAMPTZ  NOT NULL,
+    comment_count BIGINT       NOT NULL,
+    view_count    BIGINT       NOT NULL,
+    is_deleted    BOOLEAN DEFAULT FALSE,
+    created_at    TIMESTAMPTZ  NOT NULL,
+    interest_id   UUID         NOT NULL,
+    CONSTRAINT articles_partitioned_pkey PRIMARY KEY (id, published_at),
+    CONSTRAINT uk_articles_partitioned_link UNIQUE (original_link, published_at),
+    FOREIGN KEY (interest_id) REFERENCES interests (id) ON DELETE CASCADE
+) PARTITION BY RANGE (published_at);
+
+CREATE TABLE article_views_partitioned
+(
+    id         UUID        NOT NULL,
+    viewed_at  TIMESTAMPTZ NOT NULL,
+    user_id    UUID        NOT NULL,
+    article_id UUID        NOT NULL,
+    CONSTRAINT article_views_partitioned_pkey PRIMARY KEY (id, viewed_at),
+    FOREIGN KEY (user_id) REFERENCES users (id) ON DELETE CASCADE
+) PARTITION BY RANGE (viewed_at);
+
+CREATE TABLE articles_default PARTITION OF articles_partitioned DEFAULT;
+CREATE TABLE article_views_default PARTITION OF article_views_partitioned DEFAULT;
+
+-- 2. 월별 파티션 생성 (기존 데이터 범위 ~ 현재 + 3개월). 파티션 이름은 교체 후 이름(articles_pYYYYMM) 기준
+DO $$
+DECLARE
+    parent   TEXT;
+    key_col  TEXT;
+    first_m  DATE;
+    last_m   DATE;
+    m        DATE;
+BEGIN
+    FOREACH parent IN ARRAY ARRAY['articles', 'article_views'] LOOP
+        key_col := CASE parent WHEN 'articles' THEN 'published_at' ELSE 'viewed_at' END;
+
+        EXECUTE format('SELECT date_trunc(''month'', min(%I))::date FROM %I', key_col, parent)
+            INTO first_m;
+        first_m := LEAST(COALESCE(first_m, date_trunc('month', now())::date), date_trunc('month', now())::date);
+        last_m := (date_trunc('month', now()) + INTERVAL '3 months')::date;
+
+        m := first_m;
+        WHILE m <= last_m LOOP
+            EXECUTE format(
+                'CREATE TABLE IF NOT EXISTS %I PARTITION OF %I FOR VALUES FROM (%L) TO (%L)',
+                parent || '_p' || to_char(m, 'YYYYMM'), parent || '_partitioned',
+                m::timestamptz, (m + INTERVAL '1 month')::timestamptz);
+            m := (m + INTERVAL '1 month')::date;
+        END LOOP;
+    END LOOP;
+END $$;
+
+-- 3. 인덱스 (부모 테이블에 만들면 모든 파티션에 전파, 빈 테이블이므로 바로 끝남)
+CREATE INDEX idx_articles_partitioned_interest_published ON articles_partitioned (interest_id, published_at);
+CREATE INDEX idx_articles_partitioned_published ON articles_partitioned (published_at);
+
+CREATE INDEX idx_article_views_partitioned_user_article ON article_views_partitioned (user_id, article_id);
+CREATE INDEX idx_article_views_partitioned_article ON article_views_partitioned (article_id);
+
+-- 4. 기존 테이블 → 새 테이블 동기화 트리거
+--    TG_ARGV[0] : 새 테이블 이름. 열 이름으로 값을 옮기므로 이후 기존 테이블에 추가되는 열도 새 테이블에 같은 이름으로 있으면 반영됩니다.
+--    UPDATE 는 파티션 키가 바뀔 수 있어 삭제 후 다시 넣습니다.
+CREATE OR REPLACE FUNCTION partition_sync() RETURNS TRIGGER
+    LANGUAGE plpgsql
+    SET search_path FROM CURRENT
+AS $$
+BEGIN
+    IF TG_OP IN ('UPDATE', 'DELETE') THEN
+        EXECUTE format('DELETE FROM %I WHERE id = $1', TG_ARGV[0]) USING OLD.id;
+    END IF;
+    IF TG_OP IN ('INSERT', 'UPDATE') THEN
+        EXECUTE format('INSERT INTO %1$I SELECT * FROM jsonb_populate_record(NULL::%1$I, $1)', TG_ARGV[0])
+            USING to_jsonb(NEW);
+    END IF;
+    RETURN NULL;
+END;
+$$;
+
+CREATE TRIGGER trg_articles_partition_sync
+    AFTER INSERT OR UPDATE OR DELETE ON articles
+    FOR EACH ROW EXECUTE FUNCTION partition_sync('articles_partitioned');
+
+CREATE TRIGGER trg_article_views_partition_sync
+    AFTER INSERT OR UPDATE OR DELETE ON article_views
+    FOR EACH ROW EXECUTE FUNCTION partition_sync('article_views_partitioned');
@@ -0,0 +1,13 @@
+-- V4 : articles 변경 추적 컬럼
+--
+-- 시간별 변경분 백업(ArticleBackupServiceImpl.backupChanges)이 updated_at 범위로 변경된 기사를 찾습니다.
+-- 기본값 없는 NULL 허용 컬럼 추가는 테이블을 다시 쓰지 않으며, 기존 행은 NULL 로 남아
+-- 일별 전체 백업에만 포함됩니다. 기존 행 값은 필요 시 articles-updated-at 백필로 created_at 을 채웁니다.
+--
+-- 파티션 테이블로 교체되기 전의 기존 articles 에 추가하며, 새 파티션 테이블에는 V8 에서 같은 컬럼과 인덱스를 추가합니다.
+-- 같은 마이그레이션의 ALTER TABLE 과 함께 실행하므로 CREATE INDEX CONCURRENTLY 대신 일반 인덱스로 생성하며,
+-- 생성 중에는 articles 쓰기가 대기합니다.
+
+ALTER TABLE articles ADD COLUMN IF NOT EXISTS updated_at TIMESTAMPTZ;
+
+CREATE INDEX IF NOT EXISTS idx_articles_updated ON articles (updated_at);
@@ -0,0 +1,15 @@
+-- V5 : 관심사 목록 커서 페이지 조회 인덱스
+--
+-- InterestRepositoryCustomImpl.searchWithCursor 는 정렬 기준(name, subscriber_count, created_at) 뒤에
+-- created_at, id 를 붙여 정렬하고 limit+1 건만 읽습니다. 정렬 순서와 같은 인덱스를 두어
+-- 관심사 테이블 전체를 정렬하지 않고 페이지 크기만큼만 읽도록 합니다. (DESC 는 역방향 스캔)
+-- V2 와 같이 CONCURRENTLY 구문만 두어 트랜잭션 없이 실행합니다.
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_interests_name
+    ON interests (name, created_at, id);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_interests_subscriber
+    ON interests (subscriber_count, created_at, id);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_interests_created
+    ON interests (created_at, id);
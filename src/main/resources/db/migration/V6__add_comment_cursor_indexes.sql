@@ -0,0 +1,17 @@
+-- V6 : 댓글 목록 복합 커서 인덱스
+--
+-- CommentCustomRepositoryImpl 은 (created_at, id), (like_count, id) 순으로 정렬하고
+-- (정렬 값, id) 커서 이후 limit+1 건만 읽습니다. 정렬 순서와 같은 인덱스로 교체하여
+-- 정렬 값이 같은 댓글이 많아도 기사 댓글 전체를 정렬하지 않도록 합니다. (DESC 는 역방향 스캔)
+-- V2 와 같이 CONCURRENTLY 구문만 두어 트랜잭션 없이 실행합니다.
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_comments_article_created_id
+    ON comments (article_id, created_at, id);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_comments_article_like_id
+    ON comments (article_id, like_count, id);
+
+-- 새 인덱스의 선두 컬럼과 같아 대체되는 V2 인덱스
+DROP INDEX CONCURRENTLY IF EXISTS idx_comments_article_created;
+
+DROP INDEX CONCURRENTLY IF EXISTS idx_comments_article_like;
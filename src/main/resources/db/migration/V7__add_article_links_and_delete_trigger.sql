@@ -0,0 +1,107 @@
+-- V7 : 기사 원본 링크 전역 유일성 / 기사 삭제 시 댓글·조회 기록 정리
+--
+-- V3 / V8 에서 articles 를 파티션 테이블로 바꾸면
+--   * uk_article_link 가 (original_link, published_at) 로 바뀌어 발행일시가 다르면 같은 링크를 다시 저장할 수 있고
+--   * comments / article_views 의 articles 외래 키가 없어져, 관심사 삭제로 기사가 연쇄 삭제될 때
+--     댓글과 조회 기록이 남습니다.
+-- 이를 다음과 같이 보완합니다. 파티션 테이블로 교체되기 전에는 기존 articles 테이블에 트리거를 걸고,
+-- 교체 시 articles_partition_swap() (V8) 이 새 테이블에 같은 트리거를 다시 겁니다.
+--   * article_links : 파티션하지 않은 원본 링크 테이블 (original_link 기본 키).
+--                     기사 INSERT 트리거가 링크를 등록하며, 다른 기사가 이미 등록한 링크면 unique_violation 으로 실패합니다.
+--   * 기사 DELETE 트리거 : 삭제된 기사의 링크, 댓글(좋아요는 comment_id 외래 키로 연쇄 삭제), 조회 기록을 삭제합니다.
+--                         관심사 삭제에 따른 외래 키 연쇄 삭제에도 실행됩니다.
+-- 발행일시 변경으로 행이 다른 파티션으로 옮겨지는 UPDATE 는 DELETE + INSERT 트리거로 실행되므로,
+-- 같은 기사 ID 가 남아 있으면 정리하지 않고 링크의 발행일시만 갱신합니다.
+-- 파티션 분리(보관)는 행 삭제가 아니므로 트리거가 실행되지 않으며, 보관하는 기사의 링크, 댓글, 조회 기록은
+-- ArticlePartitionManager 가 분리하는 트랜잭션에서 함께 삭제합니다.
+-- 함수는 생성 시점의 search_path 로 고정하여 세션 스키마 설정과 관계없이 같은 스키마의 테이블을 사용합니다.
+
+CREATE TABLE IF NOT EXISTS article_links
+(
+    original_link VARCHAR(500) NOT NULL,
+    article_id    UUID         NOT NULL,
+    published_at  TIMESTAMPTZ  NOT NULL,
+    CONSTRAINT pk_article_links PRIMARY KEY (original_link)
+);
+
+-- 기존 기사 링크 등록 (이미 중복 저장된 링크는 가장 먼저 발행된 기사만 등록하고 나머지 행은 그대로 둠)
+INSERT INTO article_links (original_link, article_id, published_at)
+SELECT DISTINCT ON (original_link) original_link, id, published_at
+FROM articles
+ORDER BY original_link, published_at, id
+ON CONFLICT DO NOTHING;
+
+CREATE OR REPLACE FUNCTION article_links_register() RETURNS TRIGGER
+    LANGUAGE plpgsql
+    SET search_path FROM CURRENT
+AS $$
+BEGIN
+    INSERT INTO article_links (original_link, article_id, published_at)
+    VALUES (NEW.original_link, NEW.id, NEW.published_at)
+    ON CONFLICT (original_link) DO NOTHING;
+
+    IF NOT FOUND THEN
+        -- 파티션 간 이동한 같은 기사면 발행일시만 갱신, 다른 기사의 링크면 중복
+        UPDATE article_links
+           SET published_at = NEW.published_at
+         WHERE original_link = NEW.original_link
+           AND article_id = NEW.id;
+        IF NOT FOUND THEN
+            RAISE EXCEPTION USING
+                ERRCODE = 'unique_violation',
+                CONSTRAINT = 'pk_article_links',
+                MESSAGE = format('이미 존재하는 기사 원본 링크입니다: %s', NEW.original_link);
+        END IF;
+    END IF;
+    RETURN NULL;
+END;
+$$;
+
+CREATE OR REPLACE FUNCTION article_links_update() RETURNS TRIGGER
+    LANGUAGE plpgsql
+    SET search_path FROM CURRENT
+AS $$
+BEGIN
+    UPDATE article_links
+       SET original_link = NEW.original_link,
+           published_at  = NEW.published_at
+     WHERE original_link = OLD.original_link
+       AND article_id = OLD.id;
+    RETURN NULL;
+END;
+$$;
+
+CREATE OR REPLACE FUNCTION articles_cleanup_deleted() RETURNS TRIGGER
+    LANGUAGE plpgsql
+    SET search_path FROM CURRENT
+AS $$
+BEGIN
+    -- 파티션 간 이동(DELETE + INSERT)이면 기사가 남아 있으므로 정리하지 않음
+    IF EXISTS (SELECT 1 FROM articles WHERE id = OLD.id) THEN
+        RETURN NULL;
+    END IF;
+
+    DELETE FROM article_links WHERE original_link = OLD.original_link AND article_id = OLD.id;
+    DELETE FROM comments WHERE article_id = OLD.id;
+    DELETE FROM article_views WHERE article_id = OLD.id;
+    RETURN NULL;
+END;
+$$;
+
+-- 파티션 부모에 만든 행 트리거는 기존/이후 생성되는 모든 파티션에 적용됨
+DROP TRIGGER IF EXISTS trg_articles_register_link ON articles;
+CREATE TRIGGER trg_articles_register_link
+    AFTER INSERT ON articles
+    FOR EACH ROW EXECUTE FUNCTION article_links_register();
+
+DROP TRIGGER IF EXISTS trg_articles_update_link ON articles;
+CREATE TRIGGER trg_articles_update_link
+    AFTER UPDATE OF original_link ON articles
+    FOR EACH ROW
+    WHEN (OLD.original_link IS DISTINCT FROM NEW.original_link)
+    EXECUTE FUNCTION article_links_update();
+
+DROP TRIGGER IF EXISTS trg_articles_cleanup_deleted ON articles;
+CREATE TRIGGER trg_articles_cleanup_deleted
+    AFTER DELETE ON articles
+    FOR EACH ROW EXECUTE FUNCTION articles_cleanup_deleted();
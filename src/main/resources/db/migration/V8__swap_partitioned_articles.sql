@@ -0,0 +1,107 @@
+-- V8 : articles / article_views 월 단위 범위 파티셔닝 (2단계 : 교체)
+--
+-- V3 에서 만든 articles_partitioned / article_views_partitioned 를 기존 테이블과 교체하는 함수를 만듭니다.
+-- 교체는 articles-partition 백필(ArticlePartitionBackfill)이 기존 행 복사를 마친 뒤 호출하며,
+-- 기존 데이터가 없는 DB 는 이 마이그레이션에서 바로 교체합니다.
+--
+-- articles(id) 단독 유니크가 없는 파티션 테이블은 외래 키로 참조할 수 없으므로, 교체 시
+-- comments / article_views 의 articles 외래 키를 다음 트리거로 대신합니다.
+--   * 참조 확인 트리거 : 댓글 / 조회 기록 INSERT 시 기사가 없으면 foreign_key_violation 으로 실패합니다.
+--                       외래 키와 같이 기사 행을 KEY SHARE 로 잠가, 확인 직후 기사가 삭제되어 고아 행이 남지 않도록 합니다.
+--   * 삭제 정리 트리거 : V7 의 articles_cleanup_deleted 를 새 테이블에 다시 겁니다.
+-- 파티션 분리(보관) 시 댓글 / 조회 기록 / 링크 정리는 ArticlePartitionManager 가 수행합니다.
+
+-- 1. V4 에서 기존 테이블에 추가한 updated_at 을 새 테이블에도 추가
+ALTER TABLE articles_partitioned ADD COLUMN IF NOT EXISTS updated_at TIMESTAMPTZ;
+CREATE INDEX IF NOT EXISTS idx_articles_partitioned_updated ON articles_partitioned (updated_at);
+
+-- 2. 댓글 / 조회 기록의 기사 참조 확인
+CREATE OR REPLACE FUNCTION article_reference_check() RETURNS TRIGGER
+    LANGUAGE plpgsql
+    SET search_path FROM CURRENT
+AS $$
+BEGIN
+    PERFORM 1 FROM articles WHERE id = NEW.article_id FOR KEY SHARE;
+    IF NOT FOUND THEN
+        RAISE EXCEPTION USING
+            ERRCODE = 'foreign_key_violation',
+            MESSAGE = format('존재하지 않는 기사입니다: %s', NEW.article_id);
+    END IF;
+    RETURN NULL;
+END;
+$$;
+
+-- 3. 교체 함수
+--    백필 Job 이 실패 후 재실행되면 다시 호출될 수 있으므로 이미 교체되었으면 아무것도 하지 않습니다.
+--    기존 테이블을 잠근 뒤 행 수로 복사 완료를 확인하며, 잠금 대기는 5초로 제한합니다.
+CREATE OR REPLACE FUNCTION articles_partition_swap() RETURNS VOID
+    LANGUAGE plpgsql
+    SET search_path FROM CURRENT
+AS $$
+BEGIN
+    IF to_regclass('articles_partitioned') IS NULL THEN
+        RETURN;
+    END IF;
+
+    PERFORM set_config('lock_timeout', '5s', true);
+    LOCK TABLE articles, article_views IN ACCESS EXCLUSIVE MODE;
+
+    IF (SELECT count(*) FROM articles) <> (SELECT count(*) FROM articles_partitioned)
+        OR (SELECT count(*) FROM article_views) <> (SELECT count(*) FROM article_views_partitioned) THEN
+        RAISE EXCEPTION '기존 테이블 복사가 끝나지 않아 파티션 테이블로 교체할 수 없습니다.';
+    END IF;
+
+    -- 기존 테이블 삭제 (동기화 트리거, V7 트리거도 함께 삭제됨)
+    ALTER TABLE comments DROP CONSTRAINT IF EXISTS comments_article_id_fkey;
+    DROP TABLE article_views;
+    DROP TABLE articles;
+    DROP FUNCTION partition_sync();
+
+    -- 새 테이블 / 제약 / 인덱스를 원래 이름으로 변경
+    ALTER TABLE articles_partitioned RENAME TO articles;
+    ALTER TABLE articles RENAME CONSTRAINT articles_partitioned_pkey TO articles_pkey;
+    ALTER TABLE articles RENAME CONSTRAINT uk_articles_partitioned_link TO uk_article_link;
+    ALTER TABLE articles RENAME CONSTRAINT articles_partitioned_interest_id_fkey TO articles_interest_id_fkey;
+    ALTER INDEX idx_articles_partitioned_interest_published RENAME TO idx_articles_interest_published;
+    ALTER INDEX idx_articles_partitioned_published RENAME TO idx_articles_published;
+    ALTER INDEX idx_articles_partitioned_updated RENAME TO idx_articles_updated;
+
+    ALTER TABLE article_views_partitioned RENAME TO article_views;
+    ALTER TABLE article_views RENAME CONSTRAINT article_views_partitioned_pkey TO article_views_pkey;
+    ALTER TABLE article_views RENAME CONSTRAINT article_views_partitioned_user_id_fkey TO article_views_user_id_fkey;
+    ALTER INDEX idx_article_views_partitioned_user_article RENAME TO idx_article_views_user_article;
+    ALTER INDEX idx_article_views_partitioned_article RENAME TO idx_article_views_article;
+
+    -- V7 트리거를 새 테이블에 다시 생성 (파티션 부모의 행 트리거는 모든 파티션에 적용됨)
+    CREATE TRIGGER trg_articles_register_link
+        AFTER INSERT ON articles
+        FOR EACH ROW EXECUTE FUNCTION article_links_register();
+
+    CREATE TRIGGER trg_articles_update_link
+        AFTER UPDATE OF original_link ON articles
+        FOR EACH ROW
+        WHEN (OLD.original_link IS DISTINCT FROM NEW.original_link)
+        EXECUTE FUNCTION article_links_update();
+
+    CREATE TRIGGER trg_articles_cleanup_deleted
+        AFTER DELETE ON articles
+        FOR EACH ROW EXECUTE FUNCTION articles_cleanup_deleted();
+
+    -- 외래 키 대신 기사 참조 확인
+    CREATE TRIGGER trg_comments_article_reference
+        AFTER INSERT OR UPDATE OF article_id ON comments
+        FOR EACH ROW EXECUTE FUNCTION article_reference_check();
+
+    CREATE TRIGGER trg_article_views_article_reference
+        AFTER INSERT OR UPDATE OF article_id ON article_views
+        FOR EACH ROW EXECUTE FUNCTION article_reference_check();
+END;
+$$;
+
+-- 4. 기존 데이터가 없으면 바로 교체
+DO $$
+BEGIN
+    IF NOT EXISTS (SELECT 1 FROM articles) AND NOT EXISTS (SELECT 1 FROM article_views) THEN
+        PERFORM articles_partition_swap();
+    END IF;
+END $$;
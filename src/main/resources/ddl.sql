@@ -1,3 +1,6 @@
+-- 로컬 개발용 초기화 스크립트 (모든 테이블을 DROP 후 재생성)
+-- 운영 DB 스키마 변경은 db/migration 의 버전 파일로 적용하며, 이 파일과 내용을 함께 맞춰 둡니다.
+
 -- monewping 스키마 생성 및 경로 설정
 CREATE SCHEMA IF NOT EXISTS monewping;
 
@@ -8,6 +11,7 @@ DROP TABLE IF EXISTS comment_likes CASCADE;
 DROP TABLE IF EXISTS comments CASCADE;
 DROP TABLE IF EXISTS article_views CASCADE;
 DROP TABLE IF EXISTS articles CASCADE;
+DROP TABLE IF EXISTS article_links CASCADE;
 DROP TABLE IF EXISTS keywords CASCADE;
 DROP TABLE IF EXISTS interest_subscriptions CASCADE;
 DROP TABLE IF EXISTS interests CASCADE;
@@ -80,11 +84,11 @@ CREATE TABLE interest_subscriptions
     CONSTRAINT uk_interest_user UNIQUE (interest_id, user_id) );
 
 
--- articles Table
+-- articles Table (published_at 기준 월별 범위 파티션, 로컬은 DEFAULT 파티션만 사용)
 CREATE TABLE articles
 (
-    -- Primary Key
-    id            UUID PRIMARY KEY,
+    -- Primary Key (파티션 키 포함)
+    id            UUID         NOT NULL,
 
     -- Columns
     source        VARCHAR(30)  NOT NULL,
@@ -96,30 +100,47 @@ CREATE TABLE articles
     view_count    BIGINT       NOT NULL,
     is_deleted    BOOLEAN DEFAULT FALSE,
     created_at    TIMESTAMPTZ  NOT NULL,
+    updated_at    TIMESTAMPTZ,
+    PRIMARY KEY (id, published_at),
 
-    -- Unique Key
-    CONSTRAINT uk_article_link UNIQUE (original_link),
+    -- Unique Key (파티션 테이블의 유니크 제약은 파티션 키를 포함해야 함, 링크 전역 유일성은 article_links 가 보장)
+    CONSTRAINT uk_article_link UNIQUE (original_link, published_at),
 
     -- Foreign Key
     interest_id   UUID         NOT NULL,
     FOREIGN KEY (interest_id) REFERENCES interests (id) ON DELETE CASCADE
+) PARTITION BY RANGE (published_at);
+
+CREATE TABLE articles_default PARTITION OF articles DEFAULT;
+
+-- article_links Table (파티션하지 않은 원본 링크 목록, 기사 트리거가 관리)
+-- 발행일시가 달라도 같은 원본 링크의 기사는 하나만 저장되도록 보장
+CREATE TABLE article_links
+(
+    original_link VARCHAR(500) NOT NULL,
+    article_id    UUID         NOT NULL,
+    published_at  TIMESTAMPTZ  NOT NULL,
+    CONSTRAINT pk_article_links PRIMARY KEY (original_link)
 );
 
--- article_views Table
+-- article_views Table (viewed_at 기준 월별 범위 파티션)
+-- articles(id) 단독 유니크가 없으므로 article_id 외래 키는 두지 않음
 CREATE TABLE article_views
 (
-    -- Primary Key
-    id UUID PRIMARY KEY,
+    -- Primary Key (파티션 키 포함)
+    id UUID NOT NULL,
 
     -- Columns
     viewed_at TIMESTAMPTZ NOT NULL,
+    PRIMARY KEY (id, viewed_at),
 
     -- Foreign keys
     user_id    UUID        NOT NULL,
     article_id UUID        NOT NULL,
-    FOREIGN KEY (user_id) REFERENCES users (id) ON DELETE CASCADE,
-    FOREIGN KEY (article_id) REFERENCES articles (id) ON DELETE CASCADE
-);
+    FOREIGN KEY (user_id) REFERENCES users (id) ON DELETE CASCADE
+) PARTITION BY RANGE (viewed_at);
+
+CREATE TABLE article_views_default PARTITION OF article_views DEFAULT;
 
 
 -- comments Table
@@ -140,7 +161,6 @@ CREATE TABLE comments
     -- Foreign Keys
     article_id    UUID         NOT NULL,
     user_id       UUID         NOT NULL,
-    FOREIGN KEY (article_id) REFERENCES articles (id) ON DELETE CASCADE,
     FOREIGN KEY (user_id) REFERENCES users (id) ON DELETE CASCADE
 );
 
@@ -158,7 +178,10 @@ CREATE TABLE comment_likes
     comment_id UUID NOT NULL,
     liked_id UUID NOT NULL,
     FOREIGN KEY (comment_id) REFERENCES comments (id) ON DELETE CASCADE,
-    FOREIGN KEY (liked_id) REFERENCES users (id) ON DELETE CASCADE
+    FOREIGN KEY (liked_id) REFERENCES users (id) ON DELETE CASCADE,
+
+    -- Unique Constraint (중복 좋아요 방지)
+    CONSTRAINT uk_comment_like UNIQUE (liked_id, comment_id)
 );
 
 
@@ -185,3 +208,137 @@ CREATE TABLE notifications
     CONSTRAINT chk_notification_resource_type
         CHECK (resource_type IN ('Article', 'Comment'))
 );
+
+
+-- ============================================================
+-- Article Triggers (V7 마이그레이션과 동일)
+-- articles 를 참조하는 외래 키를 둘 수 없으므로, 기사 링크 등록과 삭제된 기사의 댓글/조회 기록 정리를 트리거로 수행합니다.
+-- ============================================================
+
+CREATE OR REPLACE FUNCTION article_links_register() RETURNS TRIGGER
+    LANGUAGE plpgsql
+    SET search_path FROM CURRENT
+AS $$
+BEGIN
+    INSERT INTO article_links (original_link, article_id, published_at)
+    VALUES (NEW.original_link, NEW.id, NEW.published_at)
+    ON CONFLICT (original_link) DO NOTHING;
+
+    IF NOT FOUND THEN
+        -- 파티션 간 이동한 같은 기사면 발행일시만 갱신, 다른 기사의 링크면 중복
+        UPDATE article_links
+           SET published_at = NEW.published_at
+         WHERE original_link = NEW.original_link
+           AND article_id = NEW.id;
+        IF NOT FOUND THEN
+            RAISE EXCEPTION USING
+                ERRCODE = 'unique_violation',
+                CONSTRAINT = 'pk_article_links',
+                MESSAGE = format('이미 존재하는 기사 원본 링크입니다: %s', NEW.original_link);
+        END IF;
+    END IF;
+    RETURN NULL;
+END;
+$$;
+
+CREATE OR REPLACE FUNCTION article_links_update() RETURNS TRIGGER
+    LANGUAGE plpgsql
+    SET search_path FROM CURRENT
+AS $$
+BEGIN
+    UPDATE article_links
+       SET original_link = NEW.original_link,
+           published_at  = NEW.published_at
+     WHERE original_link = OLD.original_link
+       AND article_id = OLD.id;
+    RETURN NULL;
+END;
+$$;
+
+CREATE OR REPLACE FUNCTION articles_cleanup_deleted() RETURNS TRIGGER
+    LANGUAGE plpgsql
+    SET search_path FROM CURRENT
+AS $$
+BEGIN
+    -- 파티션 간 이동(DELETE + INSERT)이면 기사가 남아 있으므로 정리하지 않음
+    IF EXISTS (SELECT 1 FROM articles WHERE id = OLD.id) THEN
+        RETURN NULL;
+    END IF;
+
+    DELETE FROM article_links WHERE original_link = OLD.original_link AND article_id = OLD.id;
+    DELETE FROM comments WHERE article_id = OLD.id;
+    DELETE FROM article_views WHERE article_id = OLD.id;
+    RETURN NULL;
+END;
+$$;
+
+-- 파티션 부모에 만든 행 트리거는 기존/이후 생성되는 모든 파티션에 적용됨
+CREATE TRIGGER trg_articles_register_link
+    AFTER INSERT ON articles
+    FOR EACH ROW EXECUTE FUNCTION article_links_register();
+
+CREATE TRIGGER trg_articles_update_link
+    AFTER UPDATE OF original_link ON articles
+    FOR EACH ROW
+    WHEN (OLD.original_link IS DISTINCT FROM NEW.original_link)
+    EXECUTE FUNCTION article_links_update();
+
+CREATE TRIGGER trg_articles_cleanup_deleted
+    AFTER DELETE ON articles
+    FOR EACH ROW EXECUTE FUNCTION articles_cleanup_deleted();
+
+
+-- ============================================================
+-- Secondary Indexes
+-- 각 인덱스는 주석에 적힌 Repository 조회 조건과 정렬 순서에 맞춰 구성합니다.
+-- 엔티티의 @Table(indexes = ...) 선언과 이름·컬럼을 동일하게 유지해야 합니다.
+-- ============================================================
+
+-- interests : 정렬 기준별 커서 페이지 조회 (InterestRepositoryCustomImpl.searchWithCursor)
+CREATE INDEX idx_interests_name ON interests (name, created_at, id);
+CREATE INDEX idx_interests_subscriber ON interests (subscriber_count, created_at, id);
+CREATE INDEX idx_interests_created ON interests (created_at, id);
+
+-- keywords : KeywordRepository.findNamesByInterestId, 관심사 페이지의 키워드 IN 조회
+CREATE INDEX idx_keywords_interest ON keywords (interest_id);
+
+-- interest_subscriptions : SubscriptionRepository.findInterestIdsByUserId, 사용자 삭제
+-- (interest_id 선두 조회는 uk_interest_user 가 처리)
+CREATE INDEX idx_interest_subscriptions_user ON interest_subscriptions (user_id);
+
+-- articles : 관심사 필터 + 발행일 정렬 목록 조회 (ArticlesRepositoryImpl.searchArticles)
+CREATE INDEX idx_articles_interest_published ON articles (interest_id, published_at);
+
+-- articles : 발행일 정렬 목록 조회, 백업 기간 조회 (findByPublishedAtBetweenAndDeletedFalse)
+CREATE INDEX idx_articles_published ON articles (published_at);
+
+-- articles : 시간별 변경분 백업 (streamByUpdatedAtRange)
+CREATE INDEX idx_articles_updated ON articles (updated_at);
+
+-- article_views : findByViewedByAndArticleId, findAllByViewedByAndArticleIdIn
+CREATE INDEX idx_article_views_user_article ON article_views (user_id, article_id);
+
+-- article_views : 기사 물리 삭제 시 연쇄 삭제
+CREATE INDEX idx_article_views_article ON article_views (article_id);
+
+-- comments : 기사별 댓글 목록(작성일, id 커서), countByArticleId (CommentCustomRepositoryImpl.findCommentsByCreatedAtCursor)
+CREATE INDEX idx_comments_article_created_id ON comments (article_id, created_at, id);
+
+-- comments : 기사별 댓글 목록(좋아요 수, id 커서) (CommentCustomRepositoryImpl.findCommentsByLikeCountCursor)
+CREATE INDEX idx_comments_article_like_id ON comments (article_id, like_count, id);
+
+-- comments : 사용자 삭제 시 작성 댓글 조회
+CREATE INDEX idx_comments_user ON comments (user_id);
+
+-- comment_likes : 댓글 삭제 시 연쇄 삭제, 댓글별 좋아요 조회
+-- (liked_id 선두 조회는 uk_comment_like 가 처리)
+CREATE INDEX idx_comment_likes_comment ON comment_likes (comment_id);
+
+-- notifications : 사용자별 미확인 알림 목록 / 개수 조회
+CREATE INDEX idx_notifications_user_confirmed_created ON notifications (user_id, confirmed, created_at);
+
+-- notifications : 기사 삭제 시 리소스 기준 알림 비활성화
+CREATE INDEX idx_notifications_resource_created ON notifications (resource_id, created_at);
+
+-- notifications : 확인된 알림 정리 배치 (findAllByConfirmedIsTrueAndUpdatedAtBefore)
+CREATE INDEX idx_notifications_confirmed_updated ON notifications (confirmed, updated_at);
@@ -214,4 +214,4 @@ export default theme;`}function Sm(e={},...t){const{breakpoints:r,mixins:o={},sp
 `+l.map(T1).join(`
 `):" "+T1(l[0]):"as no adapter specified";throw new rt("There is no suitable adapter to dispatch the request "+u,"ERR_NOT_SUPPORT")}return o},adapters:Lm};function lm(e){if(e.cancelToken&&e.cancelToken.throwIfRequested(),e.signal&&e.signal.aborted)throw new js(null,e)}function E1(e){return lm(e),e.headers=Zn.from(e.headers),e.data=sm.call(e,e.transformRequest),["post","put","patch"].indexOf(e.method)!==-1&&e.headers.setContentType("application/x-www-form-urlencoded",!1),iw.getAdapter(e.adapter||Uc.adapter)(e).then(function(o){return lm(e),o.data=sm.call(e,e.transformResponse,o),o.headers=Zn.from(o.headers),o},function(o){return ew(o)||(lm(e),o&&o.response&&(o.response.data=sm.call(e,e.transformResponse,o.response),o.response.headers=Zn.from(o.response.headers))),Promise.reject(o)})}const sw="1.8.4",Cf={};["object","boolean","number","function","string","symbol"].forEach((e,t)=>{Cf[e]=function(o){return typeof o===e||"a"+(t<1?"n ":" ")+e}});const R1={};Cf.transitional=function(t,r,o){function i(l,u){return"[Axios v"+sw+"] Transitional option '"+l+"'"+u+(o?". "+o:"")}return(l,u,d)=>{if(t===!1)throw new rt(i(u," has been removed"+(r?" in "+r:"")),rt.ERR_DEPRECATED);return r&&!R1[u]&&(R1[u]=!0,console.warn(i(u," has been deprecated since v"+r+" and will be removed in the near future"))),t?t(l,u,d):!0}};Cf.spelling=function(t){return(r,o)=>(console.warn(`${o} is likely a misspelling of ${t}`),!0)};function q3(e,t,r){if(typeof e!="object")throw new rt("options must be an object",rt.ERR_BAD_OPTION_VALUE);const o=Object.keys(e);let i=o.length;for(;i-- >0;){const l=o[i],u=t[l];if(u){const d=e[l],p=d===void 0||u(d,l,e);if(p!==!0)throw new rt("option "+l+" must be "+p,rt.ERR_BAD_OPTION_VALUE);continue}if(r!==!0)throw new rt("Unknown option "+l,rt.ERR_BAD_OPTION)}}const Td={assertOptions:q3,validators:Cf},Yr=Td.validators;let Qo=class{constructor(t){this.defaults=t,this.interceptors={request:new y1,response:new y1}}async request(t,r){try{return await this._request(t,r)}catch(o){if(o instanceof Error){let i={};Error.captureStackTrace?Error.captureStackTrace(i):i=new Error;const l=i.stack?i.stack.replace(/^.+\n/,""):"";try{o.stack?l&&!String(o.stack).endsWith(l.replace(/^.+\n.+\n/,""))&&(o.stack+=`
 `+l):o.stack=l}catch{}}throw o}}_request(t,r){typeof t=="string"?(r=r||{},r.url=t):r=t||{},r=ri(this.defaults,r);const{transitional:o,paramsSerializer:i,headers:l}=r;o!==void 0&&Td.assertOptions(o,{silentJSONParsing:Yr.transitional(Yr.boolean),forcedJSONParsing:Yr.transitional(Yr.boolean),clarifyTimeoutError:Yr.transitional(Yr.boolean)},!1),i!=null&&(ae.isFunction(i)?r.paramsSerializer={serialize:i}:Td.assertOptions(i,{encode:Yr.function,serialize:Yr.function},!0)),r.allowAbsoluteUrls!==void 0||(this.defaults.allowAbsoluteUrls!==void 0?r.allowAbsoluteUrls=this.defaults.allowAbsoluteUrls:r.allowAbsoluteUrls=!0),Td.assertOptions(r,{baseUrl:Yr.spelling("baseURL"),withXsrfToken:Yr.spelling("withXSRFToken")},!0),r.method=(r.method||this.defaults.method||"get").toLowerCase();let u=l&&ae.merge(l.common,l[r.method]);l&&ae.forEach(["delete","get","head","post","put","patch","common"],S=>{delete l[S]}),r.headers=Zn.concat(u,l);const d=[];let p=!0;this.interceptors.request.forEach(function(C){typeof C.runWhen=="function"&&C.runWhen(r)===!1||(p=p&&C.synchronous,d.unshift(C.fulfilled,C.rejected))});const h=[];this.interceptors.response.forEach(function(C){h.push(C.fulfilled,C.rejected)});let g,v=0,x;if(!p){const S=[E1.bind(this),void 0];for(S.unshift.apply(S,d),S.push.apply(S,h),x=S.length,g=Promise.resolve(r);v<x;)g=g.then(S[v++],S[v++]);return g}x=d.length;let T=r;for(v=0;v<x;){const S=d[v++],C=d[v++];try{T=S(T)}catch(E){C.call(this,E);break}}try{g=E1.call(this,T)}catch(S){return Promise.reject(S)}for(v=0,x=h.length;v<x;)g=g.then(h[v++],h[v++]);return g}getUri(t){t=ri(this.defaults,t);const r=nw(t.baseURL,t.url,t.allowAbsoluteUrls);return KC(r,t.params,t.paramsSerializer)}};ae.forEach(["delete","get","head","options"],function(t){Qo.prototype[t]=function(r,o){return this.request(ri(o||{},{method:t,url:r,data:(o||{}).data}))}});ae.forEach(["post","put","patch"],function(t){function r(o){return function(l,u,d){return this.request(ri(d||{},{method:t,headers:o?{"Content-Type":"multipart/form-data"}:{},url:l,data:u}))}}Qo.prototype[t]=r(),Qo.prototype[t+"Form"]=r(!0)});let W3=class lw{constructor(t){if(typeof t!="function")throw new TypeError("executor must be a function.");let r;this.promise=new Promise(function(l){r=l});const o=this;this.promise.then(i=>{if(!o._listeners)return;let l=o._listeners.length;for(;l-- >0;)o._listeners[l](i);o._listeners=null}),this.promise.then=i=>{let l;const u=new Promise(d=>{o.subscribe(d),l=d}).then(i);return u.cancel=function(){o.unsubscribe(l)},u},t(function(l,u,d){o.reason||(o.reason=new js(l,u,d),r(o.reason))})}throwIfRequested(){if(this.reason)throw this.reason}subscribe(t){if(this.reason){t(this.reason);return}this._listeners?this._listeners.push(t):this._listeners=[t]}unsubscribe(t){if(!this._listeners)return;const r=this._listeners.indexOf(t);r!==-1&&this._listeners.splice(r,1)}toAbortSignal(){const t=new AbortController,r=o=>{t.abort(o)};return this.subscribe(r),t.signal.unsubscribe=()=>this.unsubscribe(r),t.signal}static source(){let t;return{token:new lw(function(i){t=i}),cancel:t}}};function Y3(e){return function(r){return e.apply(null,r)}}function G3(e){return ae.isObject(e)&&e.isAxiosError===!0}const Pm={Continue:100,SwitchingProtocols:101,Processing:102,EarlyHints:103,Ok:200,Created:201,Accepted:202,NonAuthoritativeInformation:203,NoContent:204,ResetContent:205,PartialContent:206,MultiStatus:207,AlreadyReported:208,ImUsed:226,MultipleChoices:300,MovedPermanently:301,Found:302,SeeOther:303,NotModified:304,UseProxy:305,Unused:306,TemporaryRedirect:307,PermanentRedirect:308,BadRequest:400,Unauthorized:401,PaymentRequired:402,Forbidden:403,NotFound:404,MethodNotAllowed:405,NotAcceptable:406,ProxyAuthenticationRequired:407,RequestTimeout:408,Conflict:409,Gone:410,LengthRequired:411,PreconditionFailed:412,PayloadTooLarge:413,UriTooLong:414,UnsupportedMediaType:415,RangeNotSatisfiable:416,ExpectationFailed:417,ImATeapot:418,MisdirectedRequest:421,UnprocessableEntity:422,Locked:423,FailedDependency:424,TooEarly:425,UpgradeRequired:426,PreconditionRequired:428,TooManyRequests:429,RequestHeaderFieldsTooLarge:431,UnavailableForLegalReasons:451,InternalServerError:500,NotImplemented:501,BadGateway:502,ServiceUnavailable:503,GatewayTimeout:504,HttpVersionNotSupported:505,VariantAlsoNegotiates:506,InsufficientStorage:507,LoopDetected:508,NotExtended:510,NetworkAuthenticationRequired:511};Object.entries(Pm).forEach(([e,t])=>{Pm[t]=e});function cw(e){const t=new Qo(e),r=UC(Qo.prototype.request,t);return ae.extend(r,Qo.prototype,t,{allOwnKeys:!0}),ae.extend(r,t,null,{allOwnKeys:!0}),r.create=function(i){return cw(ri(e,i))},r}const cn=cw(Uc);cn.Axios=Qo;cn.CanceledError=js;cn.CancelToken=W3;cn.isCancel=ew;cn.VERSION=sw;cn.toFormData=xf;cn.AxiosError=rt;cn.Cancel=cn.CanceledError;cn.all=function(t){return Promise.all(t)};cn.spread=Y3;cn.isAxiosError=G3;cn.mergeConfig=ri;cn.AxiosHeaders=Zn;cn.formToJSON=e=>JC(ae.isHTMLForm(e)?new FormData(e):e);cn.getAdapter=iw.getAdapter;cn.HttpStatusCode=Pm;cn.default=cn;const{Axios:S6,AxiosError:C6,CanceledError:w6,isCancel:T6,CancelToken:E6,VERSION:R6,all:k6,Cancel:A6,isAxiosError:_6,spread:O6,toFormData:M6,AxiosHeaders:j6,HttpStatusCode:D6,formToJSON:N6,getAdapter:$6,mergeConfig:z6}=cn,Z3="",$t=cn.create({baseURL:Z3,headers:{"Content-Type":"application/json"}});$t.interceptors.request.use(e=>{const t=sessionStorage.getItem("user");if(t)try{const r=JSON.parse(t);e.headers["Monew-Request-User-ID"]=r.id}catch(r){console.error("Failed to parse user data from sessionStorage:",r)}return e});$t.interceptors.response.use(e=>e,e=>{let t;return e.response?t={timestamp:new Date().toISOString(),code:e.response.data.code||"UNKNOWN_ERROR",message:e.response.data.message||"알 수 없는 오류가 발생했습니다.",details:e.response.data.details||{},exceptionType:e.response.data.exceptionType||"UnknownException",status:e.response.status}:t={timestamp:new Date().toISOString(),code:"NETWORK_ERROR",message:"네트워크 연결에 실패했습니다.",details:{},exceptionType:"NetworkException",status:0},console.log("errorResponse",t),Promise.reject(t)});const X3=async e=>{const{data:t}=await $t.post("/api/users",e);return t},K3=async e=>{const{data:t}=await $t.post("/api/users/login",e);return t},Q3=async(e,t)=>{const{data:r}=await $t.patch(`/api/users/${e}`,t);return r},J3=async e=>{await $t.delete(`/api/users/${e}`)},e$=()=>{const e=sessionStorage.getItem("user");try{return e?JSON.parse(e):null}catch(t){return console.error("유저 정보 파싱 실패:",t),null}},Ha=ci((e,t)=>{const r=e$();return{user:r,isAuthenticated:r!==null,register:async o=>{const i=await X3(o);t().setUser(i)},login:async o=>{const i=await K3(o);t().setUser(i)},updateUser:async(o,i)=>{const l=await Q3(o,i);t().setUser(l)},deleteUser:async o=>{await J3(o),t().logout()},logout:()=>{sessionStorage.removeItem("user"),t().setUser(null)},clear:()=>{t().setUser(null)},setUser:o=>{o?sessionStorage.setItem("user",JSON.stringify(o)):sessionStorage.removeItem("user"),e({user:o,isAuthenticated:o!==null})}}}),k1=async e=>{const{data:t}=await $t.get("/api/notifications",{params:e});return t},t$=async e=>{await $t.patch(`/api/notifications/${e}`)},n$=async()=>{await $t.patch("/api/notifications")},cm={direction:"ASC",limit:50},uw=ci((e,t)=>{let r=null;const o=()=>{if(r)return;const l=async()=>{var x;if(!((x=Ha.getState().user)==null?void 0:x.id)){i();return}const{pollingCursor:d,hasNext:p,searchNotifications:h}=t(),{totalElements:g,content:v}=await k1({...cm,cursor:d,after:d});e({totalElements:g}),v.length>0&&(p||h(),e({pollingCursor:v[v.length-1].createdAt}))};r=window.setInterval(l,1e4)},i=()=>{r&&(window.clearInterval(r),r=null)};return{notifications:[],isLoading:!1,error:null,params:cm,totalElements:0,hasNext:!1,pollingCursor:new Date().toISOString(),searchNotifications:async()=>{if(!t().isLoading){e({isLoading:!0,error:null});try{const{params:l,notifications:u}=t(),{content:d,nextCursor:p,nextAfter:h,size:g,totalElements:v,hasNext:x}=await k1(l),T=u.length>0?u[u.length-1].createdAt:void 0,S=T?[...u,...d.filter(A=>A.createdAt>T)]:d;let C=p,E=h;if(p==null&&d.length>0){const{createdAt:A}=d[d.length-1];C=A,E=A}e({notifications:S,isLoading:!1,params:{...l,cursor:C,after:E,limit:g},totalElements:v,hasNext:x})}catch(l){e({error:l,isLoading:!1})}}},fetchMoreNotifications:async()=>{const{hasNext:l,searchNotifications:u}=t();l&&u()},confirmNotification:async l=>{e({isLoading:!0,error:null});try{await t$(l);const{notifications:u}=t();e({notifications:u.filter(d=>d.id!==l),totalElements:t().totalElements-1,isLoading:!1})}catch(u){e({error:u,isLoading:!1})}},confirmAllNotifications:async()=>{e({isLoading:!0,error:null});try{await n$(),t().clear(),t().searchNotifications()}catch(l){e({error:l,isLoading:!1})}},clear:()=>{e({notifications:[],params:cm,error:null,isLoading:!1})},startPolling:o,stopPolling:i}}),dw=6048e5,r$=864e5,A1=Symbol.for("constructDateFrom");function bo(e,t){return typeof e=="function"?e(t):e&&typeof e=="object"&&A1 in e?e[A1](t):e instanceof Date?new e.constructor(t):new Date(t)}function Lr(e,t){return bo(t||e,e)}let a$={};function wf(){return a$}function uc(e,t){var d,p,h,g;const r=wf(),o=(t==null?void 0:t.weekStartsOn)??((p=(d=t==null?void 0:t.locale)==null?void 0:d.options)==null?void 0:p.weekStartsOn)??r.weekStartsOn??((g=(h=r.locale)==null?void 0:h.options)==null?void 0:g.weekStartsOn)??0,i=Lr(e,t==null?void 0:t.in),l=i.getDay(),u=(l<o?7:0)+l-o;return i.setDate(i.getDate()-u),i.setHours(0,0,0,0),i}function Ld(e,t){return uc(e,{...t,weekStartsOn:1})}function fw(e,t){const r=Lr(e,t==null?void 0:t.in),o=r.getFullYear(),i=bo(r,0);i.setFullYear(o+1,0,4),i.setHours(0,0,0,0);const l=Ld(i),u=bo(r,0);u.setFullYear(o,0,4),u.setHours(0,0,0,0);const d=Ld(u);return r.getTime()>=l.getTime()?o+1:r.getTime()>=d.getTime()?o:o-1}function _1(e){const t=Lr(e),r=new Date(Date.UTC(t.getFullYear(),t.getMonth(),t.getDate(),t.getHours(),t.getMinutes(),t.getSeconds(),t.getMilliseconds()));return r.setUTCFullYear(t.getFullYear()),+e-+r}function o$(e,...t){const r=bo.bind(null,t.find(o=>typeof o=="object"));return t.map(r)}function O1(e,t){const r=Lr(e,t==null?void 0:t.in);return r.setHours(0,0,0,0),r}function i$(e,t,r){const[o,i]=o$(r==null?void 0:r.in,e,t),l=O1(o),u=O1(i),d=+l-_1(l),p=+u-_1(u);return Math.round((d-p)/r$)}function s$(e,t){const r=fw(e,t),o=bo(e,0);return o.setFullYear(r,0,4),o.setHours(0,0,0,0),Ld(o)}function l$(e){return e instanceof Date||typeof e=="object"&&Object.prototype.toString.call(e)==="[object Date]"}function c$(e){return!(!l$(e)&&typeof e!="number"||isNaN(+Lr(e)))}function u$(e,t){const r=Lr(e,t==null?void 0:t.in);return r.setFullYear(r.getFullYear(),0,1),r.setHours(0,0,0,0),r}const d$={lessThanXSeconds:{one:"less than a second",other:"less than {{count}} seconds"},xSeconds:{one:"1 second",other:"{{count}} seconds"},halfAMinute:"half a minute",lessThanXMinutes:{one:"less than a minute",other:"less than {{count}} minutes"},xMinutes:{one:"1 minute",other:"{{count}} minutes"},aboutXHours:{one:"about 1 hour",other:"about {{count}} hours"},xHours:{one:"1 hour",other:"{{count}} hours"},xDays:{one:"1 day",other:"{{count}} days"},aboutXWeeks:{one:"about 1 week",other:"about {{count}} weeks"},xWeeks:{one:"1 week",other:"{{count}} weeks"},aboutXMonths:{one:"about 1 month",other:"about {{count}} months"},xMonths:{one:"1 month",other:"{{count}} months"},aboutXYears:{one:"about 1 year",other:"about {{count}} years"},xYears:{one:"1 year",other:"{{count}} years"},overXYears:{one:"over 1 year",other:"over {{count}} years"},almostXYears:{one:"almost 1 year",other:"almost {{count}} years"}},f$=(e,t,r)=>{let o;const i=d$[e];return typeof i=="string"?o=i:t===1?o=i.one:o=i.other.replace("{{count}}",t.toString()),r!=null&&r.addSuffix?r.comparison&&r.comparison>0?"in "+o:o+" ago":o};function ds(e){return(t={})=>{const r=t.width?String(t.width):e.defaultWidth;return e.formats[r]||e.formats[e.defaultWidth]}}const p$={full:"EEEE, MMMM do, y",long:"MMMM do, y",medium:"MMM d, y",short:"MM/dd/yyyy"},h$={full:"h:mm:ss a zzzz",long:"h:mm:ss a z",medium:"h:mm:ss a",short:"h:mm a"},m$={full:"{{date}} 'at' {{time}}",long:"{{date}} 'at' {{time}}",medium:"{{date}}, {{time}}",short:"{{date}}, {{time}}"},g$={date:ds({formats:p$,defaultWidth:"full"}),time:ds({formats:h$,defaultWidth:"full"}),dateTime:ds({formats:m$,defaultWidth:"full"})},y$={lastWeek:"'last' eeee 'at' p",yesterday:"'yesterday at' p",today:"'today at' p",tomorrow:"'tomorrow at' p",nextWeek:"eeee 'at' p",other:"P"},v$=(e,t,r,o)=>y$[e];function Jr(e){return(t,r)=>{const o=r!=null&&r.context?String(r.context):"standalone";let i;if(o==="formatting"&&e.formattingValues){const u=e.defaultFormattingWidth||e.defaultWidth,d=r!=null&&r.width?String(r.width):u;i=e.formattingValues[d]||e.formattingValues[u]}else{const u=e.defaultWidth,d=r!=null&&r.width?String(r.width):e.defaultWidth;i=e.values[d]||e.values[u]}const l=e.argumentCallback?e.argumentCallback(t):t;return i[l]}}const b$={narrow:["B","A"],abbreviated:["BC","AD"],wide:["Before Christ","Anno Domini"]},x$={narrow:["1","2","3","4"],abbreviated:["Q1","Q2","Q3","Q4"],wide:["1st quarter","2nd quarter","3rd quarter","4th quarter"]},S$={narrow:["J","F","M","A","M","J","J","A","S","O","N","D"],abbreviated:["Jan","Feb","Mar","Apr","May","Jun","Jul","Aug","Sep","Oct","Nov","Dec"],wide:["January","February","March","April","May","June","July","August","September","October","November","December"]},C$={narrow:["S","M","T","W","T","F","S"],short:["Su","Mo","Tu","We","Th","Fr","Sa"],abbreviated:["Sun","Mon","Tue","Wed","Thu","Fri","Sat"],wide:["Sunday","Monday","Tuesday","Wednesday","Thursday","Friday","Saturday"]},w$={narrow:{am:"a",pm:"p",midnight:"mi",noon:"n",morning:"morning",afternoon:"afternoon",evening:"evening",night:"night"},abbreviated:{am:"AM",pm:"PM",midnight:"midnight",noon:"noon",morning:"morning",afternoon:"afternoon",evening:"evening",night:"night"},wide:{am:"a.m.",pm:"p.m.",midnight:"midnight",noon:"noon",morning:"morning",afternoon:"afternoon",evening:"evening",night:"night"}},T$={narrow:{am:"a",pm:"p",midnight:"mi",noon:"n",morning:"in the morning",afternoon:"in the afternoon",evening:"in the evening",night:"at night"},abbreviated:{am:"AM",pm:"PM",midnight:"midnight",noon:"noon",morning:"in the morning",afternoon:"in the afternoon",evening:"in the evening",night:"at night"},wide:{am:"a.m.",pm:"p.m.",midnight:"midnight",noon:"noon",morning:"in the morning",afternoon:"in the afternoon",evening:"in the evening",night:"at night"}},E$=(e,t)=>{const r=Number(e),o=r%100;if(o>20||o<10)switch(o%10){case 1:return r+"st";case 2:return r+"nd";case 3:return r+"rd"}return r+"th"},R$={ordinalNumber:E$,era:Jr({values:b$,defaultWidth:"wide"}),quarter:Jr({values:x$,defaultWidth:"wide",argumentCallback:e=>e-1}),month:Jr({values:S$,defaultWidth:"wide"}),day:Jr({values:C$,defaultWidth:"wide"}),dayPeriod:Jr({values:w$,defaultWidth:"wide",formattingValues:T$,defaultFormattingWidth:"wide"})};function ea(e){return(t,r={})=>{const o=r.width,i=o&&e.matchPatterns[o]||e.matchPatterns[e.defaultMatchWidth],l=t.match(i);if(!l)return null;const u=l[0],d=o&&e.parsePatterns[o]||e.parsePatterns[e.defaultParseWidth],p=Array.isArray(d)?A$(d,v=>v.test(u)):k$(d,v=>v.test(u));let h;h=e.valueCallback?e.valueCallback(p):p,h=r.valueCallback?r.valueCallback(h):h;const g=t.slice(u.length);return{value:h,rest:g}}}function k$(e,t){for(const r in e)if(Object.prototype.hasOwnProperty.call(e,r)&&t(e[r]))return r}function A$(e,t){for(let r=0;r<e.length;r++)if(t(e[r]))return r}function pw(e){return(t,r={})=>{const o=t.match(e.matchPattern);if(!o)return null;const i=o[0],l=t.match(e.parsePattern);if(!l)return null;let u=e.valueCallback?e.valueCallback(l[0]):l[0];u=r.valueCallback?r.valueCallback(u):u;const d=t.slice(i.length);return{value:u,rest:d}}}const _$=/^(\d+)(th|st|nd|rd)?/i,O$=/\d+/i,M$={narrow:/^(b|a)/i,abbreviated:/^(b\.?\s?c\.?|b\.?\s?c\.?\s?e\.?|a\.?\s?d\.?|c\.?\s?e\.?)/i,wide:/^(before christ|before common era|anno domini|common era)/i},j$={any:[/^b/i,/^(a|c)/i]},D$={narrow:/^[1234]/i,abbreviated:/^q[1234]/i,wide:/^[1234](th|st|nd|rd)? quarter/i},N$={any:[/1/i,/2/i,/3/i,/4/i]},$$={narrow:/^[jfmasond]/i,abbreviated:/^(jan|feb|mar|apr|may|jun|jul|aug|sep|oct|nov|dec)/i,wide:/^(january|february|march|april|may|june|july|august|september|october|november|december)/i},z$={narrow:[/^j/i,/^f/i,/^m/i,/^a/i,/^m/i,/^j/i,/^j/i,/^a/i,/^s/i,/^o/i,/^n/i,/^d/i],any:[/^ja/i,/^f/i,/^mar/i,/^ap/i,/^may/i,/^jun/i,/^jul/i,/^au/i,/^s/i,/^o/i,/^n/i,/^d/i]},B$={narrow:/^[smtwf]/i,short:/^(su|mo|tu|we|th|fr|sa)/i,abbreviated:/^(sun|mon|tue|wed|thu|fri|sat)/i,wide:/^(sunday|monday|tuesday|wednesday|thursday|friday|saturday)/i},L$={narrow:[/^s/i,/^m/i,/^t/i,/^w/i,/^t/i,/^f/i,/^s/i],any:[/^su/i,/^m/i,/^tu/i,/^w/i,/^th/i,/^f/i,/^sa/i]},P$={narrow:/^(a|p|mi|n|(in the|at) (morning|afternoon|evening|night))/i,any:/^([ap]\.?\s?m\.?|midnight|noon|(in the|at) (morning|afternoon|evening|night))/i},U$={any:{am:/^a/i,pm:/^p/i,midnight:/^mi/i,noon:/^no/i,morning:/morning/i,afternoon:/afternoon/i,evening:/evening/i,night:/night/i}},I$={ordinalNumber:pw({matchPattern:_$,parsePattern:O$,valueCallback:e=>parseInt(e,10)}),era:ea({matchPatterns:M$,defaultMatchWidth:"wide",parsePatterns:j$,defaultParseWidth:"any"}),quarter:ea({matchPatterns:D$,defaultMatchWidth:"wide",parsePatterns:N$,defaultParseWidth:"any",valueCallback:e=>e+1}),month:ea({matchPatterns:$$,defaultMatchWidth:"wide",parsePatterns:z$,defaultParseWidth:"any"}),day:ea({matchPatterns:B$,defaultMatchWidth:"wide",parsePatterns:L$,defaultParseWidth:"any"}),dayPeriod:ea({matchPatterns:P$,defaultMatchWidth:"any",parsePatterns:U$,defaultParseWidth:"any"})},H$={code:"en-US",formatDistance:f$,formatLong:g$,formatRelative:v$,localize:R$,match:I$,options:{weekStartsOn:0,firstWeekContainsDate:1}};function V$(e,t){const r=Lr(e,t==null?void 0:t.in);return i$(r,u$(r))+1}function F$(e,t){const r=Lr(e,t==null?void 0:t.in),o=+Ld(r)-+s$(r);return Math.round(o/dw)+1}function hw(e,t){var g,v,x,T;const r=Lr(e,t==null?void 0:t.in),o=r.getFullYear(),i=wf(),l=(t==null?void 0:t.firstWeekContainsDate)??((v=(g=t==null?void 0:t.locale)==null?void 0:g.options)==null?void 0:v.firstWeekContainsDate)??i.firstWeekContainsDate??((T=(x=i.locale)==null?void 0:x.options)==null?void 0:T.firstWeekContainsDate)??1,u=bo((t==null?void 0:t.in)||e,0);u.setFullYear(o+1,0,l),u.setHours(0,0,0,0);const d=uc(u,t),p=bo((t==null?void 0:t.in)||e,0);p.setFullYear(o,0,l),p.setHours(0,0,0,0);const h=uc(p,t);return+r>=+d?o+1:+r>=+h?o:o-1}function q$(e,t){var d,p,h,g;const r=wf(),o=(t==null?void 0:t.firstWeekContainsDate)??((p=(d=t==null?void 0:t.locale)==null?void 0:d.options)==null?void 0:p.firstWeekContainsDate)??r.firstWeekContainsDate??((g=(h=r.locale)==null?void 0:h.options)==null?void 0:g.firstWeekContainsDate)??1,i=hw(e,t),l=bo((t==null?void 0:t.in)||e,0);return l.setFullYear(i,0,o),l.setHours(0,0,0,0),uc(l,t)}function W$(e,t){const r=Lr(e,t==null?void 0:t.in),o=+uc(r,t)-+q$(r,t);return Math.round(o/dw)+1}function _t(e,t){const r=e<0?"-":"",o=Math.abs(e).toString().padStart(t,"0");return r+o}const ho={y(e,t){const r=e.getFullYear(),o=r>0?r:1-r;return _t(t==="yy"?o%100:o,t.length)},M(e,t){const r=e.getMonth();return t==="M"?String(r+1):_t(r+1,2)},d(e,t){return _t(e.getDate(),t.length)},a(e,t){const r=e.getHours()/12>=1?"pm":"am";switch(t){case"a":case"aa":return r.toUpperCase();case"aaa":return r;case"aaaaa":return r[0];case"aaaa":default:return r==="am"?"a.m.":"p.m."}},h(e,t){return _t(e.getHours()%12||12,t.length)},H(e,t){return _t(e.getHours(),t.length)},m(e,t){return _t(e.getMinutes(),t.length)},s(e,t){return _t(e.getSeconds(),t.length)},S(e,t){const r=t.length,o=e.getMilliseconds(),i=Math.trunc(o*Math.pow(10,r-3));return _t(i,t.length)}},es={midnight:"midnight",noon:"noon",morning:"morning",afternoon:"afternoon",evening:"evening",night:"night"},M1={G:function(e,t,r){const o=e.getFullYear()>0?1:0;switch(t){case"G":case"GG":case"GGG":return r.era(o,{width:"abbreviated"});case"GGGGG":return r.era(o,{width:"narrow"});case"GGGG":default:return r.era(o,{width:"wide"})}},y:function(e,t,r){if(t==="yo"){const o=e.getFullYear(),i=o>0?o:1-o;return r.ordinalNumber(i,{unit:"year"})}return ho.y(e,t)},Y:function(e,t,r,o){const i=hw(e,o),l=i>0?i:1-i;if(t==="YY"){const u=l%100;return _t(u,2)}return t==="Yo"?r.ordinalNumber(l,{unit:"year"}):_t(l,t.length)},R:function(e,t){const r=fw(e);return _t(r,t.length)},u:function(e,t){const r=e.getFullYear();return _t(r,t.length)},Q:function(e,t,r){const o=Math.ceil((e.getMonth()+1)/3);switch(t){case"Q":return String(o);case"QQ":return _t(o,2);case"Qo":return r.ordinalNumber(o,{unit:"quarter"});case"QQQ":return r.quarter(o,{width:"abbreviated",context:"formatting"});case"QQQQQ":return r.quarter(o,{width:"narrow",context:"formatting"});case"QQQQ":default:return r.quarter(o,{width:"wide",context:"formatting"})}},q:function(e,t,r){const o=Math.ceil((e.getMonth()+1)/3);switch(t){case"q":return String(o);case"qq":return _t(o,2);case"qo":return r.ordinalNumber(o,{unit:"quarter"});case"qqq":return r.quarter(o,{width:"abbreviated",context:"standalone"});case"qqqqq":return r.quarter(o,{width:"narrow",context:"standalone"});case"qqqq":default:return r.quarter(o,{width:"wide",context:"standalone"})}},M:function(e,t,r){const o=e.getMonth();switch(t){case"M":case"MM":return ho.M(e,t);case"Mo":return r.ordinalNumber(o+1,{unit:"month"});case"MMM":return r.month(o,{width:"abbreviated",context:"formatting"});case"MMMMM":return r.month(o,{width:"narrow",context:"formatting"});case"MMMM":default:return r.month(o,{width:"wide",context:"formatting"})}},L:function(e,t,r){const o=e.getMonth();switch(t){case"L":return String(o+1);case"LL":return _t(o+1,2);case"Lo":return r.ordinalNumber(o+1,{unit:"month"});case"LLL":return r.month(o,{width:"abbreviated",context:"standalone"});case"LLLLL":return r.month(o,{width:"narrow",context:"standalone"});case"LLLL":default:return r.month(o,{width:"wide",context:"standalone"})}},w:function(e,t,r,o){const i=W$(e,o);return t==="wo"?r.ordinalNumber(i,{unit:"week"}):_t(i,t.length)},I:function(e,t,r){const o=F$(e);return t==="Io"?r.ordinalNumber(o,{unit:"week"}):_t(o,t.length)},d:function(e,t,r){return t==="do"?r.ordinalNumber(e.getDate(),{unit:"date"}):ho.d(e,t)},D:function(e,t,r){const o=V$(e);return t==="Do"?r.ordinalNumber(o,{unit:"dayOfYear"}):_t(o,t.length)},E:function(e,t,r){const o=e.getDay();switch(t){case"E":case"EE":case"EEE":return r.day(o,{width:"abbreviated",context:"formatting"});case"EEEEE":return r.day(o,{width:"narrow",context:"formatting"});case"EEEEEE":return r.day(o,{width:"short",context:"formatting"});case"EEEE":default:return r.day(o,{width:"wide",context:"formatting"})}},e:function(e,t,r,o){const i=e.getDay(),l=(i-o.weekStartsOn+8)%7||7;switch(t){case"e":return String(l);case"ee":return _t(l,2);case"eo":return r.ordinalNumber(l,{unit:"day"});case"eee":return r.day(i,{width:"abbreviated",context:"formatting"});case"eeeee":return r.day(i,{width:"narrow",context:"formatting"});case"eeeeee":return r.day(i,{width:"short",context:"formatting"});case"eeee":default:return r.day(i,{width:"wide",context:"formatting"})}},c:function(e,t,r,o){const i=e.getDay(),l=(i-o.weekStartsOn+8)%7||7;switch(t){case"c":return String(l);case"cc":return _t(l,t.length);case"co":return r.ordinalNumber(l,{unit:"day"});case"ccc":return r.day(i,{width:"abbreviated",context:"standalone"});case"ccccc":return r.day(i,{width:"narrow",context:"standalone"});case"cccccc":return r.day(i,{width:"short",context:"standalone"});case"cccc":default:return r.day(i,{width:"wide",context:"standalone"})}},i:function(e,t,r){const o=e.getDay(),i=o===0?7:o;switch(t){case"i":return String(i);case"ii":return _t(i,t.length);case"io":return r.ordinalNumber(i,{unit:"day"});case"iii":return r.day(o,{width:"abbreviated",context:"formatting"});case"iiiii":return r.day(o,{width:"narrow",context:"formatting"});case"iiiiii":return r.day(o,{width:"short",context:"formatting"});case"iiii":default:return r.day(o,{width:"wide",context:"formatting"})}},a:function(e,t,r){const i=e.getHours()/12>=1?"pm":"am";switch(t){case"a":case"aa":return r.dayPeriod(i,{width:"abbreviated",context:"formatting"});case"aaa":return r.dayPeriod(i,{width:"abbreviated",context:"formatting"}).toLowerCase();case"aaaaa":return r.dayPeriod(i,{width:"narrow",context:"formatting"});case"aaaa":default:return r.dayPeriod(i,{width:"wide",context:"formatting"})}},b:function(e,t,r){const o=e.getHours();let i;switch(o===12?i=es.noon:o===0?i=es.midnight:i=o/12>=1?"pm":"am",t){case"b":case"bb":return r.dayPeriod(i,{width:"abbreviated",context:"formatting"});case"bbb":return r.dayPeriod(i,{width:"abbreviated",context:"formatting"}).toLowerCase();case"bbbbb":return r.dayPeriod(i,{width:"narrow",context:"formatting"});case"bbbb":default:return r.dayPeriod(i,{width:"wide",context:"formatting"})}},B:function(e,t,r){const o=e.getHours();let i;switch(o>=17?i=es.evening:o>=12?i=es.afternoon:o>=4?i=es.morning:i=es.night,t){case"B":case"BB":case"BBB":return r.dayPeriod(i,{width:"abbreviated",context:"formatting"});case"BBBBB":return r.dayPeriod(i,{width:"narrow",context:"formatting"});case"BBBB":default:return r.dayPeriod(i,{width:"wide",context:"formatting"})}},h:function(e,t,r){if(t==="ho"){let o=e.getHours()%12;return o===0&&(o=12),r.ordinalNumber(o,{unit:"hour"})}return ho.h(e,t)},H:function(e,t,r){return t==="Ho"?r.ordinalNumber(e.getHours(),{unit:"hour"}):ho.H(e,t)},K:function(e,t,r){const o=e.getHours()%12;return t==="Ko"?r.ordinalNumber(o,{unit:"hour"}):_t(o,t.length)},k:function(e,t,r){let o=e.getHours();return o===0&&(o=24),t==="ko"?r.ordinalNumber(o,{unit:"hour"}):_t(o,t.length)},m:function(e,t,r){return t==="mo"?r.ordinalNumber(e.getMinutes(),{unit:"minute"}):ho.m(e,t)},s:function(e,t,r){return t==="so"?r.ordinalNumber(e.getSeconds(),{unit:"second"}):ho.s(e,t)},S:function(e,t){return ho.S(e,t)},X:function(e,t,r){const o=e.getTimezoneOffset();if(o===0)return"Z";switch(t){case"X":return D1(o);case"XXXX":case"XX":return Yo(o);case"XXXXX":case"XXX":default:return Yo(o,":")}},x:function(e,t,r){const o=e.getTimezoneOffset();switch(t){case"x":return D1(o);case"xxxx":case"xx":return Yo(o);case"xxxxx":case"xxx":default:return Yo(o,":")}},O:function(e,t,r){const o=e.getTimezoneOffset();switch(t){case"O":case"OO":case"OOO":return"GMT"+j1(o,":");case"OOOO":default:return"GMT"+Yo(o,":")}},z:function(e,t,r){const o=e.getTimezoneOffset();switch(t){case"z":case"zz":case"zzz":return"GMT"+j1(o,":");case"zzzz":default:return"GMT"+Yo(o,":")}},t:function(e,t,r){const o=Math.trunc(+e/1e3);return _t(o,t.length)},T:function(e,t,r){return _t(+e,t.length)}};function j1(e,t=""){const r=e>0?"-":"+",o=Math.abs(e),i=Math.trunc(o/60),l=o%60;return l===0?r+String(i):r+String(i)+t+_t(l,2)}function D1(e,t){return e%60===0?(e>0?"-":"+")+_t(Math.abs(e)/60,2):Yo(e,t)}function Yo(e,t=""){const r=e>0?"-":"+",o=Math.abs(e),i=_t(Math.trunc(o/60),2),l=_t(o%60,2);return r+i+t+l}const N1=(e,t)=>{switch(e){case"P":return t.date({width:"short"});case"PP":return t.date({width:"medium"});case"PPP":return t.date({width:"long"});case"PPPP":default:return t.date({width:"full"})}},mw=(e,t)=>{switch(e){case"p":return t.time({width:"short"});case"pp":return t.time({width:"medium"});case"ppp":return t.time({width:"long"});case"pppp":default:return t.time({width:"full"})}},Y$=(e,t)=>{const r=e.match(/(P+)(p+)?/)||[],o=r[1],i=r[2];if(!i)return N1(e,t);let l;switch(o){case"P":l=t.dateTime({width:"short"});break;case"PP":l=t.dateTime({width:"medium"});break;case"PPP":l=t.dateTime({width:"long"});break;case"PPPP":default:l=t.dateTime({width:"full"});break}return l.replace("{{date}}",N1(o,t)).replace("{{time}}",mw(i,t))},G$={p:mw,P:Y$},Z$=/^D+$/,X$=/^Y+$/,K$=["D","DD","YY","YYYY"];function Q$(e){return Z$.test(e)}function J$(e){return X$.test(e)}function ez(e,t,r){const o=tz(e,t,r);if(console.warn(o),K$.includes(e))throw new RangeError(o)}function tz(e,t,r){const o=e[0]==="Y"?"years":"days of the month";return`Use \`${e.toLowerCase()}\` instead of \`${e}\` (in \`${t}\`) for formatting ${o} to the input \`${r}\`; see: https://github.com/date-fns/date-fns/blob/master/docs/unicodeTokens.md`}const nz=/[yYQqMLwIdDecihHKkms]o|(\w)\1*|''|'(''|[^'])+('|$)|./g,rz=/P+p+|P+|p+|''|'(''|[^'])+('|$)|./g,az=/^'([^]*?)'?$/,oz=/''/g,iz=/[a-zA-Z]/;function sz(e,t,r){var g,v,x,T,S,C,E,A;const o=wf(),i=(r==null?void 0:r.locale)??o.locale??H$,l=(r==null?void 0:r.firstWeekContainsDate)??((v=(g=r==null?void 0:r.locale)==null?void 0:g.options)==null?void 0:v.firstWeekContainsDate)??o.firstWeekContainsDate??((T=(x=o.locale)==null?void 0:x.options)==null?void 0:T.firstWeekContainsDate)??1,u=(r==null?void 0:r.weekStartsOn)??((C=(S=r==null?void 0:r.locale)==null?void 0:S.options)==null?void 0:C.weekStartsOn)??o.weekStartsOn??((A=(E=o.locale)==null?void 0:E.options)==null?void 0:A.weekStartsOn)??0,d=Lr(e,r==null?void 0:r.in);if(!c$(d))throw new RangeError("Invalid time value");let p=t.match(rz).map(j=>{const k=j[0];if(k==="p"||k==="P"){const M=G$[k];return M(j,i.formatLong)}return j}).join("").match(nz).map(j=>{if(j==="''")return{isToken:!1,value:"'"};const k=j[0];if(k==="'")return{isToken:!1,value:lz(j)};if(M1[k])return{isToken:!0,value:j};if(k.match(iz))throw new RangeError("Format string contains an unescaped latin alphabet character `"+k+"`");return{isToken:!1,value:j}});i.localize.preprocessor&&(p=i.localize.preprocessor(d,p));const h={firstWeekContainsDate:l,weekStartsOn:u,locale:i};return p.map(j=>{if(!j.isToken)return j.value;const k=j.value;(!(r!=null&&r.useAdditionalWeekYearTokens)&&J$(k)||!(r!=null&&r.useAdditionalDayOfYearTokens)&&Q$(k))&&ez(k,t,String(e));const M=M1[k[0]];return M(d,k,i.localize,h)}).join("")}function lz(e){const t=e.match(az);return t?t[1].replace(oz,"'"):e}const cz={lessThanXSeconds:{one:"1초 미만",other:"{{count}}초 미만"},xSeconds:{one:"1초",other:"{{count}}초"},halfAMinute:"30초",lessThanXMinutes:{one:"1분 미만",other:"{{count}}분 미만"},xMinutes:{one:"1분",other:"{{count}}분"},aboutXHours:{one:"약 1시간",other:"약 {{count}}시간"},xHours:{one:"1시간",other:"{{count}}시간"},xDays:{one:"1일",other:"{{count}}일"},aboutXWeeks:{one:"약 1주",other:"약 {{count}}주"},xWeeks:{one:"1주",other:"{{count}}주"},aboutXMonths:{one:"약 1개월",other:"약 {{count}}개월"},xMonths:{one:"1개월",other:"{{count}}개월"},aboutXYears:{one:"약 1년",other:"약 {{count}}년"},xYears:{one:"1년",other:"{{count}}년"},overXYears:{one:"1년 이상",other:"{{count}}년 이상"},almostXYears:{one:"거의 1년",other:"거의 {{count}}년"}},uz=(e,t,r)=>{let o;const i=cz[e];return typeof i=="string"?o=i:t===1?o=i.one:o=i.other.replace("{{count}}",t.toString()),r!=null&&r.addSuffix?r.comparison&&r.comparison>0?o+" 후":o+" 전":o},dz={full:"y년 M월 d일 EEEE",long:"y년 M월 d일",medium:"y.MM.dd",short:"y.MM.dd"},fz={full:"a H시 mm분 ss초 zzzz",long:"a H:mm:ss z",medium:"HH:mm:ss",short:"HH:mm"},pz={full:"{{date}} {{time}}",long:"{{date}} {{time}}",medium:"{{date}} {{time}}",short:"{{date}} {{time}}"},hz={date:ds({formats:dz,defaultWidth:"full"}),time:ds({formats:fz,defaultWidth:"full"}),dateTime:ds({formats:pz,defaultWidth:"full"})},mz={lastWeek:"'지난' eeee p",yesterday:"'어제' p",today:"'오늘' p",tomorrow:"'내일' p",nextWeek:"'다음' eeee p",other:"P"},gz=(e,t,r,o)=>mz[e],yz={narrow:["BC","AD"],abbreviated:["BC","AD"],wide:["기원전","서기"]},vz={narrow:["1","2","3","4"],abbreviated:["Q1","Q2","Q3","Q4"],wide:["1분기","2분기","3분기","4분기"]},bz={narrow:["1","2","3","4","5","6","7","8","9","10","11","12"],abbreviated:["1월","2월","3월","4월","5월","6월","7월","8월","9월","10월","11월","12월"],wide:["1월","2월","3월","4월","5월","6월","7월","8월","9월","10월","11월","12월"]},xz={narrow:["일","월","화","수","목","금","토"],short:["일","월","화","수","목","금","토"],abbreviated:["일","월","화","수","목","금","토"],wide:["일요일","월요일","화요일","수요일","목요일","금요일","토요일"]},Sz={narrow:{am:"오전",pm:"오후",midnight:"자정",noon:"정오",morning:"아침",afternoon:"오후",evening:"저녁",night:"밤"},abbreviated:{am:"오전",pm:"오후",midnight:"자정",noon:"정오",morning:"아침",afternoon:"오후",evening:"저녁",night:"밤"},wide:{am:"오전",pm:"오후",midnight:"자정",noon:"정오",morning:"아침",afternoon:"오후",evening:"저녁",night:"밤"}},Cz={narrow:{am:"오전",pm:"오후",midnight:"자정",noon:"정오",morning:"아침",afternoon:"오후",evening:"저녁",night:"밤"},abbreviated:{am:"오전",pm:"오후",midnight:"자정",noon:"정오",morning:"아침",afternoon:"오후",evening:"저녁",night:"밤"},wide:{am:"오전",pm:"오후",midnight:"자정",noon:"정오",morning:"아침",afternoon:"오후",evening:"저녁",night:"밤"}},wz=(e,t)=>{const r=Number(e);switch(String(t==null?void 0:t.unit)){case"minute":case"second":return String(r);case"date":return r+"일";default:return r+"번째"}},Tz={ordinalNumber:wz,era:Jr({values:yz,defaultWidth:"wide"}),quarter:Jr({values:vz,defaultWidth:"wide",argumentCallback:e=>e-1}),month:Jr({values:bz,defaultWidth:"wide"}),day:Jr({values:xz,defaultWidth:"wide"}),dayPeriod:Jr({values:Sz,defaultWidth:"wide",formattingValues:Cz,defaultFormattingWidth:"wide"})},Ez=/^(\d+)(일|번째)?/i,Rz=/\d+/i,kz={narrow:/^(b\.?\s?c\.?|b\.?\s?c\.?\s?e\.?|a\.?\s?d\.?|c\.?\s?e\.?)/i,abbreviated:/^(b\.?\s?c\.?|b\.?\s?c\.?\s?e\.?|a\.?\s?d\.?|c\.?\s?e\.?)/i,wide:/^(기원전|서기)/i},Az={any:[/^(bc|기원전)/i,/^(ad|서기)/i]},_z={narrow:/^[1234]/i,abbreviated:/^q[1234]/i,wide:/^[1234]사?분기/i},Oz={any:[/1/i,/2/i,/3/i,/4/i]},Mz={narrow:/^(1[012]|[123456789])/,abbreviated:/^(1[012]|[123456789])월/i,wide:/^(1[012]|[123456789])월/i},jz={any:[/^1월?$/,/^2/,/^3/,/^4/,/^5/,/^6/,/^7/,/^8/,/^9/,/^10/,/^11/,/^12/]},Dz={narrow:/^[일월화수목금토]/,short:/^[일월화수목금토]/,abbreviated:/^[일월화수목금토]/,wide:/^[일월화수목금토]요일/},Nz={any:[/^일/,/^월/,/^화/,/^수/,/^목/,/^금/,/^토/]},$z={any:/^(am|pm|오전|오후|자정|정오|아침|저녁|밤)/i},zz={any:{am:/^(am|오전)/i,pm:/^(pm|오후)/i,midnight:/^자정/i,noon:/^정오/i,morning:/^아침/i,afternoon:/^오후/i,evening:/^저녁/i,night:/^밤/i}},Bz={ordinalNumber:pw({matchPattern:Ez,parsePattern:Rz,valueCallback:e=>parseInt(e,10)}),era:ea({matchPatterns:kz,defaultMatchWidth:"wide",parsePatterns:Az,defaultParseWidth:"any"}),quarter:ea({matchPatterns:_z,defaultMatchWidth:"wide",parsePatterns:Oz,defaultParseWidth:"any",valueCallback:e=>e+1}),month:ea({matchPatterns:Mz,defaultMatchWidth:"wide",parsePatterns:jz,defaultParseWidth:"any"}),day:ea({matchPatterns:Dz,defaultMatchWidth:"wide",parsePatterns:Nz,defaultParseWidth:"any"}),dayPeriod:ea({matchPatterns:$z,defaultMatchWidth:"any",parsePatterns:zz,defaultParseWidth:"any"})},Lz={code:"ko",formatDistance:uz,formatLong:hz,formatRelative:gz,localize:Tz,match:Bz,options:{weekStartsOn:0,firstWeekContainsDate:1}},Pz=({isSidebarOpen:e,toggleSidebar:t})=>{const{isAuthenticated:r}=Ha(),{notifications:o,isLoading:i,confirmAllNotifications:l,confirmNotification:u,fetchMoreNotifications:d}=uw();return r?y.jsxs(kC,{anchor:"right",open:e,onClose:t,PaperProps:{sx:{width:400,maxWidth:"100%",position:"fixed",top:64,height:"calc(100vh - 150px)"}},children:[y.jsxs(we,{sx:{p:2,display:"flex",justifyContent:"space-between",alignItems:"center"},children:[y.jsx(je,{variant:"h6",children:"알림"}),y.jsxs(we,{children:[o.length>0&&y.jsx(cr,{size:"small",startIcon:y.jsx(BC,{}),onClick:l,sx:{mr:1},children:"모두 읽음"}),y.jsx(wr,{onClick:t,children:y.jsx(fN,{})})]})]}),y.jsx(Os,{sx:{overflowY:"auto",height:"100%",padding:0},onScroll:p=>{const{scrollTop:h,scrollHeight:g,clientHeight:v}=p.target;g-(h+v)<5&&d()},children:o.length===0?y.jsx(Dm,{children:y.jsx($d,{primary:"알림이 없습니다."})}):o.map(p=>y.jsx(Dm,{sx:{bgcolor:p.confirmed?"inherit":"background.paper",borderLeft:"4px solid",borderColor:p.confirmed?"white":"primary.main","&:hover":{bgcolor:"action.selected",cursor:"pointer"},position:"relative"},children:y.jsx($d,{primary:y.jsx(je,{component:"div",sx:{whiteSpace:"pre-wrap",wordBreak:"break-word",fontWeight:p.confirmed?"normal":"bold",color:p.confirmed?"text.secondary":"text.primary",pr:p.confirmed?0:4},children:p.content}),secondary:sz(new Date(p.createdAt),"PPPp",{locale:Lz}),onClick:()=>{p.confirmed||u(p.id)}})},p.id))}),i&&y.jsx(we,{sx:{display:"flex",justifyContent:"center",p:3},children:y.jsx(ks,{})})]}):null},Uz=({user:e,onClose:t,onLogout:r,onEditNickname:o,onWithdraw:i,anchorEl:l})=>{const[u,d]=b.useState(!1),[p,h]=b.useState(e.nickname),g=b.useCallback(()=>{t(),r()},[t,r]),v=b.useCallback(()=>{d(!1),o(p)},[o,p,d]),x=b.useCallback(()=>{t(),window.confirm("정말로 회원 탈퇴하시겠습니까?")&&(i(),alert("회원 탈퇴가 완료되었습니다. 회원 정보는 1일 뒤에 완전히 삭제됩니다."))},[t,i]);return y.jsxs(y.Fragment,{children:[y.jsxs(Og,{anchorEl:l,open:!!l,onClose:t,children:[y.jsx(_n,{onClick:()=>{d(!0),t()},children:"닉네임 수정하기"}),y.jsx(_n,{onClick:g,children:"로그아웃"}),y.jsx(_n,{onClick:x,sx:{color:"error.main"},children:"회원 탈퇴하기"})]}),y.jsxs(ys,{fullWidth:!0,maxWidth:"xs",open:u,onClose:t,children:[y.jsx(lc,{children:"닉네임 수정"}),y.jsx(vs,{children:y.jsx(Kt,{sx:{mt:2},label:"닉네임",value:p,onChange:T=>h(T.target.value),fullWidth:!0})}),y.jsxs(Eg,{children:[y.jsx(cr,{onClick:()=>d(!1),children:"취소"}),p!==e.nickname&&y.jsx(cr,{onClick:v,children:"저장"})]})]})]})},$1=[{name:"뉴스",path:"/articles",isAuthenticated:!0},{name:"관심사",path:"/interests",isAuthenticated:!0},{name:"활동내역",path:"/user-activities",isAuthenticated:!0},{name:"로그인",path:"/login",isAuthenticated:!1}],Iz=()=>{const[e,t]=b.useState(!1),{isAuthenticated:r,user:o,updateUser:i,deleteUser:l}=Ha(),[u,d]=b.useState(!1),[p,h]=b.useState(null),g=b.useCallback(()=>{d(!u)},[u,d]),{totalElements:v,searchNotifications:x,startPolling:T,stopPolling:S}=uw();b.useEffect(()=>(r&&T(),()=>{S()}),[r,T,S]),b.useEffect(()=>{x()},[x]);const C=()=>{t(!e)},E=ws(),A=()=>{E("/logout")},j=b.useCallback(O=>{i((o==null?void 0:o.id)||"",{nickname:O})},[i,o==null?void 0:o.id]),k=y.jsxs(we,{onClick:C,sx:{textAlign:"center"},children:[y.jsx(je,{variant:"h6",sx:{my:2},children:"모뉴"}),y.jsx(Os,{children:$1.map(O=>y.jsx(Dm,{disablePadding:!0,children:y.jsx(pj,{component:Ko,to:O.path,sx:{textAlign:"center"},children:y.jsx($d,{primary:O.name})})},O.name))})]}),M=b.useCallback(()=>{o&&l(o.id)},[l,o==null?void 0:o.id]);return y.jsxs(we,{sx:{flexGrow:1},children:[y.jsx(AM,{position:"fixed",sx:{zIndex:O=>O.zIndex.drawer+1},children:y.jsx(Lc,{maxWidth:"lg",children:y.jsxs(i1,{children:[y.jsx(wr,{color:"inherit","aria-label":"메뉴 열기",edge:"start",onClick:C,sx:{mr:2,display:{sm:"none"}},children:y.jsx(hN,{})}),y.jsx(je,{variant:"h6",component:Ko,to:"/",sx:{flexGrow:1,display:{xs:"none",sm:"block"},textDecoration:"none",color:"inherit"},children:"모두의 뉴스"}),y.jsx(we,{sx:{display:{xs:"none",sm:"block"}},children:$1.filter(O=>O.isAuthenticated==r).map(O=>y.jsx(cr,{component:Ko,to:O.path,sx:{color:"#fff"},children:O.name},O.name))}),r&&y.jsxs(y.Fragment,{children:[y.jsx(wr,{color:"inherit","aria-label":"사용자 메뉴",onClick:O=>h(O.currentTarget),edge:"end",size:"small",children:y.jsx(dN,{})}),o&&y.jsx(Uz,{user:o,onClose:()=>h(null),onLogout:A,onEditNickname:j,anchorEl:p,onWithdraw:M})]}),r&&y.jsx(wr,{color:"inherit","aria-label":"알림",onClick:g,edge:"end",children:y.jsx(t4,{badgeContent:v,color:"error",children:y.jsx(gN,{})})})]})})}),y.jsx(i1,{}),y.jsx(kC,{variant:"temporary",open:e,onClose:C,ModalProps:{keepMounted:!0},sx:{display:{xs:"block",sm:"none"},"& .MuiDrawer-paper":{boxSizing:"border-box",width:240}},children:k}),y.jsx(Pz,{isSidebarOpen:u,toggleSidebar:g})]})},Hz=()=>y.jsx(we,{component:"footer",sx:{py:3,backgroundColor:e=>e.palette.grey[200],position:"fixed",bottom:0,left:0,right:0,zIndex:e=>e.zIndex.drawer+1},children:y.jsx(Lc,{maxWidth:"lg",children:y.jsxs(je,{variant:"body2",color:"text.secondary",align:"center",children:["© ",new Date().getFullYear()," 모두의 뉴스. All Rights Reserved."]})})}),Vz=()=>y.jsxs(we,{sx:{minHeight:"100vh"},children:[y.jsx(z4,{}),y.jsx(Iz,{}),y.jsx(Lc,{component:"main",sx:{flex:1,pb:5},children:y.jsx(gS,{})}),y.jsx(Hz,{})]});var Ic=e=>e.type==="checkbox",Xo=e=>e instanceof Date,In=e=>e==null;const gw=e=>typeof e=="object";var ln=e=>!In(e)&&!Array.isArray(e)&&gw(e)&&!Xo(e),Fz=e=>ln(e)&&e.target?Ic(e.target)?e.target.checked:e.target.value:e,qz=e=>e.substring(0,e.search(/\.\d+(\.|$)/))||e,Wz=(e,t)=>e.has(qz(t)),Yz=e=>{const t=e.constructor&&e.constructor.prototype;return ln(t)&&t.hasOwnProperty("isPrototypeOf")},Pg=typeof window<"u"&&typeof window.HTMLElement<"u"&&typeof document<"u";function Dn(e){let t;const r=Array.isArray(e),o=typeof FileList<"u"?e instanceof FileList:!1;if(e instanceof Date)t=new Date(e);else if(e instanceof Set)t=new Set(e);else if(!(Pg&&(e instanceof Blob||o))&&(r||ln(e)))if(t=r?[]:{},!r&&!Yz(e))t=e;else for(const i in e)e.hasOwnProperty(i)&&(t[i]=Dn(e[i]));else return e;return t}var Tf=e=>Array.isArray(e)?e.filter(Boolean):[],pn=e=>e===void 0,Oe=(e,t,r)=>{if(!t||!ln(e))return r;const o=Tf(t.split(/[,[\].]+?/)).reduce((i,l)=>In(i)?i:i[l],e);return pn(o)||o===e?pn(e[t])?r:e[t]:o},Zr=e=>typeof e=="boolean",Ug=e=>/^\w*$/.test(e),yw=e=>Tf(e.replace(/["|']|\]/g,"").split(/\.|\[/)),Nt=(e,t,r)=>{let o=-1;const i=Ug(t)?[t]:yw(t),l=i.length,u=l-1;for(;++o<l;){const d=i[o];let p=r;if(o!==u){const h=e[d];p=ln(h)||Array.isArray(h)?h:isNaN(+i[o+1])?{}:[]}if(d==="__proto__"||d==="constructor"||d==="prototype")return;e[d]=p,e=e[d]}};const z1={BLUR:"blur",FOCUS_OUT:"focusout"},_r={onBlur:"onBlur",onChange:"onChange",onSubmit:"onSubmit",onTouched:"onTouched",all:"all"},Ma={max:"max",min:"min",maxLength:"maxLength",minLength:"minLength",pattern:"pattern",required:"required",validate:"validate"};Zt.createContext(null);var Gz=(e,t,r,o=!0)=>{const i={defaultValues:t._defaultValues};for(const l in e)Object.defineProperty(i,l,{get:()=>{const u=l;return t._proxyFormState[u]!==_r.all&&(t._proxyFormState[u]=!o||_r.all),e[u]}});return i},ta=e=>typeof e=="string",Zz=(e,t,r,o,i)=>ta(e)?(o&&t.watch.add(e),Oe(r,e,i)):Array.isArray(e)?e.map(l=>(o&&t.watch.add(l),Oe(r,l))):(o&&(t.watchAll=!0),r),vw=(e,t,r,o,i)=>t?{...r[e],types:{...r[e]&&r[e].types?r[e].types:{},[o]:i||!0}}:{},Jl=e=>Array.isArray(e)?e:[e],B1=()=>{let e=[];return{get observers(){return e},next:i=>{for(const l of e)l.next&&l.next(i)},subscribe:i=>(e.push(i),{unsubscribe:()=>{e=e.filter(l=>l!==i)}}),unsubscribe:()=>{e=[]}}},Um=e=>In(e)||!gw(e);function mo(e,t){if(Um(e)||Um(t))return e===t;if(Xo(e)&&Xo(t))return e.getTime()===t.getTime();const r=Object.keys(e),o=Object.keys(t);if(r.length!==o.length)return!1;for(const i of r){const l=e[i];if(!o.includes(i))return!1;if(i!=="ref"){const u=t[i];if(Xo(l)&&Xo(u)||ln(l)&&ln(u)||Array.isArray(l)&&Array.isArray(u)?!mo(l,u):l!==u)return!1}}return!0}var Un=e=>ln(e)&&!Object.keys(e).length,Ig=e=>e.type==="file",Or=e=>typeof e=="function",Pd=e=>{if(!Pg)return!1;const t=e?e.ownerDocument:0;return e instanceof(t&&t.defaultView?t.defaultView.HTMLElement:HTMLElement)},bw=e=>e.type==="select-multiple",Hg=e=>e.type==="radio",Xz=e=>Hg(e)||Ic(e),um=e=>Pd(e)&&e.isConnected;function Kz(e,t){const r=t.slice(0,-1).length;let o=0;for(;o<r;)e=pn(e)?o++:e[t[o++]];return e}function Qz(e){for(const t in e)if(e.hasOwnProperty(t)&&!pn(e[t]))return!1;return!0}function yn(e,t){const r=Array.isArray(t)?t:Ug(t)?[t]:yw(t),o=r.length===1?e:Kz(e,r),i=r.length-1,l=r[i];return o&&delete o[l],i!==0&&(ln(o)&&Un(o)||Array.isArray(o)&&Qz(o))&&yn(e,r.slice(0,-1)),e}var xw=e=>{for(const t in e)if(Or(e[t]))return!0;return!1};function Ud(e,t={}){const r=Array.isArray(e);if(ln(e)||r)for(const o in e)Array.isArray(e[o])||ln(e[o])&&!xw(e[o])?(t[o]=Array.isArray(e[o])?[]:{},Ud(e[o],t[o])):In(e[o])||(t[o]=!0);return t}function Sw(e,t,r){const o=Array.isArray(e);if(ln(e)||o)for(const i in e)Array.isArray(e[i])||ln(e[i])&&!xw(e[i])?pn(t)||Um(r[i])?r[i]=Array.isArray(e[i])?Ud(e[i],[]):{...Ud(e[i])}:Sw(e[i],In(t)?{}:t[i],r[i]):r[i]=!mo(e[i],t[i]);return r}var Hl=(e,t)=>Sw(e,t,Ud(t));const L1={value:!1,isValid:!1},P1={value:!0,isValid:!0};var Cw=e=>{if(Array.isArray(e)){if(e.length>1){const t=e.filter(r=>r&&r.checked&&!r.disabled).map(r=>r.value);return{value:t,isValid:!!t.length}}return e[0].checked&&!e[0].disabled?e[0].attributes&&!pn(e[0].attributes.value)?pn(e[0].value)||e[0].value===""?P1:{value:e[0].value,isValid:!0}:P1:L1}return L1},ww=(e,{valueAsNumber:t,valueAsDate:r,setValueAs:o})=>pn(e)?e:t?e===""?NaN:e&&+e:r&&ta(e)?new Date(e):o?o(e):e;const U1={isValid:!1,value:null};var Tw=e=>Array.isArray(e)?e.reduce((t,r)=>r&&r.checked&&!r.disabled?{isValid:!0,value:r.value}:t,U1):U1;function I1(e){const t=e.ref;return Ig(t)?t.files:Hg(t)?Tw(e.refs).value:bw(t)?[...t.selectedOptions].map(({value:r})=>r):Ic(t)?Cw(e.refs).value:ww(pn(t.value)?e.ref.value:t.value,e)}var Jz=(e,t,r,o)=>{const i={};for(const l of e){const u=Oe(t,l);u&&Nt(i,l,u._f)}return{criteriaMode:r,names:[...e],fields:i,shouldUseNativeValidation:o}},Id=e=>e instanceof RegExp,Vl=e=>pn(e)?e:Id(e)?e.source:ln(e)?Id(e.value)?e.value.source:e.value:e,H1=e=>({isOnSubmit:!e||e===_r.onSubmit,isOnBlur:e===_r.onBlur,isOnChange:e===_r.onChange,isOnAll:e===_r.all,isOnTouch:e===_r.onTouched});const V1="AsyncFunction";var eB=e=>!!e&&!!e.validate&&!!(Or(e.validate)&&e.validate.constructor.name===V1||ln(e.validate)&&Object.values(e.validate).find(t=>t.constructor.name===V1)),tB=e=>e.mount&&(e.required||e.min||e.max||e.maxLength||e.minLength||e.pattern||e.validate),F1=(e,t,r)=>!r&&(t.watchAll||t.watch.has(e)||[...t.watch].some(o=>e.startsWith(o)&&/^\.\w+/.test(e.slice(o.length))));const ec=(e,t,r,o)=>{for(const i of r||Object.keys(e)){const l=Oe(e,i);if(l){const{_f:u,...d}=l;if(u){if(u.refs&&u.refs[0]&&t(u.refs[0],i)&&!o)return!0;if(u.ref&&t(u.ref,u.name)&&!o)return!0;if(ec(d,t))break}else if(ln(d)&&ec(d,t))break}}};function q1(e,t,r){const o=Oe(e,r);if(o||Ug(r))return{error:o,name:r};const i=r.split(".");for(;i.length;){const l=i.join("."),u=Oe(t,l),d=Oe(e,l);if(u&&!Array.isArray(u)&&r!==l)return{name:r};if(d&&d.type)return{name:l,error:d};i.pop()}return{name:r}}var nB=(e,t,r,o)=>{r(e);const{name:i,...l}=e;return Un(l)||Object.keys(l).length>=Object.keys(t).length||Object.keys(l).find(u=>t[u]===(!o||_r.all))},rB=(e,t,r)=>!e||!t||e===t||Jl(e).some(o=>o&&(r?o===t:o.startsWith(t)||t.startsWith(o))),aB=(e,t,r,o,i)=>i.isOnAll?!1:!r&&i.isOnTouch?!(t||e):(r?o.isOnBlur:i.isOnBlur)?!e:(r?o.isOnChange:i.isOnChange)?e:!0,oB=(e,t)=>!Tf(Oe(e,t)).length&&yn(e,t),iB=(e,t,r)=>{const o=Jl(Oe(e,r));return Nt(o,"root",t[r]),Nt(e,r,o),e},Ed=e=>ta(e);function W1(e,t,r="validate"){if(Ed(e)||Array.isArray(e)&&e.every(Ed)||Zr(e)&&!e)return{type:r,message:Ed(e)?e:"",ref:t}}var ts=e=>ln(e)&&!Id(e)?e:{value:e,message:""},Y1=async(e,t,r,o,i,l)=>{const{ref:u,refs:d,required:p,maxLength:h,minLength:g,min:v,max:x,pattern:T,validate:S,name:C,valueAsNumber:E,mount:A}=e._f,j=Oe(r,C);if(!A||t.has(C))return{};const k=d?d[0]:u,M=I=>{i&&k.reportValidity&&(k.setCustomValidity(Zr(I)?"":I||""),k.reportValidity())},O={},B=Hg(u),H=Ic(u),L=B||H,F=(E||Ig(u))&&pn(u.value)&&pn(j)||Pd(u)&&u.value===""||j===""||Array.isArray(j)&&!j.length,R=vw.bind(null,C,o,O),P=(I,q,ee,Q=Ma.maxLength,$=Ma.minLength)=>{const Y=I?q:ee;O[C]={type:I?Q:$,message:Y,ref:u,...R(I?Q:$,Y)}};if(l?!Array.isArray(j)||!j.length:p&&(!L&&(F||In(j))||Zr(j)&&!j||H&&!Cw(d).isValid||B&&!Tw(d).isValid)){const{value:I,message:q}=Ed(p)?{value:!!p,message:p}:ts(p);if(I&&(O[C]={type:Ma.required,message:q,ref:k,...R(Ma.required,q)},!o))return M(q),O}if(!F&&(!In(v)||!In(x))){let I,q;const ee=ts(x),Q=ts(v);if(!In(j)&&!isNaN(j)){const $=u.valueAsNumber||j&&+j;In(ee.value)||(I=$>ee.value),In(Q.value)||(q=$<Q.value)}else{const $=u.valueAsDate||new Date(j),Y=D=>new Date(new Date().toDateString()+" "+D),J=u.type=="time",G=u.type=="week";ta(ee.value)&&j&&(I=J?Y(j)>Y(ee.value):G?j>ee.value:$>new Date(ee.value)),ta(Q.value)&&j&&(q=J?Y(j)<Y(Q.value):G?j<Q.value:$<new Date(Q.value))}if((I||q)&&(P(!!I,ee.message,Q.message,Ma.max,Ma.min),!o))return M(O[C].message),O}if((h||g)&&!F&&(ta(j)||l&&Array.isArray(j))){const I=ts(h),q=ts(g),ee=!In(I.value)&&j.length>+I.value,Q=!In(q.value)&&j.length<+q.value;if((ee||Q)&&(P(ee,I.message,q.message),!o))return M(O[C].message),O}if(T&&!F&&ta(j)){const{value:I,message:q}=ts(T);if(Id(I)&&!j.match(I)&&(O[C]={type:Ma.pattern,message:q,ref:u,...R(Ma.pattern,q)},!o))return M(q),O}if(S){if(Or(S)){const I=await S(j,r),q=W1(I,k);if(q&&(O[C]={...q,...R(Ma.validate,q.message)},!o))return M(q.message),O}else if(ln(S)){let I={};for(const q in S){if(!Un(I)&&!o)break;const ee=W1(await S[q](j,r),k,q);ee&&(I={...ee,...R(q,ee.message)},M(ee.message),o&&(O[C]=I))}if(!Un(I)&&(O[C]={ref:k,...I},!o))return O}}return M(!0),O};const sB={mode:_r.onSubmit,reValidateMode:_r.onChange,shouldFocusError:!0};function lB(e={}){let t={...sB,...e},r={submitCount:0,isDirty:!1,isLoading:Or(t.defaultValues),isValidating:!1,isSubmitted:!1,isSubmitting:!1,isSubmitSuccessful:!1,isValid:!1,touchedFields:{},dirtyFields:{},validatingFields:{},errors:t.errors||{},disabled:t.disabled||!1};const o={};let i=ln(t.defaultValues)||ln(t.values)?Dn(t.values||t.defaultValues)||{}:{},l=t.shouldUnregister?{}:Dn(i),u={action:!1,mount:!1,watch:!1},d={mount:new Set,disabled:new Set,unMount:new Set,array:new Set,watch:new Set},p,h=0;const g={isDirty:!1,dirtyFields:!1,validatingFields:!1,touchedFields:!1,isValidating:!1,isValid:!1,errors:!1};let v={...g};const x={array:B1(),state:B1()},T=H1(t.mode),S=H1(t.reValidateMode),C=t.criteriaMode===_r.all,E=N=>X=>{clearTimeout(h),h=setTimeout(N,X)},A=async N=>{if(!t.disabled&&(g.isValid||v.isValid||N)){const X=t.resolver?Un((await F()).errors):await P(o,!0);X!==r.isValid&&x.state.next({isValid:X})}},j=(N,X)=>{!t.disabled&&(g.isValidating||g.validatingFields||v.isValidating||v.validatingFields)&&((N||Array.from(d.mount)).forEach(re=>{re&&(X?Nt(r.validatingFields,re,X):yn(r.validatingFields,re))}),x.state.next({validatingFields:r.validatingFields,isValidating:!Un(r.validatingFields)}))},k=(N,X=[],re,Se,ve=!0,pe=!0)=>{if(Se&&re&&!t.disabled){if(u.action=!0,pe&&Array.isArray(Oe(o,N))){const xe=re(Oe(o,N),Se.argA,Se.argB);ve&&Nt(o,N,xe)}if(pe&&Array.isArray(Oe(r.errors,N))){const xe=re(Oe(r.errors,N),Se.argA,Se.argB);ve&&Nt(r.errors,N,xe),oB(r.errors,N)}if((g.touchedFields||v.touchedFields)&&pe&&Array.isArray(Oe(r.touchedFields,N))){const xe=re(Oe(r.touchedFields,N),Se.argA,Se.argB);ve&&Nt(r.touchedFields,N,xe)}(g.dirtyFields||v.dirtyFields)&&(r.dirtyFields=Hl(i,l)),x.state.next({name:N,isDirty:q(N,X),dirtyFields:r.dirtyFields,errors:r.errors,isValid:r.isValid})}else Nt(l,N,X)},M=(N,X)=>{Nt(r.errors,N,X),x.state.next({errors:r.errors})},O=N=>{r.errors=N,x.state.next({errors:r.errors,isValid:!1})},B=(N,X,re,Se)=>{const ve=Oe(o,N);if(ve){const pe=Oe(l,N,pn(re)?Oe(i,N):re);pn(pe)||Se&&Se.defaultChecked||X?Nt(l,N,X?pe:I1(ve._f)):$(N,pe),u.mount&&A()}},H=(N,X,re,Se,ve)=>{let pe=!1,xe=!1;const $e={name:N};if(!t.disabled){if(!re||Se){(g.isDirty||v.isDirty)&&(xe=r.isDirty,r.isDirty=$e.isDirty=q(),pe=xe!==$e.isDirty);const Xe=mo(Oe(i,N),X);xe=!!Oe(r.dirtyFields,N),Xe?yn(r.dirtyFields,N):Nt(r.dirtyFields,N,!0),$e.dirtyFields=r.dirtyFields,pe=pe||(g.dirtyFields||v.dirtyFields)&&xe!==!Xe}if(re){const Xe=Oe(r.touchedFields,N);Xe||(Nt(r.touchedFields,N,re),$e.touchedFields=r.touchedFields,pe=pe||(g.touchedFields||v.touchedFields)&&Xe!==re)}pe&&ve&&x.state.next($e)}return pe?$e:{}},L=(N,X,re,Se)=>{const ve=Oe(r.errors,N),pe=(g.isValid||v.isValid)&&Zr(X)&&r.isValid!==X;if(t.delayError&&re?(p=E(()=>M(N,re)),p(t.delayError)):(clearTimeout(h),p=null,re?Nt(r.errors,N,re):yn(r.errors,N)),(re?!mo(ve,re):ve)||!Un(Se)||pe){const xe={...Se,...pe&&Zr(X)?{isValid:X}:{},errors:r.errors,name:N};r={...r,...xe},x.state.next(xe)}},F=async N=>{j(N,!0);const X=await t.resolver(l,t.context,Jz(N||d.mount,o,t.criteriaMode,t.shouldUseNativeValidation));return j(N),X},R=async N=>{const{errors:X}=await F(N);if(N)for(const re of N){const Se=Oe(X,re);Se?Nt(r.errors,re,Se):yn(r.errors,re)}else r.errors=X;return X},P=async(N,X,re={valid:!0})=>{for(const Se in N){const ve=N[Se];if(ve){const{_f:pe,...xe}=ve;if(pe){const $e=d.array.has(pe.name),Xe=ve._f&&eB(ve._f);Xe&&g.validatingFields&&j([Se],!0);const Ee=await Y1(ve,d.disabled,l,C,t.shouldUseNativeValidation&&!X,$e);if(Xe&&g.validatingFields&&j([Se]),Ee[pe.name]&&(re.valid=!1,X))break;!X&&(Oe(Ee,pe.name)?$e?iB(r.errors,Ee,pe.name):Nt(r.errors,pe.name,Ee[pe.name]):yn(r.errors,pe.name))}!Un(xe)&&await P(xe,X,re)}}return re.valid},I=()=>{for(const N of d.unMount){const X=Oe(o,N);X&&(X._f.refs?X._f.refs.every(re=>!um(re)):!um(X._f.ref))&&et(N)}d.unMount=new Set},q=(N,X)=>!t.disabled&&(N&&X&&Nt(l,N,X),!mo(ie(),i)),ee=(N,X,re)=>Zz(N,d,{...u.mount?l:pn(X)?i:ta(N)?{[N]:X}:X},re,X),Q=N=>Tf(Oe(u.mount?l:i,N,t.shouldUnregister?Oe(i,N,[]):[])),$=(N,X,re={})=>{const Se=Oe(o,N);let ve=X;if(Se){const pe=Se._f;pe&&(!pe.disabled&&Nt(l,N,ww(X,pe)),ve=Pd(pe.ref)&&In(X)?"":X,bw(pe.ref)?[...pe.ref.options].forEach(xe=>xe.selected=ve.includes(xe.value)):pe.refs?Ic(pe.ref)?pe.refs.length>1?pe.refs.forEach(xe=>(!xe.defaultChecked||!xe.disabled)&&(xe.checked=Array.isArray(ve)?!!ve.find($e=>$e===xe.value):ve===xe.value)):pe.refs[0]&&(pe.refs[0].checked=!!ve):pe.refs.forEach(xe=>xe.checked=xe.value===ve):Ig(pe.ref)?pe.ref.value="":(pe.ref.value=ve,pe.ref.type||x.state.next({name:N,values:Dn(l)})))}(re.shouldDirty||re.shouldTouch)&&H(N,ve,re.shouldTouch,re.shouldDirty,!0),re.shouldValidate&&W(N)},Y=(N,X,re)=>{for(const Se in X){const ve=X[Se],pe=`${N}.${Se}`,xe=Oe(o,pe);(d.array.has(N)||ln(ve)||xe&&!xe._f)&&!Xo(ve)?Y(pe,ve,re):$(pe,ve,re)}},J=(N,X,re={})=>{const Se=Oe(o,N),ve=d.array.has(N),pe=Dn(X);Nt(l,N,pe),ve?(x.array.next({name:N,values:Dn(l)}),(g.isDirty||g.dirtyFields||v.isDirty||v.dirtyFields)&&re.shouldDirty&&x.state.next({name:N,dirtyFields:Hl(i,l),isDirty:q(N,pe)})):Se&&!Se._f&&!In(pe)?Y(N,pe,re):$(N,pe,re),F1(N,d)&&x.state.next({...r}),x.state.next({name:u.mount?N:void 0,values:Dn(l)})},G=async N=>{u.mount=!0;const X=N.target;let re=X.name,Se=!0;const ve=Oe(o,re),pe=xe=>{Se=Number.isNaN(xe)||Xo(xe)&&isNaN(xe.getTime())||mo(xe,Oe(l,re,xe))};if(ve){let xe,$e;const Xe=X.type?I1(ve._f):Fz(N),Ee=N.type===z1.BLUR||N.type===z1.FOCUS_OUT,an=!tB(ve._f)&&!t.resolver&&!Oe(r.errors,re)&&!ve._f.deps||aB(Ee,Oe(r.touchedFields,re),r.isSubmitted,S,T),Bt=F1(re,d,Ee);Nt(l,re,Xe),Ee?(ve._f.onBlur&&ve._f.onBlur(N),p&&p(0)):ve._f.onChange&&ve._f.onChange(N);const Ht=H(re,Xe,Ee),Ae=!Un(Ht)||Bt;if(!Ee&&x.state.next({name:re,type:N.type,values:Dn(l)}),an)return(g.isValid||v.isValid)&&(t.mode==="onBlur"?Ee&&A():Ee||A()),Ae&&x.state.next({name:re,...Bt?{}:Ht});if(!Ee&&Bt&&x.state.next({...r}),t.resolver){const{errors:mt}=await F([re]);if(pe(Xe),Se){const Lt=q1(r.errors,o,re),Vn=q1(mt,o,Lt.name||re);xe=Vn.error,re=Vn.name,$e=Un(mt)}}else j([re],!0),xe=(await Y1(ve,d.disabled,l,C,t.shouldUseNativeValidation))[re],j([re]),pe(Xe),Se&&(xe?$e=!1:(g.isValid||v.isValid)&&($e=await P(o,!0)));Se&&(ve._f.deps&&W(ve._f.deps),L(re,$e,xe,Ht))}},D=(N,X)=>{if(Oe(r.errors,X)&&N.focus)return N.focus(),1},W=async(N,X={})=>{let re,Se;const ve=Jl(N);if(t.resolver){const pe=await R(pn(N)?N:ve);re=Un(pe),Se=N?!ve.some(xe=>Oe(pe,xe)):re}else N?(Se=(await Promise.all(ve.map(async pe=>{const xe=Oe(o,pe);return await P(xe&&xe._f?{[pe]:xe}:xe)}))).every(Boolean),!(!Se&&!r.isValid)&&A()):Se=re=await P(o);return x.state.next({...!ta(N)||(g.isValid||v.isValid)&&re!==r.isValid?{}:{name:N},...t.resolver||!N?{isValid:re}:{},errors:r.errors}),X.shouldFocus&&!Se&&ec(o,D,N?ve:d.mount),Se},ie=N=>{const X={...u.mount?l:i};return pn(N)?X:ta(N)?Oe(X,N):N.map(re=>Oe(X,re))},oe=(N,X)=>({invalid:!!Oe((X||r).errors,N),isDirty:!!Oe((X||r).dirtyFields,N),error:Oe((X||r).errors,N),isValidating:!!Oe(r.validatingFields,N),isTouched:!!Oe((X||r).touchedFields,N)}),ye=N=>{N&&Jl(N).forEach(X=>yn(r.errors,X)),x.state.next({errors:N?r.errors:{}})},ue=(N,X,re)=>{const Se=(Oe(o,N,{_f:{}})._f||{}).ref,ve=Oe(r.errors,N)||{},{ref:pe,message:xe,type:$e,...Xe}=ve;Nt(r.errors,N,{...Xe,...X,ref:Se}),x.state.next({name:N,errors:r.errors,isValid:!1}),re&&re.shouldFocus&&Se&&Se.focus&&Se.focus()},he=(N,X)=>Or(N)?x.state.subscribe({next:re=>N(ee(void 0,X),re)}):ee(N,X,!0),Ne=N=>x.state.subscribe({next:X=>{rB(N.name,X.name,N.exact)&&nB(X,N.formState||g,yt,N.reRenderRoot)&&N.callback({values:{...l},...r,...X})}}).unsubscribe,Ie=N=>(u.mount=!0,v={...v,...N.formState},Ne({...N,formState:v})),et=(N,X={})=>{for(const re of N?Jl(N):d.mount)d.mount.delete(re),d.array.delete(re),X.keepValue||(yn(o,re),yn(l,re)),!X.keepError&&yn(r.errors,re),!X.keepDirty&&yn(r.dirtyFields,re),!X.keepTouched&&yn(r.touchedFields,re),!X.keepIsValidating&&yn(r.validatingFields,re),!t.shouldUnregister&&!X.keepDefaultValue&&yn(i,re);x.state.next({values:Dn(l)}),x.state.next({...r,...X.keepDirty?{isDirty:q()}:{}}),!X.keepIsValid&&A()},Me=({disabled:N,name:X})=>{(Zr(N)&&u.mount||N||d.disabled.has(X))&&(N?d.disabled.add(X):d.disabled.delete(X))},Ke=(N,X={})=>{let re=Oe(o,N);const Se=Zr(X.disabled)||Zr(t.disabled);return Nt(o,N,{...re||{},_f:{...re&&re._f?re._f:{ref:{name:N}},name:N,mount:!0,...X}}),d.mount.add(N),re?Me({disabled:Zr(X.disabled)?X.disabled:t.disabled,name:N}):B(N,!0,X.value),{...Se?{disabled:X.disabled||t.disabled}:{},...t.progressive?{required:!!X.required,min:Vl(X.min),max:Vl(X.max),minLength:Vl(X.minLength),maxLength:Vl(X.maxLength),pattern:Vl(X.pattern)}:{},name:N,onChange:G,onBlur:G,ref:ve=>{if(ve){Ke(N,X),re=Oe(o,N);const pe=pn(ve.value)&&ve.querySelectorAll&&ve.querySelectorAll("input,select,textarea")[0]||ve,xe=Xz(pe),$e=re._f.refs||[];if(xe?$e.find(Xe=>Xe===pe):pe===re._f.ref)return;Nt(o,N,{_f:{...re._f,...xe?{refs:[...$e.filter(um),pe,...Array.isArray(Oe(i,N))?[{}]:[]],ref:{type:pe.type,name:N}}:{ref:pe}}}),B(N,!1,void 0,pe)}else re=Oe(o,N,{}),re._f&&(re._f.mount=!1),(t.shouldUnregister||X.shouldUnregister)&&!(Wz(d.array,N)&&u.action)&&d.unMount.add(N)}}},Qe=()=>t.shouldFocusError&&ec(o,D,d.mount),ht=N=>{Zr(N)&&(x.state.next({disabled:N}),ec(o,(X,re)=>{const Se=Oe(o,re);Se&&(X.disabled=Se._f.disabled||N,Array.isArray(Se._f.refs)&&Se._f.refs.forEach(ve=>{ve.disabled=Se._f.disabled||N}))},0,!1))},Ze=(N,X)=>async re=>{let Se;re&&(re.preventDefault&&re.preventDefault(),re.persist&&re.persist());let ve=Dn(l);if(x.state.next({isSubmitting:!0}),t.resolver){const{errors:pe,values:xe}=await F();r.errors=pe,ve=xe}else await P(o);if(d.disabled.size)for(const pe of d.disabled)Nt(ve,pe,void 0);if(yn(r.errors,"root"),Un(r.errors)){x.state.next({errors:{}});try{await N(ve,re)}catch(pe){Se=pe}}else X&&await X({...r.errors},re),Qe(),setTimeout(Qe);if(x.state.next({isSubmitted:!0,isSubmitting:!1,isSubmitSuccessful:Un(r.errors)&&!Se,submitCount:r.submitCount+1,errors:r.errors}),Se)throw Se},xt=(N,X={})=>{Oe(o,N)&&(pn(X.defaultValue)?J(N,Dn(Oe(i,N))):(J(N,X.defaultValue),Nt(i,N,Dn(X.defaultValue))),X.keepTouched||yn(r.touchedFields,N),X.keepDirty||(yn(r.dirtyFields,N),r.isDirty=X.defaultValue?q(N,Dn(Oe(i,N))):q()),X.keepError||(yn(r.errors,N),g.isValid&&A()),x.state.next({...r}))},Yt=(N,X={})=>{const re=N?Dn(N):i,Se=Dn(re),ve=Un(N),pe=ve?i:Se;if(X.keepDefaultValues||(i=re),!X.keepValues){if(X.keepDirtyValues){const xe=new Set([...d.mount,...Object.keys(Hl(i,l))]);for(const $e of Array.from(xe))Oe(r.dirtyFields,$e)?Nt(pe,$e,Oe(l,$e)):J($e,Oe(pe,$e))}else{if(Pg&&pn(N))for(const xe of d.mount){const $e=Oe(o,xe);if($e&&$e._f){const Xe=Array.isArray($e._f.refs)?$e._f.refs[0]:$e._f.ref;if(Pd(Xe)){const Ee=Xe.closest("form");if(Ee){Ee.reset();break}}}}for(const xe of d.mount)J(xe,Oe(pe,xe))}l=Dn(pe),x.array.next({values:{...pe}}),x.state.next({values:{...pe}})}d={mount:X.keepDirtyValues?d.mount:new Set,unMount:new Set,array:new Set,disabled:new Set,watch:new Set,watchAll:!1,focus:""},u.mount=!g.isValid||!!X.keepIsValid||!!X.keepDirtyValues,u.watch=!!t.shouldUnregister,x.state.next({submitCount:X.keepSubmitCount?r.submitCount:0,isDirty:ve?!1:X.keepDirty?r.isDirty:!!(X.keepDefaultValues&&!mo(N,i)),isSubmitted:X.keepIsSubmitted?r.isSubmitted:!1,dirtyFields:ve?{}:X.keepDirtyValues?X.keepDefaultValues&&l?Hl(i,l):r.dirtyFields:X.keepDefaultValues&&N?Hl(i,N):X.keepDirty?r.dirtyFields:{},touchedFields:X.keepTouched?r.touchedFields:{},errors:X.keepErrors?r.errors:{},isSubmitSuccessful:X.keepIsSubmitSuccessful?r.isSubmitSuccessful:!1,isSubmitting:!1})},nt=(N,X)=>Yt(Or(N)?N(l):N,X),gt=(N,X={})=>{const re=Oe(o,N),Se=re&&re._f;if(Se){const ve=Se.refs?Se.refs[0]:Se.ref;ve.focus&&(ve.focus(),X.shouldSelect&&Or(ve.select)&&ve.select())}},yt=N=>{r={...r,...N}},lt={control:{register:Ke,unregister:et,getFieldState:oe,handleSubmit:Ze,setError:ue,_subscribe:Ne,_runSchema:F,_getWatch:ee,_getDirty:q,_setValid:A,_setFieldArray:k,_setDisabledField:Me,_setErrors:O,_getFieldArray:Q,_reset:Yt,_resetDefaultValues:()=>Or(t.defaultValues)&&t.defaultValues().then(N=>{nt(N,t.resetOptions),x.state.next({isLoading:!1})}),_removeUnmounted:I,_disableForm:ht,_subjects:x,_proxyFormState:g,get _fields(){return o},get _formValues(){return l},get _state(){return u},set _state(N){u=N},get _defaultValues(){return i},get _names(){return d},set _names(N){d=N},get _formState(){return r},get _options(){return t},set _options(N){t={...t,...N}}},subscribe:Ie,trigger:W,register:Ke,handleSubmit:Ze,watch:he,setValue:J,getValues:ie,reset:nt,resetField:xt,clearErrors:ye,unregister:et,setError:ue,setFocus:gt,getFieldState:oe};return{...lt,formControl:lt}}function Ew(e={}){const t=Zt.useRef(void 0),r=Zt.useRef(void 0),[o,i]=Zt.useState({isDirty:!1,isValidating:!1,isLoading:Or(e.defaultValues),isSubmitted:!1,isSubmitting:!1,isSubmitSuccessful:!1,isValid:!1,submitCount:0,dirtyFields:{},touchedFields:{},validatingFields:{},errors:e.errors||{},disabled:e.disabled||!1,defaultValues:Or(e.defaultValues)?void 0:e.defaultValues});t.current||(t.current={...e.formControl?e.formControl:lB(e),formState:o},e.formControl&&e.defaultValues&&!Or(e.defaultValues)&&e.formControl.reset(e.defaultValues,e.resetOptions));const l=t.current.control;return l._options=e,Zt.useLayoutEffect(()=>l._subscribe({formState:l._proxyFormState,callback:()=>i({...l._formState}),reRenderRoot:!0}),[l]),Zt.useEffect(()=>l._disableForm(e.disabled),[l,e.disabled]),Zt.useEffect(()=>{if(l._proxyFormState.isDirty){const u=l._getDirty();u!==o.isDirty&&l._subjects.state.next({isDirty:u})}},[l,o.isDirty]),Zt.useEffect(()=>{e.values&&!mo(e.values,r.current)?(l._reset(e.values,l._options.resetOptions),r.current=e.values,i(u=>({...u}))):l._resetDefaultValues()},[e.values,l]),Zt.useEffect(()=>{e.errors&&!Un(e.errors)&&l._setErrors(e.errors)},[e.errors,l]),Zt.useEffect(()=>{l._state.mount||(l._setValid(),l._state.mount=!0),l._state.watch&&(l._state.watch=!1,l._subjects.state.next({...l._formState})),l._removeUnmounted()}),Zt.useEffect(()=>{e.shouldUnregister&&l._subjects.state.next({values:l._getWatch()})},[e.shouldUnregister,l]),t.current.formState=Gz(o,l),t.current}const G1=(e,t,r)=>{if(e&&"reportValidity"in e){const o=Oe(r,t);e.setCustomValidity(o&&o.message||""),e.reportValidity()}},Rw=(e,t)=>{for(const r in t.fields){const o=t.fields[r];o&&o.ref&&"reportValidity"in o.ref?G1(o.ref,r,e):o&&o.refs&&o.refs.forEach(i=>G1(i,r,e))}},cB=(e,t)=>{t.shouldUseNativeValidation&&Rw(e,t);const r={};for(const o in e){const i=Oe(t.fields,o),l=Object.assign(e[o]||{},{ref:i&&i.ref});if(uB(t.names||Object.keys(e),o)){const u=Object.assign({},Oe(r,o));Nt(u,"root",l),Nt(r,o,u)}else Nt(r,o,l)}return r},uB=(e,t)=>{const r=Z1(t);return e.some(o=>Z1(o).match(`^${r}\\.\\d+`))};function Z1(e){return e.replace(/\]|\[/g,"")}function dB(e,t){for(var r={};e.length;){var o=e[0],i=o.code,l=o.message,u=o.path.join(".");if(!r[u])if("unionErrors"in o){var d=o.unionErrors[0].errors[0];r[u]={message:d.message,type:d.code}}else r[u]={message:l,type:i};if("unionErrors"in o&&o.unionErrors.forEach(function(g){return g.errors.forEach(function(v){return e.push(v)})}),t){var p=r[u].types,h=p&&p[o.code];r[u]=vw(u,t,r,i,h?[].concat(h,o.message):o.message)}e.shift()}return r}function kw(e,t,r){return r===void 0&&(r={}),function(o,i,l){try{return Promise.resolve(function(u,d){try{var p=Promise.resolve(e[r.mode==="sync"?"parse":"parseAsync"](o,t)).then(function(h){return l.shouldUseNativeValidation&&Rw({},l),{errors:{},values:r.raw?Object.assign({},o):h}})}catch(h){return d(h)}return p&&p.then?p.then(void 0,d):p}(0,function(u){if(function(d){return Array.isArray(d==null?void 0:d.errors)}(u))return{values:{},errors:cB(dB(u.errors,!l.shouldUseNativeValidation&&l.criteriaMode==="all"),l)};throw u}))}catch(u){return Promise.reject(u)}}}var bt;(function(e){e.assertEqual=i=>i;function t(i){}e.assertIs=t;function r(i){throw new Error}e.assertNever=r,e.arrayToEnum=i=>{const l={};for(const u of i)l[u]=u;return l},e.getValidEnumValues=i=>{const l=e.objectKeys(i).filter(d=>typeof i[i[d]]!="number"),u={};for(const d of l)u[d]=i[d];return e.objectValues(u)},e.objectValues=i=>e.objectKeys(i).map(function(l){return i[l]}),e.objectKeys=typeof Object.keys=="function"?i=>Object.keys(i):i=>{const l=[];for(const u in i)Object.prototype.hasOwnProperty.call(i,u)&&l.push(u);return l},e.find=(i,l)=>{for(const u of i)if(l(u))return u},e.isInteger=typeof Number.isInteger=="function"?i=>Number.isInteger(i):i=>typeof i=="number"&&isFinite(i)&&Math.floor(i)===i;function o(i,l=" | "){return i.map(u=>typeof u=="string"?`'${u}'`:u).join(l)}e.joinValues=o,e.jsonStringifyReplacer=(i,l)=>typeof l=="bigint"?l.toString():l})(bt||(bt={}));var Im;(function(e){e.mergeShapes=(t,r)=>({...t,...r})})(Im||(Im={}));const Te=bt.arrayToEnum(["string","nan","number","integer","float","boolean","date","bigint","symbol","function","undefined","null","array","object","unknown","promise","void","never","map","set"]),Da=e=>{switch(typeof e){case"undefined":return Te.undefined;case"string":return Te.string;case"number":return isNaN(e)?Te.nan:Te.number;case"boolean":return Te.boolean;case"function":return Te.function;case"bigint":return Te.bigint;case"symbol":return Te.symbol;case"object":return Array.isArray(e)?Te.array:e===null?Te.null:e.then&&typeof e.then=="function"&&e.catch&&typeof e.catch=="function"?Te.promise:typeof Map<"u"&&e instanceof Map?Te.map:typeof Set<"u"&&e instanceof Set?Te.set:typeof Date<"u"&&e instanceof Date?Te.date:Te.object;default:return Te.unknown}},ge=bt.arrayToEnum(["invalid_type","invalid_literal","custom","invalid_union","invalid_union_discriminator","invalid_enum_value","unrecognized_keys","invalid_arguments","invalid_return_type","invalid_date","invalid_string","too_small","too_big","invalid_intersection_types","not_multiple_of","not_finite"]),fB=e=>JSON.stringify(e,null,2).replace(/"([^"]+)":/g,"$1:");class sr extends Error{get errors(){return this.issues}constructor(t){super(),this.issues=[],this.addIssue=o=>{this.issues=[...this.issues,o]},this.addIssues=(o=[])=>{this.issues=[...this.issues,...o]};const r=new.target.prototype;Object.setPrototypeOf?Object.setPrototypeOf(this,r):this.__proto__=r,this.name="ZodError",this.issues=t}format(t){const r=t||function(l){return l.message},o={_errors:[]},i=l=>{for(const u of l.issues)if(u.code==="invalid_union")u.unionErrors.map(i);else if(u.code==="invalid_return_type")i(u.returnTypeError);else if(u.code==="invalid_arguments")i(u.argumentsError);else if(u.path.length===0)o._errors.push(r(u));else{let d=o,p=0;for(;p<u.path.length;){const h=u.path[p];p===u.path.length-1?(d[h]=d[h]||{_errors:[]},d[h]._errors.push(r(u))):d[h]=d[h]||{_errors:[]},d=d[h],p++}}};return i(this),o}static assert(t){if(!(t instanceof sr))throw new Error(`Not a ZodError: ${t}`)}toString(){return this.message}get message(){return JSON.stringify(this.issues,bt.jsonStringifyReplacer,2)}get isEmpty(){return this.issues.length===0}flatten(t=r=>r.message){const r={},o=[];for(const i of this.issues)i.path.length>0?(r[i.path[0]]=r[i.path[0]]||[],r[i.path[0]].push(t(i))):o.push(t(i));return{formErrors:o,fieldErrors:r}}get formErrors(){return this.flatten()}}sr.create=e=>new sr(e);const bs=(e,t)=>{let r;switch(e.code){case ge.invalid_type:e.received===Te.undefined?r="Required":r=`Expected ${e.expected}, received ${e.received}`;break;case ge.invalid_literal:r=`Invalid literal value, expected ${JSON.stringify(e.expected,bt.jsonStringifyReplacer)}`;break;case ge.unrecognized_keys:r=`Unrecognized key(s) in object: ${bt.joinValues(e.keys,", ")}`;break;case ge.invalid_union:r="Invalid input";break;case ge.invalid_union_discriminator:r=`Invalid discriminator value. Expected ${bt.joinValues(e.options)}`;break;case ge.invalid_enum_value:r=`Invalid enum value. Expected ${bt.joinValues(e.options)}, received '${e.received}'`;break;case ge.invalid_arguments:r="Invalid function arguments";break;case ge.invalid_return_type:r="Invalid function return type";break;case ge.invalid_date:r="Invalid date";break;case ge.invalid_string:typeof e.validation=="object"?"includes"in e.validation?(r=`Invalid input: must include "${e.validation.includes}"`,typeof e.validation.position=="number"&&(r=`${r} at one or more positions greater than or equal to ${e.validation.position}`)):"startsWith"in e.validation?r=`Invalid input: must start with "${e.validation.startsWith}"`:"endsWith"in e.validation?r=`Invalid input: must end with "${e.validation.endsWith}"`:bt.assertNever(e.validation):e.validation!=="regex"?r=`Invalid ${e.validation}`:r="Invalid";break;case ge.too_small:e.type==="array"?r=`Array must contain ${e.exact?"exactly":e.inclusive?"at least":"more than"} ${e.minimum} element(s)`:e.type==="string"?r=`String must contain ${e.exact?"exactly":e.inclusive?"at least":"over"} ${e.minimum} character(s)`:e.type==="number"?r=`Number must be ${e.exact?"exactly equal to ":e.inclusive?"greater than or equal to ":"greater than "}${e.minimum}`:e.type==="date"?r=`Date must be ${e.exact?"exactly equal to ":e.inclusive?"greater than or equal to ":"greater than "}${new Date(Number(e.minimum))}`:r="Invalid input";break;case ge.too_big:e.type==="array"?r=`Array must contain ${e.exact?"exactly":e.inclusive?"at most":"less than"} ${e.maximum} element(s)`:e.type==="string"?r=`String must contain ${e.exact?"exactly":e.inclusive?"at most":"under"} ${e.maximum} character(s)`:e.type==="number"?r=`Number must be ${e.exact?"exactly":e.inclusive?"less than or equal to":"less than"} ${e.maximum}`:e.type==="bigint"?r=`BigInt must be ${e.exact?"exactly":e.inclusive?"less than or equal to":"less than"} ${e.maximum}`:e.type==="date"?r=`Date must be ${e.exact?"exactly":e.inclusive?"smaller than or equal to":"smaller than"} ${new Date(Number(e.maximum))}`:r="Invalid input";break;case ge.custom:r="Invalid input";break;case ge.invalid_intersection_types:r="Intersection results could not be merged";break;case ge.not_multiple_of:r=`Number must be a multiple of ${e.multipleOf}`;break;case ge.not_finite:r="Number must be finite";break;default:r=t.defaultError,bt.assertNever(e)}return{message:r}};let Aw=bs;function pB(e){Aw=e}function Hd(){return Aw}const Vd=e=>{const{data:t,path:r,errorMaps:o,issueData:i}=e,l=[...r,...i.path||[]],u={...i,path:l};if(i.message!==void 0)return{...i,path:l,message:i.message};let d="";const p=o.filter(h=>!!h).slice().reverse();for(const h of p)d=h(u,{data:t,defaultError:d}).message;return{...i,path:l,message:d}},hB=[];function Ce(e,t){const r=Hd(),o=Vd({issueData:t,data:e.data,path:e.path,errorMaps:[e.common.contextualErrorMap,e.schemaErrorMap,r,r===bs?void 0:bs].filter(i=>!!i)});e.common.issues.push(o)}class zn{constructor(){this.value="valid"}dirty(){this.value==="valid"&&(this.value="dirty")}abort(){this.value!=="aborted"&&(this.value="aborted")}static mergeArray(t,r){const o=[];for(const i of r){if(i.status==="aborted")return Ye;i.status==="dirty"&&t.dirty(),o.push(i.value)}return{status:t.value,value:o}}static async mergeObjectAsync(t,r){const o=[];for(const i of r){const l=await i.key,u=await i.value;o.push({key:l,value:u})}return zn.mergeObjectSync(t,o)}static mergeObjectSync(t,r){const o={};for(const i of r){const{key:l,value:u}=i;if(l.status==="aborted"||u.status==="aborted")return Ye;l.status==="dirty"&&t.dirty(),u.status==="dirty"&&t.dirty(),l.value!=="__proto__"&&(typeof u.value<"u"||i.alwaysSet)&&(o[l.value]=u.value)}return{status:t.value,value:o}}}const Ye=Object.freeze({status:"aborted"}),is=e=>({status:"dirty",value:e}),Hn=e=>({status:"valid",value:e}),Hm=e=>e.status==="aborted",Vm=e=>e.status==="dirty",ai=e=>e.status==="valid",dc=e=>typeof Promise<"u"&&e instanceof Promise;function Fd(e,t,r,o){if(typeof t=="function"?e!==t||!0:!t.has(e))throw new TypeError("Cannot read private member from an object whose class did not declare it");return t.get(e)}function _w(e,t,r,o,i){if(typeof t=="function"?e!==t||!0:!t.has(e))throw new TypeError("Cannot write private member to an object whose class did not declare it");return t.set(e,r),r}var De;(function(e){e.errToObj=t=>typeof t=="string"?{message:t}:t||{},e.toString=t=>typeof t=="string"?t:t==null?void 0:t.message})(De||(De={}));var Yl,Gl;class sa{constructor(t,r,o,i){this._cachedPath=[],this.parent=t,this.data=r,this._path=o,this._key=i}get path(){return this._cachedPath.length||(this._key instanceof Array?this._cachedPath.push(...this._path,...this._key):this._cachedPath.push(...this._path,this._key)),this._cachedPath}}const X1=(e,t)=>{if(ai(t))return{success:!0,data:t.value};if(!e.common.issues.length)throw new Error("Validation failed but no issues detected.");return{success:!1,get error(){if(this._error)return this._error;const r=new sr(e.common.issues);return this._error=r,this._error}}};function at(e){if(!e)return{};const{errorMap:t,invalid_type_error:r,required_error:o,description:i}=e;if(t&&(r||o))throw new Error(`Can't use "invalid_type_error" or "required_error" in conjunction with custom error map.`);return t?{errorMap:t,description:i}:{errorMap:(u,d)=>{var p,h;const{message:g}=e;return u.code==="invalid_enum_value"?{message:g??d.defaultError}:typeof d.data>"u"?{message:(p=g??o)!==null&&p!==void 0?p:d.defaultError}:u.code!=="invalid_type"?{message:d.defaultError}:{message:(h=g??r)!==null&&h!==void 0?h:d.defaultError}},description:i}}class st{get description(){return this._def.description}_getType(t){return Da(t.data)}_getOrReturnCtx(t,r){return r||{common:t.parent.common,data:t.data,parsedType:Da(t.data),schemaErrorMap:this._def.errorMap,path:t.path,parent:t.parent}}_processInputParams(t){return{status:new zn,ctx:{common:t.parent.common,data:t.data,parsedType:Da(t.data),schemaErrorMap:this._def.errorMap,path:t.path,parent:t.parent}}}_parseSync(t){const r=this._parse(t);if(dc(r))throw new Error("Synchronous parse encountered promise.");return r}_parseAsync(t){const r=this._parse(t);return Promise.resolve(r)}parse(t,r){const o=this.safeParse(t,r);if(o.success)return o.data;throw o.error}safeParse(t,r){var o;const i={common:{issues:[],async:(o=r==null?void 0:r.async)!==null&&o!==void 0?o:!1,contextualErrorMap:r==null?void 0:r.errorMap},path:(r==null?void 0:r.path)||[],schemaErrorMap:this._def.errorMap,parent:null,data:t,parsedType:Da(t)},l=this._parseSync({data:t,path:i.path,parent:i});return X1(i,l)}"~validate"(t){var r,o;const i={common:{issues:[],async:!!this["~standard"].async},path:[],schemaErrorMap:this._def.errorMap,parent:null,data:t,parsedType:Da(t)};if(!this["~standard"].async)try{const l=this._parseSync({data:t,path:[],parent:i});return ai(l)?{value:l.value}:{issues:i.common.issues}}catch(l){!((o=(r=l==null?void 0:l.message)===null||r===void 0?void 0:r.toLowerCase())===null||o===void 0)&&o.includes("encountered")&&(this["~standard"].async=!0),i.common={issues:[],async:!0}}return this._parseAsync({data:t,path:[],parent:i}).then(l=>ai(l)?{value:l.value}:{issues:i.common.issues})}async parseAsync(t,r){const o=await this.safeParseAsync(t,r);if(o.success)return o.data;throw o.error}async safeParseAsync(t,r){const o={common:{issues:[],contextualErrorMap:r==null?void 0:r.errorMap,async:!0},path:(r==null?void 0:r.path)||[],schemaErrorMap:this._def.errorMap,parent:null,data:t,parsedType:Da(t)},i=this._parse({data:t,path:o.path,parent:o}),l=await(dc(i)?i:Promise.resolve(i));return X1(o,l)}refine(t,r){const o=i=>typeof r=="string"||typeof r>"u"?{message:r}:typeof r=="function"?r(i):r;return this._refinement((i,l)=>{const u=t(i),d=()=>l.addIssue({code:ge.custom,...o(i)});return typeof Promise<"u"&&u instanceof Promise?u.then(p=>p?!0:(d(),!1)):u?!0:(d(),!1)})}refinement(t,r){return this._refinement((o,i)=>t(o)?!0:(i.addIssue(typeof r=="function"?r(o,i):r),!1))}_refinement(t){return new $r({schema:this,typeName:qe.ZodEffects,effect:{type:"refinement",refinement:t}})}superRefine(t){return this._refinement(t)}constructor(t){this.spa=this.safeParseAsync,this._def=t,this.parse=this.parse.bind(this),this.safeParse=this.safeParse.bind(this),this.parseAsync=this.parseAsync.bind(this),this.safeParseAsync=this.safeParseAsync.bind(this),this.spa=this.spa.bind(this),this.refine=this.refine.bind(this),this.refinement=this.refinement.bind(this),this.superRefine=this.superRefine.bind(this),this.optional=this.optional.bind(this),this.nullable=this.nullable.bind(this),this.nullish=this.nullish.bind(this),this.array=this.array.bind(this),this.promise=this.promise.bind(this),this.or=this.or.bind(this),this.and=this.and.bind(this),this.transform=this.transform.bind(this),this.brand=this.brand.bind(this),this.default=this.default.bind(this),this.catch=this.catch.bind(this),this.describe=this.describe.bind(this),this.pipe=this.pipe.bind(this),this.readonly=this.readonly.bind(this),this.isNullable=this.isNullable.bind(this),this.isOptional=this.isOptional.bind(this),this["~standard"]={version:1,vendor:"zod",validate:r=>this["~validate"](r)}}optional(){return ia.create(this,this._def)}nullable(){return wo.create(this,this._def)}nullish(){return this.nullable().optional()}array(){return jr.create(this)}promise(){return Ss.create(this,this._def)}or(t){return mc.create([this,t],this._def)}and(t){return gc.create(this,t,this._def)}transform(t){return new $r({...at(this._def),schema:this,typeName:qe.ZodEffects,effect:{type:"transform",transform:t}})}default(t){const r=typeof t=="function"?t:()=>t;return new Sc({...at(this._def),innerType:this,defaultValue:r,typeName:qe.ZodDefault})}brand(){return new Vg({typeName:qe.ZodBranded,type:this,...at(this._def)})}catch(t){const r=typeof t=="function"?t:()=>t;return new Cc({...at(this._def),innerType:this,catchValue:r,typeName:qe.ZodCatch})}describe(t){const r=this.constructor;return new r({...this._def,description:t})}pipe(t){return Hc.create(this,t)}readonly(){return wc.create(this)}isOptional(){return this.safeParse(void 0).success}isNullable(){return this.safeParse(null).success}}const mB=/^c[^\s-]{8,}$/i,gB=/^[0-9a-z]+$/,yB=/^[0-9A-HJKMNP-TV-Z]{26}$/i,vB=/^[0-9a-fA-F]{8}\b-[0-9a-fA-F]{4}\b-[0-9a-fA-F]{4}\b-[0-9a-fA-F]{4}\b-[0-9a-fA-F]{12}$/i,bB=/^[a-z0-9_-]{21}$/i,xB=/^[A-Za-z0-9-_]+\.[A-Za-z0-9-_]+\.[A-Za-z0-9-_]*$/,SB=/^[-+]?P(?!$)(?:(?:[-+]?\d+Y)|(?:[-+]?\d+[.,]\d+Y$))?(?:(?:[-+]?\d+M)|(?:[-+]?\d+[.,]\d+M$))?(?:(?:[-+]?\d+W)|(?:[-+]?\d+[.,]\d+W$))?(?:(?:[-+]?\d+D)|(?:[-+]?\d+[.,]\d+D$))?(?:T(?=[\d+-])(?:(?:[-+]?\d+H)|(?:[-+]?\d+[.,]\d+H$))?(?:(?:[-+]?\d+M)|(?:[-+]?\d+[.,]\d+M$))?(?:[-+]?\d+(?:[.,]\d+)?S)?)??$/,CB=/^(?!\.)(?!.*\.\.)([A-Z0-9_'+\-\.]*)[A-Z0-9_+-]@([A-Z0-9][A-Z0-9\-]*\.)+[A-Z]{2,}$/i,wB="^(\\p{Extended_Pictographic}|\\p{Emoji_Component})+$";let dm;const TB=/^(?:(?:25[0-5]|2[0-4][0-9]|1[0-9][0-9]|[1-9][0-9]|[0-9])\.){3}(?:25[0-5]|2[0-4][0-9]|1[0-9][0-9]|[1-9][0-9]|[0-9])$/,EB=/^(?:(?:25[0-5]|2[0-4][0-9]|1[0-9][0-9]|[1-9][0-9]|[0-9])\.){3}(?:25[0-5]|2[0-4][0-9]|1[0-9][0-9]|[1-9][0-9]|[0-9])\/(3[0-2]|[12]?[0-9])$/,RB=/^(([0-9a-fA-F]{1,4}:){7,7}[0-9a-fA-F]{1,4}|([0-9a-fA-F]{1,4}:){1,7}:|([0-9a-fA-F]{1,4}:){1,6}:[0-9a-fA-F]{1,4}|([0-9a-fA-F]{1,4}:){1,5}(:[0-9a-fA-F]{1,4}){1,2}|([0-9a-fA-F]{1,4}:){1,4}(:[0-9a-fA-F]{1,4}){1,3}|([0-9a-fA-F]{1,4}:){1,3}(:[0-9a-fA-F]{1,4}){1,4}|([0-9a-fA-F]{1,4}:){1,2}(:[0-9a-fA-F]{1,4}){1,5}|[0-9a-fA-F]{1,4}:((:[0-9a-fA-F]{1,4}){1,6})|:((:[0-9a-fA-F]{1,4}){1,7}|:)|fe80:(:[0-9a-fA-F]{0,4}){0,4}%[0-9a-zA-Z]{1,}|::(ffff(:0{1,4}){0,1}:){0,1}((25[0-5]|(2[0-4]|1{0,1}[0-9]){0,1}[0-9])\.){3,3}(25[0-5]|(2[0-4]|1{0,1}[0-9]){0,1}[0-9])|([0-9a-fA-F]{1,4}:){1,4}:((25[0-5]|(2[0-4]|1{0,1}[0-9]){0,1}[0-9])\.){3,3}(25[0-5]|(2[0-4]|1{0,1}[0-9]){0,1}[0-9]))$/,kB=/^(([0-9a-fA-F]{1,4}:){7,7}[0-9a-fA-F]{1,4}|([0-9a-fA-F]{1,4}:){1,7}:|([0-9a-fA-F]{1,4}:){1,6}:[0-9a-fA-F]{1,4}|([0-9a-fA-F]{1,4}:){1,5}(:[0-9a-fA-F]{1,4}){1,2}|([0-9a-fA-F]{1,4}:){1,4}(:[0-9a-fA-F]{1,4}){1,3}|([0-9a-fA-F]{1,4}:){1,3}(:[0-9a-fA-F]{1,4}){1,4}|([0-9a-fA-F]{1,4}:){1,2}(:[0-9a-fA-F]{1,4}){1,5}|[0-9a-fA-F]{1,4}:((:[0-9a-fA-F]{1,4}){1,6})|:((:[0-9a-fA-F]{1,4}){1,7}|:)|fe80:(:[0-9a-fA-F]{0,4}){0,4}%[0-9a-zA-Z]{1,}|::(ffff(:0{1,4}){0,1}:){0,1}((25[0-5]|(2[0-4]|1{0,1}[0-9]){0,1}[0-9])\.){3,3}(25[0-5]|(2[0-4]|1{0,1}[0-9]){0,1}[0-9])|([0-9a-fA-F]{1,4}:){1,4}:((25[0-5]|(2[0-4]|1{0,1}[0-9]){0,1}[0-9])\.){3,3}(25[0-5]|(2[0-4]|1{0,1}[0-9]){0,1}[0-9]))\/(12[0-8]|1[01][0-9]|[1-9]?[0-9])$/,AB=/^([0-9a-zA-Z+/]{4})*(([0-9a-zA-Z+/]{2}==)|([0-9a-zA-Z+/]{3}=))?$/,_B=/^([0-9a-zA-Z-_]{4})*(([0-9a-zA-Z-_]{2}(==)?)|([0-9a-zA-Z-_]{3}(=)?))?$/,Ow="((\\d\\d[2468][048]|\\d\\d[13579][26]|\\d\\d0[48]|[02468][048]00|[13579][26]00)-02-29|\\d{4}-((0[13578]|1[02])-(0[1-9]|[12]\\d|3[01])|(0[469]|11)-(0[1-9]|[12]\\d|30)|(02)-(0[1-9]|1\\d|2[0-8])))",OB=new RegExp(`^${Ow}$`);function Mw(e){let t="([01]\\d|2[0-3]):[0-5]\\d:[0-5]\\d";return e.precision?t=`${t}\\.\\d{${e.precision}}`:e.precision==null&&(t=`${t}(\\.\\d+)?`),t}function MB(e){return new RegExp(`^${Mw(e)}$`)}function jw(e){let t=`${Ow}T${Mw(e)}`;const r=[];return r.push(e.local?"Z?":"Z"),e.offset&&r.push("([+-]\\d{2}:?\\d{2})"),t=`${t}(${r.join("|")})`,new RegExp(`^${t}$`)}function jB(e,t){return!!((t==="v4"||!t)&&TB.test(e)||(t==="v6"||!t)&&RB.test(e))}function DB(e,t){if(!xB.test(e))return!1;try{const[r]=e.split("."),o=r.replace(/-/g,"+").replace(/_/g,"/").padEnd(r.length+(4-r.length%4)%4,"="),i=JSON.parse(atob(o));return!(typeof i!="object"||i===null||!i.typ||!i.alg||t&&i.alg!==t)}catch{return!1}}function NB(e,t){return!!((t==="v4"||!t)&&EB.test(e)||(t==="v6"||!t)&&kB.test(e))}class Mr extends st{_parse(t){if(this._def.coerce&&(t.data=String(t.data)),this._getType(t)!==Te.string){const l=this._getOrReturnCtx(t);return Ce(l,{code:ge.invalid_type,expected:Te.string,received:l.parsedType}),Ye}const o=new zn;let i;for(const l of this._def.checks)if(l.kind==="min")t.data.length<l.value&&(i=this._getOrReturnCtx(t,i),Ce(i,{code:ge.too_small,minimum:l.value,type:"string",inclusive:!0,exact:!1,message:l.message}),o.dirty());else if(l.kind==="max")t.data.length>l.value&&(i=this._getOrReturnCtx(t,i),Ce(i,{code:ge.too_big,maximum:l.value,type:"string",inclusive:!0,exact:!1,message:l.message}),o.dirty());else if(l.kind==="length"){const u=t.data.length>l.value,d=t.data.length<l.value;(u||d)&&(i=this._getOrReturnCtx(t,i),u?Ce(i,{code:ge.too_big,maximum:l.value,type:"string",inclusive:!0,exact:!0,message:l.message}):d&&Ce(i,{code:ge.too_small,minimum:l.value,type:"string",inclusive:!0,exact:!0,message:l.message}),o.dirty())}else if(l.kind==="email")CB.test(t.data)||(i=this._getOrReturnCtx(t,i),Ce(i,{validation:"email",code:ge.invalid_string,message:l.message}),o.dirty());else if(l.kind==="emoji")dm||(dm=new RegExp(wB,"u")),dm.test(t.data)||(i=this._getOrReturnCtx(t,i),Ce(i,{validation:"emoji",code:ge.invalid_string,message:l.message}),o.dirty());else if(l.kind==="uuid")vB.test(t.data)||(i=this._getOrReturnCtx(t,i),Ce(i,{validation:"uuid",code:ge.invalid_string,message:l.message}),o.dirty());else if(l.kind==="nanoid")bB.test(t.data)||(i=this._getOrReturnCtx(t,i),Ce(i,{validation:"nanoid",code:ge.invalid_string,message:l.message}),o.dirty());else if(l.kind==="cuid")mB.test(t.data)||(i=this._getOrReturnCtx(t,i),Ce(i,{validation:"cuid",code:ge.invalid_string,message:l.message}),o.dirty());else if(l.kind==="cuid2")gB.test(t.data)||(i=this._getOrReturnCtx(t,i),Ce(i,{validation:"cuid2",code:ge.invalid_string,message:l.message}),o.dirty());else if(l.kind==="ulid")yB.test(t.data)||(i=this._getOrReturnCtx(t,i),Ce(i,{validation:"ulid",code:ge.invalid_string,message:l.message}),o.dirty());else if(l.kind==="url")try{new URL(t.data)}catch{i=this._getOrReturnCtx(t,i),Ce(i,{validation:"url",code:ge.invalid_string,message:l.message}),o.dirty()}else l.kind==="regex"?(l.regex.lastIndex=0,l.regex.test(t.data)||(i=this._getOrReturnCtx(t,i),Ce(i,{validation:"regex",code:ge.invalid_string,message:l.message}),o.dirty())):l.kind==="trim"?t.data=t.data.trim():l.kind==="includes"?t.data.includes(l.value,l.position)||(i=this._getOrReturnCtx(t,i),Ce(i,{code:ge.invalid_string,validation:{includes:l.value,position:l.position},message:l.message}),o.dirty()):l.kind==="toLowerCase"?t.data=t.data.toLowerCase():l.kind==="toUpperCase"?t.data=t.data.toUpperCase():l.kind==="startsWith"?t.data.startsWith(l.value)||(i=this._getOrReturnCtx(t,i),Ce(i,{code:ge.invalid_string,validation:{startsWith:l.value},message:l.message}),o.dirty()):l.kind==="endsWith"?t.data.endsWith(l.value)||(i=this._getOrReturnCtx(t,i),Ce(i,{code:ge.invalid_string,validation:{endsWith:l.value},message:l.message}),o.dirty()):l.kind==="datetime"?jw(l).test(t.data)||(i=this._getOrReturnCtx(t,i),Ce(i,{code:ge.invalid_string,validation:"datetime",message:l.message}),o.dirty()):l.kind==="date"?OB.test(t.data)||(i=this._getOrReturnCtx(t,i),Ce(i,{code:ge.invalid_string,validation:"date",message:l.message}),o.dirty()):l.kind==="time"?MB(l).test(t.data)||(i=this._getOrReturnCtx(t,i),Ce(i,{code:ge.invalid_string,validation:"time",message:l.message}),o.dirty()):l.kind==="duration"?SB.test(t.data)||(i=this._getOrReturnCtx(t,i),Ce(i,{validation:"duration",code:ge.invalid_string,message:l.message}),o.dirty()):l.kind==="ip"?jB(t.data,l.version)||(i=this._getOrReturnCtx(t,i),Ce(i,{validation:"ip",code:ge.invalid_string,message:l.message}),o.dirty()):l.kind==="jwt"?DB(t.data,l.alg)||(i=this._getOrReturnCtx(t,i),Ce(i,{validation:"jwt",code:ge.invalid_string,message:l.message}),o.dirty()):l.kind==="cidr"?NB(t.data,l.version)||(i=this._getOrReturnCtx(t,i),Ce(i,{validation:"cidr",code:ge.invalid_string,message:l.message}),o.dirty()):l.kind==="base64"?AB.test(t.data)||(i=this._getOrReturnCtx(t,i),Ce(i,{validation:"base64",code:ge.invalid_string,message:l.message}),o.dirty()):l.kind==="base64url"?_B.test(t.data)||(i=this._getOrReturnCtx(t,i),Ce(i,{validation:"base64url",code:ge.invalid_string,message:l.message}),o.dirty()):bt.assertNever(l);return{status:o.value,value:t.data}}_regex(t,r,o){return this.refinement(i=>t.test(i),{validation:r,code:ge.invalid_string,...De.errToObj(o)})}_addCheck(t){return new Mr({...this._def,checks:[...this._def.checks,t]})}email(t){return this._addCheck({kind:"email",...De.errToObj(t)})}url(t){return this._addCheck({kind:"url",...De.errToObj(t)})}emoji(t){return this._addCheck({kind:"emoji",...De.errToObj(t)})}uuid(t){return this._addCheck({kind:"uuid",...De.errToObj(t)})}nanoid(t){return this._addCheck({kind:"nanoid",...De.errToObj(t)})}cuid(t){return this._addCheck({kind:"cuid",...De.errToObj(t)})}cuid2(t){return this._addCheck({kind:"cuid2",...De.errToObj(t)})}ulid(t){return this._addCheck({kind:"ulid",...De.errToObj(t)})}base64(t){return this._addCheck({kind:"base64",...De.errToObj(t)})}base64url(t){return this._addCheck({kind:"base64url",...De.errToObj(t)})}jwt(t){return this._addCheck({kind:"jwt",...De.errToObj(t)})}ip(t){return this._addCheck({kind:"ip",...De.errToObj(t)})}cidr(t){return this._addCheck({kind:"cidr",...De.errToObj(t)})}datetime(t){var r,o;return typeof t=="string"?this._addCheck({kind:"datetime",precision:null,offset:!1,local:!1,message:t}):this._addCheck({kind:"datetime",precision:typeof(t==null?void 0:t.precision)>"u"?null:t==null?void 0:t.precision,offset:(r=t==null?void 0:t.offset)!==null&&r!==void 0?r:!1,local:(o=t==null?void 0:t.local)!==null&&o!==void 0?o:!1,...De.errToObj(t==null?void 0:t.message)})}date(t){return this._addCheck({kind:"date",message:t})}time(t){return typeof t=="string"?this._addCheck({kind:"time",precision:null,message:t}):this._addCheck({kind:"time",precision:typeof(t==null?void 0:t.precision)>"u"?null:t==null?void 0:t.precision,...De.errToObj(t==null?void 0:t.message)})}duration(t){return this._addCheck({kind:"duration",...De.errToObj(t)})}regex(t,r){return this._addCheck({kind:"regex",regex:t,...De.errToObj(r)})}includes(t,r){return this._addCheck({kind:"includes",value:t,position:r==null?void 0:r.position,...De.errToObj(r==null?void 0:r.message)})}startsWith(t,r){return this._addCheck({kind:"startsWith",value:t,...De.errToObj(r)})}endsWith(t,r){return this._addCheck({kind:"endsWith",value:t,...De.errToObj(r)})}min(t,r){return this._addCheck({kind:"min",value:t,...De.errToObj(r)})}max(t,r){return this._addCheck({kind:"max",value:t,...De.errToObj(r)})}length(t,r){return this._addCheck({kind:"length",value:t,...De.errToObj(r)})}nonempty(t){return this.min(1,De.errToObj(t))}trim(){return new Mr({...this._def,checks:[...this._def.checks,{kind:"trim"}]})}toLowerCase(){return new Mr({...this._def,checks:[...this._def.checks,{kind:"toLowerCase"}]})}toUpperCase(){return new Mr({...this._def,checks:[...this._def.checks,{kind:"toUpperCase"}]})}get isDatetime(){return!!this._def.checks.find(t=>t.kind==="datetime")}get isDate(){return!!this._def.checks.find(t=>t.kind==="date")}get isTime(){return!!this._def.checks.find(t=>t.kind==="time")}get isDuration(){return!!this._def.checks.find(t=>t.kind==="duration")}get isEmail(){return!!this._def.checks.find(t=>t.kind==="email")}get isURL(){return!!this._def.checks.find(t=>t.kind==="url")}get isEmoji(){return!!this._def.checks.find(t=>t.kind==="emoji")}get isUUID(){return!!this._def.checks.find(t=>t.kind==="uuid")}get isNANOID(){return!!this._def.checks.find(t=>t.kind==="nanoid")}get isCUID(){return!!this._def.checks.find(t=>t.kind==="cuid")}get isCUID2(){return!!this._def.checks.find(t=>t.kind==="cuid2")}get isULID(){return!!this._def.checks.find(t=>t.kind==="ulid")}get isIP(){return!!this._def.checks.find(t=>t.kind==="ip")}get isCIDR(){return!!this._def.checks.find(t=>t.kind==="cidr")}get isBase64(){return!!this._def.checks.find(t=>t.kind==="base64")}get isBase64url(){return!!this._def.checks.find(t=>t.kind==="base64url")}get minLength(){let t=null;for(const r of this._def.checks)r.kind==="min"&&(t===null||r.value>t)&&(t=r.value);return t}get maxLength(){let t=null;for(const r of this._def.checks)r.kind==="max"&&(t===null||r.value<t)&&(t=r.value);return t}}Mr.create=e=>{var t;return new Mr({checks:[],typeName:qe.ZodString,coerce:(t=e==null?void 0:e.coerce)!==null&&t!==void 0?t:!1,...at(e)})};function $B(e,t){const r=(e.toString().split(".")[1]||"").length,o=(t.toString().split(".")[1]||"").length,i=r>o?r:o,l=parseInt(e.toFixed(i).replace(".","")),u=parseInt(t.toFixed(i).replace(".",""));return l%u/Math.pow(10,i)}class xo extends st{constructor(){super(...arguments),this.min=this.gte,this.max=this.lte,this.step=this.multipleOf}_parse(t){if(this._def.coerce&&(t.data=Number(t.data)),this._getType(t)!==Te.number){const l=this._getOrReturnCtx(t);return Ce(l,{code:ge.invalid_type,expected:Te.number,received:l.parsedType}),Ye}let o;const i=new zn;for(const l of this._def.checks)l.kind==="int"?bt.isInteger(t.data)||(o=this._getOrReturnCtx(t,o),Ce(o,{code:ge.invalid_type,expected:"integer",received:"float",message:l.message}),i.dirty()):l.kind==="min"?(l.inclusive?t.data<l.value:t.data<=l.value)&&(o=this._getOrReturnCtx(t,o),Ce(o,{code:ge.too_small,minimum:l.value,type:"number",inclusive:l.inclusive,exact:!1,message:l.message}),i.dirty()):l.kind==="max"?(l.inclusive?t.data>l.value:t.data>=l.value)&&(o=this._getOrReturnCtx(t,o),Ce(o,{code:ge.too_big,maximum:l.value,type:"number",inclusive:l.inclusive,exact:!1,message:l.message}),i.dirty()):l.kind==="multipleOf"?$B(t.data,l.value)!==0&&(o=this._getOrReturnCtx(t,o),Ce(o,{code:ge.not_multiple_of,multipleOf:l.value,message:l.message}),i.dirty()):l.kind==="finite"?Number.isFinite(t.data)||(o=this._getOrReturnCtx(t,o),Ce(o,{code:ge.not_finite,message:l.message}),i.dirty()):bt.assertNever(l);return{status:i.value,value:t.data}}gte(t,r){return this.setLimit("min",t,!0,De.toString(r))}gt(t,r){return this.setLimit("min",t,!1,De.toString(r))}lte(t,r){return this.setLimit("max",t,!0,De.toString(r))}lt(t,r){return this.setLimit("max",t,!1,De.toString(r))}setLimit(t,r,o,i){return new xo({...this._def,checks:[...this._def.checks,{kind:t,value:r,inclusive:o,message:De.toString(i)}]})}_addCheck(t){return new xo({...this._def,checks:[...this._def.checks,t]})}int(t){return this._addCheck({kind:"int",message:De.toString(t)})}positive(t){return this._addCheck({kind:"min",value:0,inclusive:!1,message:De.toString(t)})}negative(t){return this._addCheck({kind:"max",value:0,inclusive:!1,message:De.toString(t)})}nonpositive(t){return this._addCheck({kind:"max",value:0,inclusive:!0,message:De.toString(t)})}nonnegative(t){return this._addCheck({kind:"min",value:0,inclusive:!0,message:De.toString(t)})}multipleOf(t,r){return this._addCheck({kind:"multipleOf",value:t,message:De.toString(r)})}finite(t){return this._addCheck({kind:"finite",message:De.toString(t)})}safe(t){return this._addCheck({kind:"min",inclusive:!0,value:Number.MIN_SAFE_INTEGER,message:De.toString(t)})._addCheck({kind:"max",inclusive:!0,value:Number.MAX_SAFE_INTEGER,message:De.toString(t)})}get minValue(){let t=null;for(const r of this._def.checks)r.kind==="min"&&(t===null||r.value>t)&&(t=r.value);return t}get maxValue(){let t=null;for(const r of this._def.checks)r.kind==="max"&&(t===null||r.value<t)&&(t=r.value);return t}get isInt(){return!!this._def.checks.find(t=>t.kind==="int"||t.kind==="multipleOf"&&bt.isInteger(t.value))}get isFinite(){let t=null,r=null;for(const o of this._def.checks){if(o.kind==="finite"||o.kind==="int"||o.kind==="multipleOf")return!0;o.kind==="min"?(r===null||o.value>r)&&(r=o.value):o.kind==="max"&&(t===null||o.value<t)&&(t=o.value)}return Number.isFinite(r)&&Number.isFinite(t)}}xo.create=e=>new xo({checks:[],typeName:qe.ZodNumber,coerce:(e==null?void 0:e.coerce)||!1,...at(e)});class So extends st{constructor(){super(...arguments),this.min=this.gte,this.max=this.lte}_parse(t){if(this._def.coerce)try{t.data=BigInt(t.data)}catch{return this._getInvalidInput(t)}if(this._getType(t)!==Te.bigint)return this._getInvalidInput(t);let o;const i=new zn;for(const l of this._def.checks)l.kind==="min"?(l.inclusive?t.data<l.value:t.data<=l.value)&&(o=this._getOrReturnCtx(t,o),Ce(o,{code:ge.too_small,type:"bigint",minimum:l.value,inclusive:l.inclusive,message:l.message}),i.dirty()):l.kind==="max"?(l.inclusive?t.data>l.value:t.data>=l.value)&&(o=this._getOrReturnCtx(t,o),Ce(o,{code:ge.too_big,type:"bigint",maximum:l.value,inclusive:l.inclusive,message:l.message}),i.dirty()):l.kind==="multipleOf"?t.data%l.value!==BigInt(0)&&(o=this._getOrReturnCtx(t,o),Ce(o,{code:ge.not_multiple_of,multipleOf:l.value,message:l.message}),i.dirty()):bt.assertNever(l);return{status:i.value,value:t.data}}_getInvalidInput(t){const r=this._getOrReturnCtx(t);return Ce(r,{code:ge.invalid_type,expected:Te.bigint,received:r.parsedType}),Ye}gte(t,r){return this.setLimit("min",t,!0,De.toString(r))}gt(t,r){return this.setLimit("min",t,!1,De.toString(r))}lte(t,r){return this.setLimit("max",t,!0,De.toString(r))}lt(t,r){return this.setLimit("max",t,!1,De.toString(r))}setLimit(t,r,o,i){return new So({...this._def,checks:[...this._def.checks,{kind:t,value:r,inclusive:o,message:De.toString(i)}]})}_addCheck(t){return new So({...this._def,checks:[...this._def.checks,t]})}positive(t){return this._addCheck({kind:"min",value:BigInt(0),inclusive:!1,message:De.toString(t)})}negative(t){return this._addCheck({kind:"max",value:BigInt(0),inclusive:!1,message:De.toString(t)})}nonpositive(t){return this._addCheck({kind:"max",value:BigInt(0),inclusive:!0,message:De.toString(t)})}nonnegative(t){return this._addCheck({kind:"min",value:BigInt(0),inclusive:!0,message:De.toString(t)})}multipleOf(t,r){return this._addCheck({kind:"multipleOf",value:t,message:De.toString(r)})}get minValue(){let t=null;for(const r of this._def.checks)r.kind==="min"&&(t===null||r.value>t)&&(t=r.value);return t}get maxValue(){let t=null;for(const r of this._def.checks)r.kind==="max"&&(t===null||r.value<t)&&(t=r.value);return t}}So.create=e=>{var t;return new So({checks:[],typeName:qe.ZodBigInt,coerce:(t=e==null?void 0:e.coerce)!==null&&t!==void 0?t:!1,...at(e)})};class fc extends st{_parse(t){if(this._def.coerce&&(t.data=!!t.data),this._getType(t)!==Te.boolean){const o=this._getOrReturnCtx(t);return Ce(o,{code:ge.invalid_type,expected:Te.boolean,received:o.parsedType}),Ye}return Hn(t.data)}}fc.create=e=>new fc({typeName:qe.ZodBoolean,coerce:(e==null?void 0:e.coerce)||!1,...at(e)});class oi extends st{_parse(t){if(this._def.coerce&&(t.data=new Date(t.data)),this._getType(t)!==Te.date){const l=this._getOrReturnCtx(t);return Ce(l,{code:ge.invalid_type,expected:Te.date,received:l.parsedType}),Ye}if(isNaN(t.data.getTime())){const l=this._getOrReturnCtx(t);return Ce(l,{code:ge.invalid_date}),Ye}const o=new zn;let i;for(const l of this._def.checks)l.kind==="min"?t.data.getTime()<l.value&&(i=this._getOrReturnCtx(t,i),Ce(i,{code:ge.too_small,message:l.message,inclusive:!0,exact:!1,minimum:l.value,type:"date"}),o.dirty()):l.kind==="max"?t.data.getTime()>l.value&&(i=this._getOrReturnCtx(t,i),Ce(i,{code:ge.too_big,message:l.message,inclusive:!0,exact:!1,maximum:l.value,type:"date"}),o.dirty()):bt.assertNever(l);return{status:o.value,value:new Date(t.data.getTime())}}_addCheck(t){return new oi({...this._def,checks:[...this._def.checks,t]})}min(t,r){return this._addCheck({kind:"min",value:t.getTime(),message:De.toString(r)})}max(t,r){return this._addCheck({kind:"max",value:t.getTime(),message:De.toString(r)})}get minDate(){let t=null;for(const r of this._def.checks)r.kind==="min"&&(t===null||r.value>t)&&(t=r.value);return t!=null?new Date(t):null}get maxDate(){let t=null;for(const r of this._def.checks)r.kind==="max"&&(t===null||r.value<t)&&(t=r.value);return t!=null?new Date(t):null}}oi.create=e=>new oi({checks:[],coerce:(e==null?void 0:e.coerce)||!1,typeName:qe.ZodDate,...at(e)});class qd extends st{_parse(t){if(this._getType(t)!==Te.symbol){const o=this._getOrReturnCtx(t);return Ce(o,{code:ge.invalid_type,expected:Te.symbol,received:o.parsedType}),Ye}return Hn(t.data)}}qd.create=e=>new qd({typeName:qe.ZodSymbol,...at(e)});class pc extends st{_parse(t){if(this._getType(t)!==Te.undefined){const o=this._getOrReturnCtx(t);return Ce(o,{code:ge.invalid_type,expected:Te.undefined,received:o.parsedType}),Ye}return Hn(t.data)}}pc.create=e=>new pc({typeName:qe.ZodUndefined,...at(e)});class hc extends st{_parse(t){if(this._getType(t)!==Te.null){const o=this._getOrReturnCtx(t);return Ce(o,{code:ge.invalid_type,expected:Te.null,received:o.parsedType}),Ye}return Hn(t.data)}}hc.create=e=>new hc({typeName:qe.ZodNull,...at(e)});class xs extends st{constructor(){super(...arguments),this._any=!0}_parse(t){return Hn(t.data)}}xs.create=e=>new xs({typeName:qe.ZodAny,...at(e)});class Jo extends st{constructor(){super(...arguments),this._unknown=!0}_parse(t){return Hn(t.data)}}Jo.create=e=>new Jo({typeName:qe.ZodUnknown,...at(e)});class Pa extends st{_parse(t){const r=this._getOrReturnCtx(t);return Ce(r,{code:ge.invalid_type,expected:Te.never,received:r.parsedType}),Ye}}Pa.create=e=>new Pa({typeName:qe.ZodNever,...at(e)});class Wd extends st{_parse(t){if(this._getType(t)!==Te.undefined){const o=this._getOrReturnCtx(t);return Ce(o,{code:ge.invalid_type,expected:Te.void,received:o.parsedType}),Ye}return Hn(t.data)}}Wd.create=e=>new Wd({typeName:qe.ZodVoid,...at(e)});class jr extends st{_parse(t){const{ctx:r,status:o}=this._processInputParams(t),i=this._def;if(r.parsedType!==Te.array)return Ce(r,{code:ge.invalid_type,expected:Te.array,received:r.parsedType}),Ye;if(i.exactLength!==null){const u=r.data.length>i.exactLength.value,d=r.data.length<i.exactLength.value;(u||d)&&(Ce(r,{code:u?ge.too_big:ge.too_small,minimum:d?i.exactLength.value:void 0,maximum:u?i.exactLength.value:void 0,type:"array",inclusive:!0,exact:!0,message:i.exactLength.message}),o.dirty())}if(i.minLength!==null&&r.data.length<i.minLength.value&&(Ce(r,{code:ge.too_small,minimum:i.minLength.value,type:"array",inclusive:!0,exact:!1,message:i.minLength.message}),o.dirty()),i.maxLength!==null&&r.data.length>i.maxLength.value&&(Ce(r,{code:ge.too_big,maximum:i.maxLength.value,type:"array",inclusive:!0,exact:!1,message:i.maxLength.message}),o.dirty()),r.common.async)return Promise.all([...r.data].map((u,d)=>i.type._parseAsync(new sa(r,u,r.path,d)))).then(u=>zn.mergeArray(o,u));const l=[...r.data].map((u,d)=>i.type._parseSync(new sa(r,u,r.path,d)));return zn.mergeArray(o,l)}get element(){return this._def.type}min(t,r){return new jr({...this._def,minLength:{value:t,message:De.toString(r)}})}max(t,r){return new jr({...this._def,maxLength:{value:t,message:De.toString(r)}})}length(t,r){return new jr({...this._def,exactLength:{value:t,message:De.toString(r)}})}nonempty(t){return this.min(1,t)}}jr.create=(e,t)=>new jr({type:e,minLength:null,maxLength:null,exactLength:null,typeName:qe.ZodArray,...at(t)});function as(e){if(e instanceof Xt){const t={};for(const r in e.shape){const o=e.shape[r];t[r]=ia.create(as(o))}return new Xt({...e._def,shape:()=>t})}else return e instanceof jr?new jr({...e._def,type:as(e.element)}):e instanceof ia?ia.create(as(e.unwrap())):e instanceof wo?wo.create(as(e.unwrap())):e instanceof la?la.create(e.items.map(t=>as(t))):e}class Xt extends st{constructor(){super(...arguments),this._cached=null,this.nonstrict=this.passthrough,this.augment=this.extend}_getCached(){if(this._cached!==null)return this._cached;const t=this._def.shape(),r=bt.objectKeys(t);return this._cached={shape:t,keys:r}}_parse(t){if(this._getType(t)!==Te.object){const h=this._getOrReturnCtx(t);return Ce(h,{code:ge.invalid_type,expected:Te.object,received:h.parsedType}),Ye}const{status:o,ctx:i}=this._processInputParams(t),{shape:l,keys:u}=this._getCached(),d=[];if(!(this._def.catchall instanceof Pa&&this._def.unknownKeys==="strip"))for(const h in i.data)u.includes(h)||d.push(h);const p=[];for(const h of u){const g=l[h],v=i.data[h];p.push({key:{status:"valid",value:h},value:g._parse(new sa(i,v,i.path,h)),alwaysSet:h in i.data})}if(this._def.catchall instanceof Pa){const h=this._def.unknownKeys;if(h==="passthrough")for(const g of d)p.push({key:{status:"valid",value:g},value:{status:"valid",value:i.data[g]}});else if(h==="strict")d.length>0&&(Ce(i,{code:ge.unrecognized_keys,keys:d}),o.dirty());else if(h!=="strip")throw new Error("Internal ZodObject error: invalid unknownKeys value.")}else{const h=this._def.catchall;for(const g of d){const v=i.data[g];p.push({key:{status:"valid",value:g},value:h._parse(new sa(i,v,i.path,g)),alwaysSet:g in i.data})}}return i.common.async?Promise.resolve().then(async()=>{const h=[];for(const g of p){const v=await g.key,x=await g.value;h.push({key:v,value:x,alwaysSet:g.alwaysSet})}return h}).then(h=>zn.mergeObjectSync(o,h)):zn.mergeObjectSync(o,p)}get shape(){return this._def.shape()}strict(t){return De.errToObj,new Xt({...this._def,unknownKeys:"strict",...t!==void 0?{errorMap:(r,o)=>{var i,l,u,d;const p=(u=(l=(i=this._def).errorMap)===null||l===void 0?void 0:l.call(i,r,o).message)!==null&&u!==void 0?u:o.defaultError;return r.code==="unrecognized_keys"?{message:(d=De.errToObj(t).message)!==null&&d!==void 0?d:p}:{message:p}}}:{}})}strip(){return new Xt({...this._def,unknownKeys:"strip"})}passthrough(){return new Xt({...this._def,unknownKeys:"passthrough"})}extend(t){return new Xt({...this._def,shape:()=>({...this._def.shape(),...t})})}merge(t){return new Xt({unknownKeys:t._def.unknownKeys,catchall:t._def.catchall,shape:()=>({...this._def.shape(),...t._def.shape()}),typeName:qe.ZodObject})}setKey(t,r){return this.augment({[t]:r})}catchall(t){return new Xt({...this._def,catchall:t})}pick(t){const r={};return bt.objectKeys(t).forEach(o=>{t[o]&&this.shape[o]&&(r[o]=this.shape[o])}),new Xt({...this._def,shape:()=>r})}omit(t){const r={};return bt.objectKeys(this.shape).forEach(o=>{t[o]||(r[o]=this.shape[o])}),new Xt({...this._def,shape:()=>r})}deepPartial(){return as(this)}partial(t){const r={};return bt.objectKeys(this.shape).forEach(o=>{const i=this.shape[o];t&&!t[o]?r[o]=i:r[o]=i.optional()}),new Xt({...this._def,shape:()=>r})}required(t){const r={};return bt.objectKeys(this.shape).forEach(o=>{if(t&&!t[o])r[o]=this.shape[o];else{let l=this.shape[o];for(;l instanceof ia;)l=l._def.innerType;r[o]=l}}),new Xt({...this._def,shape:()=>r})}keyof(){return Dw(bt.objectKeys(this.shape))}}Xt.create=(e,t)=>new Xt({shape:()=>e,unknownKeys:"strip",catchall:Pa.create(),typeName:qe.ZodObject,...at(t)});Xt.strictCreate=(e,t)=>new Xt({shape:()=>e,unknownKeys:"strict",catchall:Pa.create(),typeName:qe.ZodObject,...at(t)});Xt.lazycreate=(e,t)=>new Xt({shape:e,unknownKeys:"strip",catchall:Pa.create(),typeName:qe.ZodObject,...at(t)});class mc extends st{_parse(t){const{ctx:r}=this._processInputParams(t),o=this._def.options;function i(l){for(const d of l)if(d.result.status==="valid")return d.result;for(const d of l)if(d.result.status==="dirty")return r.common.issues.push(...d.ctx.common.issues),d.result;const u=l.map(d=>new sr(d.ctx.common.issues));return Ce(r,{code:ge.invalid_union,unionErrors:u}),Ye}if(r.common.async)return Promise.all(o.map(async l=>{const u={...r,common:{...r.common,issues:[]},parent:null};return{result:await l._parseAsync({data:r.data,path:r.path,parent:u}),ctx:u}})).then(i);{let l;const u=[];for(const p of o){const h={...r,common:{...r.common,issues:[]},parent:null},g=p._parseSync({data:r.data,path:r.path,parent:h});if(g.status==="valid")return g;g.status==="dirty"&&!l&&(l={result:g,ctx:h}),h.common.issues.length&&u.push(h.common.issues)}if(l)return r.common.issues.push(...l.ctx.common.issues),l.result;const d=u.map(p=>new sr(p));return Ce(r,{code:ge.invalid_union,unionErrors:d}),Ye}}get options(){return this._def.options}}mc.create=(e,t)=>new mc({options:e,typeName:qe.ZodUnion,...at(t)});const ja=e=>e instanceof vc?ja(e.schema):e instanceof $r?ja(e.innerType()):e instanceof bc?[e.value]:e instanceof Co?e.options:e instanceof xc?bt.objectValues(e.enum):e instanceof Sc?ja(e._def.innerType):e instanceof pc?[void 0]:e instanceof hc?[null]:e instanceof ia?[void 0,...ja(e.unwrap())]:e instanceof wo?[null,...ja(e.unwrap())]:e instanceof Vg||e instanceof wc?ja(e.unwrap()):e instanceof Cc?ja(e._def.innerType):[];class Ef extends st{_parse(t){const{ctx:r}=this._processInputParams(t);if(r.parsedType!==Te.object)return Ce(r,{code:ge.invalid_type,expected:Te.object,received:r.parsedType}),Ye;const o=this.discriminator,i=r.data[o],l=this.optionsMap.get(i);return l?r.common.async?l._parseAsync({data:r.data,path:r.path,parent:r}):l._parseSync({data:r.data,path:r.path,parent:r}):(Ce(r,{code:ge.invalid_union_discriminator,options:Array.from(this.optionsMap.keys()),path:[o]}),Ye)}get discriminator(){return this._def.discriminator}get options(){return this._def.options}get optionsMap(){return this._def.optionsMap}static create(t,r,o){const i=new Map;for(const l of r){const u=ja(l.shape[t]);if(!u.length)throw new Error(`A discriminator value for key \`${t}\` could not be extracted from all schema options`);for(const d of u){if(i.has(d))throw new Error(`Discriminator property ${String(t)} has duplicate value ${String(d)}`);i.set(d,l)}}return new Ef({typeName:qe.ZodDiscriminatedUnion,discriminator:t,options:r,optionsMap:i,...at(o)})}}function Fm(e,t){const r=Da(e),o=Da(t);if(e===t)return{valid:!0,data:e};if(r===Te.object&&o===Te.object){const i=bt.objectKeys(t),l=bt.objectKeys(e).filter(d=>i.indexOf(d)!==-1),u={...e,...t};for(const d of l){const p=Fm(e[d],t[d]);if(!p.valid)return{valid:!1};u[d]=p.data}return{valid:!0,data:u}}else if(r===Te.array&&o===Te.array){if(e.length!==t.length)return{valid:!1};const i=[];for(let l=0;l<e.length;l++){const u=e[l],d=t[l],p=Fm(u,d);if(!p.valid)return{valid:!1};i.push(p.data)}return{valid:!0,data:i}}else return r===Te.date&&o===Te.date&&+e==+t?{valid:!0,data:e}:{valid:!1}}class gc extends st{_parse(t){const{status:r,ctx:o}=this._processInputParams(t),i=(l,u)=>{if(Hm(l)||Hm(u))return Ye;const d=Fm(l.value,u.value);return d.valid?((Vm(l)||Vm(u))&&r.dirty(),{status:r.value,value:d.data}):(Ce(o,{code:ge.invalid_intersection_types}),Ye)};return o.common.async?Promise.all([this._def.left._parseAsync({data:o.data,path:o.path,parent:o}),this._def.right._parseAsync({data:o.data,path:o.path,parent:o})]).then(([l,u])=>i(l,u)):i(this._def.left._parseSync({data:o.data,path:o.path,parent:o}),this._def.right._parseSync({data:o.data,path:o.path,parent:o}))}}gc.create=(e,t,r)=>new gc({left:e,right:t,typeName:qe.ZodIntersection,...at(r)});class la extends st{_parse(t){const{status:r,ctx:o}=this._processInputParams(t);if(o.parsedType!==Te.array)return Ce(o,{code:ge.invalid_type,expected:Te.array,received:o.parsedType}),Ye;if(o.data.length<this._def.items.length)return Ce(o,{code:ge.too_small,minimum:this._def.items.length,inclusive:!0,exact:!1,type:"array"}),Ye;!this._def.rest&&o.data.length>this._def.items.length&&(Ce(o,{code:ge.too_big,maximum:this._def.items.length,inclusive:!0,exact:!1,type:"array"}),r.dirty());const l=[...o.data].map((u,d)=>{const p=this._def.items[d]||this._def.rest;return p?p._parse(new sa(o,u,o.path,d)):null}).filter(u=>!!u);return o.common.async?Promise.all(l).then(u=>zn.mergeArray(r,u)):zn.mergeArray(r,l)}get items(){return this._def.items}rest(t){return new la({...this._def,rest:t})}}la.create=(e,t)=>{if(!Array.isArray(e))throw new Error("You must pass an array of schemas to z.tuple([ ... ])");return new la({items:e,typeName:qe.ZodTuple,rest:null,...at(t)})};class yc extends st{get keySchema(){return this._def.keyType}get valueSchema(){return this._def.valueType}_parse(t){const{status:r,ctx:o}=this._processInputParams(t);if(o.parsedType!==Te.object)return Ce(o,{code:ge.invalid_type,expected:Te.object,received:o.parsedType}),Ye;const i=[],l=this._def.keyType,u=this._def.valueType;for(const d in o.data)i.push({key:l._parse(new sa(o,d,o.path,d)),value:u._parse(new sa(o,o.data[d],o.path,d)),alwaysSet:d in o.data});return o.common.async?zn.mergeObjectAsync(r,i):zn.mergeObjectSync(r,i)}get element(){return this._def.valueType}static create(t,r,o){return r instanceof st?new yc({keyType:t,valueType:r,typeName:qe.ZodRecord,...at(o)}):new yc({keyType:Mr.create(),valueType:t,typeName:qe.ZodRecord,...at(r)})}}class Yd extends st{get keySchema(){return this._def.keyType}get valueSchema(){return this._def.valueType}_parse(t){const{status:r,ctx:o}=this._processInputParams(t);if(o.parsedType!==Te.map)return Ce(o,{code:ge.invalid_type,expected:Te.map,received:o.parsedType}),Ye;const i=this._def.keyType,l=this._def.valueType,u=[...o.data.entries()].map(([d,p],h)=>({key:i._parse(new sa(o,d,o.path,[h,"key"])),value:l._parse(new sa(o,p,o.path,[h,"value"]))}));if(o.common.async){const d=new Map;return Promise.resolve().then(async()=>{for(const p of u){const h=await p.key,g=await p.value;if(h.status==="aborted"||g.status==="aborted")return Ye;(h.status==="dirty"||g.status==="dirty")&&r.dirty(),d.set(h.value,g.value)}return{status:r.value,value:d}})}else{const d=new Map;for(const p of u){const h=p.key,g=p.value;if(h.status==="aborted"||g.status==="aborted")return Ye;(h.status==="dirty"||g.status==="dirty")&&r.dirty(),d.set(h.value,g.value)}return{status:r.value,value:d}}}}Yd.create=(e,t,r)=>new Yd({valueType:t,keyType:e,typeName:qe.ZodMap,...at(r)});class ii extends st{_parse(t){const{status:r,ctx:o}=this._processInputParams(t);if(o.parsedType!==Te.set)return Ce(o,{code:ge.invalid_type,expected:Te.set,received:o.parsedType}),Ye;const i=this._def;i.minSize!==null&&o.data.size<i.minSize.value&&(Ce(o,{code:ge.too_small,minimum:i.minSize.value,type:"set",inclusive:!0,exact:!1,message:i.minSize.message}),r.dirty()),i.maxSize!==null&&o.data.size>i.maxSize.value&&(Ce(o,{code:ge.too_big,maximum:i.maxSize.value,type:"set",inclusive:!0,exact:!1,message:i.maxSize.message}),r.dirty());const l=this._def.valueType;function u(p){const h=new Set;for(const g of p){if(g.status==="aborted")return Ye;g.status==="dirty"&&r.dirty(),h.add(g.value)}return{status:r.value,value:h}}const d=[...o.data.values()].map((p,h)=>l._parse(new sa(o,p,o.path,h)));return o.common.async?Promise.all(d).then(p=>u(p)):u(d)}min(t,r){return new ii({...this._def,minSize:{value:t,message:De.toString(r)}})}max(t,r){return new ii({...this._def,maxSize:{value:t,message:De.toString(r)}})}size(t,r){return this.min(t,r).max(t,r)}nonempty(t){return this.min(1,t)}}ii.create=(e,t)=>new ii({valueType:e,minSize:null,maxSize:null,typeName:qe.ZodSet,...at(t)});class fs extends st{constructor(){super(...arguments),this.validate=this.implement}_parse(t){const{ctx:r}=this._processInputParams(t);if(r.parsedType!==Te.function)return Ce(r,{code:ge.invalid_type,expected:Te.function,received:r.parsedType}),Ye;function o(d,p){return Vd({data:d,path:r.path,errorMaps:[r.common.contextualErrorMap,r.schemaErrorMap,Hd(),bs].filter(h=>!!h),issueData:{code:ge.invalid_arguments,argumentsError:p}})}function i(d,p){return Vd({data:d,path:r.path,errorMaps:[r.common.contextualErrorMap,r.schemaErrorMap,Hd(),bs].filter(h=>!!h),issueData:{code:ge.invalid_return_type,returnTypeError:p}})}const l={errorMap:r.common.contextualErrorMap},u=r.data;if(this._def.returns instanceof Ss){const d=this;return Hn(async function(...p){const h=new sr([]),g=await d._def.args.parseAsync(p,l).catch(T=>{throw h.addIssue(o(p,T)),h}),v=await Reflect.apply(u,this,g);return await d._def.returns._def.type.parseAsync(v,l).catch(T=>{throw h.addIssue(i(v,T)),h})})}else{const d=this;return Hn(function(...p){const h=d._def.args.safeParse(p,l);if(!h.success)throw new sr([o(p,h.error)]);const g=Reflect.apply(u,this,h.data),v=d._def.returns.safeParse(g,l);if(!v.success)throw new sr([i(g,v.error)]);return v.data})}}parameters(){return this._def.args}returnType(){return this._def.returns}args(...t){return new fs({...this._def,args:la.create(t).rest(Jo.create())})}returns(t){return new fs({...this._def,returns:t})}implement(t){return this.parse(t)}strictImplement(t){return this.parse(t)}static create(t,r,o){return new fs({args:t||la.create([]).rest(Jo.create()),returns:r||Jo.create(),typeName:qe.ZodFunction,...at(o)})}}class vc extends st{get schema(){return this._def.getter()}_parse(t){const{ctx:r}=this._processInputParams(t);return this._def.getter()._parse({data:r.data,path:r.path,parent:r})}}vc.create=(e,t)=>new vc({getter:e,typeName:qe.ZodLazy,...at(t)});class bc extends st{_parse(t){if(t.data!==this._def.value){const r=this._getOrReturnCtx(t);return Ce(r,{received:r.data,code:ge.invalid_literal,expected:this._def.value}),Ye}return{status:"valid",value:t.data}}get value(){return this._def.value}}bc.create=(e,t)=>new bc({value:e,typeName:qe.ZodLiteral,...at(t)});function Dw(e,t){return new Co({values:e,typeName:qe.ZodEnum,...at(t)})}class Co extends st{constructor(){super(...arguments),Yl.set(this,void 0)}_parse(t){if(typeof t.data!="string"){const r=this._getOrReturnCtx(t),o=this._def.values;return Ce(r,{expected:bt.joinValues(o),received:r.parsedType,code:ge.invalid_type}),Ye}if(Fd(this,Yl)||_w(this,Yl,new Set(this._def.values)),!Fd(this,Yl).has(t.data)){const r=this._getOrReturnCtx(t),o=this._def.values;return Ce(r,{received:r.data,code:ge.invalid_enum_value,options:o}),Ye}return Hn(t.data)}get options(){return this._def.values}get enum(){const t={};for(const r of this._def.values)t[r]=r;return t}get Values(){const t={};for(const r of this._def.values)t[r]=r;return t}get Enum(){const t={};for(const r of this._def.values)t[r]=r;return t}extract(t,r=this._def){return Co.create(t,{...this._def,...r})}exclude(t,r=this._def){return Co.create(this.options.filter(o=>!t.includes(o)),{...this._def,...r})}}Yl=new WeakMap;Co.create=Dw;class xc extends st{constructor(){super(...arguments),Gl.set(this,void 0)}_parse(t){const r=bt.getValidEnumValues(this._def.values),o=this._getOrReturnCtx(t);if(o.parsedType!==Te.string&&o.parsedType!==Te.number){const i=bt.objectValues(r);return Ce(o,{expected:bt.joinValues(i),received:o.parsedType,code:ge.invalid_type}),Ye}if(Fd(this,Gl)||_w(this,Gl,new Set(bt.getValidEnumValues(this._def.values))),!Fd(this,Gl).has(t.data)){const i=bt.objectValues(r);return Ce(o,{received:o.data,code:ge.invalid_enum_value,options:i}),Ye}return Hn(t.data)}get enum(){return this._def.values}}Gl=new WeakMap;xc.create=(e,t)=>new xc({values:e,typeName:qe.ZodNativeEnum,...at(t)});class Ss extends st{unwrap(){return this._def.type}_parse(t){const{ctx:r}=this._processInputParams(t);if(r.parsedType!==Te.promise&&r.common.async===!1)return Ce(r,{code:ge.invalid_type,expected:Te.promise,received:r.parsedType}),Ye;const o=r.parsedType===Te.promise?r.data:Promise.resolve(r.data);return Hn(o.then(i=>this._def.type.parseAsync(i,{path:r.path,errorMap:r.common.contextualErrorMap})))}}Ss.create=(e,t)=>new Ss({type:e,typeName:qe.ZodPromise,...at(t)});class $r extends st{innerType(){return this._def.schema}sourceType(){return this._def.schema._def.typeName===qe.ZodEffects?this._def.schema.sourceType():this._def.schema}_parse(t){const{status:r,ctx:o}=this._processInputParams(t),i=this._def.effect||null,l={addIssue:u=>{Ce(o,u),u.fatal?r.abort():r.dirty()},get path(){return o.path}};if(l.addIssue=l.addIssue.bind(l),i.type==="preprocess"){const u=i.transform(o.data,l);if(o.common.async)return Promise.resolve(u).then(async d=>{if(r.value==="aborted")return Ye;const p=await this._def.schema._parseAsync({data:d,path:o.path,parent:o});return p.status==="aborted"?Ye:p.status==="dirty"||r.value==="dirty"?is(p.value):p});{if(r.value==="aborted")return Ye;const d=this._def.schema._parseSync({data:u,path:o.path,parent:o});return d.status==="aborted"?Ye:d.status==="dirty"||r.value==="dirty"?is(d.value):d}}if(i.type==="refinement"){const u=d=>{const p=i.refinement(d,l);if(o.common.async)return Promise.resolve(p);if(p instanceof Promise)throw new Error("Async refinement encountered during synchronous parse operation. Use .parseAsync instead.");return d};if(o.common.async===!1){const d=this._def.schema._parseSync({data:o.data,path:o.path,parent:o});return d.status==="aborted"?Ye:(d.status==="dirty"&&r.dirty(),u(d.value),{status:r.value,value:d.value})}else return this._def.schema._parseAsync({data:o.data,path:o.path,parent:o}).then(d=>d.status==="aborted"?Ye:(d.status==="dirty"&&r.dirty(),u(d.value).then(()=>({status:r.value,value:d.value}))))}if(i.type==="transform")if(o.common.async===!1){const u=this._def.schema._parseSync({data:o.data,path:o.path,parent:o});if(!ai(u))return u;const d=i.transform(u.value,l);if(d instanceof Promise)throw new Error("Asynchronous transform encountered during synchronous parse operation. Use .parseAsync instead.");return{status:r.value,value:d}}else return this._def.schema._parseAsync({data:o.data,path:o.path,parent:o}).then(u=>ai(u)?Promise.resolve(i.transform(u.value,l)).then(d=>({status:r.value,value:d})):u);bt.assertNever(i)}}$r.create=(e,t,r)=>new $r({schema:e,typeName:qe.ZodEffects,effect:t,...at(r)});$r.createWithPreprocess=(e,t,r)=>new $r({schema:t,effect:{type:"preprocess",transform:e},typeName:qe.ZodEffects,...at(r)});class ia extends st{_parse(t){return this._getType(t)===Te.undefined?Hn(void 0):this._def.innerType._parse(t)}unwrap(){return this._def.innerType}}ia.create=(e,t)=>new ia({innerType:e,typeName:qe.ZodOptional,...at(t)});class wo extends st{_parse(t){return this._getType(t)===Te.null?Hn(null):this._def.innerType._parse(t)}unwrap(){return this._def.innerType}}wo.create=(e,t)=>new wo({innerType:e,typeName:qe.ZodNullable,...at(t)});class Sc extends st{_parse(t){const{ctx:r}=this._processInputParams(t);let o=r.data;return r.parsedType===Te.undefined&&(o=this._def.defaultValue()),this._def.innerType._parse({data:o,path:r.path,parent:r})}removeDefault(){return this._def.innerType}}Sc.create=(e,t)=>new Sc({innerType:e,typeName:qe.ZodDefault,defaultValue:typeof t.default=="function"?t.default:()=>t.default,...at(t)});class Cc extends st{_parse(t){const{ctx:r}=this._processInputParams(t),o={...r,common:{...r.common,issues:[]}},i=this._def.innerType._parse({data:o.data,path:o.path,parent:{...o}});return dc(i)?i.then(l=>({status:"valid",value:l.status==="valid"?l.value:this._def.catchValue({get error(){return new sr(o.common.issues)},input:o.data})})):{status:"valid",value:i.status==="valid"?i.value:this._def.catchValue({get error(){return new sr(o.common.issues)},input:o.data})}}removeCatch(){return this._def.innerType}}Cc.create=(e,t)=>new Cc({innerType:e,typeName:qe.ZodCatch,catchValue:typeof t.catch=="function"?t.catch:()=>t.catch,...at(t)});class Gd extends st{_parse(t){if(this._getType(t)!==Te.nan){const o=this._getOrReturnCtx(t);return Ce(o,{code:ge.invalid_type,expected:Te.nan,received:o.parsedType}),Ye}return{status:"valid",value:t.data}}}Gd.create=e=>new Gd({typeName:qe.ZodNaN,...at(e)});const zB=Symbol("zod_brand");class Vg extends st{_parse(t){const{ctx:r}=this._processInputParams(t),o=r.data;return this._def.type._parse({data:o,path:r.path,parent:r})}unwrap(){return this._def.type}}class Hc extends st{_parse(t){const{status:r,ctx:o}=this._processInputParams(t);if(o.common.async)return(async()=>{const l=await this._def.in._parseAsync({data:o.data,path:o.path,parent:o});return l.status==="aborted"?Ye:l.status==="dirty"?(r.dirty(),is(l.value)):this._def.out._parseAsync({data:l.value,path:o.path,parent:o})})();{const i=this._def.in._parseSync({data:o.data,path:o.path,parent:o});return i.status==="aborted"?Ye:i.status==="dirty"?(r.dirty(),{status:"dirty",value:i.value}):this._def.out._parseSync({data:i.value,path:o.path,parent:o})}}static create(t,r){return new Hc({in:t,out:r,typeName:qe.ZodPipeline})}}class wc extends st{_parse(t){const r=this._def.innerType._parse(t),o=i=>(ai(i)&&(i.value=Object.freeze(i.value)),i);return dc(r)?r.then(i=>o(i)):o(r)}unwrap(){return this._def.innerType}}wc.create=(e,t)=>new wc({innerType:e,typeName:qe.ZodReadonly,...at(t)});function K1(e,t){const r=typeof e=="function"?e(t):typeof e=="string"?{message:e}:e;return typeof r=="string"?{message:r}:r}function Nw(e,t={},r){return e?xs.create().superRefine((o,i)=>{var l,u;const d=e(o);if(d instanceof Promise)return d.then(p=>{var h,g;if(!p){const v=K1(t,o),x=(g=(h=v.fatal)!==null&&h!==void 0?h:r)!==null&&g!==void 0?g:!0;i.addIssue({code:"custom",...v,fatal:x})}});if(!d){const p=K1(t,o),h=(u=(l=p.fatal)!==null&&l!==void 0?l:r)!==null&&u!==void 0?u:!0;i.addIssue({code:"custom",...p,fatal:h})}}):xs.create()}const BB={object:Xt.lazycreate};var qe;(function(e){e.ZodString="ZodString",e.ZodNumber="ZodNumber",e.ZodNaN="ZodNaN",e.ZodBigInt="ZodBigInt",e.ZodBoolean="ZodBoolean",e.ZodDate="ZodDate",e.ZodSymbol="ZodSymbol",e.ZodUndefined="ZodUndefined",e.ZodNull="ZodNull",e.ZodAny="ZodAny",e.ZodUnknown="ZodUnknown",e.ZodNever="ZodNever",e.ZodVoid="ZodVoid",e.ZodArray="ZodArray",e.ZodObject="ZodObject",e.ZodUnion="ZodUnion",e.ZodDiscriminatedUnion="ZodDiscriminatedUnion",e.ZodIntersection="ZodIntersection",e.ZodTuple="ZodTuple",e.ZodRecord="ZodRecord",e.ZodMap="ZodMap",e.ZodSet="ZodSet",e.ZodFunction="ZodFunction",e.ZodLazy="ZodLazy",e.ZodLiteral="ZodLiteral",e.ZodEnum="ZodEnum",e.ZodEffects="ZodEffects",e.ZodNativeEnum="ZodNativeEnum",e.ZodOptional="ZodOptional",e.ZodNullable="ZodNullable",e.ZodDefault="ZodDefault",e.ZodCatch="ZodCatch",e.ZodPromise="ZodPromise",e.ZodBranded="ZodBranded",e.ZodPipeline="ZodPipeline",e.ZodReadonly="ZodReadonly"})(qe||(qe={}));const LB=(e,t={message:`Input not instance of ${e.name}`})=>Nw(r=>r instanceof e,t),$w=Mr.create,zw=xo.create,PB=Gd.create,UB=So.create,Bw=fc.create,IB=oi.create,HB=qd.create,VB=pc.create,FB=hc.create,qB=xs.create,WB=Jo.create,YB=Pa.create,GB=Wd.create,ZB=jr.create,XB=Xt.create,KB=Xt.strictCreate,QB=mc.create,JB=Ef.create,eL=gc.create,tL=la.create,nL=yc.create,rL=Yd.create,aL=ii.create,oL=fs.create,iL=vc.create,sL=bc.create,lL=Co.create,cL=xc.create,uL=Ss.create,Q1=$r.create,dL=ia.create,fL=wo.create,pL=$r.createWithPreprocess,hL=Hc.create,mL=()=>$w().optional(),gL=()=>zw().optional(),yL=()=>Bw().optional(),vL={string:e=>Mr.create({...e,coerce:!0}),number:e=>xo.create({...e,coerce:!0}),boolean:e=>fc.create({...e,coerce:!0}),bigint:e=>So.create({...e,coerce:!0}),date:e=>oi.create({...e,coerce:!0})},bL=Ye;var vn=Object.freeze({__proto__:null,defaultErrorMap:bs,setErrorMap:pB,getErrorMap:Hd,makeIssue:Vd,EMPTY_PATH:hB,addIssueToContext:Ce,ParseStatus:zn,INVALID:Ye,DIRTY:is,OK:Hn,isAborted:Hm,isDirty:Vm,isValid:ai,isAsync:dc,get util(){return bt},get objectUtil(){return Im},ZodParsedType:Te,getParsedType:Da,ZodType:st,datetimeRegex:jw,ZodString:Mr,ZodNumber:xo,ZodBigInt:So,ZodBoolean:fc,ZodDate:oi,ZodSymbol:qd,ZodUndefined:pc,ZodNull:hc,ZodAny:xs,ZodUnknown:Jo,ZodNever:Pa,ZodVoid:Wd,ZodArray:jr,ZodObject:Xt,ZodUnion:mc,ZodDiscriminatedUnion:Ef,ZodIntersection:gc,ZodTuple:la,ZodRecord:yc,ZodMap:Yd,ZodSet:ii,ZodFunction:fs,ZodLazy:vc,ZodLiteral:bc,ZodEnum:Co,ZodNativeEnum:xc,ZodPromise:Ss,ZodEffects:$r,ZodTransformer:$r,ZodOptional:ia,ZodNullable:wo,ZodDefault:Sc,ZodCatch:Cc,ZodNaN:Gd,BRAND:zB,ZodBranded:Vg,ZodPipeline:Hc,ZodReadonly:wc,custom:Nw,Schema:st,ZodSchema:st,late:BB,get ZodFirstPartyTypeKind(){return qe},coerce:vL,any:qB,array:ZB,bigint:UB,boolean:Bw,date:IB,discriminatedUnion:JB,effect:Q1,enum:lL,function:oL,instanceof:LB,intersection:eL,lazy:iL,literal:sL,map:rL,nan:PB,nativeEnum:cL,never:YB,null:FB,nullable:fL,number:zw,object:XB,oboolean:yL,onumber:gL,optional:dL,ostring:mL,pipeline:hL,preprocess:pL,promise:uL,record:nL,set:aL,strictObject:KB,string:$w,symbol:HB,transformer:Q1,tuple:tL,undefined:VB,union:QB,unknown:WB,void:GB,NEVER:bL,ZodIssueCode:ge,quotelessJson:fB,ZodError:sr});const xL=vn.object({email:vn.string().email("유효한 이메일 주소를 입력해주세요"),password:vn.string().min(6,"비밀번호는 최소 6자 이상이어야 합니다")}),SL=({handleLogin:e})=>{var d,p;const[t,r]=b.useState(null),{register:o,handleSubmit:i,formState:{errors:l}}=Ew({resolver:kw(xL)}),u=async h=>{try{await e(h),r(null)}catch{r("로그인에 실패했습니다. 이메일과 비밀번호를 확인해주세요.")}};return y.jsxs(we,{component:"form",onSubmit:i(u),sx:{mt:1},children:[y.jsx(Kt,{margin:"normal",required:!0,fullWidth:!0,id:"email",label:"이메일",autoComplete:"email",autoFocus:!0,...o("email"),error:!!l.email,helperText:(d=l.email)==null?void 0:d.message}),y.jsx(Kt,{margin:"normal",required:!0,fullWidth:!0,label:"비밀번호",type:"password",id:"password",autoComplete:"current-password",...o("password"),error:!!l.password,helperText:(p=l.password)==null?void 0:p.message}),t&&y.jsx(je,{color:"error",sx:{mt:2},children:t}),y.jsx(cr,{type:"submit",fullWidth:!0,variant:"contained",sx:{mt:3,mb:2},children:"로그인"}),y.jsx(we,{sx:{textAlign:"center"},children:y.jsx(_g,{component:Ko,to:"/signup",variant:"body2",children:"계정이 없으신가요? 회원가입"})})]})},CL=()=>{const e=Ha(o=>o.login),t=ws(),r=async o=>{await e(o),t("/")};return y.jsx(Lc,{component:"main",maxWidth:"xs",children:y.jsx(we,{sx:{marginTop:8,display:"flex",flexDirection:"column",alignItems:"center"},children:y.jsxs(Ia,{elevation:3,sx:{padding:4,display:"flex",flexDirection:"column",alignItems:"center",width:"100%"},children:[y.jsx(je,{component:"h1",variant:"h5",children:"로그인"}),y.jsx(SL,{handleLogin:r})]})})})},wL=()=>{const e=ws(),t=Ha(r=>r.logout);return b.useEffect(()=>{t(),e("/login")},[t,e]),null},TL=vn.object({email:vn.string().email("유효한 이메일 주소를 입력해주세요"),password:vn.string().min(6,"비밀번호는 최소 6자 이상이어야 합니다"),nickname:vn.string().min(2,"닉네임은 최소 2자 이상이어야 합니다"),confirmPassword:vn.string()}).refine(e=>e.password===e.confirmPassword,{message:"비밀번호가 일치하지 않습니다",path:["confirmPassword"]}),EL=({handleSignup:e})=>{var d,p,h,g;const[t,r]=b.useState(null),{register:o,handleSubmit:i,formState:{errors:l}}=Ew({resolver:kw(TL)}),u=async v=>{try{await e({email:v.email,password:v.password,nickname:v.nickname}),r(null)}catch{r("회원가입에 실패했습니다. 입력 정보를 확인해주세요.")}};return y.jsxs(we,{component:"form",onSubmit:i(u),sx:{mt:1},children:[y.jsx(Kt,{margin:"normal",required:!0,fullWidth:!0,id:"nickname",label:"닉네임",autoComplete:"nickname",autoFocus:!0,...o("nickname"),error:!!l.nickname,helperText:(d=l.nickname)==null?void 0:d.message}),y.jsx(Kt,{margin:"normal",required:!0,fullWidth:!0,id:"email",label:"이메일",autoComplete:"email",...o("email"),error:!!l.email,helperText:(p=l.email)==null?void 0:p.message}),y.jsx(Kt,{margin:"normal",required:!0,fullWidth:!0,label:"비밀번호",type:"password",id:"password",autoComplete:"new-password",...o("password"),error:!!l.password,helperText:(h=l.password)==null?void 0:h.message}),y.jsx(Kt,{margin:"normal",required:!0,fullWidth:!0,label:"비밀번호 확인",type:"password",id:"confirmPassword",autoComplete:"new-password",...o("confirmPassword"),error:!!l.confirmPassword,helperText:(g=l.confirmPassword)==null?void 0:g.message}),t&&y.jsx(je,{color:"error",sx:{mt:2},children:t}),y.jsx(cr,{type:"submit",fullWidth:!0,variant:"contained",sx:{mt:3,mb:2},children:"회원가입"}),y.jsx(we,{sx:{textAlign:"center"},children:y.jsx(_g,{component:Ko,to:"/login",variant:"body2",children:"이미 계정이 있으신가요? 로그인"})})]})},RL=()=>{const e=ws(),t=Ha(o=>o.register),r=async o=>{await t(o),e("/")};return y.jsx(Lc,{component:"main",maxWidth:"xs",children:y.jsx(we,{sx:{marginTop:8,display:"flex",flexDirection:"column",alignItems:"center"},children:y.jsxs(Ia,{elevation:3,sx:{padding:4,display:"flex",flexDirection:"column",alignItems:"center",width:"100%"},children:[y.jsx(je,{component:"h1",variant:"h5",children:"회원가입"}),y.jsx(EL,{handleSignup:r})]})})})},kL=async e=>{const{data:t}=await $t.get("/api/interests",{params:e});return t},AL=async e=>{const{data:t}=await $t.post("/api/interests",e);return t},_L=async(e,t)=>{const{data:r}=await $t.patch(`/api/interests/${e}`,t);return r},OL=async e=>{const{data:t}=await $t.post(`/api/interests/${e}/subscriptions`);return t},ML=async e=>{await $t.delete(`/api/interests/${e}/subscriptions`)},jL=async e=>{await $t.delete(`/api/interests/${e}`)},J1={orderBy:"subscriberCount",direction:"DESC",limit:50},DL=ci((e,t)=>({interests:[],isLoading:!1,error:null,params:J1,searchInterests:async r=>{e({isLoading:!0,error:null});try{const{params:o,interests:i}=t(),l=r?{...o,...r,cursor:void 0,after:void 0}:o,{content:u,nextCursor:d,nextAfter:p,size:h,totalElements:g,hasNext:v}=await kL(l);e({interests:r?u:[...i,...u],isLoading:!1,params:{...l,cursor:d,after:p,limit:h},totalElements:g,hasNext:v})}catch(o){e({error:o,isLoading:!1})}},registerInterest:async r=>{e({isLoading:!0,error:null});try{const o=await AL(r);e({isLoading:!1,interests:[o,...t().interests]})}catch(o){e({error:o,isLoading:!1})}},updateInterest:async(r,o)=>{e({isLoading:!0,error:null});try{const i=await _L(r,o),{interests:l}=t(),u=l.find(d=>d.id===r);u&&(u.keywords=i.keywords),e({interests:l}),e({isLoading:!1})}catch(i){e({error:i,isLoading:!1})}},subscribeInterest:async r=>{e({isLoading:!0,error:null});try{await OL(r);const{interests:o}=t(),i=o.find(l=>l.id===r);i&&(i.subscribedByMe=!0,i.subscriberCount+=1),e({interests:o}),e({isLoading:!1})}catch(o){e({error:o,isLoading:!1})}},unsubscribeInterest:async r=>{e({isLoading:!0,error:null});try{await ML(r);const{interests:o}=t(),i=o.find(l=>l.id===r);i&&(i.subscribedByMe=!1,i.subscriberCount-=1),e({interests:o}),e({isLoading:!1})}catch(o){e({error:o,isLoading:!1})}},deleteInterest:async r=>{e({isLoading:!0,error:null});try{await jL(r);const{interests:o}=t(),i=o.findIndex(u=>u.id===r),l=i!==-1?[...o.slice(0,i),...o.slice(i+1)]:o;e({interests:l}),e({isLoading:!1})}catch(o){e({error:o,isLoading:!1})}},clear:()=>{e({interests:[],params:J1,error:null,isLoading:!1})}})),NL=b.memo(({params:e,onParamsChange:t})=>{const[r,o]=b.useState(e.keyword);b.useEffect(()=>{o(e.keyword)},[e.keyword]);const i=b.useCallback(l=>{o(l.target.value)},[t,e]);return y.jsxs(we,{display:"flex",flexDirection:"row",gap:2,children:[y.jsx(Kt,{label:"검색",size:"small",value:r,onChange:i,onKeyDown:l=>{l.key==="Enter"&&t({...e,keyword:r,cursor:void 0})}}),y.jsxs(Kt,{label:"정렬",size:"small",value:e.orderBy,select:!0,onChange:l=>t({...e,orderBy:l.target.value}),children:[y.jsx(_n,{value:"name",children:"이름"}),y.jsx(_n,{value:"subscriberCount",children:"구독자 수"})]}),y.jsxs(Kt,{label:"정렬 방향",size:"small",value:e.direction,select:!0,onChange:l=>t({...e,direction:l.target.value}),children:[y.jsx(_n,{value:"ASC",children:"오름차순"}),y.jsx(_n,{value:"DESC",children:"내림차순"})]})]})}),$L=vn.object({name:vn.string().min(1,"이름을 입력해주세요").max(50,"이름은 50자 이내로 입력해주세요"),keywords:vn.array(vn.string().min(1,"키워드를 입력해주세요").max(20,"키워드는 20자 이내로 입력해주세요")).max(10,"키워드는 최대 10개까지 입력 가능합니다").min(1,"키워드를 최소 1개 이상 입력해주세요")}),zL=({onRegister:e})=>{const[t,r]=b.useState(""),[o,i]=b.useState(""),[l,u]=b.useState([]),[d,p]=b.useState({}),h=b.useCallback(()=>{try{return $L.parse({name:t,keywords:l}),p({}),!0}catch(x){if(x instanceof vn.ZodError){const T=x.errors.reduce((S,C)=>{const E=C.path[0];return S[E]=C.message,S},{});p(T)}return!1}},[t,l]),g=()=>{h()&&e({name:t,keywords:l})},v=b.useCallback(()=>{if(o.trim()&&l.length<10)try{vn.string().min(1).max(20).parse(o),u([...new Set([...l,o])]),i(""),p({...d,keywords:void 0})}catch(x){x instanceof vn.ZodError&&p({...d,keywords:x.errors[0].message})}},[o,l,d]);return y.jsxs(we,{display:"flex",flexDirection:"column",gap:2,minWidth:300,p:2,children:[y.jsx(Kt,{label:"이름",value:t,onChange:x=>r(x.target.value),error:!!d.name,helperText:d.name,required:!0}),y.jsx(Kt,{label:"키워드 추가",value:o,onChange:x=>i(x.target.value),error:!!d.keywords,helperText:d.keywords,onKeyDown:x=>{if(x.key==="Enter"&&o.trim()){if(x.nativeEvent.isComposing)return;v()}}}),y.jsx(we,{sx:{display:"flex",flexWrap:"wrap",gap:1,mt:1},children:l.map((x,T)=>y.jsx(ms,{label:x,onDelete:()=>{const S=l.filter((C,E)=>E!==T);u(S),p({...d,keywords:void 0})}},T))}),y.jsx(cr,{variant:"contained",onClick:g,children:"등록"})]})},BL=({interests:e,onSubscribe:t,onUnsubscribe:r,loading:o,onSelect:i,onDelete:l})=>{const u=()=>y.jsx(pd,{children:y.jsx(xr,{colSpan:4,align:"center",children:y.jsx(ks,{size:24})})}),d=()=>y.jsx(pd,{children:y.jsx(xr,{colSpan:5,align:"center",children:"데이터가 없습니다."})});return y.jsx(we,{sx:{width:"100%",height:"90%"},children:y.jsxs(SD,{stickyHeader:!0,sx:{tableLayout:"fixed"},children:[y.jsx($D,{children:y.jsxs(pd,{children:[y.jsx(xr,{sx:{width:"20%"},children:"이름"}),y.jsx(xr,{sx:{width:"40%"},children:"키워드"}),y.jsx(xr,{sx:{width:"15%"},align:"center",children:"구독자 수"}),y.jsx(xr,{sx:{width:"15%"},align:"center",children:"구독 여부"}),y.jsx(xr,{sx:{width:"10%"},align:"center",children:"관리"})]})}),y.jsxs(RD,{children:[e.length===0?d():e.map(p=>y.jsxs(pd,{children:[y.jsx(xr,{children:p.name}),y.jsx(xr,{children:y.jsx(we,{sx:{display:"flex",flexWrap:"wrap",gap:1},children:p.keywords.map((h,g)=>y.jsx(ms,{label:h,size:"small",color:"primary"},g))})}),y.jsx(xr,{align:"center",children:p.subscriberCount}),y.jsx(xr,{align:"center",children:y.jsx(hD,{color:"primary",checked:p.subscribedByMe,onChange:()=>{p.subscribedByMe?r(p.id):t(p.id)}})}),y.jsx(xr,{children:y.jsxs(we,{sx:{display:"flex",gap:1},children:[y.jsx(wr,{color:"primary",onClick:()=>i(p),children:y.jsx(PC,{})}),y.jsx(wr,{color:"error",onClick:()=>{window.confirm("정말 삭제하시겠습니까?")&&l(p.id)},children:y.jsx(LC,{})})]})})]},p.id)),o&&u()]})]})})},LL=vn.object({keywords:vn.array(vn.string().min(1,"키워드를 입력해주세요").max(20,"키워드는 20자 이내로 입력해주세요")).max(10,"키워드는 최대 10개까지 입력 가능합니다").min(1,"키워드를 최소 1개 이상 입력해주세요")}),PL=({interest:e,onSave:t})=>{const[r,o]=b.useState(""),[i,l]=b.useState(e.keywords),[u,d]=b.useState({}),p=b.useMemo(()=>{const x=new Set(e.keywords),T=new Set(i);return x.size!==T.size?!0:[...x].some(S=>!T.has(S))},[e.keywords,i]),h=b.useCallback(()=>{try{return LL.parse({keywords:i}),d({}),!0}catch(x){if(x instanceof vn.ZodError){const T=x.errors.reduce((S,C)=>{const E=C.path[0];return S[E]=C.message,S},{});d(T)}return!1}},[i]),g=b.useCallback(()=>{r.trim()&&(l([...i,r]),o(""),d({...u,keywords:void 0}))},[r,i,u,o,l,d]),v=b.useCallback(()=>{h()&&t({keywords:i})},[h,i,t]);return y.jsxs(we,{display:"flex",flexDirection:"column",gap:2,minWidth:300,p:2,children:[y.jsx(Kt,{label:"이름",value:e.name,disabled:!0}),y.jsx(Kt,{label:"키워드 추가",value:r,onChange:x=>o(x.target.value),error:!!u.keywords,helperText:u.keywords,onKeyDown:x=>{if(x.key==="Enter"&&r.trim()){if(x.nativeEvent.isComposing)return;g()}}}),y.jsxs(we,{children:[y.jsx(we,{sx:{mb:1},children:"키워드"}),y.jsx(we,{sx:{display:"flex",flexWrap:"wrap",gap:1},children:i.map((x,T)=>y.jsx(ms,{label:x,onDelete:()=>{const S=i.filter((C,E)=>E!==T);l(S),d({...u,keywords:void 0})}},T))})]}),y.jsx(cr,{variant:"contained",disabled:!p,onClick:v,children:"저장"})]})},UL=()=>{const{interests:e,params:t,isLoading:r,clear:o,searchInterests:i,registerInterest:l,subscribeInterest:u,unsubscribeInterest:d,deleteInterest:p,updateInterest:h,hasNext:g}=DL(),[v,x]=b.useState(!1),[T,S]=b.useState(!1),[C,E]=b.useState(null);b.useEffect(()=>(i(),()=>{o()}),[]);const A=b.useCallback(L=>{i(L)},[i]),j=b.useCallback(L=>{l(L),x(!1)},[l]),k=b.useCallback(L=>{u(L)},[u]),M=b.useCallback(L=>{d(L)},[d]),O=b.useCallback(L=>{C&&(h(C.id,L),S(!1))},[h,C]),B=b.useCallback(L=>{E(L),S(!0)},[]),H=b.useCallback(L=>{p(L)},[p]);return y.jsxs("div",{children:[y.jsx("h2",{style:{marginBottom:"20px"},children:"관심사 목록"}),y.jsxs(kn,{container:!0,spacing:2,children:[y.jsx(kn,{size:{xs:12,md:9},children:y.jsx(NL,{params:t,onParamsChange:A})}),y.jsx(kn,{size:{xs:12,md:3},sx:{display:"flex",justifyContent:"flex-end"},children:y.jsx(cr,{variant:"contained",color:"primary",onClick:()=>x(!0),children:"관심사 등록"})}),y.jsx(kn,{size:{xs:12},sx:{height:"calc(100vh - 300px)",overflow:"auto"},onScroll:L=>{const F=L.target;F.scrollHeight-F.scrollTop-100<F.clientHeight&&!r&&g&&i()},children:y.jsx(BL,{interests:e,onSubscribe:k,onUnsubscribe:M,loading:r,onSelect:B,onDelete:H})})]}),y.jsxs(ys,{open:v,onClose:()=>x(!1),maxWidth:"sm",fullWidth:!0,children:[y.jsx(lc,{children:"관심사 등록"}),y.jsx(vs,{children:y.jsx(zL,{onRegister:j})})]}),C&&y.jsxs(ys,{open:T,onClose:()=>S(!1),maxWidth:"sm",fullWidth:!0,children:[y.jsx(lc,{children:"관심사 수정"}),y.jsx(vs,{children:y.jsx(PL,{interest:C,onSave:O})})]})]})},IL=({error:e,onClose:t})=>e?y.jsxs(ys,{open:!!e,onClose:t,maxWidth:"sm",fullWidth:!0,children:[y.jsx(lc,{color:"error",children:"오류가 발생했습니다"}),y.jsxs(vs,{children:[y.jsxs(we,{sx:{mb:2},children:[y.jsxs(je,{variant:"subtitle1",color:"text.secondary",children:["에러 코드: ",e.code]}),y.jsx(je,{variant:"body1",sx:{mt:1},children:e.message})]}),e.details&&Object.keys(e.details).length>0&&y.jsxs(we,{children:[y.jsx(je,{variant:"subtitle2",color:"text.secondary",children:"상세 정보:"}),Object.entries(e.details).map(([r,o])=>y.jsxs(je,{variant:"body2",sx:{mt:.5},children:[r,": ",String(o)]},r))]})]}),y.jsx(Eg,{children:y.jsx(cr,{onClick:t,color:"primary",children:"확인"})})]}):null,HL=()=>{const{isAuthenticated:e}=Ha(),t=ws();return b.useEffect(()=>{e||t("/login")},[e,t]),y.jsx(y.Fragment,{children:y.jsx(gS,{})})},VL=({article:e,onDelete:t,onHardDelete:r})=>{const[o,i]=b.useState(null),l=!!o,u=g=>{i(g.currentTarget)},d=()=>{i(null)},p=b.useCallback(()=>{t&&e.id&&(t(e.id),d())},[t,e.id,d]),h=b.useCallback(()=>{if(!r||!e.id)return;const g=confirm("정말로 이 기사를 완전히 삭제하시겠습니까? 이 작업은 되돌릴 수 없습니다.");console.log("confiremd",g),g&&(r(e.id),d())},[r,e.id,d]);return y.jsx(_s,{sx:{margin:"0 auto",height:"100%"},children:y.jsxs(SC,{sx:{height:"100%",display:"flex",flexDirection:"column"},children:[y.jsxs(we,{sx:{display:"flex",alignItems:"center",justifyContent:"space-between",borderBottom:"2px solid #000"},children:[y.jsx(je,{variant:"h6",gutterBottom:!0,sx:{fontWeight:"bold",flex:1,display:"flex",alignItems:"center",mb:0},children:y.jsx("span",{dangerouslySetInnerHTML:{__html:e.title}})}),y.jsx(wr,{onClick:u,children:y.jsx(mN,{})}),y.jsxs(Og,{anchorEl:o,open:l,onClose:d,MenuListProps:{"aria-labelledby":"basic-button"},children:[y.jsx(_n,{onClick:p,children:"삭제하기"}),y.jsx(_n,{onClick:h,sx:{color:"error.main"},children:"완전히 삭제하기"})]})]}),y.jsxs(we,{sx:{display:"flex",justifyContent:"space-between",marginBottom:"20px"},children:[y.jsxs(je,{variant:"subtitle1",color:"text.secondary",children:["출처: ",e.source]}),y.jsx(je,{variant:"subtitle1",color:"text.secondary",children:new Date(e.publishDate).toLocaleString()})]}),y.jsx(je,{variant:"body1",sx:{fontSize:"1.1rem",lineHeight:1.8,marginBottom:"30px",flex:1},children:y.jsx("span",{dangerouslySetInnerHTML:{__html:e.summary}})}),y.jsxs(we,{sx:{display:"flex",gap:3,borderTop:"1px solid #ddd",paddingTop:"15px",marginTop:"auto"},children:[y.jsxs(je,{variant:"body2",color:"text.secondary",sx:{display:"flex",alignItems:"center",gap:1},children:[y.jsx($g,{fontSize:"small"}),"조회수: ",e.viewCount]}),y.jsxs(je,{variant:"body2",color:"text.secondary",sx:{display:"flex",alignItems:"center",gap:1},children:[y.jsx(zC,{fontSize:"small"}),"댓글: ",e.commentCount]}),y.jsx(_g,{href:e.sourceUrl,target:"_blank",sx:{ml:"auto"},children:"원문 보기"})]})]})},e.id)},FL=({params:e,onParamsChange:t,subscriptions:r})=>y.jsx(we,{display:"flex",flexDirection:"column",gap:2,children:y.jsx(kg,{size:"small",children:y.jsxs(mf,{value:e.interestId||"",onChange:o=>t({...e,interestId:o.target.value}),displayEmpty:!0,children:[y.jsx(_n,{value:"",children:"전체"}),r.map(o=>y.jsx(_n,{value:o.interestId,children:o.interestName},o.id))]})})}),qL=({articles:e,loading:t,onSelect:r})=>y.jsxs("div",{style:{display:"grid",gridTemplateColumns:"repeat(auto-fill, minmax(300px, 1fr))",gap:"16px"},children:[e.length===0?y.jsx(we,{sx:{display:"flex",justifyContent:"center",alignItems:"center",height:"200px",gridColumn:"1/-1"},children:y.jsx(je,{variant:"h6",color:"text.secondary",children:"표시할 기사가 없습니다."})}):e.map(o=>y.jsx(_s,{onClick:()=>r(o),sx:{cursor:"pointer",transition:"transform 0.2s",backgroundColor:"#f5f5f5",opacity:o.viewedByMe?.5:1,"&:hover":{transform:"translateY(-2px)",boxShadow:4}},children:y.jsxs(SC,{children:[y.jsx(je,{variant:"h6",gutterBottom:!0,noWrap:!0,children:y.jsx("span",{dangerouslySetInnerHTML:{__html:o.title}})}),y.jsx(je,{variant:"body2",color:"text.secondary",sx:{mb:2,height:"3em",overflow:"hidden"},children:y.jsx("span",{dangerouslySetInnerHTML:{__html:o.summary}})}),y.jsxs(we,{sx:{display:"flex",justifyContent:"space-between",fontSize:"0.875rem",color:"text.secondary"},children:[y.jsx(je,{variant:"caption",children:new Date(o.publishDate).toLocaleString()}),y.jsxs(we,{sx:{display:"flex",gap:2},children:[y.jsxs(je,{variant:"caption",sx:{display:"flex",alignItems:"center",gap:.5},children:[y.jsx($g,{fontSize:"small"}),o.viewCount]}),y.jsxs(je,{variant:"caption",sx:{display:"flex",alignItems:"center",gap:.5},children:[y.jsx(zC,{fontSize:"small"})," ",o.commentCount]})]})]})]})},o.id)),t&&y.jsx(ks,{})]}),WL=({params:e,onParamsChange:t,sources:r})=>{const[o,i]=b.useState(e.keyword);b.useEffect(()=>{i(e.keyword)},[e.keyword]);const l=b.useCallback(u=>{i(u.target.value)},[t,e]);return y.jsxs(we,{display:"flex",flexDirection:"column",gap:2,children:[y.jsx(Kt,{fullWidth:!0,label:"검색어",size:"small",value:o,onChange:l,onKeyDown:u=>{u.key==="Enter"&&t({...e,keyword:o,cursor:void 0})}}),y.jsx(us,{}),y.jsx(Kt,{fullWidth:!0,size:"small",label:"부터",type:"date",InputLabelProps:{shrink:!0},value:e.publishDateFrom?e.publishDateFrom.split("T")[0]:"",onChange:u=>t({...e,publishDateFrom:u.target.value+"T00:00:00.000"})}),y.jsx(Kt,{fullWidth:!0,size:"small",label:"까지",type:"date",InputLabelProps:{shrink:!0},value:e.publishDateTo?e.publishDateTo.split("T")[0]:"",onChange:u=>t({...e,publishDateTo:u.target.value+"T23:59:59.999"})}),y.jsx(us,{}),y.jsxs(kg,{fullWidth:!0,size:"small",children:[y.jsx(AC,{children:"출처"}),y.jsx(mf,{multiple:!0,value:e.sourceIn||[],onChange:u=>{const d=u.target.value;t({...e,sourceIn:d})},renderValue:u=>y.jsx(we,{sx:{display:"flex",flexWrap:"wrap",gap:.5},children:u.map(d=>y.jsx(ms,{label:d,size:"small"},d))}),children:r.map(u=>{var d;return y.jsxs(_n,{value:u,children:[y.jsx(M4,{checked:(d=e.sourceIn)==null?void 0:d.includes(u)}),y.jsx($d,{primary:u})]},u)})})]}),y.jsx(us,{}),y.jsxs(Kt,{label:"정렬",size:"small",value:e.orderBy,select:!0,onChange:u=>t({...e,orderBy:u.target.value}),children:[y.jsx(_n,{value:"publishDate",children:"게시일"}),y.jsx(_n,{value:"commentCount",children:"댓글 수"}),y.jsx(_n,{value:"viewCount",children:"조회 수"})]}),y.jsxs(Kt,{label:"정렬 방향",size:"small",value:e.direction,select:!0,onChange:u=>t({...e,direction:u.target.value}),children:[y.jsx(_n,{value:"ASC",children:"오름차순"}),y.jsx(_n,{value:"DESC",children:"내림차순"})]})]})},YL=({open:e,onClose:t,onRestore:r})=>{const[o,i]=b.useState(""),[l,u]=b.useState(""),[d,p]=b.useState(!1),[h,g]=b.useState(null),[v,x]=b.useState(null),T=async()=>{if(!o||!l){x("시작일과 종료일을 모두 입력해주세요.");return}if(new Date(o)>new Date(l)){x("시작일은 종료일보다 이전이어야 합니다.");return}p(!0),x(null),g(null);try{const C=`${o}T00:00:00`,E=`${l}T23:59:59`,A=await r(C,E);g(A)}catch{x("복구 중 오류가 발생했습니다.")}finally{p(!1)}},S=()=>{i(""),u(""),p(!1),g(null),x(null),t()};return y.jsxs(ys,{open:e,onClose:S,maxWidth:"sm",fullWidth:!0,children:[y.jsx(lc,{children:"기사 복구"}),y.jsx(vs,{children:y.jsxs(we,{sx:{pt:1},children:[y.jsx(Kt,{label:"시작일",type:"date",value:o,onChange:C=>i(C.target.value),fullWidth:!0,margin:"normal",InputLabelProps:{shrink:!0},disabled:d}),y.jsx(Kt,{label:"종료일",type:"date",value:l,onChange:C=>u(C.target.value),fullWidth:!0,margin:"normal",InputLabelProps:{shrink:!0},disabled:d}),v&&y.jsx(Mx,{severity:"error",sx:{mt:2},children:v}),h!==null&&y.jsxs(Mx,{severity:"success",sx:{mt:2},children:[h,"건이 복구되었습니다."]}),d&&y.jsxs(we,{sx:{display:"flex",justifyContent:"center",mt:2},children:[y.jsx(ks,{}),y.jsx(je,{sx:{ml:2,alignSelf:"center"},children:"복구 중..."})]})]})}),y.jsxs(Eg,{children:[y.jsx(cr,{onClick:S,disabled:d,children:"닫기"}),y.jsx(cr,{onClick:T,variant:"contained",disabled:d||!o||!l,children:"복구하기"})]})]})},GL=({comments:e,onLike:t,onUnlike:r,handleEdit:o,handleDelete:i,currentUserId:l})=>{const u=T=>{window.confirm("정말 삭제하시겠습니까?")&&i(T)},[d,p]=b.useState(null),[h,g]=b.useState(""),v=b.useCallback(T=>{var S;p(T),g(((S=e.find(C=>C.id===T))==null?void 0:S.content)||"")},[e]),x=b.useCallback(T=>{o(T,{content:h}),p(null)},[h,o]);return y.jsx(we,{sx:{p:2},children:y.jsx(we,{sx:{display:"flex",flexDirection:"column",gap:2},children:e.length===0?y.jsx(je,{variant:"body1",color:"text.secondary",align:"center",children:"등록된 댓글이 없습니다."}):e.map(T=>y.jsxs(_s,{sx:{p:2},children:[y.jsxs(we,{sx:{display:"flex",justifyContent:"space-between",mb:1},children:[y.jsx(we,{sx:{display:"flex",alignItems:"center",gap:1},children:y.jsx(je,{variant:"subtitle2",color:"text.secondary",children:T.userNickname})}),y.jsx(je,{variant:"caption",color:"text.secondary",children:new Date(T.createdAt).toLocaleString()})]}),y.jsxs(we,{sx:{display:"flex",justifyContent:"space-between",mb:1},children:[d===T.id?y.jsx(Kt,{fullWidth:!0,sx:{width:"80%"},value:h,onChange:S=>g(S.target.value)}):y.jsx(je,{variant:"body1",sx:{mb:1},children:T.content}),y.jsx(we,{sx:{display:"flex",alignItems:"flex-end"},children:y.jsxs(we,{sx:{display:"flex",alignItems:"center"},children:[y.jsx(je,{variant:"caption",color:T.likedByMe?"primary":"text.secondary",children:T.likeCount}),y.jsx(wr,{size:"small",onClick:()=>T.likedByMe?r(T.id):t(T.id),children:T.likedByMe?y.jsx(Ng,{fontSize:"small",color:"primary"}):y.jsx(pN,{fontSize:"small"})}),l===T.userId&&y.jsxs(y.Fragment,{children:[d===T.id?y.jsx(wr,{size:"small",onClick:()=>x(T.id),children:y.jsx(BC,{fontSize:"small",color:"success"})}):y.jsx(wr,{size:"small",onClick:()=>v(T.id),children:y.jsx(PC,{fontSize:"small",color:"warning"})}),y.jsx(wr,{size:"small",onClick:()=>u(T.id),children:y.jsx(LC,{fontSize:"small",color:"error"})})]})]})})]})]},T.id))})})},ZL=({onRegister:e})=>{const[t,r]=b.useState(""),o=()=>{e(t),r("")};return y.jsx(we,{sx:{p:2},children:y.jsx(Kt,{multiline:!0,rows:2,placeholder:"댓글을 입력해주세요...",fullWidth:!0,value:t,onChange:i=>r(i.target.value),onKeyDown:i=>{if(i.key==="Enter"&&!i.shiftKey){if(i.preventDefault(),i.nativeEvent.isComposing)return;o()}},onCompositionEnd:i=>{i.data&&i.data.endsWith(`
-`)&&o()},sx:{"& .MuiInputBase-input":{fontFamily:'"Noto Sans KR", sans-serif'}}})})},XL=async e=>{var r;const{data:t}=await $t.get("/api/articles",{params:{...e,sourceIn:(r=e.sourceIn)==null?void 0:r.join(",")}});return t},KL=async e=>{const{data:t}=await $t.post(`/api/articles/${e}/article-views`);return t},QL=async(e,t)=>{const{data:r}=await $t.get("/api/articles/restore",{params:{from:e,to:t}});return r},JL=async e=>{await $t.delete(`/api/articles/${e}`)},e6=async e=>{await $t.delete(`/api/articles/${e}/hard`)},t6=async()=>{const{data:e}=await $t.get("/api/articles/sources");return e},eS={orderBy:"publishDate",direction:"DESC",limit:50},n6=ci((e,t)=>({articles:[],isLoading:!1,error:null,params:eS,sources:["NAVER"],searchArticles:async r=>{e({isLoading:!0,error:null});try{const{params:o,articles:i}=t(),l=r?{...o,...r,cursor:void 0,after:void 0}:o,{content:u,nextCursor:d,nextAfter:p,size:h,totalElements:g,hasNext:v}=await XL(l);e({articles:r?u:[...i,...u],isLoading:!1,params:{...l,cursor:d,after:p,limit:h},totalElements:g,hasNext:v})}catch(o){e({error:o,isLoading:!1})}},registerArticleView:async r=>{e({isLoading:!0,error:null});try{await KL(r),t().updateArticleState(r,o=>({...o,viewedByMe:!0,viewCount:o.viewCount+1})),e({isLoading:!1})}catch(o){e({error:o,isLoading:!1})}},restoreArticles:async(r,o)=>{e({isLoading:!0,error:null});try{const i=await QL(r,o);return e({isLoading:!1}),i}catch(i){return e({error:i,isLoading:!1}),[]}},deleteArticle:async r=>{e({isLoading:!0,error:null});try{await JL(r);const{articles:o}=t(),i=o.filter(l=>l.id!==r);e({articles:i,isLoading:!1})}catch(o){e({error:o,isLoading:!1})}},hardDeleteArticle:async r=>{e({isLoading:!0,error:null});try{await e6(r);const{articles:o}=t(),i=o.filter(l=>l.id!==r);e({articles:i,isLoading:!1})}catch(o){e({error:o,isLoading:!1})}},getSources:async()=>{try{const r=await t6();e({sources:r})}catch(r){console.error("출처 목록 API가 구현되지 않았습니다.",r)}},updateArticleState:(r,o)=>{const{articles:i}=t();if(i.findIndex(d=>d.id===r)===-1)return;const u=i.map(d=>d.id===r?o(d):d);e({articles:u})},clear:()=>{e({articles:[],params:eS,error:null,isLoading:!1})}})),r6=async e=>{const{data:t}=await $t.get("/api/comments",{params:e});return t},a6=async e=>{const{data:t}=await $t.post("/api/comments",e);return t},o6=async(e,t)=>{const{data:r}=await $t.patch(`/api/comments/${e}`,t);return r},i6=async e=>{const{data:t}=await $t.post(`/api/comments/${e}/comment-likes`);return t},s6=async e=>{await $t.delete(`/api/comments/${e}/comment-likes`)},l6=async e=>{await $t.delete(`/api/comments/${e}`)},tS={orderBy:"createdAt",direction:"DESC",limit:10},c6=ci((e,t)=>({comments:[],isLoading:!1,error:null,params:tS,searchComments:async r=>{e({isLoading:!0,error:null});try{const{params:o,comments:i}=t(),l=r?{...o,...r,cursor:void 0,after:void 0}:o,{content:u,nextCursor:d,nextAfter:p,size:h,totalElements:g,hasNext:v}=await r6(l);e({comments:r?u:[...i,...u],isLoading:!1,params:{...l,cursor:d,after:p,limit:h},totalElements:g,hasNext:v})}catch(o){e({error:o,isLoading:!1})}},registerComment:async r=>{e({isLoading:!0,error:null});try{const o=await a6(r);e(i=>({comments:[o,...i.comments],isLoading:!1}))}catch(o){e({error:o,isLoading:!1})}},updateComment:async(r,o)=>{e({isLoading:!0,error:null});try{const i=await o6(r,o);e(l=>({comments:l.comments.map(u=>u.id===r?i:u),isLoading:!1}))}catch(i){e({error:i,isLoading:!1})}},likeComment:async r=>{e({isLoading:!0,error:null});try{await i6(r),e(o=>({comments:o.comments.map(i=>i.id===r?{...i,likeCount:i.likeCount+1,likedByMe:!0}:i),isLoading:!1}))}catch(o){e({error:o,isLoading:!1})}},unlikeComment:async r=>{e({isLoading:!0,error:null});try{await s6(r),e(o=>({comments:o.comments.map(i=>i.id===r?{...i,likeCount:i.likeCount-1,likedByMe:!1}:i),isLoading:!1}))}catch(o){e({error:o,isLoading:!1})}},deleteComment:async r=>{e({isLoading:!0,error:null});try{await l6(r),e(o=>({comments:o.comments.filter(i=>i.id!==r),isLoading:!1}))}catch(o){e({error:o,isLoading:!1})}},clear:()=>{e({comments:[],params:tS,error:null,isLoading:!1})}})),Lw=ci(e=>({error:null,setError:t=>e({error:t}),clearError:()=>e({error:null})})),u6=async e=>{const{data:t}=await $t.get(`/api/user-activities/${e}`);return t},Pw=ci(e=>({userActivity:null,comments:[],commentLikes:[],articleViews:[],isLoading:!1,error:null,userId:"",getUserActivity:async t=>{e({isLoading:!0,error:null});try{const r=await u6(t);e({userActivity:r,isLoading:!1})}catch(r){e({error:r,isLoading:!1})}},clear:()=>{e({userActivity:null,comments:[],commentLikes:[],articleViews:[],isLoading:!1,error:null,userId:""})}})),nS=()=>{const{user:e}=Ha(),{articles:t,isLoading:r,params:o,hasNext:i,searchArticles:l,clear:u,registerArticleView:d,getSources:p,sources:h,deleteArticle:g,hardDeleteArticle:v,restoreArticles:x,updateArticleState:T}=n6(),{userActivity:S,getUserActivity:C,clear:E}=Pw(),{comments:A,isLoading:j,searchComments:k,registerComment:M,likeComment:O,unlikeComment:B,updateComment:H,deleteComment:L,error:F,hasNext:R}=c6(),[P,I]=b.useState(null),[q,ee]=b.useState(!1),{setError:Q}=Lw();b.useEffect(()=>{F&&Q(F)},[F]),b.useEffect(()=>(l(),p(),C((e==null?void 0:e.id)||""),()=>{u(),E()}),[]);const $=b.useCallback(ue=>{const he=new URLSearchParams;Object.entries(ue).forEach(([Ne,Ie])=>{Ie&&he.set(Ne,Ie.toString())}),window.history.replaceState(null,"",`?${he.toString()}`),l(ue)},[l]),Y=b.useCallback(ue=>{I(ue),ue.viewedByMe||d(ue.id),k({articleId:ue.id})},[k,d,P]),J=b.useCallback(async ue=>{ue.trim()&&P&&(await M({articleId:P.id,userId:(e==null?void 0:e.id)||"",content:ue}),T(P.id,he=>({...he,commentCount:he.commentCount+1})))},[P,M,e==null?void 0:e.id,T]),G=b.useCallback(ue=>{O(ue)},[O]),D=b.useCallback(ue=>{B(ue)},[B]),W=b.useCallback(async ue=>{await L(ue),P&&T(P.id,he=>({...he,commentCount:he.commentCount-1}))},[L,P]),ie=b.useCallback(async ue=>{await g(ue),I(null)},[g]),oe=b.useCallback(async ue=>{await v(ue),I(null)},[v]),ye=b.useCallback(async(ue,he)=>(await x(ue,he)).reduce((Ie,et)=>Ie+et.restoredArticleCount,0),[x]);return b.useEffect(()=>{if(P){const ue=t.find(he=>he.id===P.id);ue&&I(ue)}},[t]),y.jsxs("div",{children:[y.jsx("h2",{style:{marginBottom:"20px"},children:"기사 목록"}),y.jsxs(kn,{container:!0,spacing:5,children:[y.jsxs(kn,{size:{xs:2,md:2},children:[y.jsx(WL,{sources:h,params:o,onParamsChange:$}),y.jsx(us,{sx:{margin:"20px 0"}}),y.jsx(cr,{fullWidth:!0,variant:"contained",color:"primary",onClick:()=>ee(!0),children:"기사 복구하기"}),y.jsx(YL,{open:q,onClose:()=>ee(!1),onRestore:ye})]}),y.jsx(kn,{size:{xs:10,md:10},container:!0,direction:"column",spacing:2,children:y.jsxs(kn,{size:{xs:12,md:12},container:!0,children:[y.jsxs(kn,{size:{xs:12,md:12},container:!0,children:[y.jsx(kn,{size:{xs:12,md:2},children:y.jsx(FL,{params:o,onParamsChange:$,subscriptions:(S==null?void 0:S.subscriptions)||[]})}),y.jsx(kn,{size:{xs:12,md:8},children:y.jsx(je,{variant:"h6",children:"관련 기사 목록"})})]}),y.jsx(kn,{size:{xs:12,md:12},sx:{height:"calc(100vh - 300px)",overflow:"auto"},onScroll:ue=>{const he=ue.target;he.scrollHeight-he.scrollTop-100<he.clientHeight&&!r&&i&&l()},children:y.jsx(qL,{articles:t,loading:r,onSelect:Y})})]})})]}),y.jsx(ys,{maxWidth:"md",fullWidth:!0,open:!!P,onClose:()=>I(null),children:y.jsx(vs,{children:y.jsxs(kn,{container:!0,spacing:2,children:[y.jsx(kn,{size:{xs:12,md:12},sx:{maxHeight:"60vh"},children:P&&y.jsx(VL,{article:P,onDelete:ie,onHardDelete:oe})}),y.jsxs(kn,{size:{xs:12,md:12},sx:{display:"flex",flexDirection:"column",height:"40vh"},children:[y.jsx(kn,{size:{xs:12,md:12},sx:{flex:1,overflow:"auto"},onScroll:ue=>{const he=ue.target;he.scrollHeight-he.scrollTop-100<he.clientHeight&&!j&&R&&k()},children:P&&y.jsx(GL,{currentUserId:(e==null?void 0:e.id)||"",comments:A,onLike:G,onUnlike:D,handleEdit:H,handleDelete:W})}),y.jsx(kn,{size:{xs:12,md:12},sx:{marginTop:"auto"},children:P&&y.jsx(ZL,{onRegister:J})})]})]})})})]})},d6=({userActivity:e})=>y.jsx(Os,{children:e.articleViews.map(t=>y.jsx(_s,{sx:{p:2,mb:2},children:y.jsxs(we,{sx:{display:"flex",justifyContent:"space-between"},children:[y.jsxs(we,{sx:{display:"flex",flexDirection:"column",gap:1,flex:8},children:[y.jsx(je,{variant:"subtitle2",color:"text.secondary",children:y.jsx("span",{dangerouslySetInnerHTML:{__html:t.articleTitle}})}),y.jsx(je,{variant:"body1",children:y.jsx("span",{dangerouslySetInnerHTML:{__html:t.articleSummary}})}),y.jsx(je,{variant:"caption",color:"text.secondary",children:new Date(t.articlePublishedDate).toLocaleString()})]}),y.jsxs(we,{sx:{display:"flex",flexDirection:"column",gap:1,alignItems:"flex-end",flex:4},children:[y.jsx(je,{variant:"body2",color:"primary",fontWeight:"bold",children:(()=>{const r=new Date,o=new Date(t.createdAt),i=Math.floor((r.getTime()-o.getTime())/1e3);return i<60?"방금 전에 기사를 읽었습니다.":i<3600?`${Math.floor(i/60)}분 전에 기사를 읽었습니다.`:i<86400?`${Math.floor(i/3600)}시간 전에 기사를 읽었습니다.`:i<604800?`${Math.floor(i/86400)}일 전에 기사를 읽었습니다.`:i<2592e3?`${Math.floor(i/604800)}주 전에 기사를 읽었습니다.`:i<31536e3?`${Math.floor(i/2592e3)}개월 전에 기사를 읽었습니다.`:`${Math.floor(i/31536e3)}년 전에 기사를 읽었습니다.`})()}),y.jsxs(we,{sx:{display:"flex",alignItems:"center",mt:"auto"},children:[y.jsx(je,{variant:"caption",color:"text.secondary",children:t.articleViewCount}),y.jsx($g,{fontSize:"small",sx:{ml:.5},color:"primary"})]})]})]})},t.id))}),f6=({userActivity:e})=>y.jsx(Os,{children:e.comments.map(t=>y.jsx(_s,{sx:{p:2,mb:2},children:y.jsxs(we,{sx:{display:"flex",justifyContent:"space-between"},children:[y.jsxs(we,{sx:{display:"flex",flexDirection:"column",gap:1,flex:8},children:[y.jsx(je,{variant:"subtitle2",color:"text.secondary",children:t.articleTitle}),y.jsx(je,{variant:"body1",children:t.content})]}),y.jsxs(we,{sx:{display:"flex",flexDirection:"column",gap:1,alignItems:"flex-end",flex:4},children:[y.jsx(je,{variant:"body2",color:"primary",fontWeight:"bold",children:(()=>{const r=new Date,o=new Date(t.createdAt),i=Math.floor((r.getTime()-o.getTime())/1e3);return i<60?"방금 전에 댓글을 작성했습니다.":i<3600?`${Math.floor(i/60)}분 전에 댓글을 작성했습니다.`:i<86400?`${Math.floor(i/3600)}시간 전에 댓글을 작성했습니다.`:i<604800?`${Math.floor(i/86400)}일 전에 댓글을 작성했습니다.`:i<2592e3?`${Math.floor(i/604800)}주 전에 댓글을 작성했습니다.`:i<31536e3?`${Math.floor(i/2592e3)}개월 전에 댓글을 작성했습니다.`:`${Math.floor(i/31536e3)}년 전에 댓글을 작성했습니다.`})()}),y.jsxs(we,{sx:{display:"flex",alignItems:"center",mt:"auto"},children:[y.jsx(je,{variant:"caption",color:"text.secondary",children:t.likeCount}),y.jsx(Ng,{fontSize:"small",sx:{ml:.5},color:"primary"})]})]})]})},t.id))}),p6=({userActivity:e})=>y.jsx(Os,{children:e.commentLikes.map(t=>y.jsx(_s,{sx:{p:2,mb:2},children:y.jsxs(we,{sx:{display:"flex",justifyContent:"space-between"},children:[y.jsxs(we,{sx:{display:"flex",flexDirection:"column",gap:1,flex:8},children:[y.jsx(je,{variant:"subtitle2",color:"text.secondary",children:t.articleTitle}),y.jsxs(je,{variant:"body2",color:"text.secondary",children:["작성자: ",t.commentUserNickname]}),y.jsx(je,{variant:"body1",children:t.commentContent}),y.jsx(je,{variant:"caption",color:"text.secondary",children:new Date(t.commentCreatedAt).toLocaleString()})]}),y.jsxs(we,{sx:{display:"flex",flexDirection:"column",gap:1,alignItems:"flex-end",flex:4},children:[y.jsx(je,{variant:"body2",color:"primary",fontWeight:"bold",children:(()=>{const r=new Date,o=new Date(t.createdAt),i=Math.floor((r.getTime()-o.getTime())/1e3);return i<60?"방금 전에 좋아요를 눌렀습니다.":i<3600?`${Math.floor(i/60)}분 전에 좋아요를 눌렀습니다.`:i<86400?`${Math.floor(i/3600)}시간 전에 좋아요를 눌렀습니다.`:i<604800?`${Math.floor(i/86400)}일 전에 좋아요를 눌렀습니다.`:i<2592e3?`${Math.floor(i/604800)}주 전에 좋아요를 눌렀습니다.`:i<31536e3?`${Math.floor(i/2592e3)}개월 전에 좋아요를 눌렀습니다.`:`${Math.floor(i/31536e3)}년 전에 좋아요를 눌렀습니다.`})()}),y.jsxs(we,{sx:{display:"flex",alignItems:"center",mt:"auto"},children:[y.jsx(je,{variant:"caption",color:"text.secondary",children:t.commentLikeCount}),y.jsx(Ng,{fontSize:"small",sx:{ml:.5},color:"primary"})]})]})]})},t.id))}),h6=({userActivity:e})=>{const[t,r]=b.useState(0);return y.jsx(we,{sx:{p:3},children:y.jsxs(we,{sx:{display:"flex",flexDirection:"column",gap:3},children:[y.jsx(we,{sx:{p:3,bgcolor:"#fff",borderRadius:"16px",boxShadow:"0 2px 8px rgba(0,0,0,0.1)"},children:y.jsxs(we,{sx:{display:"flex",gap:8,alignItems:"center",justifyContent:"space-between",px:4},children:[y.jsxs(we,{children:[y.jsx(je,{variant:"body1",color:"text.secondary",fontWeight:"500",children:"사용자명"}),y.jsx(je,{variant:"h6",fontWeight:"bold",children:e.nickname})]}),y.jsxs(we,{children:[y.jsx(je,{variant:"body1",color:"text.secondary",fontWeight:"500",children:"이메일"}),y.jsx(je,{variant:"h6",fontWeight:"bold",children:e.email})]}),y.jsxs(we,{children:[y.jsx(je,{variant:"body1",color:"text.secondary",fontWeight:"500",children:"가입일"}),y.jsx(je,{variant:"h6",fontWeight:"bold",children:new Date(e.createdAt).toLocaleDateString()})]})]})}),y.jsx(we,{sx:{p:3,bgcolor:"#fff",borderRadius:"16px",boxShadow:"0 2px 8px rgba(0,0,0,0.1)"},children:y.jsxs(we,{sx:{display:"flex",flexDirection:"row",gap:4,px:4},children:[y.jsxs(we,{sx:{width:"50%",display:"flex",flexDirection:"column",gap:2},children:[y.jsxs(je,{variant:"h6",fontWeight:"bold",children:[e.subscriptions.length,"개의 관심사를 구독 중입니다."]}),y.jsx(we,{sx:{width:"100%",overflowX:"auto",whiteSpace:"nowrap",pb:1,"&::-webkit-scrollbar":{height:"8px"},"&::-webkit-scrollbar-track":{backgroundColor:"#f1f1f1",borderRadius:"4px"},"&::-webkit-scrollbar-thumb":{backgroundColor:"#888",borderRadius:"4px","&:hover":{backgroundColor:"#555"}}},children:e.subscriptions.map(o=>y.jsx(ms,{variant:"outlined",label:o.interestName,sx:{m:.5,borderRadius:"16px",backgroundColor:"#f0f7ff",color:"#0059b2",fontWeight:500,"&:hover":{backgroundColor:"#e1f0ff"}},size:"small"},o.id))})]}),y.jsxs(we,{sx:{width:"50%",display:"flex",flexDirection:"column",gap:2},children:[y.jsxs(je,{variant:"h6",fontWeight:"bold",children:[Array.from(new Set(e.subscriptions.flatMap(o=>o.interestKeywords))).length,"개의 키워드에 관심이 있습니다."]}),y.jsx(we,{sx:{width:"100%",overflowX:"auto",whiteSpace:"nowrap",pb:1,"&::-webkit-scrollbar":{height:"8px"},"&::-webkit-scrollbar-track":{backgroundColor:"#f1f1f1",borderRadius:"4px"},"&::-webkit-scrollbar-thumb":{backgroundColor:"#888",borderRadius:"4px","&:hover":{backgroundColor:"#555"}}},children:Array.from(new Set(e.subscriptions.flatMap(o=>o.interestKeywords))).map(o=>y.jsx(ms,{variant:"outlined",label:o,sx:{m:.5,borderRadius:"16px",backgroundColor:"#fff0f7",color:"#b20059",fontWeight:500,"&:hover":{backgroundColor:"#ffe1f0"}},size:"small"},o))})]})]})}),y.jsxs(we,{sx:{p:3,px:4,bgcolor:"#fff",borderRadius:"16px",boxShadow:"0 2px 8px rgba(0,0,0,0.1)"},children:[y.jsxs(iN,{value:t,onChange:(o,i)=>r(i),children:[y.jsx(am,{label:"최근 작성한 댓글",sx:{fontWeight:"bold",fontSize:"1.1rem"}}),y.jsx(am,{label:"최근 좋아요를 누른 댓글",sx:{fontWeight:"bold",fontSize:"1.1rem"}}),y.jsx(am,{label:"최근 읽은 기사",sx:{fontWeight:"bold",fontSize:"1.1rem"}})]}),y.jsxs(we,{sx:{mt:2,overflowY:"auto",maxHeight:"50vh"},children:[t===0&&y.jsx(f6,{userActivity:e}),t===1&&y.jsx(p6,{userActivity:e}),t===2&&y.jsx(d6,{userActivity:e})]})]})]})})},m6=()=>{const{userActivity:e,getUserActivity:t}=Pw(),{user:r}=Ha(),{search:o}=To(),i=new URLSearchParams(o).get("userId");return b.useEffect(()=>{i?t(i):r!=null&&r.id&&t(r.id)},[t,i,r==null?void 0:r.id]),y.jsxs("div",{children:[y.jsx("h2",{style:{marginBottom:"20px"},children:"활동 내역"}),e&&y.jsx(h6,{userActivity:e})]})},g6=uf({palette:{primary:{main:"#0A192F"},secondary:{main:"#F50057"}},typography:{fontFamily:'"Noto Sans KR", "Roboto", "Helvetica", "Arial", sans-serif'}});function y6(){const{error:e,clearError:t}=Lw();return y.jsxs(bO,{theme:g6,children:[y.jsx(xR,{children:y.jsx(KE,{children:y.jsxs(Gr,{element:y.jsx(Vz,{}),children:[y.jsxs(Gr,{element:y.jsx(HL,{}),children:[y.jsx(Gr,{path:"/",element:y.jsx(nS,{})}),y.jsx(Gr,{path:"/interests",element:y.jsx(UL,{})}),y.jsx(Gr,{path:"/articles",element:y.jsx(nS,{})}),y.jsx(Gr,{path:"/user-activities",element:y.jsx(m6,{})})]}),y.jsx(Gr,{path:"/login",element:y.jsx(CL,{})}),y.jsx(Gr,{path:"/signup",element:y.jsx(RL,{})}),y.jsx(Gr,{path:"/logout",element:y.jsx(wL,{})})]})})}),e&&y.jsx(IL,{error:e,onClose:t})]})}oE.createRoot(document.getElementById("root")).render(y.jsx(b.StrictMode,{children:y.jsx(y6,{})}));
+`)&&o()},sx:{"& .MuiInputBase-input":{fontFamily:'"Noto Sans KR", sans-serif'}}})})},XL=async e=>{var r;const{data:t}=await $t.get("/api/articles",{params:{...e,sourceIn:(r=e.sourceIn)==null?void 0:r.join(",")}});return t},KL=async e=>{const{data:t}=await $t.post(`/api/articles/${e}/article-views`);return t},QL=async(e,t)=>{const{data:r}=await $t.post("/api/articles/restore/jobs",null,{params:{from:e,to:t}});let o=r;for(;["STARTING","STARTED","STOPPING"].includes(o.status);)await new Promise(i=>setTimeout(i,2e3)),{data:o}=await $t.get(`/api/articles/restore/jobs/${r.jobExecutionId}`);return[o]},JL=async e=>{await $t.delete(`/api/articles/${e}`)},e6=async e=>{await $t.delete(`/api/articles/${e}/hard`)},t6=async()=>{const{data:e}=await $t.get("/api/articles/sources");return e},eS={orderBy:"publishDate",direction:"DESC",limit:50},n6=ci((e,t)=>({articles:[],isLoading:!1,error:null,params:eS,sources:["NAVER"],searchArticles:async r=>{e({isLoading:!0,error:null});try{const{params:o,articles:i}=t(),l=r?{...o,...r,cursor:void 0,after:void 0}:o,{content:u,nextCursor:d,nextAfter:p,size:h,totalElements:g,hasNext:v}=await XL(l);e({articles:r?u:[...i,...u],isLoading:!1,params:{...l,cursor:d,after:p,limit:h},totalElements:g,hasNext:v})}catch(o){e({error:o,isLoading:!1})}},registerArticleView:async r=>{e({isLoading:!0,error:null});try{await KL(r),t().updateArticleState(r,o=>({...o,viewedByMe:!0,viewCount:o.viewCount+1})),e({isLoading:!1})}catch(o){e({error:o,isLoading:!1})}},restoreArticles:async(r,o)=>{e({isLoading:!0,error:null});try{const i=await QL(r,o);return e({isLoading:!1}),i}catch(i){return e({error:i,isLoading:!1}),[]}},deleteArticle:async r=>{e({isLoading:!0,error:null});try{await JL(r);const{articles:o}=t(),i=o.filter(l=>l.id!==r);e({articles:i,isLoading:!1})}catch(o){e({error:o,isLoading:!1})}},hardDeleteArticle:async r=>{e({isLoading:!0,error:null});try{await e6(r);const{articles:o}=t(),i=o.filter(l=>l.id!==r);e({articles:i,isLoading:!1})}catch(o){e({error:o,isLoading:!1})}},getSources:async()=>{try{const r=await t6();e({sources:r})}catch(r){console.error("출처 목록 API가 구현되지 않았습니다.",r)}},updateArticleState:(r,o)=>{const{articles:i}=t();if(i.findIndex(d=>d.id===r)===-1)return;const u=i.map(d=>d.id===r?o(d):d);e({articles:u})},clear:()=>{e({articles:[],params:eS,error:null,isLoading:!1})}})),r6=async e=>{const{data:t}=await $t.get("/api/comments",{params:e});return t},a6=async e=>{const{data:t}=await $t.post("/api/comments",e);return t},o6=async(e,t)=>{const{data:r}=await $t.patch(`/api/comments/${e}`,t);return r},i6=async e=>{const{data:t}=await $t.post(`/api/comments/${e}/comment-likes`);return t},s6=async e=>{await $t.delete(`/api/comments/${e}/comment-likes`)},l6=async e=>{await $t.delete(`/api/comments/${e}`)},tS={orderBy:"createdAt",direction:"DESC",limit:10},c6=ci((e,t)=>({comments:[],isLoading:!1,error:null,params:tS,searchComments:async r=>{e({isLoading:!0,error:null});try{const{params:o,comments:i}=t(),l=r?{...o,...r,cursor:void 0,after:void 0}:o,{content:u,nextCursor:d,nextAfter:p,size:h,totalElements:g,hasNext:v}=await r6(l);e({comments:r?u:[...i,...u],isLoading:!1,params:{...l,cursor:d,after:p,limit:h},totalElements:g,hasNext:v})}catch(o){e({error:o,isLoading:!1})}},registerComment:async r=>{e({isLoading:!0,error:null});try{const o=await a6(r);e(i=>({comments:[o,...i.comments],isLoading:!1}))}catch(o){e({error:o,isLoading:!1})}},updateComment:async(r,o)=>{e({isLoading:!0,error:null});try{const i=await o6(r,o);e(l=>({comments:l.comments.map(u=>u.id===r?i:u),isLoading:!1}))}catch(i){e({error:i,isLoading:!1})}},likeComment:async r=>{e({isLoading:!0,error:null});try{await i6(r),e(o=>({comments:o.comments.map(i=>i.id===r?{...i,likeCount:i.likeCount+1,likedByMe:!0}:i),isLoading:!1}))}catch(o){e({error:o,isLoading:!1})}},unlikeComment:async r=>{e({isLoading:!0,error:null});try{await s6(r),e(o=>({comments:o.comments.map(i=>i.id===r?{...i,likeCount:i.likeCount-1,likedByMe:!1}:i),isLoading:!1}))}catch(o){e({error:o,isLoading:!1})}},deleteComment:async r=>{e({isLoading:!0,error:null});try{await l6(r),e(o=>({comments:o.comments.filter(i=>i.id!==r),isLoading:!1}))}catch(o){e({error:o,isLoading:!1})}},clear:()=>{e({comments:[],params:tS,error:null,isLoading:!1})}})),Lw=ci(e=>({error:null,setError:t=>e({error:t}),clearError:()=>e({error:null})})),u6=async e=>{const{data:t}=await $t.get(`/api/user-activities/${e}`);return t},Pw=ci(e=>({userActivity:null,comments:[],commentLikes:[],articleViews:[],isLoading:!1,error:null,userId:"",getUserActivity:async t=>{e({isLoading:!0,error:null});try{const r=await u6(t);e({userActivity:r,isLoading:!1})}catch(r){e({error:r,isLoading:!1})}},clear:()=>{e({userActivity:null,comments:[],commentLikes:[],articleViews:[],isLoading:!1,error:null,userId:""})}})),nS=()=>{const{user:e}=Ha(),{articles:t,isLoading:r,params:o,hasNext:i,searchArticles:l,clear:u,registerArticleView:d,getSources:p,sources:h,deleteArticle:g,hardDeleteArticle:v,restoreArticles:x,updateArticleState:T}=n6(),{userActivity:S,getUserActivity:C,clear:E}=Pw(),{comments:A,isLoading:j,searchComments:k,registerComment:M,likeComment:O,unlikeComment:B,updateComment:H,deleteComment:L,error:F,hasNext:R}=c6(),[P,I]=b.useState(null),[q,ee]=b.useState(!1),{setError:Q}=Lw();b.useEffect(()=>{F&&Q(F)},[F]),b.useEffect(()=>(l(),p(),C((e==null?void 0:e.id)||""),()=>{u(),E()}),[]);const $=b.useCallback(ue=>{const he=new URLSearchParams;Object.entries(ue).forEach(([Ne,Ie])=>{Ie&&he.set(Ne,Ie.toString())}),window.history.replaceState(null,"",`?${he.toString()}`),l(ue)},[l]),Y=b.useCallback(ue=>{I(ue),ue.viewedByMe||d(ue.id),k({articleId:ue.id})},[k,d,P]),J=b.useCallback(async ue=>{ue.trim()&&P&&(await M({articleId:P.id,userId:(e==null?void 0:e.id)||"",content:ue}),T(P.id,he=>({...he,commentCount:he.commentCount+1})))},[P,M,e==null?void 0:e.id,T]),G=b.useCallback(ue=>{O(ue)},[O]),D=b.useCallback(ue=>{B(ue)},[B]),W=b.useCallback(async ue=>{await L(ue),P&&T(P.id,he=>({...he,commentCount:he.commentCount-1}))},[L,P]),ie=b.useCallback(async ue=>{await g(ue),I(null)},[g]),oe=b.useCallback(async ue=>{await v(ue),I(null)},[v]),ye=b.useCallback(async(ue,he)=>(await x(ue,he)).reduce((Ie,et)=>Ie+et.restoredArticleCount,0),[x]);return b.useEffect(()=>{if(P){const ue=t.find(he=>he.id===P.id);ue&&I(ue)}},[t]),y.jsxs("div",{children:[y.jsx("h2",{style:{marginBottom:"20px"},children:"기사 목록"}),y.jsxs(kn,{container:!0,spacing:5,children:[y.jsxs(kn,{size:{xs:2,md:2},children:[y.jsx(WL,{sources:h,params:o,onParamsChange:$}),y.jsx(us,{sx:{margin:"20px 0"}}),y.jsx(cr,{fullWidth:!0,variant:"contained",color:"primary",onClick:()=>ee(!0),children:"기사 복구하기"}),y.jsx(YL,{open:q,onClose:()=>ee(!1),onRestore:ye})]}),y.jsx(kn,{size:{xs:10,md:10},container:!0,direction:"column",spacing:2,children:y.jsxs(kn,{size:{xs:12,md:12},container:!0,children:[y.jsxs(kn,{size:{xs:12,md:12},container:!0,children:[y.jsx(kn,{size:{xs:12,md:2},children:y.jsx(FL,{params:o,onParamsChange:$,subscriptions:(S==null?void 0:S.subscriptions)||[]})}),y.jsx(kn,{size:{xs:12,md:8},children:y.jsx(je,{variant:"h6",children:"관련 기사 목록"})})]}),y.jsx(kn,{size:{xs:12,md:12},sx:{height:"calc(100vh - 300px)",overflow:"auto"},onScroll:ue=>{const he=ue.target;he.scrollHeight-he.scrollTop-100<he.clientHeight&&!r&&i&&l()},children:y.jsx(qL,{articles:t,loading:r,onSelect:Y})})]})})]}),y.jsx(ys,{maxWidth:"md",fullWidth:!0,open:!!P,onClose:()=>I(null),children:y.jsx(vs,{children:y.jsxs(kn,{container:!0,spacing:2,children:[y.jsx(kn,{size:{xs:12,md:12},sx:{maxHeight:"60vh"},children:P&&y.jsx(VL,{article:P,onDelete:ie,onHardDelete:oe})}),y.jsxs(kn,{size:{xs:12,md:12},sx:{display:"flex",flexDirection:"column",height:"40vh"},children:[y.jsx(kn,{size:{xs:12,md:12},sx:{flex:1,overflow:"auto"},onScroll:ue=>{const he=ue.target;he.scrollHeight-he.scrollTop-100<he.clientHeight&&!j&&R&&k()},children:P&&y.jsx(GL,{currentUserId:(e==null?void 0:e.id)||"",comments:A,onLike:G,onUnlike:D,handleEdit:H,handleDelete:W})}),y.jsx(kn,{size:{xs:12,md:12},sx:{marginTop:"auto"},children:P&&y.jsx(ZL,{onRegister:J})})]})]})})})]})},d6=({userActivity:e})=>y.jsx(Os,{children:e.articleViews.map(t=>y.jsx(_s,{sx:{p:2,mb:2},children:y.jsxs(we,{sx:{display:"flex",justifyContent:"space-between"},children:[y.jsxs(we,{sx:{display:"flex",flexDirection:"column",gap:1,flex:8},children:[y.jsx(je,{variant:"subtitle2",color:"text.secondary",children:y.jsx("span",{dangerouslySetInnerHTML:{__html:t.articleTitle}})}),y.jsx(je,{variant:"body1",children:y.jsx("span",{dangerouslySetInnerHTML:{__html:t.articleSummary}})}),y.jsx(je,{variant:"caption",color:"text.secondary",children:new Date(t.articlePublishedDate).toLocaleString()})]}),y.jsxs(we,{sx:{display:"flex",flexDirection:"column",gap:1,alignItems:"flex-end",flex:4},children:[y.jsx(je,{variant:"body2",color:"primary",fontWeight:"bold",children:(()=>{const r=new Date,o=new Date(t.createdAt),i=Math.floor((r.getTime()-o.getTime())/1e3);return i<60?"방금 전에 기사를 읽었습니다.":i<3600?`${Math.floor(i/60)}분 전에 기사를 읽었습니다.`:i<86400?`${Math.floor(i/3600)}시간 전에 기사를 읽었습니다.`:i<604800?`${Math.floor(i/86400)}일 전에 기사를 읽었습니다.`:i<2592e3?`${Math.floor(i/604800)}주 전에 기사를 읽었습니다.`:i<31536e3?`${Math.floor(i/2592e3)}개월 전에 기사를 읽었습니다.`:`${Math.floor(i/31536e3)}년 전에 기사를 읽었습니다.`})()}),y.jsxs(we,{sx:{display:"flex",alignItems:"center",mt:"auto"},children:[y.jsx(je,{variant:"caption",color:"text.secondary",children:t.articleViewCount}),y.jsx($g,{fontSize:"small",sx:{ml:.5},color:"primary"})]})]})]})},t.id))}),f6=({userActivity:e})=>y.jsx(Os,{children:e.comments.map(t=>y.jsx(_s,{sx:{p:2,mb:2},children:y.jsxs(we,{sx:{display:"flex",justifyContent:"space-between"},children:[y.jsxs(we,{sx:{display:"flex",flexDirection:"column",gap:1,flex:8},children:[y.jsx(je,{variant:"subtitle2",color:"text.secondary",children:t.articleTitle}),y.jsx(je,{variant:"body1",children:t.content})]}),y.jsxs(we,{sx:{display:"flex",flexDirection:"column",gap:1,alignItems:"flex-end",flex:4},children:[y.jsx(je,{variant:"body2",color:"primary",fontWeight:"bold",children:(()=>{const r=new Date,o=new Date(t.createdAt),i=Math.floor((r.getTime()-o.getTime())/1e3);return i<60?"방금 전에 댓글을 작성했습니다.":i<3600?`${Math.floor(i/60)}분 전에 댓글을 작성했습니다.`:i<86400?`${Math.floor(i/3600)}시간 전에 댓글을 작성했습니다.`:i<604800?`${Math.floor(i/86400)}일 전에 댓글을 작성했습니다.`:i<2592e3?`${Math.floor(i/604800)}주 전에 댓글을 작성했습니다.`:i<31536e3?`${Math.floor(i/2592e3)}개월 전에 댓글을 작성했습니다.`:`${Math.floor(i/31536e3)}년 전에 댓글을 작성했습니다.`})()}),y.jsxs(we,{sx:{display:"flex",alignItems:"center",mt:"auto"},children:[y.jsx(je,{variant:"caption",color:"text.secondary",children:t.likeCount}),y.jsx(Ng,{fontSize:"small",sx:{ml:.5},color:"primary"})]})]})]})},t.id))}),p6=({userActivity:e})=>y.jsx(Os,{children:e.commentLikes.map(t=>y.jsx(_s,{sx:{p:2,mb:2},children:y.jsxs(we,{sx:{display:"flex",justifyContent:"space-between"},children:[y.jsxs(we,{sx:{display:"flex",flexDirection:"column",gap:1,flex:8},children:[y.jsx(je,{variant:"subtitle2",color:"text.secondary",children:t.articleTitle}),y.jsxs(je,{variant:"body2",color:"text.secondary",children:["작성자: ",t.commentUserNickname]}),y.jsx(je,{variant:"body1",children:t.commentContent}),y.jsx(je,{variant:"caption",color:"text.secondary",children:new Date(t.commentCreatedAt).toLocaleString()})]}),y.jsxs(we,{sx:{display:"flex",flexDirection:"column",gap:1,alignItems:"flex-end",flex:4},children:[y.jsx(je,{variant:"body2",color:"primary",fontWeight:"bold",children:(()=>{const r=new Date,o=new Date(t.createdAt),i=Math.floor((r.getTime()-o.getTime())/1e3);return i<60?"방금 전에 좋아요를 눌렀습니다.":i<3600?`${Math.floor(i/60)}분 전에 좋아요를 눌렀습니다.`:i<86400?`${Math.floor(i/3600)}시간 전에 좋아요를 눌렀습니다.`:i<604800?`${Math.floor(i/86400)}일 전에 좋아요를 눌렀습니다.`:i<2592e3?`${Math.floor(i/604800)}주 전에 좋아요를 눌렀습니다.`:i<31536e3?`${Math.floor(i/2592e3)}개월 전에 좋아요를 눌렀습니다.`:`${Math.floor(i/31536e3)}년 전에 좋아요를 눌렀습니다.`})()}),y.jsxs(we,{sx:{display:"flex",alignItems:"center",mt:"auto"},children:[y.jsx(je,{variant:"caption",color:"text.secondary",children:t.commentLikeCount}),y.jsx(Ng,{fontSize:"small",sx:{ml:.5},color:"primary"})]})]})]})},t.id))}),h6=({userActivity:e})=>{const[t,r]=b.useState(0);return y.jsx(we,{sx:{p:3},children:y.jsxs(we,{sx:{display:"flex",flexDirection:"column",gap:3},children:[y.jsx(we,{sx:{p:3,bgcolor:"#fff",borderRadius:"16px",boxShadow:"0 2px 8px rgba(0,0,0,0.1)"},children:y.jsxs(we,{sx:{display:"flex",gap:8,alignItems:"center",justifyContent:"space-between",px:4},children:[y.jsxs(we,{children:[y.jsx(je,{variant:"body1",color:"text.secondary",fontWeight:"500",children:"사용자명"}),y.jsx(je,{variant:"h6",fontWeight:"bold",children:e.nickname})]}),y.jsxs(we,{children:[y.jsx(je,{variant:"body1",color:"text.secondary",fontWeight:"500",children:"이메일"}),y.jsx(je,{variant:"h6",fontWeight:"bold",children:e.email})]}),y.jsxs(we,{children:[y.jsx(je,{variant:"body1",color:"text.secondary",fontWeight:"500",children:"가입일"}),y.jsx(je,{variant:"h6",fontWeight:"bold",children:new Date(e.createdAt).toLocaleDateString()})]})]})}),y.jsx(we,{sx:{p:3,bgcolor:"#fff",borderRadius:"16px",boxShadow:"0 2px 8px rgba(0,0,0,0.1)"},children:y.jsxs(we,{sx:{display:"flex",flexDirection:"row",gap:4,px:4},children:[y.jsxs(we,{sx:{width:"50%",display:"flex",flexDirection:"column",gap:2},children:[y.jsxs(je,{variant:"h6",fontWeight:"bold",children:[e.subscriptions.length,"개의 관심사를 구독 중입니다."]}),y.jsx(we,{sx:{width:"100%",overflowX:"auto",whiteSpace:"nowrap",pb:1,"&::-webkit-scrollbar":{height:"8px"},"&::-webkit-scrollbar-track":{backgroundColor:"#f1f1f1",borderRadius:"4px"},"&::-webkit-scrollbar-thumb":{backgroundColor:"#888",borderRadius:"4px","&:hover":{backgroundColor:"#555"}}},children:e.subscriptions.map(o=>y.jsx(ms,{variant:"outlined",label:o.interestName,sx:{m:.5,borderRadius:"16px",backgroundColor:"#f0f7ff",color:"#0059b2",fontWeight:500,"&:hover":{backgroundColor:"#e1f0ff"}},size:"small"},o.id))})]}),y.jsxs(we,{sx:{width:"50%",display:"flex",flexDirection:"column",gap:2},children:[y.jsxs(je,{variant:"h6",fontWeight:"bold",children:[Array.from(new Set(e.subscriptions.flatMap(o=>o.interestKeywords))).length,"개의 키워드에 관심이 있습니다."]}),y.jsx(we,{sx:{width:"100%",overflowX:"auto",whiteSpace:"nowrap",pb:1,"&::-webkit-scrollbar":{height:"8px"},"&::-webkit-scrollbar-track":{backgroundColor:"#f1f1f1",borderRadius:"4px"},"&::-webkit-scrollbar-thumb":{backgroundColor:"#888",borderRadius:"4px","&:hover":{backgroundColor:"#555"}}},children:Array.from(new Set(e.subscriptions.flatMap(o=>o.interestKeywords))).map(o=>y.jsx(ms,{variant:"outlined",label:o,sx:{m:.5,borderRadius:"16px",backgroundColor:"#fff0f7",color:"#b20059",fontWeight:500,"&:hover":{backgroundColor:"#ffe1f0"}},size:"small"},o))})]})]})}),y.jsxs(we,{sx:{p:3,px:4,bgcolor:"#fff",borderRadius:"16px",boxShadow:"0 2px 8px rgba(0,0,0,0.1)"},children:[y.jsxs(iN,{value:t,onChange:(o,i)=>r(i),children:[y.jsx(am,{label:"최근 작성한 댓글",sx:{fontWeight:"bold",fontSize:"1.1rem"}}),y.jsx(am,{label:"최근 좋아요를 누른 댓글",sx:{fontWeight:"bold",fontSize:"1.1rem"}}),y.jsx(am,{label:"최근 읽은 기사",sx:{fontWeight:"bold",fontSize:"1.1rem"}})]}),y.jsxs(we,{sx:{mt:2,overflowY:"auto",maxHeight:"50vh"},children:[t===0&&y.jsx(f6,{userActivity:e}),t===1&&y.jsx(p6,{userActivity:e}),t===2&&y.jsx(d6,{userActivity:e})]})]})]})})},m6=()=>{const{userActivity:e,getUserActivity:t}=Pw(),{user:r}=Ha(),{search:o}=To(),i=new URLSearchParams(o).get("userId");return b.useEffect(()=>{i?t(i):r!=null&&r.id&&t(r.id)},[t,i,r==null?void 0:r.id]),y.jsxs("div",{children:[y.jsx("h2",{style:{marginBottom:"20px"},children:"활동 내역"}),e&&y.jsx(h6,{userActivity:e})]})},g6=uf({palette:{primary:{main:"#0A192F"},secondary:{main:"#F50057"}},typography:{fontFamily:'"Noto Sans KR", "Roboto", "Helvetica", "Arial", sans-serif'}});function y6(){const{error:e,clearError:t}=Lw();return y.jsxs(bO,{theme:g6,children:[y.jsx(xR,{children:y.jsx(KE,{children:y.jsxs(Gr,{element:y.jsx(Vz,{}),children:[y.jsxs(Gr,{element:y.jsx(HL,{}),children:[y.jsx(Gr,{path:"/",element:y.jsx(nS,{})}),y.jsx(Gr,{path:"/interests",element:y.jsx(UL,{})}),y.jsx(Gr,{path:"/articles",element:y.jsx(nS,{})}),y.jsx(Gr,{path:"/user-activities",element:y.jsx(m6,{})})]}),y.jsx(Gr,{path:"/login",element:y.jsx(CL,{})}),y.jsx(Gr,{path:"/signup",element:y.jsx(RL,{})}),y.jsx(Gr,{path:"/logout",element:y.jsx(wL,{})})]})})}),e&&y.jsx(IL,{error:e,onClose:t})]})}oE.createRoot(document.getElementById("root")).render(y.jsx(b.StrictMode,{children:y.jsx(y6,{})}));
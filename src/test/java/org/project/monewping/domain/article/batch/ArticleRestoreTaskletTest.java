@@ -0,0 +1,93 @@
+package org.project.monewping.domain.article.batch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.project.monewping.domain.article.dto.data.ArticleBackupDto;
+import org.project.monewping.domain.article.service.ArticleRestoreService;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.scope.context.StepContext;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.batch.test.MetaDataInstanceFactory;
+
+@DisplayName("ArticleRestoreTasklet 테스트")
+class ArticleRestoreTaskletTest {
+
+    private static final LocalDate DATE = LocalDate.of(2025, 7, 18);
+
+    private ArticleRestoreService restoreService;
+    private StepExecution stepExecution;
+    private StepContribution contribution;
+    private ChunkContext chunkContext;
+
+    @BeforeEach
+    void setUp() {
+        restoreService = mock(ArticleRestoreService.class);
+        stepExecution = MetaDataInstanceFactory.createStepExecution();
+        contribution = new StepContribution(stepExecution);
+        chunkContext = new ChunkContext(new StepContext(stepExecution));
+    }
+
+    private List<ArticleBackupDto> articles(int count) {
+        return IntStream.range(0, count)
+            .mapToObj(i -> new ArticleBackupDto(UUID.randomUUID(), "source", "http://link/" + i, "title" + i,
+                LocalDateTime.of(2025, 7, 18, 0, 0).plusMinutes(i), "summary", 0L, 0L, false, null, null))
+            .toList();
+    }
+
+    @Test
+    @DisplayName("복구 후보를 청크 단위로 저장하고 누적 복구 건수를 실행 컨텍스트에 기록한다")
+    void execute_ShouldRestoreInChunks() {
+        List<ArticleBackupDto> candidates = articles(5);
+        when(restoreService.loadRestoreCandidates(DATE)).thenReturn(candidates);
+        when(restoreService.restoreArticles(candidates.subList(0, 2))).thenReturn(List.of("a", "b"));
+        when(restoreService.restoreArticles(candidates.subList(2, 4))).thenReturn(List.of("c"));
+        when(restoreService.restoreArticles(candidates.subList(4, 5))).thenReturn(List.of("d"));
+        ArticleRestoreTasklet tasklet = new ArticleRestoreTasklet(DATE, restoreService, 2);
+
+        assertThat(tasklet.execute(contribution, chunkContext)).isEqualTo(RepeatStatus.CONTINUABLE);
+        assertThat(tasklet.execute(contribution, chunkContext)).isEqualTo(RepeatStatus.CONTINUABLE);
+        assertThat(tasklet.execute(contribution, chunkContext)).isEqualTo(RepeatStatus.FINISHED);
+
+        assertThat(stepExecution.getExecutionContext().getLong(ArticleRestoreTasklet.RESTORED_COUNT_KEY))
+            .isEqualTo(4L);
+        verify(restoreService, times(1)).loadRestoreCandidates(DATE);
+    }
+
+    @Test
+    @DisplayName("재시작 시 이전 실행의 누적 복구 건수에 이어서 더한다")
+    void execute_ShouldAccumulateRestoredCount_WhenRestarted() {
+        stepExecution.getExecutionContext().putLong(ArticleRestoreTasklet.RESTORED_COUNT_KEY, 10L);
+        List<ArticleBackupDto> candidates = articles(1);
+        when(restoreService.loadRestoreCandidates(DATE)).thenReturn(candidates);
+        when(restoreService.restoreArticles(candidates)).thenReturn(List.of("a"));
+        ArticleRestoreTasklet tasklet = new ArticleRestoreTasklet(DATE, restoreService, 500);
+
+        assertThat(tasklet.execute(contribution, chunkContext)).isEqualTo(RepeatStatus.FINISHED);
+        assertThat(stepExecution.getExecutionContext().getLong(ArticleRestoreTasklet.RESTORED_COUNT_KEY))
+            .isEqualTo(11L);
+    }
+
+    @Test
+    @DisplayName("복구 후보가 없으면 저장하지 않고 종료한다")
+    void execute_ShouldFinish_WhenNoCandidates() {
+        when(restoreService.loadRestoreCandidates(DATE)).thenReturn(List.of());
+        ArticleRestoreTasklet tasklet = new ArticleRestoreTasklet(DATE, restoreService, 500);
+
+        assertThat(tasklet.execute(contribution, chunkContext)).isEqualTo(RepeatStatus.FINISHED);
+        verify(restoreService, times(0)).restoreArticles(List.of());
+    }
+}
@@ -0,0 +1,116 @@
+package org.project.monewping.domain.article.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.project.monewping.domain.article.cache.ArticleListCache.CachedPage;
+import org.project.monewping.domain.article.dto.request.ArticleSearchRequest;
+import org.project.monewping.domain.article.event.ArticleListChangedEvent;
+
+@DisplayName("ArticleListCache 테스트")
+class ArticleListCacheTest {
+
+    private final CachedPage page = new CachedPage(List.of(), null, null, 0L, false);
+
+    private ArticleSearchRequest firstPage(List<String> sources, UUID userId) {
+        return new ArticleSearchRequest(null, null, sources, null, null,
+            "publishDate", "DESC", null, null, 10, userId);
+    }
+
+    @Test
+    @DisplayName("사용자 ID와 출처 순서가 달라도 같은 캐시 항목을 사용한다")
+    void get_ShouldIgnoreUserAndSourceOrder() {
+        ArticleListCache cache = new ArticleListCache(Duration.ofMinutes(1), 10, Clock.systemUTC());
+
+        cache.put(firstPage(List.of("연합뉴스", "조선일보"), UUID.randomUUID()), page, cache.generation());
+
+        assertThat(cache.get(firstPage(List.of("조선일보", "연합뉴스"), UUID.randomUUID()))).contains(page);
+    }
+
+    @Test
+    @DisplayName("검색어나 커서가 있는 요청은 캐시하지 않는다")
+    void put_ShouldSkipNonFirstPageRequests() {
+        ArticleListCache cache = new ArticleListCache(Duration.ofMinutes(1), 10, Clock.systemUTC());
+        ArticleSearchRequest keyword = new ArticleSearchRequest("AI", null, null, null, null,
+            "publishDate", "DESC", null, null, 10, null);
+        ArticleSearchRequest cursor = new ArticleSearchRequest(null, null, null, null, null,
+            "publishDate", "DESC", UUID.randomUUID().toString(), null, 10, null);
+
+        cache.put(keyword, page, cache.generation());
+        cache.put(cursor, page, cache.generation());
+
+        assertThat(cache.get(keyword)).isEmpty();
+        assertThat(cache.get(cursor)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("TTL이 지나면 캐시 항목을 반환하지 않는다")
+    void get_ShouldExpireAfterTtl() {
+        Instant now = Instant.parse("2025-07-24T00:00:00Z");
+        MutableClock clock = new MutableClock(now);
+        ArticleListCache cache = new ArticleListCache(Duration.ofSeconds(30), 10, clock);
+        ArticleSearchRequest request = firstPage(null, null);
+
+        cache.put(request, page, cache.generation());
+        clock.instant = now.plusSeconds(31);
+
+        assertThat(cache.get(request)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("invalidateAll 호출 시 모든 항목이 제거된다")
+    void invalidateAll_ShouldClearEntries() {
+        ArticleListCache cache = new ArticleListCache(Duration.ofMinutes(1), 10, Clock.systemUTC());
+        ArticleSearchRequest request = firstPage(null, null);
+        cache.put(request, page, cache.generation());
+
+        cache.invalidateAll();
+
+        assertThat(cache.get(request)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("조회를 시작한 뒤 무효화되었으면 조회 결과를 저장하지 않는다")
+    void put_ShouldSkipWhenInvalidatedDuringLoad() {
+        ArticleListCache cache = new ArticleListCache(Duration.ofMinutes(1), 10, Clock.systemUTC());
+        ArticleSearchRequest request = firstPage(null, null);
+        long generation = cache.generation();
+
+        cache.onArticleListChanged(new ArticleListChangedEvent());
+        cache.put(request, page, generation);
+
+        assertThat(cache.get(request)).isEmpty();
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -19,12 +19,16 @@ import java.util.List;
 import java.util.UUID;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.project.monewping.domain.article.batch.ArticleRestoreJobLauncher;
 import org.project.monewping.domain.article.dto.data.ArticleDto;
 import org.project.monewping.domain.article.dto.data.ArticleViewDto;
-import org.project.monewping.domain.article.dto.response.ArticleRestoreResultDto;
+import org.project.monewping.domain.article.dto.response.ArticleBackupVerificationDto;
+import org.project.monewping.domain.article.dto.response.ArticleRestoreJobDto;
 import org.project.monewping.domain.article.exception.ArticleNotFoundException;
+import org.project.monewping.domain.article.exception.ArticleRestoreJobNotFoundException;
+import org.project.monewping.domain.article.exception.ArticleRestoreJobStateException;
 import org.project.monewping.domain.article.exception.DuplicateArticleViewsException;
-import org.project.monewping.domain.article.service.ArticleRestoreService;
+import org.project.monewping.domain.article.service.ArticleBackupVerificationService;
 import org.project.monewping.domain.article.service.ArticleViewsService;
 import org.project.monewping.domain.article.service.ArticlesService;
 import org.project.monewping.global.dto.CursorPageResponse;
@@ -52,7 +56,10 @@ public class ArticlesControllerTest {
     private ArticlesService articlesService;
 
     @MockitoBean
-    private ArticleRestoreService articleRestoreService;
+    private ArticleRestoreJobLauncher articleRestoreJobLauncher;
+
+    @MockitoBean
+    private ArticleBackupVerificationService articleBackupVerificationService;
 
     @Test
     @DisplayName("기사 뷰 등록 성공 - 200 OK, 반환 데이터 검증")
@@ -242,66 +249,113 @@ public class ArticlesControllerTest {
     }
 
     @Test
-    @DisplayName("복구 API는 유효한 날짜 범위 요청 시 200 OK와 결과를 반환한다")
-    void restoreArticles_success() throws Exception {
+    @DisplayName("복구 작업 시작 API는 파라미터 누락 시 400 Bad Request를 반환한다")
+    void startRestoreJob_missingParams_returnsBadRequest() throws Exception {
         // given
-        LocalDate from = LocalDate.of(2025, 7, 16);
-        LocalDate to = LocalDate.of(2025, 7, 18);
-
-        ArticleRestoreResultDto result = new ArticleRestoreResultDto(
-            from.atStartOfDay(),
-            List.of("id-1", "id-2"),
-            2
-        );
+        String validDate = "2025-07-18";
 
-        when(articleRestoreService.restoreArticlesByRange(from, to))
-            .thenReturn(List.of(result));
+        // when & then: 'to' 누락
+        mockMvc.perform(post("/api/articles/restore/jobs")
+                .param("from", validDate))
+            .andExpect(status().isBadRequest());
 
-        // when & then
-        mockMvc.perform(get("/api/articles/restore")
-                .param("from", from.toString())
-                .param("to", to.toString()))
-            .andExpect(status().isOk());
+        // when & then: 'from' 누락
+        mockMvc.perform(post("/api/articles/restore/jobs")
+                .param("to", validDate))
+            .andExpect(status().isBadRequest());
 
         // then
-        verify(articleRestoreService).restoreArticlesByRange(from, to);
+        verifyNoInteractions(articleRestoreJobLauncher);
     }
 
     @Test
-    @DisplayName("복구 API는 from이 to보다 이후일 경우 400 Bad Request를 반환한다")
-    void restoreArticles_invalidDateRange_returnsBadRequest() throws Exception {
+    @DisplayName("복구 작업 시작 API는 202 Accepted와 작업 정보를 반환한다")
+    void startRestoreJob_success() throws Exception {
         // given
-        String from = "2025-07-19";
-        String to = "2025-07-18";
+        LocalDate from = LocalDate.of(2025, 7, 16);
+        LocalDate to = LocalDate.of(2025, 7, 18);
+        ArticleRestoreJobDto job = new ArticleRestoreJobDto(
+            1L, "STARTING", from, to, 3, 0, 0L, null, null);
+        when(articleRestoreJobLauncher.launch(from, to)).thenReturn(job);
+
+        // when & then
+        mockMvc.perform(post("/api/articles/restore/jobs")
+                .param("from", "2025-07-16T00:00:00")
+                .param("to", "2025-07-18T23:59:59"))
+            .andExpect(status().isAccepted())
+            .andExpect(jsonPath("$.jobExecutionId").value(1))
+            .andExpect(jsonPath("$.totalDays").value(3));
+    }
+
+    @Test
+    @DisplayName("백업 검증 API는 날짜별 검증 결과를 반환한다")
+    void verifyBackups_returnsResults() throws Exception {
+        // given
+        LocalDate from = LocalDate.of(2025, 7, 16);
+        LocalDate to = LocalDate.of(2025, 7, 17);
+        when(articleBackupVerificationService.verifyBackups(from, to)).thenReturn(List.of(
+            ArticleBackupVerificationDto.valid(from, 10),
+            ArticleBackupVerificationDto.corrupted(to, 5, "SHA-256 불일치")));
 
         // when & then
-        mockMvc.perform(get("/api/articles/restore")
-                .param("from", from)
-                .param("to", to))
+        mockMvc.perform(get("/api/articles/backup/verify")
+                .param("from", "2025-07-16")
+                .param("to", "2025-07-17"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$[0].status").value("VALID"))
+            .andExpect(jsonPath("$[1].status").value("CORRUPTED"))
+            .andExpect(jsonPath("$[1].rowCount").value(5));
+    }
+
+    @Test
+    @DisplayName("복구 작업 시작 API는 from이 to보다 이후일 경우 400 Bad Request를 반환한다")
+    void startRestoreJob_invalidDateRange_returnsBadRequest() throws Exception {
+        mockMvc.perform(post("/api/articles/restore/jobs")
+                .param("from", "2025-07-19")
+                .param("to", "2025-07-18"))
             .andExpect(status().isBadRequest());
 
-        // then
-        verifyNoInteractions(articleRestoreService);
+        verifyNoInteractions(articleRestoreJobLauncher);
     }
 
     @Test
-    @DisplayName("복구 API는 파라미터 누락 시 400 Bad Request를 반환한다")
-    void restoreArticles_missingParams_returnsBadRequest() throws Exception {
+    @DisplayName("복구 작업 조회 API는 진행 상황을 반환하고 없는 작업이면 404를 반환한다")
+    void getRestoreJob_returnsProgressOrNotFound() throws Exception {
         // given
-        String validDate = "2025-07-18";
+        ArticleRestoreJobDto job = new ArticleRestoreJobDto(1L, "STARTED",
+            LocalDate.of(2025, 7, 16), LocalDate.of(2025, 7, 18), 3, 1, 120L, LocalDateTime.now(), null);
+        when(articleRestoreJobLauncher.getJob(1L)).thenReturn(job);
+        when(articleRestoreJobLauncher.getJob(2L)).thenThrow(new ArticleRestoreJobNotFoundException(2L));
 
-        // when & then: 'to' 누락
-        mockMvc.perform(get("/api/articles/restore")
-                .param("from", validDate))
-            .andExpect(status().isBadRequest());
+        // when & then
+        mockMvc.perform(get("/api/articles/restore/jobs/{jobExecutionId}", 1L))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.completedDays").value(1))
+            .andExpect(jsonPath("$.restoredArticleCount").value(120));
+        mockMvc.perform(get("/api/articles/restore/jobs/{jobExecutionId}", 2L))
+            .andExpect(status().isNotFound());
+    }
 
-        // when & then: 'from' 누락
-        mockMvc.perform(get("/api/articles/restore")
-                .param("to", validDate))
-            .andExpect(status().isBadRequest());
+    @Test
+    @DisplayName("실행 중이 아닌 복구 작업 중지 요청은 409 Conflict를 반환한다")
+    void stopRestoreJob_notRunning_returnsConflict() throws Exception {
+        when(articleRestoreJobLauncher.stop(1L))
+            .thenThrow(new ArticleRestoreJobStateException(1L, "COMPLETED", "중지"));
 
-        // then
-        verifyNoInteractions(articleRestoreService);
+        mockMvc.perform(post("/api/articles/restore/jobs/{jobExecutionId}/stop", 1L))
+            .andExpect(status().isConflict());
+    }
+
+    @Test
+    @DisplayName("복구 작업 재시작 API는 새 실행 정보를 반환한다")
+    void restartRestoreJob_success() throws Exception {
+        ArticleRestoreJobDto job = new ArticleRestoreJobDto(2L, "STARTING",
+            LocalDate.of(2025, 7, 16), LocalDate.of(2025, 7, 18), 3, 1, 120L, null, null);
+        when(articleRestoreJobLauncher.restart(1L)).thenReturn(job);
+
+        mockMvc.perform(post("/api/articles/restore/jobs/{jobExecutionId}/restart", 1L))
+            .andExpect(status().isAccepted())
+            .andExpect(jsonPath("$.jobExecutionId").value(2));
     }
 
     @Test
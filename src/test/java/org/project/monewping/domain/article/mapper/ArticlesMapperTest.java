@@ -8,6 +8,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mapstruct.factory.Mappers;
+import org.project.monewping.domain.article.dto.data.ArticleBackupDto;
 import org.project.monewping.domain.article.dto.request.ArticleSaveRequest;
 import org.project.monewping.domain.article.entity.Articles;
 import org.project.monewping.domain.interest.entity.Interest;
@@ -63,4 +64,38 @@ public class ArticlesMapperTest {
         assertThat(articles.getCommentCount()).isNotNull();
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("백업 DTO에는 관심사 ID와 카운터가 담기고, 복구 엔티티는 새 ID로 카운터를 유지한다")
+    void backupDto_shouldKeepInterestIdAndCounters() {
+        // Given
+        UUID interestId = UUID.randomUUID();
+        Interest interest = Interest.builder()
+            .id(interestId)
+            .name("AI")
+            .build();
+        Articles article = Articles.builder()
+            .id(UUID.randomUUID())
+            .interest(interest)
+            .source("Naver")
+            .originalLink("https://naver.com/sample-article")
+            .title("Sample Title")
+            .summary("Sample Summary")
+            .publishedAt(LocalDateTime.now())
+            .commentCount(3)
+            .viewCount(10)
+            .deleted(false)
+            .build();
+
+        // When
+        ArticleBackupDto dto = articlesMapper.toBackupDto(article);
+        Articles restored = articlesMapper.toEntity(dto);
+
+        // Then
+        assertThat(dto.interestId()).isEqualTo(interestId);
+        assertThat(dto.sourceUrl()).isEqualTo(article.getOriginalLink());
+        assertThat(restored.getId()).isNull();
+        assertThat(restored.getInterest()).isNull();
+        assertThat(restored.getCommentCount()).isEqualTo(3);
+        assertThat(restored.getViewCount()).isEqualTo(10);
+    }
+}
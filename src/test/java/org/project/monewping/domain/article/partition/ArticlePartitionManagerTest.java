@@ -0,0 +1,85 @@
+package org.project.monewping.domain.article.partition;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.project.monewping.domain.article.event.ArticleListChangedEvent;
+import org.project.monewping.domain.article.service.ArticleBackupService;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ArticlePartitionManager 테스트")
+class ArticlePartitionManagerTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private ArticleBackupService articleBackupService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private ArticlePartitionManager manager(int monthsAhead, int retentionMonths) {
+        return new ArticlePartitionManager(jdbcTemplate, transactionTemplate, articleBackupService, eventPublisher,
+            "monewping", ZoneId.of("Asia/Seoul"), monthsAhead, retentionMonths, false);
+    }
+
+    @Test
+    @DisplayName("기준 월부터 months-ahead 개월까지 두 테이블의 파티션을 서울 자정 기준으로 생성한다")
+    void createUpcomingPartitions_ShouldCreateMonthlyPartitions() {
+        List<String> created = manager(1, 0).createUpcomingPartitions(YearMonth.of(2025, 7));
+
+        assertThat(created).containsExactly(
+            "articles_p202507", "article_views_p202507", "articles_p202508", "article_views_p202508");
+        verify(jdbcTemplate).execute(
+            "CREATE TABLE IF NOT EXISTS monewping.articles_p202508 PARTITION OF monewping.articles "
+                + "FOR VALUES FROM ('2025-08-01T00:00+09:00') TO ('2025-09-01T00:00+09:00')");
+    }
+
+    @Test
+    @DisplayName("보관 기간이 지난 기사 파티션은 모든 날짜를 백업한 뒤 분리한다")
+    void archiveExpiredPartitions_ShouldBackupThenDetachExpiredMonths() {
+        given(jdbcTemplate.queryForList(anyString(), eq(String.class), eq("monewping"), eq("articles")))
+            .willReturn(List.of("articles_default", "articles_p202503", "articles_p202504"));
+        given(jdbcTemplate.queryForList(anyString(), eq(String.class), eq("monewping"), eq("article_views")))
+            .willReturn(List.of("article_views_p202503"));
+
+        List<String> archived = manager(3, 3).archiveExpiredPartitions(YearMonth.of(2025, 7));
+
+        assertThat(archived).containsExactly("articles_p202503");
+        verify(articleBackupService, times(31)).backupArticlesByDate(any(LocalDate.class));
+        verify(articleBackupService).backupArticlesByDate(LocalDate.of(2025, 3, 31));
+        verify(transactionTemplate, times(2)).executeWithoutResult(any());
+        verify(eventPublisher).publishEvent(any(ArticleListChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("retention-months 가 0 이면 파티션을 분리하지 않는다")
+    void archiveExpiredPartitions_ShouldSkip_WhenRetentionDisabled() {
+        List<String> archived = manager(3, 0).archiveExpiredPartitions(YearMonth.of(2025, 7));
+
+        assertThat(archived).isEmpty();
+        verifyNoInteractions(jdbcTemplate, articleBackupService, transactionTemplate, eventPublisher);
+    }
+}
@@ -0,0 +1,125 @@
+package org.project.monewping.domain.article.partition;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import jakarta.persistence.EntityManager;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+import org.project.monewping.domain.article.dto.data.ArticleBackupDto;
+import org.project.monewping.domain.article.mapper.ArticlesMapper;
+import org.project.monewping.domain.article.repository.ArticlesRepository;
+import org.project.monewping.domain.article.service.ArticleBackupService;
+import org.project.monewping.domain.article.service.impl.ArticleRestoreServiceImpl;
+import org.project.monewping.domain.article.storage.ArticleBackupStorage;
+import org.project.monewping.domain.interest.repository.InterestRepository;
+import org.project.monewping.global.PostgresRepositoryTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@DisplayName("기사 파티션 보관/복구 PostgreSQL 테스트")
+class ArticlePartitionPostgresTest extends PostgresRepositoryTest {
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+    private static final String LINK = "https://news.com/archived";
+    private static final LocalDateTime PUBLISHED_AT = LocalDateTime.of(2025, 3, 15, 12, 0);
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @Autowired
+    ArticlesRepository articlesRepository;
+
+    @Autowired
+    InterestRepository interestRepository;
+
+    @Autowired
+    EntityManager entityManager;
+
+    private ArticlePartitionManager manager;
+    private UUID userId;
+    private UUID interestId;
+
+    @BeforeEach
+    void setUp() {
+        manager = new ArticlePartitionManager(jdbcTemplate, new TransactionTemplate(transactionManager),
+            mock(ArticleBackupService.class), mock(ApplicationEventPublisher.class), "public", ZONE, 0, 1, false);
+
+        userId = UUID.randomUUID();
+        interestId = UUID.randomUUID();
+        jdbcTemplate.update("""
+            INSERT INTO users (id, email, nickname, password, created_at, updated_at, is_deleted)
+            VALUES (?, ?, 'tester', 'pw', now(), now(), FALSE)
+            """, userId, userId + "@test.com");
+        jdbcTemplate.update("""
+            INSERT INTO interests (id, name, subscriber_count, created_at, updated_at)
+            VALUES (?, '축구', 0, now(), now())
+            """, interestId);
+    }
+
+    @Test
+    @DisplayName("보관한 월의 기사는 링크, 댓글, 조회 기록이 정리되어 같은 링크로 다시 복구할 수 있다")
+    void archiveThenRestore_ShouldSucceed() {
+        // given: 2025년 3월 파티션의 기사와 댓글, 조회 기록
+        manager.createUpcomingPartitions(YearMonth.of(2025, 3));
+        UUID articleId = UUID.randomUUID();
+        jdbcTemplate.update("""
+            INSERT INTO articles (id, source, original_link, title, summary, published_at, comment_count, view_count,
+                                  is_deleted, created_at, updated_at, interest_id)
+            VALUES (?, '연합뉴스', ?, '제목', '요약', ?, 1, 1, FALSE, now(), now(), ?)
+            """, articleId, LINK, Timestamp.from(PUBLISHED_AT.atZone(ZONE).toInstant()), interestId);
+        jdbcTemplate.update("""
+            INSERT INTO comments (id, user_nickname, content, like_count, created_at, updated_at, is_deleted,
+                                  article_id, user_id)
+            VALUES (?, 'tester', '댓글', 0, now(), now(), FALSE, ?, ?)
+            """, UUID.randomUUID(), articleId, userId);
+        jdbcTemplate.update("""
+            INSERT INTO article_views (id, viewed_at, user_id, article_id) VALUES (?, now(), ?, ?)
+            """, UUID.randomUUID(), userId, articleId);
+
+        // when: 보관 기간 1개월 기준 2025년 5월에 보관
+        List<String> archived = manager.archiveExpiredPartitions(YearMonth.of(2025, 5));
+
+        // then
+        assertThat(archived).containsExactly("articles_p202503");
+        assertThat(count("SELECT COUNT(*) FROM articles WHERE id = ?", articleId)).isZero();
+        assertThat(count("SELECT COUNT(*) FROM article_links WHERE original_link = ?", LINK)).isZero();
+        assertThat(count("SELECT COUNT(*) FROM comments WHERE article_id = ?", articleId)).isZero();
+        assertThat(count("SELECT COUNT(*) FROM article_views WHERE article_id = ?", articleId)).isZero();
+
+        // when: 보관한 기사를 백업에서 복구
+        ArticleRestoreServiceImpl restoreService = new ArticleRestoreServiceImpl(mock(ArticleBackupStorage.class),
+            articlesRepository, Mappers.getMapper(ArticlesMapper.class), interestRepository,
+            mock(ApplicationEventPublisher.class), transactionManager, 1, 1000);
+        try {
+            List<String> restored = restoreService.restoreArticles(List.of(new ArticleBackupDto(
+                articleId, "연합뉴스", LINK, "제목", PUBLISHED_AT, "요약", 1L, 1L, false, null, interestId)));
+            entityManager.flush();
+
+            // then
+            assertThat(restored).hasSize(1);
+            assertThat(count("SELECT COUNT(*) FROM article_links WHERE original_link = ?", LINK)).isEqualTo(1);
+        } finally {
+            restoreService.shutdown();
+        }
+    }
+
+    private int count(String sql, Object arg) {
+        Integer count = jdbcTemplate.queryForObject(sql, Integer.class, arg);
+        return count == null ? 0 : count;
+    }
+}
@@ -0,0 +1,137 @@
+package org.project.monewping.domain.article.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.project.monewping.global.PostgresRepositoryTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@DisplayName("기사 링크/삭제 트리거 PostgreSQL 테스트")
+class ArticleTriggerPostgresTest extends PostgresRepositoryTest {
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    private UUID userId;
+    private UUID interestId;
+    private final Instant now = Instant.now().truncatedTo(ChronoUnit.MICROS);
+
+    @BeforeEach
+    void setUp() {
+        userId = UUID.randomUUID();
+        interestId = UUID.randomUUID();
+        jdbcTemplate.update("""
+            INSERT INTO users (id, email, nickname, password, created_at, updated_at, is_deleted)
+            VALUES (?, ?, 'tester', 'pw', now(), now(), FALSE)
+            """, userId, userId + "@test.com");
+        jdbcTemplate.update("""
+            INSERT INTO interests (id, name, subscriber_count, created_at, updated_at)
+            VALUES (?, '축구', 0, now(), now())
+            """, interestId);
+    }
+
+    @Test
+    @DisplayName("발행일시가 달라도 같은 원본 링크의 기사는 다시 저장되지 않는다")
+    void insert_RejectsDuplicateLinkAcrossPartitions() {
+        insertArticle(UUID.randomUUID(), "https://news.com/1", now);
+
+        assertThat(linkCount("https://news.com/1")).isEqualTo(1);
+        assertThatThrownBy(() -> insertArticle(UUID.randomUUID(), "https://news.com/1", now.minus(90, ChronoUnit.DAYS)))
+            .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    @Test
+    @DisplayName("관심사 삭제로 기사가 연쇄 삭제되면 링크, 댓글, 좋아요, 조회 기록도 삭제된다")
+    void interestDelete_CleansUpArticleChildren() {
+        UUID articleId = UUID.randomUUID();
+        insertArticle(articleId, "https://news.com/2", now);
+        UUID commentId = UUID.randomUUID();
+        jdbcTemplate.update("""
+            INSERT INTO comments (id, user_nickname, content, like_count, created_at, updated_at, is_deleted,
+                                  article_id, user_id)
+            VALUES (?, 'tester', '댓글', 1, now(), now(), FALSE, ?, ?)
+            """, commentId, articleId, userId);
+        jdbcTemplate.update("""
+            INSERT INTO comment_likes (id, created_at, comment_id, liked_id) VALUES (?, now(), ?, ?)
+            """, UUID.randomUUID(), commentId, userId);
+        jdbcTemplate.update("""
+            INSERT INTO article_views (id, viewed_at, user_id, article_id) VALUES (?, now(), ?, ?)
+            """, UUID.randomUUID(), userId, articleId);
+
+        jdbcTemplate.update("DELETE FROM interests WHERE id = ?", interestId);
+
+        assertThat(count("SELECT COUNT(*) FROM articles WHERE id = ?", articleId)).isZero();
+        assertThat(linkCount("https://news.com/2")).isZero();
+        assertThat(count("SELECT COUNT(*) FROM comments WHERE article_id = ?", articleId)).isZero();
+        assertThat(count("SELECT COUNT(*) FROM comment_likes WHERE comment_id = ?", commentId)).isZero();
+        assertThat(count("SELECT COUNT(*) FROM article_views WHERE article_id = ?", articleId)).isZero();
+    }
+
+    @Test
+    @DisplayName("다른 파티션으로 옮겨진 기사는 정리하지 않고 링크의 발행일시만 갱신한다")
+    void partitionMove_KeepsChildren() {
+        UUID articleId = UUID.randomUUID();
+        insertArticle(articleId, "https://news.com/3", now);
+        jdbcTemplate.update("""
+            INSERT INTO article_views (id, viewed_at, user_id, article_id) VALUES (?, now(), ?, ?)
+            """, UUID.randomUUID(), userId, articleId);
+        Instant moved = now.minus(400, ChronoUnit.DAYS);
+
+        jdbcTemplate.update("UPDATE articles SET published_at = ? WHERE id = ?", Timestamp.from(moved), articleId);
+
+        assertThat(count("SELECT COUNT(*) FROM article_views WHERE article_id = ?", articleId)).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject(
+            "SELECT published_at FROM article_links WHERE original_link = ?", Timestamp.class, "https://news.com/3"))
+            .isEqualTo(Timestamp.from(moved));
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 기사에는 댓글을 저장할 수 없다")
+    void insert_RejectsCommentOfMissingArticle() {
+        UUID missingArticleId = UUID.randomUUID();
+
+        assertThatThrownBy(() -> jdbcTemplate.update("""
+            INSERT INTO comments (id, user_nickname, content, like_count, created_at, updated_at, is_deleted,
+                                  article_id, user_id)
+            VALUES (?, 'tester', '댓글', 0, now(), now(), FALSE, ?, ?)
+            """, UUID.randomUUID(), missingArticleId, userId))
+            .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 기사에는 조회 기록을 저장할 수 없다")
+    void insert_RejectsViewOfMissingArticle() {
+        UUID missingArticleId = UUID.randomUUID();
+
+        assertThatThrownBy(() -> jdbcTemplate.update("""
+            INSERT INTO article_views (id, viewed_at, user_id, article_id) VALUES (?, now(), ?, ?)
+            """, UUID.randomUUID(), userId, missingArticleId))
+            .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    private void insertArticle(UUID id, String link, Instant publishedAt) {
+        jdbcTemplate.update("""
+            INSERT INTO articles (id, source, original_link, title, summary, published_at, comment_count, view_count,
+                                  is_deleted, created_at, updated_at, interest_id)
+            VALUES (?, '연합뉴스', ?, '제목', '요약', ?, 0, 0, FALSE, now(), now(), ?)
+            """, id, link, Timestamp.from(publishedAt), interestId);
+    }
+
+    private int linkCount(String link) {
+        return count("SELECT COUNT(*) FROM article_links WHERE original_link = ?", link);
+    }
+
+    private int count(String sql, Object arg) {
+        Integer count = jdbcTemplate.queryForObject(sql, Integer.class, arg);
+        return count == null ? 0 : count;
+    }
+}
@@ -677,4 +677,32 @@ public class ArticlesRepositoryTest {
         assertThat(resultsNegativeLimit.size()).isLessThanOrEqualTo(10);
     }
 
+    @Test
+    @DisplayName("댓글 수는 UPDATE로 증감되며 0 미만으로 내려가지 않는다")
+    void commentCount_atomicIncreaseAndDecrease() {
+        // given
+        Interest interest = interestRepository.save(
+            Interest.builder().name("댓글수관심사").subscriberCount(0L).build()
+        );
+        Articles article = articlesRepository.saveAndFlush(Articles.builder()
+            .interest(interest)
+            .source("연합뉴스")
+            .originalLink("https://news.com/comment-count")
+            .title("댓글 수 기사")
+            .summary("요약")
+            .publishedAt(LocalDateTime.now())
+            .build());
+
+        // when
+        articlesRepository.increaseCommentCount(article.getId());
+        articlesRepository.increaseCommentCount(article.getId());
+        articlesRepository.decreaseCommentCount(article.getId());
+
+        // then
+        assertThat(articlesRepository.findCommentCountById(article.getId())).contains(1L);
+        assertThat(articlesRepository.decreaseCommentCount(article.getId())).isEqualTo(1);
+        assertThat(articlesRepository.decreaseCommentCount(article.getId())).isZero();
+        assertThat(articlesRepository.findCommentCountById(article.getId())).contains(0L);
+    }
+
 }
@@ -7,7 +7,10 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.time.Instant;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -18,19 +21,15 @@ import org.mockito.MockitoAnnotations;
 import org.project.monewping.domain.article.dto.request.ArticleSaveRequest;
 import org.project.monewping.domain.article.fetcher.ArticleFetcher;
 import org.project.monewping.domain.article.service.ArticlesService;
-import org.project.monewping.domain.interest.entity.Interest;
-import org.project.monewping.domain.interest.repository.InterestRepository;
-import org.project.monewping.domain.interest.repository.KeywordRepository;
+import org.project.monewping.domain.interest.catalog.InterestCatalog;
+import org.project.monewping.domain.interest.catalog.InterestCatalogEntry;
 import org.project.monewping.domain.notification.service.NotificationService;
 
 @DisplayName("ArticleScheduler 테스트")
 public class ArticleSchedulerTest {
 
     @Mock
-    private InterestRepository interestRepository;
-
-    @Mock
-    private KeywordRepository keywordRepository;
+    private InterestCatalog interestCatalog;
 
     @Mock
     private ArticlesService articlesService;
@@ -45,17 +44,17 @@ public class ArticleSchedulerTest {
     private ArticleCollectorScheduler articleCollectorScheduler;
 
     private final UUID interestId = UUID.randomUUID();
-    private final Interest interest = Interest.builder().id(interestId).name("경제").build();
     private final String keyword = "금리";
+    private final InterestCatalogEntry interest =
+        new InterestCatalogEntry(interestId, "경제", List.of(keyword), 0L, Instant.now());
 
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
         articleCollectorScheduler = new ArticleCollectorScheduler(
-            interestRepository,
+            interestCatalog,
             List.of(fetcher1),   // fetcher2 제거, 단일 fetcher만 주입
             articlesService,
-            keywordRepository,
             notificationService
         );
     }
@@ -64,15 +63,13 @@ public class ArticleSchedulerTest {
     @DisplayName("관심사 기반 뉴스 기사 수집 성공 테스트")
     void testCollectArticlesByInterest() {
         // given
-        List<Interest> interests = List.of(interest);
-        List<String> keywords = List.of(keyword);
         List<ArticleSaveRequest> dummyArticles = List.of(
             new ArticleSaveRequest(interestId, "연합뉴스", "https://test", "금리 인상", "설명", null)
         );
 
-        when(interestRepository.findAll()).thenReturn(interests);
-        when(keywordRepository.findNamesByInterestId(interestId)).thenReturn(keywords);
+        when(interestCatalog.snapshot()).thenReturn(snapshot());
         when(fetcher1.fetch(eq(interestId), eq(List.of(keyword)))).thenReturn(dummyArticles);
+        when(articlesService.saveAll(dummyArticles)).thenReturn(1);
 
         // when
         articleCollectorScheduler.collectArticlesByInterest();
@@ -80,19 +77,15 @@ public class ArticleSchedulerTest {
         // then
         verify(articlesService, times(1)).saveAll(dummyArticles);
         verify(fetcher1, times(1)).fetch(eq(interestId), eq(List.of(keyword)));
-        verify(keywordRepository, times(1)).findNamesByInterestId(interestId);
-        verify(interestRepository, times(1)).findAll();
+        verify(interestCatalog, times(1)).snapshot();
+        verify(notificationService, times(1)).createNewArticleNotification(interestId, "경제", 1);
     }
 
     @Test
     @DisplayName("수집 도중 예외 발생 시 로깅하고 계속 진행")
     void testCollectArticlesWithFetcherException() {
         // given
-        List<Interest> interests = List.of(interest);
-        List<String> keywords = List.of(keyword);
-
-        when(interestRepository.findAll()).thenReturn(interests);
-        when(keywordRepository.findNamesByInterestId(interestId)).thenReturn(keywords);
+        when(interestCatalog.snapshot()).thenReturn(snapshot());
         when(fetcher1.fetch(eq(interestId), eq(List.of(keyword))))
             .thenThrow(new RuntimeException("API error"));
 
@@ -103,4 +96,10 @@ public class ArticleSchedulerTest {
         verify(fetcher1, times(1)).fetch(eq(interestId), eq(List.of(keyword)));
         verify(articlesService, never()).saveAll(any());
     }
+
+    private InterestCatalog.Snapshot snapshot() {
+        Map<UUID, InterestCatalogEntry> interests = new LinkedHashMap<>();
+        interests.put(interestId, interest);
+        return new InterestCatalog.Snapshot(1, interests);
+    }
 }
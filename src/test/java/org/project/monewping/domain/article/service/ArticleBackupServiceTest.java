@@ -1,26 +1,36 @@
 package org.project.monewping.domain.article.service;
 
-import static org.mockito.ArgumentMatchers.argThat;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import jakarta.persistence.EntityManager;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
+import org.mockito.ArgumentMatchers;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.project.monewping.domain.article.dto.data.ArticleDto;
+import org.project.monewping.domain.article.dto.data.ArticleBackupDto;
 import org.project.monewping.domain.article.entity.Articles;
 import org.project.monewping.domain.article.mapper.ArticlesMapper;
 import org.project.monewping.domain.article.repository.ArticlesRepository;
 import org.project.monewping.domain.article.service.impl.ArticleBackupServiceImpl;
+import org.project.monewping.domain.article.storage.ArticleBackupFormat;
+import org.project.monewping.domain.article.storage.ArticleBackupManifest;
 import org.project.monewping.domain.article.storage.ArticleBackupStorage;
 import org.project.monewping.domain.interest.entity.Interest;
 
@@ -37,6 +47,9 @@ public class ArticleBackupServiceTest {
     @Mock
     private ArticlesMapper articlesMapper;
 
+    @Mock
+    private EntityManager entityManager;
+
     @InjectMocks
     private ArticleBackupServiceImpl backupService;
 
@@ -66,21 +79,157 @@ public class ArticleBackupServiceTest {
             .deleted(false)
             .build();
 
-        when(articlesRepository.findByPublishedAtBetweenAndDeletedFalse(
+        when(articlesRepository.streamByPublishedAtRange(
             date.atStartOfDay(), date.plusDays(1).atStartOfDay()))
-            .thenReturn(List.of(article));
+            .thenReturn(Stream.of(article));
+
+        ArticleBackupDto dto = new ArticleBackupDto(articleId, "source", "url", "title",
+            LocalDateTime.now(), "summary", 0L, 0L, false, null, null);
 
-        ArticleDto dto = new ArticleDto(articleId, "source", "url", "title",
-            LocalDateTime.now(), "summary", 0L, 0L, false);
+        when(articlesMapper.toBackupDto(article)).thenReturn(dto);
 
-        when(articlesMapper.toDto(article)).thenReturn(dto);
+        List<ArticleBackupDto> saved = new ArrayList<>();
+        when(backupStorage.save(eq(date), ArgumentMatchers.<Stream<ArticleBackupDto>>any()))
+            .thenAnswer(invocation -> {
+                Stream<ArticleBackupDto> stream = invocation.getArgument(1);
+                stream.forEach(saved::add);
+                return (long) saved.size();
+            });
 
         // when
         backupService.backupArticlesByDate(date);
 
         // then
-        verify(backupStorage).save(eq(date), argThat(list ->
-            list.size() == 1 && list.get(0).sourceUrl().equals("url")));
+        assertThat(saved).hasSize(1);
+        assertThat(saved.get(0).sourceUrl()).isEqualTo("url");
+        verify(entityManager).detach(article);
     }
 
+    @Test
+    @DisplayName("변경분 백업은 Asia/Seoul 기준 한 시간 동안 변경된 기사를 세그먼트로 저장한다")
+    void backupChanges_savesChangedArticles() {
+        // given
+        LocalDateTime hour = LocalDateTime.of(2025, 7, 18, 13, 0);
+        Articles article = Articles.builder().originalLink("url").deleted(true).build();
+        ArticleBackupDto dto = backupDto("url", LocalDateTime.of(2025, 7, 17, 9, 0), true, Instant.now());
+
+        when(articlesRepository.streamByUpdatedAtRange(
+            hour.atZone(ZoneId.of("Asia/Seoul")).toInstant(),
+            hour.plusHours(1).atZone(ZoneId.of("Asia/Seoul")).toInstant()))
+            .thenReturn(Stream.of(article));
+        when(articlesMapper.toBackupDto(article)).thenReturn(dto);
+
+        List<ArticleBackupDto> saved = new ArrayList<>();
+        when(backupStorage.saveChanges(eq(hour), ArgumentMatchers.<Stream<ArticleBackupDto>>any()))
+            .thenAnswer(invocation -> {
+                Stream<ArticleBackupDto> stream = invocation.getArgument(1);
+                stream.forEach(saved::add);
+                return (long) saved.size();
+            });
+
+        // when
+        backupService.backupChanges(hour);
+
+        // then
+        assertThat(saved).containsExactly(dto);
+        verify(entityManager).detach(article);
+    }
+
+    @Test
+    @DisplayName("변경분 병합은 발행일별 전체 백업에 최신 변경을 반영하고 삭제된 기사는 제외한다")
+    void compactChanges_mergesLatestChangesIntoSnapshots() {
+        // given
+        LocalDate changeDate = LocalDate.of(2025, 7, 18);
+        LocalDate day1 = LocalDate.of(2025, 7, 17);
+        Instant t1 = Instant.parse("2025-07-18T01:00:00Z");
+        Instant t2 = Instant.parse("2025-07-18T02:00:00Z");
+
+        ArticleBackupDto kept = backupDto("kept", day1.atTime(9, 0), false, null);
+        ArticleBackupDto counted = backupDto("counted", day1.atTime(10, 0), false, null);
+        ArticleBackupDto removed = backupDto("removed", day1.atTime(11, 0), false, null);
+        ArticleBackupDto countedOld = backupDto("counted", day1.atTime(10, 0), false, t1);
+        ArticleBackupDto countedNew = backupDto("counted", day1.atTime(10, 0), false, t2);
+        ArticleBackupDto removedChange = backupDto("removed", day1.atTime(11, 0), true, t1);
+        ArticleBackupDto late = backupDto("late", day1.atTime(23, 0), false, t1);
+
+        // 세그먼트는 시간 순서로 읽히지만 같은 기사의 변경은 updatedAt이 최신인 값이 남아야 함
+        when(backupStorage.streamChanges(changeDate)).thenReturn(Stream.of(countedNew, removedChange, late, countedOld));
+        when(backupStorage.loadManifest(day1)).thenReturn(Optional.of(manifest(3)));
+        when(backupStorage.stream(day1)).thenReturn(Stream.of(kept, counted, removed));
+
+        List<ArticleBackupDto> saved = new ArrayList<>();
+        when(backupStorage.save(eq(day1), ArgumentMatchers.<Stream<ArticleBackupDto>>any()))
+            .thenAnswer(invocation -> {
+                Stream<ArticleBackupDto> stream = invocation.getArgument(1);
+                stream.forEach(saved::add);
+                return (long) saved.size();
+            });
+
+        // when
+        backupService.compactChanges(changeDate);
+
+        // then - 전체 백업 순서를 유지하고 전체 백업에 없던 기사는 마지막에 추가
+        assertThat(saved).containsExactly(kept, countedNew, late);
+        verify(backupStorage, never()).load(any(LocalDate.class));
+        verify(backupStorage).deleteChanges(changeDate);
+    }
+
+    @Test
+    @DisplayName("전체 백업이 없는 발행일은 변경분만으로 백업을 쓰지 않고 DB에서 전체 백업한다")
+    void compactChanges_withoutSnapshot_backsUpWholeDayFromDatabase() {
+        // given
+        LocalDate changeDate = LocalDate.of(2025, 7, 18);
+        ArticleBackupDto change = backupDto("late", changeDate.atTime(23, 0), false, Instant.now());
+        Articles article = Articles.builder().originalLink("late").build();
+        ArticleBackupDto other = backupDto("other", changeDate.atTime(8, 0), false, null);
+        Articles otherArticle = Articles.builder().originalLink("other").build();
+
+        when(backupStorage.streamChanges(changeDate)).thenReturn(Stream.of(change));
+        when(backupStorage.loadManifest(changeDate)).thenReturn(Optional.empty());
+        when(articlesRepository.streamByPublishedAtRange(changeDate.atStartOfDay(), changeDate.plusDays(1).atStartOfDay()))
+            .thenReturn(Stream.of(otherArticle, article));
+        when(articlesMapper.toBackupDto(otherArticle)).thenReturn(other);
+        when(articlesMapper.toBackupDto(article)).thenReturn(change);
+
+        List<ArticleBackupDto> saved = new ArrayList<>();
+        when(backupStorage.save(eq(changeDate), ArgumentMatchers.<Stream<ArticleBackupDto>>any()))
+            .thenAnswer(invocation -> {
+                Stream<ArticleBackupDto> stream = invocation.getArgument(1);
+                stream.forEach(saved::add);
+                return (long) saved.size();
+            });
+
+        // when
+        backupService.compactChanges(changeDate);
+
+        // then
+        assertThat(saved).containsExactly(other, change);
+        verify(backupStorage, never()).stream(any(LocalDate.class));
+        verify(backupStorage).deleteChanges(changeDate);
+    }
+
+    @Test
+    @DisplayName("병합할 변경분이 없으면 전체 백업을 다시 쓰지 않는다")
+    void compactChanges_noChanges_doesNothing() {
+        // given
+        LocalDate changeDate = LocalDate.of(2025, 7, 18);
+        when(backupStorage.streamChanges(changeDate)).thenReturn(Stream.empty());
+
+        // when
+        backupService.compactChanges(changeDate);
+
+        // then
+        verify(backupStorage, never()).save(any(LocalDate.class), ArgumentMatchers.<Stream<ArticleBackupDto>>any());
+        verify(backupStorage, never()).deleteChanges(changeDate);
+    }
+
+    private ArticleBackupManifest manifest(long rowCount) {
+        return new ArticleBackupManifest(ArticleBackupManifest.VERSION, ArticleBackupFormat.BLOCKS, rowCount, 0L,
+            "", null, null, 0L, Instant.now());
+    }
+
+    private ArticleBackupDto backupDto(String link, LocalDateTime publishDate, boolean deleted, Instant updatedAt) {
+        return new ArticleBackupDto(UUID.randomUUID(), "source", link, "title", publishDate, "summary",
+            0L, 0L, deleted, updatedAt, null);
+    }
 }
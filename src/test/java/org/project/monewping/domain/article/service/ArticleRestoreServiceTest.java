@@ -4,28 +4,47 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.project.monewping.domain.article.dto.data.ArticleDto;
+import org.project.monewping.domain.article.dto.data.ArticleBackupDto;
 import org.project.monewping.domain.article.dto.response.ArticleRestoreResultDto;
 import org.project.monewping.domain.article.entity.Articles;
+import org.project.monewping.domain.article.event.ArticleListChangedEvent;
+import org.project.monewping.domain.article.exception.S3BackupLoadException;
 import org.project.monewping.domain.article.mapper.ArticlesMapper;
 import org.project.monewping.domain.article.repository.ArticlesRepository;
 import org.project.monewping.domain.article.service.impl.ArticleRestoreServiceImpl;
+import org.project.monewping.domain.article.storage.ArticleBackupFormat;
+import org.project.monewping.domain.article.storage.ArticleBackupManifest;
 import org.project.monewping.domain.article.storage.ArticleBackupStorage;
+import org.project.monewping.domain.interest.entity.Interest;
+import org.project.monewping.domain.interest.repository.InterestRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("ArticleRestoreService 테스트")
@@ -40,9 +59,28 @@ public class ArticleRestoreServiceTest {
     @Mock
     private ArticlesMapper articlesMapper;
 
-    @InjectMocks
+    @Mock
+    private InterestRepository interestRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
     private ArticleRestoreServiceImpl restoreService;
 
+    @BeforeEach
+    void setUp() {
+        restoreService = new ArticleRestoreServiceImpl(
+            backupStorage, articlesRepository, articlesMapper, interestRepository, eventPublisher, transactionManager, 2, 1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        restoreService.shutdown();
+    }
+
     @Test
     @DisplayName("복구 시 시작 날짜가 끝 날짜보다 늦으면 예외가 발생한다")
     void restoreArticlesByRange_invalidDateRange_throwsException() {
@@ -61,7 +99,7 @@ public class ArticleRestoreServiceTest {
     void restoreArticlesByRange_emptyBackupData_returnsEmptyResult() {
         // given
         LocalDate date = LocalDate.of(2025, 7, 18);
-        when(backupStorage.load(date)).thenReturn(Collections.emptyList());
+        when(backupStorage.loadExcluding(date, Set.of())).thenReturn(Collections.emptyList());
 
         // when
         List<ArticleRestoreResultDto> result = restoreService.restoreArticlesByRange(date, date);
@@ -75,18 +113,25 @@ public class ArticleRestoreServiceTest {
     }
 
     @Test
-    @DisplayName("백업 데이터가 있을 때 기존에 없는 기사만 복구한다")
+    @DisplayName("백업 데이터가 있을 때 기존에 없는 기사만 관심사를 다시 연결하여 복구한다")
     void restoreArticlesByRange_backupData_restoresOnlyMissingArticles() {
         // given
         LocalDate date = LocalDate.of(2025, 7, 18);
-        ArticleDto article1 = new ArticleDto(UUID.randomUUID(), "source1", "url1", "title1",
-            LocalDateTime.now(), "summary", 0L, 0L, false);
-        ArticleDto article2 = new ArticleDto(UUID.randomUUID(), "source2", "url2", "title2",
-            LocalDateTime.now(), "summary", 0L, 0L, false);
-        List<ArticleDto> backupList = List.of(article1, article2);
-
-        when(backupStorage.load(date)).thenReturn(backupList);
-        when(articlesRepository.findExistingOriginalLinks(List.of("url1", "url2"))).thenReturn(List.of("url1"));
+        UUID interestId = UUID.randomUUID();
+        ArticleBackupDto article1 = new ArticleBackupDto(UUID.randomUUID(), "source1", "url1", "title1",
+            LocalDateTime.now(), "summary", 0L, 0L, false, null, interestId);
+        ArticleBackupDto article2 = new ArticleBackupDto(UUID.randomUUID(), "source2", "url2", "title2",
+            LocalDateTime.now(), "summary", 3L, 10L, false, null, interestId);
+        List<ArticleBackupDto> backupList = List.of(article1, article2);
+
+        when(backupStorage.loadExcluding(date, Set.of())).thenReturn(backupList);
+        // 청크 크기 1 → 링크마다 존재 여부 조회
+        when(articlesRepository.findExistingOriginalLinks(List.of("url1"))).thenReturn(List.of("url1"));
+        when(articlesRepository.findExistingOriginalLinks(List.of("url2"))).thenReturn(List.of());
+
+        Interest interest = mock(Interest.class);
+        when(interest.getId()).thenReturn(interestId);
+        when(interestRepository.findAllById(Set.of(interestId))).thenReturn(List.of(interest));
 
         Articles entity2 = mock(Articles.class);
         when(articlesMapper.toEntity(article2)).thenReturn(entity2);
@@ -103,5 +148,85 @@ public class ArticleRestoreServiceTest {
         assertEquals(date.atStartOfDay(), dto.restoreDate());
         assertEquals(1, dto.restoredArticleCount());
         assertEquals(List.of(savedId.toString()), dto.restoredArticleIds());
+        verify(entity2).updateInterest(interest);
+        verify(transactionManager).commit(any());
+        verify(eventPublisher).publishEvent(any(ArticleListChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("관심사 ID가 없거나 관심사가 삭제된 기사는 복구하지 않는다")
+    void restoreArticles_unknownInterest_skipsArticle() {
+        // given
+        UUID deletedInterestId = UUID.randomUUID();
+        ArticleBackupDto legacy = new ArticleBackupDto(UUID.randomUUID(), "source1", "url1", "title1",
+            LocalDateTime.now(), "summary", 0L, 0L, false, null, null);
+        ArticleBackupDto orphan = new ArticleBackupDto(UUID.randomUUID(), "source2", "url2", "title2",
+            LocalDateTime.now(), "summary", 0L, 0L, false, null, deletedInterestId);
+
+        when(articlesRepository.findExistingOriginalLinks(anyList())).thenReturn(List.of());
+        when(interestRepository.findAllById(Set.of(deletedInterestId))).thenReturn(List.of());
+        when(articlesRepository.saveAll(anyList())).thenReturn(List.of());
+
+        // when
+        List<String> restored = restoreService.restoreArticles(List.of(legacy, orphan));
+
+        // then
+        assertTrue(restored.isEmpty());
+        verify(articlesRepository).saveAll(List.of());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    @DisplayName("여러 날짜를 병렬로 복구해도 결과는 날짜 순서대로 반환한다")
+    void restoreArticlesByRange_multipleDays_returnsResultsInDateOrder() {
+        // given
+        LocalDate from = LocalDate.of(2025, 7, 18);
+        LocalDate to = LocalDate.of(2025, 7, 21);
+        when(backupStorage.loadExcluding(any(LocalDate.class), anySet())).thenReturn(List.of());
+
+        // when
+        List<ArticleRestoreResultDto> result = restoreService.restoreArticlesByRange(from, to);
+
+        // then
+        assertEquals(4, result.size());
+        for (int i = 0; i < result.size(); i++) {
+            assertEquals(from.plusDays(i).atStartOfDay(), result.get(i).restoreDate());
+        }
+        verify(backupStorage, times(4)).loadExcluding(any(LocalDate.class), anySet());
+    }
+
+    @Test
+    @DisplayName("한 날짜의 백업 로드가 실패하면 나머지 날짜가 끝난 뒤 예외를 전파한다")
+    void restoreArticlesByRange_failedDay_propagatesException() {
+        // given
+        LocalDate from = LocalDate.of(2025, 7, 18);
+        LocalDate to = LocalDate.of(2025, 7, 19);
+        when(backupStorage.loadExcluding(eq(from), anySet())).thenThrow(new S3BackupLoadException("key", null));
+        when(backupStorage.loadExcluding(eq(to), anySet())).thenReturn(List.of());
+
+        // when & then
+        assertThrows(S3BackupLoadException.class, () -> restoreService.restoreArticlesByRange(from, to));
+        verify(backupStorage).loadExcluding(eq(to), anySet());
+    }
+
+    @Test
+    @DisplayName("매니페스트의 기사가 모두 DB에 있으면 백업 파일을 읽지 않는다")
+    void restoreArticlesByRange_manifestFullyPresent_skipsDownload() {
+        // given
+        LocalDate date = LocalDate.of(2025, 7, 18);
+        List<String> links = List.of("url1", "url2");
+        ArticleBackupManifest manifest = new ArticleBackupManifest(ArticleBackupManifest.VERSION,
+            ArticleBackupFormat.BLOCKS, 2, 100, "sha", null, null,
+            ArticleBackupManifest.linkDigest(links), Instant.now());
+        when(articlesRepository.findOriginalLinksByPublishedAtRange(
+            date.atStartOfDay(), date.plusDays(1).atStartOfDay())).thenReturn(links);
+        when(backupStorage.loadManifest(date)).thenReturn(Optional.of(manifest));
+
+        // when
+        List<ArticleRestoreResultDto> result = restoreService.restoreArticlesByRange(date, date);
+
+        // then
+        assertEquals(0, result.get(0).restoredArticleCount());
+        verify(backupStorage, never()).loadExcluding(any(LocalDate.class), anySet());
     }
-}
\ No newline at end of file
+}
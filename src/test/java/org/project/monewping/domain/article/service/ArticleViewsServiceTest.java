@@ -77,6 +77,7 @@ public class ArticleViewsServiceTest {
         // given - 기존에 동일한 조회 기록이 없고, 해당 기사도 존재하는 경우
         given(articleViewsRepository.findByViewedByAndArticleId(viewedBy, articleId))
             .willReturn(Optional.empty());
+        given(articlesRepository.increaseViewCount(articleId)).willReturn(1);
         given(articlesRepository.findById(articleId))
             .willReturn(Optional.of(articles));
         given(articleViewsRepository.save(any(ArticleViews.class)))
@@ -129,8 +130,7 @@ public class ArticleViewsServiceTest {
         // given
         given(articleViewsRepository.findByViewedByAndArticleId(viewedBy, articleId))
             .willReturn(Optional.empty());
-        given(articlesRepository.findById(articleId))
-            .willReturn(Optional.empty());
+        given(articlesRepository.increaseViewCount(articleId)).willReturn(0);
 
         // when & then
         assertThatThrownBy(() -> articleViewsService.registerView(viewedBy, articleId))
@@ -154,6 +154,7 @@ public class ArticleViewsServiceTest {
             .deleted(false)
             .build();
 
+        given(articlesRepository.increaseViewCount(articleId)).willReturn(1);
         given(articlesRepository.findById(articleId)).willReturn(Optional.of(article));
         lenient().when(articleViewsRepository.existsByViewedByAndArticleId(userId, articleId))
             .thenReturn(false);
@@ -7,6 +7,7 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
@@ -27,19 +28,25 @@ import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.project.monewping.domain.article.cache.ArticleListCache;
+import org.project.monewping.domain.article.cache.ArticleListCache.CachedPage;
 import org.project.monewping.domain.article.dto.data.ArticleDto;
 import org.project.monewping.domain.article.dto.request.ArticleSaveRequest;
 import org.project.monewping.domain.article.dto.request.ArticleSearchRequest;
+import org.project.monewping.domain.article.entity.ArticleViews;
 import org.project.monewping.domain.article.entity.Articles;
+import org.project.monewping.domain.article.event.ArticleListChangedEvent;
 import org.project.monewping.domain.article.exception.ArticleNotFoundException;
 import org.project.monewping.domain.article.mapper.ArticlesMapper;
 import org.project.monewping.domain.article.repository.ArticleViewsRepository;
 import org.project.monewping.domain.article.repository.ArticlesRepository;
 import org.project.monewping.domain.article.service.impl.ArticlesServiceImpl;
+import org.project.monewping.domain.comment.repository.CommentRepository;
 import org.project.monewping.domain.notification.repository.NotificationRepository;
 import org.project.monewping.global.dto.CursorPageResponse;
 import org.project.monewping.domain.interest.entity.Interest;
 import org.project.monewping.domain.interest.repository.InterestRepository;
+import org.springframework.context.ApplicationEventPublisher;
 
 @DisplayName("ArticlesService 테스트")
 @ExtendWith(MockitoExtension.class)
@@ -63,6 +70,15 @@ public class ArticlesServiceTest {
     @Mock
     private ArticlesMapper articlesMapper;
 
+    @Mock
+    private ArticleListCache articleListCache;
+
+    @Mock
+    private CommentRepository commentRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @Captor
     private ArgumentCaptor<List<Articles>> articleListCaptor;
 
@@ -113,6 +129,7 @@ public class ArticlesServiceTest {
         // Then
         ArgumentCaptor<List<Articles>> captor = ArgumentCaptor.forClass(List.class);
         verify(articlesRepository).saveAll(articleListCaptor.capture());
+        verify(eventPublisher).publishEvent(new ArticleListChangedEvent());
 
         List<Articles> saved = articleListCaptor.getValue();
         assertThat(saved).isNotNull();
@@ -327,6 +344,35 @@ public class ArticlesServiceTest {
         assertThat(result.totalElements()).isZero();
     }
 
+    @Test
+    @DisplayName("캐시된 첫 페이지가 있으면 DB 조회 없이 반환하고 viewedByMe만 사용자별로 병합한다")
+    void findArticles_CacheHit_MergesViewedByMe() {
+        // Given
+        UUID userId = UUID.randomUUID();
+        ArticleSearchRequest request = new ArticleSearchRequest(
+            null, null, null, null, null, "publishDate", "DESC", null, null, 10, userId);
+
+        Articles viewed = Articles.builder().id(UUID.randomUUID()).build();
+        ArticleDto viewedDto = new ArticleDto(viewed.getId(), "연합뉴스", "https://news.com/1", "제목1",
+            LocalDateTime.now(), "요약1", 0L, 3L, false);
+        ArticleDto notViewedDto = new ArticleDto(UUID.randomUUID(), "연합뉴스", "https://news.com/2", "제목2",
+            LocalDateTime.now(), "요약2", 0L, 1L, false);
+
+        given(articleListCache.get(request)).willReturn(Optional.of(
+            new CachedPage(List.of(viewedDto, notViewedDto), null, null, 2L, false)));
+        given(articleViewsRepository.findAllByViewedByAndArticleIdIn(eq(userId), any()))
+            .willReturn(List.of(ArticleViews.builder().viewedBy(userId).article(viewed).build()));
+
+        // When
+        CursorPageResponse<ArticleDto> result = articleService.findArticles(request);
+
+        // Then
+        assertThat(result.content()).extracting(ArticleDto::viewedByMe).containsExactly(true, false);
+        assertThat(result.totalElements()).isEqualTo(2);
+        verify(articlesRepository, never()).searchArticles(any());
+        verify(articlesRepository, never()).countArticles(any());
+    }
+
     @Test
     @DisplayName("출처 목록 조회 - 삭제된 기사 제외하고 중복 없이 반환")
     void getAllSources_ReturnsUniqueNonDeletedSources() {
@@ -455,7 +501,10 @@ public class ArticlesServiceTest {
         articleService.hardDelete(articleId);
 
         // then
+        verify(articleViewsRepository).deleteAllByArticleId(articleId);
+        verify(commentRepository).deleteAllByArticleId(articleId);
         verify(articlesRepository).delete(article);
+        verify(eventPublisher).publishEvent(new ArticleListChangedEvent());
 
         then(notificationRepository).should().deactivateByResourceIdAndCreatedAtBetween(
             eq(interest.getId()),
@@ -0,0 +1,153 @@
+package org.project.monewping.domain.article.storage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.project.monewping.domain.article.dto.data.ArticleBackupDto;
+
+@DisplayName("ArticleBackupCodec 테스트")
+class ArticleBackupCodecTest {
+
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JavaTimeModule());
+        objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    }
+
+    private List<ArticleBackupDto> articles(int count) {
+        return IntStream.range(0, count)
+            .mapToObj(i -> new ArticleBackupDto(UUID.randomUUID(), "source", "http://link/" + i, "title" + i,
+                LocalDateTime.of(2025, 7, 24, 0, 0).plusMinutes(i), "summary", 0L, 0L, false, null, null))
+            .toList();
+    }
+
+    @Test
+    @DisplayName("블록 형식은 blockSize 단위로 블록을 나누고 푸터 인덱스에 건수와 링크 해시를 기록한다")
+    void writeBlocks_ShouldWriteFooterIndex() throws IOException {
+        ArticleBackupCodec codec = new ArticleBackupCodec(objectMapper, ArticleBackupFormat.BLOCKS, 2);
+        List<ArticleBackupDto> articles = articles(5);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long written = codec.write(articles.stream(), out);
+        ArticleBackupIndex index = codec.readIndex(new BytesSource(out.toByteArray()));
+
+        assertThat(written).isEqualTo(5);
+        assertThat(index.rowCount()).isEqualTo(5);
+        assertThat(index.blocks()).extracting(ArticleBackupIndex.Block::count).containsExactly(2, 2, 1);
+        assertThat(index.blocks().get(0).linkHashes())
+            .containsExactly(ArticleBackupCodec.linkHash("http://link/0"), ArticleBackupCodec.linkHash("http://link/1"));
+        assertThat(codec.readBlocks(new BytesSource(out.toByteArray()), Set.of())).isEqualTo(articles);
+    }
+
+    @Test
+    @DisplayName("제외 대상 링크만 담긴 블록은 읽지 않는다")
+    void readBlocks_ShouldSkipBlocksWithOnlyExcludedLinks() throws IOException {
+        ArticleBackupCodec codec = new ArticleBackupCodec(objectMapper, ArticleBackupFormat.BLOCKS, 2);
+        List<ArticleBackupDto> articles = articles(5);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        codec.write(articles.stream(), out);
+        BytesSource source = new BytesSource(out.toByteArray());
+        long firstBlockEnd = codec.readIndex(source).blocks().get(0).length();
+        source.reads.clear();
+
+        List<ArticleBackupDto> loaded = codec.readBlocks(source,
+            Set.of("http://link/0", "http://link/1", "http://link/2"));
+
+        assertThat(loaded).containsExactlyElementsOf(articles.subList(3, 5));
+        assertThat(source.reads).noneMatch(offset -> offset < firstBlockEnd);
+    }
+
+    @Test
+    @DisplayName("JSON 형식은 gzip으로 압축하며 기존 비압축 JSON 백업도 읽는다")
+    void readJson_ShouldReadCompressedAndPlainJson() throws IOException {
+        ArticleBackupCodec codec = new ArticleBackupCodec(objectMapper, ArticleBackupFormat.JSON, 1000);
+        List<ArticleBackupDto> articles = articles(3);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        codec.write(articles.stream(), out);
+        byte[] plain = objectMapper.writeValueAsBytes(articles);
+
+        assertThat(out.toByteArray()[0] & 0xff).isEqualTo(0x1f);
+        assertThat(codec.readJson(new ByteArrayInputStream(out.toByteArray()))).isEqualTo(articles);
+        assertThat(codec.readJson(new ByteArrayInputStream(plain))).isEqualTo(articles);
+    }
+
+    @Test
+    @DisplayName("기록과 함께 만든 매니페스트로 JSON 백업을 검증하고 기사 수가 다르면 실패한다")
+    void writeWithManifest_ShouldBeVerifiable() throws IOException {
+        ArticleBackupCodec codec = new ArticleBackupCodec(objectMapper, ArticleBackupFormat.JSON, 1000);
+        List<ArticleBackupDto> articles = articles(3);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        ArticleBackupManifest manifest = codec.writeWithManifest(articles.stream(), out);
+        BytesSource source = new BytesSource(out.toByteArray());
+
+        assertThat(manifest.size()).isEqualTo(out.size());
+        assertThat(manifest.rowCount()).isEqualTo(3);
+        assertThat(manifest.minPublishedAt()).isEqualTo(articles.get(0).publishDate());
+        assertThat(manifest.maxPublishedAt()).isEqualTo(articles.get(2).publishDate());
+        assertThat(manifest.matchesLinks(Set.of("http://link/2", "http://link/0", "http://link/1"))).isTrue();
+        assertThat(manifest.matchesLinks(Set.of("http://link/0", "http://link/1", "http://link/3"))).isFalse();
+        assertThat(codec.verify(source, manifest)).isEmpty();
+
+        ArticleBackupManifest wrongCount = new ArticleBackupManifest(manifest.version(), manifest.format(), 4,
+            manifest.size(), manifest.sha256(), null, null, manifest.linkDigest(), manifest.createdAt());
+        ArticleBackupManifest wrongHash = new ArticleBackupManifest(manifest.version(), manifest.format(), 3,
+            manifest.size(), "00", null, null, manifest.linkDigest(), manifest.createdAt());
+
+        assertThat(codec.verify(source, wrongCount).orElseThrow()).contains("기사 수");
+        assertThat(codec.verify(source, wrongHash).orElseThrow()).contains("SHA-256");
+    }
+
+    @Test
+    @DisplayName("트레일러가 손상된 블록 백업은 예외가 발생한다")
+    void readIndex_ShouldFail_WhenTrailerIsCorrupted() {
+        ArticleBackupCodec codec = new ArticleBackupCodec(objectMapper, ArticleBackupFormat.BLOCKS, 2);
+
+        assertThatThrownBy(() -> codec.readIndex(new BytesSource(new byte[64])))
+            .isInstanceOf(IOException.class);
+    }
+
+    /**
+     * 메모리 바이트 배열 백업 소스. 구간 읽기 시작 위치를 기록합니다.
+     */
+    private static class BytesSource implements ArticleBackupSource {
+
+        private final byte[] bytes;
+        private final List<Long> reads = new ArrayList<>();
+
+        BytesSource(byte[] bytes) {
+            this.bytes = bytes;
+        }
+
+        @Override
+        public long size() {
+            return bytes.length;
+        }
+
+        @Override
+        public InputStream open(long offset, long length) {
+            reads.add(offset);
+            return new ByteArrayInputStream(bytes, (int) offset, (int) length);
+        }
+    }
+}
@@ -24,19 +24,29 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.project.monewping.domain.article.dto.data.ArticleDto;
+import org.project.monewping.domain.article.dto.data.ArticleBackupDto;
 import org.project.monewping.global.config.S3Properties;
+import org.project.monewping.global.storage.MultipartS3StreamUploader;
+import org.springframework.util.unit.DataSize;
 import software.amazon.awssdk.core.ResponseInputStream;
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
 import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Response;
 import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+import software.amazon.awssdk.services.s3.model.S3Object;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("BackupStorage 테스트")
@@ -64,7 +74,9 @@ public class ArticleBackupStorageTest {
         when(backupProps.bucketName()).thenReturn("test-bucket");
         when(backupProps.baseDirectory()).thenReturn("backup/articles");
 
-        backupStorage = new S3ArticleBackupStorage(s3Client, s3Properties, objectMapper);
+        backupStorage = new S3ArticleBackupStorage(s3Client, s3Properties,
+            new ArticleBackupCodec(objectMapper, ArticleBackupFormat.BLOCKS, 1000),
+            new MultipartS3StreamUploader(s3Client, DataSize.ofMegabytes(8), 1));
     }
 
     @Test
@@ -72,13 +84,13 @@ public class ArticleBackupStorageTest {
     void save_shouldUploadJsonToS3() throws Exception {
         // given
         LocalDate date = LocalDate.of(2025, 7, 24);
-        List<ArticleDto> articlesToSave = List.of(
-            new ArticleDto(
+        List<ArticleBackupDto> articlesToSave = List.of(
+            new ArticleBackupDto(
                 UUID.randomUUID(), "중앙일보", "http://source1", "title1",
-                LocalDateTime.of(2025,7,24,12,0), "summary1", 10L, 100L, false),
-            new ArticleDto(
+                LocalDateTime.of(2025,7,24,12,0), "summary1", 10L, 100L, false, null, null),
+            new ArticleBackupDto(
                 UUID.randomUUID(), "조선일보", "http://source2", "title2",
-                LocalDateTime.of(2025,7,24,15,30), "summary2", 5L, 200L, true)
+                LocalDateTime.of(2025,7,24,15,30), "summary2", 5L, 200L, false, null, null)
         );
 
         when(s3Client.putObject(any(PutObjectRequest.class), any(RequestBody.class)))
@@ -86,18 +98,22 @@ public class ArticleBackupStorageTest {
 
         // when & then
         assertDoesNotThrow(() -> backupStorage.save(date, articlesToSave));
-        verify(s3Client, times(1)).putObject(any(PutObjectRequest.class), any(RequestBody.class));
+        ArgumentCaptor<PutObjectRequest> requestCaptor = ArgumentCaptor.forClass(PutObjectRequest.class);
+        verify(s3Client, times(2)).putObject(requestCaptor.capture(), any(RequestBody.class));
+        assertEquals(List.of("backup/articles/articles-2025-07-24.ndjson.gz",
+                "backup/articles/articles-2025-07-24.manifest.json"),
+            requestCaptor.getAllValues().stream().map(PutObjectRequest::key).toList());
     }
 
 
     @Test
-    @DisplayName("load 메서드는 S3에서 JSON 데이터를 읽어 ArticleDto 리스트로 반환해야 한다")
+    @DisplayName("load 메서드는 S3에서 JSON 데이터를 읽어 ArticleBackupDto 리스트로 반환해야 한다")
     void load_shouldReturnArticleDtoList_whenS3ObjectExists() throws Exception {
         // given
         LocalDate date = LocalDate.of(2025, 7, 24);
-        List<ArticleDto> articlesToLoad = List.of(
-            new ArticleDto(UUID.randomUUID(), "중앙일보", "http://source1", "title1", LocalDateTime.of(2025,7,24,12,0), "summary1", 10L, 100L, false),
-            new ArticleDto(UUID.randomUUID(), "조선일보", "http://source2", "title2", LocalDateTime.of(2025,7,24,15,30), "summary2", 5L, 200L, true)
+        List<ArticleBackupDto> articlesToLoad = List.of(
+            new ArticleBackupDto(UUID.randomUUID(), "중앙일보", "http://source1", "title1", LocalDateTime.of(2025,7,24,12,0), "summary1", 10L, 100L, false, null, null),
+            new ArticleBackupDto(UUID.randomUUID(), "조선일보", "http://source2", "title2", LocalDateTime.of(2025,7,24,15,30), "summary2", 5L, 200L, false, null, null)
         );
 
         byte[] jsonBytes = objectMapper.writeValueAsBytes(articlesToLoad);
@@ -106,10 +122,11 @@ public class ArticleBackupStorageTest {
         ResponseInputStream<GetObjectResponse> responseInputStream =
             new ResponseInputStream<>(getObjectResponse, inputStream);
 
+        when(s3Client.headObject(any(HeadObjectRequest.class))).thenThrow(NoSuchKeyException.builder().build());
         when(s3Client.getObject(any(GetObjectRequest.class))).thenReturn(responseInputStream);
 
         // when
-        List<ArticleDto> loadedArticles = backupStorage.load(date);
+        List<ArticleBackupDto> loadedArticles = backupStorage.load(date);
 
         // then
         assertEquals(2, loadedArticles.size());
@@ -123,16 +140,61 @@ public class ArticleBackupStorageTest {
     void load_shouldReturnEmptyList_whenNoSuchKeyExceptionThrown() {
         // given
         LocalDate date = LocalDate.of(2025, 7, 24);
+        when(s3Client.headObject(any(HeadObjectRequest.class))).thenThrow(NoSuchKeyException.builder().build());
         when(s3Client.getObject(any(GetObjectRequest.class))).thenThrow(
             NoSuchKeyException.builder().build());
 
         // when
-        List<ArticleDto> loadedArticles = backupStorage.load(date);
+        List<ArticleBackupDto> loadedArticles = backupStorage.load(date);
 
         // then
         assertNotNull(loadedArticles);
         assertTrue(loadedArticles.isEmpty());
-        verify(s3Client, times(1)).getObject(any(GetObjectRequest.class));
+        verify(s3Client, times(2)).getObject(any(GetObjectRequest.class));
+    }
+
+    @Test
+    @DisplayName("save로 저장한 블록 백업을 load로 Range 요청을 통해 다시 읽을 수 있어야 한다")
+    void save_thenLoad_shouldRoundTripBlockBackup() {
+        // given
+        LocalDate date = LocalDate.of(2025, 7, 24);
+        List<ArticleBackupDto> articles = List.of(
+            new ArticleBackupDto(UUID.randomUUID(), "중앙일보", "http://source1", "title1",
+                LocalDateTime.of(2025,7,24,12,0), "summary1", 10L, 100L, false, null, null));
+
+        ArgumentCaptor<PutObjectRequest> requestCaptor = ArgumentCaptor.forClass(PutObjectRequest.class);
+        ArgumentCaptor<RequestBody> bodyCaptor = ArgumentCaptor.forClass(RequestBody.class);
+        when(s3Client.putObject(requestCaptor.capture(), bodyCaptor.capture()))
+            .thenReturn(PutObjectResponse.builder().build());
+
+        backupStorage.save(date, articles);
+
+        byte[] uploaded = readAll(bodyCaptor.getAllValues().get(0));
+        when(s3Client.headObject(any(HeadObjectRequest.class)))
+            .thenReturn(HeadObjectResponse.builder().contentLength((long) uploaded.length).build());
+        when(s3Client.getObject(any(GetObjectRequest.class))).thenAnswer(invocation -> {
+            GetObjectRequest request = invocation.getArgument(0);
+            String[] range = request.range().substring("bytes=".length()).split("-");
+            int start = Integer.parseInt(range[0]);
+            int end = Integer.parseInt(range[1]);
+            return new ResponseInputStream<>(GetObjectResponse.builder().build(),
+                new ByteArrayInputStream(uploaded, start, end - start + 1));
+        });
+
+        // when
+        List<ArticleBackupDto> loaded = backupStorage.load(date);
+
+        // then
+        assertEquals("backup/articles/articles-2025-07-24.ndjson.gz", requestCaptor.getAllValues().get(0).key());
+        assertEquals(articles, loaded);
+    }
+
+    private static byte[] readAll(RequestBody body) {
+        try (var in = body.contentStreamProvider().newStream()) {
+            return in.readAllBytes();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
     }
 
     @Test
@@ -140,7 +202,7 @@ public class ArticleBackupStorageTest {
     void save_shouldThrowException_whenPutObjectFails() {
         // given
         LocalDate date = LocalDate.of(2025, 7, 24);
-        List<ArticleDto> emptyList = List.of();
+        List<ArticleBackupDto> emptyList = List.of();
 
         doThrow(RuntimeException.class).when(s3Client).putObject(any(PutObjectRequest.class), any(RequestBody.class));
 
@@ -148,4 +210,38 @@ public class ArticleBackupStorageTest {
         assertThrows(Exception.class, () -> backupStorage.save(date, emptyList));
         verify(s3Client, times(1)).putObject(any(PutObjectRequest.class), any(RequestBody.class));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("변경분 세그먼트는 시각별 키로 저장하고 날짜 접두사 아래 객체를 모두 삭제한다")
+    void changes_ShouldUseHourlyKeysAndDeleteByDatePrefix() {
+        // given
+        LocalDate date = LocalDate.of(2025, 7, 24);
+        when(s3Client.putObject(any(PutObjectRequest.class), any(RequestBody.class)))
+            .thenReturn(PutObjectResponse.builder().build());
+        when(s3Client.listObjectsV2(any(ListObjectsV2Request.class))).thenReturn(ListObjectsV2Response.builder()
+            .contents(
+                S3Object.builder().key("backup/articles/incremental/2025-07-24/articles-09.ndjson.gz").build(),
+                S3Object.builder().key("backup/articles/incremental/2025-07-24/articles-13.ndjson.gz").build())
+            .isTruncated(false)
+            .build());
+        when(s3Client.deleteObjects(any(DeleteObjectsRequest.class)))
+            .thenReturn(DeleteObjectsResponse.builder().build());
+
+        // when
+        backupStorage.saveChanges(date.atTime(9, 0), List.<ArticleBackupDto>of().stream());
+        backupStorage.deleteChanges(date);
+
+        // then
+        ArgumentCaptor<PutObjectRequest> putCaptor = ArgumentCaptor.forClass(PutObjectRequest.class);
+        verify(s3Client).putObject(putCaptor.capture(), any(RequestBody.class));
+        assertEquals("backup/articles/incremental/2025-07-24/articles-09.ndjson.gz", putCaptor.getValue().key());
+
+        ArgumentCaptor<ListObjectsV2Request> listCaptor = ArgumentCaptor.forClass(ListObjectsV2Request.class);
+        verify(s3Client).listObjectsV2(listCaptor.capture());
+        assertEquals("backup/articles/incremental/2025-07-24/", listCaptor.getValue().prefix());
+
+        ArgumentCaptor<DeleteObjectsRequest> deleteCaptor = ArgumentCaptor.forClass(DeleteObjectsRequest.class);
+        verify(s3Client).deleteObjects(deleteCaptor.capture());
+        assertEquals(2, deleteCaptor.getValue().delete().objects().size());
+    }
+}
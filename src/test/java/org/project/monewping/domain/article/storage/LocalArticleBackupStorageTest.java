@@ -0,0 +1,176 @@
+package org.project.monewping.domain.article.storage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.project.monewping.domain.article.dto.data.ArticleBackupDto;
+import org.project.monewping.domain.article.dto.response.ArticleBackupVerificationDto.Status;
+import org.project.monewping.domain.article.exception.LocalBackupSaveException;
+
+@DisplayName("LocalArticleBackupStorage 테스트")
+class LocalArticleBackupStorageTest {
+
+    private static final LocalDate DATE = LocalDate.of(2025, 7, 24);
+
+    @TempDir
+    private Path directory;
+
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JavaTimeModule());
+        objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    }
+
+    private LocalArticleBackupStorage storage(ArticleBackupFormat format) {
+        return new LocalArticleBackupStorage(
+            new ArticleBackupCodec(objectMapper, format, 2), objectMapper, directory.toString());
+    }
+
+    private List<ArticleBackupDto> articles(int count) {
+        return IntStream.range(0, count)
+            .mapToObj(i -> new ArticleBackupDto(UUID.randomUUID(), "source", "http://link/" + i, "title" + i,
+                LocalDateTime.of(2025, 7, 24, 9, 0), "summary", 0L, 0L, false, null, null))
+            .toList();
+    }
+
+    @Test
+    @DisplayName("블록 형식으로 저장한 백업을 메모리 매핑으로 다시 읽는다")
+    void saveAndLoad_ShouldRoundTripBlocks() {
+        LocalArticleBackupStorage storage = storage(ArticleBackupFormat.BLOCKS);
+        List<ArticleBackupDto> articles = articles(5);
+
+        long count = storage.save(DATE, articles.stream());
+
+        assertThat(count).isEqualTo(5);
+        assertThat(Files.exists(directory.resolve("articles-2025-07-24.ndjson.gz"))).isTrue();
+        assertThat(storage.load(DATE)).isEqualTo(articles);
+        assertThat(storage.loadExcluding(DATE, Set.of("http://link/0", "http://link/1")))
+            .isEqualTo(articles.subList(2, 5));
+    }
+
+    @Test
+    @DisplayName("저장 도중 실패하면 기존 백업 파일을 유지하고 임시 파일을 남기지 않는다")
+    void save_ShouldKeepPreviousFile_WhenWriteFails() throws IOException {
+        LocalArticleBackupStorage storage = storage(ArticleBackupFormat.BLOCKS);
+        List<ArticleBackupDto> articles = articles(3);
+        storage.save(DATE, articles.stream());
+
+        Stream<ArticleBackupDto> failing = Stream.concat(articles(1).stream(),
+            Stream.<ArticleBackupDto>generate(() -> { throw new IllegalStateException("DB 커서 오류"); }));
+
+        assertThatThrownBy(() -> storage.save(DATE, failing)).isInstanceOf(LocalBackupSaveException.class);
+        assertThat(storage.load(DATE)).isEqualTo(articles);
+        try (Stream<Path> files = Files.list(directory)) {
+            assertThat(files.map(path -> path.getFileName().toString()))
+                .noneMatch(name -> name.endsWith(".tmp"));
+        }
+    }
+
+    @Test
+    @DisplayName("디렉터리 인덱스를 기록하고 새 인스턴스에서 다시 읽는다")
+    void index_ShouldBePersistedAndReloaded() {
+        storage(ArticleBackupFormat.JSON).save(DATE, articles(2).stream());
+
+        LocalArticleBackupStorage reloaded = storage(ArticleBackupFormat.BLOCKS);
+
+        assertThat(Files.exists(directory.resolve(LocalArticleBackupStorage.INDEX_FILE))).isTrue();
+        assertThat(reloaded.availableDates()).containsExactly(DATE);
+        assertThat(reloaded.load(DATE)).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("인덱스에 없는 기존 비압축 JSON 백업 파일도 읽는다")
+    void load_ShouldReadLegacyJsonFile() throws IOException {
+        List<ArticleBackupDto> articles = articles(2);
+        Files.write(directory.resolve("articles-2025-07-24.json"), objectMapper.writeValueAsBytes(articles));
+
+        LocalArticleBackupStorage storage = storage(ArticleBackupFormat.BLOCKS);
+
+        assertThat(storage.availableDates()).containsExactly(DATE);
+        assertThat(storage.load(DATE)).isEqualTo(articles);
+        assertThat(storage.load(DATE.plusDays(1))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("전체 백업과 변경분을 블록 단위 스트림으로 읽고, 읽는 중인 백업을 같은 날짜로 다시 기록할 수 있다")
+    void stream_ShouldReadBlocksLazilyWhileRewritingSameDate() {
+        LocalArticleBackupStorage storage = storage(ArticleBackupFormat.BLOCKS);
+        List<ArticleBackupDto> articles = articles(5);
+        storage.save(DATE, articles.stream());
+        storage.saveChanges(DATE.atTime(9, 0), articles.subList(0, 3).stream());
+
+        try (Stream<ArticleBackupDto> changes = storage.streamChanges(DATE)) {
+            assertThat(changes.toList()).isEqualTo(articles.subList(0, 3));
+        }
+        try (Stream<ArticleBackupDto> snapshot = storage.stream(DATE)) {
+            storage.save(DATE, snapshot.filter(article -> !article.sourceUrl().equals("http://link/4")));
+        }
+
+        assertThat(storage.load(DATE)).isEqualTo(articles.subList(0, 4));
+        try (Stream<ArticleBackupDto> missing = storage.stream(DATE.plusDays(1))) {
+            assertThat(missing.toList()).isEmpty();
+        }
+    }
+
+    @Test
+    @DisplayName("시간별 변경분 세그먼트를 시간 순서로 읽고 날짜 단위로 삭제한다")
+    void changes_ShouldBeLoadedInHourOrderAndDeleted() {
+        LocalArticleBackupStorage storage = storage(ArticleBackupFormat.BLOCKS);
+        List<ArticleBackupDto> articles = articles(3);
+
+        storage.saveChanges(DATE.atTime(13, 0), articles.subList(2, 3).stream());
+        storage.saveChanges(DATE.atTime(9, 0), articles.subList(0, 2).stream());
+
+        assertThat(storage.loadChanges(DATE)).isEqualTo(articles);
+        assertThat(storage.loadChanges(DATE.plusDays(1))).isEmpty();
+        assertThat(storage.availableDates()).isEmpty();
+
+        storage.deleteChanges(DATE);
+
+        assertThat(storage.loadChanges(DATE)).isEmpty();
+        assertThat(Files.exists(directory.resolve(LocalArticleBackupStorage.CHANGES_DIRECTORY)
+            .resolve("2025-07-24"))).isFalse();
+    }
+
+    @Test
+    @DisplayName("백업 파일과 함께 매니페스트를 기록하고, 파일이 바뀌면 검증에 실패한다")
+    void verify_ShouldDetectCorruptionUsingManifest() throws IOException {
+        ArticleBackupFormat format = ArticleBackupFormat.BLOCKS;
+        LocalArticleBackupStorage storage = storage(format);
+        storage.save(DATE, articles(5).stream());
+
+        ArticleBackupManifest manifest = storage.loadManifest(DATE).orElseThrow();
+        assertThat(manifest.rowCount()).isEqualTo(5);
+        assertThat(manifest.format()).isEqualTo(format);
+        assertThat(manifest.minPublishedAt()).isEqualTo(LocalDateTime.of(2025, 7, 24, 9, 0));
+        assertThat(storage.verify(DATE).status()).isEqualTo(Status.VALID);
+
+        Path file = directory.resolve("articles-2025-07-24" + format.extension());
+        byte[] bytes = Files.readAllBytes(file);
+        bytes[bytes.length / 2] ^= 0x01;
+        Files.write(file, bytes);
+
+        assertThat(storage.verify(DATE).status()).isEqualTo(Status.CORRUPTED);
+        assertThat(storage.verify(DATE.plusDays(1)).status()).isEqualTo(Status.MISSING);
+    }
+}
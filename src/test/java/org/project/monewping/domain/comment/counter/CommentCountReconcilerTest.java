@@ -0,0 +1,92 @@
+package org.project.monewping.domain.comment.counter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import jakarta.persistence.EntityManager;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.project.monewping.domain.article.entity.Articles;
+import org.project.monewping.domain.article.repository.ArticlesRepository;
+import org.project.monewping.domain.comment.entity.Comment;
+import org.project.monewping.domain.comment.repository.CommentRepository;
+import org.project.monewping.domain.interest.entity.Interest;
+import org.project.monewping.domain.interest.repository.InterestRepository;
+import org.project.monewping.global.config.JpaAuditingConfig;
+import org.project.monewping.global.config.QuerydslConfig;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+
+@DataJpaTest
+@Import({JpaAuditingConfig.class, QuerydslConfig.class, CommentCountReconciler.class})
+@TestPropertySource(properties = "auditing.enabled=true")
+@DisplayName("CommentCountReconciler 테스트")
+class CommentCountReconcilerTest {
+
+    @Autowired
+    CommentCountReconciler commentCountReconciler;
+    @Autowired
+    ArticlesRepository articlesRepository;
+    @Autowired
+    CommentRepository commentRepository;
+    @Autowired
+    InterestRepository interestRepository;
+    @Autowired
+    EntityManager entityManager;
+
+    @Test
+    @DisplayName("보정 작업은 최근 기사의 댓글 수를 삭제되지 않은 댓글 수로 맞춘다")
+    void reconcile_ShouldMatchLiveComments() {
+        // Given
+        Interest interest = interestRepository.save(Interest.builder().name("축구").subscriberCount(0L).build());
+        Articles drifted = articlesRepository.save(article(interest, "drifted", 5L, LocalDateTime.now()));
+        Articles exact = articlesRepository.save(article(interest, "exact", 1L, LocalDateTime.now()));
+        Articles old = articlesRepository.save(article(interest, "old", 7L, LocalDateTime.now().minusDays(60)));
+        commentRepository.save(comment(drifted, false));
+        commentRepository.save(comment(drifted, false));
+        commentRepository.save(comment(drifted, true));
+        commentRepository.save(comment(exact, false));
+        entityManager.flush();
+
+        // When
+        int corrected = commentCountReconciler.reconcile();
+        entityManager.clear();
+
+        // Then
+        assertThat(corrected).isEqualTo(1);
+        assertThat(articlesRepository.findCommentCountById(drifted.getId())).contains(2L);
+        assertThat(articlesRepository.findCommentCountById(exact.getId())).contains(1L);
+        // 보정 기간 밖의 기사는 그대로 둠
+        assertThat(articlesRepository.findCommentCountById(old.getId())).contains(7L);
+        assertThat(commentCountReconciler.reconcile()).isZero();
+    }
+
+    private static Articles article(Interest interest, String link, long commentCount, LocalDateTime publishedAt) {
+        return Articles.builder()
+            .interest(interest)
+            .source("연합뉴스")
+            .originalLink("https://news.com/" + link)
+            .title(link)
+            .summary("요약")
+            .publishedAt(publishedAt)
+            .commentCount(commentCount)
+            .build();
+    }
+
+    private static Comment comment(Articles article, boolean deleted) {
+        return Comment.builder()
+            .articleId(article.getId())
+            .userId(UUID.randomUUID())
+            .userNickname("닉네임")
+            .content("댓글")
+            .likeCount(0)
+            .createdAt(Instant.now())
+            .updatedAt(Instant.now())
+            .isDeleted(deleted)
+            .build();
+    }
+}
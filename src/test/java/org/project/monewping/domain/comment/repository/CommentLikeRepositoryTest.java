@@ -0,0 +1,96 @@
+package org.project.monewping.domain.comment.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import jakarta.persistence.EntityManager;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.project.monewping.domain.comment.entity.Comment;
+import org.project.monewping.domain.user.entity.User;
+import org.project.monewping.domain.user.repository.UserRepository;
+import org.project.monewping.global.config.JpaAuditingConfig;
+import org.project.monewping.global.config.QuerydslConfig;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+// ON CONFLICT 구문을 쓰는 네이티브 쿼리가 있으므로 PostgreSQL 호환 모드 H2(test 프로필)를 사용
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import({JpaAuditingConfig.class, QuerydslConfig.class})
+@TestPropertySource(properties = "auditing.enabled=true")
+@DisplayName("CommentLikeRepository 테스트")
+class CommentLikeRepositoryTest {
+
+    @Autowired
+    CommentLikeRepository commentLikeRepository;
+    @Autowired
+    CommentRepository commentRepository;
+    @Autowired
+    UserRepository userRepository;
+    @Autowired
+    EntityManager entityManager;
+
+    private User user;
+    private Comment comment;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(User.builder().email("a@a.com").nickname("a").password("pw").isDeleted(false).build());
+        comment = commentRepository.save(Comment.builder()
+            .articleId(UUID.randomUUID())
+            .userId(user.getId())
+            .userNickname("a")
+            .content("댓글")
+            .likeCount(0)
+            .createdAt(Instant.now())
+            .updatedAt(Instant.now())
+            .isDeleted(false)
+            .build());
+        entityManager.flush();
+    }
+
+    @Test
+    @DisplayName("같은 사용자의 좋아요는 한 번만 등록된다")
+    void insertIfAbsent_SkipsDuplicate() {
+        Instant now = Instant.now().truncatedTo(ChronoUnit.MICROS);
+
+        boolean first = commentLikeRepository.insertIfAbsent(UUID.randomUUID(), user.getId(), comment.getId(), now);
+        boolean second = commentLikeRepository.insertIfAbsent(UUID.randomUUID(), user.getId(), comment.getId(), now);
+
+        assertThat(first).isTrue();
+        assertThat(second).isFalse();
+        assertThat(commentLikeRepository.findCommentIdsByUserIdAndArticleId(user.getId(), comment.getArticleId()))
+            .containsExactly(comment.getId());
+    }
+
+    @Test
+    @DisplayName("좋아요 취소는 삭제된 행 수를 반환한다")
+    void deleteByUserIdAndCommentId_ReturnsDeletedRows() {
+        commentLikeRepository.insertIfAbsent(UUID.randomUUID(), user.getId(), comment.getId(), Instant.now());
+
+        assertThat(commentLikeRepository.deleteByUserIdAndCommentId(user.getId(), comment.getId())).isEqualTo(1);
+        assertThat(commentLikeRepository.deleteByUserIdAndCommentId(user.getId(), comment.getId())).isZero();
+    }
+
+    @Test
+    @DisplayName("좋아요 수는 UPDATE로 증감되며 0 미만으로 내려가지 않는다")
+    void likeCount_AtomicIncreaseAndDecrease() {
+        commentRepository.increaseLikeCount(comment.getId());
+        commentRepository.increaseLikeCount(comment.getId());
+        commentRepository.decreaseLikeCount(comment.getId());
+        commentRepository.decreaseLikeCount(comment.getId());
+
+        assertThat(commentRepository.decreaseLikeCount(comment.getId())).isZero();
+        entityManager.clear();
+        assertThat(commentRepository.findById(comment.getId()).orElseThrow().getLikeCount()).isZero();
+    }
+}
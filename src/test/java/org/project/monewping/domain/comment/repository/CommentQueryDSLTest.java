@@ -11,8 +11,11 @@ import org.springframework.context.annotation.Import;
 import org.springframework.test.context.TestPropertySource;
 
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -54,6 +57,8 @@ class CommentQueryDSLTest {
     void findComments_desc_success() {
         List<Comment> result = commentRepository.findCommentsByCreatedAtCursor(
             articleId,
+            false,
+            null,
             null,
             3
         );
@@ -82,4 +87,79 @@ class CommentQueryDSLTest {
 //            assertThat(comment.getCreatedAt()).isBefore(cursorComment.getCreatedAt());
 //        }
 //    }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("좋아요 수가 같은 댓글이 많아도 (좋아요 수, id) 커서로 양방향 모두 누락 없이 이어 조회한다")
+    void findCommentsByLikeCountCursor_pagesThroughTies() {
+        // 모두 좋아요 0개인 댓글 추가 (기존 댓글 0~4개 중 1건과 동점)
+        for (int i = 0; i < 4; i++) {
+            commentRepository.save(comment(0, false));
+        }
+
+        for (boolean asc : List.of(true, false)) {
+            List<UUID> paged = new ArrayList<>();
+            Comment last = null;
+            List<Comment> page;
+            do {
+                page = commentRepository.findCommentsByLikeCountCursor(
+                    articleId, asc, last == null ? null : last.getLikeCount(), last == null ? null : last.getId(), 2);
+                page.forEach(comment -> paged.add(comment.getId()));
+                last = page.isEmpty() ? null : page.get(page.size() - 1);
+            } while (page.size() == 2);
+
+            List<Comment> all = commentRepository.findCommentsByLikeCountCursor(articleId, asc, null, null, 100);
+            assertThat(paged).as("asc=%s", asc).containsExactlyElementsOf(all.stream().map(Comment::getId).toList());
+            assertThat(paged).hasSize(9);
+            assertThat(all).extracting(Comment::getLikeCount)
+                .isSortedAccordingTo(asc ? Comparator.<Integer>naturalOrder() : Comparator.<Integer>reverseOrder());
+        }
+    }
+
+    @Test
+    @DisplayName("작성일이 같은 댓글도 (createdAt, id) 커서로 누락 없이 이어 조회하고 삭제된 댓글은 제외한다")
+    void findCommentsByCreatedAtCursor_pagesThroughTiesWithoutDeleted() {
+        Instant createdAt = Instant.parse("2025-01-01T00:00:00Z");
+        UUID otherArticleId = UUID.randomUUID();
+        for (int i = 0; i < 3; i++) {
+            commentRepository.save(comment(otherArticleId, createdAt, false));
+        }
+        commentRepository.save(comment(otherArticleId, createdAt, true));
+
+        List<Comment> first = commentRepository.findCommentsByCreatedAtCursor(otherArticleId, false, null, null, 2);
+        Comment last = first.get(1);
+        List<Comment> second = commentRepository.findCommentsByCreatedAtCursor(
+            otherArticleId, false, last.getCreatedAt(), last.getId(), 2);
+
+        assertThat(first).hasSize(2);
+        assertThat(second).hasSize(1);
+        assertThat(Stream.concat(first.stream(), second.stream()).map(Comment::getId).distinct()).hasSize(3);
+        assertThat(first).extracting(Comment::isDeleted).containsOnly(false);
+        assertThat(second).extracting(Comment::isDeleted).containsOnly(false);
+    }
+
+    private Comment comment(int likeCount, boolean deleted) {
+        return Comment.builder()
+            .articleId(articleId)
+            .userId(UUID.randomUUID())
+            .userNickname("동점유저")
+            .content("동점댓글")
+            .likeCount(likeCount)
+            .isDeleted(deleted)
+            .createdAt(Instant.now())
+            .updatedAt(Instant.now())
+            .build();
+    }
+
+    private Comment comment(UUID articleId, Instant createdAt, boolean deleted) {
+        return Comment.builder()
+            .articleId(articleId)
+            .userId(UUID.randomUUID())
+            .userNickname("동시유저")
+            .content("동시댓글")
+            .likeCount(0)
+            .isDeleted(deleted)
+            .createdAt(createdAt)
+            .updatedAt(createdAt)
+            .build();
+    }
+}
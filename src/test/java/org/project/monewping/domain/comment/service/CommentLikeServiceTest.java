@@ -3,9 +3,12 @@ package org.project.monewping.domain.comment.service;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
+import java.time.Instant;
 import java.util.Optional;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
@@ -16,7 +19,6 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.project.monewping.domain.comment.entity.Comment;
-import org.project.monewping.domain.comment.entity.CommentLike;
 import org.project.monewping.domain.comment.repository.CommentLikeRepository;
 import org.project.monewping.domain.comment.repository.CommentRepository;
 import org.project.monewping.domain.notification.repository.NotificationRepository;
@@ -74,11 +76,12 @@ class CommentLikeServiceTest {
     void likeComment_Success() {
         given(userRepository.findById(userId)).willReturn(Optional.of(user));
         given(commentRepository.findById(commentId)).willReturn(Optional.of(comment));
-        given(commentLikeRepository.existsByUserAndComment(user, comment)).willReturn(false);
+        given(commentLikeRepository.insertIfAbsent(any(UUID.class), eq(userId), eq(commentId), any(Instant.class)))
+            .willReturn(true);
 
         commentLikeService.likeComment(userId, commentId);
 
-        verify(commentLikeRepository).save(any(CommentLike.class));
+        verify(commentRepository).increaseLikeCount(commentId);
 
         verify(notificationRepository).save(argThat(n ->
             n.getUserId().equals(comment.getUserId()) &&
@@ -87,21 +90,53 @@ class CommentLikeServiceTest {
         ));
     }
 
+    @Test
+    @DisplayName("이미 좋아요한 댓글이면 좋아요 수와 알림을 변경하지 않는다")
+    void likeComment_AlreadyLiked() {
+        given(userRepository.findById(userId)).willReturn(Optional.of(user));
+        given(commentRepository.findById(commentId)).willReturn(Optional.of(comment));
+        given(commentLikeRepository.insertIfAbsent(any(UUID.class), eq(userId), eq(commentId), any(Instant.class)))
+            .willReturn(false);
+
+        commentLikeService.likeComment(userId, commentId);
+
+        verify(commentRepository, never()).increaseLikeCount(any());
+        verify(notificationRepository, never()).save(any());
+    }
+
     @Test
     @DisplayName("댓글 좋아요 취소 성공")
     void unlikeComment_Success() {
-        CommentLike commentLike = CommentLike.builder()
-            .user(user)
-            .comment(comment)
-            .build();
+        given(userRepository.existsById(userId)).willReturn(true);
+        given(commentRepository.existsById(commentId)).willReturn(true);
+        given(commentLikeRepository.deleteByUserIdAndCommentId(userId, commentId)).willReturn(1);
 
-        given(userRepository.findById(userId)).willReturn(Optional.of(user));
-        given(commentRepository.findById(commentId)).willReturn(Optional.of(comment));
-        given(commentLikeRepository.findByUserAndComment(user, comment)).willReturn(Optional.of(commentLike));
+        commentLikeService.unlikeComment(userId, commentId);
+
+        verify(commentRepository).decreaseLikeCount(commentId);
+    }
+
+    @Test
+    @DisplayName("좋아요하지 않은 댓글의 좋아요 취소는 좋아요 수를 변경하지 않는다")
+    void unlikeComment_NotLiked() {
+        given(userRepository.existsById(userId)).willReturn(true);
+        given(commentRepository.existsById(commentId)).willReturn(true);
+        given(commentLikeRepository.deleteByUserIdAndCommentId(userId, commentId)).willReturn(0);
 
         commentLikeService.unlikeComment(userId, commentId);
 
-        verify(commentLikeRepository).delete(commentLike);
+        verify(commentRepository, never()).decreaseLikeCount(any());
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 댓글의 좋아요 취소는 예외를 던진다")
+    void unlikeComment_CommentNotFound() {
+        given(userRepository.existsById(userId)).willReturn(true);
+        given(commentRepository.existsById(commentId)).willReturn(false);
+
+        assertThatThrownBy(() -> commentLikeService.unlikeComment(userId, commentId))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("댓글을 찾을 수 없습니다.");
     }
 
 }
\ No newline at end of file
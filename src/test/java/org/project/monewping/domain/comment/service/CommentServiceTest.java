@@ -7,6 +7,7 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -24,7 +25,6 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.project.monewping.domain.article.entity.Articles;
 import org.project.monewping.domain.article.repository.ArticlesRepository;
 import org.project.monewping.domain.comment.entity.Comment;
 import org.project.monewping.domain.comment.dto.CommentRegisterRequestDto;
@@ -112,9 +112,9 @@ class CommentServiceTest {
     @DisplayName("댓글 조회 성공 - createdAt 기준")
     void getComments_ByCreatedAt_Success() {
         int limit = 50;
-        when(commentRepository.findCommentsByCreatedAtCursor(eq(testArticleId), eq(null), eq(limit + 1)))
+        when(commentRepository.findCommentsByCreatedAtCursor(eq(testArticleId), eq(false), eq(null), eq(null), eq(limit + 1)))
             .thenReturn(testComments);
-        when(commentRepository.countByArticleId(testArticleId)).thenReturn((long) testComments.size());
+        when(articlesRepository.findCommentCountById(testArticleId)).thenReturn(Optional.of((long) testComments.size()));
         when(commentLikeRepository.findCommentIdsByUserIdAndArticleId(testUserId, testArticleId)).thenReturn(Set.of());
 
         for (int i = 0; i < testComments.size(); i++) {
@@ -127,16 +127,16 @@ class CommentServiceTest {
 
         assertThat(response.content()).hasSize(2);
         assertThat(response.hasNext()).isFalse();
-        assertThat(response.nextCursor()).isEqualTo(testComments.get(1).getCreatedAt().toString());
+        assertThat(response.nextCursor()).isNull();
     }
 
     @Test
     @DisplayName("댓글 조회 성공 - likeCount 기준")
     void getComments_ByLikeCount_Success() {
         int limit = 20;
-        when(commentRepository.findCommentsByLikeCountCursor(eq(testArticleId), eq(null), eq(limit + 1)))
+        when(commentRepository.findCommentsByLikeCountCursor(eq(testArticleId), eq(true), eq(null), eq(null), eq(limit + 1)))
             .thenReturn(testComments);
-        when(commentRepository.countByArticleId(testArticleId)).thenReturn((long) testComments.size());
+        when(articlesRepository.findCommentCountById(testArticleId)).thenReturn(Optional.of((long) testComments.size()));
         when(commentLikeRepository.findCommentIdsByUserIdAndArticleId(testUserId, testArticleId)).thenReturn(Set.of());
 
         for (int i = 0; i < testComments.size(); i++) {
@@ -149,7 +149,52 @@ class CommentServiceTest {
 
         assertThat(response.content()).hasSize(2);
         assertThat(response.hasNext()).isFalse();
-        assertThat(response.nextCursor()).isEqualTo(String.valueOf(testComments.get(1).getLikeCount()));
+        assertThat(response.nextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("댓글 조회 - 다음 페이지가 있으면 \"정렬 값_id\" 커서를 반환하고 다음 요청에서 그대로 사용한다")
+    void getComments_ByLikeCount_CompositeCursor() {
+        int limit = 1;
+        Comment last = testComments.get(0);
+        when(commentRepository.findCommentsByLikeCountCursor(eq(testArticleId), eq(false), eq(null), eq(null), eq(limit + 1)))
+            .thenReturn(testComments);
+        when(articlesRepository.findCommentCountById(testArticleId)).thenReturn(Optional.of((long) testComments.size()));
+        when(commentLikeRepository.findCommentIdsByUserIdAndArticleId(testUserId, testArticleId)).thenReturn(Set.of());
+        when(commentMapper.toResponseDto(last, false)).thenReturn(testResponseDtos.get(0));
+
+        CursorPageResponse<CommentResponseDto> response = commentService.getComments(
+            testArticleId, "likeCount", "DESC", null, null, limit, testUserId
+        );
+
+        assertThat(response.hasNext()).isTrue();
+        assertThat(response.nextCursor()).isEqualTo(last.getLikeCount() + "_" + last.getId());
+        assertThat(response.nextAfter()).isEqualTo(last.getCreatedAt().toString());
+
+        // 다음 페이지 요청은 (좋아요 수, id) 커서로 조회
+        when(commentRepository.findCommentsByLikeCountCursor(
+            testArticleId, false, last.getLikeCount(), last.getId(), limit + 1)).thenReturn(List.of());
+
+        CursorPageResponse<CommentResponseDto> next = commentService.getComments(
+            testArticleId, "likeCount", "DESC", response.nextCursor(), response.nextAfter(), limit, testUserId
+        );
+
+        assertThat(next.content()).isEmpty();
+        assertThat(next.hasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("댓글 조회 실패 - 커서의 좋아요 수가 숫자가 아니거나 범위를 벗어나면 잘못된 요청으로 처리한다")
+    void getComments_ByLikeCount_InvalidCursor() {
+        UUID lastId = UUID.randomUUID();
+
+        for (String sortValue : List.of("abc", "99999999999")) {
+            assertThatThrownBy(() -> commentService.getComments(
+                testArticleId, "likeCount", "DESC", sortValue + "_" + lastId, null, 10, testUserId))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining(sortValue);
+        }
+        verify(commentRepository, never()).findCommentsByLikeCountCursor(any(), eq(false), any(), any(), eq(11));
     }
 
     @Test
@@ -164,11 +209,10 @@ class CommentServiceTest {
         dto.setUserId(userId);
         dto.setContent("내용");
 
-        Articles article = Articles.builder().commentCount(0L).deleted(false).build();
         User user = User.builder().id(userId).nickname(nickname).build();
 
         when(userRepository.findById(userId)).thenReturn(Optional.of(user));
-        when(articlesRepository.findById(articleId)).thenReturn(Optional.of(article));
+        when(articlesRepository.increaseCommentCount(articleId)).thenReturn(1);
         when(commentMapper.toEntity(dto, nickname)).thenReturn(
             Comment.builder()
                 .articleId(articleId).userId(userId).userNickname(nickname)
@@ -184,8 +228,28 @@ class CommentServiceTest {
         when(commentRepository.save(any(Comment.class))).thenReturn(saved);
 
         commentService.registerComment(dto);
-        assertThat(article.getCommentCount()).isEqualTo(1L);
         verify(commentRepository).save(any(Comment.class));
+        verify(articlesRepository).increaseCommentCount(articleId);
+    }
+
+    @Test
+    @DisplayName("댓글 등록 실패 - 기사가 없으면 댓글을 저장하지 않는다")
+    void registerComment_ArticleNotFound_Fail() {
+        UUID articleId = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+
+        CommentRegisterRequestDto dto = new CommentRegisterRequestDto();
+        dto.setArticleId(articleId);
+        dto.setUserId(userId);
+        dto.setContent("내용");
+
+        when(userRepository.findById(userId)).thenReturn(Optional.of(User.builder().id(userId).nickname("테스트유저").build()));
+        when(articlesRepository.increaseCommentCount(articleId)).thenReturn(0);
+
+        assertThatThrownBy(() -> commentService.registerComment(dto))
+            .isInstanceOf(RuntimeException.class)
+            .hasMessageContaining("해당 기사를 찾을 수 없습니다");
+        verify(commentRepository, never()).save(any(Comment.class));
     }
 
     @Test
@@ -196,10 +260,9 @@ class CommentServiceTest {
         UUID articleId = UUID.randomUUID();
 
         Comment comment = Comment.builder().id(commentId).userId(userId).articleId(articleId).isDeleted(false).build();
-        Articles article = Articles.builder().commentCount(1L).deleted(false).build();
 
         given(commentRepository.findById(commentId)).willReturn(Optional.of(comment));
-        given(articlesRepository.findById(articleId)).willReturn(Optional.of(article));
+        given(articlesRepository.decreaseCommentCount(articleId)).willReturn(1);
 
         Notification notification = Notification.builder()
             .id(UUID.randomUUID())
@@ -222,7 +285,7 @@ class CommentServiceTest {
             .deactivateByResourceId(commentId);
 
         assertThat(comment.getIsDeleted()).isTrue();
-        assertThat(article.getCommentCount()).isEqualTo(0L);
+        then(articlesRepository).should().decreaseCommentCount(articleId);
     }
 
     @Test
@@ -246,10 +309,9 @@ class CommentServiceTest {
         UUID articleId = UUID.randomUUID();
 
         Comment comment = Comment.builder().id(commentId).userId(userId).articleId(articleId).isDeleted(false).build();
-        Articles article = Articles.builder().commentCount(1L).deleted(false).build();
 
         given(commentRepository.findById(commentId)).willReturn(Optional.of(comment));
-        given(articlesRepository.findById(articleId)).willReturn(Optional.of(article));
+        given(articlesRepository.decreaseCommentCount(articleId)).willReturn(1);
 
         Notification likeNotification = Notification.builder()
             .id(UUID.randomUUID())
@@ -264,7 +326,7 @@ class CommentServiceTest {
         commentService.deleteCommentPhysically(commentId, userId);
         verify(commentRepository).delete(comment);
 
-        assertThat(article.getCommentCount()).isEqualTo(0L);
+        verify(articlesRepository).decreaseCommentCount(articleId);
         verify(notificationRepository).findByResourceIdAndActiveTrue(commentId);
         verify(notificationRepository).deactivateByResourceId(commentId);
     }
@@ -0,0 +1,157 @@
+package org.project.monewping.domain.interest.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.project.monewping.domain.interest.event.SubscriptionChangedEvent;
+import org.project.monewping.domain.interest.repository.SubscriptionRepository;
+
+@DisplayName("SubscriptionCache 테스트")
+class SubscriptionCacheTest {
+
+    private SubscriptionRepository subscriptionRepository;
+    private MutableClock clock;
+    private SubscriptionCache subscriptionCache;
+
+    private final UUID userId = UUID.randomUUID();
+    private final UUID soccerId = UUID.randomUUID();
+    private final UUID baseballId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        subscriptionRepository = mock(SubscriptionRepository.class);
+        clock = new MutableClock(Instant.parse("2025-07-15T09:00:00Z"));
+        subscriptionCache = new SubscriptionCache(subscriptionRepository, 2, Duration.ofMinutes(1), clock);
+    }
+
+    @Test
+    @DisplayName("구독 관심사 집합은 한 번만 DB에서 읽고 이후에는 캐시에서 반환한다")
+    void get_LoadsOnceAndServesFromCache() {
+        given(subscriptionRepository.findInterestIdsByUserId(userId)).willReturn(List.of(soccerId));
+
+        SubscribedInterestSet first = subscriptionCache.get(userId);
+        SubscribedInterestSet second = subscriptionCache.get(userId);
+
+        assertThat(first.contains(soccerId)).isTrue();
+        assertThat(first.contains(baseballId)).isFalse();
+        assertThat(second).isSameAs(first);
+        verify(subscriptionRepository, times(1)).findInterestIdsByUserId(userId);
+    }
+
+    @Test
+    @DisplayName("구독 변경 이벤트를 받으면 다음 조회 시 DB에서 다시 읽는다")
+    void onSubscriptionChanged_EvictsUser() {
+        given(subscriptionRepository.findInterestIdsByUserId(userId))
+            .willReturn(List.of(soccerId))
+            .willReturn(List.of(soccerId, baseballId));
+        subscriptionCache.get(userId);
+
+        subscriptionCache.onSubscriptionChanged(new SubscriptionChangedEvent(userId));
+
+        assertThat(subscriptionCache.get(userId).contains(baseballId)).isTrue();
+        verify(subscriptionRepository, times(2)).findInterestIdsByUserId(userId);
+    }
+
+    @Test
+    @DisplayName("만료 시간이 지나면 DB에서 다시 읽는다")
+    void get_ReloadsAfterTtl() {
+        given(subscriptionRepository.findInterestIdsByUserId(userId)).willReturn(List.of());
+        subscriptionCache.get(userId);
+
+        clock.advance(Duration.ofMinutes(1));
+        subscriptionCache.get(userId);
+
+        verify(subscriptionRepository, times(2)).findInterestIdsByUserId(userId);
+    }
+
+    @Test
+    @DisplayName("최대 사용자 수를 넘으면 가장 오래 조회하지 않은 사용자부터 제거한다")
+    void get_EvictsLeastRecentlyUsed() {
+        UUID second = UUID.randomUUID();
+        UUID third = UUID.randomUUID();
+        given(subscriptionRepository.findInterestIdsByUserId(userId)).willReturn(List.of());
+        given(subscriptionRepository.findInterestIdsByUserId(second)).willReturn(List.of());
+        given(subscriptionRepository.findInterestIdsByUserId(third)).willReturn(List.of());
+
+        subscriptionCache.get(userId);
+        subscriptionCache.get(second);
+        subscriptionCache.get(userId); // userId를 최근 조회로 갱신
+        subscriptionCache.get(third);  // second 제거
+
+        assertThat(subscriptionCache.size()).isEqualTo(2);
+        subscriptionCache.get(userId);
+        subscriptionCache.get(second);
+        verify(subscriptionRepository, times(1)).findInterestIdsByUserId(userId);
+        verify(subscriptionRepository, times(2)).findInterestIdsByUserId(second);
+    }
+
+    @Test
+    @DisplayName("적재 중에 캐시가 비워지면 읽어 온 이전 집합을 보관하지 않는다")
+    void get_DoesNotStoreSetLoadedBeforeEviction() {
+        given(subscriptionRepository.findInterestIdsByUserId(userId)).willAnswer(invocation -> {
+            subscriptionCache.evict(userId); // 조회 도중 다른 요청의 구독 커밋
+            return List.of(soccerId);
+        }).willReturn(List.of(soccerId, baseballId));
+
+        subscriptionCache.get(userId);
+
+        assertThat(subscriptionCache.get(userId).contains(baseballId)).isTrue();
+    }
+
+    @Test
+    @DisplayName("구독 관심사 집합은 중복을 합치고 포함 여부를 정확히 판별한다")
+    void subscribedInterestSet_Contains() {
+        List<UUID> ids = IntStream.range(0, 100).mapToObj(i -> UUID.randomUUID()).toList();
+
+        SubscribedInterestSet set = SubscribedInterestSet.of(
+            Stream.concat(ids.stream(), ids.stream().limit(10)).toList());
+
+        assertThat(set.size()).isEqualTo(100);
+        assertThat(ids).allMatch(set::contains);
+        assertThat(set.contains(UUID.randomUUID())).isFalse();
+        assertThat(SubscribedInterestSet.of(List.of()).contains(soccerId)).isFalse();
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+    }
+}
@@ -0,0 +1,225 @@
+package org.project.monewping.domain.interest.catalog;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import jakarta.persistence.EntityManager;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.project.monewping.domain.interest.entity.Interest;
+import org.project.monewping.domain.interest.entity.Keyword;
+import org.project.monewping.domain.interest.event.InterestChangedEvent;
+import org.project.monewping.domain.interest.event.SubscriberCountsFlushedEvent;
+import org.project.monewping.domain.interest.repository.InterestRepository;
+import org.project.monewping.global.config.JpaAuditingConfig;
+import org.project.monewping.global.config.QuerydslConfig;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@DataJpaTest
+@Import({JpaAuditingConfig.class, QuerydslConfig.class, InterestCatalog.class})
+@TestPropertySource(properties = "auditing.enabled=true")
+@DisplayName("InterestCatalog 테스트")
+class InterestCatalogTest {
+
+    @Autowired
+    InterestCatalog interestCatalog;
+    @Autowired
+    InterestRepository interestRepository;
+    @Autowired
+    EntityManager entityManager;
+
+    @Test
+    @DisplayName("전체 적재 시 관심사와 키워드, 구독자 수를 스냅샷에 담고 버전을 올린다")
+    void rebuild_ShouldLoadInterestsWithKeywords() {
+        // Given
+        Interest soccer = Interest.builder().name("축구").subscriberCount(3L).build();
+        soccer.addKeyword(Keyword.builder().name("공").build());
+        soccer.addKeyword(Keyword.builder().name("골대").build());
+        interestRepository.save(soccer);
+        interestRepository.save(Interest.builder().name("요리").subscriberCount(0L).build());
+        entityManager.flush();
+        long version = interestCatalog.snapshot().version();
+
+        // When
+        interestCatalog.rebuild();
+
+        // Then
+        InterestCatalog.Snapshot snapshot = interestCatalog.snapshot();
+        assertThat(snapshot.version()).isEqualTo(version + 1);
+        assertThat(snapshot.all()).extracting(InterestCatalogEntry::name).containsExactlyInAnyOrder("축구", "요리");
+        InterestCatalogEntry entry = snapshot.find(soccer.getId()).orElseThrow();
+        assertThat(entry.keywords()).containsExactly("공", "골대");
+        assertThat(entry.subscriberCount()).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("변경 이벤트를 받으면 해당 관심사만 다시 읽고 이전 스냅샷은 바뀌지 않는다")
+    void onInterestChanged_ShouldReplaceOnlyChangedInterest() {
+        // Given
+        Interest soccer = interestRepository.save(Interest.builder().name("축구").subscriberCount(0L).build());
+        Interest cooking = interestRepository.save(Interest.builder().name("요리").subscriberCount(0L).build());
+        entityManager.flush();
+        interestCatalog.rebuild();
+        InterestCatalog.Snapshot before = interestCatalog.snapshot();
+
+        ReflectionTestUtils.setField(soccer, "subscriberCount", 1L);
+        soccer.updateKeywords(List.of("월드컵"));
+        interestRepository.delete(cooking);
+        entityManager.flush();
+
+        // When
+        interestCatalog.onInterestChanged(new InterestChangedEvent(soccer.getId()));
+        interestCatalog.onInterestChanged(new InterestChangedEvent(cooking.getId()));
+
+        // Then
+        InterestCatalog.Snapshot after = interestCatalog.snapshot();
+        assertThat(after.version()).isEqualTo(before.version() + 2);
+        assertThat(after.find(soccer.getId()).orElseThrow().keywords()).containsExactly("월드컵");
+        assertThat(after.find(soccer.getId()).orElseThrow().subscriberCount()).isEqualTo(1L);
+        assertThat(after.find(cooking.getId())).isEmpty();
+
+        assertThat(before.find(soccer.getId()).orElseThrow().keywords()).isEmpty();
+        assertThat(before.find(cooking.getId())).isPresent();
+    }
+
+    @Test
+    @DisplayName("구독자 수만 바뀌면 검색 색인을 재사용하고 키워드가 바뀌면 색인을 다시 만든다")
+    void onInterestChanged_ShouldReuseSearchIndexWhenTextUnchanged() {
+        // Given
+        Interest soccer = interestRepository.save(Interest.builder().name("축구").subscriberCount(0L).build());
+        entityManager.flush();
+        interestCatalog.rebuild();
+        InterestSearchIndex initial = interestCatalog.snapshot().searchIndex();
+
+        // When - 구독자 수 변경
+        ReflectionTestUtils.setField(soccer, "subscriberCount", 1L);
+        entityManager.flush();
+        interestCatalog.onInterestChanged(new InterestChangedEvent(soccer.getId()));
+
+        // Then
+        assertThat(interestCatalog.snapshot().searchIndex()).isSameAs(initial);
+
+        // When - 키워드 변경
+        soccer.updateKeywords(List.of("월드컵"));
+        entityManager.flush();
+        interestCatalog.onInterestChanged(new InterestChangedEvent(soccer.getId()));
+
+        // Then
+        InterestSearchIndex rebuilt = interestCatalog.snapshot().searchIndex();
+        assertThat(rebuilt).isNotSameAs(initial);
+        assertThat(rebuilt.search("월드")).extracting(InterestSearchIndex.Match::interestId).containsExactly(soccer.getId());
+    }
+
+    @Test
+    @DisplayName("반영된 구독자 수는 다시 읽지 않고 한 번의 교체로 적용하며 검색 색인을 재사용한다")
+    void onSubscriberCountsFlushed_ShouldApplyCountsAtOnce() {
+        // Given
+        Interest soccer = interestRepository.save(Interest.builder().name("축구").subscriberCount(0L).build());
+        Interest cooking = interestRepository.save(Interest.builder().name("요리").subscriberCount(0L).build());
+        entityManager.flush();
+        interestCatalog.rebuild();
+        InterestCatalog.Snapshot before = interestCatalog.snapshot();
+
+        // When
+        interestCatalog.onSubscriberCountsFlushed(new SubscriberCountsFlushedEvent(Map.of(
+            soccer.getId(), 3L,
+            cooking.getId(), 1L,
+            UUID.randomUUID(), 5L)));
+
+        // Then
+        InterestCatalog.Snapshot after = interestCatalog.snapshot();
+        assertThat(after.version()).isEqualTo(before.version() + 1);
+        assertThat(after.find(soccer.getId()).orElseThrow().subscriberCount()).isEqualTo(3L);
+        assertThat(after.find(cooking.getId()).orElseThrow().subscriberCount()).isEqualTo(1L);
+        assertThat(after.all()).hasSize(2);
+        assertThat(after.searchIndex()).isSameAs(before.searchIndex());
+
+        // When - 같은 값이 다시 오면 스냅샷을 바꾸지 않음
+        interestCatalog.onSubscriberCountsFlushed(new SubscriberCountsFlushedEvent(Map.of(soccer.getId(), 3L)));
+
+        // Then
+        assertThat(interestCatalog.snapshot()).isSameAs(after);
+    }
+
+    @Test
+    @DisplayName("반영을 기다리던 변경은 한 번의 조회와 한 번의 스냅샷 교체로 함께 반영된다")
+    @SuppressWarnings("unchecked")
+    void onInterestChanged_ShouldReloadPendingChangesTogether() {
+        // Given
+        Interest soccer = interestRepository.save(Interest.builder().name("축구").subscriberCount(0L).build());
+        Interest cooking = interestRepository.save(Interest.builder().name("요리").subscriberCount(0L).build());
+        entityManager.flush();
+        interestCatalog.rebuild();
+        long version = interestCatalog.snapshot().version();
+
+        soccer.updateKeywords(List.of("월드컵"));
+        ReflectionTestUtils.setField(cooking, "subscriberCount", 2L);
+        Interest baking = interestRepository.save(Interest.builder().name("제빵").subscriberCount(0L).build());
+        entityManager.flush();
+
+        // 다른 스레드의 커밋 후 이벤트가 잠금을 기다리는 상황
+        Set<UUID> changedIds = (Set<UUID>) ReflectionTestUtils.getField(interestCatalog, "changedIds");
+        changedIds.add(soccer.getId());
+        changedIds.add(cooking.getId());
+
+        // When
+        interestCatalog.onInterestChanged(new InterestChangedEvent(baking.getId()));
+
+        // Then
+        InterestCatalog.Snapshot after = interestCatalog.snapshot();
+        assertThat(after.version()).isEqualTo(version + 1);
+        assertThat(after.find(soccer.getId()).orElseThrow().keywords()).containsExactly("월드컵");
+        assertThat(after.find(cooking.getId()).orElseThrow().subscriberCount()).isEqualTo(2L);
+        assertThat(after.find(baking.getId())).isPresent();
+        assertThat(after.searchIndex().search("제빵")).extracting(InterestSearchIndex.Match::interestId)
+            .containsExactly(baking.getId());
+        assertThat(changedIds).isEmpty();
+    }
+
+    @Test
+    @DisplayName("유사 이름 검사는 현재 스냅샷에서 bigram을 공유하는 이름 중 유사도가 0.8 이상인 이름만 찾는다")
+    void findSimilarNames_ShouldUseCurrentSnapshot() {
+        // Given
+        interestRepository.save(Interest.builder().name("축구경기").subscriberCount(0L).build());
+        Interest player = interestRepository.save(Interest.builder().name("축구선수").subscriberCount(0L).build());
+        interestRepository.save(Interest.builder().name("야구").subscriberCount(0L).build());
+        entityManager.flush();
+        interestCatalog.rebuild();
+
+        // When & Then
+        assertThat(interestCatalog.findSimilarNames("축구")).containsExactlyInAnyOrder("축구경기", "축구선수");
+        assertThat(interestCatalog.findSimilarNames("농구")).isEmpty();
+
+        // When - 삭제가 반영된 스냅샷
+        interestRepository.delete(player);
+        entityManager.flush();
+        interestCatalog.onInterestChanged(new InterestChangedEvent(player.getId()));
+
+        // Then
+        assertThat(interestCatalog.findSimilarNames("축구")).containsExactly("축구경기");
+    }
+
+    @Test
+    @DisplayName("유사 이름 검사는 스냅샷 적재 이후 다른 곳에서 생성되어 스냅샷에 없는 이름도 DB에서 찾는다")
+    void findSimilarNames_ShouldCheckInterestsCreatedAfterSnapshot() {
+        // Given
+        interestRepository.save(Interest.builder().name("축구경기").subscriberCount(0L).build());
+        entityManager.flush();
+        interestCatalog.rebuild();
+
+        // When - 변경 이벤트 없이 저장 (다른 인스턴스에서 등록된 경우)
+        interestRepository.save(Interest.builder().name("축구선수").subscriberCount(0L).build());
+        entityManager.flush();
+
+        // Then
+        assertThat(interestCatalog.snapshot().all()).extracting(InterestCatalogEntry::name).containsExactly("축구경기");
+        assertThat(interestCatalog.findSimilarNames("축구")).containsExactly("축구경기", "축구선수");
+    }
+}
@@ -0,0 +1,90 @@
+package org.project.monewping.domain.interest.catalog;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("InterestSearchIndex 테스트")
+class InterestSearchIndexTest {
+
+    private final InterestCatalogEntry football = entry("Football", List.of("World Cup", "EPL"));
+    private final InterestCatalogEntry soccer = entry("축구", List.of("football", "공"));
+    private final InterestCatalogEntry footballManager = entry("Football Manager", List.of("게임"));
+    private final InterestCatalogEntry cooking = entry("요리", List.of("레시피", "한식 요리"));
+
+    private final InterestSearchIndex index = InterestSearchIndex.of(List.of(football, soccer, footballManager, cooking));
+
+    @Test
+    @DisplayName("이름 또는 키워드에 검색어를 포함하는 관심사를 대소문자 구분 없이 관련도 순으로 찾는다")
+    void search_RanksNameMatchesBeforeKeywordMatches() {
+        List<InterestSearchIndex.Match> matches = index.search("FOOTBALL");
+
+        assertThat(matches).extracting(InterestSearchIndex.Match::interestId)
+            .containsExactly(football.id(), footballManager.id(), soccer.id());
+        assertThat(matches).extracting(InterestSearchIndex.Match::score)
+            .isSortedAccordingTo((a, b) -> Integer.compare(b, a));
+    }
+
+    @Test
+    @DisplayName("trigram이 모두 있어도 실제로 이어진 문자열이 아니면 일치하지 않는다")
+    void search_VerifiesCandidates() {
+        // "abcabc"의 trigram(abc, bca, cab)은 모두 "abcab"에 있지만 "abcabc"를 포함하지는 않음
+        InterestSearchIndex repeated = InterestSearchIndex.of(List.of(entry("abcab", List.of())));
+
+        assertThat(repeated.search("abcabc")).isEmpty();
+        assertThat(repeated.search("bcab")).hasSize(1);
+        assertThat(index.search("없는관심사")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("3글자 미만 검색어와 한글 키워드 부분일치도 찾는다")
+    void search_ShortAndKoreanQueries() {
+        assertThat(index.search("요리")).extracting(InterestSearchIndex.Match::interestId)
+            .containsExactly(cooking.id());
+        assertThat(index.search("공")).extracting(InterestSearchIndex.Match::interestId)
+            .containsExactly(soccer.id());
+        assertThat(index.search("한식 요")).extracting(InterestSearchIndex.Match::interestId)
+            .containsExactly(cooking.id());
+        assertThat(index.search("")).isEmpty();
+        assertThat(InterestSearchIndex.EMPTY.search("축구")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("두 글자 이하 검색어도 조각 색인으로 이름/키워드 중간의 부분일치를 찾는다")
+    void search_ShortQueriesUseShortGramIndex() {
+        InterestCatalogEntry worldCup = entry("월드컵 축구", List.of());
+        InterestCatalogEntry baseball = entry("야구", List.of("국내 축구 중계"));
+        InterestSearchIndex shortIndex = InterestSearchIndex.of(List.of(worldCup, soccer, baseball, cooking));
+
+        assertThat(shortIndex.search("축구")).extracting(InterestSearchIndex.Match::interestId)
+            .containsExactly(soccer.id(), worldCup.id(), baseball.id());
+        assertThat(shortIndex.search("컵")).extracting(InterestSearchIndex.Match::interestId)
+            .containsExactly(worldCup.id());
+        assertThat(shortIndex.search("FO")).extracting(InterestSearchIndex.Match::interestId)
+            .containsExactly(soccer.id());
+        assertThat(shortIndex.search("농구")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("이름 bigram을 하나 이상 공유하는 관심사만 유사 이름 후보가 된다")
+    void findNameCandidates_ShouldReturnNamesSharingBigram() {
+        InterestCatalogEntry match = entry("축구경기", List.of());
+        InterestCatalogEntry player = entry("축구선수", List.of());
+        InterestCatalogEntry baseball = entry("야구", List.of("축구"));
+        InterestSearchIndex names = InterestSearchIndex.of(List.of(match, player, baseball, cooking));
+
+        // 키워드는 후보에 영향을 주지 않고, 경계 bigram으로 접두/접미도 공유
+        assertThat(names.findNameCandidates("축구")).containsExactly(match.id(), player.id(), baseball.id());
+        assertThat(names.findNameCandidates("야구장")).containsExactly(baseball.id());
+        assertThat(names.findNameCandidates("요")).containsExactly(cooking.id());
+        assertThat(names.findNameCandidates("농협")).isEmpty();
+    }
+
+    private static InterestCatalogEntry entry(String name, List<String> keywords) {
+        return new InterestCatalogEntry(UUID.randomUUID(), name, keywords, 0L, Instant.now());
+    }
+}
@@ -26,6 +26,7 @@ import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.willThrow;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
@@ -233,6 +234,69 @@ class InterestControllerTest {
                 .andExpect(jsonPath("$.message").value("유효성 검사 실패"));
     }
 
+    @Test
+    @DisplayName("관심사 일괄 구독 API를 호출하면 200 OK와 새로 등록된 구독 목록이 반환된다")
+    void should_return200_when_subscribeAllInterests() throws Exception {
+        // Given
+        UUID soccerId = UUID.randomUUID();
+        UUID baseballId = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+        SubscriptionDto response = SubscriptionDto.builder()
+                .id(UUID.randomUUID())
+                .interestId(soccerId)
+                .interestName("축구")
+                .interestKeywords(List.of("공"))
+                .interestSubscriberCount(1L)
+                .createdAt(java.time.Instant.now())
+                .build();
+        given(subscriptionService.subscribeAll(List.of(soccerId, baseballId), userId))
+                .willReturn(List.of(response));
+        String requestBody = """
+                {
+                    "interestIds": ["%s", "%s"]
+                }
+                """.formatted(soccerId, baseballId);
+
+        // When & Then
+        mockMvc.perform(post("/api/interests/subscriptions")
+                        .header("Monew-Request-User-ID", userId.toString())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(requestBody))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].interestId").value(soccerId.toString()))
+                .andExpect(jsonPath("$[0].interestSubscriberCount").value(1L));
+    }
+
+    @Test
+    @DisplayName("빈 관심사 목록으로 일괄 구독 시 400 Bad Request가 반환된다")
+    void should_return400_when_subscribeAllWithEmptyList() throws Exception {
+        mockMvc.perform(post("/api/interests/subscriptions")
+                        .header("Monew-Request-User-ID", UUID.randomUUID().toString())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"interestIds\": []}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("유효성 검사 실패"));
+    }
+
+    @Test
+    @DisplayName("관심사 일괄 구독 취소 API를 호출하면 200 OK와 취소된 구독 목록이 반환된다")
+    void should_return200_when_unsubscribeAllInterests() throws Exception {
+        // Given
+        UUID soccerId = UUID.randomUUID();
+        UUID baseballId = UUID.randomUUID();
+        UUID userId = UUID.randomUUID();
+        given(subscriptionService.unsubscribeAll(List.of(soccerId, baseballId), userId))
+                .willReturn(List.of());
+
+        // When & Then
+        mockMvc.perform(delete("/api/interests/subscriptions")
+                        .param("interestIds", soccerId.toString(), baseballId.toString())
+                        .header("Monew-Request-User-ID", userId.toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(0));
+    }
+
     @Test
     @DisplayName("관심사 구독 취소 API를 호출하면 200 OK와 결과가 반환된다")
     void should_return200_when_unsubscribeInterest() throws Exception {
@@ -0,0 +1,130 @@
+package org.project.monewping.domain.interest.counter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import jakarta.persistence.EntityManager;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.project.monewping.domain.interest.entity.Interest;
+import org.project.monewping.domain.interest.entity.Subscription;
+import org.project.monewping.domain.interest.event.SubscriberCountChangedEvent;
+import org.project.monewping.domain.interest.repository.InterestRepository;
+import org.project.monewping.domain.interest.repository.SubscriptionRepository;
+import org.project.monewping.domain.user.entity.User;
+import org.project.monewping.domain.user.repository.UserRepository;
+import org.project.monewping.global.config.JpaAuditingConfig;
+import org.project.monewping.global.config.QuerydslConfig;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@DataJpaTest
+@Import({JpaAuditingConfig.class, QuerydslConfig.class, SubscriberCounter.class})
+@TestPropertySource(properties = "auditing.enabled=true")
+@DisplayName("SubscriberCounter 테스트")
+class SubscriberCounterTest {
+
+    @Autowired
+    SubscriberCounter subscriberCounter;
+    @Autowired
+    InterestRepository interestRepository;
+    @Autowired
+    SubscriptionRepository subscriptionRepository;
+    @Autowired
+    UserRepository userRepository;
+    @Autowired
+    EntityManager entityManager;
+
+    @Test
+    @DisplayName("누적된 변화량을 관심사별로 합산해 한 번에 반영하고 0 미만으로 내려가지 않는다")
+    void flush_ShouldApplyAccumulatedDeltas() {
+        // Given
+        Interest soccer = interestRepository.save(Interest.builder().name("축구").subscriberCount(10L).build());
+        Interest cooking = interestRepository.save(Interest.builder().name("요리").subscriberCount(1L).build());
+        entityManager.flush();
+
+        subscriberCounter.onSubscriberCountChanged(new SubscriberCountChangedEvent(soccer.getId(), 1));
+        subscriberCounter.onSubscriberCountChanged(new SubscriberCountChangedEvent(soccer.getId(), 1));
+        subscriberCounter.onSubscriberCountChanged(new SubscriberCountChangedEvent(soccer.getId(), -1));
+        subscriberCounter.add(cooking.getId(), -3);
+        assertThat(subscriberCounter.pending(soccer.getId())).isEqualTo(1L);
+
+        // When
+        int flushed = subscriberCounter.flush();
+        entityManager.clear();
+
+        // Then
+        assertThat(flushed).isEqualTo(2);
+        assertThat(subscriberCounter.pending(soccer.getId())).isZero();
+        assertThat(interestRepository.findById(soccer.getId()).orElseThrow().getSubscriberCount()).isEqualTo(11L);
+        assertThat(interestRepository.findById(cooking.getId()).orElseThrow().getSubscriberCount()).isZero();
+        assertThat(subscriberCounter.flush()).isZero();
+    }
+
+    @Test
+    @DisplayName("누적분이 없는 관심사의 누적기는 반영 주기에 제거된다")
+    void flush_ShouldRemoveDrainedZeroAdders() {
+        // Given
+        Interest soccer = interestRepository.save(Interest.builder().name("축구").subscriberCount(0L).build());
+        Interest cooking = interestRepository.save(Interest.builder().name("요리").subscriberCount(0L).build());
+        entityManager.flush();
+        subscriberCounter.add(soccer.getId(), 1);
+        subscriberCounter.add(cooking.getId(), 1);
+        subscriberCounter.add(cooking.getId(), -1);
+        Map<?, ?> pending = (Map<?, ?>) ReflectionTestUtils.getField(subscriberCounter, "pending");
+
+        // When & Then - 합이 0인 관심사는 바로 제거, 반영한 관심사는 다음 주기에 제거
+        assertThat(subscriberCounter.flush()).isEqualTo(1);
+        assertThat(pending.keySet()).containsExactly(soccer.getId());
+        assertThat(subscriberCounter.flush()).isZero();
+        assertThat(pending).isEmpty();
+
+        // 제거 후에도 다시 누적된다
+        subscriberCounter.add(soccer.getId(), 2);
+        assertThat(subscriberCounter.pending(soccer.getId())).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("보정 작업은 구독자 수를 실제 구독 행 수로 맞춘다")
+    void reconcile_ShouldMatchSubscriptionRows() {
+        // Given
+        User user = userRepository.save(User.builder().email("a@a.com").nickname("a").password("pw").isDeleted(false).build());
+        Interest soccer = interestRepository.save(Interest.builder().name("축구").subscriberCount(5L).build());
+        Interest cooking = interestRepository.save(Interest.builder().name("요리").subscriberCount(0L).build());
+        subscriptionRepository.save(new Subscription(user, soccer));
+        entityManager.flush();
+
+        // When
+        int corrected = subscriberCounter.reconcile();
+        entityManager.clear();
+
+        // Then
+        assertThat(corrected).isEqualTo(1);
+        assertThat(interestRepository.findById(soccer.getId()).orElseThrow().getSubscriberCount()).isEqualTo(1L);
+        assertThat(interestRepository.findById(cooking.getId()).orElseThrow().getSubscriberCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("보정 작업은 누적분을 같은 트랜잭션에서 소진하므로 보정 후 다시 더해지지 않는다")
+    void reconcile_ShouldDrainPendingDeltas() {
+        // Given - 커밋된 구독 1건의 변화량이 아직 반영되지 않은 상태
+        User user = userRepository.save(User.builder().email("b@b.com").nickname("b").password("pw").isDeleted(false).build());
+        Interest soccer = interestRepository.save(Interest.builder().name("축구").subscriberCount(0L).build());
+        subscriptionRepository.save(new Subscription(user, soccer));
+        entityManager.flush();
+        subscriberCounter.add(soccer.getId(), 1);
+
+        // When
+        subscriberCounter.reconcile();
+        int flushed = subscriberCounter.flush();
+        entityManager.clear();
+
+        // Then
+        assertThat(flushed).isZero();
+        assertThat(subscriberCounter.pending(soccer.getId())).isZero();
+        assertThat(interestRepository.findById(soccer.getId()).orElseThrow().getSubscriberCount()).isEqualTo(1L);
+    }
+}
@@ -120,47 +120,6 @@ class InterestEntityTest {
         assertThat(defaultInterest.getKeywords()).isEmpty();
     }
 
-    @Test
-    @DisplayName("구독자 수 증가 테스트")
-    void testIncreaseSubscriber() {
-        // given
-        Long initialCount = interest.getSubscriberCount();
-
-        // when
-        interest.increaseSubscriber();
-
-        // then
-        assertThat(interest.getSubscriberCount()).isEqualTo(initialCount + 1);
-    }
-
-    @Test
-    @DisplayName("구독자 수 감소 테스트 - 0보다 클 때")
-    void testDecreaseSubscriberWhenGreaterThanZero() {
-        // given
-        interest.increaseSubscriber();
-        interest.increaseSubscriber();
-        Long initialCount = interest.getSubscriberCount();
-
-        // when
-        interest.decreaseSubscriber();
-
-        // then
-        assertThat(interest.getSubscriberCount()).isEqualTo(initialCount - 1);
-    }
-
-    @Test
-    @DisplayName("구독자 수 감소 테스트 - 0일 때")
-    void testDecreaseSubscriberWhenZero() {
-        // given
-        Long initialCount = interest.getSubscriberCount();
-
-        // when
-        interest.decreaseSubscriber();
-
-        // then
-        assertThat(interest.getSubscriberCount()).isEqualTo(initialCount);
-    }
-
     @Test
     @DisplayName("키워드 추가 테스트")
     void testAddKeyword() {
@@ -193,54 +152,6 @@ class InterestEntityTest {
         assertThat(keyword2.getInterest()).isEqualTo(interest);
     }
 
-    @Test
-    @DisplayName("Interest 구독자 수 연속 증가 테스트")
-    void testConsecutiveSubscriberIncrease() {
-        // given
-        Long initialCount = interest.getSubscriberCount();
-
-        // when
-        interest.increaseSubscriber();
-        interest.increaseSubscriber();
-        interest.increaseSubscriber();
-
-        // then
-        assertThat(interest.getSubscriberCount()).isEqualTo(initialCount + 3);
-    }
-
-    @Test
-    @DisplayName("Interest 구독자 수 연속 감소 테스트")
-    void testConsecutiveSubscriberDecrease() {
-        // given
-        interest.increaseSubscriber();
-        interest.increaseSubscriber();
-        interest.increaseSubscriber();
-        Long initialCount = interest.getSubscriberCount();
-
-        // when
-        interest.decreaseSubscriber();
-        interest.decreaseSubscriber();
-
-        // then
-        assertThat(interest.getSubscriberCount()).isEqualTo(initialCount - 2);
-    }
-
-    @Test
-    @DisplayName("Interest 구독자 수 0 이하로 감소 방지 테스트")
-    void testSubscriberCountNotGoBelowZero() {
-        // given
-        Long initialCount = interest.getSubscriberCount();
-
-        // when
-        interest.decreaseSubscriber();
-        interest.decreaseSubscriber();
-        interest.decreaseSubscriber();
-
-        // then
-        assertThat(interest.getSubscriberCount()).isEqualTo(0L);
-        assertThat(interest.getSubscriberCount()).isGreaterThanOrEqualTo(0L);
-    }
-
     @Test
     @DisplayName("Interest 한글 이름 테스트")
     void testKoreanName() {
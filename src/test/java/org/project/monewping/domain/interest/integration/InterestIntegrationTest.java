@@ -7,17 +7,19 @@ import org.project.monewping.domain.interest.dto.request.InterestRegisterRequest
 import org.project.monewping.domain.interest.dto.request.InterestUpdateRequest;
 import org.project.monewping.domain.interest.entity.Interest;
 import org.project.monewping.domain.interest.entity.Keyword;
-import org.project.monewping.domain.interest.entity.Subscription;
 import org.project.monewping.domain.interest.exception.*;
 import org.project.monewping.domain.interest.repository.InterestRepository;
 import org.project.monewping.domain.interest.repository.SubscriptionRepository;
 import org.project.monewping.domain.interest.service.InterestService;
+import org.project.monewping.domain.interest.service.SubscriptionService;
 import org.project.monewping.domain.user.entity.User;
 import org.project.monewping.domain.user.repository.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -26,6 +28,7 @@ import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 
 @SpringBootTest
 @ActiveProfiles("test")
@@ -44,6 +47,9 @@ class InterestIntegrationTest {
     @Autowired
     SubscriptionRepository subscriptionRepository;
 
+    @Autowired
+    SubscriptionService subscriptionService;
+
     /* 관심사 등록 */
     @Test
     @DisplayName("관심사와 키워드가 정상적으로 저장된다")
@@ -281,9 +287,8 @@ class InterestIntegrationTest {
         Interest e1 = interestRepository.findByName("축구").orElseThrow();
         Interest e2 = interestRepository.findByName("야구").orElseThrow();
         Interest e3 = interestRepository.findByName("농구").orElseThrow();
-        e1.increaseSubscriber(); // 1
-        e1.increaseSubscriber(); // 2
-        e2.increaseSubscriber(); // 1
+        ReflectionTestUtils.setField(e1, "subscriberCount", 2L);
+        ReflectionTestUtils.setField(e2, "subscriberCount", 1L);
         interestRepository.saveAll(List.of(e1, e2, e3));
 
         // When: 구독자 수 오름차순
@@ -325,8 +330,10 @@ class InterestIntegrationTest {
     }
 
     @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     @DisplayName("관심사 목록 조회 시 요청 유저의 구독 여부가 InterestDto에 올바르게 반영된다")
     void should_IncludeSubscribedByMe_When_ListInterests() {
+        // 구독 캐시는 구독이 커밋된 뒤 SubscriptionChangedEvent로 비워지므로 이 테스트는 각 단계를 실제로 커밋함
         // Given: 관심사 2개 등록, 실제 User 생성
         var req1 = new InterestRegisterRequest("축구", List.of("공", "스포츠"));
         var req2 = new InterestRegisterRequest("야구", List.of("방망이", "스포츠"));
@@ -341,28 +348,33 @@ class InterestIntegrationTest {
                 .build());
         UUID userId = user.getId();
 
-        // When: 구독 전 조회
-        var searchRequest = new CursorPageRequestSearchInterestDto(null, "name", "ASC", null, null, 10);
-        var resultBefore = interestService.findInterestByNameAndSubcriberCountByCursor(searchRequest, userId);
-
-        // Then: 구독 전에는 모두 false
-        assertThat(resultBefore.content()).hasSize(2);
-        assertThat(resultBefore.content()).allSatisfy(dto -> assertThat(dto.subscribedByMe()).isFalse());
-
-        // When: user가 '축구'를 구독
-        subscriptionRepository.save(new Subscription(user, interestRepository.findById(soccerDto.id()).orElseThrow()));
-
-        // When: 구독 후 조회
-        var resultAfter = interestService.findInterestByNameAndSubcriberCountByCursor(searchRequest, userId);
-
-        // Then: '축구'만 true, '야구'는 false
-        assertThat(resultAfter.content()).anySatisfy(dto -> {
-            if (dto.name().equals("축구")) {
-                assertThat(dto.subscribedByMe()).isTrue();
-            } else if (dto.name().equals("야구")) {
-                assertThat(dto.subscribedByMe()).isFalse();
+        try {
+            // When: 구독 전 조회 (구독 캐시에 빈 구독 목록이 적재됨)
+            var searchRequest = new CursorPageRequestSearchInterestDto(null, "name", "ASC", null, null, 10);
+            var resultBefore = interestService.findInterestByNameAndSubcriberCountByCursor(searchRequest, userId);
+
+            // Then: 구독 전에는 모두 false
+            assertThat(resultBefore.content()).hasSize(2);
+            assertThat(resultBefore.content()).allSatisfy(dto -> assertThat(dto.subscribedByMe()).isFalse());
+
+            // When: user가 '축구'를 구독
+            subscriptionService.subscribe(soccerDto.id(), userId);
+
+            // When: 구독 후 조회
+            var resultAfter = interestService.findInterestByNameAndSubcriberCountByCursor(searchRequest, userId);
+
+            // Then: '축구'만 true, '야구'는 false
+            assertThat(resultAfter.content())
+                    .extracting("name", "subscribedByMe")
+                    .containsExactlyInAnyOrder(tuple("축구", true), tuple("야구", false));
+        } finally {
+            if (subscriptionRepository.existsByUserIdAndInterestId(userId, soccerDto.id())) {
+                subscriptionService.unsubscribe(soccerDto.id(), userId);
             }
-        });
+            interestService.delete(soccerDto.id());
+            interestService.delete(baseballDto.id());
+            userRepository.deleteById(userId);
+        }
     }
 
     /* 관심사 키워드 수정 */
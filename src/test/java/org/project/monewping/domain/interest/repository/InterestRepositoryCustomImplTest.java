@@ -1,23 +1,30 @@
 package org.project.monewping.domain.interest.repository;
 
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.project.monewping.domain.interest.dto.InterestDto;
 import org.project.monewping.domain.interest.dto.request.CursorPageRequestSearchInterestDto;
+import org.project.monewping.domain.interest.dto.response.CursorPageResponseInterestDto;
 import org.project.monewping.domain.interest.entity.Interest;
 import org.project.monewping.domain.interest.entity.Keyword;
 import org.project.monewping.domain.interest.mapper.InterestMapperImpl;
+import org.project.monewping.domain.notification.exception.InvalidCursorFormatException;
 import org.project.monewping.global.config.JpaAuditingConfig;
 import org.project.monewping.global.config.QuerydslConfig;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.context.annotation.Import;
 import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.project.monewping.domain.user.entity.User;
 import org.project.monewping.domain.user.repository.UserRepository;
 import org.project.monewping.domain.interest.entity.Subscription;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
 
 @DataJpaTest
@@ -34,6 +41,8 @@ class InterestRepositoryCustomImplTest {
     UserRepository userRepository;
     @Autowired
     SubscriptionRepository subscriptionRepository;
+    @Autowired
+    EntityManager entityManager;
 
     @Test
     @DisplayName("레포지토리에 관심사 데이터가 잘 저장된다")
@@ -120,7 +129,7 @@ class InterestRepositoryCustomImplTest {
 
         // user가 '축구'만 구독
         subscriptionRepository.save(new Subscription(user, soccer));
-        soccer.increaseSubscriber();
+        ReflectionTestUtils.setField(soccer, "subscriberCount", 1L);
 
         var request = new CursorPageRequestSearchInterestDto(null, "name", "ASC", null, null, 10);
 
@@ -262,17 +271,31 @@ class InterestRepositoryCustomImplTest {
     }
 
     @Test
-    @DisplayName("잘못된 커서 형식일 때 IllegalArgumentException이 발생한다")
+    @DisplayName("잘못된 커서 형식일 때 InvalidCursorFormatException이 발생한다")
     void should_throwException_when_invalidCursorFormat() {
-        // 무조건 성공
-        assertThat(true).isTrue();
+        var noDelimiter = new CursorPageRequestSearchInterestDto(
+            null, "name", "ASC", UUID.randomUUID().toString(), "2025-07-01T00:00:00Z", 10);
+        var invalidId = new CursorPageRequestSearchInterestDto(
+            null, "name", "ASC", "축구|not-a-uuid", "2025-07-01T00:00:00Z", 10);
+        var invalidCount = new CursorPageRequestSearchInterestDto(
+            null, "subscriberCount", "ASC", "many|" + UUID.randomUUID(), "2025-07-01T00:00:00Z", 10);
+
+        assertThatThrownBy(() -> interestRepository.searchWithCursor(noDelimiter, UUID.randomUUID()))
+            .isInstanceOf(InvalidCursorFormatException.class);
+        assertThatThrownBy(() -> interestRepository.searchWithCursor(invalidId, UUID.randomUUID()))
+            .isInstanceOf(InvalidCursorFormatException.class);
+        assertThatThrownBy(() -> interestRepository.searchWithCursor(invalidCount, UUID.randomUUID()))
+            .isInstanceOf(InvalidCursorFormatException.class);
     }
 
     @Test
-    @DisplayName("잘못된 날짜 형식일 때 IllegalArgumentException이 발생한다")
+    @DisplayName("잘못된 날짜 형식일 때 InvalidCursorFormatException이 발생한다")
     void should_throwException_when_invalidDateFormat() {
-        // 무조건 성공
-        assertThat(true).isTrue();
+        var request = new CursorPageRequestSearchInterestDto(
+            null, "name", "ASC", "축구|" + UUID.randomUUID(), "2025-07-01", 10);
+
+        assertThatThrownBy(() -> interestRepository.searchWithCursor(request, UUID.randomUUID()))
+            .isInstanceOf(InvalidCursorFormatException.class);
     }
 
     @Test
@@ -415,4 +438,69 @@ class InterestRepositoryCustomImplTest {
         assertThat(result).isNotNull();
         assertThat(result.totalElements()).isEqualTo(3L); // "축구", "야구", "농구" 모두 "구" 포함
     }
-} 
\ No newline at end of file
+
+    @Test
+    @DisplayName("키워드가 여러 개인 관심사도 페이지 크기와 전체 개수가 관심사 단위로 계산된다")
+    void should_pageByInterest_when_interestsHaveManyKeywords() {
+        // Given
+        Interest soccer = Interest.builder().name("축구").subscriberCount(0L).build();
+        soccer.addKeyword(Keyword.builder().name("공").build());
+        soccer.addKeyword(Keyword.builder().name("골대").build());
+        soccer.addKeyword(Keyword.builder().name("월드컵").build());
+        Interest baseball = Interest.builder().name("야구").subscriberCount(0L).build();
+        baseball.addKeyword(Keyword.builder().name("공").build());
+        baseball.addKeyword(Keyword.builder().name("방망이").build());
+        interestRepository.save(soccer);
+        interestRepository.save(baseball);
+
+        var request = new CursorPageRequestSearchInterestDto("공", "name", "DESC", null, null, 1);
+
+        // When
+        var result = interestRepository.searchWithCursor(request, UUID.randomUUID());
+
+        // Then
+        assertThat(result.content()).hasSize(1);
+        assertThat(result.content().get(0).name()).isEqualTo("축구");
+        assertThat(result.content().get(0).keywords()).containsExactlyInAnyOrder("공", "골대", "월드컵");
+        assertThat(result.hasNext()).isTrue();
+        assertThat(result.totalElements()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("모든 정렬 기준과 방향에서 커서로 이어 조회하면 누락이나 중복 없이 전체 정렬 순서와 같다")
+    void should_pageThroughAllInterests_forEverySortOrder() {
+        // Given - 구독자 수가 겹치는 관심사 (createdAt, id로 동점 처리)
+        List<String> names = List.of("축구", "야구", "농구", "배구", "탁구", "골프", "수영");
+        for (int i = 0; i < names.size(); i++) {
+            interestRepository.save(Interest.builder().name(names.get(i)).subscriberCount((long) (i % 3)).build());
+        }
+        // 커서 값이 DB에 저장된 정밀도의 createdAt으로 만들어지도록 영속성 컨텍스트 비움
+        entityManager.flush();
+        entityManager.clear();
+
+        for (String orderBy : List.of("name", "subscriberCount", "createdAt")) {
+            for (String direction : List.of("ASC", "DESC")) {
+                List<String> expected = interestRepository.searchWithCursor(
+                        new CursorPageRequestSearchInterestDto(null, orderBy, direction, null, null, 100), UUID.randomUUID())
+                    .content().stream().map(InterestDto::name).toList();
+
+                // When - 2개씩 커서로 이어 조회
+                List<String> paged = new ArrayList<>();
+                String cursor = null;
+                String after = null;
+                CursorPageResponseInterestDto page;
+                do {
+                    page = interestRepository.searchWithCursor(
+                        new CursorPageRequestSearchInterestDto(null, orderBy, direction, cursor, after, 2), UUID.randomUUID());
+                    page.content().forEach(dto -> paged.add(dto.name()));
+                    cursor = page.nextCursor();
+                    after = page.nextAfter();
+                } while (page.hasNext());
+
+                // Then
+                assertThat(paged).as("%s %s", orderBy, direction).containsExactlyElementsOf(expected);
+                assertThat(paged).hasSize(names.size());
+            }
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package org.project.monewping.domain.interest.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import jakarta.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.project.monewping.domain.interest.catalog.InterestCatalog;
+import org.project.monewping.domain.interest.dto.InterestDto;
+import org.project.monewping.domain.interest.dto.request.CursorPageRequestSearchInterestDto;
+import org.project.monewping.domain.interest.dto.response.CursorPageResponseInterestDto;
+import org.project.monewping.domain.interest.entity.Interest;
+import org.project.monewping.domain.interest.entity.Keyword;
+import org.project.monewping.global.config.JpaAuditingConfig;
+import org.project.monewping.global.config.QuerydslConfig;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+
+@DataJpaTest
+@Import({JpaAuditingConfig.class, QuerydslConfig.class, InterestCatalog.class})
+@TestPropertySource(properties = "auditing.enabled=true")
+@DisplayName("관심사 검색 색인 조회 테스트")
+class InterestSearchIndexRepositoryTest {
+
+    @Autowired
+    InterestRepository interestRepository;
+    @Autowired
+    InterestCatalog interestCatalog;
+    @Autowired
+    EntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        Interest soccer = Interest.builder().name("축구").subscriberCount(5L).build();
+        soccer.addKeyword(Keyword.builder().name("공").build());
+        Interest futsal = Interest.builder().name("풋살").subscriberCount(1L).build();
+        futsal.addKeyword(Keyword.builder().name("실내 축구").build());
+        Interest soccerGame = Interest.builder().name("축구 게임").subscriberCount(3L).build();
+        Interest basketball = Interest.builder().name("농구").subscriberCount(0L).build();
+        basketball.addKeyword(Keyword.builder().name("공").build());
+        interestRepository.saveAll(List.of(soccer, futsal, soccerGame, basketball));
+        entityManager.flush();
+        entityManager.clear();
+        interestCatalog.rebuild();
+    }
+
+    @Test
+    @DisplayName("색인으로 찾은 관심사만 요청한 정렬 순서로 조회한다")
+    void searchWithCursor_UsesIndexMatchesWithRequestedOrder() {
+        var request = new CursorPageRequestSearchInterestDto("축구", "subscriberCount", "DESC", null, null, 10);
+
+        CursorPageResponseInterestDto result = interestRepository.searchWithCursor(request, UUID.randomUUID());
+
+        assertThat(result.content()).extracting(InterestDto::name).containsExactly("축구", "축구 게임", "풋살");
+        assertThat(result.totalElements()).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("색인과 DB 모두에 일치하는 관심사가 없으면 빈 결과를 반환한다")
+    void searchWithCursor_ReturnsEmptyWhenNoMatch() {
+        var request = new CursorPageRequestSearchInterestDto("없는관심사", "name", "ASC", null, null, 10);
+
+        CursorPageResponseInterestDto result = interestRepository.searchWithCursor(request, UUID.randomUUID());
+
+        assertThat(result.content()).isEmpty();
+        assertThat(result.totalElements()).isZero();
+        assertThat(result.hasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("스냅샷 이후 추가되어 색인에 없는 관심사는 DB에서 찾는다")
+    void searchWithCursor_FallsBackToDatabaseWhenIndexHasNoMatch() {
+        interestRepository.save(Interest.builder().name("야구").subscriberCount(0L).build());
+        entityManager.flush();
+        entityManager.clear();
+
+        for (String orderBy : List.of("name", "relevance")) {
+            var request = new CursorPageRequestSearchInterestDto("야구", orderBy, "ASC", null, null, 10);
+
+            CursorPageResponseInterestDto result = interestRepository.searchWithCursor(request, UUID.randomUUID());
+
+            assertThat(result.content()).extracting(InterestDto::name).containsExactly("야구");
+            assertThat(result.totalElements()).isEqualTo(1L);
+        }
+    }
+
+    @Test
+    @DisplayName("관련도 순 검색은 이름 일치, 이름 포함, 키워드 포함 순으로 커서를 이어 조회한다")
+    void searchWithCursor_PagesByRelevance() {
+        List<String> paged = new ArrayList<>();
+        String cursor = null;
+        String after = null;
+        CursorPageResponseInterestDto page;
+        do {
+            page = interestRepository.searchWithCursor(
+                new CursorPageRequestSearchInterestDto("축구", "relevance", null, cursor, after, 1), UUID.randomUUID());
+            assertThat(page.totalElements()).isEqualTo(3L);
+            page.content().forEach(dto -> paged.add(dto.name()));
+            cursor = page.nextCursor();
+            after = page.nextAfter();
+        } while (page.hasNext());
+
+        assertThat(paged).containsExactly("축구", "축구 게임", "풋살");
+    }
+
+    @Test
+    @DisplayName("관련도 순 검색도 카탈로그의 키워드와 구독자 수를 응답한다")
+    void searchWithCursor_RelevanceContainsCatalogFields() {
+        var request = new CursorPageRequestSearchInterestDto("공", "relevance", "DESC", null, null, 10);
+
+        CursorPageResponseInterestDto result = interestRepository.searchWithCursor(request, UUID.randomUUID());
+
+        assertThat(result.content()).extracting(InterestDto::name).containsExactlyInAnyOrder("축구", "농구");
+        assertThat(result.content()).allSatisfy(dto -> assertThat(dto.keywords()).containsExactly("공"));
+        assertThat(result.content()).extracting(InterestDto::subscriberCount).containsExactlyInAnyOrder(5L, 0L);
+        assertThat(result.hasNext()).isFalse();
+    }
+}
@@ -0,0 +1,90 @@
+package org.project.monewping.domain.interest.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.project.monewping.global.PostgresRepositoryTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@DisplayName("구독 일괄 처리 PostgreSQL 테스트")
+class SubscriptionRepositoryPostgresTest extends PostgresRepositoryTest {
+
+    @Autowired
+    SubscriptionRepository subscriptionRepository;
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    private UUID userId;
+    private UUID soccerId;
+    private UUID cookingId;
+    private final Instant now = Instant.now().truncatedTo(ChronoUnit.MICROS);
+
+    @BeforeEach
+    void setUp() {
+        userId = UUID.randomUUID();
+        soccerId = insertInterest("축구");
+        cookingId = insertInterest("요리");
+        jdbcTemplate.update("""
+            INSERT INTO users (id, email, nickname, password, created_at, updated_at, is_deleted)
+            VALUES (?, ?, 'tester', 'pw', now(), now(), FALSE)
+            """, userId, userId + "@test.com");
+    }
+
+    @Test
+    @DisplayName("insertAllIfAbsent는 한 문장으로 삽입하고 이미 구독 중인 관심사는 결과에서 뺀다")
+    void insertAllIfAbsent_SkipsExisting() {
+        // Given
+        subscriptionRepository.insertIfAbsent(UUID.randomUUID(), userId, soccerId, now);
+
+        // When
+        Map<UUID, UUID> inserted = subscriptionRepository.insertAllIfAbsent(userId, List.of(soccerId, cookingId), now);
+
+        // Then
+        assertThat(inserted).containsOnlyKeys(cookingId);
+        assertThat(subscriptionRepository.findInterestIdsByUserId(userId)).containsExactlyInAnyOrder(soccerId, cookingId);
+        assertThat(jdbcTemplate.queryForObject(
+            "SELECT id FROM interest_subscriptions WHERE user_id = ? AND interest_id = ?", UUID.class, userId, cookingId))
+            .isEqualTo(inserted.get(cookingId));
+    }
+
+    @Test
+    @DisplayName("insertAllIfAbsent를 같은 요청으로 다시 호출하면 아무것도 삽입하지 않는다")
+    void insertAllIfAbsent_RepeatedRequest_InsertsNothing() {
+        subscriptionRepository.insertAllIfAbsent(userId, List.of(soccerId, cookingId), now);
+
+        assertThat(subscriptionRepository.insertAllIfAbsent(userId, List.of(cookingId, soccerId), now)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("deleteAllByUserIdAndInterestIdIn은 이 호출이 실제로 삭제한 관심사만 돌려준다")
+    void deleteAllByUserIdAndInterestIdIn_ReturnsOnlyDeleted() {
+        // Given
+        subscriptionRepository.insertAllIfAbsent(userId, List.of(soccerId, cookingId), now);
+
+        // When
+        List<UUID> first = subscriptionRepository.deleteAllByUserIdAndInterestIdIn(userId, List.of(soccerId));
+        List<UUID> second = subscriptionRepository.deleteAllByUserIdAndInterestIdIn(userId, List.of(soccerId, cookingId));
+
+        // Then
+        assertThat(first).containsExactly(soccerId);
+        assertThat(second).containsExactly(cookingId);
+        assertThat(subscriptionRepository.findInterestIdsByUserId(userId)).isEmpty();
+    }
+
+    private UUID insertInterest(String name) {
+        UUID id = UUID.randomUUID();
+        jdbcTemplate.update("""
+            INSERT INTO interests (id, name, subscriber_count, created_at, updated_at)
+            VALUES (?, ?, 0, now(), now())
+            """, id, name);
+        return id;
+    }
+}
@@ -1,5 +1,6 @@
 package org.project.monewping.domain.interest.repository;
 
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.project.monewping.domain.interest.entity.Interest;
@@ -10,17 +11,24 @@ import org.project.monewping.domain.user.repository.UserRepository;
 import org.project.monewping.global.config.JpaAuditingConfig;
 import org.project.monewping.global.config.QuerydslConfig;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.TestPropertySource;
 
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.*;
 
+// ON CONFLICT 구문을 쓰는 네이티브 쿼리가 있으므로 PostgreSQL 호환 모드 H2(test 프로필)를 사용
 @DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
 @Import({
         JpaAuditingConfig.class,
         QuerydslConfig.class,
@@ -34,6 +42,8 @@ class SubscriptionRepositoryTest {
     InterestRepository interestRepository;
     @Autowired
     SubscriptionRepository subscriptionRepository;
+    @Autowired
+    EntityManager entityManager;
 
     @Test
     @DisplayName("구독이 제대로 생성되어 저장된다")
@@ -123,4 +133,23 @@ class SubscriptionRepositoryTest {
         assertThat(subscriptionRepository.existsByUserIdAndInterestId(UUID.randomUUID(), interest.getId())).isFalse();
         assertThat(subscriptionRepository.existsByUserIdAndInterestId(user.getId(), UUID.randomUUID())).isFalse();
     }
+
+    @Test
+    @DisplayName("insertIfAbsent는 처음에만 구독을 삽입하고 이미 구독 중이면 0을 반환한다")
+    void insertIfAbsent_SkipsDuplicate() {
+        // Given
+        User user = userRepository.save(User.builder().email("c@c.com").nickname("c").password("pw").isDeleted(false).build());
+        Interest interest = interestRepository.save(Interest.builder().name("농구").subscriberCount(0L).build());
+        entityManager.flush();
+        Instant now = Instant.now().truncatedTo(ChronoUnit.MICROS);
+
+        // When
+        int first = subscriptionRepository.insertIfAbsent(UUID.randomUUID(), user.getId(), interest.getId(), now);
+        int second = subscriptionRepository.insertIfAbsent(UUID.randomUUID(), user.getId(), interest.getId(), now);
+
+        // Then
+        assertThat(first).isEqualTo(1);
+        assertThat(second).isZero();
+        assertThat(subscriptionRepository.findInterestIdsByUserId(user.getId())).containsExactly(interest.getId());
+    }
 }
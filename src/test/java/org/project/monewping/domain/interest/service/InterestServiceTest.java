@@ -6,6 +6,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.project.monewping.domain.interest.catalog.InterestCatalog;
 import org.project.monewping.domain.interest.dto.InterestDto;
 import org.project.monewping.domain.interest.dto.request.CursorPageRequestSearchInterestDto;
 import org.project.monewping.domain.interest.dto.request.InterestRegisterRequest;
@@ -20,8 +21,11 @@ import org.project.monewping.domain.interest.exception.InterestNotFoundException
 import org.project.monewping.domain.interest.exception.SimilarInterestNameException;
 import org.project.monewping.domain.interest.exception.*;
 import org.project.monewping.domain.interest.mapper.InterestMapper;
+import org.project.monewping.domain.interest.event.SubscriptionChangedEvent;
 import org.project.monewping.domain.interest.repository.InterestRepository;
+import org.project.monewping.domain.interest.repository.SubscriptionRepository;
 import org.project.monewping.domain.interest.service.impl.InterestServiceImpl;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.Arrays;
 import java.util.List;
@@ -44,7 +48,13 @@ class InterestServiceTest {
     @Mock
     private InterestRepository interestRepository;
     @Mock
+    private SubscriptionRepository subscriptionRepository;
+    @Mock
     private InterestMapper interestMapper;
+    @Mock
+    private InterestCatalog interestCatalog;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
 
     @Test
     @DisplayName("관심사 목록 조회 요청 시 Repository에서 결과를 받아 반환한다")
@@ -157,7 +167,7 @@ class InterestServiceTest {
             .build();
 
         given(interestRepository.existsByName("축구")).willReturn(false);
-        given(interestRepository.findNamesByRoughMatch(anyString())).willReturn(Arrays.asList("야구", "농구"));
+        given(interestCatalog.findSimilarNames(anyString())).willReturn(List.of());
         given(interestRepository.save(any(Interest.class))).willReturn(savedInterest);
         given(interestMapper.toDto(savedInterest)).willReturn(expectedDto);
 
@@ -168,7 +178,7 @@ class InterestServiceTest {
         assertThat(result).isNotNull();
         assertThat(result.name()).isEqualTo("축구");
         verify(interestRepository).existsByName("축구");
-        verify(interestRepository).findNamesByRoughMatch(anyString());
+        verify(interestCatalog).findSimilarNames(anyString());
         verify(interestRepository).save(any(Interest.class));
         verify(interestMapper).toDto(savedInterest);
     }
@@ -192,7 +202,7 @@ class InterestServiceTest {
             .build();
 
         given(interestRepository.existsByName("축구")).willReturn(false);
-        given(interestRepository.findNamesByRoughMatch(anyString())).willReturn(Arrays.asList("야구", "농구"));
+        given(interestCatalog.findSimilarNames(anyString())).willReturn(List.of());
         given(interestRepository.save(any(Interest.class))).willReturn(savedInterest);
         given(interestMapper.toDto(savedInterest)).willReturn(expectedDto);
 
@@ -203,7 +213,7 @@ class InterestServiceTest {
         assertThat(result).isNotNull();
         assertThat(result.name()).isEqualTo("축구");
         verify(interestRepository).existsByName("축구");
-        verify(interestRepository).findNamesByRoughMatch(anyString());
+        verify(interestCatalog).findSimilarNames(anyString());
         verify(interestRepository).save(any(Interest.class));
         verify(interestMapper).toDto(savedInterest);
     }
@@ -227,7 +237,7 @@ class InterestServiceTest {
             .build();
 
         given(interestRepository.existsByName("축구")).willReturn(false);
-        given(interestRepository.findNamesByRoughMatch(anyString())).willReturn(Arrays.asList("야구", "농구"));
+        given(interestCatalog.findSimilarNames(anyString())).willReturn(List.of());
         given(interestRepository.save(any(Interest.class))).willReturn(savedInterest);
         given(interestMapper.toDto(savedInterest)).willReturn(expectedDto);
 
@@ -238,7 +248,7 @@ class InterestServiceTest {
         assertThat(result).isNotNull();
         assertThat(result.name()).isEqualTo("축구");
         verify(interestRepository).existsByName("축구");
-        verify(interestRepository).findNamesByRoughMatch(anyString());
+        verify(interestCatalog).findSimilarNames(anyString());
         verify(interestRepository).save(any(Interest.class));
         verify(interestMapper).toDto(savedInterest);
     }
@@ -305,7 +315,7 @@ class InterestServiceTest {
         // Given
         InterestRegisterRequest request = new InterestRegisterRequest("축구", Arrays.asList("키워드"));
         given(interestRepository.existsByName("축구")).willReturn(false);
-        given(interestRepository.findNamesByRoughMatch(anyString())).willReturn(Arrays.asList("축구경기", "축구선수"));
+        given(interestCatalog.findSimilarNames(anyString())).willReturn(Arrays.asList("축구경기", "축구선수"));
 
         // When & Then
         assertThatThrownBy(() -> interestService.create(request))
@@ -318,7 +328,7 @@ class InterestServiceTest {
         // Given
         InterestRegisterRequest request = new InterestRegisterRequest("축구", Arrays.asList("키워드"));
         given(interestRepository.existsByName("축구")).willReturn(false);
-        given(interestRepository.findNamesByRoughMatch(anyString())).willReturn(Arrays.asList("야구", "농구"));
+        given(interestCatalog.findSimilarNames(anyString())).willReturn(List.of());
         given(interestRepository.save(any(Interest.class))).willThrow(new RuntimeException("DB Error"));
 
         // When & Then
@@ -346,7 +356,7 @@ class InterestServiceTest {
             .build();
 
         given(interestRepository.existsByName("축구")).willReturn(false);
-        given(interestRepository.findNamesByRoughMatch(anyString())).willReturn(Arrays.asList("야구", "농구"));
+        given(interestCatalog.findSimilarNames(anyString())).willReturn(List.of());
         given(interestRepository.save(any(Interest.class))).willReturn(savedInterest);
         given(interestMapper.toDto(savedInterest)).willReturn(expectedDto);
 
@@ -357,7 +367,7 @@ class InterestServiceTest {
         assertThat(result).isNotNull();
         assertThat(result.name()).isEqualTo("축구");
         verify(interestRepository).existsByName("축구");
-        verify(interestRepository).findNamesByRoughMatch(anyString());
+        verify(interestCatalog).findSimilarNames(anyString());
         verify(interestRepository).save(any(Interest.class));
         verify(interestMapper).toDto(savedInterest);
     }
@@ -480,10 +490,11 @@ class InterestServiceTest {
     	
     // === 관심사 삭제 테스트 ===
     @Test
-    @DisplayName("존재하는 관심사 삭제 시 성공적으로 삭제된다")
+    @DisplayName("존재하는 관심사 삭제 시 성공적으로 삭제되고 구독자별 구독 변경 이벤트를 발행한다")
     void should_deleteInterest_when_interestExists() {
         // Given
         UUID interestId = UUID.randomUUID();
+        UUID subscriberId = UUID.randomUUID();
         Interest interest = Interest.builder()
                 .id(interestId)
                 .name("테스트 관심사")
@@ -491,6 +502,7 @@ class InterestServiceTest {
                 .build();
 
         given(interestRepository.findById(interestId)).willReturn(java.util.Optional.of(interest));
+        given(subscriptionRepository.findUserIdsByInterestId(interestId)).willReturn(List.of(subscriberId));
 
         // When
         interestService.delete(interestId);
@@ -498,6 +510,7 @@ class InterestServiceTest {
         // Then
         verify(interestRepository).findById(interestId);
         verify(interestRepository).delete(interest);
+        verify(eventPublisher).publishEvent(new SubscriptionChangedEvent(subscriberId));
     }
 
     @Test
@@ -7,27 +7,43 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.project.monewping.domain.interest.catalog.InterestCatalog;
+import org.project.monewping.domain.interest.catalog.InterestCatalogEntry;
+import org.project.monewping.domain.interest.counter.SubscriberCounter;
 import org.project.monewping.domain.interest.dto.SubscriptionDto;
 import org.project.monewping.domain.interest.entity.Interest;
 import org.project.monewping.domain.interest.entity.Keyword;
 import org.project.monewping.domain.interest.entity.Subscription;
+import org.project.monewping.domain.interest.event.SubscriberCountChangedEvent;
+import org.project.monewping.domain.interest.event.SubscriptionChangedEvent;
 import org.project.monewping.domain.interest.exception.DuplicateSubscriptionException;
 import org.project.monewping.domain.interest.exception.InterestNotFoundException;
+import org.project.monewping.domain.interest.exception.InvalidRequestException;
 import org.project.monewping.domain.interest.exception.SubscriptionNotFoundException;
 import org.project.monewping.domain.interest.repository.InterestRepository;
 import org.project.monewping.domain.interest.repository.SubscriptionRepository;
 import org.project.monewping.domain.user.entity.User;
 import org.project.monewping.domain.user.exception.UserNotFoundException;
 import org.project.monewping.domain.user.repository.UserRepository;
+import org.project.monewping.domain.useractivity.service.UserActivityService;
+import org.springframework.context.ApplicationEventPublisher;
 
+import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 @DisplayName("SubscriptionServiceImpl 테스트")
@@ -46,6 +62,18 @@ class SubscriptionServiceImplTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private InterestCatalog interestCatalog;
+
+    @Mock
+    private SubscriberCounter subscriberCounter;
+
+    @Mock
+    private UserActivityService userActivityService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     private UUID interestId;
     private UUID subscriberId;
     private User user;
@@ -80,8 +108,7 @@ class SubscriptionServiceImplTest {
         // given
         given(userRepository.findById(subscriberId)).willReturn(Optional.of(user));
         given(interestRepository.findById(interestId)).willReturn(Optional.of(interest));
-        given(subscriptionRepository.findInterestIdsByUserId(subscriberId)).willReturn(List.of());
-        given(subscriptionRepository.save(any(Subscription.class))).willReturn(subscription);
+        given(subscriptionRepository.insertIfAbsent(any(), any(), any(), any())).willReturn(1);
 
         // when
         SubscriptionDto result = subscriptionService.subscribe(interestId, subscriberId);
@@ -94,8 +121,8 @@ class SubscriptionServiceImplTest {
 
         verify(userRepository).findById(subscriberId);
         verify(interestRepository).findById(interestId);
-        verify(subscriptionRepository).findInterestIdsByUserId(subscriberId);
-        verify(subscriptionRepository).save(any(Subscription.class));
+        verify(subscriptionRepository).insertIfAbsent(eq(result.id()), eq(subscriberId), eq(interestId), any());
+        verify(eventPublisher).publishEvent(new SubscriptionChangedEvent(subscriberId));
     }
 
     @Test
@@ -109,8 +136,7 @@ class SubscriptionServiceImplTest {
 
         given(userRepository.findById(subscriberId)).willReturn(Optional.of(user));
         given(interestRepository.findById(interestId)).willReturn(Optional.of(interest));
-        given(subscriptionRepository.findInterestIdsByUserId(subscriberId)).willReturn(List.of());
-        given(subscriptionRepository.save(any(Subscription.class))).willReturn(subscription);
+        given(subscriptionRepository.insertIfAbsent(any(), any(), any(), any())).willReturn(1);
 
         // when
         SubscriptionDto result = subscriptionService.subscribe(interestId, subscriberId);
@@ -120,6 +146,41 @@ class SubscriptionServiceImplTest {
         assertThat(result.interestKeywords()).containsExactly("키워드1", "키워드2");
     }
 
+    @Test
+    @DisplayName("카탈로그에 있는 관심사는 카탈로그의 키워드로 응답하고 변경 이벤트를 발행한다")
+    void subscribe_UsesCatalogKeywords() {
+        // given
+        given(userRepository.findById(subscriberId)).willReturn(Optional.of(user));
+        given(interestRepository.findById(interestId)).willReturn(Optional.of(interest));
+        given(subscriptionRepository.insertIfAbsent(any(), any(), any(), any())).willReturn(1);
+        given(interestCatalog.find(interestId)).willReturn(Optional.of(new InterestCatalogEntry(
+            interestId, "테스트 관심사", List.of("카탈로그 키워드"), 10L, Instant.now())));
+
+        // when
+        SubscriptionDto result = subscriptionService.subscribe(interestId, subscriberId);
+
+        // then
+        assertThat(result.interestKeywords()).containsExactly("카탈로그 키워드");
+        verify(eventPublisher).publishEvent(new SubscriberCountChangedEvent(interestId, 1));
+    }
+
+    @Test
+    @DisplayName("구독 시 관심사 엔티티를 수정하지 않고 아직 반영되지 않은 카운터 누적분을 더해 응답한다")
+    void subscribe_IncludesPendingSubscriberCount() {
+        // given
+        given(userRepository.findById(subscriberId)).willReturn(Optional.of(user));
+        given(interestRepository.findById(interestId)).willReturn(Optional.of(interest));
+        given(subscriptionRepository.insertIfAbsent(any(), any(), any(), any())).willReturn(1);
+        given(subscriberCounter.pending(interestId)).willReturn(3L);
+
+        // when
+        SubscriptionDto result = subscriptionService.subscribe(interestId, subscriberId);
+
+        // then
+        assertThat(result.interestSubscriberCount()).isEqualTo(14L);
+        assertThat(interest.getSubscriberCount()).isEqualTo(10L);
+    }
+
     @Test
     @DisplayName("존재하지 않는 사용자로 구독 시도 시 예외가 발생한다")
     void subscribe_UserNotFound_ThrowsException() {
@@ -154,23 +215,23 @@ class SubscriptionServiceImplTest {
         // given
         given(userRepository.findById(subscriberId)).willReturn(Optional.of(user));
         given(interestRepository.findById(interestId)).willReturn(Optional.of(interest));
-        given(subscriptionRepository.findInterestIdsByUserId(subscriberId)).willReturn(List.of(interestId));
+        given(subscriptionRepository.insertIfAbsent(any(), eq(subscriberId), eq(interestId), any())).willReturn(0);
 
         // when & then
         assertThatThrownBy(() -> subscriptionService.subscribe(interestId, subscriberId))
                 .isInstanceOf(DuplicateSubscriptionException.class)
                 .hasMessage("이미 구독 중입니다.");
+        assertThat(interest.getSubscriberCount()).isEqualTo(10L);
+        verify(subscriptionRepository, never()).findInterestIdsByUserId(any());
     }
 
     @Test
     @DisplayName("다른 관심사는 구독 중이지만 해당 관심사는 구독하지 않은 경우 구독이 성공한다")
     void subscribe_OtherInterestsSubscribed_Success() {
         // given
-        UUID otherInterestId = UUID.randomUUID();
         given(userRepository.findById(subscriberId)).willReturn(Optional.of(user));
         given(interestRepository.findById(interestId)).willReturn(Optional.of(interest));
-        given(subscriptionRepository.findInterestIdsByUserId(subscriberId)).willReturn(List.of(otherInterestId));
-        given(subscriptionRepository.save(any(Subscription.class))).willReturn(subscription);
+        given(subscriptionRepository.insertIfAbsent(any(), any(), any(), any())).willReturn(1);
 
         // when
         SubscriptionDto result = subscriptionService.subscribe(interestId, subscriberId);
@@ -192,8 +253,7 @@ class SubscriptionServiceImplTest {
 
         given(userRepository.findById(subscriberId)).willReturn(Optional.of(user));
         given(interestRepository.findById(interestId)).willReturn(Optional.of(zeroInterest));
-        given(subscriptionRepository.findInterestIdsByUserId(subscriberId)).willReturn(List.of());
-        given(subscriptionRepository.save(any(Subscription.class))).willReturn(subscription);
+        given(subscriptionRepository.insertIfAbsent(any(), any(), any(), any())).willReturn(1);
 
         // when
         SubscriptionDto result = subscriptionService.subscribe(interestId, subscriberId);
@@ -215,8 +275,7 @@ class SubscriptionServiceImplTest {
 
         given(userRepository.findById(subscriberId)).willReturn(Optional.of(user));
         given(interestRepository.findById(interestId)).willReturn(Optional.of(highInterest));
-        given(subscriptionRepository.findInterestIdsByUserId(subscriberId)).willReturn(List.of());
-        given(subscriptionRepository.save(any(Subscription.class))).willReturn(subscription);
+        given(subscriptionRepository.insertIfAbsent(any(), any(), any(), any())).willReturn(1);
 
         // when
         SubscriptionDto result = subscriptionService.subscribe(interestId, subscriberId);
@@ -239,8 +298,7 @@ class SubscriptionServiceImplTest {
 
         given(userRepository.findById(subscriberId)).willReturn(Optional.of(user));
         given(interestRepository.findById(interestId)).willReturn(Optional.of(emptyInterest));
-        given(subscriptionRepository.findInterestIdsByUserId(subscriberId)).willReturn(List.of());
-        given(subscriptionRepository.save(any(Subscription.class))).willReturn(subscription);
+        given(subscriptionRepository.insertIfAbsent(any(), any(), any(), any())).willReturn(1);
 
         // when
         SubscriptionDto result = subscriptionService.subscribe(interestId, subscriberId);
@@ -263,8 +321,7 @@ class SubscriptionServiceImplTest {
 
         given(userRepository.findById(subscriberId)).willReturn(Optional.of(user));
         given(interestRepository.findById(interestId)).willReturn(Optional.of(nullInterest));
-        given(subscriptionRepository.findInterestIdsByUserId(subscriberId)).willReturn(List.of());
-        given(subscriptionRepository.save(any(Subscription.class))).willReturn(subscription);
+        given(subscriptionRepository.insertIfAbsent(any(), any(), any(), any())).willReturn(1);
 
         // when
         SubscriptionDto result = subscriptionService.subscribe(interestId, subscriberId);
@@ -295,6 +352,7 @@ class SubscriptionServiceImplTest {
         verify(interestRepository).findById(interestId);
         verify(subscriptionRepository).findByUserIdAndInterestId(subscriberId, interestId);
         verify(subscriptionRepository).delete(subscription);
+        verify(eventPublisher).publishEvent(new SubscriptionChangedEvent(subscriberId));
     }
 
     @Test
@@ -391,8 +449,7 @@ class SubscriptionServiceImplTest {
         given(userRepository.findById(subscriberId)).willReturn(Optional.of(user));
         given(interestRepository.findById(interest1.getId())).willReturn(Optional.of(interest1));
         given(interestRepository.findById(interest2.getId())).willReturn(Optional.of(interest2));
-        given(subscriptionRepository.findInterestIdsByUserId(subscriberId)).willReturn(List.of());
-        given(subscriptionRepository.save(any(Subscription.class))).willReturn(subscription);
+        given(subscriptionRepository.insertIfAbsent(any(), any(), any(), any())).willReturn(1);
         given(subscriptionRepository.findByUserIdAndInterestId(subscriberId, interest1.getId())).willReturn(Optional.of(subscription));
         given(subscriptionRepository.findByUserIdAndInterestId(subscriberId, interest2.getId())).willReturn(Optional.of(subscription));
 
@@ -422,4 +479,121 @@ class SubscriptionServiceImplTest {
             .isInstanceOf(RuntimeException.class)
             .hasMessage("DB 오류");
     }
-} 
\ No newline at end of file
+
+    @Test
+    @DisplayName("일괄 구독은 이미 구독 중인 관심사를 건너뛰고 활동 내역을 한 번만 갱신한다")
+    void subscribeAll_SkipsExistingSubscriptions() {
+        // given
+        Interest baseball = Interest.builder()
+                .id(UUID.randomUUID())
+                .name("야구")
+                .subscriberCount(3L)
+                .build();
+        UUID newSubscriptionId = UUID.randomUUID();
+        List<UUID> requestedIds = List.of(interestId, baseball.getId());
+        given(userRepository.existsById(subscriberId)).willReturn(true);
+        given(interestRepository.findAllById(requestedIds)).willReturn(List.of(interest, baseball));
+        given(subscriptionRepository.insertAllIfAbsent(eq(subscriberId), eq(requestedIds), any()))
+                .willReturn(Map.of(baseball.getId(), newSubscriptionId)); // interest는 이미 구독 중
+
+        // when
+        List<SubscriptionDto> result = subscriptionService.subscribeAll(
+                List.of(interestId, baseball.getId(), interestId), subscriberId);
+
+        // then
+        assertThat(result).hasSize(1);
+        assertThat(result.get(0).id()).isEqualTo(newSubscriptionId);
+        assertThat(result.get(0).interestName()).isEqualTo("야구");
+        assertThat(result.get(0).interestSubscriberCount()).isEqualTo(4L);
+        verify(eventPublisher).publishEvent(new SubscriberCountChangedEvent(baseball.getId(), 1));
+        verify(eventPublisher, never()).publishEvent(new SubscriberCountChangedEvent(interestId, 1));
+        verify(eventPublisher).publishEvent(new SubscriptionChangedEvent(subscriberId));
+        verify(userActivityService).addSubscriptions(eq(subscriberId), anyList());
+    }
+
+    @Test
+    @DisplayName("일괄 구독 요청에 존재하지 않는 관심사가 있으면 아무것도 등록하지 않는다")
+    void subscribeAll_InterestNotFound_ThrowsException() {
+        // given
+        UUID missingId = UUID.randomUUID();
+        given(userRepository.existsById(subscriberId)).willReturn(true);
+        given(interestRepository.findAllById(List.of(interestId, missingId))).willReturn(List.of(interest));
+
+        // when & then
+        assertThatThrownBy(() -> subscriptionService.subscribeAll(List.of(interestId, missingId), subscriberId))
+                .isInstanceOf(InterestNotFoundException.class);
+        verify(subscriptionRepository, never()).insertAllIfAbsent(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("일괄 구독 요청이 비어 있거나 100개를 넘으면 예외가 발생한다")
+    void subscribeAll_InvalidSize_ThrowsException() {
+        List<UUID> tooMany = IntStream.range(0, 101).mapToObj(i -> UUID.randomUUID()).toList();
+
+        assertThatThrownBy(() -> subscriptionService.subscribeAll(List.of(), subscriberId))
+                .isInstanceOf(InvalidRequestException.class);
+        assertThatThrownBy(() -> subscriptionService.subscribeAll(tooMany, subscriberId))
+                .isInstanceOf(InvalidRequestException.class);
+        verify(userRepository, never()).existsById(any());
+    }
+
+    @Test
+    @DisplayName("일괄 구독 취소는 구독 중인 관심사만 한 번에 삭제한다")
+    void unsubscribeAll_DeletesOnlySubscribed() {
+        // given
+        UUID notSubscribedId = UUID.randomUUID();
+        List<UUID> requestedIds = List.of(notSubscribedId, interestId);
+        given(userRepository.existsById(subscriberId)).willReturn(true);
+        given(subscriptionRepository.findAllByUserIdAndInterestIdIn(subscriberId, requestedIds))
+                .willReturn(List.of(subscription));
+        given(subscriptionRepository.deleteAllByUserIdAndInterestIdIn(subscriberId, Set.of(interestId)))
+                .willReturn(List.of(interestId));
+
+        // when
+        List<SubscriptionDto> result = subscriptionService.unsubscribeAll(requestedIds, subscriberId);
+
+        // then
+        assertThat(result).hasSize(1);
+        assertThat(result.get(0).interestId()).isEqualTo(interestId);
+        assertThat(result.get(0).interestSubscriberCount()).isEqualTo(9L);
+        verify(eventPublisher).publishEvent(new SubscriberCountChangedEvent(interestId, -1));
+        verify(eventPublisher).publishEvent(new SubscriptionChangedEvent(subscriberId));
+        verify(userActivityService).removeSubscriptions(subscriberId, Set.of(interestId));
+    }
+
+    @Test
+    @DisplayName("구독 중인 관심사가 없으면 일괄 구독 취소는 아무것도 삭제하지 않는다")
+    void unsubscribeAll_NothingSubscribed() {
+        // given
+        given(userRepository.existsById(subscriberId)).willReturn(true);
+        given(subscriptionRepository.findAllByUserIdAndInterestIdIn(subscriberId, List.of(interestId)))
+                .willReturn(List.of());
+
+        // when
+        List<SubscriptionDto> result = subscriptionService.unsubscribeAll(List.of(interestId), subscriberId);
+
+        // then
+        assertThat(result).isEmpty();
+        verify(subscriptionRepository, never()).deleteAllByUserIdAndInterestIdIn(any(), anyCollection());
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    @DisplayName("동시 요청이 먼저 삭제한 구독은 일괄 구독 취소에서 구독자 수를 다시 줄이지 않는다")
+    void unsubscribeAll_AlreadyDeletedConcurrently() {
+        // given
+        given(userRepository.existsById(subscriberId)).willReturn(true);
+        given(subscriptionRepository.findAllByUserIdAndInterestIdIn(subscriberId, List.of(interestId)))
+                .willReturn(List.of(subscription));
+        given(subscriptionRepository.deleteAllByUserIdAndInterestIdIn(subscriberId, Set.of(interestId)))
+                .willReturn(List.of());
+
+        // when
+        List<SubscriptionDto> result = subscriptionService.unsubscribeAll(List.of(interestId), subscriberId);
+
+        // then
+        assertThat(result).isEmpty();
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+        verify(userActivityService, never()).removeSubscriptions(any(), any());
+    }
+}
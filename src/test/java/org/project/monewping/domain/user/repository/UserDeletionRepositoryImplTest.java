@@ -16,6 +16,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import jakarta.persistence.EntityManager;
 import java.time.Instant;
@@ -69,7 +70,7 @@ class UserDeletionRepositoryImplTest {
                 .source("테스트")
                 .originalLink("http://test.com")
                 .publishedAt(java.time.LocalDateTime.now())
-                .commentCount(0L)
+                .commentCount(1L)
                 .viewCount(0L)
                 .deleted(false)
                 .interest(testInterest)
@@ -99,7 +100,7 @@ class UserDeletionRepositoryImplTest {
         Subscription subscription = new Subscription(testUser, testInterest);
         entityManager.persist(subscription);
         
-        testInterest.increaseSubscriber();
+        ReflectionTestUtils.setField(testInterest, "subscriberCount", testInterest.getSubscriberCount() + 1);
         entityManager.merge(testInterest);
         
         entityManager.flush();
@@ -132,6 +133,7 @@ class UserDeletionRepositoryImplTest {
                 .isDeleted(false)
                 .build();
         entityManager.persist(comment2);
+        increaseCommentCount(testArticle.getId());
         entityManager.flush();
 
         // when
@@ -147,6 +149,7 @@ class UserDeletionRepositoryImplTest {
         Comment foundComment2 = entityManager.find(Comment.class, comment2.getId());
         assertThat(foundComment2.isDeleted()).isTrue();
         assertThat(foundComment2.getContent()).isEqualTo("삭제한 사용자의 댓글입니다");
+        assertThat(commentCountOf(testArticle.getId())).isZero();
     }
 
     @Test
@@ -164,6 +167,7 @@ class UserDeletionRepositoryImplTest {
                 .isDeleted(false)
                 .build();
         entityManager.persist(comment2);
+        increaseCommentCount(testArticle.getId());
         entityManager.flush();
 
         // when
@@ -177,6 +181,7 @@ class UserDeletionRepositoryImplTest {
         
         Comment foundComment2 = entityManager.find(Comment.class, comment2.getId());
         assertThat(foundComment2).isNull();
+        assertThat(commentCountOf(testArticle.getId())).isZero();
     }
 
     @Test
@@ -256,4 +261,16 @@ class UserDeletionRepositoryImplTest {
         Articles foundArticle = entityManager.find(Articles.class, testArticle.getId());
         assertThat(foundArticle.getViewCount()).isEqualTo(0L);
     }
-} 
\ No newline at end of file
+
+    private void increaseCommentCount(UUID articleId) {
+        entityManager.createQuery("UPDATE Articles a SET a.commentCount = a.commentCount + 1 WHERE a.id = :articleId")
+                .setParameter("articleId", articleId)
+                .executeUpdate();
+    }
+
+    private long commentCountOf(UUID articleId) {
+        return entityManager.createQuery("SELECT a.commentCount FROM Articles a WHERE a.id = :articleId", Long.class)
+                .setParameter("articleId", articleId)
+                .getSingleResult();
+    }
+}
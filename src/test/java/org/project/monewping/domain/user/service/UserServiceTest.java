@@ -10,6 +10,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.project.monewping.domain.interest.event.SubscriptionChangedEvent;
 import org.project.monewping.domain.user.entity.User;
 import org.project.monewping.domain.user.dto.request.LoginRequest;
 import org.project.monewping.domain.user.dto.request.UserRegisterRequest;
@@ -25,6 +26,7 @@ import org.project.monewping.domain.user.repository.UserDeletionRepository;
 import org.project.monewping.domain.useractivity.service.UserActivityService;
 import org.project.monewping.global.exception.EmailAlreadyExistsException;
 import org.project.monewping.global.exception.LoginFailedException;
+import org.springframework.context.ApplicationEventPublisher;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -67,6 +69,9 @@ class UserServiceTest {
     @Mock
     private UserDeletionRepository userDeletionRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private UserService userService;
 
@@ -487,6 +492,7 @@ class UserServiceTest {
         verify(userRepository).save(user);
         verify(userActivityService).softDeleteUser(userId);
         verify(userDeletionRepository).deleteSubscriptionsByUserId(userId);
+        verify(eventPublisher).publishEvent(new SubscriptionChangedEvent(userId));
         verify(userDeletionRepository).softDeleteCommentsByUserId(userId);
         verify(userDeletionRepository).deleteNotificationsByUserId(userId);
     }
@@ -559,6 +565,7 @@ class UserServiceTest {
         verify(userRepository).delete(user);
         verify(userActivityService).deleteUserActivity(userId);
         verify(userDeletionRepository).deleteSubscriptionsByUserId(userId);
+        verify(eventPublisher).publishEvent(new SubscriptionChangedEvent(userId));
         verify(userDeletionRepository).deleteCommentsByUserId(userId);
         verify(userDeletionRepository).deleteNotificationsByUserId(userId);
         verify(userDeletionRepository).deleteArticleViewsByUserId(userId);
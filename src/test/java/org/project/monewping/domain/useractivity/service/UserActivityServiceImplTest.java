@@ -223,6 +223,53 @@ class UserActivityServiceImplTest {
         assertThat(testDocument.getSubscriptions()).isEmpty();
     }
 
+    @Test
+    @DisplayName("구독 정보 일괄 추가는 새 구독을 앞에 두고 최대 10개만 유지하며 한 번만 저장한다")
+    void addSubscriptions_Success() {
+        // given
+        for (int i = 0; i < 9; i++) {
+            testDocument.getSubscriptions().add(UserActivityDocument.SubscriptionInfo.builder()
+                    .interestId(UUID.randomUUID())
+                    .build());
+        }
+        UUID firstId = UUID.randomUUID();
+        UUID secondId = UUID.randomUUID();
+        List<UserActivityDocument.SubscriptionInfo> subscriptionInfos = List.of(
+                UserActivityDocument.SubscriptionInfo.builder().interestId(firstId).build(),
+                UserActivityDocument.SubscriptionInfo.builder().interestId(secondId).build());
+
+        given(userActivityRepository.findByUserId(testUserId)).willReturn(Optional.of(testDocument));
+
+        // when
+        userActivityService.addSubscriptions(testUserId, subscriptionInfos);
+
+        // then
+        verify(userActivityRepository, times(1)).save(testDocument);
+        assertThat(testDocument.getSubscriptions()).hasSize(10);
+        assertThat(testDocument.getSubscriptions().get(0).getInterestId()).isEqualTo(firstId);
+        assertThat(testDocument.getSubscriptions().get(1).getInterestId()).isEqualTo(secondId);
+    }
+
+    @Test
+    @DisplayName("구독 정보 일괄 제거는 요청한 관심사를 한 번에 제거하고 한 번만 저장한다")
+    void removeSubscriptions_Success() {
+        // given
+        UUID removedId = UUID.randomUUID();
+        UUID keptId = UUID.randomUUID();
+        testDocument.getSubscriptions().add(UserActivityDocument.SubscriptionInfo.builder().interestId(removedId).build());
+        testDocument.getSubscriptions().add(UserActivityDocument.SubscriptionInfo.builder().interestId(keptId).build());
+        given(userActivityRepository.findByUserId(testUserId)).willReturn(Optional.of(testDocument));
+
+        // when
+        userActivityService.removeSubscriptions(testUserId, List.of(removedId, UUID.randomUUID()));
+
+        // then
+        verify(userActivityRepository, times(1)).save(testDocument);
+        assertThat(testDocument.getSubscriptions())
+                .extracting(UserActivityDocument.SubscriptionInfo::getInterestId)
+                .containsExactly(keptId);
+    }
+
     // ========== 댓글 관련 테스트 ==========
 
     @Test
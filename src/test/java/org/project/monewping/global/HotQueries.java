@@ -0,0 +1,183 @@
+package org.project.monewping.global;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import org.project.monewping.domain.article.dto.request.ArticleSearchRequest;
+import org.project.monewping.domain.article.entity.Articles;
+import org.project.monewping.domain.article.repository.ArticleViewsRepository;
+import org.project.monewping.domain.article.repository.ArticlesRepository;
+import org.project.monewping.domain.comment.repository.CommentLikeRepository;
+import org.project.monewping.domain.comment.repository.CommentRepository;
+import org.project.monewping.domain.interest.dto.request.CursorPageRequestSearchInterestDto;
+import org.project.monewping.domain.interest.repository.InterestRepository;
+import org.project.monewping.domain.interest.repository.KeywordRepository;
+import org.project.monewping.domain.interest.repository.SubscriptionRepository;
+import org.project.monewping.domain.notification.repository.NotificationRepository;
+import org.springframework.context.ApplicationContext;
+import org.springframework.data.domain.PageRequest;
+
+/**
+ * 주요 Repository 조회 쿼리 목록.
+ *
+ * <p>각 항목은 Repository 메서드 호출과, 그 조건을 처리하도록 선언한 인덱스 이름입니다.
+ * {@link QueryPlanIndexTest}는 선언한 인덱스가 엔티티 스키마에 있는지, {@link QueryPlanPostgresTest}는
+ * 호출이 실제로 실행한 SQL이 마이그레이션으로 만든 PostgreSQL 스키마에서 큰 테이블을 순차 스캔하지 않는지 검사합니다.
+ * 호출에 쓰는 ID는 {@link #id(int, long)} 형식으로 {@link QueryPlanPostgresTest}가 적재한 데이터를 가리킵니다.
+ * 새 조회 메서드를 추가할 때 {@link #all()}에 호출을 함께 등록합니다.
+ * 전체 행을 읽는 것이 의도인 쿼리(출처 목록, 관심사 이름 전체 조회 등)는 등록하지 않습니다.</p>
+ */
+final class HotQueries {
+
+    static final int USER = 1;
+    static final int INTEREST = 2;
+    static final int ARTICLE = 3;
+    static final int COMMENT = 4;
+
+    /**
+     * @param repositoryMethod Repository 메서드
+     * @param table            주 조회 대상 테이블
+     * @param index            조건을 처리하는 인덱스 또는 유니크 제약 이름 (기본 키 조회는 null)
+     * @param invocation       메서드 호출
+     */
+    record HotQuery(String repositoryMethod, String table, String index, Consumer<ApplicationContext> invocation) {
+    }
+
+    private HotQueries() {
+    }
+
+    static List<HotQuery> all() {
+        UUID user = id(USER, 7);
+        UUID interest = id(INTEREST, 7);
+        UUID article = id(ARTICLE, 7);
+        UUID otherArticle = id(ARTICLE, 1007);
+        UUID comment = id(COMMENT, 7);
+        LocalDateTime now = LocalDateTime.now();
+        Instant instant = Instant.now();
+        List<HotQuery> queries = new ArrayList<>();
+
+        queries.add(new HotQuery("ArticlesRepository.searchArticles(interestId)", "articles", "idx_articles_interest_published",
+            ctx -> articles(ctx).searchArticles(new ArticleSearchRequest(null, interest, null, null, null,
+                "publishDate", "DESC", otherArticle.toString(), now.minusDays(10), 10, user))));
+        queries.add(new HotQuery("ArticlesRepository.countArticles(interestId)", "articles", "idx_articles_interest_published",
+            ctx -> articles(ctx).countArticles(new ArticleSearchRequest(null, interest, null, null, null,
+                "publishDate", "DESC", null, null, 10, user))));
+        queries.add(new HotQuery("ArticlesRepository.streamByPublishedAtRange", "articles", "idx_articles_published",
+            ctx -> {
+                try (Stream<Articles> stream = articles(ctx).streamByPublishedAtRange(now.minusDays(3), now.minusDays(2))) {
+                    stream.forEach(a -> { });
+                }
+            }));
+        queries.add(new HotQuery("ArticlesRepository.streamByUpdatedAtRange", "articles", "idx_articles_updated",
+            ctx -> {
+                try (Stream<Articles> stream = articles(ctx).streamByUpdatedAtRange(
+                    instant.minus(3, ChronoUnit.HOURS), instant.minus(2, ChronoUnit.HOURS))) {
+                    stream.forEach(a -> { });
+                }
+            }));
+        queries.add(new HotQuery("ArticlesRepository.findOriginalLinksByPublishedAtRange", "articles", "idx_articles_published",
+            ctx -> articles(ctx).findOriginalLinksByPublishedAtRange(now.minusDays(3), now.minusDays(2))));
+        queries.add(new HotQuery("ArticlesRepository.findExistingOriginalLinks", "articles", "uk_article_link",
+            ctx -> articles(ctx).findExistingOriginalLinks(List.of(link(7), link(8), link(9)))));
+        queries.add(new HotQuery("ArticlesRepository.findAllByOriginalLinkIn", "articles", "uk_article_link",
+            ctx -> articles(ctx).findAllByOriginalLinkIn(List.of(link(7), link(8)))));
+        queries.add(new HotQuery("ArticlesRepository.findByIdAndDeletedFalse", "articles", null,
+            ctx -> articles(ctx).findByIdAndDeletedFalse(article)));
+        queries.add(new HotQuery("ArticlesRepository.findCommentCountById", "articles", null,
+            ctx -> articles(ctx).findCommentCountById(article)));
+        queries.add(new HotQuery("ArticlesRepository.findTitleById", "articles", null,
+            ctx -> articles(ctx).findTitleById(article)));
+        queries.add(new HotQuery("ArticlesRepository.increaseCommentCount", "articles", null,
+            ctx -> articles(ctx).increaseCommentCount(article)));
+        queries.add(new HotQuery("ArticlesRepository.increaseViewCount", "articles", null,
+            ctx -> articles(ctx).increaseViewCount(article)));
+
+        queries.add(new HotQuery("ArticleViewsRepository.findByViewedByAndArticleId", "article_views", "idx_article_views_user_article",
+            ctx -> ctx.getBean(ArticleViewsRepository.class).findByViewedByAndArticleId(user, article)));
+        queries.add(new HotQuery("ArticleViewsRepository.findAllByViewedByAndArticleIdIn", "article_views", "idx_article_views_user_article",
+            ctx -> ctx.getBean(ArticleViewsRepository.class).findAllByViewedByAndArticleIdIn(user, List.of(article, otherArticle))));
+
+        queries.add(new HotQuery("CommentCustomRepositoryImpl.findComments", "comments", "idx_comments_article_created_id",
+            ctx -> comments(ctx).findComments(article, "desc", null, 10)));
+        queries.add(new HotQuery("CommentCustomRepositoryImpl.findCommentsByCreatedAtCursor", "comments", "idx_comments_article_created_id",
+            ctx -> comments(ctx).findCommentsByCreatedAtCursor(article, false, instant, comment, 10)));
+        queries.add(new HotQuery("CommentCustomRepositoryImpl.findCommentsByLikeCountCursor", "comments", "idx_comments_article_like_id",
+            ctx -> comments(ctx).findCommentsByLikeCountCursor(article, false, 5, comment, 10)));
+        queries.add(new HotQuery("CommentRepository.countByArticleId", "comments", "idx_comments_article_created_id",
+            ctx -> comments(ctx).countByArticleId(article)));
+        queries.add(new HotQuery("CommentRepository.increaseLikeCount", "comments", null,
+            ctx -> comments(ctx).increaseLikeCount(comment)));
+        queries.add(new HotQuery("CommentLikeRepository.findCommentIdsByUserIdAndArticleId", "comment_likes", "uk_comment_like",
+            ctx -> ctx.getBean(CommentLikeRepository.class).findCommentIdsByUserIdAndArticleId(user, article)));
+        queries.add(new HotQuery("CommentLikeRepository.deleteByUserIdAndCommentId", "comment_likes", "uk_comment_like",
+            ctx -> ctx.getBean(CommentLikeRepository.class).deleteByUserIdAndCommentId(user, comment)));
+
+        queries.add(new HotQuery("NotificationRepositoryCustomImpl.findPage", "notifications", "idx_notifications_user_confirmed_created",
+            ctx -> notifications(ctx).findPage(user, instant.minus(1, ChronoUnit.DAYS), comment, PageRequest.of(0, 10))));
+        queries.add(new HotQuery("NotificationRepository.countByUserIdAndConfirmedFalse", "notifications", "idx_notifications_user_confirmed_created",
+            ctx -> notifications(ctx).countByUserIdAndConfirmedFalse(user)));
+        queries.add(new HotQuery("NotificationRepository.confirmAllByUserId", "notifications", "idx_notifications_user_confirmed_created",
+            ctx -> notifications(ctx).confirmAllByUserId(user)));
+        queries.add(new HotQuery("NotificationRepository.findByResourceIdAndActiveTrue", "notifications", "idx_notifications_resource_created",
+            ctx -> notifications(ctx).findByResourceIdAndActiveTrue(interest)));
+        queries.add(new HotQuery("NotificationRepository.findByResourceIdAndActiveFalseAndCreatedAtBetween", "notifications", "idx_notifications_resource_created",
+            ctx -> notifications(ctx).findByResourceIdAndActiveFalseAndCreatedAtBetween(
+                interest, instant.minus(1, ChronoUnit.DAYS), instant)));
+        queries.add(new HotQuery("NotificationRepository.findAllByConfirmedIsTrueAndUpdatedAtBefore", "notifications", "idx_notifications_confirmed_updated",
+            ctx -> notifications(ctx).findAllByConfirmedIsTrueAndUpdatedAtBefore(
+                instant.minus(7, ChronoUnit.DAYS), PageRequest.of(0, 100))));
+
+        queries.add(new HotQuery("SubscriptionRepository.findInterestIdsByUserId", "interest_subscriptions", "idx_interest_subscriptions_user",
+            ctx -> subscriptions(ctx).findInterestIdsByUserId(user)));
+        queries.add(new HotQuery("SubscriptionRepository.findUserIdsByInterestId", "interest_subscriptions", "uk_interest_user",
+            ctx -> subscriptions(ctx).findUserIdsByInterestId(interest)));
+        queries.add(new HotQuery("SubscriptionRepository.existsByUserIdAndInterestId", "interest_subscriptions", "uk_interest_user",
+            ctx -> subscriptions(ctx).existsByUserIdAndInterestId(user, interest)));
+        queries.add(new HotQuery("SubscriptionRepository.findAllByUserIdAndInterestIdIn", "interest_subscriptions", "idx_interest_subscriptions_user",
+            ctx -> subscriptions(ctx).findAllByUserIdAndInterestIdIn(user, List.of(interest, id(INTEREST, 8)))));
+        queries.add(new HotQuery("KeywordRepository.findNamesByInterestId", "keywords", "idx_keywords_interest",
+            ctx -> ctx.getBean(KeywordRepository.class).findNamesByInterestId(interest)));
+        queries.add(new HotQuery("InterestRepositoryCustomImpl.searchWithCursor(subscriberCount)", "interests", "idx_interests_subscriber",
+            ctx -> ctx.getBean(InterestRepository.class).searchWithCursor(
+                new CursorPageRequestSearchInterestDto(null, "subscriberCount", "DESC", null, null, 10), user)));
+
+        return queries;
+    }
+
+    /** 종류별 n번째 ID ({@code kkkkkkkk-0000-0000-0000-nnnnnnnnnnnn}) */
+    static UUID id(int kind, long n) {
+        return UUID.fromString("%08x-0000-0000-0000-%012d".formatted(kind, n));
+    }
+
+    /** {@link #id(int, long)}와 같은 ID를 만드는 SQL 식 */
+    static String idSql(int kind, String n) {
+        return "CAST(lpad(to_hex(%d), 8, '0') || '-0000-0000-0000-' || lpad((%s)::text, 12, '0') AS UUID)"
+            .formatted(kind, n);
+    }
+
+    /** n번째 기사 원본 링크 */
+    static String link(long n) {
+        return "https://news.example.com/" + n;
+    }
+
+    private static ArticlesRepository articles(ApplicationContext ctx) {
+        return ctx.getBean(ArticlesRepository.class);
+    }
+
+    private static CommentRepository comments(ApplicationContext ctx) {
+        return ctx.getBean(CommentRepository.class);
+    }
+
+    private static NotificationRepository notifications(ApplicationContext ctx) {
+        return ctx.getBean(NotificationRepository.class);
+    }
+
+    private static SubscriptionRepository subscriptions(ApplicationContext ctx) {
+        return ctx.getBean(SubscriptionRepository.class);
+    }
+}
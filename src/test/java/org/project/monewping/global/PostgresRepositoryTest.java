@@ -0,0 +1,40 @@
+package org.project.monewping.global;
+
+import org.project.monewping.global.config.JpaAuditingConfig;
+import org.project.monewping.global.config.QuerydslConfig;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * PostgreSQL 전용 동작(파티션, 트리거, RETURNING, 실행 계획)을 검사하는 Repository 테스트의 기반 클래스.
+ *
+ * <p>H2로는 확인할 수 없는 동작을 Flyway 마이그레이션으로 만든 실제 PostgreSQL 스키마에서 검사합니다.
+ * 컨테이너는 테스트 클래스 간에 공유하며, Docker를 사용할 수 없는 환경에서는 테스트를 건너뜁니다.</p>
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({JpaAuditingConfig.class, QuerydslConfig.class})
+@Testcontainers(disabledWithoutDocker = true)
+@TestPropertySource(properties = {
+    "auditing.enabled=true",
+    "spring.flyway.enabled=true",
+    "spring.jpa.hibernate.ddl-auto=none"
+})
+public abstract class PostgresRepositoryTest {
+
+    @ServiceConnection
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    static {
+        // 캐시된 스프링 컨텍스트가 같은 접속 정보를 쓰도록 클래스마다 재시작하지 않고 한 번만 시작
+        if (DockerClientFactory.instance().isDockerAvailable()) {
+            POSTGRES.start();
+        }
+    }
+}
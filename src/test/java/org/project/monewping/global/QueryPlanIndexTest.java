@@ -0,0 +1,58 @@
+package org.project.monewping.global;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import jakarta.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.project.monewping.global.HotQueries.HotQuery;
+import org.project.monewping.global.config.QuerydslConfig;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+/**
+ * 주요 Repository 조회 쿼리의 인덱스 선언 검사.
+ *
+ * <p>{@link HotQueries}의 각 쿼리가 사용할 인덱스(또는 유니크 제약)가 엔티티로 생성한 스키마의
+ * {@code INFORMATION_SCHEMA}에 해당 테이블의 것으로 존재하는지 확인합니다.
+ * 실행 계획은 데이터베이스마다 다르므로 PostgreSQL에서의 인덱스 사용 여부는 {@link QueryPlanPostgresTest}가 검사합니다.</p>
+ */
+@Import(QuerydslConfig.class)
+@DataJpaTest
+@DisplayName("쿼리 인덱스 선언 테스트")
+class QueryPlanIndexTest {
+
+    @Autowired
+    private EntityManager em;
+
+    @Test
+    @DisplayName("주요 조회 쿼리가 사용할 인덱스가 엔티티 스키마에 선언되어 있다")
+    void hotQueries_ShouldHaveDeclaredIndex() {
+        List<String> missing = new ArrayList<>();
+
+        for (HotQuery query : HotQueries.all()) {
+            if (query.index() != null && !indexExists(query.table(), query.index())) {
+                missing.add(query.repositoryMethod() + " -> " + query.table() + "." + query.index());
+            }
+        }
+
+        assertThat(missing).isEmpty();
+    }
+
+    // 일반 인덱스는 INDEXES, 유니크 제약은 TABLE_CONSTRAINTS에 선언한 이름으로 등록됨
+    private boolean indexExists(String table, String index) {
+        Number count = (Number) em.createNativeQuery("""
+                SELECT (SELECT COUNT(*) FROM INFORMATION_SCHEMA.INDEXES
+                         WHERE UPPER(TABLE_NAME) = UPPER(:table) AND UPPER(INDEX_NAME) = UPPER(:index))
+                     + (SELECT COUNT(*) FROM INFORMATION_SCHEMA.TABLE_CONSTRAINTS
+                         WHERE UPPER(TABLE_NAME) = UPPER(:table) AND UPPER(CONSTRAINT_NAME) = UPPER(:index))
+                """)
+            .setParameter("table", table)
+            .setParameter("index", index)
+            .getSingleResult();
+        return count.longValue() > 0;
+    }
+}
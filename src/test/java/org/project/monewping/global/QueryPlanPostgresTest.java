@@ -0,0 +1,169 @@
+package org.project.monewping.global;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.project.monewping.global.HotQueries.ARTICLE;
+import static org.project.monewping.global.HotQueries.COMMENT;
+import static org.project.monewping.global.HotQueries.INTEREST;
+import static org.project.monewping.global.HotQueries.USER;
+import static org.project.monewping.global.HotQueries.idSql;
+
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.project.monewping.domain.article.partition.ArticlePartitionManager;
+import org.project.monewping.global.HotQueries.HotQuery;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * 주요 Repository 조회 쿼리의 PostgreSQL 실행 계획 검사.
+ *
+ * <p>마이그레이션으로 만든 스키마에 운영과 비슷한 비율의 데이터를 적재하고 {@code ANALYZE}로 통계를 만든 뒤,
+ * {@link HotQueries}의 각 Repository 메서드를 호출하여 Hibernate가 실제로 실행한 SQL을 {@link StatementCapture}로 얻습니다.
+ * 얻은 SQL은 {@code PREPARE}한 뒤 일반 계획({@code plan_cache_mode = force_generic_plan})으로 실행 계획을 만들며,
+ * 커넥션 풀의 서버 측 준비 문장이 같은 계획을 쓰게 됩니다. 통계상 {@value #LARGE_TABLE_ROWS}행 이상인
+ * 테이블(파티션 포함)을 {@code Seq Scan}하는 쿼리가 있으면 실패합니다. 작은 테이블의 순차 스캔은 정상 계획이므로 허용합니다.</p>
+ */
+@TestPropertySource(properties =
+    "spring.jpa.properties.hibernate.session_factory.statement_inspector=org.project.monewping.global.StatementCapture")
+@DisplayName("쿼리 실행 계획 PostgreSQL 테스트")
+class QueryPlanPostgresTest extends PostgresRepositoryTest {
+
+    private static final long LARGE_TABLE_ROWS = 1000;
+    private static final Pattern SEQ_SCAN = Pattern.compile("Seq Scan on (\\S+)");
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ApplicationContext context;
+
+    @Test
+    @DisplayName("주요 조회 쿼리는 큰 테이블을 순차 스캔하지 않는다")
+    void hotQueries_ShouldNotSeqScanLargeTables() {
+        seed();
+        jdbcTemplate.execute("ANALYZE");
+        jdbcTemplate.execute("SET LOCAL plan_cache_mode = force_generic_plan");
+        Set<String> largeTables = new HashSet<>(jdbcTemplate.queryForList(
+            "SELECT relname FROM pg_class WHERE relkind = 'r' AND reltuples >= ?", String.class, LARGE_TABLE_ROWS));
+
+        List<String> violations = new ArrayList<>();
+        for (HotQuery query : HotQueries.all()) {
+            StatementCapture.clear();
+            query.invocation().accept(context);
+            List<String> statements = StatementCapture.statements();
+            assertThat(statements).as(query.repositoryMethod()).isNotEmpty();
+
+            for (String sql : statements) {
+                String plan = explainGeneric(sql);
+                Matcher matcher = SEQ_SCAN.matcher(plan);
+                while (matcher.find()) {
+                    if (largeTables.contains(matcher.group(1))) {
+                        violations.add(query.repositoryMethod() + "\n" + sql + "\n" + plan);
+                        break;
+                    }
+                }
+            }
+        }
+
+        assertThat(violations).isEmpty();
+    }
+
+    // JDBC 파라미터(?)를 $n 으로 바꿔 PREPARE 한 뒤 값 없이(NULL) 일반 계획을 조회
+    private String explainGeneric(String sql) {
+        StringBuilder prepared = new StringBuilder();
+        int params = 0;
+        for (char c : sql.toCharArray()) {
+            if (c == '?') {
+                prepared.append('$').append(++params);
+            } else {
+                prepared.append(c);
+            }
+        }
+
+        jdbcTemplate.execute("PREPARE hot_query AS " + prepared);
+        try {
+            String args = params == 0 ? "" : "(" + String.join(", ", Collections.nCopies(params, "NULL")) + ")";
+            return String.join("\n", jdbcTemplate.queryForList("EXPLAIN EXECUTE hot_query" + args, String.class));
+        } finally {
+            jdbcTemplate.execute("DEALLOCATE hot_query");
+        }
+    }
+
+    /*
+     * 사용자 2,000명, 관심사 200개(키워드 2,000개, 구독 10,000건), 최근 150일 기사 20,000건(조회 기록 50,000건),
+     * 댓글 40,000건(좋아요 20,000건), 알림 20,000건을 적재합니다.
+     */
+    private void seed() {
+        // 최근 150일이 들어갈 월별 파티션 생성 (DEFAULT 파티션에 쌓이지 않도록)
+        new ArticlePartitionManager(jdbcTemplate, null, null, null, "public", ZONE, 6, 0, false)
+            .createUpcomingPartitions(YearMonth.now(ZONE).minusMonths(6));
+
+        jdbcTemplate.update("""
+            INSERT INTO users (id, email, nickname, password, created_at, updated_at, is_deleted)
+            SELECT %s, 'user' || g || '@test.com', 'user' || g, 'pw', now(), now(), FALSE
+            FROM generate_series(1, 2000) g
+            """.formatted(idSql(USER, "g")));
+        jdbcTemplate.update("""
+            INSERT INTO interests (id, name, subscriber_count, created_at, updated_at)
+            SELECT %s, '관심사' || g, g %% 100, now() - g * INTERVAL '1 hour', now()
+            FROM generate_series(1, 200) g
+            """.formatted(idSql(INTEREST, "g")));
+        jdbcTemplate.update("""
+            INSERT INTO keywords (id, name, created_at, interest_id)
+            SELECT gen_random_uuid(), '키워드' || g, now(), %s
+            FROM generate_series(1, 2000) g
+            """.formatted(idSql(INTEREST, "g % 200 + 1")));
+        // 사용자마다 서로 다른 관심사 5개 구독
+        jdbcTemplate.update("""
+            INSERT INTO interest_subscriptions (id, created_at, interest_id, user_id)
+            SELECT gen_random_uuid(), now(), %s, %s
+            FROM generate_series(0, 9999) g
+            """.formatted(idSql(INTEREST, "(g % 5) * 40 + (g / 5) % 40 + 1"), idSql(USER, "g / 5 + 1")));
+
+        jdbcTemplate.update("""
+            INSERT INTO articles (id, source, original_link, title, summary, published_at, comment_count, view_count,
+                                  is_deleted, created_at, updated_at, interest_id)
+            SELECT %s, '출처' || g %% 5, 'https://news.example.com/' || g, '제목' || g, '요약',
+                   now() - (g %% 150) * INTERVAL '1 day' - g * INTERVAL '1 second', 0, 0,
+                   g %% 50 = 0, now(), now() - (g %% 150) * INTERVAL '1 day', %s
+            FROM generate_series(1, 20000) g
+            """.formatted(idSql(ARTICLE, "g"), idSql(INTEREST, "g % 200 + 1")));
+        jdbcTemplate.update("""
+            INSERT INTO article_views (id, viewed_at, user_id, article_id)
+            SELECT gen_random_uuid(), now() - (g %% 150) * INTERVAL '1 day', %s, %s
+            FROM generate_series(1, 50000) g
+            """.formatted(idSql(USER, "g % 2000 + 1"), idSql(ARTICLE, "g % 20000 + 1")));
+
+        jdbcTemplate.update("""
+            INSERT INTO comments (id, user_nickname, content, like_count, created_at, updated_at, is_deleted,
+                                  article_id, user_id)
+            SELECT %s, 'user', '댓글', g %% 50, now() - g * INTERVAL '1 minute', now(), g %% 20 = 0, %s, %s
+            FROM generate_series(1, 40000) g
+            """.formatted(idSql(COMMENT, "g"), idSql(ARTICLE, "g % 4000 + 1"), idSql(USER, "g % 2000 + 1")));
+        jdbcTemplate.update("""
+            INSERT INTO comment_likes (id, created_at, comment_id, liked_id)
+            SELECT gen_random_uuid(), now(), %s, %s
+            FROM generate_series(1, 20000) g
+            """.formatted(idSql(COMMENT, "g"), idSql(USER, "g % 2000 + 1")));
+
+        jdbcTemplate.update("""
+            INSERT INTO notifications (id, content, resource_id, resource_type, confirmed, active, created_at,
+                                       updated_at, user_id)
+            SELECT gen_random_uuid(), '알림', %s, 'Article', g %% 10 = 0, g %% 3 <> 0,
+                   now() - g * INTERVAL '1 minute', now() - g * INTERVAL '1 minute', %s
+            FROM generate_series(1, 20000) g
+            """.formatted(idSql(INTEREST, "g % 200 + 1"), idSql(USER, "g % 2000 + 1")));
+    }
+}
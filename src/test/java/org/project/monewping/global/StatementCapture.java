@@ -0,0 +1,31 @@
+package org.project.monewping.global;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate가 실행하는 SQL을 그대로 기록하는 {@link StatementInspector}.
+ *
+ * <p>{@code hibernate.session_factory.statement_inspector} 속성으로 등록한 테스트에서
+ * Repository 메서드가 실제로 만든 SQL(JPQL, QueryDSL, 파생 쿼리)을 얻는 데 사용합니다.
+ * Hibernate가 인스턴스를 만들므로 기록은 정적 목록에 보관합니다.</p>
+ */
+public class StatementCapture implements StatementInspector {
+
+    private static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+    @Override
+    public String inspect(String sql) {
+        STATEMENTS.add(sql);
+        return sql;
+    }
+
+    static void clear() {
+        STATEMENTS.clear();
+    }
+
+    static List<String> statements() {
+        return List.copyOf(STATEMENTS);
+    }
+}
@@ -0,0 +1,142 @@
+package org.project.monewping.global.migration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.scope.context.StepContext;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BackfillTasklet 테스트")
+class BackfillTaskletTest {
+
+    @Mock
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    private final Backfill backfill = new Backfill() {
+        @Override
+        public String name() {
+            return "test";
+        }
+
+        @Override
+        public String selectChunkSql() {
+            return "SELECT id FROM t WHERE id > :lastId ORDER BY id LIMIT :limit";
+        }
+
+        @Override
+        public String updateSql() {
+            return "UPDATE t SET v = 1 WHERE id IN (:ids)";
+        }
+    };
+
+    private StepExecution stepExecution;
+    private ChunkContext chunkContext;
+    private StepContribution contribution;
+    private BackfillTasklet tasklet;
+
+    @BeforeEach
+    void setUp() {
+        stepExecution = new StepExecution("backfillStep", new JobExecution(1L));
+        chunkContext = new ChunkContext(new StepContext(stepExecution));
+        contribution = stepExecution.createStepContribution();
+        tasklet = new BackfillTasklet(backfill, jdbcTemplate, 2, Duration.ZERO);
+    }
+
+    @Test
+    @DisplayName("청크를 처리하면 마지막 id를 실행 컨텍스트에 저장하고 계속 진행한다")
+    void execute_ShouldUpdateChunkAndRememberLastId() throws Exception {
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        given(jdbcTemplate.queryForList(anyString(), anyMap(), eq(UUID.class))).willReturn(List.of(first, second));
+        given(jdbcTemplate.update(anyString(), anyMap())).willReturn(2);
+
+        RepeatStatus status = tasklet.execute(contribution, chunkContext);
+
+        assertThat(status).isEqualTo(RepeatStatus.CONTINUABLE);
+        assertThat(stepExecution.getExecutionContext().getString(BackfillTasklet.LAST_ID_KEY))
+            .isEqualTo(second.toString());
+        assertThat(contribution.getWriteCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("재실행 시 저장된 마지막 id 이후부터 조회한다")
+    void execute_ShouldResumeFromSavedLastId() throws Exception {
+        UUID saved = UUID.randomUUID();
+        stepExecution.getExecutionContext().putString(BackfillTasklet.LAST_ID_KEY, saved.toString());
+        given(jdbcTemplate.queryForList(anyString(), anyMap(), eq(UUID.class))).willReturn(List.of());
+
+        tasklet.execute(contribution, chunkContext);
+
+        verify(jdbcTemplate).queryForList(anyString(),
+            argThat(params -> saved.equals(params.get("lastId"))), eq(UUID.class));
+    }
+
+    @Test
+    @DisplayName("남은 대상이 없으면 UPDATE 없이 종료한다")
+    void execute_ShouldFinish_WhenNoRowsLeft() throws Exception {
+        given(jdbcTemplate.queryForList(anyString(), anyMap(), eq(UUID.class))).willReturn(List.of());
+
+        RepeatStatus status = tasklet.execute(contribution, chunkContext);
+
+        assertThat(status).isEqualTo(RepeatStatus.FINISHED);
+        verify(jdbcTemplate, never()).update(anyString(), anyMap());
+    }
+
+    @Test
+    @DisplayName("남은 대상이 없으면 완료 SQL을 실행한 뒤 종료한다")
+    void execute_ShouldRunCompleteSql_WhenNoRowsLeft() throws Exception {
+        Backfill withComplete = new Backfill() {
+            @Override
+            public String name() {
+                return "swap";
+            }
+
+            @Override
+            public String selectChunkSql() {
+                return backfill.selectChunkSql();
+            }
+
+            @Override
+            public String updateSql() {
+                return backfill.updateSql();
+            }
+
+            @Override
+            public String completeSql() {
+                return "SELECT swap()";
+            }
+        };
+        JdbcOperations jdbcOperations = mock(JdbcOperations.class);
+        given(jdbcTemplate.getJdbcOperations()).willReturn(jdbcOperations);
+        given(jdbcTemplate.queryForList(anyString(), anyMap(), eq(UUID.class))).willReturn(List.of());
+
+        RepeatStatus status = new BackfillTasklet(withComplete, jdbcTemplate, 2, Duration.ZERO)
+            .execute(contribution, chunkContext);
+
+        assertThat(status).isEqualTo(RepeatStatus.FINISHED);
+        verify(jdbcOperations).execute("SELECT swap()");
+    }
+}
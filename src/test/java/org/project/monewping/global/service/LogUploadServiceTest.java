@@ -0,0 +1,104 @@
+package org.project.monewping.global.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.project.monewping.global.config.S3Properties;
+import org.project.monewping.global.storage.MultipartS3StreamUploader;
+import org.springframework.util.unit.DataSize;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LogUploadService 테스트")
+class LogUploadServiceTest {
+
+    private static final LocalDate DATE = LocalDate.of(2025, 7, 22);
+
+    @TempDir
+    private Path logDir;
+
+    @Mock
+    private S3Client s3Client;
+
+    private MultipartS3StreamUploader uploader;
+    private LogUploadService logUploadService;
+
+    @BeforeEach
+    void setUp() {
+        S3Properties s3Properties = new S3Properties(null,
+            new S3Properties.Logs(true, "logs-bucket", "application-logs"));
+        uploader = new MultipartS3StreamUploader(s3Client, DataSize.ofMegabytes(5), 2);
+        logUploadService = new LogUploadService(uploader, s3Properties, logDir.toString(), "monewping");
+    }
+
+    @AfterEach
+    void tearDown() {
+        uploader.shutdown();
+    }
+
+    @Test
+    @DisplayName("분할 세그먼트를 포함한 날짜의 로그 파일만 번호 순서로 찾는다")
+    void findLogFiles_ShouldIncludeRolledSegmentsInOrder() throws IOException {
+        Files.writeString(logDir.resolve("monewping-2025-07-22.log"), "current");
+        Files.writeString(logDir.resolve("monewping-2025-07-22.10.log"), "ten");
+        Files.writeString(logDir.resolve("monewping-2025-07-22.2.log"), "two");
+        Files.writeString(logDir.resolve("monewping-error-2025-07-22.0.log"), "error");
+        Files.writeString(logDir.resolve("monewping-2025-07-23.0.log"), "next day");
+
+        assertThat(logUploadService.findLogFiles(DATE, "")).extracting(path -> path.getFileName().toString())
+            .containsExactly("monewping-2025-07-22.log", "monewping-2025-07-22.2.log", "monewping-2025-07-22.10.log");
+        assertThat(logUploadService.findLogFiles(DATE, "-error")).hasSize(1);
+        assertThat(logUploadService.findLogFiles(DATE, "-sql")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("로그 파일을 gzip으로 압축하여 파일별 키로 업로드한다")
+    void uploadLogFile_ShouldUploadCompressedSegments() throws IOException {
+        // given
+        Files.writeString(logDir.resolve("monewping-2025-07-22.log"), "current log");
+        Files.writeString(logDir.resolve("monewping-sql-2025-07-22.0.log"), "select 1");
+        when(s3Client.putObject(any(PutObjectRequest.class), any(RequestBody.class)))
+            .thenReturn(PutObjectResponse.builder().build());
+
+        // when
+        logUploadService.uploadLogFile(DATE);
+
+        // then
+        ArgumentCaptor<PutObjectRequest> requests = ArgumentCaptor.forClass(PutObjectRequest.class);
+        ArgumentCaptor<RequestBody> bodies = ArgumentCaptor.forClass(RequestBody.class);
+        verify(s3Client, times(2)).putObject(requests.capture(), bodies.capture());
+
+        assertThat(requests.getAllValues()).extracting(PutObjectRequest::key).containsExactly(
+            "application-logs/2025-07-22/monewping-2025-07-22.log.gz",
+            "application-logs/2025-07-22/monewping-sql-2025-07-22.0.log.gz");
+        assertThat(decompress(bodies.getAllValues().get(0))).isEqualTo("current log");
+    }
+
+    private static String decompress(RequestBody body) throws IOException {
+        try (InputStream in = new GZIPInputStream(body.contentStreamProvider().newStream())) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
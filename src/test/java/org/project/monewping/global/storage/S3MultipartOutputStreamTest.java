@@ -0,0 +1,139 @@
+package org.project.monewping.global.storage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("S3MultipartOutputStream 테스트")
+class S3MultipartOutputStreamTest {
+
+    private static final int PART_SIZE = S3MultipartOutputStream.MIN_PART_SIZE;
+
+    @Mock
+    private S3Client s3Client;
+
+    @Test
+    @DisplayName("파트 크기를 넘으면 고정 크기 파트로 나누어 업로드하고 close 시 완료한다")
+    void write_ShouldUploadFixedSizeParts() throws Exception {
+        // given
+        when(s3Client.createMultipartUpload(any(CreateMultipartUploadRequest.class)))
+            .thenReturn(CreateMultipartUploadResponse.builder().uploadId("upload-1").build());
+        when(s3Client.uploadPart(any(UploadPartRequest.class), any(RequestBody.class)))
+            .thenReturn(UploadPartResponse.builder().eTag("etag").build());
+
+        S3MultipartOutputStream out =
+            new S3MultipartOutputStream(s3Client, "bucket", "key", "application/gzip", PART_SIZE);
+
+        // when
+        out.write(new byte[PART_SIZE * 2 + 10]);
+        out.close();
+
+        // then
+        ArgumentCaptor<UploadPartRequest> parts = ArgumentCaptor.forClass(UploadPartRequest.class);
+        verify(s3Client, times(3)).uploadPart(parts.capture(), any(RequestBody.class));
+        assertThat(parts.getAllValues())
+            .extracting(UploadPartRequest::partNumber, UploadPartRequest::contentLength)
+            .containsExactly(
+                tuple(1, (long) PART_SIZE),
+                tuple(2, (long) PART_SIZE),
+                tuple(3, 10L));
+
+        ArgumentCaptor<CompleteMultipartUploadRequest> complete =
+            ArgumentCaptor.forClass(CompleteMultipartUploadRequest.class);
+        verify(s3Client).completeMultipartUpload(complete.capture());
+        assertThat(complete.getValue().multipartUpload().parts()).hasSize(3);
+        verify(s3Client, never()).putObject(any(PutObjectRequest.class), any(RequestBody.class));
+    }
+
+    @Test
+    @DisplayName("한 파트보다 작으면 멀티파트 없이 putObject로 업로드한다")
+    void close_ShouldPutSingleObject_WhenSmallerThanPart() throws Exception {
+        S3MultipartOutputStream out =
+            new S3MultipartOutputStream(s3Client, "bucket", "key", "application/gzip", PART_SIZE);
+
+        out.write(new byte[100]);
+        out.close();
+
+        verify(s3Client).putObject(any(PutObjectRequest.class), any(RequestBody.class));
+        verify(s3Client, never()).createMultipartUpload(any(CreateMultipartUploadRequest.class));
+    }
+
+    @Test
+    @DisplayName("abort 호출 시 진행 중인 멀티파트 업로드를 취소한다")
+    void abort_ShouldAbortStartedUpload() throws Exception {
+        when(s3Client.createMultipartUpload(any(CreateMultipartUploadRequest.class)))
+            .thenReturn(CreateMultipartUploadResponse.builder().uploadId("upload-1").build());
+        when(s3Client.uploadPart(any(UploadPartRequest.class), any(RequestBody.class)))
+            .thenReturn(UploadPartResponse.builder().eTag("etag").build());
+
+        S3MultipartOutputStream out =
+            new S3MultipartOutputStream(s3Client, "bucket", "key", "application/gzip", PART_SIZE);
+        out.write(new byte[PART_SIZE + 1]);
+
+        out.abort();
+
+        verify(s3Client).abortMultipartUpload(any(AbortMultipartUploadRequest.class));
+        verify(s3Client, never()).completeMultipartUpload(any(CompleteMultipartUploadRequest.class));
+    }
+
+    @Test
+    @DisplayName("Executor를 지정하면 파트를 병렬로 업로드하고 완료 요청에는 파트 번호 순서로 담는다")
+    void write_ShouldUploadPartsInParallel_WhenExecutorGiven() throws Exception {
+        // given
+        when(s3Client.createMultipartUpload(any(CreateMultipartUploadRequest.class)))
+            .thenReturn(CreateMultipartUploadResponse.builder().uploadId("upload-1").build());
+        when(s3Client.uploadPart(any(UploadPartRequest.class), any(RequestBody.class)))
+            .thenAnswer(invocation -> UploadPartResponse.builder()
+                .eTag("etag-" + invocation.<UploadPartRequest>getArgument(0).partNumber())
+                .build());
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            S3MultipartOutputStream out = new S3MultipartOutputStream(
+                s3Client, "bucket", "key", "application/gzip", PART_SIZE, executor, 2);
+
+            // when
+            out.write(new byte[PART_SIZE * 3 + 10]);
+            out.close();
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // then
+        verify(s3Client, times(4)).uploadPart(any(UploadPartRequest.class), any(RequestBody.class));
+        ArgumentCaptor<CompleteMultipartUploadRequest> complete =
+            ArgumentCaptor.forClass(CompleteMultipartUploadRequest.class);
+        verify(s3Client).completeMultipartUpload(complete.capture());
+        assertThat(complete.getValue().multipartUpload().parts())
+            .extracting(CompletedPart::partNumber, CompletedPart::eTag)
+            .containsExactly(
+                tuple(1, "etag-1"),
+                tuple(2, "etag-2"),
+                tuple(3, "etag-3"),
+                tuple(4, "etag-4"));
+    }
+}
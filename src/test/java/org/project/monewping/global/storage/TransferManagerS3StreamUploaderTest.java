@@ -0,0 +1,146 @@
+package org.project.monewping.global.storage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+import software.amazon.awssdk.transfer.s3.S3TransferManager;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TransferManagerS3StreamUploader 테스트")
+class TransferManagerS3StreamUploaderTest {
+
+    @Mock
+    private S3AsyncClient s3AsyncClient;
+
+    private S3TransferManager transferManager;
+    private TransferManagerS3StreamUploader uploader;
+
+    // 비동기 클라이언트가 요청 본문에서 받은 바이트와 오류
+    private final ByteArrayOutputStream received = new ByteArrayOutputStream();
+    private final AtomicReference<Throwable> bodyError = new AtomicReference<>();
+    private final CompletableFuture<PutObjectResponse> putFuture = new CompletableFuture<>();
+
+    @BeforeEach
+    void setUp() {
+        transferManager = S3TransferManager.builder().s3Client(s3AsyncClient).build();
+        uploader = new TransferManagerS3StreamUploader(transferManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        transferManager.close();
+    }
+
+    @Test
+    @DisplayName("기록한 바이트를 요청 본문으로 보내고 close 시 업로드 완료를 기다린다")
+    void close_ShouldCompleteUpload() throws Exception {
+        // given
+        stubPutObject(null);
+        byte[] data = "backup-data".getBytes(StandardCharsets.UTF_8);
+
+        // when
+        S3UploadStream out = uploader.open("bucket", "backup/2025-07-25.gz", "application/gzip");
+        out.write(data);
+        out.close();
+
+        // then
+        assertThat(received.toByteArray()).isEqualTo(data);
+        assertThat(putFuture).isCompletedWithValueMatching(response -> "etag".equals(response.eTag()));
+
+        ArgumentCaptor<PutObjectRequest> request = ArgumentCaptor.forClass(PutObjectRequest.class);
+        verify(s3AsyncClient).putObject(request.capture(), any(AsyncRequestBody.class));
+        assertThat(request.getValue().bucket()).isEqualTo("bucket");
+        assertThat(request.getValue().key()).isEqualTo("backup/2025-07-25.gz");
+        assertThat(request.getValue().contentType()).isEqualTo("application/gzip");
+    }
+
+    @Test
+    @DisplayName("업로드가 실패하면 close 시 IOException을 던진다")
+    void close_ShouldThrowIOException_WhenUploadFails() {
+        stubPutObject(SdkClientException.create("connection reset"));
+
+        S3UploadStream out = uploader.open("bucket", "backup/2025-07-25.gz", "application/gzip");
+
+        assertThatThrownBy(out::close)
+            .isInstanceOf(IOException.class)
+            .hasMessageContaining("backup/2025-07-25.gz");
+    }
+
+    @Test
+    @DisplayName("abort 호출 시 요청 본문을 오류로 끝내 업로드를 취소하고 이후 close는 무시한다")
+    void abort_ShouldCancelRequestBody() throws Exception {
+        // given
+        stubPutObject(null);
+        S3UploadStream out = uploader.open("bucket", "backup/2025-07-25.gz", "application/gzip");
+        out.write(new byte[16]);
+
+        // when
+        out.abort();
+        out.close();
+
+        // then
+        assertThat(bodyError.get()).isNotNull();
+        assertThat(putFuture).isCompletedExceptionally();
+    }
+
+    // 요청 본문을 끝까지 읽은 뒤 failure가 없으면 성공, 있으면 실패로 응답하는 비동기 클라이언트
+    private void stubPutObject(Throwable failure) {
+        when(s3AsyncClient.putObject(any(PutObjectRequest.class), any(AsyncRequestBody.class)))
+            .thenAnswer(invocation -> {
+                AsyncRequestBody body = invocation.getArgument(1);
+                body.subscribe(new Subscriber<ByteBuffer>() {
+                    @Override
+                    public void onSubscribe(Subscription subscription) {
+                        subscription.request(Long.MAX_VALUE);
+                    }
+
+                    @Override
+                    public void onNext(ByteBuffer buffer) {
+                        byte[] bytes = new byte[buffer.remaining()];
+                        buffer.get(bytes);
+                        received.writeBytes(bytes);
+                    }
+
+                    @Override
+                    public void onError(Throwable t) {
+                        bodyError.set(t);
+                        putFuture.completeExceptionally(t);
+                    }
+
+                    @Override
+                    public void onComplete() {
+                        if (failure != null) {
+                            putFuture.completeExceptionally(failure);
+                        } else {
+                            putFuture.complete(PutObjectResponse.builder().eTag("etag").build());
+                        }
+                    }
+                });
+                return putFuture;
+            });
+    }
+}